@@ -0,0 +1,108 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.benchmark;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Generated model benchmarked, with its payload, its class and its generated JSON methods
+ *
+ * @param <T> model
+ */
+public final class Codec<T> {
+    private static final Map<String, Codec<?>> CODECS = new LinkedHashMap<>();
+
+    static {
+        register("checkout.PaymentRequest", "mocks/checkout/paymentRequest.json",
+                com.adyen.model.checkout.PaymentRequest.class, com.adyen.model.checkout.PaymentRequest::fromJson, com.adyen.model.checkout.PaymentRequest::toJson);
+        register("checkout.PaymentResponse", "mocks/checkout/paymentResponse.json",
+                com.adyen.model.checkout.PaymentResponse.class, com.adyen.model.checkout.PaymentResponse::fromJson, com.adyen.model.checkout.PaymentResponse::toJson);
+        register("checkout.CreateCheckoutSessionRequest", "payloads/checkout-create-session-request.json",
+                com.adyen.model.checkout.CreateCheckoutSessionRequest.class, com.adyen.model.checkout.CreateCheckoutSessionRequest::fromJson, com.adyen.model.checkout.CreateCheckoutSessionRequest::toJson);
+        register("checkout.CreateCheckoutSessionResponse", "mocks/checkout/createSessionsResponse.json",
+                com.adyen.model.checkout.CreateCheckoutSessionResponse.class, com.adyen.model.checkout.CreateCheckoutSessionResponse::fromJson, com.adyen.model.checkout.CreateCheckoutSessionResponse::toJson);
+        register("checkout.PaymentMethodsResponse", "mocks/checkout/paymentMethodsResponse.json",
+                com.adyen.model.checkout.PaymentMethodsResponse.class, com.adyen.model.checkout.PaymentMethodsResponse::fromJson, com.adyen.model.checkout.PaymentMethodsResponse::toJson);
+        register("payments.PaymentRequest", "payloads/payments-payment-request.json",
+                com.adyen.model.payments.PaymentRequest.class, com.adyen.model.payments.PaymentRequest::fromJson, com.adyen.model.payments.PaymentRequest::toJson);
+        register("management.Webhook", "payloads/management-webhook.json",
+                com.adyen.model.management.Webhook.class, com.adyen.model.management.Webhook::fromJson, com.adyen.model.management.Webhook::toJson);
+    }
+
+    private final String payload;
+    private final Class<T> type;
+    private final Parser<T> parser;
+    private final Function<T, String> writer;
+
+    private Codec(String payload, Class<T> type, Parser<T> parser, Function<T, String> writer) {
+        this.payload = payload;
+        this.type = type;
+        this.parser = parser;
+        this.writer = writer;
+    }
+
+    private static <T> void register(String model, String payload, Class<T> type, Parser<T> parser, Function<T, String> writer) {
+        CODECS.put(model, new Codec<>(payload, type, parser, writer));
+    }
+
+    /**
+     * @param model model name, package relative to com.adyen.model, e.g. checkout.PaymentRequest
+     * @return codec of the model
+     */
+    public static Codec<?> of(String model) {
+        Codec<?> codec = CODECS.get(model);
+        if (codec == null) {
+            throw new IllegalArgumentException("Unknown model " + model + ", expected one of " + CODECS.keySet());
+        }
+        return codec;
+    }
+
+    /**
+     * @return classpath resource of the payload
+     */
+    public String getPayload() {
+        return payload;
+    }
+
+    /**
+     * @return model class
+     */
+    public Class<T> getType() {
+        return type;
+    }
+
+    public T fromJson(String json) throws IOException {
+        return parser.parse(json);
+    }
+
+    @SuppressWarnings("unchecked")
+    public String toJson(Object instance) {
+        return writer.apply((T) instance);
+    }
+
+    @FunctionalInterface
+    interface Parser<T> {
+        T parse(String json) throws IOException;
+    }
+}
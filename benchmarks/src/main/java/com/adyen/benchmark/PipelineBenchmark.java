@@ -0,0 +1,147 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.benchmark;
+
+import com.adyen.Client;
+import com.adyen.Config;
+import com.adyen.enums.Environment;
+import com.adyen.httpclient.CircuitBreakerPolicy;
+import com.adyen.httpclient.ConcurrencyLimiter;
+import com.adyen.httpclient.RetryPolicy;
+import com.adyen.model.checkout.PaymentRequest;
+import com.adyen.model.checkout.PaymentResponse;
+import com.adyen.replay.StubServer;
+import com.adyen.service.Checkout;
+import com.adyen.service.exception.ApiException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of a call through the whole request pipeline: {@link Checkout#payments(PaymentRequest)} serializes the
+ * request, runs the resource policies when enabled, sends it with the default HTTP client to a {@link StubServer} on
+ * the loopback interface and deserializes the response. Measured at 1, 16 and 256 concurrent callers, over plain HTTP
+ * and over TLS with a client certificate, without and with the {@link RetryPolicy}, {@link ConcurrencyLimiter} and
+ * {@link CircuitBreakerPolicy}. The sample time mode reports the latency percentiles.
+ * <p>
+ * The connection pool and the concurrency limit are sized for the largest number of callers, so that the results show
+ * the cost of the pipeline and not the wait for a pooled connection or a permit.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Dsun.net.httpserver.nodelay=true")
+@State(Scope.Benchmark)
+public class PipelineBenchmark {
+    private static final String KEY_STORE = "mocks/stub-server.p12";
+    private static final String KEY_STORE_PASSWORD = "changeit";
+    private static final int MAX_CALLERS = 256;
+
+    @Param({"false", "true"})
+    public boolean clientCertificate;
+
+    @Param({"false", "true"})
+    public boolean policies;
+
+    private StubServer server;
+    private Client client;
+    private Checkout checkout;
+    private PaymentRequest paymentRequest;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, GeneralSecurityException {
+        server = new StubServer().seed("mocks/stub-server.json");
+        client = new Client("apiKey", Environment.TEST);
+        Config config = client.getConfig();
+        if (clientCertificate) {
+            KeyStore keyStore = loadKeyStore();
+            server.start(StubServer.createSSLContext(keyStore, KEY_STORE_PASSWORD), true);
+            config.setClientKeyStore(keyStore);
+            config.setClientKeyStorePassword(KEY_STORE_PASSWORD);
+            config.setTrustKeyStore(keyStore);
+        } else {
+            server.start();
+        }
+        server.configure(config);
+        config.setMaxConnectionsTotal(MAX_CALLERS);
+        config.setMaxConnectionsPerRoute(MAX_CALLERS);
+        if (policies) {
+            ConcurrencyLimiter concurrencyLimiter = new ConcurrencyLimiter();
+            concurrencyLimiter.setInitialLimit(MAX_CALLERS);
+            concurrencyLimiter.setMaxLimit(MAX_CALLERS);
+            config.setRetryPolicy(new RetryPolicy());
+            config.setConcurrencyLimiter(concurrencyLimiter);
+            config.setCircuitBreakerPolicy(new CircuitBreakerPolicy());
+        }
+        checkout = new Checkout(client);
+        paymentRequest = PaymentRequest.fromJson(Payloads.read("mocks/checkout/paymentRequest.json"));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        client.getHttpClient().close();
+        server.close();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public PaymentResponse payments1Caller() throws ApiException, IOException {
+        return checkout.payments(paymentRequest);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public PaymentResponse payments16Callers() throws ApiException, IOException {
+        return checkout.payments(paymentRequest);
+    }
+
+    @Benchmark
+    @Threads(MAX_CALLERS)
+    public PaymentResponse payments256Callers() throws ApiException, IOException {
+        return checkout.payments(paymentRequest);
+    }
+
+    private static KeyStore loadKeyStore() throws IOException, GeneralSecurityException {
+        KeyStore keyStore = KeyStore.getInstance("PKCS12");
+        try (InputStream stream = PipelineBenchmark.class.getClassLoader().getResourceAsStream(KEY_STORE)) {
+            keyStore.load(stream, KEY_STORE_PASSWORD.toCharArray());
+        }
+        return keyStore;
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the generated {@code toJson} and {@code fromJson} methods of the heaviest models. Run with the
+ * GC profiler, as {@link BenchmarkRunner} does, to get the allocation per operation.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+
+    @Param({
+            "checkout.PaymentRequest",
+            "checkout.PaymentResponse",
+            "checkout.CreateCheckoutSessionRequest",
+            "checkout.CreateCheckoutSessionResponse",
+            "checkout.PaymentMethodsResponse",
+            "payments.PaymentRequest",
+            "management.Webhook"
+    })
+    public String model;
+
+    private Codec<?> codec;
+    private String json;
+    private Object instance;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        codec = Codec.of(model);
+        json = Payloads.read(codec.getPayload());
+        instance = codec.fromJson(json);
+    }
+
+    @Benchmark
+    public Object fromJson() throws IOException {
+        return codec.fromJson(json);
+    }
+
+    @Benchmark
+    public String toJson() {
+        return codec.toJson(instance);
+    }
+}
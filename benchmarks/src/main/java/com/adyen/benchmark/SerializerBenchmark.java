@@ -0,0 +1,91 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.benchmark;
+
+import com.adyen.serializer.GsonModelSerializer;
+import com.adyen.serializer.JacksonModelSerializer;
+import com.adyen.serializer.ModelSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the {@link ModelSerializer} backends on the models of {@link SerializationBenchmark}, e.g.
+ * {@code -p backend=jackson} to measure Jackson alone.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Benchmark)
+public class SerializerBenchmark {
+
+    @Param({
+            "checkout.PaymentRequest",
+            "checkout.PaymentResponse",
+            "checkout.CreateCheckoutSessionRequest",
+            "checkout.CreateCheckoutSessionResponse",
+            "checkout.PaymentMethodsResponse",
+            "payments.PaymentRequest",
+            "management.Webhook"
+    })
+    public String model;
+
+    @Param({"gson", "jackson"})
+    public String backend;
+
+    private ModelSerializer serializer;
+    private Class<?> type;
+    private String json;
+    private Object instance;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        serializer = "jackson".equals(backend) ? new JacksonModelSerializer() : new GsonModelSerializer();
+        Codec<?> codec = Codec.of(model);
+        type = codec.getType();
+        json = Payloads.read(codec.getPayload());
+        instance = serializer.fromJson(json, type);
+    }
+
+    @Benchmark
+    public Object fromJson() throws IOException {
+        return serializer.fromJson(json, type);
+    }
+
+    @Benchmark
+    public String toJson() {
+        return serializer.toJson(instance);
+    }
+}
@@ -22,13 +22,26 @@ package com.adyen;
 
 import com.adyen.enums.Environment;
 import com.adyen.enums.Region;
+import com.adyen.httpclient.AdyenAsyncHttpClient;
 import com.adyen.httpclient.AdyenHttpClient;
+import com.adyen.httpclient.AsyncClientInterface;
+import com.adyen.httpclient.ClientInterceptor;
 import com.adyen.httpclient.ClientInterface;
+import com.adyen.httpclient.HTTPClientException;
 
+import java.io.Closeable;
+import java.io.IOException;
 import java.security.KeyStore;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
 
-public class Client {
-    private ClientInterface httpClient;
+public class Client implements Closeable {
+    private volatile ClientInterface httpClient;
+    private volatile AsyncClientInterface asyncHttpClient;
+    private volatile List<ClientInterceptor> interceptors = Collections.emptyList();
     private Config config;
 
     public static final String ENDPOINT_TEST = "https://pal-test.adyen.com";
@@ -241,20 +254,95 @@ public class Client {
     }
 
     public ClientInterface getHttpClient() {
-        return this.httpClient == null ? new AdyenHttpClient() : this.httpClient;
+        ClientInterface result = this.httpClient;
+        if (result == null) {
+            synchronized (this) {
+                result = this.httpClient;
+                if (result == null) {
+                    result = new AdyenHttpClient();
+                    this.httpClient = result;
+                }
+            }
+        }
+        return result;
     }
 
     public void setHttpClient(ClientInterface httpClient) {
         this.httpClient = httpClient;
     }
 
+    /**
+     * Non-blocking HTTP client used by the asynchronous service methods (e.g. {@code paymentsAsync}),
+     * which bypass the interceptors, retry, concurrency limiter and circuit breaker of the blocking methods.
+     *
+     * @return the configured client, or a lazily created {@link AdyenAsyncHttpClient}
+     */
+    public AsyncClientInterface getAsyncHttpClient() {
+        AsyncClientInterface result = this.asyncHttpClient;
+        if (result == null) {
+            synchronized (this) {
+                result = this.asyncHttpClient;
+                if (result == null) {
+                    result = new AdyenAsyncHttpClient();
+                    this.asyncHttpClient = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    public void setAsyncHttpClient(AsyncClientInterface asyncHttpClient) {
+        this.asyncHttpClient = asyncHttpClient;
+    }
+
+
+    /**
+     * Adds an interceptor around the requests of the synchronous service methods.
+     * Interceptors run in the order they were added, the first one being the outermost.
+     *
+     * @param interceptor interceptor
+     */
+    public synchronized void addInterceptor(ClientInterceptor interceptor) {
+        List<ClientInterceptor> result = new ArrayList<>(this.interceptors);
+        result.add(interceptor);
+        this.interceptors = Collections.unmodifiableList(result);
+    }
+
+    public synchronized void removeInterceptor(ClientInterceptor interceptor) {
+        List<ClientInterceptor> result = new ArrayList<>(this.interceptors);
+        result.remove(interceptor);
+        this.interceptors = Collections.unmodifiableList(result);
+    }
+
+    /**
+     * @return unmodifiable snapshot of the registered interceptors
+     */
+    public List<ClientInterceptor> getInterceptors() {
+        return interceptors;
+    }
 
     public Config getConfig() {
         return config;
     }
 
+    /**
+     * Replaces the config. The pooled HTTP clients of the previous config are closed once their requests completed.
+     *
+     * @param config config
+     */
     public void setConfig(Config config) {
+        Config previous = this.config;
         this.config = config;
+        if (previous != null && previous != config) {
+            ClientInterface current = this.httpClient;
+            AsyncClientInterface currentAsync = this.asyncHttpClient;
+            if (current != null) {
+                current.release(previous);
+            }
+            if (currentAsync != null) {
+                currentAsync.release(previous);
+            }
+        }
     }
 
     public void setApplicationName(String applicationName) {
@@ -266,4 +354,49 @@ public class Client {
         this.config.setReadTimeoutMillis(readTimeoutMillis);
     }
 
+    /**
+     * Resolves the hosts of the configured checkout, classic and management endpoints and opens pooled connections
+     * to them, so that the first requests after startup do not pay for DNS lookups, connects and TLS handshakes.
+     * The connections stay in the pool until they are used, or until a later request finds them idle for longer than
+     * {@link Config#getConnectionIdleTimeoutMillis()} and closes them.
+     *
+     * @param connectionsPerEndpoint number of connections to open per endpoint, capped at the maximum per route
+     * @return number of connections opened
+     * @throws IOException when a host cannot be resolved or a connection cannot be opened
+     * @throws HTTPClientException when an endpoint is invalid
+     */
+    public int warmUp(int connectionsPerEndpoint) throws IOException, HTTPClientException {
+        Set<String> endpoints = new LinkedHashSet<>();
+        for (String endpoint : new String[]{config.getCheckoutEndpoint(), config.getEndpoint(), config.getManagementEndpoint()}) {
+            if (endpoint != null && !endpoint.isEmpty()) {
+                endpoints.add(endpoint);
+            }
+        }
+        int opened = 0;
+        for (String endpoint : endpoints) {
+            opened += getHttpClient().warmUp(endpoint, connectionsPerEndpoint, config);
+        }
+        return opened;
+    }
+
+    /**
+     * Closes the HTTP clients and releases their pooled connections.
+     * The client can be used again afterwards, connections are then re-established on demand.
+     *
+     * @throws IOException IOException
+     */
+    @Override
+    public void close() throws IOException {
+        ClientInterface current = this.httpClient;
+        AsyncClientInterface currentAsync = this.asyncHttpClient;
+        try {
+            if (current != null) {
+                current.close();
+            }
+        } finally {
+            if (currentAsync != null) {
+                currentAsync.close();
+            }
+        }
+    }
 }
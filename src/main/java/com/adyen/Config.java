@@ -21,6 +21,11 @@
 package com.adyen;
 
 import com.adyen.enums.Environment;
+import com.adyen.httpclient.CircuitBreakerPolicy;
+import com.adyen.httpclient.ConcurrencyLimiter;
+import com.adyen.httpclient.RetryPolicy;
+import com.adyen.metrics.MetricsListener;
+import com.adyen.serializer.ModelSerializer;
 import com.adyen.util.CertificateUtil;
 
 import java.io.FileNotFoundException;
@@ -33,6 +38,10 @@ import java.security.cert.Certificate;
 import java.security.cert.CertificateException;
 
 public class Config {
+    public static final int DEFAULT_MAX_CONNECTIONS_TOTAL = 200;
+    public static final int DEFAULT_MAX_CONNECTIONS_PER_ROUTE = 50;
+    public static final long DEFAULT_CONNECTION_IDLE_TIMEOUT_MILLIS = 60000;
+
     protected String username;
     protected String password;
     protected String merchantAccount;
@@ -74,6 +83,39 @@ public class Config {
     protected String legalEntityManagementEndpoint;
     protected String managementEndpoint;
 
+    // Connection pooling
+    protected int maxConnectionsTotal = DEFAULT_MAX_CONNECTIONS_TOTAL;
+    protected int maxConnectionsPerRoute = DEFAULT_MAX_CONNECTIONS_PER_ROUTE;
+    protected long connectionIdleTimeoutMillis = DEFAULT_CONNECTION_IDLE_TIMEOUT_MILLIS;
+    protected boolean http2Enabled;
+
+    // Request serialization
+    protected boolean requestStreamingEnabled;
+    protected boolean chunkedRequestStreaming;
+
+    // Response parsing
+    protected boolean responseStreamingEnabled;
+    protected long maxResponseBodySize;
+
+    // Compression
+    protected boolean responseCompressionEnabled = true;
+    protected int requestCompressionThreshold;
+
+    // Metrics
+    protected MetricsListener metricsListener;
+
+    // Retries
+    protected RetryPolicy retryPolicy;
+
+    // Circuit breaking
+    protected CircuitBreakerPolicy circuitBreakerPolicy;
+
+    // Concurrency limiting
+    protected ConcurrencyLimiter concurrencyLimiter;
+
+    // Serialization
+    protected ModelSerializer modelSerializer;
+
     public Config() {
         // do nothing
     }
@@ -298,4 +340,209 @@ public class Config {
     public void setManagementEndpoint(String managementEndpoint) {
         this.managementEndpoint = managementEndpoint;
     }
+
+    public int getMaxConnectionsTotal() {
+        return maxConnectionsTotal;
+    }
+
+    /**
+     * Maximum number of pooled connections kept open by the HTTP client across all routes.
+     *
+     * @param maxConnectionsTotal maximum number of connections
+     */
+    public void setMaxConnectionsTotal(int maxConnectionsTotal) {
+        this.maxConnectionsTotal = maxConnectionsTotal;
+    }
+
+    public int getMaxConnectionsPerRoute() {
+        return maxConnectionsPerRoute;
+    }
+
+    /**
+     * Maximum number of pooled connections kept open by the HTTP client to a single host.
+     *
+     * @param maxConnectionsPerRoute maximum number of connections per host
+     */
+    public void setMaxConnectionsPerRoute(int maxConnectionsPerRoute) {
+        this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+    }
+
+    public long getConnectionIdleTimeoutMillis() {
+        return connectionIdleTimeoutMillis;
+    }
+
+    /**
+     * Pooled connections idle for longer than this are evicted. Zero or less disables idle eviction.
+     *
+     * @param connectionIdleTimeoutMillis idle time in milliseconds
+     */
+    public void setConnectionIdleTimeoutMillis(long connectionIdleTimeoutMillis) {
+        this.connectionIdleTimeoutMillis = connectionIdleTimeoutMillis;
+    }
+
+    public boolean isHttp2Enabled() {
+        return http2Enabled;
+    }
+
+    /**
+     * Opt in to HTTP/2: concurrent requests to the same host are multiplexed over a few connections.
+     * The protocol is negotiated with ALPN, falling back to HTTP/1.1 when the server or the JVM does not support it.
+     *
+     * @param http2Enabled true to negotiate HTTP/2
+     */
+    public void setHttp2Enabled(boolean http2Enabled) {
+        this.http2Enabled = http2Enabled;
+    }
+
+    public boolean isRequestStreamingEnabled() {
+        return requestStreamingEnabled;
+    }
+
+    /**
+     * Serialize request models straight into the connection instead of building a JSON String first.
+     * Applies to the services that support it, e.g. Checkout payments and sessions.
+     *
+     * @param requestStreamingEnabled true to stream request bodies
+     */
+    public void setRequestStreamingEnabled(boolean requestStreamingEnabled) {
+        this.requestStreamingEnabled = requestStreamingEnabled;
+    }
+
+    public boolean isChunkedRequestStreaming() {
+        return chunkedRequestStreaming;
+    }
+
+    /**
+     * When streaming request bodies, send them chunked instead of buffering the serialized bytes to announce a Content-Length.
+     * Off by default: the known-length mode keeps one full copy of each serialized body in memory while it is sent.
+     *
+     * @param chunkedRequestStreaming true for chunked transfer encoding
+     */
+    public void setChunkedRequestStreaming(boolean chunkedRequestStreaming) {
+        this.chunkedRequestStreaming = chunkedRequestStreaming;
+    }
+
+    public boolean isResponseStreamingEnabled() {
+        return responseStreamingEnabled;
+    }
+
+    /**
+     * Parse response models while reading them from the connection instead of reading the whole body into a String first.
+     * Applies to the services that support it, e.g. Checkout paymentMethods and Management terminal listings.
+     *
+     * @param responseStreamingEnabled true to stream response bodies
+     */
+    public void setResponseStreamingEnabled(boolean responseStreamingEnabled) {
+        this.responseStreamingEnabled = responseStreamingEnabled;
+    }
+
+    public long getMaxResponseBodySize() {
+        return maxResponseBodySize;
+    }
+
+    /**
+     * Requests fail with an IOException when the response body is larger than this. Zero or less disables the limit.
+     *
+     * @param maxResponseBodySize maximum size of the response body in bytes
+     */
+    public void setMaxResponseBodySize(long maxResponseBodySize) {
+        this.maxResponseBodySize = maxResponseBodySize;
+    }
+
+    public boolean isResponseCompressionEnabled() {
+        return responseCompressionEnabled;
+    }
+
+    /**
+     * Send Accept-Encoding: gzip and transparently decompress compressed responses. Enabled by default.
+     *
+     * @param responseCompressionEnabled false to request uncompressed responses
+     */
+    public void setResponseCompressionEnabled(boolean responseCompressionEnabled) {
+        this.responseCompressionEnabled = responseCompressionEnabled;
+    }
+
+    public int getRequestCompressionThreshold() {
+        return requestCompressionThreshold;
+    }
+
+    /**
+     * Gzip request bodies of at least this many bytes, as well as streamed bodies of unknown length.
+     * Zero or less disables request compression, which is the default.
+     *
+     * @param requestCompressionThreshold minimum body size in bytes to compress
+     */
+    public void setRequestCompressionThreshold(int requestCompressionThreshold) {
+        this.requestCompressionThreshold = requestCompressionThreshold;
+    }
+
+    public MetricsListener getMetricsListener() {
+        return metricsListener;
+    }
+
+    /**
+     * Receives per endpoint timings of the request phases, HTTP status codes and ApiException error codes
+     * of the synchronous service methods, e.g. a {@link com.adyen.metrics.HistogramMetricsListener}. Null disables metrics.
+     *
+     * @param metricsListener metrics listener
+     */
+    public void setMetricsListener(MetricsListener metricsListener) {
+        this.metricsListener = metricsListener;
+    }
+
+    public RetryPolicy getRetryPolicy() {
+        return retryPolicy;
+    }
+
+    /**
+     * Retries transient failures of the synchronous service methods. Null, the default, disables retries.
+     *
+     * @param retryPolicy retry policy
+     */
+    public void setRetryPolicy(RetryPolicy retryPolicy) {
+        this.retryPolicy = retryPolicy;
+    }
+
+    public CircuitBreakerPolicy getCircuitBreakerPolicy() {
+        return circuitBreakerPolicy;
+    }
+
+    /**
+     * Fails the synchronous service methods fast while their endpoint family keeps failing. Null, the default,
+     * disables circuit breaking.
+     *
+     * @param circuitBreakerPolicy circuit breaker policy
+     */
+    public void setCircuitBreakerPolicy(CircuitBreakerPolicy circuitBreakerPolicy) {
+        this.circuitBreakerPolicy = circuitBreakerPolicy;
+    }
+
+    public ConcurrencyLimiter getConcurrencyLimiter() {
+        return concurrencyLimiter;
+    }
+
+    /**
+     * Adapts the number of concurrent requests of the synchronous service methods per API key and endpoint
+     * to the capacity of the service. Null, the default, disables limiting.
+     *
+     * @param concurrencyLimiter concurrency limiter
+     */
+    public void setConcurrencyLimiter(ConcurrencyLimiter concurrencyLimiter) {
+        this.concurrencyLimiter = concurrencyLimiter;
+    }
+
+    public ModelSerializer getModelSerializer() {
+        return modelSerializer;
+    }
+
+    /**
+     * Serializes the request and response models of the Checkout, Payments, Payouts, Recurring, Transfers,
+     * Management and Legal Entity Management services, e.g. a {@link com.adyen.serializer.JacksonModelSerializer}.
+     * Null, the default, uses the Gson instance of each model package.
+     *
+     * @param modelSerializer model serializer
+     */
+    public void setModelSerializer(ModelSerializer modelSerializer) {
+        this.modelSerializer = modelSerializer;
+    }
 }
@@ -20,9 +20,14 @@
  */
 package com.adyen;
 
+import com.adyen.serializer.ModelSerializer;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
 public class Service {
 
     protected static final Gson GSON = new GsonBuilder().disableHtmlEscaping().create();
@@ -49,4 +54,41 @@ public class Service {
         isApiKeyRequired = apiKeyRequired;
     }
 
+    /**
+     * Serializes a request model with the {@link Config#getModelSerializer() model serializer} of the client,
+     * or with the given Gson when none is set.
+     */
+    protected String toJson(Object model, Gson gson) {
+        ModelSerializer modelSerializer = client.getConfig().getModelSerializer();
+        return modelSerializer == null ? gson.toJson(model) : modelSerializer.toJson(model);
+    }
+
+    /**
+     * Deserializes a response model with the {@link Config#getModelSerializer() model serializer} of the client,
+     * or with the given Gson when none is set.
+     */
+    protected <T> T fromJson(String json, Class<T> type, Gson gson) throws IOException {
+        ModelSerializer modelSerializer = client.getConfig().getModelSerializer();
+        return modelSerializer == null ? gson.fromJson(json, type) : modelSerializer.fromJson(json, type);
+    }
+
+    /**
+     * Deserializes the body of an asynchronous response, e.g. {@code json -> fromJson(json, PaymentResponse.class, JSON.getGson())}.
+     * Parsing failures complete the returned future exceptionally with the {@link IOException}.
+     */
+    protected static <T> CompletableFuture<T> fromJsonAsync(CompletableFuture<String> response, JsonDeserializer<T> deserializer) {
+        return response.thenApply(json -> {
+            try {
+                return deserializer.fromJson(json);
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+        });
+    }
+
+    @FunctionalInterface
+    protected interface JsonDeserializer<T> {
+        T fromJson(String json) throws IOException;
+    }
+
 }
@@ -103,6 +103,9 @@ public interface ApiConstants {
     interface RequestProperty {
         String IDEMPOTENCY_KEY = "Idempotency-Key";
         String ACCEPT_CHARSET = "Accept-Charset";
+        String ACCEPT_ENCODING = "Accept-Encoding";
+        String CONTENT_ENCODING = "Content-Encoding";
+        String GZIP = "gzip";
         String USER_AGENT = "User-Agent";
         String METHOD_POST = "POST";
         String CONTENT_TYPE = "Content-Type";
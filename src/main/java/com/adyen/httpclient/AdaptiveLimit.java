@@ -0,0 +1,149 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.httpclient;
+
+import java.io.InterruptedIOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Adaptive number of concurrent requests of one config (API key) to one endpoint, created and configured by a
+ * {@link ConcurrencyLimiter}.
+ * <p>
+ * The limit follows an additive increase, multiplicative decrease scheme: it grows by one for every successful request
+ * made while at least half of the limit was in use, and is multiplied by the backoff ratio when a request was
+ * throttled, timed out or took longer than the latency tolerance times the baseline latency. The baseline follows
+ * the lowest latencies observed. The limit decreases at most once per window of about limit-many requests,
+ * so that the requests already in flight when capacity ran out do not shrink it once each.
+ */
+public class AdaptiveLimit {
+    private static final int BASELINE_SMOOTHING_SHIFT = 6;
+
+    private final String endpoint;
+    private final ConcurrencyLimiter limiter;
+
+    private double limit;
+    private int inFlight;
+    private int queued;
+    private long baselineNanos;
+    // releases left before the next decrease, the requests of the current window were started before the last one
+    private int decreaseWindow;
+
+    AdaptiveLimit(String endpoint, ConcurrencyLimiter limiter) {
+        this.endpoint = endpoint;
+        this.limiter = limiter;
+        this.limit = limiter.getInitialLimit();
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    /**
+     * @return current number of requests allowed in flight
+     */
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    /**
+     * @return number of requests waiting for a permit
+     */
+    public synchronized int getQueued() {
+        return queued;
+    }
+
+    /**
+     * @return baseline latency in nanoseconds, 0 before the first sample
+     */
+    public synchronized long getBaselineNanos() {
+        return baselineNanos;
+    }
+
+    synchronized void acquire(long maxWaitMillis) throws ConcurrencyLimitExceededException, InterruptedIOException {
+        if (inFlight < (int) limit) {
+            inFlight++;
+            return;
+        }
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(Math.max(0, maxWaitMillis));
+        queued++;
+        try {
+            while (inFlight >= (int) limit) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    throw new ConcurrencyLimitExceededException(endpoint, (int) limit);
+                }
+                TimeUnit.NANOSECONDS.timedWait(this, remaining);
+            }
+            inFlight++;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a concurrency permit");
+        } finally {
+            queued--;
+        }
+    }
+
+    /**
+     * @param latencyNanos latency of the request
+     * @param dropped whether the request was throttled or timed out, null when its outcome says nothing about capacity
+     */
+    synchronized void release(long latencyNanos, Boolean dropped) {
+        boolean saturated = inFlight * 2 >= limit;
+        inFlight--;
+        if (dropped != null) {
+            boolean congested = dropped || isSlow(latencyNanos);
+            if (decreaseWindow > 0) {
+                decreaseWindow--;
+            }
+            if (congested) {
+                if (decreaseWindow == 0) {
+                    decreaseWindow = (int) limit;
+                    limit = Math.max(limiter.getMinLimit(), limit * limiter.getBackoffRatio());
+                }
+            } else if (saturated) {
+                limit = Math.min(limiter.getMaxLimit(), limit + 1);
+            }
+        }
+        if (queued > 0) {
+            notifyAll();
+        }
+    }
+
+    private boolean isSlow(long latencyNanos) {
+        if (baselineNanos == 0 || latencyNanos < baselineNanos) {
+            baselineNanos = latencyNanos;
+            return false;
+        }
+        boolean slow = limiter.getLatencyTolerance() > 0 && latencyNanos > baselineNanos * limiter.getLatencyTolerance();
+        // drift slowly upwards so that the baseline follows a lasting change of the service latency
+        baselineNanos += (latencyNanos - baselineNanos) >> BASELINE_SMOOTHING_SHIFT;
+        return slow;
+    }
+
+    @Override
+    public String toString() {
+        return "AdaptiveLimit [endpoint=" + endpoint + ", limit=" + getLimit() + ", inFlight=" + getInFlight() + "]";
+    }
+}
@@ -0,0 +1,251 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.httpclient;
+
+import com.adyen.Config;
+import com.adyen.constants.ApiConstants;
+import com.adyen.metrics.MetricsContext;
+import com.adyen.model.RequestOptions;
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.client5.http.async.methods.SimpleRequestProducer;
+import org.apache.hc.client5.http.config.TlsConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClientBuilder;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.ssl.ClientTlsStrategyBuilder;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http2.HttpVersionPolicy;
+import org.apache.hc.core5.util.TimeValue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.Proxy;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.zip.GZIPOutputStream;
+
+import static com.adyen.constants.ApiConstants.RequestProperty.ACCEPT_ENCODING;
+import static com.adyen.constants.ApiConstants.RequestProperty.CONTENT_ENCODING;
+import static com.adyen.constants.ApiConstants.RequestProperty.GZIP;
+
+/**
+ * Default {@link AsyncClientInterface} implementation based on the httpclient5 asynchronous client.
+ * Requests are multiplexed on a small number of I/O reactor threads instead of blocking one thread per call.
+ * Keeps one started client per {@link Config}; call {@link #close()} to shut them down.
+ * Each client owns I/O reactor threads, so an instance that is not closed stays reachable and is never collected.
+ * HTTP/2 is negotiated only when {@link Config#isHttp2Enabled()} is set, otherwise HTTP/1.1 is used.
+ * Metrics are reported to the {@link MetricsContext} open on the calling thread, if any.
+ * <p>
+ * The resilience features of the blocking path do not apply: requests sent through this client skip the
+ * {@link ClientInterceptor}s of the client and the {@link RetryPolicy}, {@link ConcurrencyLimiter} and
+ * {@link CircuitBreakerPolicy} of the {@link Config}. Callers needing them should use the blocking service methods,
+ * e.g. from their own executor.
+ */
+public class AdyenAsyncHttpClient implements AsyncClientInterface {
+
+    private final HttpClientCache<CloseableHttpAsyncClient> httpClients = new HttpClientCache<>(this::createHttpAsyncClient);
+    private final RequestHeaders.Cache requestHeaders = new RequestHeaders.Cache();
+    private Proxy proxy;
+
+    public Proxy getProxy() {
+        return proxy;
+    }
+
+    public void setProxy(Proxy proxy) {
+        this.proxy = proxy;
+    }
+
+    @Override
+    public CompletableFuture<String> request(String endpoint, String requestBody, Config config, boolean isApiKeyRequired, RequestOptions requestOptions, ApiConstants.HttpMethod httpMethod, Map<String, String> params) {
+        return exchange(endpoint, requestBody, config, isApiKeyRequired, requestOptions, httpMethod, params).thenApply(ClientResponse::getBody);
+    }
+
+    /**
+     * Like {@link #request}, completing with the status and headers of the response as well
+     */
+    CompletableFuture<ClientResponse<String>> exchange(String endpoint, String requestBody, Config config, boolean isApiKeyRequired, RequestOptions requestOptions, ApiConstants.HttpMethod httpMethod, Map<String, String> params) {
+        CompletableFuture<ClientResponse<String>> result = new CompletableFuture<>();
+        MetricsContext metrics = MetricsContext.current();
+        SimpleHttpRequest httpRequest;
+        try {
+            httpRequest = createRequest(endpoint, requestBody, config, isApiKeyRequired, requestOptions, httpMethod, params);
+        } catch (HTTPClientException | RuntimeException e) {
+            result.completeExceptionally(e);
+            return result;
+        }
+        HttpClientCache.Entry<CloseableHttpAsyncClient> pooled;
+        try {
+            pooled = httpClients.acquire(config);
+        } catch (HTTPClientException | RuntimeException e) {
+            result.completeExceptionally(e);
+            return result;
+        }
+        try {
+            // the lease is held until the exchange ends, so a replaced client is not closed under it
+            pooled.client().execute(SimpleRequestProducer.create(httpRequest), new AdyenResponseConsumer(metrics, config.getMaxResponseBodySize()), new FutureCallback<SimpleHttpResponse>() {
+                @Override
+                public void completed(SimpleHttpResponse response) {
+                    pooled.close();
+                    if (metrics != null) {
+                        metrics.recordHttpStatus(response.getCode());
+                    }
+                    String body;
+                    try {
+                        body = getBody(response, config.getMaxResponseBodySize());
+                    } catch (IOException e) {
+                        result.completeExceptionally(e);
+                        return;
+                    }
+                    Map<String, List<String>> headers = AdyenResponseHandler.getHeaders(response.getHeaders());
+                    if (response.getCode() < 200 || response.getCode() >= 300) {
+                        result.completeExceptionally(new HTTPClientException(response.getCode(), "HTTP Exception", headers, body));
+                    } else {
+                        result.complete(new ClientResponse<>(response.getCode(), headers, body));
+                    }
+                }
+
+                @Override
+                public void failed(Exception e) {
+                    pooled.close();
+                    result.completeExceptionally(e);
+                }
+
+                @Override
+                public void cancelled() {
+                    pooled.close();
+                    result.cancel(false);
+                }
+            });
+        } catch (RuntimeException e) {
+            pooled.close();
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+
+    /**
+     * Shuts down the client of a config that is no longer used once its in-flight requests completed
+     */
+    @Override
+    public void release(Config config) {
+        httpClients.release(config);
+    }
+
+    /**
+     * Shuts down all asynchronous clients and their connections
+     */
+    @Override
+    public void close() {
+        httpClients.close();
+        requestHeaders.clear();
+    }
+
+    private SimpleHttpRequest createRequest(String endpoint, String requestBody, Config config, boolean isApiKeyRequired, RequestOptions requestOptions, ApiConstants.HttpMethod httpMethod, Map<String, String> params) throws HTTPClientException {
+        // Default to POST if httpMethod is not provided
+        ApiConstants.HttpMethod method = httpMethod == null ? ApiConstants.HttpMethod.POST : httpMethod;
+        SimpleHttpRequest httpRequest = new SimpleHttpRequest(method.name(), AdyenHttpClient.createUri(endpoint, params));
+        if (requestBody != null && !requestBody.isEmpty() && (method == ApiConstants.HttpMethod.POST || method == ApiConstants.HttpMethod.PATCH)) {
+            byte[] body = requestBody.getBytes(StandardCharsets.UTF_8);
+            if (AdyenHttpClient.isCompressible(body.length, config)) {
+                httpRequest.setBody(gzip(body), ContentType.APPLICATION_JSON);
+                httpRequest.addHeader(CONTENT_ENCODING, GZIP);
+            } else {
+                httpRequest.setBody(body, ContentType.APPLICATION_JSON);
+            }
+        }
+        if (config.isResponseCompressionEnabled()) {
+            httpRequest.addHeader(ACCEPT_ENCODING, GZIP);
+        }
+        httpRequest.setConfig(AdyenHttpClient.createRequestConfig(config, proxy));
+
+        requestHeaders.get(config).apply(httpRequest, isApiKeyRequired);
+        AdyenHttpClient.setHeaders(requestOptions, httpRequest);
+
+        return httpRequest;
+    }
+
+    private CloseableHttpAsyncClient createHttpAsyncClient(Config config) throws HTTPClientException {
+        PoolingAsyncClientConnectionManagerBuilder connectionManagerBuilder = PoolingAsyncClientConnectionManagerBuilder.create()
+                .useSystemProperties()
+                .setMaxConnTotal(config.getMaxConnectionsTotal())
+                .setMaxConnPerRoute(config.getMaxConnectionsPerRoute())
+                .setDefaultTlsConfig(TlsConfig.custom()
+                        .setVersionPolicy(config.isHttp2Enabled() ? HttpVersionPolicy.NEGOTIATE : HttpVersionPolicy.FORCE_HTTP_1)
+                        .build());
+
+        if (config.getClientKeyStore() != null && config.getTrustKeyStore() != null) {
+            connectionManagerBuilder.setTlsStrategy(ClientTlsStrategyBuilder.create()
+                    .setSslContext(SSLContextFactory.createClientCertificateSSLContext(config))
+                    .build());
+        } else if (config.getTerminalCertificate() != null) {
+            connectionManagerBuilder.setTlsStrategy(ClientTlsStrategyBuilder.create()
+                    .setSslContext(SSLContextFactory.createTerminalCertificateSSLContext(config))
+                    .setHostnameVerifier(SSLContextFactory.createTerminalHostnameVerifier(config.getEnvironment()))
+                    .build());
+        }
+
+        HttpAsyncClientBuilder builder = HttpAsyncClients.custom()
+                .useSystemProperties()
+                .setConnectionManager(connectionManagerBuilder.build())
+                .evictExpiredConnections()
+                // a client serves a single config, so connections authenticated with its client certificate
+                // must not be bound to the TLS principal, which would prevent their reuse by the next requests
+                .disableConnectionState();
+        if (config.getConnectionIdleTimeoutMillis() > 0) {
+            builder.evictIdleConnections(TimeValue.ofMilliseconds(config.getConnectionIdleTimeoutMillis()));
+        }
+        CloseableHttpAsyncClient httpClient = builder.build();
+        httpClient.start();
+        return httpClient;
+    }
+
+    private static byte[] gzip(byte[] body) throws HTTPClientException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(body.length / 4);
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(buffer)) {
+            gzipOutputStream.write(body);
+        } catch (IOException e) {
+            throw new HTTPClientException("Unable to compress request body", e);
+        }
+        return buffer.toByteArray();
+    }
+
+    private static String getBody(SimpleHttpResponse response, long maxBodySize) throws IOException {
+        byte[] body = response.getBodyBytes();
+        if (body == null) {
+            return null;
+        }
+        Header contentEncoding = response.getFirstHeader(CONTENT_ENCODING);
+        // the received bytes were limited while consuming, the decompressed ones are limited here
+        if (contentEncoding != null && GZIP.equalsIgnoreCase(contentEncoding.getValue())) {
+            body = AdyenResponseHandler.gunzip(body, maxBodySize);
+        }
+        ContentType contentType = response.getContentType();
+        Charset charset = contentType != null && contentType.getCharset() != null ? contentType.getCharset() : StandardCharsets.UTF_8;
+        return new String(body, charset);
+    }
+}
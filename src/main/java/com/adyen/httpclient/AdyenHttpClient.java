@@ -20,60 +20,88 @@
  */
 package com.adyen.httpclient;
 
-import com.adyen.Client;
 import com.adyen.Config;
 import com.adyen.constants.ApiConstants;
-import com.adyen.enums.Environment;
+import com.adyen.metrics.MetricsContext;
+import com.adyen.metrics.Phase;
 import com.adyen.model.RequestOptions;
-import com.adyen.terminal.security.TerminalCommonNameValidator;
-import org.apache.commons.codec.binary.Base64;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.classic.ExecChain;
 import org.apache.hc.client5.http.classic.methods.HttpDelete;
 import org.apache.hc.client5.http.classic.methods.HttpGet;
 import org.apache.hc.client5.http.classic.methods.HttpPatch;
 import org.apache.hc.client5.http.classic.methods.HttpPost;
-import org.apache.hc.client5.http.classic.methods.HttpUriRequest;
 import org.apache.hc.client5.http.classic.methods.HttpUriRequestBase;
 import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.entity.GzipCompressingEntity;
+import org.apache.hc.client5.http.impl.ChainElement;
+import org.apache.hc.client5.http.impl.DefaultSchemePortResolver;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpResponse;
 import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
 import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
-import org.apache.hc.client5.http.ssl.SSLConnectionSocketFactory;
+import org.apache.hc.client5.http.impl.routing.SystemDefaultRoutePlanner;
+import org.apache.hc.client5.http.io.ConnectionEndpoint;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.client5.http.ssl.HttpsSupport;
+import org.apache.hc.core5.http.ClassicHttpRequest;
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.HttpEntity;
+import org.apache.hc.core5.http.HttpException;
 import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.HttpRequest;
+import org.apache.hc.core5.http.ParseException;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
 import org.apache.hc.core5.http.io.entity.StringEntity;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.io.ModalCloseable;
 import org.apache.hc.core5.net.URIBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
 
-import javax.net.ssl.HostnameVerifier;
-import javax.net.ssl.KeyManagerFactory;
-import javax.net.ssl.SSLContext;
-import javax.net.ssl.SSLPeerUnverifiedException;
-import javax.net.ssl.TrustManager;
-import javax.net.ssl.TrustManagerFactory;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.net.Proxy;
+import java.net.ProxySelector;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.charset.Charset;
-import java.security.GeneralSecurityException;
-import java.security.KeyStore;
-import java.security.cert.X509Certificate;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import static com.adyen.constants.ApiConstants.HttpMethod.POST;
-import static com.adyen.constants.ApiConstants.RequestProperty.ACCEPT_CHARSET;
-import static com.adyen.constants.ApiConstants.RequestProperty.API_KEY;
-import static com.adyen.constants.ApiConstants.RequestProperty.APPLICATION_JSON_TYPE;
-import static com.adyen.constants.ApiConstants.RequestProperty.CONTENT_TYPE;
 import static com.adyen.constants.ApiConstants.RequestProperty.IDEMPOTENCY_KEY;
-import static com.adyen.constants.ApiConstants.RequestProperty.USER_AGENT;
 
+/**
+ * Default {@link ClientInterface} implementation.
+ * Keeps one pooled, thread-safe HTTP client per {@link Config} so connections are reused between calls.
+ * Call {@link #close()} (or {@link Client#close()}) to release the pooled connections.
+ * The blocking clients start no background threads: expired and idle connections are closed by the requests
+ * themselves, so an instance that is dropped without being closed can still be garbage collected.
+ * When {@link Config#isHttp2Enabled()} is set, requests are sent over multiplexed HTTP/2 connections
+ * of an {@link AdyenAsyncHttpClient} and this client blocks until the response arrives.
+ * On that path request entities, including the streamed json of {@link #requestEntity}, are buffered before sending:
+ * request bodies are small and the asynchronous producer would otherwise need a writer thread per request.
+ */
 public class AdyenHttpClient implements ClientInterface {
 
-    private static final String CHARSET = "UTF-8";
-    private static final String TERMINAL_CERTIFICATE_ALIAS = "TerminalCertificate";
-    private static final String SSL = "SSL";
-    private static final String TLSV1_2 = "TLSv1.2";
+    static final String CHARSET = "UTF-8";
+    private static final Timeout DEFAULT_WARM_UP_TIMEOUT = Timeout.ofSeconds(30);
+    private static final long EVICTION_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(5);
+    private final HttpClientCache<PooledHttpClient> httpClients = new HttpClientCache<>(this::createCloseableHttpClient);
+    private final AdyenAsyncHttpClient http2Client = new AdyenAsyncHttpClient();
+    private final RequestHeaders.Cache requestHeaders = new RequestHeaders.Cache();
     private Proxy proxy;
 
     public Proxy getProxy() {
@@ -82,6 +110,7 @@ public class AdyenHttpClient implements ClientInterface {
 
     public void setProxy(Proxy proxy) {
         this.proxy = proxy;
+        this.http2Client.setProxy(proxy);
     }
 
     @Override
@@ -106,23 +135,243 @@ public class AdyenHttpClient implements ClientInterface {
 
     @Override
     public String request(String endpoint, String requestBody, Config config, boolean isApiKeyRequired, RequestOptions requestOptions, ApiConstants.HttpMethod httpMethod, Map<String, String> params) throws IOException, HTTPClientException {
-        try (CloseableHttpClient httpclient = createCloseableHttpClient(config)) {
-            HttpUriRequestBase httpRequest = createRequest(endpoint, requestBody, config, isApiKeyRequired, requestOptions, httpMethod, params);
+        return exchange(endpoint, requestBody, config, isApiKeyRequired, requestOptions, httpMethod, params).getBody();
+    }
+
+    @Override
+    public String requestEntity(String endpoint, HttpEntity requestEntity, Config config, boolean isApiKeyRequired, RequestOptions requestOptions, ApiConstants.HttpMethod httpMethod, Map<String, String> params) throws IOException, HTTPClientException {
+        return exchangeEntity(endpoint, requestEntity, config, isApiKeyRequired, requestOptions, httpMethod, params).getBody();
+    }
+
+    @Override
+    public <T> T requestAndParse(String endpoint, HttpEntity requestEntity, Config config, boolean isApiKeyRequired, RequestOptions requestOptions, ApiConstants.HttpMethod httpMethod, ResponseParser<T> responseParser) throws IOException, HTTPClientException {
+        return exchangeAndParse(endpoint, requestEntity, config, isApiKeyRequired, requestOptions, httpMethod, responseParser).getBody();
+    }
+
+    @Override
+    public ClientResponse<String> exchange(String endpoint, String requestBody, Config config, boolean isApiKeyRequired, RequestOptions requestOptions, ApiConstants.HttpMethod httpMethod, Map<String, String> params) throws IOException, HTTPClientException {
+        if (config.isHttp2Enabled()) {
+            return requestHttp2(endpoint, requestBody, config, isApiKeyRequired, requestOptions, httpMethod, params);
+        }
+        StringEntity requestEntity = null;
+        if (requestBody != null && !requestBody.isEmpty()) {
+            requestEntity = new StringEntity(requestBody, Charset.forName(CHARSET));
+        }
+        return execute(endpoint, requestEntity, config, isApiKeyRequired, requestOptions, httpMethod, params);
+    }
+
+    @Override
+    public ClientResponse<String> exchangeEntity(String endpoint, HttpEntity requestEntity, Config config, boolean isApiKeyRequired, RequestOptions requestOptions, ApiConstants.HttpMethod httpMethod, Map<String, String> params) throws IOException, HTTPClientException {
+        if (config.isHttp2Enabled()) {
+            // the entity is buffered, see the class documentation
+            String requestBody = null;
+            if (requestEntity != null) {
+                try {
+                    requestBody = EntityUtils.toString(requestEntity, Charset.forName(CHARSET));
+                } catch (ParseException e) {
+                    throw new HTTPClientException("Unable to read request entity", e);
+                }
+            }
+            return requestHttp2(endpoint, requestBody, config, isApiKeyRequired, requestOptions, httpMethod, params);
+        }
+        return execute(endpoint, requestEntity, config, isApiKeyRequired, requestOptions, httpMethod, params);
+    }
+
+    @Override
+    public <T> ClientResponse<T> exchangeAndParse(String endpoint, HttpEntity requestEntity, Config config, boolean isApiKeyRequired, RequestOptions requestOptions, ApiConstants.HttpMethod httpMethod, ResponseParser<T> responseParser) throws IOException, HTTPClientException {
+        if (config.isHttp2Enabled()) {
+            ClientResponse<String> response = exchangeEntity(endpoint, requestEntity, config, isApiKeyRequired, requestOptions, httpMethod, null);
+            String body = response.getBody();
+            return response.withBody(responseParser.parse(new StringReader(body == null ? "" : body)));
+        }
+        HttpUriRequestBase httpRequest = createRequest(endpoint, requestEntity, config, isApiKeyRequired, requestOptions, httpMethod, null);
+
+        try (HttpClientCache.Entry<PooledHttpClient> pooled = acquire(config);
+             MetricsContext ignored = openMetrics(config, endpoint);
+             CloseableHttpResponse response = pooled.client().httpClient.execute(httpRequest)) {
+            if (response.getCode() < 200 || response.getCode() >= 300) {
+                AdyenResponse errorResponse = new AdyenResponseHandler(config.getMaxResponseBodySize()).handleResponse(response);
+                throw new HTTPClientException(errorResponse.getStatus(), "HTTP Exception", errorResponse.getHeaders(), errorResponse.getBody());
+            }
+            MetricsContext metrics = MetricsContext.current();
+            if (metrics != null) {
+                metrics.recordHttpStatus(response.getCode());
+            }
+            Map<String, List<String>> headers = AdyenResponseHandler.getHeaders(response.getHeaders());
+            HttpEntity entity = response.getEntity();
+            if (entity == null) {
+                return new ClientResponse<>(response.getCode(), headers, responseParser.parse(new StringReader("")));
+            }
+            ContentType contentType = ContentType.parseLenient(entity.getContentType());
+            Charset charset = contentType != null && contentType.getCharset() != null ? contentType.getCharset() : Charset.forName(CHARSET);
+            Reader reader = new InputStreamReader(AdyenResponseHandler.getContent(entity, config.getMaxResponseBodySize()), charset);
+            T result = responseParser.parse(reader);
+            // drain what the parser left unread so the connection can be reused
+            EntityUtils.consume(entity);
+            return new ClientResponse<>(response.getCode(), headers, result);
+        } catch (ParseException e) {
+            throw new HTTPClientException("Unable to read error response", e);
+        }
+    }
+
+    private ClientResponse<String> execute(String endpoint, HttpEntity requestEntity, Config config, boolean isApiKeyRequired, RequestOptions requestOptions, ApiConstants.HttpMethod httpMethod, Map<String, String> params) throws IOException, HTTPClientException {
+        HttpUriRequestBase httpRequest = createRequest(endpoint, requestEntity, config, isApiKeyRequired, requestOptions, httpMethod, params);
+
+        // Execute request with a custom response handler
+        AdyenResponse response;
+        try (HttpClientCache.Entry<PooledHttpClient> pooled = acquire(config);
+             MetricsContext ignored = openMetrics(config, endpoint)) {
+            response = pooled.client().httpClient.execute(httpRequest, new AdyenResponseHandler(config.getMaxResponseBodySize()));
+        }
 
-            // Execute request with a custom response handler
-            AdyenResponse response = httpclient.execute(httpRequest, new AdyenResponseHandler());
+        if (response.getStatus() < 200 || response.getStatus() >= 300) {
+            throw new HTTPClientException(response.getStatus(), "HTTP Exception", response.getHeaders(), response.getBody());
+        }
+        return new ClientResponse<>(response.getStatus(), response.getHeaders(), response.getBody());
+    }
 
-            if (response.getStatus() < 200 || response.getStatus() >= 300) {
-                throw new HTTPClientException(response.getStatus(), "HTTP Exception", response.getHeaders(), response.getBody());
+    /**
+     * Reports metrics under the endpoint when the client is called without a service, which opens its own context
+     */
+    private static MetricsContext openMetrics(Config config, String endpoint) {
+        if (config.getMetricsListener() == null || MetricsContext.current() != null) {
+            return null;
+        }
+        return MetricsContext.open(config.getMetricsListener(), endpoint);
+    }
+
+    /**
+     * Times from sending the request until the response headers are received, after the connection was leased and connected
+     */
+    private static ClassicHttpResponse timeToFirstByte(ClassicHttpRequest request, ExecChain.Scope scope, ExecChain chain) throws IOException, HttpException {
+        MetricsContext metrics = MetricsContext.current();
+        if (metrics == null) {
+            return chain.proceed(request, scope);
+        }
+        long start = System.nanoTime();
+        ClassicHttpResponse response = chain.proceed(request, scope);
+        metrics.record(Phase.TIME_TO_FIRST_BYTE, System.nanoTime() - start);
+        return response;
+    }
+
+    private ClientResponse<String> requestHttp2(String endpoint, String requestBody, Config config, boolean isApiKeyRequired, RequestOptions requestOptions, ApiConstants.HttpMethod httpMethod, Map<String, String> params) throws IOException, HTTPClientException {
+        try (MetricsContext ignored = openMetrics(config, endpoint)) {
+            return http2Client.exchange(endpoint, requestBody, config, isApiKeyRequired, requestOptions, httpMethod, params).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the response");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof HTTPClientException) {
+                throw (HTTPClientException) cause;
+            }
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
             }
-            return response.getBody();
+            throw new HTTPClientException("HTTP/2 request failed", cause);
         }
     }
 
-    private HttpUriRequestBase createRequest(String endpoint, String requestBody, Config config, boolean isApiKeyRequired, RequestOptions requestOptions, ApiConstants.HttpMethod httpMethod, Map<String, String> params) throws HTTPClientException {
-        HttpUriRequestBase httpRequest = createHttpRequestBase(createUri(endpoint, params), requestBody, httpMethod);
+    /**
+     * Resolves the host of the endpoint and opens up to the given number of connections to it, including the TLS
+     * handshake, which are then kept in the pool of the config for the next requests.
+     * Connections are opened only for direct routes, not through proxies, and not when HTTP/2 is enabled.
+     */
+    @Override
+    public int warmUp(String endpoint, int connections, Config config) throws IOException, HTTPClientException {
+        URI uri = createUri(endpoint, null);
+        HttpHost target = HttpHost.create(uri);
+        InetAddress.getAllByName(target.getHostName());
+        if (connections <= 0 || config.isHttp2Enabled()) {
+            return 0;
+        }
+
+        HttpClientContext context = HttpClientContext.create();
+        context.setRequestConfig(createRequestConfig(config, proxy));
+        HttpRoute route;
+        try {
+            route = new SystemDefaultRoutePlanner(DefaultSchemePortResolver.INSTANCE, ProxySelector.getDefault()).determineRoute(target, context);
+        } catch (HttpException e) {
+            throw new HTTPClientException("Invalid route", e);
+        }
+        if (route.getProxyHost() != null) {
+            return 0;
+        }
+
+        try (HttpClientCache.Entry<PooledHttpClient> pooled = acquire(config)) {
+            PoolingHttpClientConnectionManager connectionManager = pooled.client().connectionManager;
+            Timeout timeout = config.getConnectionTimeoutMillis() > 0 ? Timeout.ofMilliseconds(config.getConnectionTimeoutMillis()) : DEFAULT_WARM_UP_TIMEOUT;
+            int count = Math.min(connections, config.getMaxConnectionsPerRoute());
+            List<ConnectionEndpoint> endpoints = new ArrayList<>(count);
+            int opened = 0;
+            try {
+                // hold all leases at once, otherwise the pool hands out the same connection again
+                for (int i = 0; i < count; i++) {
+                    ConnectionEndpoint connectionEndpoint;
+                    try {
+                        connectionEndpoint = connectionManager.lease("warm-up", route, timeout, null).get(timeout);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new InterruptedIOException("Interrupted while leasing a connection");
+                    } catch (ExecutionException | TimeoutException e) {
+                        break;
+                    }
+                    endpoints.add(connectionEndpoint);
+                    if (!connectionEndpoint.isConnected()) {
+                        connectionManager.connect(connectionEndpoint, timeout, context);
+                        opened++;
+                    }
+                }
+            } finally {
+                for (ConnectionEndpoint connectionEndpoint : endpoints) {
+                    connectionManager.release(connectionEndpoint, null, connectionEndpoint.isConnected() ? TimeValue.NEG_ONE_MILLISECOND : TimeValue.ZERO_MILLISECONDS);
+                }
+            }
+            return opened;
+        }
+    }
+
+    /**
+     * Closes all pooled HTTP clients and their connections
+     */
+    @Override
+    public void close() {
+        httpClients.close();
+        http2Client.close();
+        requestHeaders.clear();
+    }
 
-        RequestConfig.Builder builder = RequestConfig.custom();
+    /**
+     * Drops the pooled client of a config that is no longer used, closing it once its in-flight requests completed
+     */
+    @Override
+    public void release(Config config) {
+        httpClients.release(config);
+        http2Client.release(config);
+    }
+
+    private HttpClientCache.Entry<PooledHttpClient> acquire(Config config) throws HTTPClientException {
+        HttpClientCache.Entry<PooledHttpClient> pooled = httpClients.acquire(config);
+        pooled.client().closeStaleConnections();
+        return pooled;
+    }
+
+    private HttpUriRequestBase createRequest(String endpoint, HttpEntity requestEntity, Config config, boolean isApiKeyRequired, RequestOptions requestOptions, ApiConstants.HttpMethod httpMethod, Map<String, String> params) throws HTTPClientException {
+        if (requestEntity != null && isCompressible(requestEntity.getContentLength(), config)) {
+            requestEntity = new GzipCompressingEntity(requestEntity);
+        }
+        HttpUriRequestBase httpRequest = createHttpRequestBase(createUri(endpoint, params), requestEntity, httpMethod);
+        httpRequest.setConfig(createRequestConfig(config, proxy));
+
+        requestHeaders.get(config).apply(httpRequest, isApiKeyRequired);
+        setHeaders(requestOptions, httpRequest);
+
+        return httpRequest;
+    }
+
+    static RequestConfig createRequestConfig(Config config, Proxy proxy) {
+        RequestConfig.Builder builder = RequestConfig.custom()
+                .setContentCompressionEnabled(config.isResponseCompressionEnabled());
         if (config.getReadTimeoutMillis() > 0) {
             builder.setResponseTimeout(config.getReadTimeoutMillis(), TimeUnit.MILLISECONDS);
         }
@@ -133,31 +382,32 @@ public class AdyenHttpClient implements ClientInterface {
             InetSocketAddress inetSocketAddress = (InetSocketAddress) proxy.address();
             builder.setProxy(new HttpHost(inetSocketAddress.getHostName(), inetSocketAddress.getPort()));
         }
-        httpRequest.setConfig(builder.build());
-
-        setAuthentication(httpRequest, isApiKeyRequired, config);
-        setHeaders(config, requestOptions, httpRequest);
-
-        return httpRequest;
+        return builder.build();
     }
 
-    private void setHeaders(Config config, RequestOptions requestOptions, HttpUriRequestBase httpUriRequest) {
-
-        setContentType(httpUriRequest, APPLICATION_JSON_TYPE);
-        httpUriRequest.addHeader(ACCEPT_CHARSET, CHARSET);
-        httpUriRequest.addHeader(USER_AGENT, String.format("%s %s/%s", config.getApplicationName(), Client.LIB_NAME, Client.LIB_VERSION));
+    /**
+     * Whether a request body of the given length (negative when unknown) should be gzipped
+     */
+    static boolean isCompressible(long contentLength, Config config) {
+        int threshold = config.getRequestCompressionThreshold();
+        return threshold > 0 && (contentLength < 0 || contentLength >= threshold);
+    }
 
+    /**
+     * Adds the headers of the request options: idempotency key and additional service headers
+     */
+    static void setHeaders(RequestOptions requestOptions, HttpRequest httpRequest) {
         if (requestOptions != null && requestOptions.getIdempotencyKey() != null) {
-            httpUriRequest.addHeader(IDEMPOTENCY_KEY, requestOptions.getIdempotencyKey());
+            httpRequest.addHeader(IDEMPOTENCY_KEY, requestOptions.getIdempotencyKey());
         }
-    }
-
-    private HttpUriRequestBase createHttpRequestBase(URI endpoint, String requestBody, ApiConstants.HttpMethod httpMethod) {
-        StringEntity requestEntity = null;
-        if (requestBody != null && !requestBody.isEmpty()) {
-            requestEntity = new StringEntity(requestBody, Charset.forName(CHARSET));
+        if (requestOptions != null && requestOptions.getAdditionalServiceHeaders() != null) {
+            for (Map.Entry<String, String> header : requestOptions.getAdditionalServiceHeaders().entrySet()) {
+                httpRequest.addHeader(header.getKey(), header.getValue());
+            }
         }
+    }
 
+    private HttpUriRequestBase createHttpRequestBase(URI endpoint, HttpEntity requestEntity, ApiConstants.HttpMethod httpMethod) {
         switch (httpMethod) {
             case GET:
                 return new HttpGet(endpoint);
@@ -175,13 +425,15 @@ public class AdyenHttpClient implements ClientInterface {
         }
     }
 
-    private URI createUri(String endpoint, Map<String, String> params) throws HTTPClientException {
+    static URI createUri(String endpoint, Map<String, String> params) throws HTTPClientException {
         try {
+            if (params == null || params.isEmpty()) {
+                // path parameters are already encoded, the endpoint only needs parsing
+                return new URI(endpoint);
+            }
             URIBuilder uriBuilder = new URIBuilder(endpoint);
-            if (params != null && !params.isEmpty()) {
-                for (String key: params.keySet()) {
-                    uriBuilder.addParameter(key, params.get(key));
-                }
+            for (String key: params.keySet()) {
+                uriBuilder.addParameter(key, params.get(key));
             }
             return uriBuilder.build();
         } catch (URISyntaxException e) {
@@ -189,124 +441,83 @@ public class AdyenHttpClient implements ClientInterface {
         }
     }
 
-    private CloseableHttpClient createCloseableHttpClient(Config config) throws HTTPClientException {
+    private PooledHttpClient createCloseableHttpClient(Config config) throws HTTPClientException {
+        PoolingHttpClientConnectionManagerBuilder connectionManagerBuilder = PoolingHttpClientConnectionManagerBuilder.create()
+                .useSystemProperties()
+                .setMaxConnTotal(config.getMaxConnectionsTotal())
+                .setMaxConnPerRoute(config.getMaxConnectionsPerRoute());
+
         if (config.getClientKeyStore() != null && config.getTrustKeyStore() != null) {
-            return createHttpClientWithSocketFactory(getClientCertificateAuthSSLContext(config));
-        }
-        if (config.getTerminalCertificate() != null) {
-            return createHttpClientWithSocketFactory(getTerminalCertificateSocketFactory(config));
+            connectionManagerBuilder.setSSLSocketFactory(new MetricsSSLConnectionSocketFactory(SSLContextFactory.createClientCertificateSSLContext(config),
+                    HttpsSupport.getDefaultHostnameVerifier()));
+        } else if (config.getTerminalCertificate() != null) {
+            connectionManagerBuilder.setSSLSocketFactory(new MetricsSSLConnectionSocketFactory(SSLContextFactory.createTerminalCertificateSSLContext(config),
+                    SSLContextFactory.createTerminalHostnameVerifier(config.getEnvironment())));
+        } else {
+            connectionManagerBuilder.setSSLSocketFactory(MetricsSSLConnectionSocketFactory.system());
         }
-        return HttpClients.createSystem();
+
+        PoolingHttpClientConnectionManager connectionManager = connectionManagerBuilder.build();
+        return new PooledHttpClient(createHttpClient(connectionManager), connectionManager, config.getConnectionIdleTimeoutMillis());
     }
 
-    private CloseableHttpClient createHttpClientWithSocketFactory(SSLConnectionSocketFactory socketFactory) {
+    private CloseableHttpClient createHttpClient(PoolingHttpClientConnectionManager connectionManager) {
+        // no evictExpiredConnections/evictIdleConnections: their thread would keep an unclosed client reachable
         return HttpClients.custom()
-                .setConnectionManager(PoolingHttpClientConnectionManagerBuilder.create()
-                        .setSSLSocketFactory(socketFactory)
-                        .build())
+                .useSystemProperties()
+                .setConnectionManager(new MetricsConnectionManager(connectionManager))
+                .addExecInterceptorBefore(ChainElement.MAIN_TRANSPORT.name(), "metrics", AdyenHttpClient::timeToFirstByte)
+                // a client serves a single config, so connections authenticated with its client certificate
+                // must not be bound to the TLS principal, which would prevent their reuse by the next requests
+                .disableConnectionState()
                 .build();
     }
 
-    private SSLConnectionSocketFactory getTerminalCertificateSocketFactory(Config config) throws HTTPClientException {
-        try {
-            // Create new KeyStore for the terminal certificate
-            KeyStore keyStore = KeyStore.getInstance(KeyStore.getDefaultType());
-            keyStore.load(null, null);
-            keyStore.setCertificateEntry(TERMINAL_CERTIFICATE_ALIAS, config.getTerminalCertificate());
-
-            TrustManagerFactory trustFactory =
-                    TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
-            trustFactory.init(keyStore);
-            TrustManager[] trustManagers = trustFactory.getTrustManagers();
-
-            // Install the terminal certificate trust manager
-            SSLContext sc = SSLContext.getInstance(SSL);
-            sc.init(null, trustManagers, new java.security.SecureRandom());
-
-            return new SSLConnectionSocketFactory(sc, createHostnameVerifier(config.getEnvironment()));
-        } catch (GeneralSecurityException | IOException e) {
-            throw new HTTPClientException("Error loading certificate from path", e);
+    /**
+     * HTTP client of a config together with its connection pool, so that the pool can be warmed up
+     * and its stale connections closed by the requests
+     */
+    private static final class PooledHttpClient implements ModalCloseable {
+        private final CloseableHttpClient httpClient;
+        private final PoolingHttpClientConnectionManager connectionManager;
+        private final TimeValue idleTimeout;
+        private final long evictionIntervalNanos;
+        private volatile long nextEviction;
+
+        private PooledHttpClient(CloseableHttpClient httpClient, PoolingHttpClientConnectionManager connectionManager, long idleTimeoutMillis) {
+            this.httpClient = httpClient;
+            this.connectionManager = connectionManager;
+            this.idleTimeout = idleTimeoutMillis > 0 ? TimeValue.ofMilliseconds(idleTimeoutMillis) : null;
+            this.evictionIntervalNanos = idleTimeoutMillis > 0
+                    ? Math.min(TimeUnit.MILLISECONDS.toNanos(idleTimeoutMillis), EVICTION_INTERVAL_NANOS)
+                    : EVICTION_INTERVAL_NANOS;
+            this.nextEviction = System.nanoTime() + evictionIntervalNanos;
         }
-    }
 
-    private SSLConnectionSocketFactory getClientCertificateAuthSSLContext(Config config) throws HTTPClientException {
-        try {
-            char[] password = null;
-            if (config.getClientKeyStorePassword() != null && !config.getClientKeyStorePassword().isEmpty()) {
-                password = config.getClientKeyStorePassword().toCharArray();
+        /**
+         * Closes expired and idle connections, at most once per eviction interval.
+         * Concurrent callers may both run it, which is harmless.
+         */
+        private void closeStaleConnections() {
+            long now = System.nanoTime();
+            if (now - nextEviction < 0) {
+                return;
             }
-
-            // Create a TrustManager that trusts the CAs in our Trust KeyStore
-            TrustManagerFactory tmf = TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
-            tmf.init(config.getTrustKeyStore());
-
-            KeyManagerFactory keyManagerFactory = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
-            keyManagerFactory.init(config.getClientKeyStore(), password);
-
-            // Create an SSLContext that uses our TrustManager
-            SSLContext context = SSLContext.getInstance(TLSV1_2);
-            context.init(keyManagerFactory.getKeyManagers(), tmf.getTrustManagers(), null);
-            return new SSLConnectionSocketFactory(context);
-        } catch (Exception e) {
-            throw new HTTPClientException("Error creating SSL Context", e);
-        }
-    }
-
-    private HostnameVerifier createHostnameVerifier(final Environment environment) {
-        return (host, session) -> {
-            try {
-                if (session.getPeerCertificates() != null && session.getPeerCertificates().length > 0) {
-                    // Assume the first certificate is the leaf, since chain will be ordered, according to Java documentation:
-                    // https://docs.oracle.com/javase/7/docs/api/javax/net/ssl/SSLSession.html#getPeerCertificates()
-                    X509Certificate certificate = (X509Certificate) session.getPeerCertificates()[0];
-                    return TerminalCommonNameValidator.validateCertificate(certificate, environment);
-                }
-                return false;
-            } catch (SSLPeerUnverifiedException e) {
-                e.printStackTrace();
-                return false;
+            nextEviction = now + evictionIntervalNanos;
+            connectionManager.closeExpired();
+            if (idleTimeout != null) {
+                connectionManager.closeIdle(idleTimeout);
             }
-        };
-    }
-
-    /**
-     * Sets content type
-     */
-    private void setAuthentication(HttpUriRequest httpUriRequest, boolean isApiKeyRequired, Config config) {
-        String apiKey = config.getApiKey();
-        // Use Api key if required or if provided
-        if (isApiKeyRequired || (apiKey != null && !apiKey.isEmpty())) {
-            setApiKey(httpUriRequest, apiKey);
-        } else {
-            setBasicAuthentication(httpUriRequest, config.getUsername(), config.getPassword());
         }
-    }
-
-    /**
-     * Sets content type
-     */
-    private void setContentType(HttpUriRequest httpUriRequest, String contentType) {
-        httpUriRequest.addHeader(CONTENT_TYPE, contentType);
-    }
 
-    /**
-     * Sets api key
-     */
-    private void setApiKey(HttpUriRequest httpUriRequest, String apiKey) {
-        if (apiKey != null && !apiKey.isEmpty()) {
-            httpUriRequest.addHeader(API_KEY, apiKey);
+        @Override
+        public void close(CloseMode closeMode) {
+            httpClient.close(closeMode);
         }
-    }
 
-    /**
-     * Adds Basic Authentication headers
-     */
-    private void setBasicAuthentication(HttpUriRequest httpUriRequest, String username, String password) {
-        // set basic authentication
-        String authString = username + ":" + password;
-        byte[] authEncBytes = Base64.encodeBase64(authString.getBytes());
-        String authStringEnc = new String(authEncBytes);
-
-        httpUriRequest.addHeader("Authorization", "Basic " + authStringEnc);
+        @Override
+        public void close() throws IOException {
+            httpClient.close();
+        }
     }
 }
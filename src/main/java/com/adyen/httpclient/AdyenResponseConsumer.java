@@ -0,0 +1,114 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.httpclient;
+
+import com.adyen.metrics.MetricsContext;
+import com.adyen.metrics.Phase;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.nio.entity.AbstractBinAsyncEntityConsumer;
+import org.apache.hc.core5.http.nio.support.AbstractAsyncResponseConsumer;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.util.ByteArrayBuffer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Buffers the response of the asynchronous client, like the SimpleResponseConsumer of httpclient5, and reports
+ * its phases to the metrics context of the calling thread, which the I/O reactor threads do not see.
+ * The time to first byte is measured from submitting the request, so it includes waiting for a connection or stream.
+ * The maximum body size is enforced on the bytes received, so an oversized response fails before it is buffered.
+ */
+final class AdyenResponseConsumer extends AbstractAsyncResponseConsumer<SimpleHttpResponse, byte[]> {
+
+    /**
+     * @param metrics context of the caller, null when metrics are disabled
+     * @param maxBodySize maximum size of the received body in bytes, zero or less for no limit
+     */
+    AdyenResponseConsumer(MetricsContext metrics, long maxBodySize) {
+        super(new BodyConsumer(metrics, maxBodySize));
+    }
+
+    @Override
+    public void informationResponse(HttpResponse response, HttpContext context) {
+    }
+
+    @Override
+    protected SimpleHttpResponse buildResult(HttpResponse response, byte[] body, ContentType contentType) {
+        SimpleHttpResponse simpleResponse = SimpleHttpResponse.copy(response);
+        if (body != null) {
+            simpleResponse.setBody(body, contentType);
+        }
+        return simpleResponse;
+    }
+
+    private static final class BodyConsumer extends AbstractBinAsyncEntityConsumer<byte[]> {
+        private final MetricsContext metrics;
+        private final long maxBodySize;
+        private final long start = System.nanoTime();
+        private final ByteArrayBuffer buffer = new ByteArrayBuffer(1024);
+        private long bodyStart;
+
+        private BodyConsumer(MetricsContext metrics, long maxBodySize) {
+            this.metrics = metrics;
+            this.maxBodySize = maxBodySize;
+        }
+
+        @Override
+        protected void streamStart(ContentType contentType) {
+            bodyStart = System.nanoTime();
+            if (metrics != null) {
+                metrics.record(Phase.TIME_TO_FIRST_BYTE, bodyStart - start);
+            }
+        }
+
+        @Override
+        protected int capacityIncrement() {
+            return Integer.MAX_VALUE;
+        }
+
+        @Override
+        protected void data(ByteBuffer src, boolean endOfStream) throws IOException {
+            if (src == null) {
+                return;
+            }
+            if (maxBodySize > 0 && (long) buffer.length() + src.remaining() > maxBodySize) {
+                throw new IOException("Response body exceeds the maximum size of " + maxBodySize + " bytes");
+            }
+            buffer.append(src);
+        }
+
+        @Override
+        protected byte[] generateContent() {
+            if (metrics != null) {
+                metrics.record(Phase.BODY_READ, System.nanoTime() - bodyStart);
+            }
+            return buffer.toByteArray();
+        }
+
+        @Override
+        public void releaseResources() {
+            buffer.clear();
+        }
+    }
+}
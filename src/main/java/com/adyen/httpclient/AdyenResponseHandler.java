@@ -20,20 +20,37 @@
  */
 package com.adyen.httpclient;
 
+import com.adyen.metrics.MetricsContext;
+import com.adyen.metrics.Phase;
 import org.apache.hc.core5.http.ClassicHttpResponse;
 import org.apache.hc.core5.http.Header;
 import org.apache.hc.core5.http.HttpEntity;
 import org.apache.hc.core5.http.ParseException;
 import org.apache.hc.core5.http.io.HttpClientResponseHandler;
 import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.apache.hc.core5.http.io.entity.HttpEntityWrapper;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.util.Collections;
-import java.util.HashMap;
+import java.io.InputStream;
 import java.util.List;
 import java.util.Map;
+import java.util.zip.GZIPInputStream;
 
 public class AdyenResponseHandler implements HttpClientResponseHandler<AdyenResponse> {
+    private final long maxBodySize;
+
+    public AdyenResponseHandler() {
+        this(0);
+    }
+
+    /**
+     * @param maxBodySize maximum size of the response body in bytes, zero or less for no limit
+     */
+    public AdyenResponseHandler(long maxBodySize) {
+        this.maxBodySize = maxBodySize;
+    }
 
     @Override
     public AdyenResponse handleResponse(ClassicHttpResponse httpResponse) throws IOException, ParseException {
@@ -41,18 +58,71 @@ public class AdyenResponseHandler implements HttpClientResponseHandler<AdyenResp
         adyenResponse.setStatus(httpResponse.getCode());
         adyenResponse.setHeaders(getHeaders(httpResponse.getHeaders()));
 
+        MetricsContext metrics = MetricsContext.current();
+        long start = metrics == null ? 0 : System.nanoTime();
         HttpEntity entity = httpResponse.getEntity();
         if (entity != null) {
-            adyenResponse.setBody(EntityUtils.toString(entity));
+            adyenResponse.setBody(EntityUtils.toString(maxBodySize > 0 ? new BoundedEntity(entity, maxBodySize) : entity));
+        }
+        if (metrics != null) {
+            metrics.recordHttpStatus(httpResponse.getCode());
+            metrics.record(Phase.BODY_READ, System.nanoTime() - start);
         }
         return adyenResponse;
     }
 
-    private Map<String, List<String>> getHeaders(Header[] allHeaders) {
-        Map<String, List<String>> headers = new HashMap<>();
-        for (Header header : allHeaders) {
-            headers.put(header.getName(), Collections.singletonList(header.getValue()));
+    /**
+     * Opens the entity content, failing once more than maxBodySize bytes are read
+     */
+    static InputStream getContent(HttpEntity entity, long maxBodySize) throws IOException {
+        if (maxBodySize <= 0) {
+            return entity.getContent();
+        }
+        if (entity.getContentLength() > maxBodySize) {
+            throw new IOException("Response body exceeds the maximum size of " + maxBodySize + " bytes");
+        }
+        return new BoundedInputStream(entity.getContent(), maxBodySize);
+    }
+
+    /**
+     * Decompresses a gzip encoded body, failing once it inflates beyond maxBodySize bytes
+     */
+    static byte[] gunzip(byte[] body, long maxBodySize) throws IOException {
+        InputStream content = new GZIPInputStream(new ByteArrayInputStream(body));
+        if (maxBodySize > 0) {
+            content = new BoundedInputStream(content, maxBodySize);
         }
-        return headers;
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(body.length);
+        try (InputStream in = content) {
+            byte[] chunk = new byte[8192];
+            int n;
+            while ((n = in.read(chunk)) != -1) {
+                buffer.write(chunk, 0, n);
+            }
+        }
+        return buffer.toByteArray();
+    }
+
+    private static class BoundedEntity extends HttpEntityWrapper {
+        private final HttpEntity entity;
+        private final long maxBodySize;
+
+        BoundedEntity(HttpEntity entity, long maxBodySize) {
+            super(entity);
+            this.entity = entity;
+            this.maxBodySize = maxBodySize;
+        }
+
+        @Override
+        public InputStream getContent() throws IOException {
+            return AdyenResponseHandler.getContent(entity, maxBodySize);
+        }
+    }
+
+    /**
+     * Lazy view of the headers, see {@link ResponseHeaders}
+     */
+    static Map<String, List<String>> getHeaders(Header[] allHeaders) {
+        return new ResponseHeaders(allHeaders);
     }
 }
\ No newline at end of file
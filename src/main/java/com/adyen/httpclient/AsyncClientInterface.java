@@ -0,0 +1,68 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.httpclient;
+
+import com.adyen.Config;
+import com.adyen.constants.ApiConstants;
+import com.adyen.model.RequestOptions;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static com.adyen.constants.ApiConstants.HttpMethod.POST;
+
+/**
+ * Non-blocking counterpart of {@link ClientInterface}.
+ * The returned futures complete with the response body, or exceptionally with an {@link HTTPClientException}
+ * for non-2xx responses and an {@link IOException} for transport failures.
+ * It backs the asynchronous methods of the {@code Checkout}, {@code Payment} and {@code Transfers} services;
+ * the other services, including the generated management services, are blocking only.
+ */
+public interface AsyncClientInterface extends Closeable {
+
+    default CompletableFuture<String> request(String endpoint, String requestBody, Config config, boolean isApiKeyRequired, RequestOptions requestOptions) {
+        return request(endpoint, requestBody, config, isApiKeyRequired, requestOptions, POST, null);
+    }
+
+    CompletableFuture<String> request(String endpoint, String requestBody, Config config, boolean isApiKeyRequired, RequestOptions requestOptions, ApiConstants.HttpMethod httpMethod, Map<String, String> params);
+
+    /**
+     * Releases the resources (e.g. I/O reactor threads and pooled connections) held for a config that is no longer used,
+     * e.g. after {@link com.adyen.Client#setConfig} replaced it. The default does nothing.
+     *
+     * @param config config that is no longer used
+     */
+    default void release(Config config) {
+        // nothing to release by default
+    }
+
+    /**
+     * Releases the resources (e.g. I/O reactor threads and pooled connections) held by this client.
+     *
+     * @throws IOException IOException
+     */
+    @Override
+    default void close() throws IOException {
+        // nothing to release by default
+    }
+}
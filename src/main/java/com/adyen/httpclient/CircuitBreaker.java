@@ -0,0 +1,241 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.httpclient;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Circuit breaker of one endpoint family, e.g. {@code checkout-test.adyen.com/checkout}.
+ * Created and configured by a {@link CircuitBreakerPolicy}.
+ * <p>
+ * While CLOSED, the outcome and latency of the requests are tracked over a rolling window. The breaker opens when
+ * enough requests were made and the failure rate or the slow call rate reaches its threshold. While OPEN, requests fail
+ * fast with a {@link CircuitBreakerOpenException}. After the open duration the breaker is HALF_OPEN and lets a limited
+ * number of probe requests through: it closes when they all succeed and opens again as soon as one fails.
+ */
+public class CircuitBreaker {
+    private static final int BUCKET_COUNT = 10;
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final String family;
+    private final CircuitBreakerPolicy policy;
+
+    private final long[] bucketEpochs = new long[BUCKET_COUNT];
+    private final int[] calls = new int[BUCKET_COUNT];
+    private final int[] failures = new int[BUCKET_COUNT];
+    private final int[] slowCalls = new int[BUCKET_COUNT];
+
+    private State state = State.CLOSED;
+    private long openedAtMillis;
+    private int probesInFlight;
+    private int probeSuccesses;
+
+    CircuitBreaker(String family, CircuitBreakerPolicy policy) {
+        this.family = family;
+        this.policy = policy;
+    }
+
+    public String getFamily() {
+        return family;
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * @return percentage of failed requests in the rolling window
+     */
+    public synchronized double getFailureRate() {
+        return rate(failures);
+    }
+
+    /**
+     * @return percentage of slow requests in the rolling window
+     */
+    public synchronized double getSlowCallRate() {
+        return rate(slowCalls);
+    }
+
+    /**
+     * @return number of requests in the rolling window
+     */
+    public synchronized int getCallCount() {
+        return sum(calls, currentEpoch());
+    }
+
+    /**
+     * Forces the breaker back to CLOSED and clears the rolling window
+     */
+    public void reset() {
+        State from;
+        synchronized (this) {
+            from = state;
+            close();
+        }
+        notifyTransition(from, State.CLOSED);
+    }
+
+    /**
+     * @return whether the permitted request is a half-open probe
+     * @throws CircuitBreakerOpenException when the request is not permitted
+     */
+    boolean acquirePermission() throws CircuitBreakerOpenException {
+        State from;
+        synchronized (this) {
+            if (state == State.CLOSED) {
+                return false;
+            }
+            if (state == State.OPEN) {
+                if (nowMillis() - openedAtMillis < policy.getOpenDurationMillis()) {
+                    throw new CircuitBreakerOpenException(family, state);
+                }
+                from = state;
+                state = State.HALF_OPEN;
+                probesInFlight = 0;
+                probeSuccesses = 0;
+            } else {
+                from = null;
+            }
+            if (probesInFlight + probeSuccesses >= policy.getHalfOpenProbes()) {
+                throw new CircuitBreakerOpenException(family, state);
+            }
+            probesInFlight++;
+        }
+        notifyTransition(from, State.HALF_OPEN);
+        return true;
+    }
+
+    void onResult(boolean probe, boolean success, long durationNanos) {
+        State from = null;
+        State to = null;
+        synchronized (this) {
+            if (probe) {
+                probesInFlight--;
+                if (state == State.HALF_OPEN) {
+                    from = state;
+                    if (!success) {
+                        open();
+                    } else if (++probeSuccesses >= policy.getHalfOpenProbes()) {
+                        close();
+                    }
+                    to = state;
+                }
+            } else {
+                boolean slow = policy.getSlowCallDurationMillis() > 0
+                        && TimeUnit.NANOSECONDS.toMillis(durationNanos) >= policy.getSlowCallDurationMillis();
+                record(success, slow);
+                if (state == State.CLOSED && shouldOpen()) {
+                    from = state;
+                    open();
+                    to = state;
+                }
+            }
+        }
+        notifyTransition(from, to);
+    }
+
+    private void record(boolean success, boolean slow) {
+        long epoch = currentEpoch();
+        // System.nanoTime() may be negative, and so may the epoch
+        int index = (int) Math.floorMod(epoch, (long) BUCKET_COUNT);
+        if (bucketEpochs[index] != epoch) {
+            bucketEpochs[index] = epoch;
+            calls[index] = 0;
+            failures[index] = 0;
+            slowCalls[index] = 0;
+        }
+        calls[index]++;
+        if (!success) {
+            failures[index]++;
+        }
+        if (slow) {
+            slowCalls[index]++;
+        }
+    }
+
+    private boolean shouldOpen() {
+        long epoch = currentEpoch();
+        int callCount = sum(calls, epoch);
+        if (callCount < policy.getMinimumCalls()) {
+            return false;
+        }
+        return sum(failures, epoch) * 100.0 / callCount >= policy.getFailureRateThreshold()
+                || sum(slowCalls, epoch) * 100.0 / callCount >= policy.getSlowCallRateThreshold();
+    }
+
+    private double rate(int[] counts) {
+        long epoch = currentEpoch();
+        int callCount = sum(calls, epoch);
+        return callCount == 0 ? 0 : sum(counts, epoch) * 100.0 / callCount;
+    }
+
+    private int sum(int[] counts, long epoch) {
+        int result = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            if (epoch - bucketEpochs[i] < BUCKET_COUNT) {
+                result += counts[i];
+            }
+        }
+        return result;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAtMillis = nowMillis();
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            bucketEpochs[i] = 0;
+            calls[i] = 0;
+            failures[i] = 0;
+            slowCalls[i] = 0;
+        }
+    }
+
+    private long currentEpoch() {
+        long bucketMillis = Math.max(1, policy.getWindowMillis() / BUCKET_COUNT);
+        return nowMillis() / bucketMillis;
+    }
+
+    private void notifyTransition(State from, State to) {
+        CircuitBreakerListener listener = policy.getListener();
+        if (listener != null && from != null && to != null && from != to) {
+            listener.onStateTransition(this, from, to);
+        }
+    }
+
+    private static long nowMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime());
+    }
+
+    @Override
+    public String toString() {
+        return "CircuitBreaker [family=" + family + ", state=" + getState() + "]";
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.httpclient;
+
+import java.io.IOException;
+
+/**
+ * Thrown without contacting the server while the circuit breaker of the endpoint family is open.
+ */
+public class CircuitBreakerOpenException extends IOException {
+    private final String family;
+    private final CircuitBreaker.State state;
+
+    public CircuitBreakerOpenException(String family, CircuitBreaker.State state) {
+        super("Circuit breaker for " + family + " is " + state);
+        this.family = family;
+        this.state = state;
+    }
+
+    public String getFamily() {
+        return family;
+    }
+
+    public CircuitBreaker.State getState() {
+        return state;
+    }
+}
@@ -0,0 +1,246 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.httpclient;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Stops sending requests to an endpoint family that keeps failing or responding slowly, so that callers fail fast
+ * with a {@link CircuitBreakerOpenException} instead of waiting on timeouts. Enable it for all services with
+ * {@link com.adyen.Config#setCircuitBreakerPolicy(CircuitBreakerPolicy)}.
+ * <p>
+ * Each endpoint family, the host and first path segment of the endpoint, has its own {@link CircuitBreaker}.
+ * Transport failures ({@link IOException}s), 5xx and 429 responses count as failures; other HTTP errors are answers
+ * of a healthy service, and runtime exceptions, e.g. while parsing a response, are errors of the client.
+ * When combined with a {@link RetryPolicy}, every attempt goes through the breaker.
+ */
+public class CircuitBreakerPolicy implements ClientInterceptor {
+    public static final long DEFAULT_WINDOW_MILLIS = 10000;
+    public static final int DEFAULT_MINIMUM_CALLS = 20;
+    public static final double DEFAULT_FAILURE_RATE_THRESHOLD = 50;
+    public static final long DEFAULT_SLOW_CALL_DURATION_MILLIS = 10000;
+    public static final double DEFAULT_SLOW_CALL_RATE_THRESHOLD = 80;
+    public static final long DEFAULT_OPEN_DURATION_MILLIS = 30000;
+    public static final int DEFAULT_HALF_OPEN_PROBES = 3;
+
+    private final ConcurrentMap<String, CircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+
+    private long windowMillis = DEFAULT_WINDOW_MILLIS;
+    private int minimumCalls = DEFAULT_MINIMUM_CALLS;
+    private double failureRateThreshold = DEFAULT_FAILURE_RATE_THRESHOLD;
+    private long slowCallDurationMillis = DEFAULT_SLOW_CALL_DURATION_MILLIS;
+    private double slowCallRateThreshold = DEFAULT_SLOW_CALL_RATE_THRESHOLD;
+    private long openDurationMillis = DEFAULT_OPEN_DURATION_MILLIS;
+    private int halfOpenProbes = DEFAULT_HALF_OPEN_PROBES;
+    private volatile CircuitBreakerListener listener;
+
+    public long getWindowMillis() {
+        return windowMillis;
+    }
+
+    /**
+     * @param windowMillis duration of the rolling window over which the failure and slow call rates are computed
+     */
+    public void setWindowMillis(long windowMillis) {
+        this.windowMillis = windowMillis;
+    }
+
+    public int getMinimumCalls() {
+        return minimumCalls;
+    }
+
+    /**
+     * @param minimumCalls number of requests in the rolling window below which the breaker does not open
+     */
+    public void setMinimumCalls(int minimumCalls) {
+        this.minimumCalls = minimumCalls;
+    }
+
+    public double getFailureRateThreshold() {
+        return failureRateThreshold;
+    }
+
+    /**
+     * @param failureRateThreshold percentage of failed requests at which the breaker opens
+     */
+    public void setFailureRateThreshold(double failureRateThreshold) {
+        this.failureRateThreshold = failureRateThreshold;
+    }
+
+    public long getSlowCallDurationMillis() {
+        return slowCallDurationMillis;
+    }
+
+    /**
+     * @param slowCallDurationMillis duration from which a request counts as slow, zero or less disables slow calls
+     */
+    public void setSlowCallDurationMillis(long slowCallDurationMillis) {
+        this.slowCallDurationMillis = slowCallDurationMillis;
+    }
+
+    public double getSlowCallRateThreshold() {
+        return slowCallRateThreshold;
+    }
+
+    /**
+     * @param slowCallRateThreshold percentage of slow requests at which the breaker opens
+     */
+    public void setSlowCallRateThreshold(double slowCallRateThreshold) {
+        this.slowCallRateThreshold = slowCallRateThreshold;
+    }
+
+    public long getOpenDurationMillis() {
+        return openDurationMillis;
+    }
+
+    /**
+     * @param openDurationMillis time the breaker fails fast before letting probe requests through
+     */
+    public void setOpenDurationMillis(long openDurationMillis) {
+        this.openDurationMillis = openDurationMillis;
+    }
+
+    public int getHalfOpenProbes() {
+        return halfOpenProbes;
+    }
+
+    /**
+     * @param halfOpenProbes number of successful probe requests needed to close the breaker
+     */
+    public void setHalfOpenProbes(int halfOpenProbes) {
+        this.halfOpenProbes = halfOpenProbes;
+    }
+
+    public CircuitBreakerListener getListener() {
+        return listener;
+    }
+
+    /**
+     * @param listener notified of the state transitions of all breakers, outside of their locks
+     */
+    public void setListener(CircuitBreakerListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * @param family endpoint family
+     * @return circuit breaker of the endpoint family, created when missing
+     */
+    public CircuitBreaker getCircuitBreaker(String family) {
+        return circuitBreakers.computeIfAbsent(family, f -> new CircuitBreaker(f, this));
+    }
+
+    /**
+     * @return circuit breakers of the endpoint families requested so far
+     */
+    public Collection<CircuitBreaker> getCircuitBreakers() {
+        return Collections.unmodifiableCollection(new ArrayList<>(circuitBreakers.values()));
+    }
+
+    @Override
+    public <T> ClientResponse<T> intercept(Chain<T> chain) throws IOException, HTTPClientException {
+        return execute(chain.request(), chain::proceed);
+    }
+
+    /**
+     * Sends the request when the breaker of its endpoint family permits it.
+     *
+     * @param request request
+     * @param transport transport
+     * @param <T> type of the response body
+     * @return response
+     * @throws CircuitBreakerOpenException when the breaker does not permit the request
+     * @throws IOException failure of the request
+     * @throws HTTPClientException failure of the request
+     */
+    public <T> ClientResponse<T> execute(ClientRequest request, InterceptorChain.Transport<T> transport) throws IOException, HTTPClientException {
+        CircuitBreaker circuitBreaker = getCircuitBreaker(getFamily(request.getEndpointTemplate()));
+        boolean probe = circuitBreaker.acquirePermission();
+        long startNanos = System.nanoTime();
+        boolean success = false;
+        try {
+            ClientResponse<T> response = transport.execute(request);
+            success = true;
+            return response;
+        } catch (HTTPClientException e) {
+            success = !isFailure(e);
+            throw e;
+        } catch (RuntimeException e) {
+            // the service answered, the client failed to handle the response
+            success = true;
+            throw e;
+        } finally {
+            circuitBreaker.onResult(probe, success, System.nanoTime() - startNanos);
+        }
+    }
+
+    /**
+     * Called on every request, so the default scans the string instead of parsing a URI.
+     *
+     * @param endpoint {@link ClientRequest#getEndpointTemplate() endpoint template} of the request
+     * @return endpoint family of the request, by default its host and first path segment
+     */
+    protected String getFamily(String endpoint) {
+        int scheme = endpoint.indexOf("://");
+        if (scheme < 0) {
+            return endpoint;
+        }
+        int hostStart = scheme + 3;
+        int pathStart = endOfComponent(endpoint, hostStart);
+        int userInfo = endpoint.lastIndexOf('@', pathStart - 1);
+        if (userInfo >= hostStart) {
+            hostStart = userInfo + 1;
+        }
+        int port = endpoint.indexOf(':', hostStart);
+        String host = endpoint.substring(hostStart, port >= 0 && port < pathStart ? port : pathStart);
+        if (host.isEmpty()) {
+            return endpoint;
+        }
+        if (pathStart == endpoint.length() || endpoint.charAt(pathStart) != '/') {
+            return host;
+        }
+        int segmentEnd = endOfComponent(endpoint, pathStart + 1);
+        return segmentEnd == pathStart + 1 ? host : host + endpoint.substring(pathStart, segmentEnd);
+    }
+
+    private static int endOfComponent(String endpoint, int start) {
+        for (int i = start; i < endpoint.length(); i++) {
+            char c = endpoint.charAt(i);
+            if (c == '/' || c == '?' || c == '#') {
+                return i;
+            }
+        }
+        return endpoint.length();
+    }
+
+    /**
+     * @param e HTTP error of the request
+     * @return whether the error counts as a failure of the endpoint family
+     */
+    protected boolean isFailure(HTTPClientException e) {
+        return e.getCode() >= 500 || e.getCode() == 429;
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.httpclient;
+
+import java.io.IOException;
+
+/**
+ * Intercepts the requests sent by the services, e.g. to time, log, retry or add headers to them.
+ * Interceptors are registered with {@link com.adyen.Client#addInterceptor(ClientInterceptor)} and run in registration order,
+ * the first one being the outermost.
+ */
+public interface ClientInterceptor {
+
+    /**
+     * Handles the request of the chain, usually by calling {@link Chain#proceed(ClientRequest)} once
+     * (or more often, or not at all) with the possibly modified request.
+     * The response passes back through the interceptors, with its status and headers, before it is parsed.
+     *
+     * @param chain remaining interceptors and the transport
+     * @param <T> type of the response body, the String body or the parsed model for streamed responses
+     * @return response
+     * @throws IOException IOException
+     * @throws HTTPClientException HTTPClientException
+     */
+    <T> ClientResponse<T> intercept(Chain<T> chain) throws IOException, HTTPClientException;
+
+    interface Chain<T> {
+
+        /**
+         * @return request as passed by the previous interceptor
+         */
+        ClientRequest request();
+
+        /**
+         * Passes the request to the next interceptor, or to the {@link ClientInterface} after the last one.
+         *
+         * @param request request to send
+         * @return response
+         * @throws IOException IOException
+         * @throws HTTPClientException HTTPClientException
+         */
+        ClientResponse<T> proceed(ClientRequest request) throws IOException, HTTPClientException;
+    }
+}
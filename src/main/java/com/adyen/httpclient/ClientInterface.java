@@ -23,15 +23,164 @@ package com.adyen.httpclient;
 import com.adyen.Config;
 import com.adyen.constants.ApiConstants;
 import com.adyen.model.RequestOptions;
+import org.apache.hc.core5.http.HttpEntity;
+import org.apache.hc.core5.http.ParseException;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
 
+import java.io.Closeable;
 import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
 
-public interface ClientInterface {
+public interface ClientInterface extends Closeable {
 
     String request(String endpoint, String requestBody, Config config) throws IOException, HTTPClientException;
     String request(String endpoint, String requestBody, Config config, boolean isApiKeyRequired) throws IOException, HTTPClientException;
     String request(String endpoint, String requestBody, Config config, boolean isApiKeyRequired, RequestOptions requestOptions) throws IOException, HTTPClientException;
     String request(String endpoint, String requestBody, Config config, boolean isApiKeyRequired, RequestOptions requestOptions, ApiConstants.HttpMethod httpMethod) throws IOException, HTTPClientException;
     String request(String endpoint, String requestBody, Config config, boolean isApiKeyRequired, RequestOptions requestOptions, ApiConstants.HttpMethod httpMethod, Map<String, String> params) throws IOException, HTTPClientException;
+
+    /**
+     * Sends the given entity (e.g. a {@link JsonStreamingEntity}) as request body.
+     * Implementations that cannot stream fall back to this default, which reads the entity into a String.
+     *
+     * @param endpoint endpoint
+     * @param requestEntity request body, may be null
+     * @param config config
+     * @param isApiKeyRequired whether API key authentication is required
+     * @param requestOptions request options
+     * @param httpMethod http method
+     * @param params query string parameters
+     * @return response body
+     * @throws IOException IOException
+     * @throws HTTPClientException HTTPClientException
+     */
+    default String requestEntity(String endpoint, HttpEntity requestEntity, Config config, boolean isApiKeyRequired, RequestOptions requestOptions, ApiConstants.HttpMethod httpMethod, Map<String, String> params) throws IOException, HTTPClientException {
+        String requestBody = null;
+        if (requestEntity != null) {
+            try {
+                requestBody = EntityUtils.toString(requestEntity, StandardCharsets.UTF_8);
+            } catch (ParseException e) {
+                throw new HTTPClientException("Unable to read request entity", e);
+            }
+        }
+        return request(endpoint, requestBody, config, isApiKeyRequired, requestOptions, httpMethod, params);
+    }
+
+    /**
+     * Sends the given entity and hands the response body to the parser while it is read from the connection.
+     * Implementations that cannot stream fall back to this default, which reads the response into a String first.
+     *
+     * @param endpoint endpoint, including its query string
+     * @param requestEntity request body, may be null
+     * @param config config
+     * @param isApiKeyRequired whether API key authentication is required
+     * @param requestOptions request options
+     * @param httpMethod http method
+     * @param responseParser parser of the response body
+     * @param <T> type of the parsed response
+     * @return parsed response
+     * @throws IOException IOException
+     * @throws HTTPClientException HTTPClientException
+     */
+    default <T> T requestAndParse(String endpoint, HttpEntity requestEntity, Config config, boolean isApiKeyRequired, RequestOptions requestOptions, ApiConstants.HttpMethod httpMethod, ResponseParser<T> responseParser) throws IOException, HTTPClientException {
+        String responseBody = requestEntity(endpoint, requestEntity, config, isApiKeyRequired, requestOptions, httpMethod, null);
+        return responseParser.parse(new StringReader(responseBody == null ? "" : responseBody));
+    }
+
+    /**
+     * Sends the request like {@link #request(String, String, Config, boolean, RequestOptions, ApiConstants.HttpMethod, Map)}
+     * and returns the body together with the status and headers of the response.
+     * Implementations that cannot report them fall back to this default, which reports status 200 and no headers.
+     *
+     * @param endpoint endpoint
+     * @param requestBody request body, may be null
+     * @param config config
+     * @param isApiKeyRequired whether API key authentication is required
+     * @param requestOptions request options
+     * @param httpMethod http method
+     * @param params query string parameters
+     * @return response
+     * @throws IOException IOException
+     * @throws HTTPClientException HTTPClientException
+     */
+    default ClientResponse<String> exchange(String endpoint, String requestBody, Config config, boolean isApiKeyRequired, RequestOptions requestOptions, ApiConstants.HttpMethod httpMethod, Map<String, String> params) throws IOException, HTTPClientException {
+        return ClientResponse.of(request(endpoint, requestBody, config, isApiKeyRequired, requestOptions, httpMethod, params));
+    }
+
+    /**
+     * Sends the entity like {@link #requestEntity} and returns the body together with the status and headers of the response.
+     * Implementations that cannot report them fall back to this default, which reports status 200 and no headers.
+     *
+     * @param endpoint endpoint
+     * @param requestEntity request body, may be null
+     * @param config config
+     * @param isApiKeyRequired whether API key authentication is required
+     * @param requestOptions request options
+     * @param httpMethod http method
+     * @param params query string parameters
+     * @return response
+     * @throws IOException IOException
+     * @throws HTTPClientException HTTPClientException
+     */
+    default ClientResponse<String> exchangeEntity(String endpoint, HttpEntity requestEntity, Config config, boolean isApiKeyRequired, RequestOptions requestOptions, ApiConstants.HttpMethod httpMethod, Map<String, String> params) throws IOException, HTTPClientException {
+        return ClientResponse.of(requestEntity(endpoint, requestEntity, config, isApiKeyRequired, requestOptions, httpMethod, params));
+    }
+
+    /**
+     * Sends the entity like {@link #requestAndParse} and returns the parsed body together with the status and headers
+     * of the response. Implementations that cannot report them fall back to this default, which reports status 200
+     * and no headers.
+     *
+     * @param endpoint endpoint, including its query string
+     * @param requestEntity request body, may be null
+     * @param config config
+     * @param isApiKeyRequired whether API key authentication is required
+     * @param requestOptions request options
+     * @param httpMethod http method
+     * @param responseParser parser of the response body
+     * @param <T> type of the parsed response
+     * @return response with the parsed body
+     * @throws IOException IOException
+     * @throws HTTPClientException HTTPClientException
+     */
+    default <T> ClientResponse<T> exchangeAndParse(String endpoint, HttpEntity requestEntity, Config config, boolean isApiKeyRequired, RequestOptions requestOptions, ApiConstants.HttpMethod httpMethod, ResponseParser<T> responseParser) throws IOException, HTTPClientException {
+        return ClientResponse.of(requestAndParse(endpoint, requestEntity, config, isApiKeyRequired, requestOptions, httpMethod, responseParser));
+    }
+
+    /**
+     * Prepares the connections to an endpoint before the first requests. The default does nothing.
+     *
+     * @param endpoint endpoint, its scheme, host and port are used
+     * @param connections number of pooled connections to open
+     * @param config config
+     * @return number of connections opened
+     * @throws IOException when the host cannot be resolved or a connection cannot be opened
+     * @throws HTTPClientException HTTPClientException
+     */
+    default int warmUp(String endpoint, int connections, Config config) throws IOException, HTTPClientException {
+        return 0;
+    }
+
+    /**
+     * Releases the resources (e.g. pooled connections) held for a config that is no longer used,
+     * e.g. after {@link com.adyen.Client#setConfig} replaced it. The default does nothing.
+     *
+     * @param config config that is no longer used
+     */
+    default void release(Config config) {
+        // nothing to release by default
+    }
+
+    /**
+     * Releases the resources (e.g. pooled connections) held by this client.
+     * Implementations without such resources do not need to override this.
+     *
+     * @throws IOException IOException
+     */
+    @Override
+    default void close() throws IOException {
+        // nothing to release by default
+    }
 }
\ No newline at end of file
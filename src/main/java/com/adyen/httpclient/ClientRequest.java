@@ -0,0 +1,176 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.httpclient;
+
+import com.adyen.Config;
+import com.adyen.constants.ApiConstants;
+import com.adyen.model.RequestOptions;
+import org.apache.hc.core5.http.HttpEntity;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Request passed through the {@link ClientInterceptor}s before it reaches the {@link ClientInterface}.
+ * The body is either a json String or, for streamed requests, an {@link HttpEntity}.
+ */
+public class ClientRequest {
+    private final long startNanos = System.nanoTime();
+    private String endpoint;
+    private String endpointTemplate;
+    private ApiConstants.HttpMethod httpMethod;
+    private String body;
+    private HttpEntity entity;
+    private Map<String, String> queryParams;
+    private Map<String, String> headers;
+    private RequestOptions requestOptions;
+    private final Config config;
+    private final boolean apiKeyRequired;
+
+    public ClientRequest(String endpoint, ApiConstants.HttpMethod httpMethod, Config config, boolean apiKeyRequired, RequestOptions requestOptions) {
+        this.endpoint = endpoint;
+        this.httpMethod = httpMethod;
+        this.config = config;
+        this.apiKeyRequired = apiKeyRequired;
+        this.requestOptions = requestOptions;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public void setEndpoint(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    /**
+     * @return endpoint with unresolved path parameters, e.g. {@code https://management-test.adyen.com/v1/merchants/{merchantId}},
+     * the endpoint when the request was not created by a service
+     */
+    public String getEndpointTemplate() {
+        return endpointTemplate != null ? endpointTemplate : endpoint;
+    }
+
+    public void setEndpointTemplate(String endpointTemplate) {
+        this.endpointTemplate = endpointTemplate;
+    }
+
+    public ApiConstants.HttpMethod getHttpMethod() {
+        return httpMethod;
+    }
+
+    public void setHttpMethod(ApiConstants.HttpMethod httpMethod) {
+        this.httpMethod = httpMethod;
+    }
+
+    /**
+     * @return json body, null for streamed requests and requests without body
+     */
+    public String getBody() {
+        return body;
+    }
+
+    public void setBody(String body) {
+        this.body = body;
+    }
+
+    /**
+     * @return streamed body, null unless request streaming is enabled
+     */
+    public HttpEntity getEntity() {
+        return entity;
+    }
+
+    public void setEntity(HttpEntity entity) {
+        this.entity = entity;
+    }
+
+    public Map<String, String> getQueryParams() {
+        return queryParams;
+    }
+
+    public void setQueryParams(Map<String, String> queryParams) {
+        this.queryParams = queryParams;
+    }
+
+    /**
+     * Additional headers sent with this request, initially those of the {@link RequestOptions}.
+     * Once read, they are kept when the request options are replaced.
+     *
+     * @return mutable map of headers
+     */
+    public Map<String, String> getHeaders() {
+        if (headers == null) {
+            headers = new LinkedHashMap<>();
+            if (requestOptions != null && requestOptions.getAdditionalServiceHeaders() != null) {
+                headers.putAll(requestOptions.getAdditionalServiceHeaders());
+            }
+        }
+        return headers;
+    }
+
+    public RequestOptions getRequestOptions() {
+        return requestOptions;
+    }
+
+    public void setRequestOptions(RequestOptions requestOptions) {
+        this.requestOptions = requestOptions;
+    }
+
+    public Config getConfig() {
+        return config;
+    }
+
+    public boolean isApiKeyRequired() {
+        return apiKeyRequired;
+    }
+
+    /**
+     * @return {@link System#nanoTime()} when the request was created
+     */
+    public long getStartNanos() {
+        return startNanos;
+    }
+
+    /**
+     * @return nanoseconds elapsed since the request was created
+     */
+    public long getElapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    /**
+     * Request options to pass to the {@link ClientInterface}, including the headers added by interceptors.
+     *
+     * @return the original request options when the headers were not touched, a copy otherwise
+     */
+    public RequestOptions toRequestOptions() {
+        if (headers == null) {
+            return requestOptions;
+        }
+        RequestOptions result = new RequestOptions();
+        if (requestOptions != null) {
+            result.setIdempotencyKey(requestOptions.getIdempotencyKey());
+        }
+        result.setAdditionalServiceHeaders(new LinkedHashMap<>(headers));
+        return result;
+    }
+}
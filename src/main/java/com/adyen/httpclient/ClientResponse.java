@@ -0,0 +1,80 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.httpclient;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Response of a request sent through the {@link ClientInterceptor}s: the status, headers and body of a successful call,
+ * handed back through the interceptors before the service parses it. Error statuses are thrown as
+ * {@link HTTPClientException}s instead.
+ *
+ * @param <T> type of the body, the String body, or the parsed model for streamed responses
+ */
+public final class ClientResponse<T> {
+    private final int status;
+    private final Map<String, List<String>> headers;
+    private final T body;
+
+    public ClientResponse(int status, Map<String, List<String>> headers, T body) {
+        this.status = status;
+        this.headers = headers == null ? Collections.emptyMap() : Collections.unmodifiableMap(headers);
+        this.body = body;
+    }
+
+    /**
+     * Response of a {@link ClientInterface} that does not report the status and headers
+     */
+    static <T> ClientResponse<T> of(T body) {
+        return new ClientResponse<>(200, null, body);
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    /**
+     * @return unmodifiable response headers, empty when the client does not report them
+     */
+    public Map<String, List<String>> getHeaders() {
+        return headers;
+    }
+
+    public T getBody() {
+        return body;
+    }
+
+    /**
+     * @param body replacement body
+     * @param <U> type of the replacement body
+     * @return response with the status and headers of this one and the given body
+     */
+    public <U> ClientResponse<U> withBody(U body) {
+        return new ClientResponse<>(status, headers, body);
+    }
+
+    @Override
+    public String toString() {
+        return "ClientResponse [status=" + status + "]";
+    }
+}
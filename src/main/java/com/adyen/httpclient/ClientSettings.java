@@ -0,0 +1,79 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.httpclient;
+
+import com.adyen.Config;
+import com.adyen.enums.Environment;
+
+import java.security.KeyStore;
+import java.security.cert.Certificate;
+import java.util.Objects;
+
+/**
+ * Snapshot of the settings of a {@link Config} that a pooled HTTP client is built from:
+ * the TLS material, the pool sizes, the idle timeout and the protocol version.
+ * Key stores and certificates are compared by identity: replacing them on the config invalidates
+ * the pooled client, SSL context and connections built from them.
+ * Snapshots are held only by the client cache entry of their own config and are not used as keys.
+ */
+final class ClientSettings {
+
+    private final KeyStore trustKeyStore;
+    private final KeyStore clientKeyStore;
+    private final String clientKeyStorePassword;
+    private final Certificate terminalCertificate;
+    private final Environment environment;
+    private final int maxConnectionsTotal;
+    private final int maxConnectionsPerRoute;
+    private final long connectionIdleTimeoutMillis;
+    private final boolean http2Enabled;
+
+    private ClientSettings(Config config) {
+        this.trustKeyStore = config.getTrustKeyStore();
+        this.clientKeyStore = config.getClientKeyStore();
+        this.clientKeyStorePassword = config.getClientKeyStorePassword();
+        this.terminalCertificate = config.getTerminalCertificate();
+        this.environment = config.getEnvironment();
+        this.maxConnectionsTotal = config.getMaxConnectionsTotal();
+        this.maxConnectionsPerRoute = config.getMaxConnectionsPerRoute();
+        this.connectionIdleTimeoutMillis = config.getConnectionIdleTimeoutMillis();
+        this.http2Enabled = config.isHttp2Enabled();
+    }
+
+    static ClientSettings of(Config config) {
+        return new ClientSettings(config);
+    }
+
+    /**
+     * Allocation free check whether the config still has the settings of this snapshot
+     */
+    boolean matches(Config config) {
+        return trustKeyStore == config.getTrustKeyStore()
+                && clientKeyStore == config.getClientKeyStore()
+                && Objects.equals(clientKeyStorePassword, config.getClientKeyStorePassword())
+                && terminalCertificate == config.getTerminalCertificate()
+                && environment == config.getEnvironment()
+                && maxConnectionsTotal == config.getMaxConnectionsTotal()
+                && maxConnectionsPerRoute == config.getMaxConnectionsPerRoute()
+                && connectionIdleTimeoutMillis == config.getConnectionIdleTimeoutMillis()
+                && http2Enabled == config.isHttp2Enabled();
+    }
+}
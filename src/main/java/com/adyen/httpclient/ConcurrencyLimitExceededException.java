@@ -0,0 +1,46 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.httpclient;
+
+import java.io.IOException;
+
+/**
+ * Thrown when a request waited longer than the maximum wait of its {@link ConcurrencyLimiter} for a permit.
+ * The request was not sent.
+ */
+public class ConcurrencyLimitExceededException extends IOException {
+    private final String endpoint;
+    private final int limit;
+
+    public ConcurrencyLimitExceededException(String endpoint, int limit) {
+        super("Concurrency limit of " + limit + " reached for " + endpoint);
+        this.endpoint = endpoint;
+        this.limit = limit;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+}
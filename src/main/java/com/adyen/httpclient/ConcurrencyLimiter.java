@@ -0,0 +1,174 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.httpclient;
+
+import com.adyen.Config;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Limits the concurrent requests per {@link Config} (i.e. per API key) and endpoint to an {@link AdaptiveLimit} that
+ * follows the capacity of the service, so that bursts queue on the client instead of being throttled with 429 responses.
+ * Enable it for all services with {@link com.adyen.Config#setConcurrencyLimiter(ConcurrencyLimiter)}, which runs it
+ * after the interceptors of the client, or register it with {@link com.adyen.Client#addInterceptor(ClientInterceptor)}.
+ * <p>
+ * Requests above the limit wait up to the maximum wait for a permit, then fail with a
+ * {@link ConcurrencyLimitExceededException} without being sent. When combined with a {@link RetryPolicy},
+ * every attempt takes its own permit and no permit is held during the backoff.
+ * Limits are held only as long as their config is reachable, and no credentials are kept.
+ */
+public class ConcurrencyLimiter implements ClientInterceptor {
+    public static final int DEFAULT_INITIAL_LIMIT = 20;
+    public static final int DEFAULT_MIN_LIMIT = 1;
+    public static final int DEFAULT_MAX_LIMIT = 200;
+    public static final double DEFAULT_BACKOFF_RATIO = 0.9;
+    public static final double DEFAULT_LATENCY_TOLERANCE = 3;
+    public static final long DEFAULT_MAX_WAIT_MILLIS = 1000;
+
+    // weak, identity based keys: Config does not override equals
+    private final Map<Config, ConcurrentMap<String, AdaptiveLimit>> limits = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private int initialLimit = DEFAULT_INITIAL_LIMIT;
+    private int minLimit = DEFAULT_MIN_LIMIT;
+    private int maxLimit = DEFAULT_MAX_LIMIT;
+    private double backoffRatio = DEFAULT_BACKOFF_RATIO;
+    private double latencyTolerance = DEFAULT_LATENCY_TOLERANCE;
+    private long maxWaitMillis = DEFAULT_MAX_WAIT_MILLIS;
+
+    public int getInitialLimit() {
+        return initialLimit;
+    }
+
+    public void setInitialLimit(int initialLimit) {
+        this.initialLimit = initialLimit;
+    }
+
+    public int getMinLimit() {
+        return minLimit;
+    }
+
+    public void setMinLimit(int minLimit) {
+        this.minLimit = minLimit;
+    }
+
+    public int getMaxLimit() {
+        return maxLimit;
+    }
+
+    public void setMaxLimit(int maxLimit) {
+        this.maxLimit = maxLimit;
+    }
+
+    public double getBackoffRatio() {
+        return backoffRatio;
+    }
+
+    /**
+     * @param backoffRatio factor, between 0 and 1, applied to the limit when a request is throttled or slow
+     */
+    public void setBackoffRatio(double backoffRatio) {
+        this.backoffRatio = backoffRatio;
+    }
+
+    public double getLatencyTolerance() {
+        return latencyTolerance;
+    }
+
+    /**
+     * @param latencyTolerance multiple of the baseline latency from which a request counts as slow, zero or less
+     *                         to adapt to throttling and timeouts only
+     */
+    public void setLatencyTolerance(double latencyTolerance) {
+        this.latencyTolerance = latencyTolerance;
+    }
+
+    public long getMaxWaitMillis() {
+        return maxWaitMillis;
+    }
+
+    /**
+     * @param maxWaitMillis time a request waits for a permit before failing
+     */
+    public void setMaxWaitMillis(long maxWaitMillis) {
+        this.maxWaitMillis = maxWaitMillis;
+    }
+
+    /**
+     * @param config configuration of the requests
+     * @param endpoint endpoint, with unresolved path parameters for the service methods
+     * @return limit of the config and endpoint, created when missing
+     */
+    public AdaptiveLimit getLimit(Config config, String endpoint) {
+        return limits.computeIfAbsent(config, c -> new ConcurrentHashMap<>())
+                .computeIfAbsent(endpoint, e -> new AdaptiveLimit(endpoint, this));
+    }
+
+    @Override
+    public <T> ClientResponse<T> intercept(Chain<T> chain) throws IOException, HTTPClientException {
+        return execute(chain.request(), chain::proceed);
+    }
+
+    /**
+     * Sends the request once a permit of its config and {@link ClientRequest#getEndpointTemplate() endpoint template}
+     * is available.
+     *
+     * @param request request
+     * @param transport transport
+     * @param <T> type of the response body
+     * @return response
+     * @throws ConcurrencyLimitExceededException when no permit became available within the maximum wait
+     * @throws IOException failure of the request
+     * @throws HTTPClientException failure of the request
+     */
+    public <T> ClientResponse<T> execute(ClientRequest request, InterceptorChain.Transport<T> transport) throws IOException, HTTPClientException {
+        AdaptiveLimit limit = getLimit(request.getConfig(), request.getEndpointTemplate());
+        limit.acquire(maxWaitMillis);
+        long startNanos = System.nanoTime();
+        Boolean dropped = null;
+        try {
+            ClientResponse<T> response = transport.execute(request);
+            dropped = false;
+            return response;
+        } catch (HTTPClientException e) {
+            dropped = isDropped(e);
+            throw e;
+        } catch (SocketTimeoutException e) {
+            dropped = true;
+            throw e;
+        } finally {
+            limit.release(System.nanoTime() - startNanos, dropped);
+        }
+    }
+
+    /**
+     * @param e HTTP error of the request
+     * @return whether the error signals that the service is over capacity
+     */
+    protected boolean isDropped(HTTPClientException e) {
+        return e.getCode() == 429 || e.getCode() == 503;
+    }
+}
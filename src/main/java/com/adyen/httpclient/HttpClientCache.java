@@ -0,0 +1,156 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.httpclient;
+
+import com.adyen.Config;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.io.ModalCloseable;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Holds one long-lived HTTP client per {@link Config}.
+ * A client is rebuilt only when the settings it was built from (key stores, certificates, pool sizes, idle timeout,
+ * protocol version) change on its config.
+ * Requests lease the client of their config; a replaced client keeps serving its in-flight requests
+ * and is closed gracefully as soon as the last of them releases its lease.
+ */
+final class HttpClientCache<T extends ModalCloseable> {
+
+    @FunctionalInterface
+    interface Factory<T> {
+        T create(Config config) throws HTTPClientException;
+    }
+
+    private final ConcurrentMap<Config, Entry<T>> clients = new ConcurrentHashMap<>();
+    private final Factory<T> factory;
+
+    HttpClientCache(Factory<T> factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * Leases the client of the given config, creating it on first use.
+     * The returned entry must be closed once the request completed, e.g. with try-with-resources.
+     */
+    Entry<T> acquire(Config config) throws HTTPClientException {
+        while (true) {
+            Entry<T> entry = current(config);
+            if (entry.acquire()) {
+                return entry;
+            }
+            // replaced by another thread between the lookup and the lease
+        }
+    }
+
+    private Entry<T> current(Config config) throws HTTPClientException {
+        Entry<T> entry = clients.get(config);
+        if (entry == null || !entry.settings.matches(config)) {
+            synchronized (clients) {
+                entry = clients.get(config);
+                if (entry == null || !entry.settings.matches(config)) {
+                    Entry<T> previous = entry;
+                    entry = new Entry<>(ClientSettings.of(config), factory.create(config));
+                    clients.put(config, entry);
+                    if (previous != null) {
+                        previous.retire();
+                    }
+                }
+            }
+        }
+        return entry;
+    }
+
+    /**
+     * Drops the client of the given config, e.g. after the config was replaced.
+     * The client is closed once its in-flight requests completed; a later request with the config builds a new one.
+     */
+    void release(Config config) {
+        Entry<T> entry = clients.remove(config);
+        if (entry != null) {
+            entry.retire();
+        }
+    }
+
+    /**
+     * Closes all clients and their connections, each once its in-flight requests completed
+     */
+    void close() {
+        for (Config config : clients.keySet()) {
+            release(config);
+        }
+    }
+
+    /**
+     * Client of a config together with the number of requests using it
+     */
+    static final class Entry<T extends ModalCloseable> implements AutoCloseable {
+        private final ClientSettings settings;
+        private final T client;
+        private final AtomicInteger leases = new AtomicInteger();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private volatile boolean retired;
+
+        private Entry(ClientSettings settings, T client) {
+            this.settings = settings;
+            this.client = client;
+        }
+
+        T client() {
+            return client;
+        }
+
+        private boolean acquire() {
+            leases.incrementAndGet();
+            if (retired) {
+                close();
+                return false;
+            }
+            return true;
+        }
+
+        private void retire() {
+            retired = true;
+            if (leases.get() == 0) {
+                closeClient();
+            }
+        }
+
+        /**
+         * Releases the lease, closing the client when it was replaced and this was its last request
+         */
+        @Override
+        public void close() {
+            if (leases.decrementAndGet() == 0 && retired) {
+                closeClient();
+            }
+        }
+
+        private void closeClient() {
+            if (closed.compareAndSet(false, true)) {
+                client.close(CloseMode.GRACEFUL);
+            }
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.httpclient;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Runs a request through a list of {@link ClientInterceptor}s and then the transport.
+ *
+ * @param <T> type of the response body
+ */
+public final class InterceptorChain<T> implements ClientInterceptor.Chain<T> {
+
+    /**
+     * Sends the request once all interceptors have run, usually through a {@link ClientInterface}.
+     *
+     * @param <T> type of the response body
+     */
+    @FunctionalInterface
+    public interface Transport<T> {
+        ClientResponse<T> execute(ClientRequest request) throws IOException, HTTPClientException;
+    }
+
+    private final List<ClientInterceptor> interceptors;
+    private final int index;
+    private final ClientRequest request;
+    private final Transport<T> transport;
+
+    private InterceptorChain(List<ClientInterceptor> interceptors, int index, ClientRequest request, Transport<T> transport) {
+        this.interceptors = interceptors;
+        this.index = index;
+        this.request = request;
+        this.transport = transport;
+    }
+
+    /**
+     * Runs the request through the interceptors and the transport.
+     *
+     * @param interceptors interceptors, the first one being the outermost
+     * @param request request
+     * @param transport transport
+     * @param <T> type of the response body
+     * @return response
+     * @throws IOException IOException
+     * @throws HTTPClientException HTTPClientException
+     */
+    public static <T> ClientResponse<T> proceed(List<ClientInterceptor> interceptors, ClientRequest request, Transport<T> transport) throws IOException, HTTPClientException {
+        if (interceptors.isEmpty()) {
+            return transport.execute(request);
+        }
+        return new InterceptorChain<>(interceptors, 0, request, transport).proceed(request);
+    }
+
+    @Override
+    public ClientRequest request() {
+        return request;
+    }
+
+    @Override
+    public ClientResponse<T> proceed(ClientRequest request) throws IOException, HTTPClientException {
+        if (index >= interceptors.size()) {
+            return transport.execute(request);
+        }
+        return interceptors.get(index).intercept(new InterceptorChain<>(interceptors, index + 1, request, transport));
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.httpclient;
+
+import com.adyen.serializer.GsonModelSerializer;
+import com.adyen.serializer.ModelSerializer;
+import com.google.gson.Gson;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.io.entity.AbstractHttpEntity;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Request entity serializing a model straight into the connection's output stream, without building the
+ * intermediate JSON String and its byte copy.
+ * <p>
+ * In chunked mode the model is written while it is sent and no content length is announced.
+ * Otherwise the model is serialized once into a byte buffer so the Content-Length is known up front:
+ * this known-length mode, the default, still holds the full serialized body in memory for the lifetime
+ * of the entity (and {@link #getContent()} copies it), it only saves the JSON String. Use chunked mode,
+ * see {@link com.adyen.Config#setChunkedRequestStreaming(boolean)}, to keep large payloads out of memory.
+ */
+public class JsonStreamingEntity extends AbstractHttpEntity {
+
+    private final ModelSerializer serializer;
+    private final Object model;
+    private ByteArrayOutputStream buffer;
+
+    public JsonStreamingEntity(Gson gson, Object model, boolean chunked) {
+        this(new GsonModelSerializer(gson), model, chunked);
+    }
+
+    public JsonStreamingEntity(ModelSerializer serializer, Object model, boolean chunked) {
+        super(ContentType.APPLICATION_JSON, null, chunked);
+        this.serializer = serializer;
+        this.model = model;
+    }
+
+    @Override
+    public long getContentLength() {
+        if (isChunked()) {
+            return -1;
+        }
+        return getBuffer().size();
+    }
+
+    @Override
+    public InputStream getContent() {
+        return new ByteArrayInputStream(getBuffer().toByteArray());
+    }
+
+    @Override
+    public void writeTo(OutputStream outStream) throws IOException {
+        if (isChunked()) {
+            write(outStream);
+        } else {
+            getBuffer().writeTo(outStream);
+        }
+    }
+
+    @Override
+    public boolean isRepeatable() {
+        return true;
+    }
+
+    @Override
+    public boolean isStreaming() {
+        return false;
+    }
+
+    @Override
+    public void close() {
+        // no resources to release
+    }
+
+    private ByteArrayOutputStream getBuffer() {
+        if (buffer == null) {
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            try {
+                write(outputStream);
+            } catch (IOException e) {
+                // in-memory stream, cannot happen
+                throw new IllegalStateException(e);
+            }
+            buffer = outputStream;
+        }
+        return buffer;
+    }
+
+    private void write(OutputStream outStream) throws IOException {
+        serializer.toJson(model, new OutputStreamWriter(outStream, StandardCharsets.UTF_8));
+    }
+}
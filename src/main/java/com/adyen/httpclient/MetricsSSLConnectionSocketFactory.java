@@ -0,0 +1,76 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.httpclient;
+
+import com.adyen.metrics.MetricsContext;
+import com.adyen.metrics.Phase;
+import org.apache.hc.client5.http.ssl.HttpsSupport;
+import org.apache.hc.client5.http.ssl.SSLConnectionSocketFactory;
+import org.apache.hc.core5.http.protocol.HttpContext;
+
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSocketFactory;
+import java.io.IOException;
+import java.net.Socket;
+
+/**
+ * Times the TLS handshakes of new connections, direct or through a proxy tunnel, for the {@link MetricsContext}
+ * of the current thread. The duration is also left in the {@link HttpContext}, so that the {@link MetricsConnectionManager}
+ * can report the connect without it.
+ */
+final class MetricsSSLConnectionSocketFactory extends SSLConnectionSocketFactory {
+    static final String HANDSHAKE_NANOS = "adyen.tls-handshake-nanos";
+
+    MetricsSSLConnectionSocketFactory(SSLContext sslContext, HostnameVerifier hostnameVerifier) {
+        super(sslContext, hostnameVerifier);
+    }
+
+    private MetricsSSLConnectionSocketFactory(SSLSocketFactory socketFactory, String[] protocols, String[] cipherSuites, HostnameVerifier hostnameVerifier) {
+        super(socketFactory, protocols, cipherSuites, hostnameVerifier);
+    }
+
+    /**
+     * Same configuration as {@link SSLConnectionSocketFactory#getSystemSocketFactory()}
+     */
+    static MetricsSSLConnectionSocketFactory system() {
+        return new MetricsSSLConnectionSocketFactory((SSLSocketFactory) SSLSocketFactory.getDefault(),
+                HttpsSupport.getSystemProtocols(), HttpsSupport.getSystemCipherSuits(), HttpsSupport.getDefaultHostnameVerifier());
+    }
+
+    @Override
+    public Socket createLayeredSocket(Socket socket, String target, int port, Object attachment, HttpContext context) throws IOException {
+        MetricsContext metrics = MetricsContext.current();
+        if (metrics == null) {
+            return super.createLayeredSocket(socket, target, port, attachment, context);
+        }
+        long start = System.nanoTime();
+        try {
+            return super.createLayeredSocket(socket, target, port, attachment, context);
+        } finally {
+            long durationNanos = System.nanoTime() - start;
+            metrics.record(Phase.TLS_HANDSHAKE, durationNanos);
+            if (context != null) {
+                context.setAttribute(HANDSHAKE_NANOS, durationNanos);
+            }
+        }
+    }
+}
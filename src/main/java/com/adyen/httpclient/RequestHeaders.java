@@ -0,0 +1,121 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.httpclient;
+
+import com.adyen.Client;
+import com.adyen.Config;
+import org.apache.commons.codec.binary.Base64;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpRequest;
+import org.apache.hc.core5.http.message.BasicHeader;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static com.adyen.constants.ApiConstants.RequestProperty.ACCEPT_CHARSET;
+import static com.adyen.constants.ApiConstants.RequestProperty.API_KEY;
+import static com.adyen.constants.ApiConstants.RequestProperty.APPLICATION_JSON_TYPE;
+import static com.adyen.constants.ApiConstants.RequestProperty.CONTENT_TYPE;
+import static com.adyen.constants.ApiConstants.RequestProperty.USER_AGENT;
+
+/**
+ * Immutable headers sent with every request of a {@link Config}: content type, charset, user agent and credentials.
+ * Built once from a snapshot of the application name and credentials of the config, and rebuilt when one of them
+ * changes.
+ */
+final class RequestHeaders {
+    private static final String AUTHORIZATION = "Authorization";
+    private static final Header CONTENT_TYPE_HEADER = new BasicHeader(CONTENT_TYPE, APPLICATION_JSON_TYPE);
+    private static final Header ACCEPT_CHARSET_HEADER = new BasicHeader(ACCEPT_CHARSET, AdyenHttpClient.CHARSET);
+
+    private final String applicationName;
+    private final String apiKey;
+    private final String username;
+    private final String password;
+
+    private final Header userAgent;
+    private final Header apiKeyHeader;
+    private final Header basicAuthentication;
+
+    private RequestHeaders(Config config) {
+        this.applicationName = config.getApplicationName();
+        this.apiKey = config.getApiKey();
+        this.username = config.getUsername();
+        this.password = config.getPassword();
+
+        this.userAgent = new BasicHeader(USER_AGENT, applicationName + " " + Client.LIB_NAME + "/" + Client.LIB_VERSION);
+        this.apiKeyHeader = apiKey != null && !apiKey.isEmpty() ? new BasicHeader(API_KEY, apiKey) : null;
+        String credentials = username + ":" + password;
+        this.basicAuthentication = new BasicHeader(AUTHORIZATION, "Basic " + Base64.encodeBase64String(credentials.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    static RequestHeaders of(Config config) {
+        return new RequestHeaders(config);
+    }
+
+    /**
+     * Allocation free check whether the config still has the settings of this snapshot
+     */
+    boolean matches(Config config) {
+        return Objects.equals(applicationName, config.getApplicationName())
+                && Objects.equals(apiKey, config.getApiKey())
+                && Objects.equals(username, config.getUsername())
+                && Objects.equals(password, config.getPassword());
+    }
+
+    /**
+     * Adds the headers to the request. The API key is used if required or if provided, basic authentication otherwise.
+     */
+    void apply(HttpRequest httpRequest, boolean isApiKeyRequired) {
+        if (isApiKeyRequired || apiKeyHeader != null) {
+            if (apiKeyHeader != null) {
+                httpRequest.addHeader(apiKeyHeader);
+            }
+        } else {
+            httpRequest.addHeader(basicAuthentication);
+        }
+        httpRequest.addHeader(CONTENT_TYPE_HEADER);
+        httpRequest.addHeader(ACCEPT_CHARSET_HEADER);
+        httpRequest.addHeader(userAgent);
+    }
+
+    /**
+     * Holds the headers of each {@link Config} used by an HTTP client
+     */
+    static final class Cache {
+        private final ConcurrentMap<Config, RequestHeaders> headers = new ConcurrentHashMap<>();
+
+        RequestHeaders get(Config config) {
+            RequestHeaders result = headers.get(config);
+            if (result == null || !result.matches(config)) {
+                result = of(config);
+                headers.put(config, result);
+            }
+            return result;
+        }
+
+        void clear() {
+            headers.clear();
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.httpclient;
+
+import org.apache.hc.core5.http.Header;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Read-only view of the response headers as a map of header name to values.
+ * Names are case-insensitive and repeated headers keep all their values, in order.
+ * Single lookups scan the headers; the map is only built when it is iterated.
+ */
+final class ResponseHeaders extends AbstractMap<String, List<String>> implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final Header[] headers;
+    private transient volatile Map<String, List<String>> map;
+
+    ResponseHeaders(Header[] headers) {
+        this.headers = headers == null ? new Header[0] : headers;
+    }
+
+    @Override
+    public List<String> get(Object key) {
+        Map<String, List<String>> result = map;
+        if (result != null) {
+            return result.get(key);
+        }
+        if (!(key instanceof String)) {
+            return null;
+        }
+        List<String> values = null;
+        for (Header header : headers) {
+            if (header.getName().equalsIgnoreCase((String) key)) {
+                if (values == null) {
+                    values = new ArrayList<>(1);
+                }
+                values.add(header.getValue());
+            }
+        }
+        return values == null ? null : Collections.unmodifiableList(values);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return headers.length == 0;
+    }
+
+    @Override
+    public Set<Entry<String, List<String>>> entrySet() {
+        return materialize().entrySet();
+    }
+
+    private Map<String, List<String>> materialize() {
+        Map<String, List<String>> result = map;
+        if (result == null) {
+            TreeMap<String, List<String>> grouped = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            for (Header header : headers) {
+                grouped.computeIfAbsent(header.getName(), name -> new ArrayList<>(1)).add(header.getValue());
+            }
+            for (Entry<String, List<String>> entry : grouped.entrySet()) {
+                entry.setValue(Collections.unmodifiableList(entry.getValue()));
+            }
+            result = Collections.unmodifiableMap(grouped);
+            map = result;
+        }
+        return result;
+    }
+}
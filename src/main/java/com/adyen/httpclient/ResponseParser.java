@@ -0,0 +1,40 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.httpclient;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Parses a response body while it is read from the connection.
+ *
+ * @param <T> type of the parsed response
+ */
+@FunctionalInterface
+public interface ResponseParser<T> {
+
+    /**
+     * @param reader response body; empty when the response has no body
+     * @return parsed response
+     * @throws IOException when reading or parsing fails
+     */
+    T parse(Reader reader) throws IOException;
+}
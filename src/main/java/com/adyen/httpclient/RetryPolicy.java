@@ -0,0 +1,281 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.httpclient;
+
+import com.adyen.constants.ApiConstants;
+import com.adyen.model.RequestOptions;
+import org.apache.hc.client5.http.ConnectTimeoutException;
+import org.apache.hc.client5.http.utils.DateUtils;
+import org.apache.hc.core5.http.NoHttpResponseException;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.net.UnknownHostException;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Retries failed requests with exponential backoff and full jitter, honouring Retry-After, within a total deadline.
+ * Enable it for all services with {@link com.adyen.Config#setRetryPolicy(RetryPolicy)}.
+ * <p>
+ * POST and PATCH requests get a generated Idempotency-Key when none is set, so that retrying them cannot
+ * duplicate a payment. Requests are retried when:
+ * <ul>
+ *     <li>the connection could not be established, as the request was not sent</li>
+ *     <li>the response status is 429</li>
+ *     <li>the response status is 500, 502, 503 or 504, or the connection failed after the request was sent,
+ *     for GET and DELETE requests and requests with an Idempotency-Key</li>
+ * </ul>
+ */
+public class RetryPolicy implements ClientInterceptor {
+    public static final int DEFAULT_MAX_ATTEMPTS = 3;
+    public static final long DEFAULT_INITIAL_BACKOFF_MILLIS = 100;
+    public static final long DEFAULT_MAX_BACKOFF_MILLIS = 5000;
+    public static final long DEFAULT_DEADLINE_MILLIS = 30000;
+
+    private static final String RETRY_AFTER = "Retry-After";
+
+    private int maxAttempts = DEFAULT_MAX_ATTEMPTS;
+    private long initialBackoffMillis = DEFAULT_INITIAL_BACKOFF_MILLIS;
+    private long maxBackoffMillis = DEFAULT_MAX_BACKOFF_MILLIS;
+    private double backoffMultiplier = 2;
+    private long deadlineMillis = DEFAULT_DEADLINE_MILLIS;
+    private boolean generateIdempotencyKey = true;
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * @param maxAttempts maximum number of attempts, including the first one
+     */
+    public void setMaxAttempts(int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+    }
+
+    public long getInitialBackoffMillis() {
+        return initialBackoffMillis;
+    }
+
+    public void setInitialBackoffMillis(long initialBackoffMillis) {
+        this.initialBackoffMillis = initialBackoffMillis;
+    }
+
+    public long getMaxBackoffMillis() {
+        return maxBackoffMillis;
+    }
+
+    /**
+     * Upper bound of the backoff between two attempts. A request whose Retry-After asks to wait longer is not retried,
+     * whether or not a deadline is set.
+     *
+     * @param maxBackoffMillis maximum delay in milliseconds
+     */
+    public void setMaxBackoffMillis(long maxBackoffMillis) {
+        this.maxBackoffMillis = maxBackoffMillis;
+    }
+
+    public double getBackoffMultiplier() {
+        return backoffMultiplier;
+    }
+
+    public void setBackoffMultiplier(double backoffMultiplier) {
+        this.backoffMultiplier = backoffMultiplier;
+    }
+
+    public long getDeadlineMillis() {
+        return deadlineMillis;
+    }
+
+    /**
+     * No retry is started when it could not complete its backoff within this time from the start of the request.
+     * Zero or less disables the deadline.
+     *
+     * @param deadlineMillis total time in milliseconds
+     */
+    public void setDeadlineMillis(long deadlineMillis) {
+        this.deadlineMillis = deadlineMillis;
+    }
+
+    public boolean isGenerateIdempotencyKey() {
+        return generateIdempotencyKey;
+    }
+
+    /**
+     * @param generateIdempotencyKey false to retry POST and PATCH requests only when the caller set an Idempotency-Key
+     */
+    public void setGenerateIdempotencyKey(boolean generateIdempotencyKey) {
+        this.generateIdempotencyKey = generateIdempotencyKey;
+    }
+
+    @Override
+    public <T> ClientResponse<T> intercept(Chain<T> chain) throws IOException, HTTPClientException {
+        return execute(chain.request(), chain::proceed);
+    }
+
+    /**
+     * Sends the request, retrying it when allowed.
+     *
+     * @param request request
+     * @param transport transport
+     * @param <T> type of the response body
+     * @return response
+     * @throws IOException failure of the last attempt
+     * @throws HTTPClientException failure of the last attempt
+     */
+    public <T> ClientResponse<T> execute(ClientRequest request, InterceptorChain.Transport<T> transport) throws IOException, HTTPClientException {
+        if (generateIdempotencyKey) {
+            setIdempotencyKey(request);
+        }
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transport.execute(request);
+            } catch (HTTPClientException e) {
+                if (!isRetryable(request, e) || !backoff(request, attempt, getRetryAfterMillis(e))) {
+                    throw e;
+                }
+            } catch (IOException e) {
+                if (!isRetryable(request, e) || !backoff(request, attempt, 0)) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /**
+     * @param request request
+     * @param e failure
+     * @return whether the request can be retried safely after this failure
+     */
+    protected boolean isRetryable(ClientRequest request, HTTPClientException e) {
+        switch (e.getCode()) {
+            case 429:
+                return true;
+            case 500:
+            case 502:
+            case 503:
+            case 504:
+                return isIdempotent(request);
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * @param request request
+     * @param e failure
+     * @return whether the request can be retried safely after this failure
+     */
+    protected boolean isRetryable(ClientRequest request, IOException e) {
+        if (e instanceof ConnectException || e instanceof ConnectTimeoutException
+                || e instanceof NoRouteToHostException || e instanceof UnknownHostException) {
+            return true;
+        }
+        return (e instanceof SocketTimeoutException || e instanceof NoHttpResponseException || e instanceof SocketException)
+                && isIdempotent(request);
+    }
+
+    /**
+     * @param attempt number of the failed attempt, starting at 1
+     * @return randomized backoff before the next attempt in milliseconds
+     */
+    protected long getBackoffMillis(int attempt) {
+        double backoff = initialBackoffMillis * Math.pow(backoffMultiplier, attempt - 1);
+        long maxBackoff = (long) Math.min(backoff, maxBackoffMillis);
+        return maxBackoff <= 0 ? 0 : ThreadLocalRandom.current().nextLong(maxBackoff + 1);
+    }
+
+    private boolean backoff(ClientRequest request, int attempt, long retryAfterMillis) throws InterruptedIOException {
+        if (attempt >= maxAttempts || retryAfterMillis > maxBackoffMillis) {
+            return false;
+        }
+        long delayMillis = Math.max(getBackoffMillis(attempt), retryAfterMillis);
+        if (deadlineMillis > 0 && TimeUnit.NANOSECONDS.toMillis(request.getElapsedNanos()) + delayMillis > deadlineMillis) {
+            return false;
+        }
+        try {
+            Thread.sleep(delayMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting to retry");
+        }
+        return true;
+    }
+
+    private static boolean isIdempotent(ClientRequest request) {
+        ApiConstants.HttpMethod httpMethod = request.getHttpMethod();
+        if (httpMethod == ApiConstants.HttpMethod.GET || httpMethod == ApiConstants.HttpMethod.DELETE) {
+            return true;
+        }
+        RequestOptions requestOptions = request.getRequestOptions();
+        return requestOptions != null && requestOptions.getIdempotencyKey() != null;
+    }
+
+    private static void setIdempotencyKey(ClientRequest request) {
+        ApiConstants.HttpMethod httpMethod = request.getHttpMethod();
+        if (httpMethod == ApiConstants.HttpMethod.GET || httpMethod == ApiConstants.HttpMethod.DELETE) {
+            return;
+        }
+        RequestOptions requestOptions = request.getRequestOptions();
+        if (requestOptions != null && requestOptions.getIdempotencyKey() != null) {
+            return;
+        }
+        RequestOptions result = new RequestOptions();
+        result.setIdempotencyKey(UUID.randomUUID().toString());
+        if (requestOptions != null) {
+            result.setAdditionalServiceHeaders(requestOptions.getAdditionalServiceHeaders());
+        }
+        request.setRequestOptions(result);
+    }
+
+    private static long getRetryAfterMillis(HTTPClientException e) {
+        Map<String, List<String>> headers = e.getResponseHeaders();
+        if (headers == null) {
+            return 0;
+        }
+        for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+            if (RETRY_AFTER.equalsIgnoreCase(header.getKey()) && header.getValue() != null && !header.getValue().isEmpty()) {
+                return parseRetryAfterMillis(header.getValue().get(0));
+            }
+        }
+        return 0;
+    }
+
+    static long parseRetryAfterMillis(String value) {
+        if (value == null) {
+            return 0;
+        }
+        try {
+            return TimeUnit.SECONDS.toMillis(Math.max(0, Long.parseLong(value.trim())));
+        } catch (NumberFormatException e) {
+            Instant date = DateUtils.parseStandardDate(value);
+            return date == null ? 0 : Math.max(0, date.toEpochMilli() - System.currentTimeMillis());
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.httpclient;
+
+import com.adyen.Config;
+import com.adyen.enums.Environment;
+import com.adyen.terminal.security.TerminalCommonNameValidator;
+
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLPeerUnverifiedException;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.TrustManagerFactory;
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.security.cert.X509Certificate;
+
+/**
+ * Creates the SSL contexts used for client certificate authentication and for the local terminal API.
+ * Shared by the blocking and the asynchronous HTTP clients.
+ * Contexts are not cached here: a context is created together with the pooled client of a config,
+ * lives as long as that client and serves all its connections, so TLS sessions held in its session
+ * cache are resumed by every new connection without retaining key stores beyond the client.
+ */
+final class SSLContextFactory {
+
+    private static final String TERMINAL_CERTIFICATE_ALIAS = "TerminalCertificate";
+    private static final String SSL = "SSL";
+    private static final String TLSV1_2 = "TLSv1.2";
+
+    private SSLContextFactory() {
+    }
+
+    /**
+     * SSL context trusting only the terminal certificate of the config
+     */
+    static SSLContext createTerminalCertificateSSLContext(Config config) throws HTTPClientException {
+        try {
+            // Create new KeyStore for the terminal certificate
+            KeyStore keyStore = KeyStore.getInstance(KeyStore.getDefaultType());
+            keyStore.load(null, null);
+            keyStore.setCertificateEntry(TERMINAL_CERTIFICATE_ALIAS, config.getTerminalCertificate());
+
+            TrustManagerFactory trustFactory =
+                    TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+            trustFactory.init(keyStore);
+            TrustManager[] trustManagers = trustFactory.getTrustManagers();
+
+            // Install the terminal certificate trust manager
+            SSLContext sc = SSLContext.getInstance(SSL);
+            // null selects the default SecureRandom of the provider
+            sc.init(null, trustManagers, null);
+            return sc;
+        } catch (GeneralSecurityException | IOException e) {
+            throw new HTTPClientException("Error loading certificate from path", e);
+        }
+    }
+
+    /**
+     * SSL context presenting the client certificate and trusting the trust store of the config
+     */
+    static SSLContext createClientCertificateSSLContext(Config config) throws HTTPClientException {
+        try {
+            char[] password = null;
+            if (config.getClientKeyStorePassword() != null && !config.getClientKeyStorePassword().isEmpty()) {
+                password = config.getClientKeyStorePassword().toCharArray();
+            }
+
+            // Create a TrustManager that trusts the CAs in our Trust KeyStore
+            TrustManagerFactory tmf = TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+            tmf.init(config.getTrustKeyStore());
+
+            KeyManagerFactory keyManagerFactory = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+            keyManagerFactory.init(config.getClientKeyStore(), password);
+
+            // Create an SSLContext that uses our TrustManager
+            SSLContext context = SSLContext.getInstance(TLSV1_2);
+            context.init(keyManagerFactory.getKeyManagers(), tmf.getTrustManagers(), null);
+            return context;
+        } catch (Exception e) {
+            throw new HTTPClientException("Error creating SSL Context", e);
+        }
+    }
+
+    /**
+     * Hostname verifier validating the common name of the terminal certificate
+     */
+    static HostnameVerifier createTerminalHostnameVerifier(final Environment environment) {
+        return (host, session) -> {
+            try {
+                if (session.getPeerCertificates() != null && session.getPeerCertificates().length > 0) {
+                    // Assume the first certificate is the leaf, since chain will be ordered, according to Java documentation:
+                    // https://docs.oracle.com/javase/7/docs/api/javax/net/ssl/SSLSession.html#getPeerCertificates()
+                    X509Certificate certificate = (X509Certificate) session.getPeerCertificates()[0];
+                    return TerminalCommonNameValidator.validateCertificate(certificate, environment);
+                }
+                return false;
+            } catch (SSLPeerUnverifiedException e) {
+                e.printStackTrace();
+                return false;
+            }
+        };
+    }
+}
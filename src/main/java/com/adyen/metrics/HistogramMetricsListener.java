@@ -0,0 +1,125 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link MetricsListener} keeping a {@link Histogram} per endpoint and phase
+ * and counters per endpoint for HTTP status codes and ApiException error codes.
+ */
+public class HistogramMetricsListener implements MetricsListener {
+    private static final String NO_ERROR_CODE = "";
+
+    private final ConcurrentMap<String, EndpointMetrics> endpoints = new ConcurrentHashMap<>();
+
+    @Override
+    public void onPhase(String endpoint, Phase phase, long durationNanos) {
+        getOrCreate(endpoint).histograms[phase.ordinal()].record(durationNanos);
+    }
+
+    @Override
+    public void onHttpStatus(String endpoint, int statusCode) {
+        increment(getOrCreate(endpoint).statusCodes, statusCode);
+    }
+
+    @Override
+    public void onApiError(String endpoint, String errorCode) {
+        increment(getOrCreate(endpoint).errorCodes, errorCode == null ? NO_ERROR_CODE : errorCode);
+    }
+
+    /**
+     * @return endpoints with recorded metrics
+     */
+    public Set<String> getEndpoints() {
+        return Collections.unmodifiableSet(endpoints.keySet());
+    }
+
+    /**
+     * @param endpoint endpoint template
+     * @param phase phase
+     * @return histogram of the durations in nanoseconds, null when nothing was recorded for the endpoint
+     */
+    public Histogram getHistogram(String endpoint, Phase phase) {
+        EndpointMetrics metrics = endpoints.get(endpoint);
+        return metrics == null ? null : metrics.histograms[phase.ordinal()];
+    }
+
+    public long getHttpStatusCount(String endpoint, int statusCode) {
+        EndpointMetrics metrics = endpoints.get(endpoint);
+        return metrics == null ? 0 : sum(metrics.statusCodes, statusCode);
+    }
+
+    /**
+     * @param endpoint endpoint template
+     * @param errorCode ApiException error code, null for errors without code
+     * @return number of ApiExceptions with the error code
+     */
+    public long getApiErrorCount(String endpoint, String errorCode) {
+        EndpointMetrics metrics = endpoints.get(endpoint);
+        return metrics == null ? 0 : sum(metrics.errorCodes, errorCode == null ? NO_ERROR_CODE : errorCode);
+    }
+
+    /**
+     * Clears all recorded metrics
+     */
+    public void reset() {
+        endpoints.clear();
+    }
+
+    private EndpointMetrics getOrCreate(String endpoint) {
+        EndpointMetrics metrics = endpoints.get(endpoint);
+        if (metrics == null) {
+            metrics = endpoints.computeIfAbsent(endpoint, key -> new EndpointMetrics());
+        }
+        return metrics;
+    }
+
+    private static <K> void increment(ConcurrentMap<K, LongAdder> counters, K key) {
+        LongAdder counter = counters.get(key);
+        if (counter == null) {
+            counter = counters.computeIfAbsent(key, k -> new LongAdder());
+        }
+        counter.increment();
+    }
+
+    private static <K> long sum(Map<K, LongAdder> counters, K key) {
+        LongAdder counter = counters.get(key);
+        return counter == null ? 0 : counter.sum();
+    }
+
+    private static class EndpointMetrics {
+        private final Histogram[] histograms = new Histogram[Phase.values().length];
+        private final ConcurrentMap<Integer, LongAdder> statusCodes = new ConcurrentHashMap<>();
+        private final ConcurrentMap<String, LongAdder> errorCodes = new ConcurrentHashMap<>();
+
+        EndpointMetrics() {
+            for (int i = 0; i < histograms.length; i++) {
+                histograms[i] = new Histogram();
+            }
+        }
+    }
+}
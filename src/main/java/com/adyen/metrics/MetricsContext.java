@@ -0,0 +1,87 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.metrics;
+
+/**
+ * Metrics of the request running on the current thread, so that the transport can report its phases
+ * under the endpoint template of the service. Opened with try-with-resources:
+ * <pre>
+ * try (MetricsContext metrics = MetricsContext.open(listener, endpoint)) {
+ *     ...
+ * }
+ * </pre>
+ */
+public final class MetricsContext implements AutoCloseable {
+    private static final ThreadLocal<MetricsContext> CURRENT = new ThreadLocal<>();
+
+    private final MetricsListener listener;
+    private final String endpoint;
+    private final MetricsContext previous;
+
+    private MetricsContext(MetricsListener listener, String endpoint, MetricsContext previous) {
+        this.listener = listener;
+        this.endpoint = endpoint;
+        this.previous = previous;
+    }
+
+    /**
+     * @param listener listener receiving the metrics
+     * @param endpoint endpoint template the metrics are reported for
+     * @return context bound to the current thread until it is closed
+     */
+    public static MetricsContext open(MetricsListener listener, String endpoint) {
+        MetricsContext context = new MetricsContext(listener, endpoint, CURRENT.get());
+        CURRENT.set(context);
+        return context;
+    }
+
+    /**
+     * @return context bound to the current thread, null when metrics are disabled
+     */
+    public static MetricsContext current() {
+        return CURRENT.get();
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public void record(Phase phase, long durationNanos) {
+        listener.onPhase(endpoint, phase, durationNanos);
+    }
+
+    public void recordHttpStatus(int statusCode) {
+        listener.onHttpStatus(endpoint, statusCode);
+    }
+
+    public void recordApiError(String errorCode) {
+        listener.onApiError(endpoint, errorCode);
+    }
+
+    @Override
+    public void close() {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.metrics;
+
+/**
+ * Receives the metrics of the requests made by the library. Register it with
+ * {@link com.adyen.Config#setMetricsListener(MetricsListener)}.
+ * Methods are called on the request thread and should return quickly; {@link HistogramMetricsListener} is a ready-made implementation.
+ * The endpoint is the url template of the resource, e.g. {@code https://management-test.adyen.com/v1/merchants/{merchantId}}.
+ */
+public interface MetricsListener {
+
+    /**
+     * @param endpoint endpoint template
+     * @param phase measured phase
+     * @param durationNanos duration in nanoseconds
+     */
+    default void onPhase(String endpoint, Phase phase, long durationNanos) {
+    }
+
+    /**
+     * @param endpoint endpoint template
+     * @param statusCode HTTP status code of the response
+     */
+    default void onHttpStatus(String endpoint, int statusCode) {
+    }
+
+    /**
+     * @param endpoint endpoint template
+     * @param errorCode error code of the ApiException, null when the response had none
+     */
+    default void onApiError(String endpoint, String errorCode) {
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.metrics;
+
+/**
+ * Phases of a request measured by the library.
+ */
+public enum Phase {
+    /**
+     * Serializing the request model to json
+     */
+    SERIALIZATION,
+    /**
+     * Waiting for a connection from the pool
+     */
+    CONNECTION_LEASE,
+    /**
+     * Opening a new connection, excluding the TLS handshake
+     */
+    CONNECT,
+    /**
+     * TLS handshake of a new connection, reported by the blocking client
+     */
+    TLS_HANDSHAKE,
+    /**
+     * From sending the request until the response headers are received
+     */
+    TIME_TO_FIRST_BYTE,
+    /**
+     * Reading the response body
+     */
+    BODY_READ,
+    /**
+     * Parsing the response model; includes reading the body for streamed responses
+     */
+    DESERIALIZATION,
+    /**
+     * The whole request as seen by the service
+     */
+    TOTAL
+}
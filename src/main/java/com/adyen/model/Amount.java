@@ -22,8 +22,15 @@ package com.adyen.model;
 
 import com.adyen.util.Util;
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
 import com.google.gson.annotations.SerializedName;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.util.Objects;
 
@@ -111,7 +118,51 @@ public class Amount {
         return sb.toString();
     }
 
-
-
+    /**
+     * Gson adapter binding the fields of Amount without reflection, skipping unknown fields.
+     * Register it on the Gson used to read the model; subclasses keep the reflective adapter.
+     */
+    public static class CustomTypeAdapterFactory implements TypeAdapterFactory {
+        @SuppressWarnings("unchecked")
+        @Override
+        public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+            if (type.getRawType() != Amount.class) {
+                return null;
+            }
+            final TypeAdapter<Long> valueAdapter = gson.getAdapter(Long.class);
+            final TypeAdapter<String> currencyAdapter = gson.getAdapter(String.class);
+
+            return (TypeAdapter<T>) new TypeAdapter<Amount>() {
+                @Override
+                public void write(JsonWriter out, Amount value) throws IOException {
+                    out.beginObject();
+                    out.name("value");
+                    valueAdapter.write(out, value.value);
+                    out.name("currency");
+                    currencyAdapter.write(out, value.currency);
+                    out.endObject();
+                }
+
+                @Override
+                public Amount read(JsonReader in) throws IOException {
+                    Amount instance = new Amount();
+                    in.beginObject();
+                    while (in.hasNext()) {
+                        switch (in.nextName()) {
+                            case "value":
+                                instance.value = valueAdapter.read(in);
+                                break;
+                            case "currency":
+                                instance.currency = currencyAdapter.read(in);
+                                break;
+                            default:
+                                in.skipValue();
+                        }
+                    }
+                    in.endObject();
+                    return instance;
+                }
+            }.nullSafe();
+        }
+    }
 }
-
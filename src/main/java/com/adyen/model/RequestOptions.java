@@ -1,8 +1,11 @@
 package com.adyen.model;
 
+import java.util.Map;
+
 public class RequestOptions {
 
     private String idempotencyKey;
+    private Map<String, String> additionalServiceHeaders;
 
     public String getIdempotencyKey() {
         return idempotencyKey;
@@ -12,5 +15,18 @@ public class RequestOptions {
         this.idempotencyKey = idempotencyKey;
     }
 
+    public Map<String, String> getAdditionalServiceHeaders() {
+        return additionalServiceHeaders;
+    }
+
+    /**
+     * Headers sent in addition to the ones set by the library
+     *
+     * @param additionalServiceHeaders header names and values
+     */
+    public void setAdditionalServiceHeaders(Map<String, String> additionalServiceHeaders) {
+        this.additionalServiceHeaders = additionalServiceHeaders;
+    }
+
 
 }
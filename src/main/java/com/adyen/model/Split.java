@@ -29,6 +29,8 @@ import com.google.gson.stream.JsonWriter;
 
 import java.io.IOException;
 import java.util.Objects;
+import java.util.HashMap;
+import java.util.Map;
 
 import static com.adyen.util.Util.toIndentedString;
 
@@ -78,13 +80,16 @@ public class Split {
             return String.valueOf(value);
         }
 
-        public static TypeEnum fromValue(String text) {
+        private static final Map<String, TypeEnum> BY_VALUE = new HashMap<String, TypeEnum>();
+
+        static {
             for (TypeEnum b : TypeEnum.values()) {
-                if (String.valueOf(b.value).equals(text)) {
-                    return b;
-                }
+                BY_VALUE.put(b.value, b);
             }
-            return null;
+        }
+
+        public static TypeEnum fromValue(String text) {
+            return BY_VALUE.get(text);
         }
 
         public static class Adapter extends TypeAdapter<TypeEnum> {
@@ -22,6 +22,8 @@
 package com.adyen.model;
 
 import java.util.Objects;
+import java.util.HashMap;
+import java.util.Map;
 
 import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.JsonAdapter;
@@ -60,13 +62,16 @@ public class SubjectErasureResponse {
             return String.valueOf(value);
         }
 
-        public static ResultEnum fromValue(String text) {
+        private static final Map<String, ResultEnum> BY_VALUE = new HashMap<String, ResultEnum>();
+
+        static {
             for (ResultEnum b : ResultEnum.values()) {
-                if (String.valueOf(b.value).equals(text)) {
-                    return b;
-                }
+                BY_VALUE.put(b.value, b);
             }
-            return null;
+        }
+
+        public static ResultEnum fromValue(String text) {
+            return BY_VALUE.get(text);
         }
 
         public static class Adapter extends TypeAdapter<ResultEnum> {
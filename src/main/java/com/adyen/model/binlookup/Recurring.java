@@ -28,9 +28,10 @@ import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonWriter;
 
 import java.io.IOException;
-import java.util.Arrays;
 import java.util.Date;
 import java.util.Objects;
+import java.util.HashMap;
+import java.util.Map;
 
 
 import static com.adyen.util.Util.toIndentedString;
@@ -68,10 +69,16 @@ public class Recurring {
             return String.valueOf(value);
         }
 
+        private static final Map<String, ContractEnum> BY_VALUE = new HashMap<String, ContractEnum>();
+
+        static {
+            for (ContractEnum b : ContractEnum.values()) {
+                BY_VALUE.put(b.value, b);
+            }
+        }
+
         public static ContractEnum fromValue(String text) {
-            return Arrays.stream(values()).
-                    filter(s -> s.value.equals(text)).
-                    findFirst().orElse(null);
+            return BY_VALUE.get(text);
         }
 
         public static class Adapter extends TypeAdapter<ContractEnum> {
@@ -124,10 +131,16 @@ public class Recurring {
             return String.valueOf(value);
         }
 
+        private static final Map<String, TokenServiceEnum> BY_VALUE = new HashMap<String, TokenServiceEnum>();
+
+        static {
+            for (TokenServiceEnum b : TokenServiceEnum.values()) {
+                BY_VALUE.put(b.value, b);
+            }
+        }
+
         public static TokenServiceEnum fromValue(String text) {
-            return Arrays.stream(values()).
-                    filter(s -> s.value.equals(text)).
-                    findFirst().orElse(null);
+            return BY_VALUE.get(text);
         }
 
         public static class Adapter extends TypeAdapter<TokenServiceEnum> {
@@ -78,13 +78,20 @@ public class AcctInfo {
       return String.valueOf(value);
     }
 
-    public static ChAccAgeIndEnum fromValue(String value) {
+    private static final Map<String, ChAccAgeIndEnum> BY_VALUE = new HashMap<String, ChAccAgeIndEnum>();
+
+    static {
       for (ChAccAgeIndEnum b : ChAccAgeIndEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static ChAccAgeIndEnum fromValue(String value) {
+      ChAccAgeIndEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<ChAccAgeIndEnum> {
@@ -137,13 +144,20 @@ public class AcctInfo {
       return String.valueOf(value);
     }
 
-    public static ChAccChangeIndEnum fromValue(String value) {
+    private static final Map<String, ChAccChangeIndEnum> BY_VALUE = new HashMap<String, ChAccChangeIndEnum>();
+
+    static {
       for (ChAccChangeIndEnum b : ChAccChangeIndEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    }
+
+    public static ChAccChangeIndEnum fromValue(String value) {
+      ChAccChangeIndEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      }
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<ChAccChangeIndEnum> {
@@ -198,13 +212,20 @@ public class AcctInfo {
       return String.valueOf(value);
     }
 
-    public static ChAccPwChangeIndEnum fromValue(String value) {
+    private static final Map<String, ChAccPwChangeIndEnum> BY_VALUE = new HashMap<String, ChAccPwChangeIndEnum>();
+
+    static {
       for (ChAccPwChangeIndEnum b : ChAccPwChangeIndEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static ChAccPwChangeIndEnum fromValue(String value) {
+      ChAccPwChangeIndEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<ChAccPwChangeIndEnum> {
@@ -267,13 +288,20 @@ public class AcctInfo {
       return String.valueOf(value);
     }
 
-    public static PaymentAccIndEnum fromValue(String value) {
+    private static final Map<String, PaymentAccIndEnum> BY_VALUE = new HashMap<String, PaymentAccIndEnum>();
+
+    static {
       for (PaymentAccIndEnum b : PaymentAccIndEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    }
+
+    public static PaymentAccIndEnum fromValue(String value) {
+      PaymentAccIndEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      }
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<PaymentAccIndEnum> {
@@ -330,13 +358,20 @@ public class AcctInfo {
       return String.valueOf(value);
     }
 
-    public static ShipAddressUsageIndEnum fromValue(String value) {
+    private static final Map<String, ShipAddressUsageIndEnum> BY_VALUE = new HashMap<String, ShipAddressUsageIndEnum>();
+
+    static {
       for (ShipAddressUsageIndEnum b : ShipAddressUsageIndEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    }
+
+    public static ShipAddressUsageIndEnum fromValue(String value) {
+      ShipAddressUsageIndEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      }
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<ShipAddressUsageIndEnum> {
@@ -381,13 +416,20 @@ public class AcctInfo {
       return String.valueOf(value);
     }
 
-    public static ShipNameIndicatorEnum fromValue(String value) {
+    private static final Map<String, ShipNameIndicatorEnum> BY_VALUE = new HashMap<String, ShipNameIndicatorEnum>();
+
+    static {
       for (ShipNameIndicatorEnum b : ShipNameIndicatorEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static ShipNameIndicatorEnum fromValue(String value) {
+      ShipNameIndicatorEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<ShipNameIndicatorEnum> {
@@ -432,13 +474,20 @@ public class AcctInfo {
       return String.valueOf(value);
     }
 
-    public static SuspiciousAccActivityEnum fromValue(String value) {
+    private static final Map<String, SuspiciousAccActivityEnum> BY_VALUE = new HashMap<String, SuspiciousAccActivityEnum>();
+
+    static {
       for (SuspiciousAccActivityEnum b : SuspiciousAccActivityEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static SuspiciousAccActivityEnum fromValue(String value) {
+      SuspiciousAccActivityEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<SuspiciousAccActivityEnum> {
@@ -1050,22 +1099,124 @@ public class AcctInfo {
        if (!AcctInfo.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'AcctInfo' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<AcctInfo> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(AcctInfo.class));
+       final TypeAdapter<ChAccAgeIndEnum> chAccAgeIndAdapter = gson.getAdapter(ChAccAgeIndEnum.class);
+       final TypeAdapter<String> chAccChangeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<ChAccChangeIndEnum> chAccChangeIndAdapter = gson.getAdapter(ChAccChangeIndEnum.class);
+       final TypeAdapter<String> chAccPwChangeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<ChAccPwChangeIndEnum> chAccPwChangeIndAdapter = gson.getAdapter(ChAccPwChangeIndEnum.class);
+       final TypeAdapter<String> chAccStringAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> nbPurchaseAccountAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> paymentAccAgeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<PaymentAccIndEnum> paymentAccIndAdapter = gson.getAdapter(PaymentAccIndEnum.class);
+       final TypeAdapter<String> provisionAttemptsDayAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> shipAddressUsageAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<ShipAddressUsageIndEnum> shipAddressUsageIndAdapter = gson.getAdapter(ShipAddressUsageIndEnum.class);
+       final TypeAdapter<ShipNameIndicatorEnum> shipNameIndicatorAdapter = gson.getAdapter(ShipNameIndicatorEnum.class);
+       final TypeAdapter<SuspiciousAccActivityEnum> suspiciousAccActivityAdapter = gson.getAdapter(SuspiciousAccActivityEnum.class);
+       final TypeAdapter<String> txnActivityDayAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> txnActivityYearAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<AcctInfo>() {
            @Override
            public void write(JsonWriter out, AcctInfo value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("chAccAgeInd");
+             chAccAgeIndAdapter.write(out, value.chAccAgeInd);
+             out.name("chAccChange");
+             chAccChangeAdapter.write(out, value.chAccChange);
+             out.name("chAccChangeInd");
+             chAccChangeIndAdapter.write(out, value.chAccChangeInd);
+             out.name("chAccPwChange");
+             chAccPwChangeAdapter.write(out, value.chAccPwChange);
+             out.name("chAccPwChangeInd");
+             chAccPwChangeIndAdapter.write(out, value.chAccPwChangeInd);
+             out.name("chAccString");
+             chAccStringAdapter.write(out, value.chAccString);
+             out.name("nbPurchaseAccount");
+             nbPurchaseAccountAdapter.write(out, value.nbPurchaseAccount);
+             out.name("paymentAccAge");
+             paymentAccAgeAdapter.write(out, value.paymentAccAge);
+             out.name("paymentAccInd");
+             paymentAccIndAdapter.write(out, value.paymentAccInd);
+             out.name("provisionAttemptsDay");
+             provisionAttemptsDayAdapter.write(out, value.provisionAttemptsDay);
+             out.name("shipAddressUsage");
+             shipAddressUsageAdapter.write(out, value.shipAddressUsage);
+             out.name("shipAddressUsageInd");
+             shipAddressUsageIndAdapter.write(out, value.shipAddressUsageInd);
+             out.name("shipNameIndicator");
+             shipNameIndicatorAdapter.write(out, value.shipNameIndicator);
+             out.name("suspiciousAccActivity");
+             suspiciousAccActivityAdapter.write(out, value.suspiciousAccActivity);
+             out.name("txnActivityDay");
+             txnActivityDayAdapter.write(out, value.txnActivityDay);
+             out.name("txnActivityYear");
+             txnActivityYearAdapter.write(out, value.txnActivityYear);
+             out.endObject();
            }
 
            @Override
            public AcctInfo read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             AcctInfo instance = new AcctInfo();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "chAccAgeInd":
+                   instance.chAccAgeInd = chAccAgeIndAdapter.read(in);
+                   break;
+                 case "chAccChange":
+                   instance.chAccChange = chAccChangeAdapter.read(in);
+                   break;
+                 case "chAccChangeInd":
+                   instance.chAccChangeInd = chAccChangeIndAdapter.read(in);
+                   break;
+                 case "chAccPwChange":
+                   instance.chAccPwChange = chAccPwChangeAdapter.read(in);
+                   break;
+                 case "chAccPwChangeInd":
+                   instance.chAccPwChangeInd = chAccPwChangeIndAdapter.read(in);
+                   break;
+                 case "chAccString":
+                   instance.chAccString = chAccStringAdapter.read(in);
+                   break;
+                 case "nbPurchaseAccount":
+                   instance.nbPurchaseAccount = nbPurchaseAccountAdapter.read(in);
+                   break;
+                 case "paymentAccAge":
+                   instance.paymentAccAge = paymentAccAgeAdapter.read(in);
+                   break;
+                 case "paymentAccInd":
+                   instance.paymentAccInd = paymentAccIndAdapter.read(in);
+                   break;
+                 case "provisionAttemptsDay":
+                   instance.provisionAttemptsDay = provisionAttemptsDayAdapter.read(in);
+                   break;
+                 case "shipAddressUsage":
+                   instance.shipAddressUsage = shipAddressUsageAdapter.read(in);
+                   break;
+                 case "shipAddressUsageInd":
+                   instance.shipAddressUsageInd = shipAddressUsageIndAdapter.read(in);
+                   break;
+                 case "shipNameIndicator":
+                   instance.shipNameIndicator = shipNameIndicatorAdapter.read(in);
+                   break;
+                 case "suspiciousAccActivity":
+                   instance.suspiciousAccActivity = suspiciousAccActivityAdapter.read(in);
+                   break;
+                 case "txnActivityDay":
+                   instance.txnActivityDay = txnActivityDayAdapter.read(in);
+                   break;
+                 case "txnActivityYear":
+                   instance.txnActivityYear = txnActivityYearAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `AcctInfo` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
@@ -98,13 +98,20 @@ public class AchDetails {
       return String.valueOf(value);
     }
 
-    public static TypeEnum fromValue(String value) {
+    private static final Map<String, TypeEnum> BY_VALUE = new HashMap<String, TypeEnum>();
+
+    static {
       for (TypeEnum b : TypeEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static TypeEnum fromValue(String value) {
+      TypeEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<TypeEnum> {
@@ -460,22 +467,81 @@ public class AchDetails {
        if (!AchDetails.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'AchDetails' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<AchDetails> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(AchDetails.class));
+       final TypeAdapter<String> bankAccountNumberAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> bankLocationIdAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> encryptedBankAccountNumberAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> encryptedBankLocationIdAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> ownerNameAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> recurringDetailReferenceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> storedPaymentMethodIdAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<TypeEnum> typeAdapter = gson.getAdapter(TypeEnum.class);
 
        return (TypeAdapter<T>) new TypeAdapter<AchDetails>() {
            @Override
            public void write(JsonWriter out, AchDetails value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("bankAccountNumber");
+             bankAccountNumberAdapter.write(out, value.bankAccountNumber);
+             out.name("bankLocationId");
+             bankLocationIdAdapter.write(out, value.bankLocationId);
+             out.name("encryptedBankAccountNumber");
+             encryptedBankAccountNumberAdapter.write(out, value.encryptedBankAccountNumber);
+             out.name("encryptedBankLocationId");
+             encryptedBankLocationIdAdapter.write(out, value.encryptedBankLocationId);
+             out.name("ownerName");
+             ownerNameAdapter.write(out, value.ownerName);
+             out.name("recurringDetailReference");
+             recurringDetailReferenceAdapter.write(out, value.recurringDetailReference);
+             out.name("storedPaymentMethodId");
+             storedPaymentMethodIdAdapter.write(out, value.storedPaymentMethodId);
+             out.name("type");
+             typeAdapter.write(out, value.type);
+             out.endObject();
            }
 
            @Override
            public AchDetails read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             AchDetails instance = new AchDetails();
+             boolean bankAccountNumberFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "bankAccountNumber":
+                   instance.bankAccountNumber = bankAccountNumberAdapter.read(in);
+                   bankAccountNumberFound = true;
+                   break;
+                 case "bankLocationId":
+                   instance.bankLocationId = bankLocationIdAdapter.read(in);
+                   break;
+                 case "encryptedBankAccountNumber":
+                   instance.encryptedBankAccountNumber = encryptedBankAccountNumberAdapter.read(in);
+                   break;
+                 case "encryptedBankLocationId":
+                   instance.encryptedBankLocationId = encryptedBankLocationIdAdapter.read(in);
+                   break;
+                 case "ownerName":
+                   instance.ownerName = ownerNameAdapter.read(in);
+                   break;
+                 case "recurringDetailReference":
+                   instance.recurringDetailReference = recurringDetailReferenceAdapter.read(in);
+                   break;
+                 case "storedPaymentMethodId":
+                   instance.storedPaymentMethodId = storedPaymentMethodIdAdapter.read(in);
+                   break;
+                 case "type":
+                   instance.type = typeAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `AchDetails` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!bankAccountNumberFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "bankAccountNumber", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
@@ -82,13 +82,20 @@ public class AdditionalData3DSecure {
       return String.valueOf(value);
     }
 
-    public static ChallengeWindowSizeEnum fromValue(String value) {
+    private static final Map<String, ChallengeWindowSizeEnum> BY_VALUE = new HashMap<String, ChallengeWindowSizeEnum>();
+
+    static {
       for (ChallengeWindowSizeEnum b : ChallengeWindowSizeEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static ChallengeWindowSizeEnum fromValue(String value) {
+      ChallengeWindowSizeEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<ChallengeWindowSizeEnum> {
@@ -394,22 +401,64 @@ public class AdditionalData3DSecure {
        if (!AdditionalData3DSecure.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'AdditionalData3DSecure' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<AdditionalData3DSecure> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(AdditionalData3DSecure.class));
+       final TypeAdapter<String> allow3DS2Adapter = gson.getAdapter(String.class);
+       final TypeAdapter<ChallengeWindowSizeEnum> challengeWindowSizeAdapter = gson.getAdapter(ChallengeWindowSizeEnum.class);
+       final TypeAdapter<String> executeThreeDAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> mpiImplementationTypeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> scaExemptionAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> threeDSVersionAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<AdditionalData3DSecure>() {
            @Override
            public void write(JsonWriter out, AdditionalData3DSecure value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("allow3DS2");
+             allow3DS2Adapter.write(out, value.allow3DS2);
+             out.name("challengeWindowSize");
+             challengeWindowSizeAdapter.write(out, value.challengeWindowSize);
+             out.name("executeThreeD");
+             executeThreeDAdapter.write(out, value.executeThreeD);
+             out.name("mpiImplementationType");
+             mpiImplementationTypeAdapter.write(out, value.mpiImplementationType);
+             out.name("scaExemption");
+             scaExemptionAdapter.write(out, value.scaExemption);
+             out.name("threeDSVersion");
+             threeDSVersionAdapter.write(out, value.threeDSVersion);
+             out.endObject();
            }
 
            @Override
            public AdditionalData3DSecure read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             AdditionalData3DSecure instance = new AdditionalData3DSecure();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "allow3DS2":
+                   instance.allow3DS2 = allow3DS2Adapter.read(in);
+                   break;
+                 case "challengeWindowSize":
+                   instance.challengeWindowSize = challengeWindowSizeAdapter.read(in);
+                   break;
+                 case "executeThreeD":
+                   instance.executeThreeD = executeThreeDAdapter.read(in);
+                   break;
+                 case "mpiImplementationType":
+                   instance.mpiImplementationType = mpiImplementationTypeAdapter.read(in);
+                   break;
+                 case "scaExemption":
+                   instance.scaExemption = scaExemptionAdapter.read(in);
+                   break;
+                 case "threeDSVersion":
+                   instance.threeDSVersion = threeDSVersionAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `AdditionalData3DSecure` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
@@ -1090,22 +1090,201 @@ public class AdditionalDataAirline {
        if (!AdditionalDataAirline.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'AdditionalDataAirline' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<AdditionalDataAirline> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(AdditionalDataAirline.class));
+       final TypeAdapter<String> airlineAgencyInvoiceNumberAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> airlineAgencyPlanNameAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> airlineAirlineCodeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> airlineAirlineDesignatorCodeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> airlineBoardingFeeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> airlineComputerizedReservationSystemAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> airlineCustomerReferenceNumberAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> airlineDocumentTypeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> airlineFlightDateAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> airlineLegCarrierCodeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> airlineLegClassOfTravelAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> airlineLegDateOfTravelAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> airlineLegDepartAirportAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> airlineLegDepartTaxAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> airlineLegDestinationCodeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> airlineLegFareBaseCodeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> airlineLegFlightNumberAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> airlineLegStopOverCodeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> airlinePassengerDateOfBirthAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> airlinePassengerFirstNameAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> airlinePassengerLastNameAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> airlinePassengerTelephoneNumberAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> airlinePassengerTravellerTypeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> airlinePassengerNameAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> airlineTicketIssueAddressAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> airlineTicketNumberAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> airlineTravelAgencyCodeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> airlineTravelAgencyNameAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<AdditionalDataAirline>() {
            @Override
            public void write(JsonWriter out, AdditionalDataAirline value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("airline.agency_invoice_number");
+             airlineAgencyInvoiceNumberAdapter.write(out, value.airlineAgencyInvoiceNumber);
+             out.name("airline.agency_plan_name");
+             airlineAgencyPlanNameAdapter.write(out, value.airlineAgencyPlanName);
+             out.name("airline.airline_code");
+             airlineAirlineCodeAdapter.write(out, value.airlineAirlineCode);
+             out.name("airline.airline_designator_code");
+             airlineAirlineDesignatorCodeAdapter.write(out, value.airlineAirlineDesignatorCode);
+             out.name("airline.boarding_fee");
+             airlineBoardingFeeAdapter.write(out, value.airlineBoardingFee);
+             out.name("airline.computerized_reservation_system");
+             airlineComputerizedReservationSystemAdapter.write(out, value.airlineComputerizedReservationSystem);
+             out.name("airline.customer_reference_number");
+             airlineCustomerReferenceNumberAdapter.write(out, value.airlineCustomerReferenceNumber);
+             out.name("airline.document_type");
+             airlineDocumentTypeAdapter.write(out, value.airlineDocumentType);
+             out.name("airline.flight_date");
+             airlineFlightDateAdapter.write(out, value.airlineFlightDate);
+             out.name("airline.leg.carrier_code");
+             airlineLegCarrierCodeAdapter.write(out, value.airlineLegCarrierCode);
+             out.name("airline.leg.class_of_travel");
+             airlineLegClassOfTravelAdapter.write(out, value.airlineLegClassOfTravel);
+             out.name("airline.leg.date_of_travel");
+             airlineLegDateOfTravelAdapter.write(out, value.airlineLegDateOfTravel);
+             out.name("airline.leg.depart_airport");
+             airlineLegDepartAirportAdapter.write(out, value.airlineLegDepartAirport);
+             out.name("airline.leg.depart_tax");
+             airlineLegDepartTaxAdapter.write(out, value.airlineLegDepartTax);
+             out.name("airline.leg.destination_code");
+             airlineLegDestinationCodeAdapter.write(out, value.airlineLegDestinationCode);
+             out.name("airline.leg.fare_base_code");
+             airlineLegFareBaseCodeAdapter.write(out, value.airlineLegFareBaseCode);
+             out.name("airline.leg.flight_number");
+             airlineLegFlightNumberAdapter.write(out, value.airlineLegFlightNumber);
+             out.name("airline.leg.stop_over_code");
+             airlineLegStopOverCodeAdapter.write(out, value.airlineLegStopOverCode);
+             out.name("airline.passenger.date_of_birth");
+             airlinePassengerDateOfBirthAdapter.write(out, value.airlinePassengerDateOfBirth);
+             out.name("airline.passenger.first_name");
+             airlinePassengerFirstNameAdapter.write(out, value.airlinePassengerFirstName);
+             out.name("airline.passenger.last_name");
+             airlinePassengerLastNameAdapter.write(out, value.airlinePassengerLastName);
+             out.name("airline.passenger.telephone_number");
+             airlinePassengerTelephoneNumberAdapter.write(out, value.airlinePassengerTelephoneNumber);
+             out.name("airline.passenger.traveller_type");
+             airlinePassengerTravellerTypeAdapter.write(out, value.airlinePassengerTravellerType);
+             out.name("airline.passenger_name");
+             airlinePassengerNameAdapter.write(out, value.airlinePassengerName);
+             out.name("airline.ticket_issue_address");
+             airlineTicketIssueAddressAdapter.write(out, value.airlineTicketIssueAddress);
+             out.name("airline.ticket_number");
+             airlineTicketNumberAdapter.write(out, value.airlineTicketNumber);
+             out.name("airline.travel_agency_code");
+             airlineTravelAgencyCodeAdapter.write(out, value.airlineTravelAgencyCode);
+             out.name("airline.travel_agency_name");
+             airlineTravelAgencyNameAdapter.write(out, value.airlineTravelAgencyName);
+             out.endObject();
            }
 
            @Override
            public AdditionalDataAirline read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             AdditionalDataAirline instance = new AdditionalDataAirline();
+             boolean airlinePassengerNameFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "airline.agency_invoice_number":
+                   instance.airlineAgencyInvoiceNumber = airlineAgencyInvoiceNumberAdapter.read(in);
+                   break;
+                 case "airline.agency_plan_name":
+                   instance.airlineAgencyPlanName = airlineAgencyPlanNameAdapter.read(in);
+                   break;
+                 case "airline.airline_code":
+                   instance.airlineAirlineCode = airlineAirlineCodeAdapter.read(in);
+                   break;
+                 case "airline.airline_designator_code":
+                   instance.airlineAirlineDesignatorCode = airlineAirlineDesignatorCodeAdapter.read(in);
+                   break;
+                 case "airline.boarding_fee":
+                   instance.airlineBoardingFee = airlineBoardingFeeAdapter.read(in);
+                   break;
+                 case "airline.computerized_reservation_system":
+                   instance.airlineComputerizedReservationSystem = airlineComputerizedReservationSystemAdapter.read(in);
+                   break;
+                 case "airline.customer_reference_number":
+                   instance.airlineCustomerReferenceNumber = airlineCustomerReferenceNumberAdapter.read(in);
+                   break;
+                 case "airline.document_type":
+                   instance.airlineDocumentType = airlineDocumentTypeAdapter.read(in);
+                   break;
+                 case "airline.flight_date":
+                   instance.airlineFlightDate = airlineFlightDateAdapter.read(in);
+                   break;
+                 case "airline.leg.carrier_code":
+                   instance.airlineLegCarrierCode = airlineLegCarrierCodeAdapter.read(in);
+                   break;
+                 case "airline.leg.class_of_travel":
+                   instance.airlineLegClassOfTravel = airlineLegClassOfTravelAdapter.read(in);
+                   break;
+                 case "airline.leg.date_of_travel":
+                   instance.airlineLegDateOfTravel = airlineLegDateOfTravelAdapter.read(in);
+                   break;
+                 case "airline.leg.depart_airport":
+                   instance.airlineLegDepartAirport = airlineLegDepartAirportAdapter.read(in);
+                   break;
+                 case "airline.leg.depart_tax":
+                   instance.airlineLegDepartTax = airlineLegDepartTaxAdapter.read(in);
+                   break;
+                 case "airline.leg.destination_code":
+                   instance.airlineLegDestinationCode = airlineLegDestinationCodeAdapter.read(in);
+                   break;
+                 case "airline.leg.fare_base_code":
+                   instance.airlineLegFareBaseCode = airlineLegFareBaseCodeAdapter.read(in);
+                   break;
+                 case "airline.leg.flight_number":
+                   instance.airlineLegFlightNumber = airlineLegFlightNumberAdapter.read(in);
+                   break;
+                 case "airline.leg.stop_over_code":
+                   instance.airlineLegStopOverCode = airlineLegStopOverCodeAdapter.read(in);
+                   break;
+                 case "airline.passenger.date_of_birth":
+                   instance.airlinePassengerDateOfBirth = airlinePassengerDateOfBirthAdapter.read(in);
+                   break;
+                 case "airline.passenger.first_name":
+                   instance.airlinePassengerFirstName = airlinePassengerFirstNameAdapter.read(in);
+                   break;
+                 case "airline.passenger.last_name":
+                   instance.airlinePassengerLastName = airlinePassengerLastNameAdapter.read(in);
+                   break;
+                 case "airline.passenger.telephone_number":
+                   instance.airlinePassengerTelephoneNumber = airlinePassengerTelephoneNumberAdapter.read(in);
+                   break;
+                 case "airline.passenger.traveller_type":
+                   instance.airlinePassengerTravellerType = airlinePassengerTravellerTypeAdapter.read(in);
+                   break;
+                 case "airline.passenger_name":
+                   instance.airlinePassengerName = airlinePassengerNameAdapter.read(in);
+                   airlinePassengerNameFound = true;
+                   break;
+                 case "airline.ticket_issue_address":
+                   instance.airlineTicketIssueAddress = airlineTicketIssueAddressAdapter.read(in);
+                   break;
+                 case "airline.ticket_number":
+                   instance.airlineTicketNumber = airlineTicketNumberAdapter.read(in);
+                   break;
+                 case "airline.travel_agency_code":
+                   instance.airlineTravelAgencyCode = airlineTravelAgencyCodeAdapter.read(in);
+                   break;
+                 case "airline.travel_agency_name":
+                   instance.airlineTravelAgencyName = airlineTravelAgencyNameAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `AdditionalDataAirline` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!airlinePassengerNameFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "airline.passenger_name", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
@@ -912,22 +912,166 @@ public class AdditionalDataCarRental {
        if (!AdditionalDataCarRental.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'AdditionalDataCarRental' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<AdditionalDataCarRental> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(AdditionalDataCarRental.class));
+       final TypeAdapter<String> carRentalCheckOutDateAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> carRentalCustomerServiceTollFreeNumberAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> carRentalDaysRentedAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> carRentalFuelChargesAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> carRentalInsuranceChargesAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> carRentalLocationCityAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> carRentalLocationCountryAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> carRentalLocationStateProvinceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> carRentalNoShowIndicatorAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> carRentalOneWayDropOffChargesAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> carRentalRateAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> carRentalRateIndicatorAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> carRentalRentalAgreementNumberAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> carRentalRentalClassIdAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> carRentalRenterNameAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> carRentalReturnCityAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> carRentalReturnCountryAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> carRentalReturnDateAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> carRentalReturnLocationIdAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> carRentalReturnStateProvinceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> carRentalTaxExemptIndicatorAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> travelEntertainmentAuthDataDurationAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> travelEntertainmentAuthDataMarketAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<AdditionalDataCarRental>() {
            @Override
            public void write(JsonWriter out, AdditionalDataCarRental value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("carRental.checkOutDate");
+             carRentalCheckOutDateAdapter.write(out, value.carRentalCheckOutDate);
+             out.name("carRental.customerServiceTollFreeNumber");
+             carRentalCustomerServiceTollFreeNumberAdapter.write(out, value.carRentalCustomerServiceTollFreeNumber);
+             out.name("carRental.daysRented");
+             carRentalDaysRentedAdapter.write(out, value.carRentalDaysRented);
+             out.name("carRental.fuelCharges");
+             carRentalFuelChargesAdapter.write(out, value.carRentalFuelCharges);
+             out.name("carRental.insuranceCharges");
+             carRentalInsuranceChargesAdapter.write(out, value.carRentalInsuranceCharges);
+             out.name("carRental.locationCity");
+             carRentalLocationCityAdapter.write(out, value.carRentalLocationCity);
+             out.name("carRental.locationCountry");
+             carRentalLocationCountryAdapter.write(out, value.carRentalLocationCountry);
+             out.name("carRental.locationStateProvince");
+             carRentalLocationStateProvinceAdapter.write(out, value.carRentalLocationStateProvince);
+             out.name("carRental.noShowIndicator");
+             carRentalNoShowIndicatorAdapter.write(out, value.carRentalNoShowIndicator);
+             out.name("carRental.oneWayDropOffCharges");
+             carRentalOneWayDropOffChargesAdapter.write(out, value.carRentalOneWayDropOffCharges);
+             out.name("carRental.rate");
+             carRentalRateAdapter.write(out, value.carRentalRate);
+             out.name("carRental.rateIndicator");
+             carRentalRateIndicatorAdapter.write(out, value.carRentalRateIndicator);
+             out.name("carRental.rentalAgreementNumber");
+             carRentalRentalAgreementNumberAdapter.write(out, value.carRentalRentalAgreementNumber);
+             out.name("carRental.rentalClassId");
+             carRentalRentalClassIdAdapter.write(out, value.carRentalRentalClassId);
+             out.name("carRental.renterName");
+             carRentalRenterNameAdapter.write(out, value.carRentalRenterName);
+             out.name("carRental.returnCity");
+             carRentalReturnCityAdapter.write(out, value.carRentalReturnCity);
+             out.name("carRental.returnCountry");
+             carRentalReturnCountryAdapter.write(out, value.carRentalReturnCountry);
+             out.name("carRental.returnDate");
+             carRentalReturnDateAdapter.write(out, value.carRentalReturnDate);
+             out.name("carRental.returnLocationId");
+             carRentalReturnLocationIdAdapter.write(out, value.carRentalReturnLocationId);
+             out.name("carRental.returnStateProvince");
+             carRentalReturnStateProvinceAdapter.write(out, value.carRentalReturnStateProvince);
+             out.name("carRental.taxExemptIndicator");
+             carRentalTaxExemptIndicatorAdapter.write(out, value.carRentalTaxExemptIndicator);
+             out.name("travelEntertainmentAuthData.duration");
+             travelEntertainmentAuthDataDurationAdapter.write(out, value.travelEntertainmentAuthDataDuration);
+             out.name("travelEntertainmentAuthData.market");
+             travelEntertainmentAuthDataMarketAdapter.write(out, value.travelEntertainmentAuthDataMarket);
+             out.endObject();
            }
 
            @Override
            public AdditionalDataCarRental read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             AdditionalDataCarRental instance = new AdditionalDataCarRental();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "carRental.checkOutDate":
+                   instance.carRentalCheckOutDate = carRentalCheckOutDateAdapter.read(in);
+                   break;
+                 case "carRental.customerServiceTollFreeNumber":
+                   instance.carRentalCustomerServiceTollFreeNumber = carRentalCustomerServiceTollFreeNumberAdapter.read(in);
+                   break;
+                 case "carRental.daysRented":
+                   instance.carRentalDaysRented = carRentalDaysRentedAdapter.read(in);
+                   break;
+                 case "carRental.fuelCharges":
+                   instance.carRentalFuelCharges = carRentalFuelChargesAdapter.read(in);
+                   break;
+                 case "carRental.insuranceCharges":
+                   instance.carRentalInsuranceCharges = carRentalInsuranceChargesAdapter.read(in);
+                   break;
+                 case "carRental.locationCity":
+                   instance.carRentalLocationCity = carRentalLocationCityAdapter.read(in);
+                   break;
+                 case "carRental.locationCountry":
+                   instance.carRentalLocationCountry = carRentalLocationCountryAdapter.read(in);
+                   break;
+                 case "carRental.locationStateProvince":
+                   instance.carRentalLocationStateProvince = carRentalLocationStateProvinceAdapter.read(in);
+                   break;
+                 case "carRental.noShowIndicator":
+                   instance.carRentalNoShowIndicator = carRentalNoShowIndicatorAdapter.read(in);
+                   break;
+                 case "carRental.oneWayDropOffCharges":
+                   instance.carRentalOneWayDropOffCharges = carRentalOneWayDropOffChargesAdapter.read(in);
+                   break;
+                 case "carRental.rate":
+                   instance.carRentalRate = carRentalRateAdapter.read(in);
+                   break;
+                 case "carRental.rateIndicator":
+                   instance.carRentalRateIndicator = carRentalRateIndicatorAdapter.read(in);
+                   break;
+                 case "carRental.rentalAgreementNumber":
+                   instance.carRentalRentalAgreementNumber = carRentalRentalAgreementNumberAdapter.read(in);
+                   break;
+                 case "carRental.rentalClassId":
+                   instance.carRentalRentalClassId = carRentalRentalClassIdAdapter.read(in);
+                   break;
+                 case "carRental.renterName":
+                   instance.carRentalRenterName = carRentalRenterNameAdapter.read(in);
+                   break;
+                 case "carRental.returnCity":
+                   instance.carRentalReturnCity = carRentalReturnCityAdapter.read(in);
+                   break;
+                 case "carRental.returnCountry":
+                   instance.carRentalReturnCountry = carRentalReturnCountryAdapter.read(in);
+                   break;
+                 case "carRental.returnDate":
+                   instance.carRentalReturnDate = carRentalReturnDateAdapter.read(in);
+                   break;
+                 case "carRental.returnLocationId":
+                   instance.carRentalReturnLocationId = carRentalReturnLocationIdAdapter.read(in);
+                   break;
+                 case "carRental.returnStateProvince":
+                   instance.carRentalReturnStateProvince = carRentalReturnStateProvinceAdapter.read(in);
+                   break;
+                 case "carRental.taxExemptIndicator":
+                   instance.carRentalTaxExemptIndicator = carRentalTaxExemptIndicatorAdapter.read(in);
+                   break;
+                 case "travelEntertainmentAuthData.duration":
+                   instance.travelEntertainmentAuthDataDuration = travelEntertainmentAuthDataDurationAdapter.read(in);
+                   break;
+                 case "travelEntertainmentAuthData.market":
+                   instance.travelEntertainmentAuthDataMarket = travelEntertainmentAuthDataMarketAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `AdditionalDataCarRental` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
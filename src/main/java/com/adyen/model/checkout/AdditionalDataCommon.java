@@ -84,13 +84,20 @@ public class AdditionalDataCommon {
       return String.valueOf(value);
     }
 
-    public static IndustryUsageEnum fromValue(String value) {
+    private static final Map<String, IndustryUsageEnum> BY_VALUE = new HashMap<String, IndustryUsageEnum>();
+
+    static {
       for (IndustryUsageEnum b : IndustryUsageEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static IndustryUsageEnum fromValue(String value) {
+      IndustryUsageEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<IndustryUsageEnum> {
@@ -656,22 +663,112 @@ public class AdditionalDataCommon {
        if (!AdditionalDataCommon.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'AdditionalDataCommon' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<AdditionalDataCommon> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(AdditionalDataCommon.class));
+       final TypeAdapter<String> requestedTestErrorResponseCodeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> authorisationTypeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> customRoutingFlagAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<IndustryUsageEnum> industryUsageAdapter = gson.getAdapter(IndustryUsageEnum.class);
+       final TypeAdapter<String> networkTxReferenceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> overwriteBrandAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> subMerchantCityAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> subMerchantCountryAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> subMerchantIDAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> subMerchantNameAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> subMerchantPostalCodeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> subMerchantStateAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> subMerchantStreetAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> subMerchantTaxIdAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<AdditionalDataCommon>() {
            @Override
            public void write(JsonWriter out, AdditionalDataCommon value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("RequestedTestErrorResponseCode");
+             requestedTestErrorResponseCodeAdapter.write(out, value.requestedTestErrorResponseCode);
+             out.name("authorisationType");
+             authorisationTypeAdapter.write(out, value.authorisationType);
+             out.name("customRoutingFlag");
+             customRoutingFlagAdapter.write(out, value.customRoutingFlag);
+             out.name("industryUsage");
+             industryUsageAdapter.write(out, value.industryUsage);
+             out.name("networkTxReference");
+             networkTxReferenceAdapter.write(out, value.networkTxReference);
+             out.name("overwriteBrand");
+             overwriteBrandAdapter.write(out, value.overwriteBrand);
+             out.name("subMerchantCity");
+             subMerchantCityAdapter.write(out, value.subMerchantCity);
+             out.name("subMerchantCountry");
+             subMerchantCountryAdapter.write(out, value.subMerchantCountry);
+             out.name("subMerchantID");
+             subMerchantIDAdapter.write(out, value.subMerchantID);
+             out.name("subMerchantName");
+             subMerchantNameAdapter.write(out, value.subMerchantName);
+             out.name("subMerchantPostalCode");
+             subMerchantPostalCodeAdapter.write(out, value.subMerchantPostalCode);
+             out.name("subMerchantState");
+             subMerchantStateAdapter.write(out, value.subMerchantState);
+             out.name("subMerchantStreet");
+             subMerchantStreetAdapter.write(out, value.subMerchantStreet);
+             out.name("subMerchantTaxId");
+             subMerchantTaxIdAdapter.write(out, value.subMerchantTaxId);
+             out.endObject();
            }
 
            @Override
            public AdditionalDataCommon read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             AdditionalDataCommon instance = new AdditionalDataCommon();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "RequestedTestErrorResponseCode":
+                   instance.requestedTestErrorResponseCode = requestedTestErrorResponseCodeAdapter.read(in);
+                   break;
+                 case "authorisationType":
+                   instance.authorisationType = authorisationTypeAdapter.read(in);
+                   break;
+                 case "customRoutingFlag":
+                   instance.customRoutingFlag = customRoutingFlagAdapter.read(in);
+                   break;
+                 case "industryUsage":
+                   instance.industryUsage = industryUsageAdapter.read(in);
+                   break;
+                 case "networkTxReference":
+                   instance.networkTxReference = networkTxReferenceAdapter.read(in);
+                   break;
+                 case "overwriteBrand":
+                   instance.overwriteBrand = overwriteBrandAdapter.read(in);
+                   break;
+                 case "subMerchantCity":
+                   instance.subMerchantCity = subMerchantCityAdapter.read(in);
+                   break;
+                 case "subMerchantCountry":
+                   instance.subMerchantCountry = subMerchantCountryAdapter.read(in);
+                   break;
+                 case "subMerchantID":
+                   instance.subMerchantID = subMerchantIDAdapter.read(in);
+                   break;
+                 case "subMerchantName":
+                   instance.subMerchantName = subMerchantNameAdapter.read(in);
+                   break;
+                 case "subMerchantPostalCode":
+                   instance.subMerchantPostalCode = subMerchantPostalCodeAdapter.read(in);
+                   break;
+                 case "subMerchantState":
+                   instance.subMerchantState = subMerchantStateAdapter.read(in);
+                   break;
+                 case "subMerchantStreet":
+                   instance.subMerchantStreet = subMerchantStreetAdapter.read(in);
+                   break;
+                 case "subMerchantTaxId":
+                   instance.subMerchantTaxId = subMerchantTaxIdAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `AdditionalDataCommon` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
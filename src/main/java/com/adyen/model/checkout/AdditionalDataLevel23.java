@@ -708,22 +708,130 @@ public class AdditionalDataLevel23 {
        if (!AdditionalDataLevel23.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'AdditionalDataLevel23' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<AdditionalDataLevel23> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(AdditionalDataLevel23.class));
+       final TypeAdapter<String> enhancedSchemeDataCustomerReferenceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> enhancedSchemeDataDestinationCountryCodeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> enhancedSchemeDataDestinationPostalCodeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> enhancedSchemeDataDestinationStateProvinceCodeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> enhancedSchemeDataDutyAmountAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> enhancedSchemeDataFreightAmountAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> enhancedSchemeDataItemDetailLineItemNrCommodityCodeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> enhancedSchemeDataItemDetailLineItemNrDescriptionAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> enhancedSchemeDataItemDetailLineItemNrDiscountAmountAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> enhancedSchemeDataItemDetailLineItemNrProductCodeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> enhancedSchemeDataItemDetailLineItemNrQuantityAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> enhancedSchemeDataItemDetailLineItemNrTotalAmountAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> enhancedSchemeDataItemDetailLineItemNrUnitOfMeasureAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> enhancedSchemeDataItemDetailLineItemNrUnitPriceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> enhancedSchemeDataOrderDateAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> enhancedSchemeDataShipFromPostalCodeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> enhancedSchemeDataTotalTaxAmountAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<AdditionalDataLevel23>() {
            @Override
            public void write(JsonWriter out, AdditionalDataLevel23 value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("enhancedSchemeData.customerReference");
+             enhancedSchemeDataCustomerReferenceAdapter.write(out, value.enhancedSchemeDataCustomerReference);
+             out.name("enhancedSchemeData.destinationCountryCode");
+             enhancedSchemeDataDestinationCountryCodeAdapter.write(out, value.enhancedSchemeDataDestinationCountryCode);
+             out.name("enhancedSchemeData.destinationPostalCode");
+             enhancedSchemeDataDestinationPostalCodeAdapter.write(out, value.enhancedSchemeDataDestinationPostalCode);
+             out.name("enhancedSchemeData.destinationStateProvinceCode");
+             enhancedSchemeDataDestinationStateProvinceCodeAdapter.write(out, value.enhancedSchemeDataDestinationStateProvinceCode);
+             out.name("enhancedSchemeData.dutyAmount");
+             enhancedSchemeDataDutyAmountAdapter.write(out, value.enhancedSchemeDataDutyAmount);
+             out.name("enhancedSchemeData.freightAmount");
+             enhancedSchemeDataFreightAmountAdapter.write(out, value.enhancedSchemeDataFreightAmount);
+             out.name("enhancedSchemeData.itemDetailLine[itemNr].commodityCode");
+             enhancedSchemeDataItemDetailLineItemNrCommodityCodeAdapter.write(out, value.enhancedSchemeDataItemDetailLineItemNrCommodityCode);
+             out.name("enhancedSchemeData.itemDetailLine[itemNr].description");
+             enhancedSchemeDataItemDetailLineItemNrDescriptionAdapter.write(out, value.enhancedSchemeDataItemDetailLineItemNrDescription);
+             out.name("enhancedSchemeData.itemDetailLine[itemNr].discountAmount");
+             enhancedSchemeDataItemDetailLineItemNrDiscountAmountAdapter.write(out, value.enhancedSchemeDataItemDetailLineItemNrDiscountAmount);
+             out.name("enhancedSchemeData.itemDetailLine[itemNr].productCode");
+             enhancedSchemeDataItemDetailLineItemNrProductCodeAdapter.write(out, value.enhancedSchemeDataItemDetailLineItemNrProductCode);
+             out.name("enhancedSchemeData.itemDetailLine[itemNr].quantity");
+             enhancedSchemeDataItemDetailLineItemNrQuantityAdapter.write(out, value.enhancedSchemeDataItemDetailLineItemNrQuantity);
+             out.name("enhancedSchemeData.itemDetailLine[itemNr].totalAmount");
+             enhancedSchemeDataItemDetailLineItemNrTotalAmountAdapter.write(out, value.enhancedSchemeDataItemDetailLineItemNrTotalAmount);
+             out.name("enhancedSchemeData.itemDetailLine[itemNr].unitOfMeasure");
+             enhancedSchemeDataItemDetailLineItemNrUnitOfMeasureAdapter.write(out, value.enhancedSchemeDataItemDetailLineItemNrUnitOfMeasure);
+             out.name("enhancedSchemeData.itemDetailLine[itemNr].unitPrice");
+             enhancedSchemeDataItemDetailLineItemNrUnitPriceAdapter.write(out, value.enhancedSchemeDataItemDetailLineItemNrUnitPrice);
+             out.name("enhancedSchemeData.orderDate");
+             enhancedSchemeDataOrderDateAdapter.write(out, value.enhancedSchemeDataOrderDate);
+             out.name("enhancedSchemeData.shipFromPostalCode");
+             enhancedSchemeDataShipFromPostalCodeAdapter.write(out, value.enhancedSchemeDataShipFromPostalCode);
+             out.name("enhancedSchemeData.totalTaxAmount");
+             enhancedSchemeDataTotalTaxAmountAdapter.write(out, value.enhancedSchemeDataTotalTaxAmount);
+             out.endObject();
            }
 
            @Override
            public AdditionalDataLevel23 read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             AdditionalDataLevel23 instance = new AdditionalDataLevel23();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "enhancedSchemeData.customerReference":
+                   instance.enhancedSchemeDataCustomerReference = enhancedSchemeDataCustomerReferenceAdapter.read(in);
+                   break;
+                 case "enhancedSchemeData.destinationCountryCode":
+                   instance.enhancedSchemeDataDestinationCountryCode = enhancedSchemeDataDestinationCountryCodeAdapter.read(in);
+                   break;
+                 case "enhancedSchemeData.destinationPostalCode":
+                   instance.enhancedSchemeDataDestinationPostalCode = enhancedSchemeDataDestinationPostalCodeAdapter.read(in);
+                   break;
+                 case "enhancedSchemeData.destinationStateProvinceCode":
+                   instance.enhancedSchemeDataDestinationStateProvinceCode = enhancedSchemeDataDestinationStateProvinceCodeAdapter.read(in);
+                   break;
+                 case "enhancedSchemeData.dutyAmount":
+                   instance.enhancedSchemeDataDutyAmount = enhancedSchemeDataDutyAmountAdapter.read(in);
+                   break;
+                 case "enhancedSchemeData.freightAmount":
+                   instance.enhancedSchemeDataFreightAmount = enhancedSchemeDataFreightAmountAdapter.read(in);
+                   break;
+                 case "enhancedSchemeData.itemDetailLine[itemNr].commodityCode":
+                   instance.enhancedSchemeDataItemDetailLineItemNrCommodityCode = enhancedSchemeDataItemDetailLineItemNrCommodityCodeAdapter.read(in);
+                   break;
+                 case "enhancedSchemeData.itemDetailLine[itemNr].description":
+                   instance.enhancedSchemeDataItemDetailLineItemNrDescription = enhancedSchemeDataItemDetailLineItemNrDescriptionAdapter.read(in);
+                   break;
+                 case "enhancedSchemeData.itemDetailLine[itemNr].discountAmount":
+                   instance.enhancedSchemeDataItemDetailLineItemNrDiscountAmount = enhancedSchemeDataItemDetailLineItemNrDiscountAmountAdapter.read(in);
+                   break;
+                 case "enhancedSchemeData.itemDetailLine[itemNr].productCode":
+                   instance.enhancedSchemeDataItemDetailLineItemNrProductCode = enhancedSchemeDataItemDetailLineItemNrProductCodeAdapter.read(in);
+                   break;
+                 case "enhancedSchemeData.itemDetailLine[itemNr].quantity":
+                   instance.enhancedSchemeDataItemDetailLineItemNrQuantity = enhancedSchemeDataItemDetailLineItemNrQuantityAdapter.read(in);
+                   break;
+                 case "enhancedSchemeData.itemDetailLine[itemNr].totalAmount":
+                   instance.enhancedSchemeDataItemDetailLineItemNrTotalAmount = enhancedSchemeDataItemDetailLineItemNrTotalAmountAdapter.read(in);
+                   break;
+                 case "enhancedSchemeData.itemDetailLine[itemNr].unitOfMeasure":
+                   instance.enhancedSchemeDataItemDetailLineItemNrUnitOfMeasure = enhancedSchemeDataItemDetailLineItemNrUnitOfMeasureAdapter.read(in);
+                   break;
+                 case "enhancedSchemeData.itemDetailLine[itemNr].unitPrice":
+                   instance.enhancedSchemeDataItemDetailLineItemNrUnitPrice = enhancedSchemeDataItemDetailLineItemNrUnitPriceAdapter.read(in);
+                   break;
+                 case "enhancedSchemeData.orderDate":
+                   instance.enhancedSchemeDataOrderDate = enhancedSchemeDataOrderDateAdapter.read(in);
+                   break;
+                 case "enhancedSchemeData.shipFromPostalCode":
+                   instance.enhancedSchemeDataShipFromPostalCode = enhancedSchemeDataShipFromPostalCodeAdapter.read(in);
+                   break;
+                 case "enhancedSchemeData.totalTaxAmount":
+                   instance.enhancedSchemeDataTotalTaxAmount = enhancedSchemeDataTotalTaxAmountAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `AdditionalDataLevel23` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
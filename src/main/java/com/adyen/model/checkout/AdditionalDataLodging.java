@@ -708,22 +708,130 @@ public class AdditionalDataLodging {
        if (!AdditionalDataLodging.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'AdditionalDataLodging' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<AdditionalDataLodging> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(AdditionalDataLodging.class));
+       final TypeAdapter<String> lodgingCheckInDateAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> lodgingCheckOutDateAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> lodgingCustomerServiceTollFreeNumberAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> lodgingFireSafetyActIndicatorAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> lodgingFolioCashAdvancesAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> lodgingFolioNumberAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> lodgingFoodBeverageChargesAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> lodgingNoShowIndicatorAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> lodgingPrepaidExpensesAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> lodgingPropertyPhoneNumberAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> lodgingRoom1NumberOfNightsAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> lodgingRoom1RateAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> lodgingRoom1TaxAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> lodgingTotalRoomTaxAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> lodgingTotalTaxAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> travelEntertainmentAuthDataDurationAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> travelEntertainmentAuthDataMarketAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<AdditionalDataLodging>() {
            @Override
            public void write(JsonWriter out, AdditionalDataLodging value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("lodging.checkInDate");
+             lodgingCheckInDateAdapter.write(out, value.lodgingCheckInDate);
+             out.name("lodging.checkOutDate");
+             lodgingCheckOutDateAdapter.write(out, value.lodgingCheckOutDate);
+             out.name("lodging.customerServiceTollFreeNumber");
+             lodgingCustomerServiceTollFreeNumberAdapter.write(out, value.lodgingCustomerServiceTollFreeNumber);
+             out.name("lodging.fireSafetyActIndicator");
+             lodgingFireSafetyActIndicatorAdapter.write(out, value.lodgingFireSafetyActIndicator);
+             out.name("lodging.folioCashAdvances");
+             lodgingFolioCashAdvancesAdapter.write(out, value.lodgingFolioCashAdvances);
+             out.name("lodging.folioNumber");
+             lodgingFolioNumberAdapter.write(out, value.lodgingFolioNumber);
+             out.name("lodging.foodBeverageCharges");
+             lodgingFoodBeverageChargesAdapter.write(out, value.lodgingFoodBeverageCharges);
+             out.name("lodging.noShowIndicator");
+             lodgingNoShowIndicatorAdapter.write(out, value.lodgingNoShowIndicator);
+             out.name("lodging.prepaidExpenses");
+             lodgingPrepaidExpensesAdapter.write(out, value.lodgingPrepaidExpenses);
+             out.name("lodging.propertyPhoneNumber");
+             lodgingPropertyPhoneNumberAdapter.write(out, value.lodgingPropertyPhoneNumber);
+             out.name("lodging.room1.numberOfNights");
+             lodgingRoom1NumberOfNightsAdapter.write(out, value.lodgingRoom1NumberOfNights);
+             out.name("lodging.room1.rate");
+             lodgingRoom1RateAdapter.write(out, value.lodgingRoom1Rate);
+             out.name("lodging.room1.tax");
+             lodgingRoom1TaxAdapter.write(out, value.lodgingRoom1Tax);
+             out.name("lodging.totalRoomTax");
+             lodgingTotalRoomTaxAdapter.write(out, value.lodgingTotalRoomTax);
+             out.name("lodging.totalTax");
+             lodgingTotalTaxAdapter.write(out, value.lodgingTotalTax);
+             out.name("travelEntertainmentAuthData.duration");
+             travelEntertainmentAuthDataDurationAdapter.write(out, value.travelEntertainmentAuthDataDuration);
+             out.name("travelEntertainmentAuthData.market");
+             travelEntertainmentAuthDataMarketAdapter.write(out, value.travelEntertainmentAuthDataMarket);
+             out.endObject();
            }
 
            @Override
            public AdditionalDataLodging read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             AdditionalDataLodging instance = new AdditionalDataLodging();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "lodging.checkInDate":
+                   instance.lodgingCheckInDate = lodgingCheckInDateAdapter.read(in);
+                   break;
+                 case "lodging.checkOutDate":
+                   instance.lodgingCheckOutDate = lodgingCheckOutDateAdapter.read(in);
+                   break;
+                 case "lodging.customerServiceTollFreeNumber":
+                   instance.lodgingCustomerServiceTollFreeNumber = lodgingCustomerServiceTollFreeNumberAdapter.read(in);
+                   break;
+                 case "lodging.fireSafetyActIndicator":
+                   instance.lodgingFireSafetyActIndicator = lodgingFireSafetyActIndicatorAdapter.read(in);
+                   break;
+                 case "lodging.folioCashAdvances":
+                   instance.lodgingFolioCashAdvances = lodgingFolioCashAdvancesAdapter.read(in);
+                   break;
+                 case "lodging.folioNumber":
+                   instance.lodgingFolioNumber = lodgingFolioNumberAdapter.read(in);
+                   break;
+                 case "lodging.foodBeverageCharges":
+                   instance.lodgingFoodBeverageCharges = lodgingFoodBeverageChargesAdapter.read(in);
+                   break;
+                 case "lodging.noShowIndicator":
+                   instance.lodgingNoShowIndicator = lodgingNoShowIndicatorAdapter.read(in);
+                   break;
+                 case "lodging.prepaidExpenses":
+                   instance.lodgingPrepaidExpenses = lodgingPrepaidExpensesAdapter.read(in);
+                   break;
+                 case "lodging.propertyPhoneNumber":
+                   instance.lodgingPropertyPhoneNumber = lodgingPropertyPhoneNumberAdapter.read(in);
+                   break;
+                 case "lodging.room1.numberOfNights":
+                   instance.lodgingRoom1NumberOfNights = lodgingRoom1NumberOfNightsAdapter.read(in);
+                   break;
+                 case "lodging.room1.rate":
+                   instance.lodgingRoom1Rate = lodgingRoom1RateAdapter.read(in);
+                   break;
+                 case "lodging.room1.tax":
+                   instance.lodgingRoom1Tax = lodgingRoom1TaxAdapter.read(in);
+                   break;
+                 case "lodging.totalRoomTax":
+                   instance.lodgingTotalRoomTax = lodgingTotalRoomTaxAdapter.read(in);
+                   break;
+                 case "lodging.totalTax":
+                   instance.lodgingTotalTax = lodgingTotalTaxAdapter.read(in);
+                   break;
+                 case "travelEntertainmentAuthData.duration":
+                   instance.travelEntertainmentAuthDataDuration = travelEntertainmentAuthDataDurationAdapter.read(in);
+                   break;
+                 case "travelEntertainmentAuthData.market":
+                   instance.travelEntertainmentAuthDataMarket = travelEntertainmentAuthDataMarketAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `AdditionalDataLodging` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
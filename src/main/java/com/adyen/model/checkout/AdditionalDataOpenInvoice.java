@@ -742,22 +742,136 @@ public class AdditionalDataOpenInvoice {
        if (!AdditionalDataOpenInvoice.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'AdditionalDataOpenInvoice' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<AdditionalDataOpenInvoice> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(AdditionalDataOpenInvoice.class));
+       final TypeAdapter<String> openinvoicedataMerchantDataAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> openinvoicedataNumberOfLinesAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> openinvoicedataRecipientFirstNameAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> openinvoicedataRecipientLastNameAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> openinvoicedataLineItemNrCurrencyCodeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> openinvoicedataLineItemNrDescriptionAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> openinvoicedataLineItemNrItemAmountAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> openinvoicedataLineItemNrItemIdAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> openinvoicedataLineItemNrItemVatAmountAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> openinvoicedataLineItemNrItemVatPercentageAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> openinvoicedataLineItemNrNumberOfItemsAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> openinvoicedataLineItemNrReturnShippingCompanyAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> openinvoicedataLineItemNrReturnTrackingNumberAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> openinvoicedataLineItemNrReturnTrackingUriAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> openinvoicedataLineItemNrShippingCompanyAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> openinvoicedataLineItemNrShippingMethodAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> openinvoicedataLineItemNrTrackingNumberAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> openinvoicedataLineItemNrTrackingUriAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<AdditionalDataOpenInvoice>() {
            @Override
            public void write(JsonWriter out, AdditionalDataOpenInvoice value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("openinvoicedata.merchantData");
+             openinvoicedataMerchantDataAdapter.write(out, value.openinvoicedataMerchantData);
+             out.name("openinvoicedata.numberOfLines");
+             openinvoicedataNumberOfLinesAdapter.write(out, value.openinvoicedataNumberOfLines);
+             out.name("openinvoicedata.recipientFirstName");
+             openinvoicedataRecipientFirstNameAdapter.write(out, value.openinvoicedataRecipientFirstName);
+             out.name("openinvoicedata.recipientLastName");
+             openinvoicedataRecipientLastNameAdapter.write(out, value.openinvoicedataRecipientLastName);
+             out.name("openinvoicedataLine[itemNr].currencyCode");
+             openinvoicedataLineItemNrCurrencyCodeAdapter.write(out, value.openinvoicedataLineItemNrCurrencyCode);
+             out.name("openinvoicedataLine[itemNr].description");
+             openinvoicedataLineItemNrDescriptionAdapter.write(out, value.openinvoicedataLineItemNrDescription);
+             out.name("openinvoicedataLine[itemNr].itemAmount");
+             openinvoicedataLineItemNrItemAmountAdapter.write(out, value.openinvoicedataLineItemNrItemAmount);
+             out.name("openinvoicedataLine[itemNr].itemId");
+             openinvoicedataLineItemNrItemIdAdapter.write(out, value.openinvoicedataLineItemNrItemId);
+             out.name("openinvoicedataLine[itemNr].itemVatAmount");
+             openinvoicedataLineItemNrItemVatAmountAdapter.write(out, value.openinvoicedataLineItemNrItemVatAmount);
+             out.name("openinvoicedataLine[itemNr].itemVatPercentage");
+             openinvoicedataLineItemNrItemVatPercentageAdapter.write(out, value.openinvoicedataLineItemNrItemVatPercentage);
+             out.name("openinvoicedataLine[itemNr].numberOfItems");
+             openinvoicedataLineItemNrNumberOfItemsAdapter.write(out, value.openinvoicedataLineItemNrNumberOfItems);
+             out.name("openinvoicedataLine[itemNr].returnShippingCompany");
+             openinvoicedataLineItemNrReturnShippingCompanyAdapter.write(out, value.openinvoicedataLineItemNrReturnShippingCompany);
+             out.name("openinvoicedataLine[itemNr].returnTrackingNumber");
+             openinvoicedataLineItemNrReturnTrackingNumberAdapter.write(out, value.openinvoicedataLineItemNrReturnTrackingNumber);
+             out.name("openinvoicedataLine[itemNr].returnTrackingUri");
+             openinvoicedataLineItemNrReturnTrackingUriAdapter.write(out, value.openinvoicedataLineItemNrReturnTrackingUri);
+             out.name("openinvoicedataLine[itemNr].shippingCompany");
+             openinvoicedataLineItemNrShippingCompanyAdapter.write(out, value.openinvoicedataLineItemNrShippingCompany);
+             out.name("openinvoicedataLine[itemNr].shippingMethod");
+             openinvoicedataLineItemNrShippingMethodAdapter.write(out, value.openinvoicedataLineItemNrShippingMethod);
+             out.name("openinvoicedataLine[itemNr].trackingNumber");
+             openinvoicedataLineItemNrTrackingNumberAdapter.write(out, value.openinvoicedataLineItemNrTrackingNumber);
+             out.name("openinvoicedataLine[itemNr].trackingUri");
+             openinvoicedataLineItemNrTrackingUriAdapter.write(out, value.openinvoicedataLineItemNrTrackingUri);
+             out.endObject();
            }
 
            @Override
            public AdditionalDataOpenInvoice read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             AdditionalDataOpenInvoice instance = new AdditionalDataOpenInvoice();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "openinvoicedata.merchantData":
+                   instance.openinvoicedataMerchantData = openinvoicedataMerchantDataAdapter.read(in);
+                   break;
+                 case "openinvoicedata.numberOfLines":
+                   instance.openinvoicedataNumberOfLines = openinvoicedataNumberOfLinesAdapter.read(in);
+                   break;
+                 case "openinvoicedata.recipientFirstName":
+                   instance.openinvoicedataRecipientFirstName = openinvoicedataRecipientFirstNameAdapter.read(in);
+                   break;
+                 case "openinvoicedata.recipientLastName":
+                   instance.openinvoicedataRecipientLastName = openinvoicedataRecipientLastNameAdapter.read(in);
+                   break;
+                 case "openinvoicedataLine[itemNr].currencyCode":
+                   instance.openinvoicedataLineItemNrCurrencyCode = openinvoicedataLineItemNrCurrencyCodeAdapter.read(in);
+                   break;
+                 case "openinvoicedataLine[itemNr].description":
+                   instance.openinvoicedataLineItemNrDescription = openinvoicedataLineItemNrDescriptionAdapter.read(in);
+                   break;
+                 case "openinvoicedataLine[itemNr].itemAmount":
+                   instance.openinvoicedataLineItemNrItemAmount = openinvoicedataLineItemNrItemAmountAdapter.read(in);
+                   break;
+                 case "openinvoicedataLine[itemNr].itemId":
+                   instance.openinvoicedataLineItemNrItemId = openinvoicedataLineItemNrItemIdAdapter.read(in);
+                   break;
+                 case "openinvoicedataLine[itemNr].itemVatAmount":
+                   instance.openinvoicedataLineItemNrItemVatAmount = openinvoicedataLineItemNrItemVatAmountAdapter.read(in);
+                   break;
+                 case "openinvoicedataLine[itemNr].itemVatPercentage":
+                   instance.openinvoicedataLineItemNrItemVatPercentage = openinvoicedataLineItemNrItemVatPercentageAdapter.read(in);
+                   break;
+                 case "openinvoicedataLine[itemNr].numberOfItems":
+                   instance.openinvoicedataLineItemNrNumberOfItems = openinvoicedataLineItemNrNumberOfItemsAdapter.read(in);
+                   break;
+                 case "openinvoicedataLine[itemNr].returnShippingCompany":
+                   instance.openinvoicedataLineItemNrReturnShippingCompany = openinvoicedataLineItemNrReturnShippingCompanyAdapter.read(in);
+                   break;
+                 case "openinvoicedataLine[itemNr].returnTrackingNumber":
+                   instance.openinvoicedataLineItemNrReturnTrackingNumber = openinvoicedataLineItemNrReturnTrackingNumberAdapter.read(in);
+                   break;
+                 case "openinvoicedataLine[itemNr].returnTrackingUri":
+                   instance.openinvoicedataLineItemNrReturnTrackingUri = openinvoicedataLineItemNrReturnTrackingUriAdapter.read(in);
+                   break;
+                 case "openinvoicedataLine[itemNr].shippingCompany":
+                   instance.openinvoicedataLineItemNrShippingCompany = openinvoicedataLineItemNrShippingCompanyAdapter.read(in);
+                   break;
+                 case "openinvoicedataLine[itemNr].shippingMethod":
+                   instance.openinvoicedataLineItemNrShippingMethod = openinvoicedataLineItemNrShippingMethodAdapter.read(in);
+                   break;
+                 case "openinvoicedataLine[itemNr].trackingNumber":
+                   instance.openinvoicedataLineItemNrTrackingNumber = openinvoicedataLineItemNrTrackingNumberAdapter.read(in);
+                   break;
+                 case "openinvoicedataLine[itemNr].trackingUri":
+                   instance.openinvoicedataLineItemNrTrackingUri = openinvoicedataLineItemNrTrackingUriAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `AdditionalDataOpenInvoice` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
@@ -164,22 +164,34 @@ public class AdditionalDataOpi {
        if (!AdditionalDataOpi.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'AdditionalDataOpi' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<AdditionalDataOpi> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(AdditionalDataOpi.class));
+       final TypeAdapter<String> opiIncludeTransTokenAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<AdditionalDataOpi>() {
            @Override
            public void write(JsonWriter out, AdditionalDataOpi value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("opi.includeTransToken");
+             opiIncludeTransTokenAdapter.write(out, value.opiIncludeTransToken);
+             out.endObject();
            }
 
            @Override
            public AdditionalDataOpi read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             AdditionalDataOpi instance = new AdditionalDataOpi();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "opi.includeTransToken":
+                   instance.opiIncludeTransToken = opiIncludeTransTokenAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `AdditionalDataOpi` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
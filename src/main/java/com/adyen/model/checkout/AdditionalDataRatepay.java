@@ -402,22 +402,76 @@ public class AdditionalDataRatepay {
        if (!AdditionalDataRatepay.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'AdditionalDataRatepay' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<AdditionalDataRatepay> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(AdditionalDataRatepay.class));
+       final TypeAdapter<String> ratepayInstallmentAmountAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> ratepayInterestRateAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> ratepayLastInstallmentAmountAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> ratepayPaymentFirstdayAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> ratepaydataDeliveryDateAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> ratepaydataDueDateAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> ratepaydataInvoiceDateAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> ratepaydataInvoiceIdAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<AdditionalDataRatepay>() {
            @Override
            public void write(JsonWriter out, AdditionalDataRatepay value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("ratepay.installmentAmount");
+             ratepayInstallmentAmountAdapter.write(out, value.ratepayInstallmentAmount);
+             out.name("ratepay.interestRate");
+             ratepayInterestRateAdapter.write(out, value.ratepayInterestRate);
+             out.name("ratepay.lastInstallmentAmount");
+             ratepayLastInstallmentAmountAdapter.write(out, value.ratepayLastInstallmentAmount);
+             out.name("ratepay.paymentFirstday");
+             ratepayPaymentFirstdayAdapter.write(out, value.ratepayPaymentFirstday);
+             out.name("ratepaydata.deliveryDate");
+             ratepaydataDeliveryDateAdapter.write(out, value.ratepaydataDeliveryDate);
+             out.name("ratepaydata.dueDate");
+             ratepaydataDueDateAdapter.write(out, value.ratepaydataDueDate);
+             out.name("ratepaydata.invoiceDate");
+             ratepaydataInvoiceDateAdapter.write(out, value.ratepaydataInvoiceDate);
+             out.name("ratepaydata.invoiceId");
+             ratepaydataInvoiceIdAdapter.write(out, value.ratepaydataInvoiceId);
+             out.endObject();
            }
 
            @Override
            public AdditionalDataRatepay read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             AdditionalDataRatepay instance = new AdditionalDataRatepay();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "ratepay.installmentAmount":
+                   instance.ratepayInstallmentAmount = ratepayInstallmentAmountAdapter.read(in);
+                   break;
+                 case "ratepay.interestRate":
+                   instance.ratepayInterestRate = ratepayInterestRateAdapter.read(in);
+                   break;
+                 case "ratepay.lastInstallmentAmount":
+                   instance.ratepayLastInstallmentAmount = ratepayLastInstallmentAmountAdapter.read(in);
+                   break;
+                 case "ratepay.paymentFirstday":
+                   instance.ratepayPaymentFirstday = ratepayPaymentFirstdayAdapter.read(in);
+                   break;
+                 case "ratepaydata.deliveryDate":
+                   instance.ratepaydataDeliveryDate = ratepaydataDeliveryDateAdapter.read(in);
+                   break;
+                 case "ratepaydata.dueDate":
+                   instance.ratepaydataDueDate = ratepaydataDueDateAdapter.read(in);
+                   break;
+                 case "ratepaydata.invoiceDate":
+                   instance.ratepaydataInvoiceDate = ratepaydataInvoiceDateAdapter.read(in);
+                   break;
+                 case "ratepaydata.invoiceId":
+                   instance.ratepaydataInvoiceId = ratepaydataInvoiceIdAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `AdditionalDataRatepay` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
@@ -232,22 +232,46 @@ public class AdditionalDataRetry {
        if (!AdditionalDataRetry.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'AdditionalDataRetry' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<AdditionalDataRetry> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(AdditionalDataRetry.class));
+       final TypeAdapter<String> retryChainAttemptNumberAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> retryOrderAttemptNumberAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> retrySkipRetryAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<AdditionalDataRetry>() {
            @Override
            public void write(JsonWriter out, AdditionalDataRetry value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("retry.chainAttemptNumber");
+             retryChainAttemptNumberAdapter.write(out, value.retryChainAttemptNumber);
+             out.name("retry.orderAttemptNumber");
+             retryOrderAttemptNumberAdapter.write(out, value.retryOrderAttemptNumber);
+             out.name("retry.skipRetry");
+             retrySkipRetryAdapter.write(out, value.retrySkipRetry);
+             out.endObject();
            }
 
            @Override
            public AdditionalDataRetry read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             AdditionalDataRetry instance = new AdditionalDataRetry();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "retry.chainAttemptNumber":
+                   instance.retryChainAttemptNumber = retryChainAttemptNumberAdapter.read(in);
+                   break;
+                 case "retry.orderAttemptNumber":
+                   instance.retryOrderAttemptNumber = retryOrderAttemptNumberAdapter.read(in);
+                   break;
+                 case "retry.skipRetry":
+                   instance.retrySkipRetry = retrySkipRetryAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `AdditionalDataRetry` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
@@ -844,22 +844,154 @@ public class AdditionalDataRisk {
        if (!AdditionalDataRisk.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'AdditionalDataRisk' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<AdditionalDataRisk> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(AdditionalDataRisk.class));
+       final TypeAdapter<String> riskdataCustomFieldNameAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> riskdataBasketItemItemNrAmountPerItemAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> riskdataBasketItemItemNrBrandAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> riskdataBasketItemItemNrCategoryAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> riskdataBasketItemItemNrColorAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> riskdataBasketItemItemNrCurrencyAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> riskdataBasketItemItemNrItemIDAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> riskdataBasketItemItemNrManufacturerAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> riskdataBasketItemItemNrProductTitleAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> riskdataBasketItemItemNrQuantityAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> riskdataBasketItemItemNrReceiverEmailAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> riskdataBasketItemItemNrSizeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> riskdataBasketItemItemNrSkuAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> riskdataBasketItemItemNrUpcAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> riskdataPromotionsPromotionItemNrPromotionCodeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> riskdataPromotionsPromotionItemNrPromotionDiscountAmountAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> riskdataPromotionsPromotionItemNrPromotionDiscountCurrencyAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> riskdataPromotionsPromotionItemNrPromotionDiscountPercentageAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> riskdataPromotionsPromotionItemNrPromotionNameAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> riskdataRiskProfileReferenceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> riskdataSkipRiskAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<AdditionalDataRisk>() {
            @Override
            public void write(JsonWriter out, AdditionalDataRisk value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("riskdata.[customFieldName]");
+             riskdataCustomFieldNameAdapter.write(out, value.riskdataCustomFieldName);
+             out.name("riskdata.basket.item[itemNr].amountPerItem");
+             riskdataBasketItemItemNrAmountPerItemAdapter.write(out, value.riskdataBasketItemItemNrAmountPerItem);
+             out.name("riskdata.basket.item[itemNr].brand");
+             riskdataBasketItemItemNrBrandAdapter.write(out, value.riskdataBasketItemItemNrBrand);
+             out.name("riskdata.basket.item[itemNr].category");
+             riskdataBasketItemItemNrCategoryAdapter.write(out, value.riskdataBasketItemItemNrCategory);
+             out.name("riskdata.basket.item[itemNr].color");
+             riskdataBasketItemItemNrColorAdapter.write(out, value.riskdataBasketItemItemNrColor);
+             out.name("riskdata.basket.item[itemNr].currency");
+             riskdataBasketItemItemNrCurrencyAdapter.write(out, value.riskdataBasketItemItemNrCurrency);
+             out.name("riskdata.basket.item[itemNr].itemID");
+             riskdataBasketItemItemNrItemIDAdapter.write(out, value.riskdataBasketItemItemNrItemID);
+             out.name("riskdata.basket.item[itemNr].manufacturer");
+             riskdataBasketItemItemNrManufacturerAdapter.write(out, value.riskdataBasketItemItemNrManufacturer);
+             out.name("riskdata.basket.item[itemNr].productTitle");
+             riskdataBasketItemItemNrProductTitleAdapter.write(out, value.riskdataBasketItemItemNrProductTitle);
+             out.name("riskdata.basket.item[itemNr].quantity");
+             riskdataBasketItemItemNrQuantityAdapter.write(out, value.riskdataBasketItemItemNrQuantity);
+             out.name("riskdata.basket.item[itemNr].receiverEmail");
+             riskdataBasketItemItemNrReceiverEmailAdapter.write(out, value.riskdataBasketItemItemNrReceiverEmail);
+             out.name("riskdata.basket.item[itemNr].size");
+             riskdataBasketItemItemNrSizeAdapter.write(out, value.riskdataBasketItemItemNrSize);
+             out.name("riskdata.basket.item[itemNr].sku");
+             riskdataBasketItemItemNrSkuAdapter.write(out, value.riskdataBasketItemItemNrSku);
+             out.name("riskdata.basket.item[itemNr].upc");
+             riskdataBasketItemItemNrUpcAdapter.write(out, value.riskdataBasketItemItemNrUpc);
+             out.name("riskdata.promotions.promotion[itemNr].promotionCode");
+             riskdataPromotionsPromotionItemNrPromotionCodeAdapter.write(out, value.riskdataPromotionsPromotionItemNrPromotionCode);
+             out.name("riskdata.promotions.promotion[itemNr].promotionDiscountAmount");
+             riskdataPromotionsPromotionItemNrPromotionDiscountAmountAdapter.write(out, value.riskdataPromotionsPromotionItemNrPromotionDiscountAmount);
+             out.name("riskdata.promotions.promotion[itemNr].promotionDiscountCurrency");
+             riskdataPromotionsPromotionItemNrPromotionDiscountCurrencyAdapter.write(out, value.riskdataPromotionsPromotionItemNrPromotionDiscountCurrency);
+             out.name("riskdata.promotions.promotion[itemNr].promotionDiscountPercentage");
+             riskdataPromotionsPromotionItemNrPromotionDiscountPercentageAdapter.write(out, value.riskdataPromotionsPromotionItemNrPromotionDiscountPercentage);
+             out.name("riskdata.promotions.promotion[itemNr].promotionName");
+             riskdataPromotionsPromotionItemNrPromotionNameAdapter.write(out, value.riskdataPromotionsPromotionItemNrPromotionName);
+             out.name("riskdata.riskProfileReference");
+             riskdataRiskProfileReferenceAdapter.write(out, value.riskdataRiskProfileReference);
+             out.name("riskdata.skipRisk");
+             riskdataSkipRiskAdapter.write(out, value.riskdataSkipRisk);
+             out.endObject();
            }
 
            @Override
            public AdditionalDataRisk read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             AdditionalDataRisk instance = new AdditionalDataRisk();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "riskdata.[customFieldName]":
+                   instance.riskdataCustomFieldName = riskdataCustomFieldNameAdapter.read(in);
+                   break;
+                 case "riskdata.basket.item[itemNr].amountPerItem":
+                   instance.riskdataBasketItemItemNrAmountPerItem = riskdataBasketItemItemNrAmountPerItemAdapter.read(in);
+                   break;
+                 case "riskdata.basket.item[itemNr].brand":
+                   instance.riskdataBasketItemItemNrBrand = riskdataBasketItemItemNrBrandAdapter.read(in);
+                   break;
+                 case "riskdata.basket.item[itemNr].category":
+                   instance.riskdataBasketItemItemNrCategory = riskdataBasketItemItemNrCategoryAdapter.read(in);
+                   break;
+                 case "riskdata.basket.item[itemNr].color":
+                   instance.riskdataBasketItemItemNrColor = riskdataBasketItemItemNrColorAdapter.read(in);
+                   break;
+                 case "riskdata.basket.item[itemNr].currency":
+                   instance.riskdataBasketItemItemNrCurrency = riskdataBasketItemItemNrCurrencyAdapter.read(in);
+                   break;
+                 case "riskdata.basket.item[itemNr].itemID":
+                   instance.riskdataBasketItemItemNrItemID = riskdataBasketItemItemNrItemIDAdapter.read(in);
+                   break;
+                 case "riskdata.basket.item[itemNr].manufacturer":
+                   instance.riskdataBasketItemItemNrManufacturer = riskdataBasketItemItemNrManufacturerAdapter.read(in);
+                   break;
+                 case "riskdata.basket.item[itemNr].productTitle":
+                   instance.riskdataBasketItemItemNrProductTitle = riskdataBasketItemItemNrProductTitleAdapter.read(in);
+                   break;
+                 case "riskdata.basket.item[itemNr].quantity":
+                   instance.riskdataBasketItemItemNrQuantity = riskdataBasketItemItemNrQuantityAdapter.read(in);
+                   break;
+                 case "riskdata.basket.item[itemNr].receiverEmail":
+                   instance.riskdataBasketItemItemNrReceiverEmail = riskdataBasketItemItemNrReceiverEmailAdapter.read(in);
+                   break;
+                 case "riskdata.basket.item[itemNr].size":
+                   instance.riskdataBasketItemItemNrSize = riskdataBasketItemItemNrSizeAdapter.read(in);
+                   break;
+                 case "riskdata.basket.item[itemNr].sku":
+                   instance.riskdataBasketItemItemNrSku = riskdataBasketItemItemNrSkuAdapter.read(in);
+                   break;
+                 case "riskdata.basket.item[itemNr].upc":
+                   instance.riskdataBasketItemItemNrUpc = riskdataBasketItemItemNrUpcAdapter.read(in);
+                   break;
+                 case "riskdata.promotions.promotion[itemNr].promotionCode":
+                   instance.riskdataPromotionsPromotionItemNrPromotionCode = riskdataPromotionsPromotionItemNrPromotionCodeAdapter.read(in);
+                   break;
+                 case "riskdata.promotions.promotion[itemNr].promotionDiscountAmount":
+                   instance.riskdataPromotionsPromotionItemNrPromotionDiscountAmount = riskdataPromotionsPromotionItemNrPromotionDiscountAmountAdapter.read(in);
+                   break;
+                 case "riskdata.promotions.promotion[itemNr].promotionDiscountCurrency":
+                   instance.riskdataPromotionsPromotionItemNrPromotionDiscountCurrency = riskdataPromotionsPromotionItemNrPromotionDiscountCurrencyAdapter.read(in);
+                   break;
+                 case "riskdata.promotions.promotion[itemNr].promotionDiscountPercentage":
+                   instance.riskdataPromotionsPromotionItemNrPromotionDiscountPercentage = riskdataPromotionsPromotionItemNrPromotionDiscountPercentageAdapter.read(in);
+                   break;
+                 case "riskdata.promotions.promotion[itemNr].promotionName":
+                   instance.riskdataPromotionsPromotionItemNrPromotionName = riskdataPromotionsPromotionItemNrPromotionNameAdapter.read(in);
+                   break;
+                 case "riskdata.riskProfileReference":
+                   instance.riskdataRiskProfileReference = riskdataRiskProfileReferenceAdapter.read(in);
+                   break;
+                 case "riskdata.skipRisk":
+                   instance.riskdataSkipRisk = riskdataSkipRiskAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `AdditionalDataRisk` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
@@ -640,22 +640,118 @@ public class AdditionalDataRiskStandalone {
        if (!AdditionalDataRiskStandalone.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'AdditionalDataRiskStandalone' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<AdditionalDataRiskStandalone> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(AdditionalDataRiskStandalone.class));
+       final TypeAdapter<String> payPalCountryCodeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> payPalEmailIdAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> payPalFirstNameAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> payPalLastNameAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> payPalPayerIdAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> payPalPhoneAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> payPalProtectionEligibilityAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> payPalTransactionIdAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> avsResultRawAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> binAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> cvcResultRawAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> riskTokenAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> threeDAuthenticatedAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> threeDOfferedAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> tokenDataTypeAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<AdditionalDataRiskStandalone>() {
            @Override
            public void write(JsonWriter out, AdditionalDataRiskStandalone value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("PayPal.CountryCode");
+             payPalCountryCodeAdapter.write(out, value.payPalCountryCode);
+             out.name("PayPal.EmailId");
+             payPalEmailIdAdapter.write(out, value.payPalEmailId);
+             out.name("PayPal.FirstName");
+             payPalFirstNameAdapter.write(out, value.payPalFirstName);
+             out.name("PayPal.LastName");
+             payPalLastNameAdapter.write(out, value.payPalLastName);
+             out.name("PayPal.PayerId");
+             payPalPayerIdAdapter.write(out, value.payPalPayerId);
+             out.name("PayPal.Phone");
+             payPalPhoneAdapter.write(out, value.payPalPhone);
+             out.name("PayPal.ProtectionEligibility");
+             payPalProtectionEligibilityAdapter.write(out, value.payPalProtectionEligibility);
+             out.name("PayPal.TransactionId");
+             payPalTransactionIdAdapter.write(out, value.payPalTransactionId);
+             out.name("avsResultRaw");
+             avsResultRawAdapter.write(out, value.avsResultRaw);
+             out.name("bin");
+             binAdapter.write(out, value.bin);
+             out.name("cvcResultRaw");
+             cvcResultRawAdapter.write(out, value.cvcResultRaw);
+             out.name("riskToken");
+             riskTokenAdapter.write(out, value.riskToken);
+             out.name("threeDAuthenticated");
+             threeDAuthenticatedAdapter.write(out, value.threeDAuthenticated);
+             out.name("threeDOffered");
+             threeDOfferedAdapter.write(out, value.threeDOffered);
+             out.name("tokenDataType");
+             tokenDataTypeAdapter.write(out, value.tokenDataType);
+             out.endObject();
            }
 
            @Override
            public AdditionalDataRiskStandalone read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             AdditionalDataRiskStandalone instance = new AdditionalDataRiskStandalone();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "PayPal.CountryCode":
+                   instance.payPalCountryCode = payPalCountryCodeAdapter.read(in);
+                   break;
+                 case "PayPal.EmailId":
+                   instance.payPalEmailId = payPalEmailIdAdapter.read(in);
+                   break;
+                 case "PayPal.FirstName":
+                   instance.payPalFirstName = payPalFirstNameAdapter.read(in);
+                   break;
+                 case "PayPal.LastName":
+                   instance.payPalLastName = payPalLastNameAdapter.read(in);
+                   break;
+                 case "PayPal.PayerId":
+                   instance.payPalPayerId = payPalPayerIdAdapter.read(in);
+                   break;
+                 case "PayPal.Phone":
+                   instance.payPalPhone = payPalPhoneAdapter.read(in);
+                   break;
+                 case "PayPal.ProtectionEligibility":
+                   instance.payPalProtectionEligibility = payPalProtectionEligibilityAdapter.read(in);
+                   break;
+                 case "PayPal.TransactionId":
+                   instance.payPalTransactionId = payPalTransactionIdAdapter.read(in);
+                   break;
+                 case "avsResultRaw":
+                   instance.avsResultRaw = avsResultRawAdapter.read(in);
+                   break;
+                 case "bin":
+                   instance.bin = binAdapter.read(in);
+                   break;
+                 case "cvcResultRaw":
+                   instance.cvcResultRaw = cvcResultRawAdapter.read(in);
+                   break;
+                 case "riskToken":
+                   instance.riskToken = riskTokenAdapter.read(in);
+                   break;
+                 case "threeDAuthenticated":
+                   instance.threeDAuthenticated = threeDAuthenticatedAdapter.read(in);
+                   break;
+                 case "threeDOffered":
+                   instance.threeDOffered = threeDOfferedAdapter.read(in);
+                   break;
+                 case "tokenDataType":
+                   instance.tokenDataType = tokenDataTypeAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `AdditionalDataRiskStandalone` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
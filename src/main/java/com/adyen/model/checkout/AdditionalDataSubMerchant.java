@@ -470,22 +470,88 @@ public class AdditionalDataSubMerchant {
        if (!AdditionalDataSubMerchant.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'AdditionalDataSubMerchant' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<AdditionalDataSubMerchant> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(AdditionalDataSubMerchant.class));
+       final TypeAdapter<String> subMerchantNumberOfSubSellersAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> subMerchantSubSellerSubSellerNrCityAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> subMerchantSubSellerSubSellerNrCountryAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> subMerchantSubSellerSubSellerNrIdAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> subMerchantSubSellerSubSellerNrMccAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> subMerchantSubSellerSubSellerNrNameAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> subMerchantSubSellerSubSellerNrPostalCodeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> subMerchantSubSellerSubSellerNrStateAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> subMerchantSubSellerSubSellerNrStreetAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> subMerchantSubSellerSubSellerNrTaxIdAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<AdditionalDataSubMerchant>() {
            @Override
            public void write(JsonWriter out, AdditionalDataSubMerchant value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("subMerchant.numberOfSubSellers");
+             subMerchantNumberOfSubSellersAdapter.write(out, value.subMerchantNumberOfSubSellers);
+             out.name("subMerchant.subSeller[subSellerNr].city");
+             subMerchantSubSellerSubSellerNrCityAdapter.write(out, value.subMerchantSubSellerSubSellerNrCity);
+             out.name("subMerchant.subSeller[subSellerNr].country");
+             subMerchantSubSellerSubSellerNrCountryAdapter.write(out, value.subMerchantSubSellerSubSellerNrCountry);
+             out.name("subMerchant.subSeller[subSellerNr].id");
+             subMerchantSubSellerSubSellerNrIdAdapter.write(out, value.subMerchantSubSellerSubSellerNrId);
+             out.name("subMerchant.subSeller[subSellerNr].mcc");
+             subMerchantSubSellerSubSellerNrMccAdapter.write(out, value.subMerchantSubSellerSubSellerNrMcc);
+             out.name("subMerchant.subSeller[subSellerNr].name");
+             subMerchantSubSellerSubSellerNrNameAdapter.write(out, value.subMerchantSubSellerSubSellerNrName);
+             out.name("subMerchant.subSeller[subSellerNr].postalCode");
+             subMerchantSubSellerSubSellerNrPostalCodeAdapter.write(out, value.subMerchantSubSellerSubSellerNrPostalCode);
+             out.name("subMerchant.subSeller[subSellerNr].state");
+             subMerchantSubSellerSubSellerNrStateAdapter.write(out, value.subMerchantSubSellerSubSellerNrState);
+             out.name("subMerchant.subSeller[subSellerNr].street");
+             subMerchantSubSellerSubSellerNrStreetAdapter.write(out, value.subMerchantSubSellerSubSellerNrStreet);
+             out.name("subMerchant.subSeller[subSellerNr].taxId");
+             subMerchantSubSellerSubSellerNrTaxIdAdapter.write(out, value.subMerchantSubSellerSubSellerNrTaxId);
+             out.endObject();
            }
 
            @Override
            public AdditionalDataSubMerchant read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             AdditionalDataSubMerchant instance = new AdditionalDataSubMerchant();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "subMerchant.numberOfSubSellers":
+                   instance.subMerchantNumberOfSubSellers = subMerchantNumberOfSubSellersAdapter.read(in);
+                   break;
+                 case "subMerchant.subSeller[subSellerNr].city":
+                   instance.subMerchantSubSellerSubSellerNrCity = subMerchantSubSellerSubSellerNrCityAdapter.read(in);
+                   break;
+                 case "subMerchant.subSeller[subSellerNr].country":
+                   instance.subMerchantSubSellerSubSellerNrCountry = subMerchantSubSellerSubSellerNrCountryAdapter.read(in);
+                   break;
+                 case "subMerchant.subSeller[subSellerNr].id":
+                   instance.subMerchantSubSellerSubSellerNrId = subMerchantSubSellerSubSellerNrIdAdapter.read(in);
+                   break;
+                 case "subMerchant.subSeller[subSellerNr].mcc":
+                   instance.subMerchantSubSellerSubSellerNrMcc = subMerchantSubSellerSubSellerNrMccAdapter.read(in);
+                   break;
+                 case "subMerchant.subSeller[subSellerNr].name":
+                   instance.subMerchantSubSellerSubSellerNrName = subMerchantSubSellerSubSellerNrNameAdapter.read(in);
+                   break;
+                 case "subMerchant.subSeller[subSellerNr].postalCode":
+                   instance.subMerchantSubSellerSubSellerNrPostalCode = subMerchantSubSellerSubSellerNrPostalCodeAdapter.read(in);
+                   break;
+                 case "subMerchant.subSeller[subSellerNr].state":
+                   instance.subMerchantSubSellerSubSellerNrState = subMerchantSubSellerSubSellerNrStateAdapter.read(in);
+                   break;
+                 case "subMerchant.subSeller[subSellerNr].street":
+                   instance.subMerchantSubSellerSubSellerNrStreet = subMerchantSubSellerSubSellerNrStreetAdapter.read(in);
+                   break;
+                 case "subMerchant.subSeller[subSellerNr].taxId":
+                   instance.subMerchantSubSellerSubSellerNrTaxId = subMerchantSubSellerSubSellerNrTaxIdAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `AdditionalDataSubMerchant` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
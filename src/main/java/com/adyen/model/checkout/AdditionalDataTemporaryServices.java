@@ -436,22 +436,82 @@ public class AdditionalDataTemporaryServices {
        if (!AdditionalDataTemporaryServices.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'AdditionalDataTemporaryServices' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<AdditionalDataTemporaryServices> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(AdditionalDataTemporaryServices.class));
+       final TypeAdapter<String> enhancedSchemeDataCustomerReferenceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> enhancedSchemeDataEmployeeNameAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> enhancedSchemeDataJobDescriptionAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> enhancedSchemeDataRegularHoursRateAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> enhancedSchemeDataRegularHoursWorkedAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> enhancedSchemeDataRequestNameAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> enhancedSchemeDataTempStartDateAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> enhancedSchemeDataTempWeekEndingAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> enhancedSchemeDataTotalTaxAmountAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<AdditionalDataTemporaryServices>() {
            @Override
            public void write(JsonWriter out, AdditionalDataTemporaryServices value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("enhancedSchemeData.customerReference");
+             enhancedSchemeDataCustomerReferenceAdapter.write(out, value.enhancedSchemeDataCustomerReference);
+             out.name("enhancedSchemeData.employeeName");
+             enhancedSchemeDataEmployeeNameAdapter.write(out, value.enhancedSchemeDataEmployeeName);
+             out.name("enhancedSchemeData.jobDescription");
+             enhancedSchemeDataJobDescriptionAdapter.write(out, value.enhancedSchemeDataJobDescription);
+             out.name("enhancedSchemeData.regularHoursRate");
+             enhancedSchemeDataRegularHoursRateAdapter.write(out, value.enhancedSchemeDataRegularHoursRate);
+             out.name("enhancedSchemeData.regularHoursWorked");
+             enhancedSchemeDataRegularHoursWorkedAdapter.write(out, value.enhancedSchemeDataRegularHoursWorked);
+             out.name("enhancedSchemeData.requestName");
+             enhancedSchemeDataRequestNameAdapter.write(out, value.enhancedSchemeDataRequestName);
+             out.name("enhancedSchemeData.tempStartDate");
+             enhancedSchemeDataTempStartDateAdapter.write(out, value.enhancedSchemeDataTempStartDate);
+             out.name("enhancedSchemeData.tempWeekEnding");
+             enhancedSchemeDataTempWeekEndingAdapter.write(out, value.enhancedSchemeDataTempWeekEnding);
+             out.name("enhancedSchemeData.totalTaxAmount");
+             enhancedSchemeDataTotalTaxAmountAdapter.write(out, value.enhancedSchemeDataTotalTaxAmount);
+             out.endObject();
            }
 
            @Override
            public AdditionalDataTemporaryServices read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             AdditionalDataTemporaryServices instance = new AdditionalDataTemporaryServices();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "enhancedSchemeData.customerReference":
+                   instance.enhancedSchemeDataCustomerReference = enhancedSchemeDataCustomerReferenceAdapter.read(in);
+                   break;
+                 case "enhancedSchemeData.employeeName":
+                   instance.enhancedSchemeDataEmployeeName = enhancedSchemeDataEmployeeNameAdapter.read(in);
+                   break;
+                 case "enhancedSchemeData.jobDescription":
+                   instance.enhancedSchemeDataJobDescription = enhancedSchemeDataJobDescriptionAdapter.read(in);
+                   break;
+                 case "enhancedSchemeData.regularHoursRate":
+                   instance.enhancedSchemeDataRegularHoursRate = enhancedSchemeDataRegularHoursRateAdapter.read(in);
+                   break;
+                 case "enhancedSchemeData.regularHoursWorked":
+                   instance.enhancedSchemeDataRegularHoursWorked = enhancedSchemeDataRegularHoursWorkedAdapter.read(in);
+                   break;
+                 case "enhancedSchemeData.requestName":
+                   instance.enhancedSchemeDataRequestName = enhancedSchemeDataRequestNameAdapter.read(in);
+                   break;
+                 case "enhancedSchemeData.tempStartDate":
+                   instance.enhancedSchemeDataTempStartDate = enhancedSchemeDataTempStartDateAdapter.read(in);
+                   break;
+                 case "enhancedSchemeData.tempWeekEnding":
+                   instance.enhancedSchemeDataTempWeekEnding = enhancedSchemeDataTempWeekEndingAdapter.read(in);
+                   break;
+                 case "enhancedSchemeData.totalTaxAmount":
+                   instance.enhancedSchemeDataTotalTaxAmount = enhancedSchemeDataTotalTaxAmountAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `AdditionalDataTemporaryServices` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
@@ -334,22 +334,64 @@ public class AdditionalDataWallets {
        if (!AdditionalDataWallets.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'AdditionalDataWallets' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<AdditionalDataWallets> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(AdditionalDataWallets.class));
+       final TypeAdapter<String> androidpayTokenAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> masterpassTransactionIdAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> paymentTokenAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> paywithgoogleTokenAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> samsungpayTokenAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> visacheckoutCallIdAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<AdditionalDataWallets>() {
            @Override
            public void write(JsonWriter out, AdditionalDataWallets value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("androidpay.token");
+             androidpayTokenAdapter.write(out, value.androidpayToken);
+             out.name("masterpass.transactionId");
+             masterpassTransactionIdAdapter.write(out, value.masterpassTransactionId);
+             out.name("payment.token");
+             paymentTokenAdapter.write(out, value.paymentToken);
+             out.name("paywithgoogle.token");
+             paywithgoogleTokenAdapter.write(out, value.paywithgoogleToken);
+             out.name("samsungpay.token");
+             samsungpayTokenAdapter.write(out, value.samsungpayToken);
+             out.name("visacheckout.callId");
+             visacheckoutCallIdAdapter.write(out, value.visacheckoutCallId);
+             out.endObject();
            }
 
            @Override
            public AdditionalDataWallets read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             AdditionalDataWallets instance = new AdditionalDataWallets();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "androidpay.token":
+                   instance.androidpayToken = androidpayTokenAdapter.read(in);
+                   break;
+                 case "masterpass.transactionId":
+                   instance.masterpassTransactionId = masterpassTransactionIdAdapter.read(in);
+                   break;
+                 case "payment.token":
+                   instance.paymentToken = paymentTokenAdapter.read(in);
+                   break;
+                 case "paywithgoogle.token":
+                   instance.paywithgoogleToken = paywithgoogleTokenAdapter.read(in);
+                   break;
+                 case "samsungpay.token":
+                   instance.samsungpayToken = samsungpayTokenAdapter.read(in);
+                   break;
+                 case "visacheckout.callId":
+                   instance.visacheckoutCallId = visacheckoutCallIdAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `AdditionalDataWallets` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
@@ -346,22 +346,89 @@ public class Address {
        if (!Address.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'Address' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<Address> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(Address.class));
+       final TypeAdapter<String> cityAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> countryAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> houseNumberOrNameAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> postalCodeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> stateOrProvinceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> streetAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<Address>() {
            @Override
            public void write(JsonWriter out, Address value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("city");
+             cityAdapter.write(out, value.city);
+             out.name("country");
+             countryAdapter.write(out, value.country);
+             out.name("houseNumberOrName");
+             houseNumberOrNameAdapter.write(out, value.houseNumberOrName);
+             out.name("postalCode");
+             postalCodeAdapter.write(out, value.postalCode);
+             out.name("stateOrProvince");
+             stateOrProvinceAdapter.write(out, value.stateOrProvince);
+             out.name("street");
+             streetAdapter.write(out, value.street);
+             out.endObject();
            }
 
            @Override
            public Address read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             Address instance = new Address();
+             boolean cityFound = false;
+             boolean countryFound = false;
+             boolean houseNumberOrNameFound = false;
+             boolean postalCodeFound = false;
+             boolean streetFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "city":
+                   instance.city = cityAdapter.read(in);
+                   cityFound = true;
+                   break;
+                 case "country":
+                   instance.country = countryAdapter.read(in);
+                   countryFound = true;
+                   break;
+                 case "houseNumberOrName":
+                   instance.houseNumberOrName = houseNumberOrNameAdapter.read(in);
+                   houseNumberOrNameFound = true;
+                   break;
+                 case "postalCode":
+                   instance.postalCode = postalCodeAdapter.read(in);
+                   postalCodeFound = true;
+                   break;
+                 case "stateOrProvince":
+                   instance.stateOrProvince = stateOrProvinceAdapter.read(in);
+                   break;
+                 case "street":
+                   instance.street = streetAdapter.read(in);
+                   streetFound = true;
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `Address` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!cityFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "city", in.getPath()));
+             }
+             if (!countryFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "country", in.getPath()));
+             }
+             if (!houseNumberOrNameFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "houseNumberOrName", in.getPath()));
+             }
+             if (!postalCodeFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "postalCode", in.getPath()));
+             }
+             if (!streetFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "street", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
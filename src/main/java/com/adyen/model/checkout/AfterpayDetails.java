@@ -94,13 +94,20 @@ public class AfterpayDetails {
       return String.valueOf(value);
     }
 
-    public static TypeEnum fromValue(String value) {
+    private static final Map<String, TypeEnum> BY_VALUE = new HashMap<String, TypeEnum>();
+
+    static {
       for (TypeEnum b : TypeEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static TypeEnum fromValue(String value) {
+      TypeEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<TypeEnum> {
@@ -396,22 +403,69 @@ public class AfterpayDetails {
        if (!AfterpayDetails.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'AfterpayDetails' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<AfterpayDetails> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(AfterpayDetails.class));
+       final TypeAdapter<String> billingAddressAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> deliveryAddressAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> personalDetailsAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> recurringDetailReferenceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> storedPaymentMethodIdAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<TypeEnum> typeAdapter = gson.getAdapter(TypeEnum.class);
 
        return (TypeAdapter<T>) new TypeAdapter<AfterpayDetails>() {
            @Override
            public void write(JsonWriter out, AfterpayDetails value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("billingAddress");
+             billingAddressAdapter.write(out, value.billingAddress);
+             out.name("deliveryAddress");
+             deliveryAddressAdapter.write(out, value.deliveryAddress);
+             out.name("personalDetails");
+             personalDetailsAdapter.write(out, value.personalDetails);
+             out.name("recurringDetailReference");
+             recurringDetailReferenceAdapter.write(out, value.recurringDetailReference);
+             out.name("storedPaymentMethodId");
+             storedPaymentMethodIdAdapter.write(out, value.storedPaymentMethodId);
+             out.name("type");
+             typeAdapter.write(out, value.type);
+             out.endObject();
            }
 
            @Override
            public AfterpayDetails read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             AfterpayDetails instance = new AfterpayDetails();
+             boolean typeFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "billingAddress":
+                   instance.billingAddress = billingAddressAdapter.read(in);
+                   break;
+                 case "deliveryAddress":
+                   instance.deliveryAddress = deliveryAddressAdapter.read(in);
+                   break;
+                 case "personalDetails":
+                   instance.personalDetails = personalDetailsAdapter.read(in);
+                   break;
+                 case "recurringDetailReference":
+                   instance.recurringDetailReference = recurringDetailReferenceAdapter.read(in);
+                   break;
+                 case "storedPaymentMethodId":
+                   instance.storedPaymentMethodId = storedPaymentMethodIdAdapter.read(in);
+                   break;
+                 case "type":
+                   instance.type = typeAdapter.read(in);
+                   typeFound = true;
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `AfterpayDetails` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!typeFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "type", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
@@ -74,13 +74,20 @@ public class AmazonPayDetails {
       return String.valueOf(value);
     }
 
-    public static TypeEnum fromValue(String value) {
+    private static final Map<String, TypeEnum> BY_VALUE = new HashMap<String, TypeEnum>();
+
+    static {
       for (TypeEnum b : TypeEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static TypeEnum fromValue(String value) {
+      TypeEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<TypeEnum> {
@@ -246,22 +253,40 @@ public class AmazonPayDetails {
        if (!AmazonPayDetails.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'AmazonPayDetails' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<AmazonPayDetails> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(AmazonPayDetails.class));
+       final TypeAdapter<String> amazonPayTokenAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<TypeEnum> typeAdapter = gson.getAdapter(TypeEnum.class);
 
        return (TypeAdapter<T>) new TypeAdapter<AmazonPayDetails>() {
            @Override
            public void write(JsonWriter out, AmazonPayDetails value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("amazonPayToken");
+             amazonPayTokenAdapter.write(out, value.amazonPayToken);
+             out.name("type");
+             typeAdapter.write(out, value.type);
+             out.endObject();
            }
 
            @Override
            public AmazonPayDetails read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             AmazonPayDetails instance = new AmazonPayDetails();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "amazonPayToken":
+                   instance.amazonPayToken = amazonPayTokenAdapter.read(in);
+                   break;
+                 case "type":
+                   instance.type = typeAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `AmazonPayDetails` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
@@ -70,13 +70,20 @@ public class AndroidPayDetails {
       return String.valueOf(value);
     }
 
-    public static TypeEnum fromValue(String value) {
+    private static final Map<String, TypeEnum> BY_VALUE = new HashMap<String, TypeEnum>();
+
+    static {
       for (TypeEnum b : TypeEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static TypeEnum fromValue(String value) {
+      TypeEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<TypeEnum> {
@@ -212,22 +219,34 @@ public class AndroidPayDetails {
        if (!AndroidPayDetails.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'AndroidPayDetails' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<AndroidPayDetails> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(AndroidPayDetails.class));
+       final TypeAdapter<TypeEnum> typeAdapter = gson.getAdapter(TypeEnum.class);
 
        return (TypeAdapter<T>) new TypeAdapter<AndroidPayDetails>() {
            @Override
            public void write(JsonWriter out, AndroidPayDetails value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("type");
+             typeAdapter.write(out, value.type);
+             out.endObject();
            }
 
            @Override
            public AndroidPayDetails read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             AndroidPayDetails instance = new AndroidPayDetails();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "type":
+                   instance.type = typeAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `AndroidPayDetails` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
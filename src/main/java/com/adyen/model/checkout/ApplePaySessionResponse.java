@@ -172,22 +172,39 @@ public class ApplePaySessionResponse {
        if (!ApplePaySessionResponse.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'ApplePaySessionResponse' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<ApplePaySessionResponse> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(ApplePaySessionResponse.class));
+       final TypeAdapter<String> dataAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<ApplePaySessionResponse>() {
            @Override
            public void write(JsonWriter out, ApplePaySessionResponse value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("data");
+             dataAdapter.write(out, value.data);
+             out.endObject();
            }
 
            @Override
            public ApplePaySessionResponse read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             ApplePaySessionResponse instance = new ApplePaySessionResponse();
+             boolean dataFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "data":
+                   instance.data = dataAdapter.read(in);
+                   dataFound = true;
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `ApplePaySessionResponse` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!dataFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "data", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
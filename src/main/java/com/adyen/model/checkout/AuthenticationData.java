@@ -75,13 +75,20 @@ public class AuthenticationData {
       return String.valueOf(value);
     }
 
-    public static AttemptAuthenticationEnum fromValue(String value) {
+    private static final Map<String, AttemptAuthenticationEnum> BY_VALUE = new HashMap<String, AttemptAuthenticationEnum>();
+
+    static {
       for (AttemptAuthenticationEnum b : AttemptAuthenticationEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static AttemptAuthenticationEnum fromValue(String value) {
+      AttemptAuthenticationEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<AttemptAuthenticationEnum> {
@@ -281,22 +288,46 @@ public class AuthenticationData {
        if (!AuthenticationData.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'AuthenticationData' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<AuthenticationData> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(AuthenticationData.class));
+       final TypeAdapter<AttemptAuthenticationEnum> attemptAuthenticationAdapter = gson.getAdapter(AttemptAuthenticationEnum.class);
+       final TypeAdapter<Boolean> authenticationOnlyAdapter = gson.getAdapter(Boolean.class);
+       final TypeAdapter<ThreeDSRequestData> threeDSRequestDataAdapter = gson.getAdapter(ThreeDSRequestData.class);
 
        return (TypeAdapter<T>) new TypeAdapter<AuthenticationData>() {
            @Override
            public void write(JsonWriter out, AuthenticationData value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("attemptAuthentication");
+             attemptAuthenticationAdapter.write(out, value.attemptAuthentication);
+             out.name("authenticationOnly");
+             authenticationOnlyAdapter.write(out, value.authenticationOnly);
+             out.name("threeDSRequestData");
+             threeDSRequestDataAdapter.write(out, value.threeDSRequestData);
+             out.endObject();
            }
 
            @Override
            public AuthenticationData read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             AuthenticationData instance = new AuthenticationData();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "attemptAuthentication":
+                   instance.attemptAuthentication = attemptAuthenticationAdapter.read(in);
+                   break;
+                 case "authenticationOnly":
+                   instance.authenticationOnly = authenticationOnlyAdapter.read(in);
+                   break;
+                 case "threeDSRequestData":
+                   instance.threeDSRequestData = threeDSRequestDataAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `AuthenticationData` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
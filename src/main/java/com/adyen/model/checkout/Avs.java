@@ -78,13 +78,20 @@ public class Avs {
       return String.valueOf(value);
     }
 
-    public static EnabledEnum fromValue(String value) {
+    private static final Map<String, EnabledEnum> BY_VALUE = new HashMap<String, EnabledEnum>();
+
+    static {
       for (EnabledEnum b : EnabledEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static EnabledEnum fromValue(String value) {
+      EnabledEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<EnabledEnum> {
@@ -246,22 +253,40 @@ public class Avs {
        if (!Avs.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'Avs' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<Avs> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(Avs.class));
+       final TypeAdapter<Boolean> addressEditableAdapter = gson.getAdapter(Boolean.class);
+       final TypeAdapter<EnabledEnum> enabledAdapter = gson.getAdapter(EnabledEnum.class);
 
        return (TypeAdapter<T>) new TypeAdapter<Avs>() {
            @Override
            public void write(JsonWriter out, Avs value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("addressEditable");
+             addressEditableAdapter.write(out, value.addressEditable);
+             out.name("enabled");
+             enabledAdapter.write(out, value.enabled);
+             out.endObject();
            }
 
            @Override
            public Avs read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             Avs instance = new Avs();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "addressEditable":
+                   instance.addressEditable = addressEditableAdapter.read(in);
+                   break;
+                 case "enabled":
+                   instance.enabled = enabledAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `Avs` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
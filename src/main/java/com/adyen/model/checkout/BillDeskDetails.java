@@ -80,13 +80,20 @@ public class BillDeskDetails {
       return String.valueOf(value);
     }
 
-    public static TypeEnum fromValue(String value) {
+    private static final Map<String, TypeEnum> BY_VALUE = new HashMap<String, TypeEnum>();
+
+    static {
       for (TypeEnum b : TypeEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static TypeEnum fromValue(String value) {
+      TypeEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<TypeEnum> {
@@ -261,22 +268,50 @@ public class BillDeskDetails {
        if (!BillDeskDetails.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'BillDeskDetails' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<BillDeskDetails> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(BillDeskDetails.class));
+       final TypeAdapter<String> issuerAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<TypeEnum> typeAdapter = gson.getAdapter(TypeEnum.class);
 
        return (TypeAdapter<T>) new TypeAdapter<BillDeskDetails>() {
            @Override
            public void write(JsonWriter out, BillDeskDetails value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("issuer");
+             issuerAdapter.write(out, value.issuer);
+             out.name("type");
+             typeAdapter.write(out, value.type);
+             out.endObject();
            }
 
            @Override
            public BillDeskDetails read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             BillDeskDetails instance = new BillDeskDetails();
+             boolean issuerFound = false;
+             boolean typeFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "issuer":
+                   instance.issuer = issuerAdapter.read(in);
+                   issuerFound = true;
+                   break;
+                 case "type":
+                   instance.type = typeAdapter.read(in);
+                   typeFound = true;
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `BillDeskDetails` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!issuerFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "issuer", in.getPath()));
+             }
+             if (!typeFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "type", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
@@ -82,13 +82,20 @@ public class BlikDetails {
       return String.valueOf(value);
     }
 
-    public static TypeEnum fromValue(String value) {
+    private static final Map<String, TypeEnum> BY_VALUE = new HashMap<String, TypeEnum>();
+
+    static {
       for (TypeEnum b : TypeEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static TypeEnum fromValue(String value) {
+      TypeEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<TypeEnum> {
@@ -316,22 +323,52 @@ public class BlikDetails {
        if (!BlikDetails.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'BlikDetails' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<BlikDetails> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(BlikDetails.class));
+       final TypeAdapter<String> blikCodeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> recurringDetailReferenceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> storedPaymentMethodIdAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<TypeEnum> typeAdapter = gson.getAdapter(TypeEnum.class);
 
        return (TypeAdapter<T>) new TypeAdapter<BlikDetails>() {
            @Override
            public void write(JsonWriter out, BlikDetails value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("blikCode");
+             blikCodeAdapter.write(out, value.blikCode);
+             out.name("recurringDetailReference");
+             recurringDetailReferenceAdapter.write(out, value.recurringDetailReference);
+             out.name("storedPaymentMethodId");
+             storedPaymentMethodIdAdapter.write(out, value.storedPaymentMethodId);
+             out.name("type");
+             typeAdapter.write(out, value.type);
+             out.endObject();
            }
 
            @Override
            public BlikDetails read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             BlikDetails instance = new BlikDetails();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "blikCode":
+                   instance.blikCode = blikCodeAdapter.read(in);
+                   break;
+                 case "recurringDetailReference":
+                   instance.recurringDetailReference = recurringDetailReferenceAdapter.read(in);
+                   break;
+                 case "storedPaymentMethodId":
+                   instance.storedPaymentMethodId = storedPaymentMethodIdAdapter.read(in);
+                   break;
+                 case "type":
+                   instance.type = typeAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `BlikDetails` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
@@ -194,22 +194,40 @@ public class CardBrandDetails {
        if (!CardBrandDetails.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'CardBrandDetails' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<CardBrandDetails> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(CardBrandDetails.class));
+       final TypeAdapter<Boolean> supportedAdapter = gson.getAdapter(Boolean.class);
+       final TypeAdapter<String> typeAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<CardBrandDetails>() {
            @Override
            public void write(JsonWriter out, CardBrandDetails value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("supported");
+             supportedAdapter.write(out, value.supported);
+             out.name("type");
+             typeAdapter.write(out, value.type);
+             out.endObject();
            }
 
            @Override
            public CardBrandDetails read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             CardBrandDetails instance = new CardBrandDetails();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "supported":
+                   instance.supported = supportedAdapter.read(in);
+                   break;
+                 case "type":
+                   instance.type = typeAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `CardBrandDetails` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
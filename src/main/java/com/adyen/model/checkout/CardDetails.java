@@ -106,13 +106,20 @@ public class CardDetails {
       return String.valueOf(value);
     }
 
-    public static FundingSourceEnum fromValue(String value) {
+    private static final Map<String, FundingSourceEnum> BY_VALUE = new HashMap<String, FundingSourceEnum>();
+
+    static {
       for (FundingSourceEnum b : FundingSourceEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static FundingSourceEnum fromValue(String value) {
+      FundingSourceEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<FundingSourceEnum> {
@@ -201,13 +208,20 @@ public class CardDetails {
       return String.valueOf(value);
     }
 
-    public static TypeEnum fromValue(String value) {
+    private static final Map<String, TypeEnum> BY_VALUE = new HashMap<String, TypeEnum>();
+
+    static {
       for (TypeEnum b : TypeEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static TypeEnum fromValue(String value) {
+      TypeEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<TypeEnum> {
@@ -870,22 +884,151 @@ public class CardDetails {
        if (!CardDetails.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'CardDetails' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<CardDetails> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(CardDetails.class));
+       final TypeAdapter<String> brandAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> cupsecureplusSmscodeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> cvcAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> encryptedCardNumberAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> encryptedExpiryMonthAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> encryptedExpiryYearAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> encryptedSecurityCodeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> expiryMonthAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> expiryYearAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<FundingSourceEnum> fundingSourceAdapter = gson.getAdapter(FundingSourceEnum.class);
+       final TypeAdapter<String> holderNameAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> networkPaymentReferenceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> numberAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> recurringDetailReferenceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> shopperNotificationReferenceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> storedPaymentMethodIdAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> threeDS2SdkVersionAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<TypeEnum> typeAdapter = gson.getAdapter(TypeEnum.class);
 
        return (TypeAdapter<T>) new TypeAdapter<CardDetails>() {
            @Override
            public void write(JsonWriter out, CardDetails value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("brand");
+             brandAdapter.write(out, value.brand);
+             out.name("cupsecureplus.smscode");
+             cupsecureplusSmscodeAdapter.write(out, value.cupsecureplusSmscode);
+             out.name("cvc");
+             cvcAdapter.write(out, value.cvc);
+             out.name("encryptedCardNumber");
+             encryptedCardNumberAdapter.write(out, value.encryptedCardNumber);
+             out.name("encryptedExpiryMonth");
+             encryptedExpiryMonthAdapter.write(out, value.encryptedExpiryMonth);
+             out.name("encryptedExpiryYear");
+             encryptedExpiryYearAdapter.write(out, value.encryptedExpiryYear);
+             out.name("encryptedSecurityCode");
+             encryptedSecurityCodeAdapter.write(out, value.encryptedSecurityCode);
+             out.name("expiryMonth");
+             expiryMonthAdapter.write(out, value.expiryMonth);
+             out.name("expiryYear");
+             expiryYearAdapter.write(out, value.expiryYear);
+             out.name("fundingSource");
+             fundingSourceAdapter.write(out, value.fundingSource);
+             out.name("holderName");
+             holderNameAdapter.write(out, value.holderName);
+             out.name("networkPaymentReference");
+             networkPaymentReferenceAdapter.write(out, value.networkPaymentReference);
+             out.name("number");
+             numberAdapter.write(out, value.number);
+             out.name("recurringDetailReference");
+             recurringDetailReferenceAdapter.write(out, value.recurringDetailReference);
+             out.name("shopperNotificationReference");
+             shopperNotificationReferenceAdapter.write(out, value.shopperNotificationReference);
+             out.name("storedPaymentMethodId");
+             storedPaymentMethodIdAdapter.write(out, value.storedPaymentMethodId);
+             out.name("threeDS2SdkVersion");
+             threeDS2SdkVersionAdapter.write(out, value.threeDS2SdkVersion);
+             out.name("type");
+             typeAdapter.write(out, value.type);
+             out.endObject();
            }
 
            @Override
            public CardDetails read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             CardDetails instance = new CardDetails();
+             boolean encryptedCardNumberFound = false;
+             boolean encryptedExpiryMonthFound = false;
+             boolean encryptedExpiryYearFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "brand":
+                   instance.brand = brandAdapter.read(in);
+                   break;
+                 case "cupsecureplus.smscode":
+                   instance.cupsecureplusSmscode = cupsecureplusSmscodeAdapter.read(in);
+                   break;
+                 case "cvc":
+                   instance.cvc = cvcAdapter.read(in);
+                   break;
+                 case "encryptedCardNumber":
+                   instance.encryptedCardNumber = encryptedCardNumberAdapter.read(in);
+                   encryptedCardNumberFound = true;
+                   break;
+                 case "encryptedExpiryMonth":
+                   instance.encryptedExpiryMonth = encryptedExpiryMonthAdapter.read(in);
+                   encryptedExpiryMonthFound = true;
+                   break;
+                 case "encryptedExpiryYear":
+                   instance.encryptedExpiryYear = encryptedExpiryYearAdapter.read(in);
+                   encryptedExpiryYearFound = true;
+                   break;
+                 case "encryptedSecurityCode":
+                   instance.encryptedSecurityCode = encryptedSecurityCodeAdapter.read(in);
+                   break;
+                 case "expiryMonth":
+                   instance.expiryMonth = expiryMonthAdapter.read(in);
+                   break;
+                 case "expiryYear":
+                   instance.expiryYear = expiryYearAdapter.read(in);
+                   break;
+                 case "fundingSource":
+                   instance.fundingSource = fundingSourceAdapter.read(in);
+                   break;
+                 case "holderName":
+                   instance.holderName = holderNameAdapter.read(in);
+                   break;
+                 case "networkPaymentReference":
+                   instance.networkPaymentReference = networkPaymentReferenceAdapter.read(in);
+                   break;
+                 case "number":
+                   instance.number = numberAdapter.read(in);
+                   break;
+                 case "recurringDetailReference":
+                   instance.recurringDetailReference = recurringDetailReferenceAdapter.read(in);
+                   break;
+                 case "shopperNotificationReference":
+                   instance.shopperNotificationReference = shopperNotificationReferenceAdapter.read(in);
+                   break;
+                 case "storedPaymentMethodId":
+                   instance.storedPaymentMethodId = storedPaymentMethodIdAdapter.read(in);
+                   break;
+                 case "threeDS2SdkVersion":
+                   instance.threeDS2SdkVersion = threeDS2SdkVersionAdapter.read(in);
+                   break;
+                 case "type":
+                   instance.type = typeAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `CardDetails` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!encryptedCardNumberFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "encryptedCardNumber", in.getPath()));
+             }
+             if (!encryptedExpiryMonthFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "encryptedExpiryMonth", in.getPath()));
+             }
+             if (!encryptedExpiryYearFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "encryptedExpiryYear", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
@@ -285,22 +285,62 @@ public class CardDetailsRequest {
        if (!CardDetailsRequest.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'CardDetailsRequest' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<CardDetailsRequest> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(CardDetailsRequest.class));
+       final TypeAdapter<String> cardNumberAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> countryCodeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> merchantAccountAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<List<String>> supportedBrandsAdapter = gson.getAdapter(new TypeToken<List<String>>() {});
 
        return (TypeAdapter<T>) new TypeAdapter<CardDetailsRequest>() {
            @Override
            public void write(JsonWriter out, CardDetailsRequest value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("cardNumber");
+             cardNumberAdapter.write(out, value.cardNumber);
+             out.name("countryCode");
+             countryCodeAdapter.write(out, value.countryCode);
+             out.name("merchantAccount");
+             merchantAccountAdapter.write(out, value.merchantAccount);
+             out.name("supportedBrands");
+             supportedBrandsAdapter.write(out, value.supportedBrands);
+             out.endObject();
            }
 
            @Override
            public CardDetailsRequest read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             CardDetailsRequest instance = new CardDetailsRequest();
+             boolean cardNumberFound = false;
+             boolean merchantAccountFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "cardNumber":
+                   instance.cardNumber = cardNumberAdapter.read(in);
+                   cardNumberFound = true;
+                   break;
+                 case "countryCode":
+                   instance.countryCode = countryCodeAdapter.read(in);
+                   break;
+                 case "merchantAccount":
+                   instance.merchantAccount = merchantAccountAdapter.read(in);
+                   merchantAccountFound = true;
+                   break;
+                 case "supportedBrands":
+                   instance.supportedBrands = supportedBrandsAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `CardDetailsRequest` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!cardNumberFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "cardNumber", in.getPath()));
+             }
+             if (!merchantAccountFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "merchantAccount", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
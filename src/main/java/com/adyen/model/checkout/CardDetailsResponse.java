@@ -183,22 +183,34 @@ public class CardDetailsResponse {
        if (!CardDetailsResponse.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'CardDetailsResponse' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<CardDetailsResponse> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(CardDetailsResponse.class));
+       final TypeAdapter<List<CardBrandDetails>> brandsAdapter = gson.getAdapter(new TypeToken<List<CardBrandDetails>>() {});
 
        return (TypeAdapter<T>) new TypeAdapter<CardDetailsResponse>() {
            @Override
            public void write(JsonWriter out, CardDetailsResponse value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("brands");
+             brandsAdapter.write(out, value.brands);
+             out.endObject();
            }
 
            @Override
            public CardDetailsResponse read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             CardDetailsResponse instance = new CardDetailsResponse();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "brands":
+                   instance.brands = brandsAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `CardDetailsResponse` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
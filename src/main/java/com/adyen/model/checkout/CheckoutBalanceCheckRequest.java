@@ -183,13 +183,20 @@ public class CheckoutBalanceCheckRequest {
       return String.valueOf(value);
     }
 
-    public static RecurringProcessingModelEnum fromValue(String value) {
+    private static final Map<String, RecurringProcessingModelEnum> BY_VALUE = new HashMap<String, RecurringProcessingModelEnum>();
+
+    static {
       for (RecurringProcessingModelEnum b : RecurringProcessingModelEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static RecurringProcessingModelEnum fromValue(String value) {
+      RecurringProcessingModelEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<RecurringProcessingModelEnum> {
@@ -262,13 +269,20 @@ public class CheckoutBalanceCheckRequest {
       return String.valueOf(value);
     }
 
-    public static ShopperInteractionEnum fromValue(String value) {
+    private static final Map<String, ShopperInteractionEnum> BY_VALUE = new HashMap<String, ShopperInteractionEnum>();
+
+    static {
       for (ShopperInteractionEnum b : ShopperInteractionEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static ShopperInteractionEnum fromValue(String value) {
+      ShopperInteractionEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<ShopperInteractionEnum> {
@@ -1729,22 +1743,306 @@ public class CheckoutBalanceCheckRequest {
        if (!CheckoutBalanceCheckRequest.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'CheckoutBalanceCheckRequest' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<CheckoutBalanceCheckRequest> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(CheckoutBalanceCheckRequest.class));
+       final TypeAdapter<AccountInfo> accountInfoAdapter = gson.getAdapter(AccountInfo.class);
+       final TypeAdapter<Amount> additionalAmountAdapter = gson.getAdapter(Amount.class);
+       final TypeAdapter<Map<String, String>> additionalDataAdapter = gson.getAdapter(new TypeToken<Map<String, String>>() {});
+       final TypeAdapter<Amount> amountAdapter = gson.getAdapter(Amount.class);
+       final TypeAdapter<ApplicationInfo> applicationInfoAdapter = gson.getAdapter(ApplicationInfo.class);
+       final TypeAdapter<Address> billingAddressAdapter = gson.getAdapter(Address.class);
+       final TypeAdapter<BrowserInfo> browserInfoAdapter = gson.getAdapter(BrowserInfo.class);
+       final TypeAdapter<Integer> captureDelayHoursAdapter = gson.getAdapter(Integer.class);
+       final TypeAdapter<Date> dateOfBirthAdapter = gson.getAdapter(Date.class);
+       final TypeAdapter<ForexQuote> dccQuoteAdapter = gson.getAdapter(ForexQuote.class);
+       final TypeAdapter<Address> deliveryAddressAdapter = gson.getAdapter(Address.class);
+       final TypeAdapter<Date> deliveryDateAdapter = gson.getAdapter(Date.class);
+       final TypeAdapter<String> deviceFingerprintAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<Integer> fraudOffsetAdapter = gson.getAdapter(Integer.class);
+       final TypeAdapter<Installments> installmentsAdapter = gson.getAdapter(Installments.class);
+       final TypeAdapter<String> mccAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> merchantAccountAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> merchantOrderReferenceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<MerchantRiskIndicator> merchantRiskIndicatorAdapter = gson.getAdapter(MerchantRiskIndicator.class);
+       final TypeAdapter<Map<String, String>> metadataAdapter = gson.getAdapter(new TypeToken<Map<String, String>>() {});
+       final TypeAdapter<String> orderReferenceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<Map<String, String>> paymentMethodAdapter = gson.getAdapter(new TypeToken<Map<String, String>>() {});
+       final TypeAdapter<Recurring> recurringAdapter = gson.getAdapter(Recurring.class);
+       final TypeAdapter<RecurringProcessingModelEnum> recurringProcessingModelAdapter = gson.getAdapter(RecurringProcessingModelEnum.class);
+       final TypeAdapter<String> referenceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> selectedBrandAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> selectedRecurringDetailReferenceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> sessionIdAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> shopperEmailAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> shopperIPAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<ShopperInteractionEnum> shopperInteractionAdapter = gson.getAdapter(ShopperInteractionEnum.class);
+       final TypeAdapter<String> shopperLocaleAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<Name> shopperNameAdapter = gson.getAdapter(Name.class);
+       final TypeAdapter<String> shopperReferenceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> shopperStatementAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> socialSecurityNumberAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<List<Split>> splitsAdapter = gson.getAdapter(new TypeToken<List<Split>>() {});
+       final TypeAdapter<String> storeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> telephoneNumberAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<ThreeDS2RequestData> threeDS2RequestDataAdapter = gson.getAdapter(ThreeDS2RequestData.class);
+       final TypeAdapter<Boolean> threeDSAuthenticationOnlyAdapter = gson.getAdapter(Boolean.class);
+       final TypeAdapter<String> totalsGroupAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<Boolean> trustedShopperAdapter = gson.getAdapter(Boolean.class);
 
        return (TypeAdapter<T>) new TypeAdapter<CheckoutBalanceCheckRequest>() {
            @Override
            public void write(JsonWriter out, CheckoutBalanceCheckRequest value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("accountInfo");
+             accountInfoAdapter.write(out, value.accountInfo);
+             out.name("additionalAmount");
+             additionalAmountAdapter.write(out, value.additionalAmount);
+             out.name("additionalData");
+             additionalDataAdapter.write(out, value.additionalData);
+             out.name("amount");
+             amountAdapter.write(out, value.amount);
+             out.name("applicationInfo");
+             applicationInfoAdapter.write(out, value.applicationInfo);
+             out.name("billingAddress");
+             billingAddressAdapter.write(out, value.billingAddress);
+             out.name("browserInfo");
+             browserInfoAdapter.write(out, value.browserInfo);
+             out.name("captureDelayHours");
+             captureDelayHoursAdapter.write(out, value.captureDelayHours);
+             out.name("dateOfBirth");
+             dateOfBirthAdapter.write(out, value.dateOfBirth);
+             out.name("dccQuote");
+             dccQuoteAdapter.write(out, value.dccQuote);
+             out.name("deliveryAddress");
+             deliveryAddressAdapter.write(out, value.deliveryAddress);
+             out.name("deliveryDate");
+             deliveryDateAdapter.write(out, value.deliveryDate);
+             out.name("deviceFingerprint");
+             deviceFingerprintAdapter.write(out, value.deviceFingerprint);
+             out.name("fraudOffset");
+             fraudOffsetAdapter.write(out, value.fraudOffset);
+             out.name("installments");
+             installmentsAdapter.write(out, value.installments);
+             out.name("mcc");
+             mccAdapter.write(out, value.mcc);
+             out.name("merchantAccount");
+             merchantAccountAdapter.write(out, value.merchantAccount);
+             out.name("merchantOrderReference");
+             merchantOrderReferenceAdapter.write(out, value.merchantOrderReference);
+             out.name("merchantRiskIndicator");
+             merchantRiskIndicatorAdapter.write(out, value.merchantRiskIndicator);
+             out.name("metadata");
+             metadataAdapter.write(out, value.metadata);
+             out.name("orderReference");
+             orderReferenceAdapter.write(out, value.orderReference);
+             out.name("paymentMethod");
+             paymentMethodAdapter.write(out, value.paymentMethod);
+             out.name("recurring");
+             recurringAdapter.write(out, value.recurring);
+             out.name("recurringProcessingModel");
+             recurringProcessingModelAdapter.write(out, value.recurringProcessingModel);
+             out.name("reference");
+             referenceAdapter.write(out, value.reference);
+             out.name("selectedBrand");
+             selectedBrandAdapter.write(out, value.selectedBrand);
+             out.name("selectedRecurringDetailReference");
+             selectedRecurringDetailReferenceAdapter.write(out, value.selectedRecurringDetailReference);
+             out.name("sessionId");
+             sessionIdAdapter.write(out, value.sessionId);
+             out.name("shopperEmail");
+             shopperEmailAdapter.write(out, value.shopperEmail);
+             out.name("shopperIP");
+             shopperIPAdapter.write(out, value.shopperIP);
+             out.name("shopperInteraction");
+             shopperInteractionAdapter.write(out, value.shopperInteraction);
+             out.name("shopperLocale");
+             shopperLocaleAdapter.write(out, value.shopperLocale);
+             out.name("shopperName");
+             shopperNameAdapter.write(out, value.shopperName);
+             out.name("shopperReference");
+             shopperReferenceAdapter.write(out, value.shopperReference);
+             out.name("shopperStatement");
+             shopperStatementAdapter.write(out, value.shopperStatement);
+             out.name("socialSecurityNumber");
+             socialSecurityNumberAdapter.write(out, value.socialSecurityNumber);
+             out.name("splits");
+             splitsAdapter.write(out, value.splits);
+             out.name("store");
+             storeAdapter.write(out, value.store);
+             out.name("telephoneNumber");
+             telephoneNumberAdapter.write(out, value.telephoneNumber);
+             out.name("threeDS2RequestData");
+             threeDS2RequestDataAdapter.write(out, value.threeDS2RequestData);
+             out.name("threeDSAuthenticationOnly");
+             threeDSAuthenticationOnlyAdapter.write(out, value.threeDSAuthenticationOnly);
+             out.name("totalsGroup");
+             totalsGroupAdapter.write(out, value.totalsGroup);
+             out.name("trustedShopper");
+             trustedShopperAdapter.write(out, value.trustedShopper);
+             out.endObject();
            }
 
            @Override
            public CheckoutBalanceCheckRequest read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             CheckoutBalanceCheckRequest instance = new CheckoutBalanceCheckRequest();
+             boolean amountFound = false;
+             boolean merchantAccountFound = false;
+             boolean paymentMethodFound = false;
+             boolean referenceFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "accountInfo":
+                   instance.accountInfo = accountInfoAdapter.read(in);
+                   break;
+                 case "additionalAmount":
+                   instance.additionalAmount = additionalAmountAdapter.read(in);
+                   break;
+                 case "additionalData":
+                   instance.additionalData = additionalDataAdapter.read(in);
+                   break;
+                 case "amount":
+                   instance.amount = amountAdapter.read(in);
+                   amountFound = true;
+                   break;
+                 case "applicationInfo":
+                   instance.applicationInfo = applicationInfoAdapter.read(in);
+                   break;
+                 case "billingAddress":
+                   instance.billingAddress = billingAddressAdapter.read(in);
+                   break;
+                 case "browserInfo":
+                   instance.browserInfo = browserInfoAdapter.read(in);
+                   break;
+                 case "captureDelayHours":
+                   instance.captureDelayHours = captureDelayHoursAdapter.read(in);
+                   break;
+                 case "dateOfBirth":
+                   instance.dateOfBirth = dateOfBirthAdapter.read(in);
+                   break;
+                 case "dccQuote":
+                   instance.dccQuote = dccQuoteAdapter.read(in);
+                   break;
+                 case "deliveryAddress":
+                   instance.deliveryAddress = deliveryAddressAdapter.read(in);
+                   break;
+                 case "deliveryDate":
+                   instance.deliveryDate = deliveryDateAdapter.read(in);
+                   break;
+                 case "deviceFingerprint":
+                   instance.deviceFingerprint = deviceFingerprintAdapter.read(in);
+                   break;
+                 case "fraudOffset":
+                   instance.fraudOffset = fraudOffsetAdapter.read(in);
+                   break;
+                 case "installments":
+                   instance.installments = installmentsAdapter.read(in);
+                   break;
+                 case "mcc":
+                   instance.mcc = mccAdapter.read(in);
+                   break;
+                 case "merchantAccount":
+                   instance.merchantAccount = merchantAccountAdapter.read(in);
+                   merchantAccountFound = true;
+                   break;
+                 case "merchantOrderReference":
+                   instance.merchantOrderReference = merchantOrderReferenceAdapter.read(in);
+                   break;
+                 case "merchantRiskIndicator":
+                   instance.merchantRiskIndicator = merchantRiskIndicatorAdapter.read(in);
+                   break;
+                 case "metadata":
+                   instance.metadata = metadataAdapter.read(in);
+                   break;
+                 case "orderReference":
+                   instance.orderReference = orderReferenceAdapter.read(in);
+                   break;
+                 case "paymentMethod":
+                   instance.paymentMethod = paymentMethodAdapter.read(in);
+                   paymentMethodFound = true;
+                   break;
+                 case "recurring":
+                   instance.recurring = recurringAdapter.read(in);
+                   break;
+                 case "recurringProcessingModel":
+                   instance.recurringProcessingModel = recurringProcessingModelAdapter.read(in);
+                   break;
+                 case "reference":
+                   instance.reference = referenceAdapter.read(in);
+                   referenceFound = true;
+                   break;
+                 case "selectedBrand":
+                   instance.selectedBrand = selectedBrandAdapter.read(in);
+                   break;
+                 case "selectedRecurringDetailReference":
+                   instance.selectedRecurringDetailReference = selectedRecurringDetailReferenceAdapter.read(in);
+                   break;
+                 case "sessionId":
+                   instance.sessionId = sessionIdAdapter.read(in);
+                   break;
+                 case "shopperEmail":
+                   instance.shopperEmail = shopperEmailAdapter.read(in);
+                   break;
+                 case "shopperIP":
+                   instance.shopperIP = shopperIPAdapter.read(in);
+                   break;
+                 case "shopperInteraction":
+                   instance.shopperInteraction = shopperInteractionAdapter.read(in);
+                   break;
+                 case "shopperLocale":
+                   instance.shopperLocale = shopperLocaleAdapter.read(in);
+                   break;
+                 case "shopperName":
+                   instance.shopperName = shopperNameAdapter.read(in);
+                   break;
+                 case "shopperReference":
+                   instance.shopperReference = shopperReferenceAdapter.read(in);
+                   break;
+                 case "shopperStatement":
+                   instance.shopperStatement = shopperStatementAdapter.read(in);
+                   break;
+                 case "socialSecurityNumber":
+                   instance.socialSecurityNumber = socialSecurityNumberAdapter.read(in);
+                   break;
+                 case "splits":
+                   instance.splits = splitsAdapter.read(in);
+                   break;
+                 case "store":
+                   instance.store = storeAdapter.read(in);
+                   break;
+                 case "telephoneNumber":
+                   instance.telephoneNumber = telephoneNumberAdapter.read(in);
+                   break;
+                 case "threeDS2RequestData":
+                   instance.threeDS2RequestData = threeDS2RequestDataAdapter.read(in);
+                   break;
+                 case "threeDSAuthenticationOnly":
+                   instance.threeDSAuthenticationOnly = threeDSAuthenticationOnlyAdapter.read(in);
+                   break;
+                 case "totalsGroup":
+                   instance.totalsGroup = totalsGroupAdapter.read(in);
+                   break;
+                 case "trustedShopper":
+                   instance.trustedShopper = trustedShopperAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `CheckoutBalanceCheckRequest` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!amountFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "amount", in.getPath()));
+             }
+             if (!merchantAccountFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "merchantAccount", in.getPath()));
+             }
+             if (!paymentMethodFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "paymentMethod", in.getPath()));
+             }
+             if (!referenceFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "reference", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
@@ -99,13 +99,20 @@ public class CheckoutBalanceCheckResponse {
       return String.valueOf(value);
     }
 
-    public static ResultCodeEnum fromValue(String value) {
+    private static final Map<String, ResultCodeEnum> BY_VALUE = new HashMap<String, ResultCodeEnum>();
+
+    static {
       for (ResultCodeEnum b : ResultCodeEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static ResultCodeEnum fromValue(String value) {
+      ResultCodeEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<ResultCodeEnum> {
@@ -438,22 +445,80 @@ public class CheckoutBalanceCheckResponse {
        if (!CheckoutBalanceCheckResponse.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'CheckoutBalanceCheckResponse' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<CheckoutBalanceCheckResponse> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(CheckoutBalanceCheckResponse.class));
+       final TypeAdapter<Map<String, String>> additionalDataAdapter = gson.getAdapter(new TypeToken<Map<String, String>>() {});
+       final TypeAdapter<Amount> balanceAdapter = gson.getAdapter(Amount.class);
+       final TypeAdapter<FraudResult> fraudResultAdapter = gson.getAdapter(FraudResult.class);
+       final TypeAdapter<String> pspReferenceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> refusalReasonAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<ResultCodeEnum> resultCodeAdapter = gson.getAdapter(ResultCodeEnum.class);
+       final TypeAdapter<Amount> transactionLimitAdapter = gson.getAdapter(Amount.class);
 
        return (TypeAdapter<T>) new TypeAdapter<CheckoutBalanceCheckResponse>() {
            @Override
            public void write(JsonWriter out, CheckoutBalanceCheckResponse value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("additionalData");
+             additionalDataAdapter.write(out, value.additionalData);
+             out.name("balance");
+             balanceAdapter.write(out, value.balance);
+             out.name("fraudResult");
+             fraudResultAdapter.write(out, value.fraudResult);
+             out.name("pspReference");
+             pspReferenceAdapter.write(out, value.pspReference);
+             out.name("refusalReason");
+             refusalReasonAdapter.write(out, value.refusalReason);
+             out.name("resultCode");
+             resultCodeAdapter.write(out, value.resultCode);
+             out.name("transactionLimit");
+             transactionLimitAdapter.write(out, value.transactionLimit);
+             out.endObject();
            }
 
            @Override
            public CheckoutBalanceCheckResponse read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             CheckoutBalanceCheckResponse instance = new CheckoutBalanceCheckResponse();
+             boolean balanceFound = false;
+             boolean resultCodeFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "additionalData":
+                   instance.additionalData = additionalDataAdapter.read(in);
+                   break;
+                 case "balance":
+                   instance.balance = balanceAdapter.read(in);
+                   balanceFound = true;
+                   break;
+                 case "fraudResult":
+                   instance.fraudResult = fraudResultAdapter.read(in);
+                   break;
+                 case "pspReference":
+                   instance.pspReference = pspReferenceAdapter.read(in);
+                   break;
+                 case "refusalReason":
+                   instance.refusalReason = refusalReasonAdapter.read(in);
+                   break;
+                 case "resultCode":
+                   instance.resultCode = resultCodeAdapter.read(in);
+                   resultCodeFound = true;
+                   break;
+                 case "transactionLimit":
+                   instance.transactionLimit = transactionLimitAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `CheckoutBalanceCheckResponse` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!balanceFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "balance", in.getPath()));
+             }
+             if (!resultCodeFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "resultCode", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
@@ -208,22 +208,50 @@ public class CheckoutCancelOrderRequest {
        if (!CheckoutCancelOrderRequest.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'CheckoutCancelOrderRequest' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<CheckoutCancelOrderRequest> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(CheckoutCancelOrderRequest.class));
+       final TypeAdapter<String> merchantAccountAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<CheckoutOrder> orderAdapter = gson.getAdapter(CheckoutOrder.class);
 
        return (TypeAdapter<T>) new TypeAdapter<CheckoutCancelOrderRequest>() {
            @Override
            public void write(JsonWriter out, CheckoutCancelOrderRequest value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("merchantAccount");
+             merchantAccountAdapter.write(out, value.merchantAccount);
+             out.name("order");
+             orderAdapter.write(out, value.order);
+             out.endObject();
            }
 
            @Override
            public CheckoutCancelOrderRequest read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             CheckoutCancelOrderRequest instance = new CheckoutCancelOrderRequest();
+             boolean merchantAccountFound = false;
+             boolean orderFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "merchantAccount":
+                   instance.merchantAccount = merchantAccountAdapter.read(in);
+                   merchantAccountFound = true;
+                   break;
+                 case "order":
+                   instance.order = orderAdapter.read(in);
+                   orderFound = true;
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `CheckoutCancelOrderRequest` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!merchantAccountFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "merchantAccount", in.getPath()));
+             }
+             if (!orderFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "order", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
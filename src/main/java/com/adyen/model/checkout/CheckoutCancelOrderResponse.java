@@ -74,13 +74,20 @@ public class CheckoutCancelOrderResponse {
       return String.valueOf(value);
     }
 
-    public static ResultCodeEnum fromValue(String value) {
+    private static final Map<String, ResultCodeEnum> BY_VALUE = new HashMap<String, ResultCodeEnum>();
+
+    static {
       for (ResultCodeEnum b : ResultCodeEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static ResultCodeEnum fromValue(String value) {
+      ResultCodeEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<ResultCodeEnum> {
@@ -255,22 +262,50 @@ public class CheckoutCancelOrderResponse {
        if (!CheckoutCancelOrderResponse.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'CheckoutCancelOrderResponse' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<CheckoutCancelOrderResponse> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(CheckoutCancelOrderResponse.class));
+       final TypeAdapter<String> pspReferenceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<ResultCodeEnum> resultCodeAdapter = gson.getAdapter(ResultCodeEnum.class);
 
        return (TypeAdapter<T>) new TypeAdapter<CheckoutCancelOrderResponse>() {
            @Override
            public void write(JsonWriter out, CheckoutCancelOrderResponse value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("pspReference");
+             pspReferenceAdapter.write(out, value.pspReference);
+             out.name("resultCode");
+             resultCodeAdapter.write(out, value.resultCode);
+             out.endObject();
            }
 
            @Override
            public CheckoutCancelOrderResponse read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             CheckoutCancelOrderResponse instance = new CheckoutCancelOrderResponse();
+             boolean pspReferenceFound = false;
+             boolean resultCodeFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "pspReference":
+                   instance.pspReference = pspReferenceAdapter.read(in);
+                   pspReferenceFound = true;
+                   break;
+                 case "resultCode":
+                   instance.resultCode = resultCodeAdapter.read(in);
+                   resultCodeFound = true;
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `CheckoutCancelOrderResponse` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!pspReferenceFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "pspReference", in.getPath()));
+             }
+             if (!resultCodeFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "resultCode", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
@@ -277,22 +277,67 @@ public class CheckoutCreateOrderRequest {
        if (!CheckoutCreateOrderRequest.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'CheckoutCreateOrderRequest' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<CheckoutCreateOrderRequest> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(CheckoutCreateOrderRequest.class));
+       final TypeAdapter<Amount> amountAdapter = gson.getAdapter(Amount.class);
+       final TypeAdapter<String> expiresAtAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> merchantAccountAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> referenceAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<CheckoutCreateOrderRequest>() {
            @Override
            public void write(JsonWriter out, CheckoutCreateOrderRequest value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("amount");
+             amountAdapter.write(out, value.amount);
+             out.name("expiresAt");
+             expiresAtAdapter.write(out, value.expiresAt);
+             out.name("merchantAccount");
+             merchantAccountAdapter.write(out, value.merchantAccount);
+             out.name("reference");
+             referenceAdapter.write(out, value.reference);
+             out.endObject();
            }
 
            @Override
            public CheckoutCreateOrderRequest read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             CheckoutCreateOrderRequest instance = new CheckoutCreateOrderRequest();
+             boolean amountFound = false;
+             boolean merchantAccountFound = false;
+             boolean referenceFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "amount":
+                   instance.amount = amountAdapter.read(in);
+                   amountFound = true;
+                   break;
+                 case "expiresAt":
+                   instance.expiresAt = expiresAtAdapter.read(in);
+                   break;
+                 case "merchantAccount":
+                   instance.merchantAccount = merchantAccountAdapter.read(in);
+                   merchantAccountFound = true;
+                   break;
+                 case "reference":
+                   instance.reference = referenceAdapter.read(in);
+                   referenceFound = true;
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `CheckoutCreateOrderRequest` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!amountFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "amount", in.getPath()));
+             }
+             if (!merchantAccountFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "merchantAccount", in.getPath()));
+             }
+             if (!referenceFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "reference", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
@@ -111,13 +111,20 @@ public class CheckoutCreateOrderResponse {
       return String.valueOf(value);
     }
 
-    public static ResultCodeEnum fromValue(String value) {
+    private static final Map<String, ResultCodeEnum> BY_VALUE = new HashMap<String, ResultCodeEnum>();
+
+    static {
       for (ResultCodeEnum b : ResultCodeEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static ResultCodeEnum fromValue(String value) {
+      ResultCodeEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<ResultCodeEnum> {
@@ -539,22 +546,113 @@ public class CheckoutCreateOrderResponse {
        if (!CheckoutCreateOrderResponse.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'CheckoutCreateOrderResponse' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<CheckoutCreateOrderResponse> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(CheckoutCreateOrderResponse.class));
+       final TypeAdapter<Map<String, String>> additionalDataAdapter = gson.getAdapter(new TypeToken<Map<String, String>>() {});
+       final TypeAdapter<Amount> amountAdapter = gson.getAdapter(Amount.class);
+       final TypeAdapter<String> expiresAtAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<FraudResult> fraudResultAdapter = gson.getAdapter(FraudResult.class);
+       final TypeAdapter<String> orderDataAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> pspReferenceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> referenceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> refusalReasonAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<Amount> remainingAmountAdapter = gson.getAdapter(Amount.class);
+       final TypeAdapter<ResultCodeEnum> resultCodeAdapter = gson.getAdapter(ResultCodeEnum.class);
 
        return (TypeAdapter<T>) new TypeAdapter<CheckoutCreateOrderResponse>() {
            @Override
            public void write(JsonWriter out, CheckoutCreateOrderResponse value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("additionalData");
+             additionalDataAdapter.write(out, value.additionalData);
+             out.name("amount");
+             amountAdapter.write(out, value.amount);
+             out.name("expiresAt");
+             expiresAtAdapter.write(out, value.expiresAt);
+             out.name("fraudResult");
+             fraudResultAdapter.write(out, value.fraudResult);
+             out.name("orderData");
+             orderDataAdapter.write(out, value.orderData);
+             out.name("pspReference");
+             pspReferenceAdapter.write(out, value.pspReference);
+             out.name("reference");
+             referenceAdapter.write(out, value.reference);
+             out.name("refusalReason");
+             refusalReasonAdapter.write(out, value.refusalReason);
+             out.name("remainingAmount");
+             remainingAmountAdapter.write(out, value.remainingAmount);
+             out.name("resultCode");
+             resultCodeAdapter.write(out, value.resultCode);
+             out.endObject();
            }
 
            @Override
            public CheckoutCreateOrderResponse read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             CheckoutCreateOrderResponse instance = new CheckoutCreateOrderResponse();
+             boolean amountFound = false;
+             boolean expiresAtFound = false;
+             boolean orderDataFound = false;
+             boolean remainingAmountFound = false;
+             boolean resultCodeFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "additionalData":
+                   instance.additionalData = additionalDataAdapter.read(in);
+                   break;
+                 case "amount":
+                   instance.amount = amountAdapter.read(in);
+                   amountFound = true;
+                   break;
+                 case "expiresAt":
+                   instance.expiresAt = expiresAtAdapter.read(in);
+                   expiresAtFound = true;
+                   break;
+                 case "fraudResult":
+                   instance.fraudResult = fraudResultAdapter.read(in);
+                   break;
+                 case "orderData":
+                   instance.orderData = orderDataAdapter.read(in);
+                   orderDataFound = true;
+                   break;
+                 case "pspReference":
+                   instance.pspReference = pspReferenceAdapter.read(in);
+                   break;
+                 case "reference":
+                   instance.reference = referenceAdapter.read(in);
+                   break;
+                 case "refusalReason":
+                   instance.refusalReason = refusalReasonAdapter.read(in);
+                   break;
+                 case "remainingAmount":
+                   instance.remainingAmount = remainingAmountAdapter.read(in);
+                   remainingAmountFound = true;
+                   break;
+                 case "resultCode":
+                   instance.resultCode = resultCodeAdapter.read(in);
+                   resultCodeFound = true;
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `CheckoutCreateOrderResponse` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!amountFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "amount", in.getPath()));
+             }
+             if (!expiresAtFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "expiresAt", in.getPath()));
+             }
+             if (!orderDataFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "orderData", in.getPath()));
+             }
+             if (!remainingAmountFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "remainingAmount", in.getPath()));
+             }
+             if (!resultCodeFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "resultCode", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
@@ -207,22 +207,50 @@ public class CheckoutOrder {
        if (!CheckoutOrder.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'CheckoutOrder' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<CheckoutOrder> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(CheckoutOrder.class));
+       final TypeAdapter<String> orderDataAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> pspReferenceAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<CheckoutOrder>() {
            @Override
            public void write(JsonWriter out, CheckoutOrder value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("orderData");
+             orderDataAdapter.write(out, value.orderData);
+             out.name("pspReference");
+             pspReferenceAdapter.write(out, value.pspReference);
+             out.endObject();
            }
 
            @Override
            public CheckoutOrder read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             CheckoutOrder instance = new CheckoutOrder();
+             boolean orderDataFound = false;
+             boolean pspReferenceFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "orderData":
+                   instance.orderData = orderDataAdapter.read(in);
+                   orderDataFound = true;
+                   break;
+                 case "pspReference":
+                   instance.pspReference = pspReferenceAdapter.read(in);
+                   pspReferenceFound = true;
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `CheckoutOrder` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!orderDataFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "orderData", in.getPath()));
+             }
+             if (!pspReferenceFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "pspReference", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
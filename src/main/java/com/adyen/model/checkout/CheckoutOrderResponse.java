@@ -343,22 +343,69 @@ public class CheckoutOrderResponse {
        if (!CheckoutOrderResponse.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'CheckoutOrderResponse' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<CheckoutOrderResponse> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(CheckoutOrderResponse.class));
+       final TypeAdapter<Amount> amountAdapter = gson.getAdapter(Amount.class);
+       final TypeAdapter<String> expiresAtAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> orderDataAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> pspReferenceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> referenceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<Amount> remainingAmountAdapter = gson.getAdapter(Amount.class);
 
        return (TypeAdapter<T>) new TypeAdapter<CheckoutOrderResponse>() {
            @Override
            public void write(JsonWriter out, CheckoutOrderResponse value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("amount");
+             amountAdapter.write(out, value.amount);
+             out.name("expiresAt");
+             expiresAtAdapter.write(out, value.expiresAt);
+             out.name("orderData");
+             orderDataAdapter.write(out, value.orderData);
+             out.name("pspReference");
+             pspReferenceAdapter.write(out, value.pspReference);
+             out.name("reference");
+             referenceAdapter.write(out, value.reference);
+             out.name("remainingAmount");
+             remainingAmountAdapter.write(out, value.remainingAmount);
+             out.endObject();
            }
 
            @Override
            public CheckoutOrderResponse read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             CheckoutOrderResponse instance = new CheckoutOrderResponse();
+             boolean pspReferenceFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "amount":
+                   instance.amount = amountAdapter.read(in);
+                   break;
+                 case "expiresAt":
+                   instance.expiresAt = expiresAtAdapter.read(in);
+                   break;
+                 case "orderData":
+                   instance.orderData = orderDataAdapter.read(in);
+                   break;
+                 case "pspReference":
+                   instance.pspReference = pspReferenceAdapter.read(in);
+                   pspReferenceFound = true;
+                   break;
+                 case "reference":
+                   instance.reference = referenceAdapter.read(in);
+                   break;
+                 case "remainingAmount":
+                   instance.remainingAmount = remainingAmountAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `CheckoutOrderResponse` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!pspReferenceFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "pspReference", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
@@ -87,13 +87,20 @@ public class CheckoutSDKAction {
       return String.valueOf(value);
     }
 
-    public static TypeEnum fromValue(String value) {
+    private static final Map<String, TypeEnum> BY_VALUE = new HashMap<String, TypeEnum>();
+
+    static {
       for (TypeEnum b : TypeEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static TypeEnum fromValue(String value) {
+      TypeEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<TypeEnum> {
@@ -365,22 +372,63 @@ public class CheckoutSDKAction {
        if (!CheckoutSDKAction.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'CheckoutSDKAction' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<CheckoutSDKAction> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(CheckoutSDKAction.class));
+       final TypeAdapter<String> paymentDataAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> paymentMethodTypeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<Map<String, String>> sdkDataAdapter = gson.getAdapter(new TypeToken<Map<String, String>>() {});
+       final TypeAdapter<TypeEnum> typeAdapter = gson.getAdapter(TypeEnum.class);
+       final TypeAdapter<String> urlAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<CheckoutSDKAction>() {
            @Override
            public void write(JsonWriter out, CheckoutSDKAction value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("paymentData");
+             paymentDataAdapter.write(out, value.paymentData);
+             out.name("paymentMethodType");
+             paymentMethodTypeAdapter.write(out, value.paymentMethodType);
+             out.name("sdkData");
+             sdkDataAdapter.write(out, value.sdkData);
+             out.name("type");
+             typeAdapter.write(out, value.type);
+             out.name("url");
+             urlAdapter.write(out, value.url);
+             out.endObject();
            }
 
            @Override
            public CheckoutSDKAction read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             CheckoutSDKAction instance = new CheckoutSDKAction();
+             boolean typeFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "paymentData":
+                   instance.paymentData = paymentDataAdapter.read(in);
+                   break;
+                 case "paymentMethodType":
+                   instance.paymentMethodType = paymentMethodTypeAdapter.read(in);
+                   break;
+                 case "sdkData":
+                   instance.sdkData = sdkDataAdapter.read(in);
+                   break;
+                 case "type":
+                   instance.type = typeAdapter.read(in);
+                   typeFound = true;
+                   break;
+                 case "url":
+                   instance.url = urlAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `CheckoutSDKAction` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!typeFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "type", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
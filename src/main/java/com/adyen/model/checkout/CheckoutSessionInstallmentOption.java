@@ -74,13 +74,20 @@ public class CheckoutSessionInstallmentOption {
       return String.valueOf(value);
     }
 
-    public static PlansEnum fromValue(String value) {
+    private static final Map<String, PlansEnum> BY_VALUE = new HashMap<String, PlansEnum>();
+
+    static {
       for (PlansEnum b : PlansEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static PlansEnum fromValue(String value) {
+      PlansEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<PlansEnum> {
@@ -293,22 +300,46 @@ public class CheckoutSessionInstallmentOption {
        if (!CheckoutSessionInstallmentOption.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'CheckoutSessionInstallmentOption' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<CheckoutSessionInstallmentOption> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(CheckoutSessionInstallmentOption.class));
+       final TypeAdapter<List<PlansEnum>> plansAdapter = gson.getAdapter(new TypeToken<List<PlansEnum>>() {});
+       final TypeAdapter<Integer> preselectedValueAdapter = gson.getAdapter(Integer.class);
+       final TypeAdapter<List<Integer>> valuesAdapter = gson.getAdapter(new TypeToken<List<Integer>>() {});
 
        return (TypeAdapter<T>) new TypeAdapter<CheckoutSessionInstallmentOption>() {
            @Override
            public void write(JsonWriter out, CheckoutSessionInstallmentOption value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("plans");
+             plansAdapter.write(out, value.plans);
+             out.name("preselectedValue");
+             preselectedValueAdapter.write(out, value.preselectedValue);
+             out.name("values");
+             valuesAdapter.write(out, value.values);
+             out.endObject();
            }
 
            @Override
            public CheckoutSessionInstallmentOption read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             CheckoutSessionInstallmentOption instance = new CheckoutSessionInstallmentOption();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "plans":
+                   instance.plans = plansAdapter.read(in);
+                   break;
+                 case "preselectedValue":
+                   instance.preselectedValue = preselectedValueAdapter.read(in);
+                   break;
+                 case "values":
+                   instance.values = valuesAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `CheckoutSessionInstallmentOption` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
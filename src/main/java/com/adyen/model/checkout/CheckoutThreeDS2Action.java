@@ -90,13 +90,20 @@ public class CheckoutThreeDS2Action {
       return String.valueOf(value);
     }
 
-    public static TypeEnum fromValue(String value) {
+    private static final Map<String, TypeEnum> BY_VALUE = new HashMap<String, TypeEnum>();
+
+    static {
       for (TypeEnum b : TypeEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static TypeEnum fromValue(String value) {
+      TypeEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<TypeEnum> {
@@ -424,22 +431,75 @@ public class CheckoutThreeDS2Action {
        if (!CheckoutThreeDS2Action.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'CheckoutThreeDS2Action' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<CheckoutThreeDS2Action> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(CheckoutThreeDS2Action.class));
+       final TypeAdapter<String> authorisationTokenAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> paymentDataAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> paymentMethodTypeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> subtypeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> tokenAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<TypeEnum> typeAdapter = gson.getAdapter(TypeEnum.class);
+       final TypeAdapter<String> urlAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<CheckoutThreeDS2Action>() {
            @Override
            public void write(JsonWriter out, CheckoutThreeDS2Action value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("authorisationToken");
+             authorisationTokenAdapter.write(out, value.authorisationToken);
+             out.name("paymentData");
+             paymentDataAdapter.write(out, value.paymentData);
+             out.name("paymentMethodType");
+             paymentMethodTypeAdapter.write(out, value.paymentMethodType);
+             out.name("subtype");
+             subtypeAdapter.write(out, value.subtype);
+             out.name("token");
+             tokenAdapter.write(out, value.token);
+             out.name("type");
+             typeAdapter.write(out, value.type);
+             out.name("url");
+             urlAdapter.write(out, value.url);
+             out.endObject();
            }
 
            @Override
            public CheckoutThreeDS2Action read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             CheckoutThreeDS2Action instance = new CheckoutThreeDS2Action();
+             boolean typeFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "authorisationToken":
+                   instance.authorisationToken = authorisationTokenAdapter.read(in);
+                   break;
+                 case "paymentData":
+                   instance.paymentData = paymentDataAdapter.read(in);
+                   break;
+                 case "paymentMethodType":
+                   instance.paymentMethodType = paymentMethodTypeAdapter.read(in);
+                   break;
+                 case "subtype":
+                   instance.subtype = subtypeAdapter.read(in);
+                   break;
+                 case "token":
+                   instance.token = tokenAdapter.read(in);
+                   break;
+                 case "type":
+                   instance.type = typeAdapter.read(in);
+                   typeFound = true;
+                   break;
+                 case "url":
+                   instance.url = urlAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `CheckoutThreeDS2Action` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!typeFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "type", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
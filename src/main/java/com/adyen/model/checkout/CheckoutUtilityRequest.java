@@ -179,22 +179,39 @@ public class CheckoutUtilityRequest {
        if (!CheckoutUtilityRequest.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'CheckoutUtilityRequest' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<CheckoutUtilityRequest> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(CheckoutUtilityRequest.class));
+       final TypeAdapter<List<String>> originDomainsAdapter = gson.getAdapter(new TypeToken<List<String>>() {});
 
        return (TypeAdapter<T>) new TypeAdapter<CheckoutUtilityRequest>() {
            @Override
            public void write(JsonWriter out, CheckoutUtilityRequest value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("originDomains");
+             originDomainsAdapter.write(out, value.originDomains);
+             out.endObject();
            }
 
            @Override
            public CheckoutUtilityRequest read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             CheckoutUtilityRequest instance = new CheckoutUtilityRequest();
+             boolean originDomainsFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "originDomains":
+                   instance.originDomains = originDomainsAdapter.read(in);
+                   originDomainsFound = true;
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `CheckoutUtilityRequest` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!originDomainsFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "originDomains", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
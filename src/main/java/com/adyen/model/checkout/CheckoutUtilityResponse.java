@@ -171,22 +171,34 @@ public class CheckoutUtilityResponse {
        if (!CheckoutUtilityResponse.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'CheckoutUtilityResponse' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<CheckoutUtilityResponse> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(CheckoutUtilityResponse.class));
+       final TypeAdapter<Map<String, String>> originKeysAdapter = gson.getAdapter(new TypeToken<Map<String, String>>() {});
 
        return (TypeAdapter<T>) new TypeAdapter<CheckoutUtilityResponse>() {
            @Override
            public void write(JsonWriter out, CheckoutUtilityResponse value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("originKeys");
+             originKeysAdapter.write(out, value.originKeys);
+             out.endObject();
            }
 
            @Override
            public CheckoutUtilityResponse read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             CheckoutUtilityResponse instance = new CheckoutUtilityResponse();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "originKeys":
+                   instance.originKeys = originKeysAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `CheckoutUtilityResponse` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
@@ -143,13 +143,20 @@ public class CheckoutVoucherAction {
       return String.valueOf(value);
     }
 
-    public static TypeEnum fromValue(String value) {
+    private static final Map<String, TypeEnum> BY_VALUE = new HashMap<String, TypeEnum>();
+
+    static {
       for (TypeEnum b : TypeEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static TypeEnum fromValue(String value) {
+      TypeEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<TypeEnum> {
@@ -867,22 +874,153 @@ public class CheckoutVoucherAction {
        if (!CheckoutVoucherAction.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'CheckoutVoucherAction' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<CheckoutVoucherAction> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(CheckoutVoucherAction.class));
+       final TypeAdapter<String> alternativeReferenceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> collectionInstitutionNumberAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> downloadUrlAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> entityAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> expiresAtAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<Amount> initialAmountAdapter = gson.getAdapter(Amount.class);
+       final TypeAdapter<String> instructionsUrlAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> issuerAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> maskedTelephoneNumberAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> merchantNameAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> merchantReferenceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> paymentDataAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> paymentMethodTypeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> referenceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> shopperEmailAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> shopperNameAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<Amount> surchargeAdapter = gson.getAdapter(Amount.class);
+       final TypeAdapter<Amount> totalAmountAdapter = gson.getAdapter(Amount.class);
+       final TypeAdapter<TypeEnum> typeAdapter = gson.getAdapter(TypeEnum.class);
+       final TypeAdapter<String> urlAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<CheckoutVoucherAction>() {
            @Override
            public void write(JsonWriter out, CheckoutVoucherAction value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("alternativeReference");
+             alternativeReferenceAdapter.write(out, value.alternativeReference);
+             out.name("collectionInstitutionNumber");
+             collectionInstitutionNumberAdapter.write(out, value.collectionInstitutionNumber);
+             out.name("downloadUrl");
+             downloadUrlAdapter.write(out, value.downloadUrl);
+             out.name("entity");
+             entityAdapter.write(out, value.entity);
+             out.name("expiresAt");
+             expiresAtAdapter.write(out, value.expiresAt);
+             out.name("initialAmount");
+             initialAmountAdapter.write(out, value.initialAmount);
+             out.name("instructionsUrl");
+             instructionsUrlAdapter.write(out, value.instructionsUrl);
+             out.name("issuer");
+             issuerAdapter.write(out, value.issuer);
+             out.name("maskedTelephoneNumber");
+             maskedTelephoneNumberAdapter.write(out, value.maskedTelephoneNumber);
+             out.name("merchantName");
+             merchantNameAdapter.write(out, value.merchantName);
+             out.name("merchantReference");
+             merchantReferenceAdapter.write(out, value.merchantReference);
+             out.name("paymentData");
+             paymentDataAdapter.write(out, value.paymentData);
+             out.name("paymentMethodType");
+             paymentMethodTypeAdapter.write(out, value.paymentMethodType);
+             out.name("reference");
+             referenceAdapter.write(out, value.reference);
+             out.name("shopperEmail");
+             shopperEmailAdapter.write(out, value.shopperEmail);
+             out.name("shopperName");
+             shopperNameAdapter.write(out, value.shopperName);
+             out.name("surcharge");
+             surchargeAdapter.write(out, value.surcharge);
+             out.name("totalAmount");
+             totalAmountAdapter.write(out, value.totalAmount);
+             out.name("type");
+             typeAdapter.write(out, value.type);
+             out.name("url");
+             urlAdapter.write(out, value.url);
+             out.endObject();
            }
 
            @Override
            public CheckoutVoucherAction read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             CheckoutVoucherAction instance = new CheckoutVoucherAction();
+             boolean typeFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "alternativeReference":
+                   instance.alternativeReference = alternativeReferenceAdapter.read(in);
+                   break;
+                 case "collectionInstitutionNumber":
+                   instance.collectionInstitutionNumber = collectionInstitutionNumberAdapter.read(in);
+                   break;
+                 case "downloadUrl":
+                   instance.downloadUrl = downloadUrlAdapter.read(in);
+                   break;
+                 case "entity":
+                   instance.entity = entityAdapter.read(in);
+                   break;
+                 case "expiresAt":
+                   instance.expiresAt = expiresAtAdapter.read(in);
+                   break;
+                 case "initialAmount":
+                   instance.initialAmount = initialAmountAdapter.read(in);
+                   break;
+                 case "instructionsUrl":
+                   instance.instructionsUrl = instructionsUrlAdapter.read(in);
+                   break;
+                 case "issuer":
+                   instance.issuer = issuerAdapter.read(in);
+                   break;
+                 case "maskedTelephoneNumber":
+                   instance.maskedTelephoneNumber = maskedTelephoneNumberAdapter.read(in);
+                   break;
+                 case "merchantName":
+                   instance.merchantName = merchantNameAdapter.read(in);
+                   break;
+                 case "merchantReference":
+                   instance.merchantReference = merchantReferenceAdapter.read(in);
+                   break;
+                 case "paymentData":
+                   instance.paymentData = paymentDataAdapter.read(in);
+                   break;
+                 case "paymentMethodType":
+                   instance.paymentMethodType = paymentMethodTypeAdapter.read(in);
+                   break;
+                 case "reference":
+                   instance.reference = referenceAdapter.read(in);
+                   break;
+                 case "shopperEmail":
+                   instance.shopperEmail = shopperEmailAdapter.read(in);
+                   break;
+                 case "shopperName":
+                   instance.shopperName = shopperNameAdapter.read(in);
+                   break;
+                 case "surcharge":
+                   instance.surcharge = surchargeAdapter.read(in);
+                   break;
+                 case "totalAmount":
+                   instance.totalAmount = totalAmountAdapter.read(in);
+                   break;
+                 case "type":
+                   instance.type = typeAdapter.read(in);
+                   typeFound = true;
+                   break;
+                 case "url":
+                   instance.url = urlAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `CheckoutVoucherAction` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!typeFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "type", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
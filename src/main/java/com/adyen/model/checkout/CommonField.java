@@ -198,22 +198,40 @@ public class CommonField {
        if (!CommonField.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'CommonField' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<CommonField> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(CommonField.class));
+       final TypeAdapter<String> nameAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> versionAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<CommonField>() {
            @Override
            public void write(JsonWriter out, CommonField value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("name");
+             nameAdapter.write(out, value.name);
+             out.name("version");
+             versionAdapter.write(out, value.version);
+             out.endObject();
            }
 
            @Override
            public CommonField read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             CommonField instance = new CommonField();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "name":
+                   instance.name = nameAdapter.read(in);
+                   break;
+                 case "version":
+                   instance.version = versionAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `CommonField` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
@@ -334,22 +334,64 @@ public class Company {
        if (!Company.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'Company' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<Company> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(Company.class));
+       final TypeAdapter<String> homepageAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> nameAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> registrationNumberAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> registryLocationAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> taxIdAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> typeAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<Company>() {
            @Override
            public void write(JsonWriter out, Company value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("homepage");
+             homepageAdapter.write(out, value.homepage);
+             out.name("name");
+             nameAdapter.write(out, value.name);
+             out.name("registrationNumber");
+             registrationNumberAdapter.write(out, value.registrationNumber);
+             out.name("registryLocation");
+             registryLocationAdapter.write(out, value.registryLocation);
+             out.name("taxId");
+             taxIdAdapter.write(out, value.taxId);
+             out.name("type");
+             typeAdapter.write(out, value.type);
+             out.endObject();
            }
 
            @Override
            public Company read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             Company instance = new Company();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "homepage":
+                   instance.homepage = homepageAdapter.read(in);
+                   break;
+                 case "name":
+                   instance.name = nameAdapter.read(in);
+                   break;
+                 case "registrationNumber":
+                   instance.registrationNumber = registrationNumberAdapter.read(in);
+                   break;
+                 case "registryLocation":
+                   instance.registryLocation = registryLocationAdapter.read(in);
+                   break;
+                 case "taxId":
+                   instance.taxId = taxIdAdapter.read(in);
+                   break;
+                 case "type":
+                   instance.type = typeAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `Company` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
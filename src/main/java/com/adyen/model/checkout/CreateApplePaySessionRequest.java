@@ -242,22 +242,61 @@ public class CreateApplePaySessionRequest {
        if (!CreateApplePaySessionRequest.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'CreateApplePaySessionRequest' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<CreateApplePaySessionRequest> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(CreateApplePaySessionRequest.class));
+       final TypeAdapter<String> displayNameAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> domainNameAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> merchantIdentifierAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<CreateApplePaySessionRequest>() {
            @Override
            public void write(JsonWriter out, CreateApplePaySessionRequest value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("displayName");
+             displayNameAdapter.write(out, value.displayName);
+             out.name("domainName");
+             domainNameAdapter.write(out, value.domainName);
+             out.name("merchantIdentifier");
+             merchantIdentifierAdapter.write(out, value.merchantIdentifier);
+             out.endObject();
            }
 
            @Override
            public CreateApplePaySessionRequest read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             CreateApplePaySessionRequest instance = new CreateApplePaySessionRequest();
+             boolean displayNameFound = false;
+             boolean domainNameFound = false;
+             boolean merchantIdentifierFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "displayName":
+                   instance.displayName = displayNameAdapter.read(in);
+                   displayNameFound = true;
+                   break;
+                 case "domainName":
+                   instance.domainName = domainNameAdapter.read(in);
+                   domainNameFound = true;
+                   break;
+                 case "merchantIdentifier":
+                   instance.merchantIdentifier = merchantIdentifierAdapter.read(in);
+                   merchantIdentifierFound = true;
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `CreateApplePaySessionRequest` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!displayNameFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "displayName", in.getPath()));
+             }
+             if (!domainNameFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "domainName", in.getPath()));
+             }
+             if (!merchantIdentifierFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "merchantIdentifier", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
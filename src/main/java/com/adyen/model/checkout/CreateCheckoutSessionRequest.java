@@ -132,13 +132,20 @@ public class CreateCheckoutSessionRequest {
       return String.valueOf(value);
     }
 
-    public static ChannelEnum fromValue(String value) {
+    private static final Map<String, ChannelEnum> BY_VALUE = new HashMap<String, ChannelEnum>();
+
+    static {
       for (ChannelEnum b : ChannelEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    }
+
+    public static ChannelEnum fromValue(String value) {
+      ChannelEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      }
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<ChannelEnum> {
@@ -261,13 +268,20 @@ public class CreateCheckoutSessionRequest {
       return String.valueOf(value);
     }
 
-    public static RecurringProcessingModelEnum fromValue(String value) {
+    private static final Map<String, RecurringProcessingModelEnum> BY_VALUE = new HashMap<String, RecurringProcessingModelEnum>();
+
+    static {
       for (RecurringProcessingModelEnum b : RecurringProcessingModelEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    }
+
+    public static RecurringProcessingModelEnum fromValue(String value) {
+      RecurringProcessingModelEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      }
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<RecurringProcessingModelEnum> {
@@ -344,13 +358,20 @@ public class CreateCheckoutSessionRequest {
       return String.valueOf(value);
     }
 
-    public static ShopperInteractionEnum fromValue(String value) {
+    private static final Map<String, ShopperInteractionEnum> BY_VALUE = new HashMap<String, ShopperInteractionEnum>();
+
+    static {
       for (ShopperInteractionEnum b : ShopperInteractionEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static ShopperInteractionEnum fromValue(String value) {
+      ShopperInteractionEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<ShopperInteractionEnum> {
@@ -2067,22 +2088,354 @@ public class CreateCheckoutSessionRequest {
        if (!CreateCheckoutSessionRequest.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'CreateCheckoutSessionRequest' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<CreateCheckoutSessionRequest> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(CreateCheckoutSessionRequest.class));
+       final TypeAdapter<AccountInfo> accountInfoAdapter = gson.getAdapter(AccountInfo.class);
+       final TypeAdapter<Amount> additionalAmountAdapter = gson.getAdapter(Amount.class);
+       final TypeAdapter<Map<String, String>> additionalDataAdapter = gson.getAdapter(new TypeToken<Map<String, String>>() {});
+       final TypeAdapter<List<String>> allowedPaymentMethodsAdapter = gson.getAdapter(new TypeToken<List<String>>() {});
+       final TypeAdapter<Amount> amountAdapter = gson.getAdapter(Amount.class);
+       final TypeAdapter<ApplicationInfo> applicationInfoAdapter = gson.getAdapter(ApplicationInfo.class);
+       final TypeAdapter<AuthenticationData> authenticationDataAdapter = gson.getAdapter(AuthenticationData.class);
+       final TypeAdapter<Address> billingAddressAdapter = gson.getAdapter(Address.class);
+       final TypeAdapter<List<String>> blockedPaymentMethodsAdapter = gson.getAdapter(new TypeToken<List<String>>() {});
+       final TypeAdapter<Integer> captureDelayHoursAdapter = gson.getAdapter(Integer.class);
+       final TypeAdapter<ChannelEnum> channelAdapter = gson.getAdapter(ChannelEnum.class);
+       final TypeAdapter<Company> companyAdapter = gson.getAdapter(Company.class);
+       final TypeAdapter<String> countryCodeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<Date> dateOfBirthAdapter = gson.getAdapter(Date.class);
+       final TypeAdapter<Date> deliverAtAdapter = gson.getAdapter(Date.class);
+       final TypeAdapter<Address> deliveryAddressAdapter = gson.getAdapter(Address.class);
+       final TypeAdapter<Boolean> enableOneClickAdapter = gson.getAdapter(Boolean.class);
+       final TypeAdapter<Boolean> enablePayOutAdapter = gson.getAdapter(Boolean.class);
+       final TypeAdapter<Boolean> enableRecurringAdapter = gson.getAdapter(Boolean.class);
+       final TypeAdapter<Date> expiresAtAdapter = gson.getAdapter(Date.class);
+       final TypeAdapter<Map<String, CheckoutSessionInstallmentOption>> installmentOptionsAdapter = gson.getAdapter(new TypeToken<Map<String, CheckoutSessionInstallmentOption>>() {});
+       final TypeAdapter<List<LineItem>> lineItemsAdapter = gson.getAdapter(new TypeToken<List<LineItem>>() {});
+       final TypeAdapter<Mandate> mandateAdapter = gson.getAdapter(Mandate.class);
+       final TypeAdapter<String> mccAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> merchantAccountAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> merchantOrderReferenceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<Map<String, String>> metadataAdapter = gson.getAdapter(new TypeToken<Map<String, String>>() {});
+       final TypeAdapter<ThreeDSecureData> mpiDataAdapter = gson.getAdapter(ThreeDSecureData.class);
+       final TypeAdapter<String> recurringExpiryAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> recurringFrequencyAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<RecurringProcessingModelEnum> recurringProcessingModelAdapter = gson.getAdapter(RecurringProcessingModelEnum.class);
+       final TypeAdapter<String> redirectFromIssuerMethodAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> redirectToIssuerMethodAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> referenceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> returnUrlAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<RiskData> riskDataAdapter = gson.getAdapter(RiskData.class);
+       final TypeAdapter<String> shopperEmailAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> shopperIPAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<ShopperInteractionEnum> shopperInteractionAdapter = gson.getAdapter(ShopperInteractionEnum.class);
+       final TypeAdapter<String> shopperLocaleAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<Name> shopperNameAdapter = gson.getAdapter(Name.class);
+       final TypeAdapter<String> shopperReferenceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> shopperStatementAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> socialSecurityNumberAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<Boolean> splitCardFundingSourcesAdapter = gson.getAdapter(Boolean.class);
+       final TypeAdapter<List<Split>> splitsAdapter = gson.getAdapter(new TypeToken<List<Split>>() {});
+       final TypeAdapter<String> storeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<Boolean> storePaymentMethodAdapter = gson.getAdapter(Boolean.class);
+       final TypeAdapter<String> telephoneNumberAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<Boolean> threeDSAuthenticationOnlyAdapter = gson.getAdapter(Boolean.class);
+       final TypeAdapter<Boolean> trustedShopperAdapter = gson.getAdapter(Boolean.class);
 
        return (TypeAdapter<T>) new TypeAdapter<CreateCheckoutSessionRequest>() {
            @Override
            public void write(JsonWriter out, CreateCheckoutSessionRequest value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("accountInfo");
+             accountInfoAdapter.write(out, value.accountInfo);
+             out.name("additionalAmount");
+             additionalAmountAdapter.write(out, value.additionalAmount);
+             out.name("additionalData");
+             additionalDataAdapter.write(out, value.additionalData);
+             out.name("allowedPaymentMethods");
+             allowedPaymentMethodsAdapter.write(out, value.allowedPaymentMethods);
+             out.name("amount");
+             amountAdapter.write(out, value.amount);
+             out.name("applicationInfo");
+             applicationInfoAdapter.write(out, value.applicationInfo);
+             out.name("authenticationData");
+             authenticationDataAdapter.write(out, value.authenticationData);
+             out.name("billingAddress");
+             billingAddressAdapter.write(out, value.billingAddress);
+             out.name("blockedPaymentMethods");
+             blockedPaymentMethodsAdapter.write(out, value.blockedPaymentMethods);
+             out.name("captureDelayHours");
+             captureDelayHoursAdapter.write(out, value.captureDelayHours);
+             out.name("channel");
+             channelAdapter.write(out, value.channel);
+             out.name("company");
+             companyAdapter.write(out, value.company);
+             out.name("countryCode");
+             countryCodeAdapter.write(out, value.countryCode);
+             out.name("dateOfBirth");
+             dateOfBirthAdapter.write(out, value.dateOfBirth);
+             out.name("deliverAt");
+             deliverAtAdapter.write(out, value.deliverAt);
+             out.name("deliveryAddress");
+             deliveryAddressAdapter.write(out, value.deliveryAddress);
+             out.name("enableOneClick");
+             enableOneClickAdapter.write(out, value.enableOneClick);
+             out.name("enablePayOut");
+             enablePayOutAdapter.write(out, value.enablePayOut);
+             out.name("enableRecurring");
+             enableRecurringAdapter.write(out, value.enableRecurring);
+             out.name("expiresAt");
+             expiresAtAdapter.write(out, value.expiresAt);
+             out.name("installmentOptions");
+             installmentOptionsAdapter.write(out, value.installmentOptions);
+             out.name("lineItems");
+             lineItemsAdapter.write(out, value.lineItems);
+             out.name("mandate");
+             mandateAdapter.write(out, value.mandate);
+             out.name("mcc");
+             mccAdapter.write(out, value.mcc);
+             out.name("merchantAccount");
+             merchantAccountAdapter.write(out, value.merchantAccount);
+             out.name("merchantOrderReference");
+             merchantOrderReferenceAdapter.write(out, value.merchantOrderReference);
+             out.name("metadata");
+             metadataAdapter.write(out, value.metadata);
+             out.name("mpiData");
+             mpiDataAdapter.write(out, value.mpiData);
+             out.name("recurringExpiry");
+             recurringExpiryAdapter.write(out, value.recurringExpiry);
+             out.name("recurringFrequency");
+             recurringFrequencyAdapter.write(out, value.recurringFrequency);
+             out.name("recurringProcessingModel");
+             recurringProcessingModelAdapter.write(out, value.recurringProcessingModel);
+             out.name("redirectFromIssuerMethod");
+             redirectFromIssuerMethodAdapter.write(out, value.redirectFromIssuerMethod);
+             out.name("redirectToIssuerMethod");
+             redirectToIssuerMethodAdapter.write(out, value.redirectToIssuerMethod);
+             out.name("reference");
+             referenceAdapter.write(out, value.reference);
+             out.name("returnUrl");
+             returnUrlAdapter.write(out, value.returnUrl);
+             out.name("riskData");
+             riskDataAdapter.write(out, value.riskData);
+             out.name("shopperEmail");
+             shopperEmailAdapter.write(out, value.shopperEmail);
+             out.name("shopperIP");
+             shopperIPAdapter.write(out, value.shopperIP);
+             out.name("shopperInteraction");
+             shopperInteractionAdapter.write(out, value.shopperInteraction);
+             out.name("shopperLocale");
+             shopperLocaleAdapter.write(out, value.shopperLocale);
+             out.name("shopperName");
+             shopperNameAdapter.write(out, value.shopperName);
+             out.name("shopperReference");
+             shopperReferenceAdapter.write(out, value.shopperReference);
+             out.name("shopperStatement");
+             shopperStatementAdapter.write(out, value.shopperStatement);
+             out.name("socialSecurityNumber");
+             socialSecurityNumberAdapter.write(out, value.socialSecurityNumber);
+             out.name("splitCardFundingSources");
+             splitCardFundingSourcesAdapter.write(out, value.splitCardFundingSources);
+             out.name("splits");
+             splitsAdapter.write(out, value.splits);
+             out.name("store");
+             storeAdapter.write(out, value.store);
+             out.name("storePaymentMethod");
+             storePaymentMethodAdapter.write(out, value.storePaymentMethod);
+             out.name("telephoneNumber");
+             telephoneNumberAdapter.write(out, value.telephoneNumber);
+             out.name("threeDSAuthenticationOnly");
+             threeDSAuthenticationOnlyAdapter.write(out, value.threeDSAuthenticationOnly);
+             out.name("trustedShopper");
+             trustedShopperAdapter.write(out, value.trustedShopper);
+             out.endObject();
            }
 
            @Override
            public CreateCheckoutSessionRequest read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             CreateCheckoutSessionRequest instance = new CreateCheckoutSessionRequest();
+             boolean amountFound = false;
+             boolean merchantAccountFound = false;
+             boolean referenceFound = false;
+             boolean returnUrlFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "accountInfo":
+                   instance.accountInfo = accountInfoAdapter.read(in);
+                   break;
+                 case "additionalAmount":
+                   instance.additionalAmount = additionalAmountAdapter.read(in);
+                   break;
+                 case "additionalData":
+                   instance.additionalData = additionalDataAdapter.read(in);
+                   break;
+                 case "allowedPaymentMethods":
+                   instance.allowedPaymentMethods = allowedPaymentMethodsAdapter.read(in);
+                   break;
+                 case "amount":
+                   instance.amount = amountAdapter.read(in);
+                   amountFound = true;
+                   break;
+                 case "applicationInfo":
+                   instance.applicationInfo = applicationInfoAdapter.read(in);
+                   break;
+                 case "authenticationData":
+                   instance.authenticationData = authenticationDataAdapter.read(in);
+                   break;
+                 case "billingAddress":
+                   instance.billingAddress = billingAddressAdapter.read(in);
+                   break;
+                 case "blockedPaymentMethods":
+                   instance.blockedPaymentMethods = blockedPaymentMethodsAdapter.read(in);
+                   break;
+                 case "captureDelayHours":
+                   instance.captureDelayHours = captureDelayHoursAdapter.read(in);
+                   break;
+                 case "channel":
+                   instance.channel = channelAdapter.read(in);
+                   break;
+                 case "company":
+                   instance.company = companyAdapter.read(in);
+                   break;
+                 case "countryCode":
+                   instance.countryCode = countryCodeAdapter.read(in);
+                   break;
+                 case "dateOfBirth":
+                   instance.dateOfBirth = dateOfBirthAdapter.read(in);
+                   break;
+                 case "deliverAt":
+                   instance.deliverAt = deliverAtAdapter.read(in);
+                   break;
+                 case "deliveryAddress":
+                   instance.deliveryAddress = deliveryAddressAdapter.read(in);
+                   break;
+                 case "enableOneClick":
+                   instance.enableOneClick = enableOneClickAdapter.read(in);
+                   break;
+                 case "enablePayOut":
+                   instance.enablePayOut = enablePayOutAdapter.read(in);
+                   break;
+                 case "enableRecurring":
+                   instance.enableRecurring = enableRecurringAdapter.read(in);
+                   break;
+                 case "expiresAt":
+                   instance.expiresAt = expiresAtAdapter.read(in);
+                   break;
+                 case "installmentOptions":
+                   instance.installmentOptions = installmentOptionsAdapter.read(in);
+                   break;
+                 case "lineItems":
+                   instance.lineItems = lineItemsAdapter.read(in);
+                   break;
+                 case "mandate":
+                   instance.mandate = mandateAdapter.read(in);
+                   break;
+                 case "mcc":
+                   instance.mcc = mccAdapter.read(in);
+                   break;
+                 case "merchantAccount":
+                   instance.merchantAccount = merchantAccountAdapter.read(in);
+                   merchantAccountFound = true;
+                   break;
+                 case "merchantOrderReference":
+                   instance.merchantOrderReference = merchantOrderReferenceAdapter.read(in);
+                   break;
+                 case "metadata":
+                   instance.metadata = metadataAdapter.read(in);
+                   break;
+                 case "mpiData":
+                   instance.mpiData = mpiDataAdapter.read(in);
+                   break;
+                 case "recurringExpiry":
+                   instance.recurringExpiry = recurringExpiryAdapter.read(in);
+                   break;
+                 case "recurringFrequency":
+                   instance.recurringFrequency = recurringFrequencyAdapter.read(in);
+                   break;
+                 case "recurringProcessingModel":
+                   instance.recurringProcessingModel = recurringProcessingModelAdapter.read(in);
+                   break;
+                 case "redirectFromIssuerMethod":
+                   instance.redirectFromIssuerMethod = redirectFromIssuerMethodAdapter.read(in);
+                   break;
+                 case "redirectToIssuerMethod":
+                   instance.redirectToIssuerMethod = redirectToIssuerMethodAdapter.read(in);
+                   break;
+                 case "reference":
+                   instance.reference = referenceAdapter.read(in);
+                   referenceFound = true;
+                   break;
+                 case "returnUrl":
+                   instance.returnUrl = returnUrlAdapter.read(in);
+                   returnUrlFound = true;
+                   break;
+                 case "riskData":
+                   instance.riskData = riskDataAdapter.read(in);
+                   break;
+                 case "shopperEmail":
+                   instance.shopperEmail = shopperEmailAdapter.read(in);
+                   break;
+                 case "shopperIP":
+                   instance.shopperIP = shopperIPAdapter.read(in);
+                   break;
+                 case "shopperInteraction":
+                   instance.shopperInteraction = shopperInteractionAdapter.read(in);
+                   break;
+                 case "shopperLocale":
+                   instance.shopperLocale = shopperLocaleAdapter.read(in);
+                   break;
+                 case "shopperName":
+                   instance.shopperName = shopperNameAdapter.read(in);
+                   break;
+                 case "shopperReference":
+                   instance.shopperReference = shopperReferenceAdapter.read(in);
+                   break;
+                 case "shopperStatement":
+                   instance.shopperStatement = shopperStatementAdapter.read(in);
+                   break;
+                 case "socialSecurityNumber":
+                   instance.socialSecurityNumber = socialSecurityNumberAdapter.read(in);
+                   break;
+                 case "splitCardFundingSources":
+                   instance.splitCardFundingSources = splitCardFundingSourcesAdapter.read(in);
+                   break;
+                 case "splits":
+                   instance.splits = splitsAdapter.read(in);
+                   break;
+                 case "store":
+                   instance.store = storeAdapter.read(in);
+                   break;
+                 case "storePaymentMethod":
+                   instance.storePaymentMethod = storePaymentMethodAdapter.read(in);
+                   break;
+                 case "telephoneNumber":
+                   instance.telephoneNumber = telephoneNumberAdapter.read(in);
+                   break;
+                 case "threeDSAuthenticationOnly":
+                   instance.threeDSAuthenticationOnly = threeDSAuthenticationOnlyAdapter.read(in);
+                   break;
+                 case "trustedShopper":
+                   instance.trustedShopper = trustedShopperAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `CreateCheckoutSessionRequest` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!amountFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "amount", in.getPath()));
+             }
+             if (!merchantAccountFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "merchantAccount", in.getPath()));
+             }
+             if (!referenceFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "reference", in.getPath()));
+             }
+             if (!returnUrlFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "returnUrl", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
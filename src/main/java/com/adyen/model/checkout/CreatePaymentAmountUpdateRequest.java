@@ -84,13 +84,20 @@ public class CreatePaymentAmountUpdateRequest {
       return String.valueOf(value);
     }
 
-    public static ReasonEnum fromValue(String value) {
+    private static final Map<String, ReasonEnum> BY_VALUE = new HashMap<String, ReasonEnum>();
+
+    static {
       for (ReasonEnum b : ReasonEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static ReasonEnum fromValue(String value) {
+      ReasonEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<ReasonEnum> {
@@ -379,22 +386,68 @@ public class CreatePaymentAmountUpdateRequest {
        if (!CreatePaymentAmountUpdateRequest.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'CreatePaymentAmountUpdateRequest' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<CreatePaymentAmountUpdateRequest> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(CreatePaymentAmountUpdateRequest.class));
+       final TypeAdapter<Amount> amountAdapter = gson.getAdapter(Amount.class);
+       final TypeAdapter<String> merchantAccountAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<ReasonEnum> reasonAdapter = gson.getAdapter(ReasonEnum.class);
+       final TypeAdapter<String> referenceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<List<Split>> splitsAdapter = gson.getAdapter(new TypeToken<List<Split>>() {});
 
        return (TypeAdapter<T>) new TypeAdapter<CreatePaymentAmountUpdateRequest>() {
            @Override
            public void write(JsonWriter out, CreatePaymentAmountUpdateRequest value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("amount");
+             amountAdapter.write(out, value.amount);
+             out.name("merchantAccount");
+             merchantAccountAdapter.write(out, value.merchantAccount);
+             out.name("reason");
+             reasonAdapter.write(out, value.reason);
+             out.name("reference");
+             referenceAdapter.write(out, value.reference);
+             out.name("splits");
+             splitsAdapter.write(out, value.splits);
+             out.endObject();
            }
 
            @Override
            public CreatePaymentAmountUpdateRequest read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             CreatePaymentAmountUpdateRequest instance = new CreatePaymentAmountUpdateRequest();
+             boolean amountFound = false;
+             boolean merchantAccountFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "amount":
+                   instance.amount = amountAdapter.read(in);
+                   amountFound = true;
+                   break;
+                 case "merchantAccount":
+                   instance.merchantAccount = merchantAccountAdapter.read(in);
+                   merchantAccountFound = true;
+                   break;
+                 case "reason":
+                   instance.reason = reasonAdapter.read(in);
+                   break;
+                 case "reference":
+                   instance.reference = referenceAdapter.read(in);
+                   break;
+                 case "splits":
+                   instance.splits = splitsAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `CreatePaymentAmountUpdateRequest` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!amountFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "amount", in.getPath()));
+             }
+             if (!merchantAccountFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "merchantAccount", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
@@ -206,22 +206,45 @@ public class CreatePaymentCancelRequest {
        if (!CreatePaymentCancelRequest.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'CreatePaymentCancelRequest' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<CreatePaymentCancelRequest> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(CreatePaymentCancelRequest.class));
+       final TypeAdapter<String> merchantAccountAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> referenceAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<CreatePaymentCancelRequest>() {
            @Override
            public void write(JsonWriter out, CreatePaymentCancelRequest value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("merchantAccount");
+             merchantAccountAdapter.write(out, value.merchantAccount);
+             out.name("reference");
+             referenceAdapter.write(out, value.reference);
+             out.endObject();
            }
 
            @Override
            public CreatePaymentCancelRequest read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             CreatePaymentCancelRequest instance = new CreatePaymentCancelRequest();
+             boolean merchantAccountFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "merchantAccount":
+                   instance.merchantAccount = merchantAccountAdapter.read(in);
+                   merchantAccountFound = true;
+                   break;
+                 case "reference":
+                   instance.reference = referenceAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `CreatePaymentCancelRequest` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!merchantAccountFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "merchantAccount", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
@@ -159,13 +159,20 @@ public class CreatePaymentLinkRequest {
       return String.valueOf(value);
     }
 
-    public static RecurringProcessingModelEnum fromValue(String value) {
+    private static final Map<String, RecurringProcessingModelEnum> BY_VALUE = new HashMap<String, RecurringProcessingModelEnum>();
+
+    static {
       for (RecurringProcessingModelEnum b : RecurringProcessingModelEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    }
+
+    public static RecurringProcessingModelEnum fromValue(String value) {
+      RecurringProcessingModelEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      }
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<RecurringProcessingModelEnum> {
@@ -220,13 +227,20 @@ public class CreatePaymentLinkRequest {
       return String.valueOf(value);
     }
 
-    public static RequiredShopperFieldsEnum fromValue(String value) {
+    private static final Map<String, RequiredShopperFieldsEnum> BY_VALUE = new HashMap<String, RequiredShopperFieldsEnum>();
+
+    static {
       for (RequiredShopperFieldsEnum b : RequiredShopperFieldsEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    }
+
+    public static RequiredShopperFieldsEnum fromValue(String value) {
+      RequiredShopperFieldsEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      }
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<RequiredShopperFieldsEnum> {
@@ -321,13 +335,20 @@ public class CreatePaymentLinkRequest {
       return String.valueOf(value);
     }
 
-    public static StorePaymentMethodModeEnum fromValue(String value) {
+    private static final Map<String, StorePaymentMethodModeEnum> BY_VALUE = new HashMap<String, StorePaymentMethodModeEnum>();
+
+    static {
       for (StorePaymentMethodModeEnum b : StorePaymentMethodModeEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static StorePaymentMethodModeEnum fromValue(String value) {
+      StorePaymentMethodModeEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<StorePaymentMethodModeEnum> {
@@ -1578,22 +1599,259 @@ public class CreatePaymentLinkRequest {
        if (!CreatePaymentLinkRequest.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'CreatePaymentLinkRequest' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<CreatePaymentLinkRequest> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(CreatePaymentLinkRequest.class));
+       final TypeAdapter<List<String>> allowedPaymentMethodsAdapter = gson.getAdapter(new TypeToken<List<String>>() {});
+       final TypeAdapter<Amount> amountAdapter = gson.getAdapter(Amount.class);
+       final TypeAdapter<ApplicationInfo> applicationInfoAdapter = gson.getAdapter(ApplicationInfo.class);
+       final TypeAdapter<Address> billingAddressAdapter = gson.getAdapter(Address.class);
+       final TypeAdapter<List<String>> blockedPaymentMethodsAdapter = gson.getAdapter(new TypeToken<List<String>>() {});
+       final TypeAdapter<Integer> captureDelayHoursAdapter = gson.getAdapter(Integer.class);
+       final TypeAdapter<String> countryCodeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<Date> dateOfBirthAdapter = gson.getAdapter(Date.class);
+       final TypeAdapter<Date> deliverAtAdapter = gson.getAdapter(Date.class);
+       final TypeAdapter<Address> deliveryAddressAdapter = gson.getAdapter(Address.class);
+       final TypeAdapter<String> descriptionAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> expiresAtAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<Map<String, InstallmentOption>> installmentOptionsAdapter = gson.getAdapter(new TypeToken<Map<String, InstallmentOption>>() {});
+       final TypeAdapter<List<LineItem>> lineItemsAdapter = gson.getAdapter(new TypeToken<List<LineItem>>() {});
+       final TypeAdapter<String> mccAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> merchantAccountAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> merchantOrderReferenceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<Map<String, String>> metadataAdapter = gson.getAdapter(new TypeToken<Map<String, String>>() {});
+       final TypeAdapter<RecurringProcessingModelEnum> recurringProcessingModelAdapter = gson.getAdapter(RecurringProcessingModelEnum.class);
+       final TypeAdapter<String> referenceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<List<RequiredShopperFieldsEnum>> requiredShopperFieldsAdapter = gson.getAdapter(new TypeToken<List<RequiredShopperFieldsEnum>>() {});
+       final TypeAdapter<String> returnUrlAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<Boolean> reusableAdapter = gson.getAdapter(Boolean.class);
+       final TypeAdapter<RiskData> riskDataAdapter = gson.getAdapter(RiskData.class);
+       final TypeAdapter<String> shopperEmailAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> shopperLocaleAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<Name> shopperNameAdapter = gson.getAdapter(Name.class);
+       final TypeAdapter<String> shopperReferenceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> shopperStatementAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> socialSecurityNumberAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<Boolean> splitCardFundingSourcesAdapter = gson.getAdapter(Boolean.class);
+       final TypeAdapter<List<Split>> splitsAdapter = gson.getAdapter(new TypeToken<List<Split>>() {});
+       final TypeAdapter<String> storeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<StorePaymentMethodModeEnum> storePaymentMethodModeAdapter = gson.getAdapter(StorePaymentMethodModeEnum.class);
+       final TypeAdapter<String> telephoneNumberAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> themeIdAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<CreatePaymentLinkRequest>() {
            @Override
            public void write(JsonWriter out, CreatePaymentLinkRequest value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("allowedPaymentMethods");
+             allowedPaymentMethodsAdapter.write(out, value.allowedPaymentMethods);
+             out.name("amount");
+             amountAdapter.write(out, value.amount);
+             out.name("applicationInfo");
+             applicationInfoAdapter.write(out, value.applicationInfo);
+             out.name("billingAddress");
+             billingAddressAdapter.write(out, value.billingAddress);
+             out.name("blockedPaymentMethods");
+             blockedPaymentMethodsAdapter.write(out, value.blockedPaymentMethods);
+             out.name("captureDelayHours");
+             captureDelayHoursAdapter.write(out, value.captureDelayHours);
+             out.name("countryCode");
+             countryCodeAdapter.write(out, value.countryCode);
+             out.name("dateOfBirth");
+             dateOfBirthAdapter.write(out, value.dateOfBirth);
+             out.name("deliverAt");
+             deliverAtAdapter.write(out, value.deliverAt);
+             out.name("deliveryAddress");
+             deliveryAddressAdapter.write(out, value.deliveryAddress);
+             out.name("description");
+             descriptionAdapter.write(out, value.description);
+             out.name("expiresAt");
+             expiresAtAdapter.write(out, value.expiresAt);
+             out.name("installmentOptions");
+             installmentOptionsAdapter.write(out, value.installmentOptions);
+             out.name("lineItems");
+             lineItemsAdapter.write(out, value.lineItems);
+             out.name("mcc");
+             mccAdapter.write(out, value.mcc);
+             out.name("merchantAccount");
+             merchantAccountAdapter.write(out, value.merchantAccount);
+             out.name("merchantOrderReference");
+             merchantOrderReferenceAdapter.write(out, value.merchantOrderReference);
+             out.name("metadata");
+             metadataAdapter.write(out, value.metadata);
+             out.name("recurringProcessingModel");
+             recurringProcessingModelAdapter.write(out, value.recurringProcessingModel);
+             out.name("reference");
+             referenceAdapter.write(out, value.reference);
+             out.name("requiredShopperFields");
+             requiredShopperFieldsAdapter.write(out, value.requiredShopperFields);
+             out.name("returnUrl");
+             returnUrlAdapter.write(out, value.returnUrl);
+             out.name("reusable");
+             reusableAdapter.write(out, value.reusable);
+             out.name("riskData");
+             riskDataAdapter.write(out, value.riskData);
+             out.name("shopperEmail");
+             shopperEmailAdapter.write(out, value.shopperEmail);
+             out.name("shopperLocale");
+             shopperLocaleAdapter.write(out, value.shopperLocale);
+             out.name("shopperName");
+             shopperNameAdapter.write(out, value.shopperName);
+             out.name("shopperReference");
+             shopperReferenceAdapter.write(out, value.shopperReference);
+             out.name("shopperStatement");
+             shopperStatementAdapter.write(out, value.shopperStatement);
+             out.name("socialSecurityNumber");
+             socialSecurityNumberAdapter.write(out, value.socialSecurityNumber);
+             out.name("splitCardFundingSources");
+             splitCardFundingSourcesAdapter.write(out, value.splitCardFundingSources);
+             out.name("splits");
+             splitsAdapter.write(out, value.splits);
+             out.name("store");
+             storeAdapter.write(out, value.store);
+             out.name("storePaymentMethodMode");
+             storePaymentMethodModeAdapter.write(out, value.storePaymentMethodMode);
+             out.name("telephoneNumber");
+             telephoneNumberAdapter.write(out, value.telephoneNumber);
+             out.name("themeId");
+             themeIdAdapter.write(out, value.themeId);
+             out.endObject();
            }
 
            @Override
            public CreatePaymentLinkRequest read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             CreatePaymentLinkRequest instance = new CreatePaymentLinkRequest();
+             boolean amountFound = false;
+             boolean merchantAccountFound = false;
+             boolean referenceFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "allowedPaymentMethods":
+                   instance.allowedPaymentMethods = allowedPaymentMethodsAdapter.read(in);
+                   break;
+                 case "amount":
+                   instance.amount = amountAdapter.read(in);
+                   amountFound = true;
+                   break;
+                 case "applicationInfo":
+                   instance.applicationInfo = applicationInfoAdapter.read(in);
+                   break;
+                 case "billingAddress":
+                   instance.billingAddress = billingAddressAdapter.read(in);
+                   break;
+                 case "blockedPaymentMethods":
+                   instance.blockedPaymentMethods = blockedPaymentMethodsAdapter.read(in);
+                   break;
+                 case "captureDelayHours":
+                   instance.captureDelayHours = captureDelayHoursAdapter.read(in);
+                   break;
+                 case "countryCode":
+                   instance.countryCode = countryCodeAdapter.read(in);
+                   break;
+                 case "dateOfBirth":
+                   instance.dateOfBirth = dateOfBirthAdapter.read(in);
+                   break;
+                 case "deliverAt":
+                   instance.deliverAt = deliverAtAdapter.read(in);
+                   break;
+                 case "deliveryAddress":
+                   instance.deliveryAddress = deliveryAddressAdapter.read(in);
+                   break;
+                 case "description":
+                   instance.description = descriptionAdapter.read(in);
+                   break;
+                 case "expiresAt":
+                   instance.expiresAt = expiresAtAdapter.read(in);
+                   break;
+                 case "installmentOptions":
+                   instance.installmentOptions = installmentOptionsAdapter.read(in);
+                   break;
+                 case "lineItems":
+                   instance.lineItems = lineItemsAdapter.read(in);
+                   break;
+                 case "mcc":
+                   instance.mcc = mccAdapter.read(in);
+                   break;
+                 case "merchantAccount":
+                   instance.merchantAccount = merchantAccountAdapter.read(in);
+                   merchantAccountFound = true;
+                   break;
+                 case "merchantOrderReference":
+                   instance.merchantOrderReference = merchantOrderReferenceAdapter.read(in);
+                   break;
+                 case "metadata":
+                   instance.metadata = metadataAdapter.read(in);
+                   break;
+                 case "recurringProcessingModel":
+                   instance.recurringProcessingModel = recurringProcessingModelAdapter.read(in);
+                   break;
+                 case "reference":
+                   instance.reference = referenceAdapter.read(in);
+                   referenceFound = true;
+                   break;
+                 case "requiredShopperFields":
+                   instance.requiredShopperFields = requiredShopperFieldsAdapter.read(in);
+                   break;
+                 case "returnUrl":
+                   instance.returnUrl = returnUrlAdapter.read(in);
+                   break;
+                 case "reusable":
+                   instance.reusable = reusableAdapter.read(in);
+                   break;
+                 case "riskData":
+                   instance.riskData = riskDataAdapter.read(in);
+                   break;
+                 case "shopperEmail":
+                   instance.shopperEmail = shopperEmailAdapter.read(in);
+                   break;
+                 case "shopperLocale":
+                   instance.shopperLocale = shopperLocaleAdapter.read(in);
+                   break;
+                 case "shopperName":
+                   instance.shopperName = shopperNameAdapter.read(in);
+                   break;
+                 case "shopperReference":
+                   instance.shopperReference = shopperReferenceAdapter.read(in);
+                   break;
+                 case "shopperStatement":
+                   instance.shopperStatement = shopperStatementAdapter.read(in);
+                   break;
+                 case "socialSecurityNumber":
+                   instance.socialSecurityNumber = socialSecurityNumberAdapter.read(in);
+                   break;
+                 case "splitCardFundingSources":
+                   instance.splitCardFundingSources = splitCardFundingSourcesAdapter.read(in);
+                   break;
+                 case "splits":
+                   instance.splits = splitsAdapter.read(in);
+                   break;
+                 case "store":
+                   instance.store = storeAdapter.read(in);
+                   break;
+                 case "storePaymentMethodMode":
+                   instance.storePaymentMethodMode = storePaymentMethodModeAdapter.read(in);
+                   break;
+                 case "telephoneNumber":
+                   instance.telephoneNumber = telephoneNumberAdapter.read(in);
+                   break;
+                 case "themeId":
+                   instance.themeId = themeIdAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `CreatePaymentLinkRequest` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!amountFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "amount", in.getPath()));
+             }
+             if (!merchantAccountFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "merchantAccount", in.getPath()));
+             }
+             if (!referenceFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "reference", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
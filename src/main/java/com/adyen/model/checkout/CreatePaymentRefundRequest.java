@@ -346,22 +346,68 @@ public class CreatePaymentRefundRequest {
        if (!CreatePaymentRefundRequest.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'CreatePaymentRefundRequest' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<CreatePaymentRefundRequest> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(CreatePaymentRefundRequest.class));
+       final TypeAdapter<Amount> amountAdapter = gson.getAdapter(Amount.class);
+       final TypeAdapter<List<LineItem>> lineItemsAdapter = gson.getAdapter(new TypeToken<List<LineItem>>() {});
+       final TypeAdapter<String> merchantAccountAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> referenceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<List<Split>> splitsAdapter = gson.getAdapter(new TypeToken<List<Split>>() {});
 
        return (TypeAdapter<T>) new TypeAdapter<CreatePaymentRefundRequest>() {
            @Override
            public void write(JsonWriter out, CreatePaymentRefundRequest value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("amount");
+             amountAdapter.write(out, value.amount);
+             out.name("lineItems");
+             lineItemsAdapter.write(out, value.lineItems);
+             out.name("merchantAccount");
+             merchantAccountAdapter.write(out, value.merchantAccount);
+             out.name("reference");
+             referenceAdapter.write(out, value.reference);
+             out.name("splits");
+             splitsAdapter.write(out, value.splits);
+             out.endObject();
            }
 
            @Override
            public CreatePaymentRefundRequest read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             CreatePaymentRefundRequest instance = new CreatePaymentRefundRequest();
+             boolean amountFound = false;
+             boolean merchantAccountFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "amount":
+                   instance.amount = amountAdapter.read(in);
+                   amountFound = true;
+                   break;
+                 case "lineItems":
+                   instance.lineItems = lineItemsAdapter.read(in);
+                   break;
+                 case "merchantAccount":
+                   instance.merchantAccount = merchantAccountAdapter.read(in);
+                   merchantAccountFound = true;
+                   break;
+                 case "reference":
+                   instance.reference = referenceAdapter.read(in);
+                   break;
+                 case "splits":
+                   instance.splits = splitsAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `CreatePaymentRefundRequest` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!amountFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "amount", in.getPath()));
+             }
+             if (!merchantAccountFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "merchantAccount", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
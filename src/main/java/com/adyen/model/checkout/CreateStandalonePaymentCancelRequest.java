@@ -241,22 +241,56 @@ public class CreateStandalonePaymentCancelRequest {
        if (!CreateStandalonePaymentCancelRequest.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'CreateStandalonePaymentCancelRequest' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<CreateStandalonePaymentCancelRequest> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(CreateStandalonePaymentCancelRequest.class));
+       final TypeAdapter<String> merchantAccountAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> paymentReferenceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> referenceAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<CreateStandalonePaymentCancelRequest>() {
            @Override
            public void write(JsonWriter out, CreateStandalonePaymentCancelRequest value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("merchantAccount");
+             merchantAccountAdapter.write(out, value.merchantAccount);
+             out.name("paymentReference");
+             paymentReferenceAdapter.write(out, value.paymentReference);
+             out.name("reference");
+             referenceAdapter.write(out, value.reference);
+             out.endObject();
            }
 
            @Override
            public CreateStandalonePaymentCancelRequest read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             CreateStandalonePaymentCancelRequest instance = new CreateStandalonePaymentCancelRequest();
+             boolean merchantAccountFound = false;
+             boolean paymentReferenceFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "merchantAccount":
+                   instance.merchantAccount = merchantAccountAdapter.read(in);
+                   merchantAccountFound = true;
+                   break;
+                 case "paymentReference":
+                   instance.paymentReference = paymentReferenceAdapter.read(in);
+                   paymentReferenceFound = true;
+                   break;
+                 case "reference":
+                   instance.reference = referenceAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `CreateStandalonePaymentCancelRequest` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!merchantAccountFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "merchantAccount", in.getPath()));
+             }
+             if (!paymentReferenceFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "paymentReference", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
@@ -237,22 +237,51 @@ public class DetailsRequest {
        if (!DetailsRequest.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'DetailsRequest' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<DetailsRequest> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(DetailsRequest.class));
+       final TypeAdapter<PaymentCompletionDetails> detailsAdapter = gson.getAdapter(PaymentCompletionDetails.class);
+       final TypeAdapter<String> paymentDataAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<Boolean> threeDSAuthenticationOnlyAdapter = gson.getAdapter(Boolean.class);
 
        return (TypeAdapter<T>) new TypeAdapter<DetailsRequest>() {
            @Override
            public void write(JsonWriter out, DetailsRequest value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("details");
+             detailsAdapter.write(out, value.details);
+             out.name("paymentData");
+             paymentDataAdapter.write(out, value.paymentData);
+             out.name("threeDSAuthenticationOnly");
+             threeDSAuthenticationOnlyAdapter.write(out, value.threeDSAuthenticationOnly);
+             out.endObject();
            }
 
            @Override
            public DetailsRequest read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             DetailsRequest instance = new DetailsRequest();
+             boolean detailsFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "details":
+                   instance.details = detailsAdapter.read(in);
+                   detailsFound = true;
+                   break;
+                 case "paymentData":
+                   instance.paymentData = paymentDataAdapter.read(in);
+                   break;
+                 case "threeDSAuthenticationOnly":
+                   instance.threeDSAuthenticationOnly = threeDSAuthenticationOnlyAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `DetailsRequest` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!detailsFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "details", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
@@ -100,13 +100,20 @@ public class DonationResponse {
       return String.valueOf(value);
     }
 
-    public static StatusEnum fromValue(String value) {
+    private static final Map<String, StatusEnum> BY_VALUE = new HashMap<String, StatusEnum>();
+
+    static {
       for (StatusEnum b : StatusEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static StatusEnum fromValue(String value) {
+      StatusEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<StatusEnum> {
@@ -422,22 +429,70 @@ public class DonationResponse {
        if (!DonationResponse.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'DonationResponse' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<DonationResponse> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(DonationResponse.class));
+       final TypeAdapter<Amount> amountAdapter = gson.getAdapter(Amount.class);
+       final TypeAdapter<String> donationAccountAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> idAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> merchantAccountAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<PaymentResponse> paymentAdapter = gson.getAdapter(PaymentResponse.class);
+       final TypeAdapter<String> referenceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<StatusEnum> statusAdapter = gson.getAdapter(StatusEnum.class);
 
        return (TypeAdapter<T>) new TypeAdapter<DonationResponse>() {
            @Override
            public void write(JsonWriter out, DonationResponse value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("amount");
+             amountAdapter.write(out, value.amount);
+             out.name("donationAccount");
+             donationAccountAdapter.write(out, value.donationAccount);
+             out.name("id");
+             idAdapter.write(out, value.id);
+             out.name("merchantAccount");
+             merchantAccountAdapter.write(out, value.merchantAccount);
+             out.name("payment");
+             paymentAdapter.write(out, value.payment);
+             out.name("reference");
+             referenceAdapter.write(out, value.reference);
+             out.name("status");
+             statusAdapter.write(out, value.status);
+             out.endObject();
            }
 
            @Override
            public DonationResponse read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             DonationResponse instance = new DonationResponse();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "amount":
+                   instance.amount = amountAdapter.read(in);
+                   break;
+                 case "donationAccount":
+                   instance.donationAccount = donationAccountAdapter.read(in);
+                   break;
+                 case "id":
+                   instance.id = idAdapter.read(in);
+                   break;
+                 case "merchantAccount":
+                   instance.merchantAccount = merchantAccountAdapter.read(in);
+                   break;
+                 case "payment":
+                   instance.payment = paymentAdapter.read(in);
+                   break;
+                 case "reference":
+                   instance.reference = referenceAdapter.read(in);
+                   break;
+                 case "status":
+                   instance.status = statusAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `DonationResponse` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
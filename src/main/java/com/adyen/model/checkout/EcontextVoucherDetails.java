@@ -88,13 +88,20 @@ public class EcontextVoucherDetails {
       return String.valueOf(value);
     }
 
-    public static TypeEnum fromValue(String value) {
+    private static final Map<String, TypeEnum> BY_VALUE = new HashMap<String, TypeEnum>();
+
+    static {
       for (TypeEnum b : TypeEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static TypeEnum fromValue(String value) {
+      TypeEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<TypeEnum> {
@@ -362,22 +369,83 @@ public class EcontextVoucherDetails {
        if (!EcontextVoucherDetails.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'EcontextVoucherDetails' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<EcontextVoucherDetails> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(EcontextVoucherDetails.class));
+       final TypeAdapter<String> firstNameAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> lastNameAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> shopperEmailAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> telephoneNumberAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<TypeEnum> typeAdapter = gson.getAdapter(TypeEnum.class);
 
        return (TypeAdapter<T>) new TypeAdapter<EcontextVoucherDetails>() {
            @Override
            public void write(JsonWriter out, EcontextVoucherDetails value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("firstName");
+             firstNameAdapter.write(out, value.firstName);
+             out.name("lastName");
+             lastNameAdapter.write(out, value.lastName);
+             out.name("shopperEmail");
+             shopperEmailAdapter.write(out, value.shopperEmail);
+             out.name("telephoneNumber");
+             telephoneNumberAdapter.write(out, value.telephoneNumber);
+             out.name("type");
+             typeAdapter.write(out, value.type);
+             out.endObject();
            }
 
            @Override
            public EcontextVoucherDetails read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             EcontextVoucherDetails instance = new EcontextVoucherDetails();
+             boolean firstNameFound = false;
+             boolean lastNameFound = false;
+             boolean shopperEmailFound = false;
+             boolean telephoneNumberFound = false;
+             boolean typeFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "firstName":
+                   instance.firstName = firstNameAdapter.read(in);
+                   firstNameFound = true;
+                   break;
+                 case "lastName":
+                   instance.lastName = lastNameAdapter.read(in);
+                   lastNameFound = true;
+                   break;
+                 case "shopperEmail":
+                   instance.shopperEmail = shopperEmailAdapter.read(in);
+                   shopperEmailFound = true;
+                   break;
+                 case "telephoneNumber":
+                   instance.telephoneNumber = telephoneNumberAdapter.read(in);
+                   telephoneNumberFound = true;
+                   break;
+                 case "type":
+                   instance.type = typeAdapter.read(in);
+                   typeFound = true;
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `EcontextVoucherDetails` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!firstNameFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "firstName", in.getPath()));
+             }
+             if (!lastNameFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "lastName", in.getPath()));
+             }
+             if (!shopperEmailFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "shopperEmail", in.getPath()));
+             }
+             if (!telephoneNumberFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "telephoneNumber", in.getPath()));
+             }
+             if (!typeFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "type", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
@@ -541,22 +541,110 @@ public class ForexQuote {
        if (!ForexQuote.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'ForexQuote' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<ForexQuote> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(ForexQuote.class));
+       final TypeAdapter<String> accountAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> accountTypeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<Amount> baseAmountAdapter = gson.getAdapter(Amount.class);
+       final TypeAdapter<Integer> basePointsAdapter = gson.getAdapter(Integer.class);
+       final TypeAdapter<Amount> buyAdapter = gson.getAdapter(Amount.class);
+       final TypeAdapter<Amount> interbankAdapter = gson.getAdapter(Amount.class);
+       final TypeAdapter<String> referenceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<Amount> sellAdapter = gson.getAdapter(Amount.class);
+       final TypeAdapter<String> signatureAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> sourceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> typeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<Date> validTillAdapter = gson.getAdapter(Date.class);
 
        return (TypeAdapter<T>) new TypeAdapter<ForexQuote>() {
            @Override
            public void write(JsonWriter out, ForexQuote value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("account");
+             accountAdapter.write(out, value.account);
+             out.name("accountType");
+             accountTypeAdapter.write(out, value.accountType);
+             out.name("baseAmount");
+             baseAmountAdapter.write(out, value.baseAmount);
+             out.name("basePoints");
+             basePointsAdapter.write(out, value.basePoints);
+             out.name("buy");
+             buyAdapter.write(out, value.buy);
+             out.name("interbank");
+             interbankAdapter.write(out, value.interbank);
+             out.name("reference");
+             referenceAdapter.write(out, value.reference);
+             out.name("sell");
+             sellAdapter.write(out, value.sell);
+             out.name("signature");
+             signatureAdapter.write(out, value.signature);
+             out.name("source");
+             sourceAdapter.write(out, value.source);
+             out.name("type");
+             typeAdapter.write(out, value.type);
+             out.name("validTill");
+             validTillAdapter.write(out, value.validTill);
+             out.endObject();
            }
 
            @Override
            public ForexQuote read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             ForexQuote instance = new ForexQuote();
+             boolean basePointsFound = false;
+             boolean validTillFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "account":
+                   instance.account = accountAdapter.read(in);
+                   break;
+                 case "accountType":
+                   instance.accountType = accountTypeAdapter.read(in);
+                   break;
+                 case "baseAmount":
+                   instance.baseAmount = baseAmountAdapter.read(in);
+                   break;
+                 case "basePoints":
+                   instance.basePoints = basePointsAdapter.read(in);
+                   basePointsFound = true;
+                   break;
+                 case "buy":
+                   instance.buy = buyAdapter.read(in);
+                   break;
+                 case "interbank":
+                   instance.interbank = interbankAdapter.read(in);
+                   break;
+                 case "reference":
+                   instance.reference = referenceAdapter.read(in);
+                   break;
+                 case "sell":
+                   instance.sell = sellAdapter.read(in);
+                   break;
+                 case "signature":
+                   instance.signature = signatureAdapter.read(in);
+                   break;
+                 case "source":
+                   instance.source = sourceAdapter.read(in);
+                   break;
+                 case "type":
+                   instance.type = typeAdapter.read(in);
+                   break;
+                 case "validTill":
+                   instance.validTill = validTillAdapter.read(in);
+                   validTillFound = true;
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `ForexQuote` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!basePointsFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "basePoints", in.getPath()));
+             }
+             if (!validTillFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "validTill", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
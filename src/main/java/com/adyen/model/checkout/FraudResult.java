@@ -221,22 +221,45 @@ public class FraudResult {
        if (!FraudResult.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'FraudResult' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<FraudResult> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(FraudResult.class));
+       final TypeAdapter<Integer> accountScoreAdapter = gson.getAdapter(Integer.class);
+       final TypeAdapter<List<FraudCheckResult>> resultsAdapter = gson.getAdapter(new TypeToken<List<FraudCheckResult>>() {});
 
        return (TypeAdapter<T>) new TypeAdapter<FraudResult>() {
            @Override
            public void write(JsonWriter out, FraudResult value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("accountScore");
+             accountScoreAdapter.write(out, value.accountScore);
+             out.name("results");
+             resultsAdapter.write(out, value.results);
+             out.endObject();
            }
 
            @Override
            public FraudResult read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             FraudResult instance = new FraudResult();
+             boolean accountScoreFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "accountScore":
+                   instance.accountScore = accountScoreAdapter.read(in);
+                   accountScoreFound = true;
+                   break;
+                 case "results":
+                   instance.results = resultsAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `FraudResult` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!accountScoreFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "accountScore", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
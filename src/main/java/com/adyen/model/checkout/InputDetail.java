@@ -492,22 +492,82 @@ public class InputDetail {
        if (!InputDetail.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'InputDetail' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<InputDetail> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(InputDetail.class));
+       final TypeAdapter<Map<String, String>> _configurationAdapter = gson.getAdapter(new TypeToken<Map<String, String>>() {});
+       final TypeAdapter<List<SubInputDetail>> detailsAdapter = gson.getAdapter(new TypeToken<List<SubInputDetail>>() {});
+       final TypeAdapter<List<SubInputDetail>> inputDetailsAdapter = gson.getAdapter(new TypeToken<List<SubInputDetail>>() {});
+       final TypeAdapter<String> itemSearchUrlAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<List<Item>> itemsAdapter = gson.getAdapter(new TypeToken<List<Item>>() {});
+       final TypeAdapter<String> keyAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<Boolean> optionalAdapter = gson.getAdapter(Boolean.class);
+       final TypeAdapter<String> typeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> valueAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<InputDetail>() {
            @Override
            public void write(JsonWriter out, InputDetail value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("configuration");
+             _configurationAdapter.write(out, value._configuration);
+             out.name("details");
+             detailsAdapter.write(out, value.details);
+             out.name("inputDetails");
+             inputDetailsAdapter.write(out, value.inputDetails);
+             out.name("itemSearchUrl");
+             itemSearchUrlAdapter.write(out, value.itemSearchUrl);
+             out.name("items");
+             itemsAdapter.write(out, value.items);
+             out.name("key");
+             keyAdapter.write(out, value.key);
+             out.name("optional");
+             optionalAdapter.write(out, value.optional);
+             out.name("type");
+             typeAdapter.write(out, value.type);
+             out.name("value");
+             valueAdapter.write(out, value.value);
+             out.endObject();
            }
 
            @Override
            public InputDetail read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             InputDetail instance = new InputDetail();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "configuration":
+                   instance._configuration = _configurationAdapter.read(in);
+                   break;
+                 case "details":
+                   instance.details = detailsAdapter.read(in);
+                   break;
+                 case "inputDetails":
+                   instance.inputDetails = inputDetailsAdapter.read(in);
+                   break;
+                 case "itemSearchUrl":
+                   instance.itemSearchUrl = itemSearchUrlAdapter.read(in);
+                   break;
+                 case "items":
+                   instance.items = itemsAdapter.read(in);
+                   break;
+                 case "key":
+                   instance.key = keyAdapter.read(in);
+                   break;
+                 case "optional":
+                   instance.optional = optionalAdapter.read(in);
+                   break;
+                 case "type":
+                   instance.type = typeAdapter.read(in);
+                   break;
+                 case "value":
+                   instance.value = valueAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `InputDetail` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
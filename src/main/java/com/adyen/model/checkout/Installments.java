@@ -72,13 +72,20 @@ public class Installments {
       return String.valueOf(value);
     }
 
-    public static PlanEnum fromValue(String value) {
+    private static final Map<String, PlanEnum> BY_VALUE = new HashMap<String, PlanEnum>();
+
+    static {
       for (PlanEnum b : PlanEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static PlanEnum fromValue(String value) {
+      PlanEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<PlanEnum> {
@@ -252,22 +259,45 @@ public class Installments {
        if (!Installments.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'Installments' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<Installments> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(Installments.class));
+       final TypeAdapter<PlanEnum> planAdapter = gson.getAdapter(PlanEnum.class);
+       final TypeAdapter<Integer> valueAdapter = gson.getAdapter(Integer.class);
 
        return (TypeAdapter<T>) new TypeAdapter<Installments>() {
            @Override
            public void write(JsonWriter out, Installments value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("plan");
+             planAdapter.write(out, value.plan);
+             out.name("value");
+             valueAdapter.write(out, value.value);
+             out.endObject();
            }
 
            @Override
            public Installments read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             Installments instance = new Installments();
+             boolean valueFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "plan":
+                   instance.plan = planAdapter.read(in);
+                   break;
+                 case "value":
+                   instance.value = valueAdapter.read(in);
+                   valueFound = true;
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `Installments` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!valueFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "value", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
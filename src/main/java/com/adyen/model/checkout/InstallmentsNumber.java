@@ -168,22 +168,39 @@ public class InstallmentsNumber {
        if (!InstallmentsNumber.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'InstallmentsNumber' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<InstallmentsNumber> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(InstallmentsNumber.class));
+       final TypeAdapter<Integer> maxNumberOfInstallmentsAdapter = gson.getAdapter(Integer.class);
 
        return (TypeAdapter<T>) new TypeAdapter<InstallmentsNumber>() {
            @Override
            public void write(JsonWriter out, InstallmentsNumber value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("maxNumberOfInstallments");
+             maxNumberOfInstallmentsAdapter.write(out, value.maxNumberOfInstallments);
+             out.endObject();
            }
 
            @Override
            public InstallmentsNumber read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             InstallmentsNumber instance = new InstallmentsNumber();
+             boolean maxNumberOfInstallmentsFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "maxNumberOfInstallments":
+                   instance.maxNumberOfInstallments = maxNumberOfInstallmentsAdapter.read(in);
+                   maxNumberOfInstallmentsFound = true;
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `InstallmentsNumber` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!maxNumberOfInstallmentsFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "maxNumberOfInstallments", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
@@ -198,22 +198,40 @@ public class Item {
        if (!Item.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'Item' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<Item> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(Item.class));
+       final TypeAdapter<String> idAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> nameAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<Item>() {
            @Override
            public void write(JsonWriter out, Item value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("id");
+             idAdapter.write(out, value.id);
+             out.name("name");
+             nameAdapter.write(out, value.name);
+             out.endObject();
            }
 
            @Override
            public Item read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             Item instance = new Item();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "id":
+                   instance.id = idAdapter.read(in);
+                   break;
+                 case "name":
+                   instance.name = nameAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `Item` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
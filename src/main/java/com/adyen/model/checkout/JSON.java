@@ -46,65 +46,70 @@ import java.util.HashMap;
  *       backward-compatibility
  */
 public class JSON {
-    private static Gson gson;
+    private static volatile Gson gson;
     private static boolean isLenientOnJson = false;
     private static DateTypeAdapter dateTypeAdapter = new DateTypeAdapter();
     private static SqlDateTypeAdapter sqlDateTypeAdapter = new SqlDateTypeAdapter();
     private static ByteArrayAdapter byteArrayAdapter = new ByteArrayAdapter();
 
+    // discriminator table of PaymentDonationRequestPaymentMethod, built once instead of on every element its type selector reads
+    private static final Map<String, Class> paymentDonationRequestPaymentMethodClassByDiscriminatorValue = new HashMap<String, Class>();
+
+    static {
+        paymentDonationRequestPaymentMethodClassByDiscriminatorValue.put("AchDetails", com.adyen.model.checkout.AchDetails.class);
+        paymentDonationRequestPaymentMethodClassByDiscriminatorValue.put("AfterpayDetails", com.adyen.model.checkout.AfterpayDetails.class);
+        paymentDonationRequestPaymentMethodClassByDiscriminatorValue.put("AmazonPayDetails", com.adyen.model.checkout.AmazonPayDetails.class);
+        paymentDonationRequestPaymentMethodClassByDiscriminatorValue.put("AndroidPayDetails", com.adyen.model.checkout.AndroidPayDetails.class);
+        paymentDonationRequestPaymentMethodClassByDiscriminatorValue.put("ApplePayDetails", com.adyen.model.checkout.ApplePayDetails.class);
+        paymentDonationRequestPaymentMethodClassByDiscriminatorValue.put("BacsDirectDebitDetails", com.adyen.model.checkout.BacsDirectDebitDetails.class);
+        paymentDonationRequestPaymentMethodClassByDiscriminatorValue.put("BillDeskDetails", com.adyen.model.checkout.BillDeskDetails.class);
+        paymentDonationRequestPaymentMethodClassByDiscriminatorValue.put("BlikDetails", com.adyen.model.checkout.BlikDetails.class);
+        paymentDonationRequestPaymentMethodClassByDiscriminatorValue.put("CardDetails", com.adyen.model.checkout.CardDetails.class);
+        paymentDonationRequestPaymentMethodClassByDiscriminatorValue.put("CellulantDetails", com.adyen.model.checkout.CellulantDetails.class);
+        paymentDonationRequestPaymentMethodClassByDiscriminatorValue.put("DokuDetails", com.adyen.model.checkout.DokuDetails.class);
+        paymentDonationRequestPaymentMethodClassByDiscriminatorValue.put("DotpayDetails", com.adyen.model.checkout.DotpayDetails.class);
+        paymentDonationRequestPaymentMethodClassByDiscriminatorValue.put("DragonpayDetails", com.adyen.model.checkout.DragonpayDetails.class);
+        paymentDonationRequestPaymentMethodClassByDiscriminatorValue.put("EcontextVoucherDetails", com.adyen.model.checkout.EcontextVoucherDetails.class);
+        paymentDonationRequestPaymentMethodClassByDiscriminatorValue.put("GenericIssuerPaymentMethodDetails", com.adyen.model.checkout.GenericIssuerPaymentMethodDetails.class);
+        paymentDonationRequestPaymentMethodClassByDiscriminatorValue.put("GiropayDetails", com.adyen.model.checkout.GiropayDetails.class);
+        paymentDonationRequestPaymentMethodClassByDiscriminatorValue.put("GooglePayDetails", com.adyen.model.checkout.GooglePayDetails.class);
+        paymentDonationRequestPaymentMethodClassByDiscriminatorValue.put("IdealDetails", com.adyen.model.checkout.IdealDetails.class);
+        paymentDonationRequestPaymentMethodClassByDiscriminatorValue.put("KlarnaDetails", com.adyen.model.checkout.KlarnaDetails.class);
+        paymentDonationRequestPaymentMethodClassByDiscriminatorValue.put("MasterpassDetails", com.adyen.model.checkout.MasterpassDetails.class);
+        paymentDonationRequestPaymentMethodClassByDiscriminatorValue.put("MbwayDetails", com.adyen.model.checkout.MbwayDetails.class);
+        paymentDonationRequestPaymentMethodClassByDiscriminatorValue.put("MobilePayDetails", com.adyen.model.checkout.MobilePayDetails.class);
+        paymentDonationRequestPaymentMethodClassByDiscriminatorValue.put("MolPayDetails", com.adyen.model.checkout.MolPayDetails.class);
+        paymentDonationRequestPaymentMethodClassByDiscriminatorValue.put("OpenInvoiceDetails", com.adyen.model.checkout.OpenInvoiceDetails.class);
+        paymentDonationRequestPaymentMethodClassByDiscriminatorValue.put("PayPalDetails", com.adyen.model.checkout.PayPalDetails.class);
+        paymentDonationRequestPaymentMethodClassByDiscriminatorValue.put("PayUUpiDetails", com.adyen.model.checkout.PayUUpiDetails.class);
+        paymentDonationRequestPaymentMethodClassByDiscriminatorValue.put("PayWithGoogleDetails", com.adyen.model.checkout.PayWithGoogleDetails.class);
+        paymentDonationRequestPaymentMethodClassByDiscriminatorValue.put("PaymentDetails", com.adyen.model.checkout.PaymentDetails.class);
+        paymentDonationRequestPaymentMethodClassByDiscriminatorValue.put("RatepayDetails", com.adyen.model.checkout.RatepayDetails.class);
+        paymentDonationRequestPaymentMethodClassByDiscriminatorValue.put("SamsungPayDetails", com.adyen.model.checkout.SamsungPayDetails.class);
+        paymentDonationRequestPaymentMethodClassByDiscriminatorValue.put("SepaDirectDebitDetails", com.adyen.model.checkout.SepaDirectDebitDetails.class);
+        paymentDonationRequestPaymentMethodClassByDiscriminatorValue.put("StoredPaymentMethodDetails", com.adyen.model.checkout.StoredPaymentMethodDetails.class);
+        paymentDonationRequestPaymentMethodClassByDiscriminatorValue.put("UpiCollectDetails", com.adyen.model.checkout.UpiCollectDetails.class);
+        paymentDonationRequestPaymentMethodClassByDiscriminatorValue.put("UpiIntentDetails", com.adyen.model.checkout.UpiIntentDetails.class);
+        paymentDonationRequestPaymentMethodClassByDiscriminatorValue.put("VippsDetails", com.adyen.model.checkout.VippsDetails.class);
+        paymentDonationRequestPaymentMethodClassByDiscriminatorValue.put("VisaCheckoutDetails", com.adyen.model.checkout.VisaCheckoutDetails.class);
+        paymentDonationRequestPaymentMethodClassByDiscriminatorValue.put("WeChatPayDetails", com.adyen.model.checkout.WeChatPayDetails.class);
+        paymentDonationRequestPaymentMethodClassByDiscriminatorValue.put("WeChatPayMiniProgramDetails", com.adyen.model.checkout.WeChatPayMiniProgramDetails.class);
+        paymentDonationRequestPaymentMethodClassByDiscriminatorValue.put("ZipDetails", com.adyen.model.checkout.ZipDetails.class);
+        paymentDonationRequestPaymentMethodClassByDiscriminatorValue.put("ach", com.adyen.model.checkout.AchDetails.class);
+        paymentDonationRequestPaymentMethodClassByDiscriminatorValue.put("androidpay", com.adyen.model.checkout.AndroidPayDetails.class);
+        paymentDonationRequestPaymentMethodClassByDiscriminatorValue.put("googlepay", com.adyen.model.checkout.GooglePayDetails.class);
+        paymentDonationRequestPaymentMethodClassByDiscriminatorValue.put("paypal", com.adyen.model.checkout.PayPalDetails.class);
+        paymentDonationRequestPaymentMethodClassByDiscriminatorValue.put("paywithgoogle", com.adyen.model.checkout.PayWithGoogleDetails.class);
+        paymentDonationRequestPaymentMethodClassByDiscriminatorValue.put("PaymentDonationRequest_paymentMethod", com.adyen.model.checkout.PaymentDonationRequestPaymentMethod.class);
+    }
+
     @SuppressWarnings("unchecked")
     public static GsonBuilder createGson() {
         GsonFireBuilder fireBuilder = new GsonFireBuilder()
                 .registerTypeSelector(com.adyen.model.checkout.PaymentDonationRequestPaymentMethod.class, new TypeSelector<com.adyen.model.checkout.PaymentDonationRequestPaymentMethod>() {
                     @Override
                     public Class<? extends com.adyen.model.checkout.PaymentDonationRequestPaymentMethod> getClassForElement(JsonElement readElement) {
-                        Map<String, Class> classByDiscriminatorValue = new HashMap<String, Class>();
-                        classByDiscriminatorValue.put("AchDetails", com.adyen.model.checkout.AchDetails.class);
-                        classByDiscriminatorValue.put("AfterpayDetails", com.adyen.model.checkout.AfterpayDetails.class);
-                        classByDiscriminatorValue.put("AmazonPayDetails", com.adyen.model.checkout.AmazonPayDetails.class);
-                        classByDiscriminatorValue.put("AndroidPayDetails", com.adyen.model.checkout.AndroidPayDetails.class);
-                        classByDiscriminatorValue.put("ApplePayDetails", com.adyen.model.checkout.ApplePayDetails.class);
-                        classByDiscriminatorValue.put("BacsDirectDebitDetails", com.adyen.model.checkout.BacsDirectDebitDetails.class);
-                        classByDiscriminatorValue.put("BillDeskDetails", com.adyen.model.checkout.BillDeskDetails.class);
-                        classByDiscriminatorValue.put("BlikDetails", com.adyen.model.checkout.BlikDetails.class);
-                        classByDiscriminatorValue.put("CardDetails", com.adyen.model.checkout.CardDetails.class);
-                        classByDiscriminatorValue.put("CellulantDetails", com.adyen.model.checkout.CellulantDetails.class);
-                        classByDiscriminatorValue.put("DokuDetails", com.adyen.model.checkout.DokuDetails.class);
-                        classByDiscriminatorValue.put("DotpayDetails", com.adyen.model.checkout.DotpayDetails.class);
-                        classByDiscriminatorValue.put("DragonpayDetails", com.adyen.model.checkout.DragonpayDetails.class);
-                        classByDiscriminatorValue.put("EcontextVoucherDetails", com.adyen.model.checkout.EcontextVoucherDetails.class);
-                        classByDiscriminatorValue.put("GenericIssuerPaymentMethodDetails", com.adyen.model.checkout.GenericIssuerPaymentMethodDetails.class);
-                        classByDiscriminatorValue.put("GiropayDetails", com.adyen.model.checkout.GiropayDetails.class);
-                        classByDiscriminatorValue.put("GooglePayDetails", com.adyen.model.checkout.GooglePayDetails.class);
-                        classByDiscriminatorValue.put("IdealDetails", com.adyen.model.checkout.IdealDetails.class);
-                        classByDiscriminatorValue.put("KlarnaDetails", com.adyen.model.checkout.KlarnaDetails.class);
-                        classByDiscriminatorValue.put("MasterpassDetails", com.adyen.model.checkout.MasterpassDetails.class);
-                        classByDiscriminatorValue.put("MbwayDetails", com.adyen.model.checkout.MbwayDetails.class);
-                        classByDiscriminatorValue.put("MobilePayDetails", com.adyen.model.checkout.MobilePayDetails.class);
-                        classByDiscriminatorValue.put("MolPayDetails", com.adyen.model.checkout.MolPayDetails.class);
-                        classByDiscriminatorValue.put("OpenInvoiceDetails", com.adyen.model.checkout.OpenInvoiceDetails.class);
-                        classByDiscriminatorValue.put("PayPalDetails", com.adyen.model.checkout.PayPalDetails.class);
-                        classByDiscriminatorValue.put("PayUUpiDetails", com.adyen.model.checkout.PayUUpiDetails.class);
-                        classByDiscriminatorValue.put("PayWithGoogleDetails", com.adyen.model.checkout.PayWithGoogleDetails.class);
-                        classByDiscriminatorValue.put("PaymentDetails", com.adyen.model.checkout.PaymentDetails.class);
-                        classByDiscriminatorValue.put("RatepayDetails", com.adyen.model.checkout.RatepayDetails.class);
-                        classByDiscriminatorValue.put("SamsungPayDetails", com.adyen.model.checkout.SamsungPayDetails.class);
-                        classByDiscriminatorValue.put("SepaDirectDebitDetails", com.adyen.model.checkout.SepaDirectDebitDetails.class);
-                        classByDiscriminatorValue.put("StoredPaymentMethodDetails", com.adyen.model.checkout.StoredPaymentMethodDetails.class);
-                        classByDiscriminatorValue.put("UpiCollectDetails", com.adyen.model.checkout.UpiCollectDetails.class);
-                        classByDiscriminatorValue.put("UpiIntentDetails", com.adyen.model.checkout.UpiIntentDetails.class);
-                        classByDiscriminatorValue.put("VippsDetails", com.adyen.model.checkout.VippsDetails.class);
-                        classByDiscriminatorValue.put("VisaCheckoutDetails", com.adyen.model.checkout.VisaCheckoutDetails.class);
-                        classByDiscriminatorValue.put("WeChatPayDetails", com.adyen.model.checkout.WeChatPayDetails.class);
-                        classByDiscriminatorValue.put("WeChatPayMiniProgramDetails", com.adyen.model.checkout.WeChatPayMiniProgramDetails.class);
-                        classByDiscriminatorValue.put("ZipDetails", com.adyen.model.checkout.ZipDetails.class);
-                        classByDiscriminatorValue.put("ach", com.adyen.model.checkout.AchDetails.class);
-                        classByDiscriminatorValue.put("androidpay", com.adyen.model.checkout.AndroidPayDetails.class);
-                        classByDiscriminatorValue.put("googlepay", com.adyen.model.checkout.GooglePayDetails.class);
-                        classByDiscriminatorValue.put("paypal", com.adyen.model.checkout.PayPalDetails.class);
-                        classByDiscriminatorValue.put("paywithgoogle", com.adyen.model.checkout.PayWithGoogleDetails.class);
-                        classByDiscriminatorValue.put("PaymentDonationRequest_paymentMethod", com.adyen.model.checkout.PaymentDonationRequestPaymentMethod.class);
-                        return getClassByDiscriminator(classByDiscriminatorValue,
+                        return getClassByDiscriminator(paymentDonationRequestPaymentMethodClassByDiscriminatorValue,
                                 getDiscriminatorValue(readElement, "type"));
                     }
           })
@@ -136,7 +141,10 @@ public class JSON {
         return clazz;
     }
 
-    {
+    /**
+     * Builds the default Gson with the adapters of all the models of the package
+     */
+    private static Gson createDefaultGson() {
         GsonBuilder gsonBuilder = createGson();
         gsonBuilder.registerTypeAdapter(Date.class, dateTypeAdapter);
         gsonBuilder.registerTypeAdapter(java.sql.Date.class, sqlDateTypeAdapter);
@@ -310,22 +318,30 @@ public class JSON {
         gsonBuilder.registerTypeAdapterFactory(new com.adyen.model.checkout.WeChatPayDetails.CustomTypeAdapterFactory());
         gsonBuilder.registerTypeAdapterFactory(new com.adyen.model.checkout.WeChatPayMiniProgramDetails.CustomTypeAdapterFactory());
         gsonBuilder.registerTypeAdapterFactory(new com.adyen.model.checkout.ZipDetails.CustomTypeAdapterFactory());
-        gson = gsonBuilder.create();
+        return gsonBuilder.create();
+    }
+
+    /**
+     * Holds the default Gson, built once on first use and safely published to all threads by the class initialization
+     */
+    private static final class DefaultGson {
+        private static final Gson INSTANCE = createDefaultGson();
     }
 
     /**
      * Get Gson.
      *
-     * @return Gson
+     * @return the Gson set with {@link #setGson(Gson)}, or else the default one
      */
     public static Gson getGson() {
-        return gson;
+        Gson custom = gson;
+        return custom != null ? custom : DefaultGson.INSTANCE;
     }
 
     /**
      * Set Gson.
      *
-     * @param gson Gson
+     * @param gson Gson, null to use the default one again
      */
     public static void setGson(Gson gson) {
         JSON.gson = gson;
@@ -342,7 +358,7 @@ public class JSON {
      * @return String representation of the JSON
      */
     public static String serialize(Object obj) {
-        return gson.toJson(obj);
+        return getGson().toJson(obj);
     }
 
     /**
@@ -360,9 +376,9 @@ public class JSON {
                 JsonReader jsonReader = new JsonReader(new StringReader(body));
                 // see https://google-gson.googlecode.com/svn/trunk/gson/docs/javadocs/com/google/gson/stream/JsonReader.html#setLenient(boolean)
                 jsonReader.setLenient(true);
-                return gson.fromJson(jsonReader, returnType);
+                return getGson().fromJson(jsonReader, returnType);
             } else {
-                return gson.fromJson(body, returnType);
+                return getGson().fromJson(body, returnType);
             }
         } catch (JsonParseException e) {
             // Fallback processing when failed to parse JSON form response body:
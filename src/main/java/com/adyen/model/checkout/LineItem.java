@@ -450,22 +450,88 @@ public class LineItem {
        if (!LineItem.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'LineItem' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<LineItem> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(LineItem.class));
+       final TypeAdapter<Long> amountExcludingTaxAdapter = gson.getAdapter(Long.class);
+       final TypeAdapter<Long> amountIncludingTaxAdapter = gson.getAdapter(Long.class);
+       final TypeAdapter<String> descriptionAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> idAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> imageUrlAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> itemCategoryAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> productUrlAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<Long> quantityAdapter = gson.getAdapter(Long.class);
+       final TypeAdapter<Long> taxAmountAdapter = gson.getAdapter(Long.class);
+       final TypeAdapter<Long> taxPercentageAdapter = gson.getAdapter(Long.class);
 
        return (TypeAdapter<T>) new TypeAdapter<LineItem>() {
            @Override
            public void write(JsonWriter out, LineItem value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("amountExcludingTax");
+             amountExcludingTaxAdapter.write(out, value.amountExcludingTax);
+             out.name("amountIncludingTax");
+             amountIncludingTaxAdapter.write(out, value.amountIncludingTax);
+             out.name("description");
+             descriptionAdapter.write(out, value.description);
+             out.name("id");
+             idAdapter.write(out, value.id);
+             out.name("imageUrl");
+             imageUrlAdapter.write(out, value.imageUrl);
+             out.name("itemCategory");
+             itemCategoryAdapter.write(out, value.itemCategory);
+             out.name("productUrl");
+             productUrlAdapter.write(out, value.productUrl);
+             out.name("quantity");
+             quantityAdapter.write(out, value.quantity);
+             out.name("taxAmount");
+             taxAmountAdapter.write(out, value.taxAmount);
+             out.name("taxPercentage");
+             taxPercentageAdapter.write(out, value.taxPercentage);
+             out.endObject();
            }
 
            @Override
            public LineItem read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             LineItem instance = new LineItem();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "amountExcludingTax":
+                   instance.amountExcludingTax = amountExcludingTaxAdapter.read(in);
+                   break;
+                 case "amountIncludingTax":
+                   instance.amountIncludingTax = amountIncludingTaxAdapter.read(in);
+                   break;
+                 case "description":
+                   instance.description = descriptionAdapter.read(in);
+                   break;
+                 case "id":
+                   instance.id = idAdapter.read(in);
+                   break;
+                 case "imageUrl":
+                   instance.imageUrl = imageUrlAdapter.read(in);
+                   break;
+                 case "itemCategory":
+                   instance.itemCategory = itemCategoryAdapter.read(in);
+                   break;
+                 case "productUrl":
+                   instance.productUrl = productUrlAdapter.read(in);
+                   break;
+                 case "quantity":
+                   instance.quantity = quantityAdapter.read(in);
+                   break;
+                 case "taxAmount":
+                   instance.taxAmount = taxAmountAdapter.read(in);
+                   break;
+                 case "taxPercentage":
+                   instance.taxPercentage = taxPercentageAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `LineItem` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
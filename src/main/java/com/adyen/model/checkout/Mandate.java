@@ -76,13 +76,20 @@ public class Mandate {
       return String.valueOf(value);
     }
 
-    public static AmountRuleEnum fromValue(String value) {
+    private static final Map<String, AmountRuleEnum> BY_VALUE = new HashMap<String, AmountRuleEnum>();
+
+    static {
       for (AmountRuleEnum b : AmountRuleEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    }
+
+    public static AmountRuleEnum fromValue(String value) {
+      AmountRuleEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      }
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<AmountRuleEnum> {
@@ -129,13 +136,20 @@ public class Mandate {
       return String.valueOf(value);
     }
 
-    public static BillingAttemptsRuleEnum fromValue(String value) {
+    private static final Map<String, BillingAttemptsRuleEnum> BY_VALUE = new HashMap<String, BillingAttemptsRuleEnum>();
+
+    static {
       for (BillingAttemptsRuleEnum b : BillingAttemptsRuleEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    }
+
+    public static BillingAttemptsRuleEnum fromValue(String value) {
+      BillingAttemptsRuleEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      }
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<BillingAttemptsRuleEnum> {
@@ -200,13 +214,20 @@ public class Mandate {
       return String.valueOf(value);
     }
 
-    public static FrequencyEnum fromValue(String value) {
+    private static final Map<String, FrequencyEnum> BY_VALUE = new HashMap<String, FrequencyEnum>();
+
+    static {
       for (FrequencyEnum b : FrequencyEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static FrequencyEnum fromValue(String value) {
+      FrequencyEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<FrequencyEnum> {
@@ -576,22 +597,91 @@ public class Mandate {
        if (!Mandate.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'Mandate' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<Mandate> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(Mandate.class));
+       final TypeAdapter<String> amountAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<AmountRuleEnum> amountRuleAdapter = gson.getAdapter(AmountRuleEnum.class);
+       final TypeAdapter<BillingAttemptsRuleEnum> billingAttemptsRuleAdapter = gson.getAdapter(BillingAttemptsRuleEnum.class);
+       final TypeAdapter<String> billingDayAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> endsAtAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<FrequencyEnum> frequencyAdapter = gson.getAdapter(FrequencyEnum.class);
+       final TypeAdapter<String> remarksAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> startsAtAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<Mandate>() {
            @Override
            public void write(JsonWriter out, Mandate value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("amount");
+             amountAdapter.write(out, value.amount);
+             out.name("amountRule");
+             amountRuleAdapter.write(out, value.amountRule);
+             out.name("billingAttemptsRule");
+             billingAttemptsRuleAdapter.write(out, value.billingAttemptsRule);
+             out.name("billingDay");
+             billingDayAdapter.write(out, value.billingDay);
+             out.name("endsAt");
+             endsAtAdapter.write(out, value.endsAt);
+             out.name("frequency");
+             frequencyAdapter.write(out, value.frequency);
+             out.name("remarks");
+             remarksAdapter.write(out, value.remarks);
+             out.name("startsAt");
+             startsAtAdapter.write(out, value.startsAt);
+             out.endObject();
            }
 
            @Override
            public Mandate read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             Mandate instance = new Mandate();
+             boolean amountFound = false;
+             boolean endsAtFound = false;
+             boolean frequencyFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "amount":
+                   instance.amount = amountAdapter.read(in);
+                   amountFound = true;
+                   break;
+                 case "amountRule":
+                   instance.amountRule = amountRuleAdapter.read(in);
+                   break;
+                 case "billingAttemptsRule":
+                   instance.billingAttemptsRule = billingAttemptsRuleAdapter.read(in);
+                   break;
+                 case "billingDay":
+                   instance.billingDay = billingDayAdapter.read(in);
+                   break;
+                 case "endsAt":
+                   instance.endsAt = endsAtAdapter.read(in);
+                   endsAtFound = true;
+                   break;
+                 case "frequency":
+                   instance.frequency = frequencyAdapter.read(in);
+                   frequencyFound = true;
+                   break;
+                 case "remarks":
+                   instance.remarks = remarksAdapter.read(in);
+                   break;
+                 case "startsAt":
+                   instance.startsAt = startsAtAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `Mandate` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!amountFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "amount", in.getPath()));
+             }
+             if (!endsAtFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "endsAt", in.getPath()));
+             }
+             if (!frequencyFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "frequency", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
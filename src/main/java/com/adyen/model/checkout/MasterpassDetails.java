@@ -70,13 +70,20 @@ public class MasterpassDetails {
       return String.valueOf(value);
     }
 
-    public static FundingSourceEnum fromValue(String value) {
+    private static final Map<String, FundingSourceEnum> BY_VALUE = new HashMap<String, FundingSourceEnum>();
+
+    static {
       for (FundingSourceEnum b : FundingSourceEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static FundingSourceEnum fromValue(String value) {
+      FundingSourceEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<FundingSourceEnum> {
@@ -123,13 +130,20 @@ public class MasterpassDetails {
       return String.valueOf(value);
     }
 
-    public static TypeEnum fromValue(String value) {
+    private static final Map<String, TypeEnum> BY_VALUE = new HashMap<String, TypeEnum>();
+
+    static {
       for (TypeEnum b : TypeEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static TypeEnum fromValue(String value) {
+      TypeEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<TypeEnum> {
@@ -336,22 +350,51 @@ public class MasterpassDetails {
        if (!MasterpassDetails.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'MasterpassDetails' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<MasterpassDetails> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(MasterpassDetails.class));
+       final TypeAdapter<FundingSourceEnum> fundingSourceAdapter = gson.getAdapter(FundingSourceEnum.class);
+       final TypeAdapter<String> masterpassTransactionIdAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<TypeEnum> typeAdapter = gson.getAdapter(TypeEnum.class);
 
        return (TypeAdapter<T>) new TypeAdapter<MasterpassDetails>() {
            @Override
            public void write(JsonWriter out, MasterpassDetails value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("fundingSource");
+             fundingSourceAdapter.write(out, value.fundingSource);
+             out.name("masterpassTransactionId");
+             masterpassTransactionIdAdapter.write(out, value.masterpassTransactionId);
+             out.name("type");
+             typeAdapter.write(out, value.type);
+             out.endObject();
            }
 
            @Override
            public MasterpassDetails read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             MasterpassDetails instance = new MasterpassDetails();
+             boolean masterpassTransactionIdFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "fundingSource":
+                   instance.fundingSource = fundingSourceAdapter.read(in);
+                   break;
+                 case "masterpassTransactionId":
+                   instance.masterpassTransactionId = masterpassTransactionIdAdapter.read(in);
+                   masterpassTransactionIdFound = true;
+                   break;
+                 case "type":
+                   instance.type = typeAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `MasterpassDetails` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!masterpassTransactionIdFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "masterpassTransactionId", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
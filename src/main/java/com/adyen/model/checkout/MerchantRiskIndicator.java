@@ -88,13 +88,20 @@ public class MerchantRiskIndicator {
       return String.valueOf(value);
     }
 
-    public static DeliveryAddressIndicatorEnum fromValue(String value) {
+    private static final Map<String, DeliveryAddressIndicatorEnum> BY_VALUE = new HashMap<String, DeliveryAddressIndicatorEnum>();
+
+    static {
       for (DeliveryAddressIndicatorEnum b : DeliveryAddressIndicatorEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static DeliveryAddressIndicatorEnum fromValue(String value) {
+      DeliveryAddressIndicatorEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<DeliveryAddressIndicatorEnum> {
@@ -151,13 +158,20 @@ public class MerchantRiskIndicator {
       return String.valueOf(value);
     }
 
-    public static DeliveryTimeframeEnum fromValue(String value) {
+    private static final Map<String, DeliveryTimeframeEnum> BY_VALUE = new HashMap<String, DeliveryTimeframeEnum>();
+
+    static {
       for (DeliveryTimeframeEnum b : DeliveryTimeframeEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static DeliveryTimeframeEnum fromValue(String value) {
+      DeliveryTimeframeEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<DeliveryTimeframeEnum> {
@@ -704,22 +718,112 @@ public class MerchantRiskIndicator {
        if (!MerchantRiskIndicator.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'MerchantRiskIndicator' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<MerchantRiskIndicator> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(MerchantRiskIndicator.class));
+       final TypeAdapter<Boolean> addressMatchAdapter = gson.getAdapter(Boolean.class);
+       final TypeAdapter<DeliveryAddressIndicatorEnum> deliveryAddressIndicatorAdapter = gson.getAdapter(DeliveryAddressIndicatorEnum.class);
+       final TypeAdapter<String> deliveryEmailAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> deliveryEmailAddressAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<DeliveryTimeframeEnum> deliveryTimeframeAdapter = gson.getAdapter(DeliveryTimeframeEnum.class);
+       final TypeAdapter<Amount> giftCardAmountAdapter = gson.getAdapter(Amount.class);
+       final TypeAdapter<Integer> giftCardCountAdapter = gson.getAdapter(Integer.class);
+       final TypeAdapter<String> giftCardCurrAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<Date> preOrderDateAdapter = gson.getAdapter(Date.class);
+       final TypeAdapter<Boolean> preOrderPurchaseAdapter = gson.getAdapter(Boolean.class);
+       final TypeAdapter<String> preOrderPurchaseIndAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<Boolean> reorderItemsAdapter = gson.getAdapter(Boolean.class);
+       final TypeAdapter<String> reorderItemsIndAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> shipIndicatorAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<MerchantRiskIndicator>() {
            @Override
            public void write(JsonWriter out, MerchantRiskIndicator value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("addressMatch");
+             addressMatchAdapter.write(out, value.addressMatch);
+             out.name("deliveryAddressIndicator");
+             deliveryAddressIndicatorAdapter.write(out, value.deliveryAddressIndicator);
+             out.name("deliveryEmail");
+             deliveryEmailAdapter.write(out, value.deliveryEmail);
+             out.name("deliveryEmailAddress");
+             deliveryEmailAddressAdapter.write(out, value.deliveryEmailAddress);
+             out.name("deliveryTimeframe");
+             deliveryTimeframeAdapter.write(out, value.deliveryTimeframe);
+             out.name("giftCardAmount");
+             giftCardAmountAdapter.write(out, value.giftCardAmount);
+             out.name("giftCardCount");
+             giftCardCountAdapter.write(out, value.giftCardCount);
+             out.name("giftCardCurr");
+             giftCardCurrAdapter.write(out, value.giftCardCurr);
+             out.name("preOrderDate");
+             preOrderDateAdapter.write(out, value.preOrderDate);
+             out.name("preOrderPurchase");
+             preOrderPurchaseAdapter.write(out, value.preOrderPurchase);
+             out.name("preOrderPurchaseInd");
+             preOrderPurchaseIndAdapter.write(out, value.preOrderPurchaseInd);
+             out.name("reorderItems");
+             reorderItemsAdapter.write(out, value.reorderItems);
+             out.name("reorderItemsInd");
+             reorderItemsIndAdapter.write(out, value.reorderItemsInd);
+             out.name("shipIndicator");
+             shipIndicatorAdapter.write(out, value.shipIndicator);
+             out.endObject();
            }
 
            @Override
            public MerchantRiskIndicator read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             MerchantRiskIndicator instance = new MerchantRiskIndicator();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "addressMatch":
+                   instance.addressMatch = addressMatchAdapter.read(in);
+                   break;
+                 case "deliveryAddressIndicator":
+                   instance.deliveryAddressIndicator = deliveryAddressIndicatorAdapter.read(in);
+                   break;
+                 case "deliveryEmail":
+                   instance.deliveryEmail = deliveryEmailAdapter.read(in);
+                   break;
+                 case "deliveryEmailAddress":
+                   instance.deliveryEmailAddress = deliveryEmailAddressAdapter.read(in);
+                   break;
+                 case "deliveryTimeframe":
+                   instance.deliveryTimeframe = deliveryTimeframeAdapter.read(in);
+                   break;
+                 case "giftCardAmount":
+                   instance.giftCardAmount = giftCardAmountAdapter.read(in);
+                   break;
+                 case "giftCardCount":
+                   instance.giftCardCount = giftCardCountAdapter.read(in);
+                   break;
+                 case "giftCardCurr":
+                   instance.giftCardCurr = giftCardCurrAdapter.read(in);
+                   break;
+                 case "preOrderDate":
+                   instance.preOrderDate = preOrderDateAdapter.read(in);
+                   break;
+                 case "preOrderPurchase":
+                   instance.preOrderPurchase = preOrderPurchaseAdapter.read(in);
+                   break;
+                 case "preOrderPurchaseInd":
+                   instance.preOrderPurchaseInd = preOrderPurchaseIndAdapter.read(in);
+                   break;
+                 case "reorderItems":
+                   instance.reorderItems = reorderItemsAdapter.read(in);
+                   break;
+                 case "reorderItemsInd":
+                   instance.reorderItemsInd = reorderItemsIndAdapter.read(in);
+                   break;
+                 case "shipIndicator":
+                   instance.shipIndicator = shipIndicatorAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `MerchantRiskIndicator` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
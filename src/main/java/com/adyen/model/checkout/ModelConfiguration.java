@@ -81,13 +81,20 @@ public class ModelConfiguration {
       return String.valueOf(value);
     }
 
-    public static CardHolderNameEnum fromValue(String value) {
+    private static final Map<String, CardHolderNameEnum> BY_VALUE = new HashMap<String, CardHolderNameEnum>();
+
+    static {
       for (CardHolderNameEnum b : CardHolderNameEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static CardHolderNameEnum fromValue(String value) {
+      CardHolderNameEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<CardHolderNameEnum> {
@@ -321,22 +328,52 @@ public class ModelConfiguration {
        if (!ModelConfiguration.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'ModelConfiguration' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<ModelConfiguration> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(ModelConfiguration.class));
+       final TypeAdapter<Avs> avsAdapter = gson.getAdapter(Avs.class);
+       final TypeAdapter<CardHolderNameEnum> cardHolderNameAdapter = gson.getAdapter(CardHolderNameEnum.class);
+       final TypeAdapter<InstallmentsNumber> installmentsAdapter = gson.getAdapter(InstallmentsNumber.class);
+       final TypeAdapter<ShopperInput> shopperInputAdapter = gson.getAdapter(ShopperInput.class);
 
        return (TypeAdapter<T>) new TypeAdapter<ModelConfiguration>() {
            @Override
            public void write(JsonWriter out, ModelConfiguration value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("avs");
+             avsAdapter.write(out, value.avs);
+             out.name("cardHolderName");
+             cardHolderNameAdapter.write(out, value.cardHolderName);
+             out.name("installments");
+             installmentsAdapter.write(out, value.installments);
+             out.name("shopperInput");
+             shopperInputAdapter.write(out, value.shopperInput);
+             out.endObject();
            }
 
            @Override
            public ModelConfiguration read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             ModelConfiguration instance = new ModelConfiguration();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "avs":
+                   instance.avs = avsAdapter.read(in);
+                   break;
+                 case "cardHolderName":
+                   instance.cardHolderName = cardHolderNameAdapter.read(in);
+                   break;
+                 case "installments":
+                   instance.installments = installmentsAdapter.read(in);
+                   break;
+                 case "shopperInput":
+                   instance.shopperInput = shopperInputAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `ModelConfiguration` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
@@ -70,13 +70,20 @@ public class PayWithGoogleDetails {
       return String.valueOf(value);
     }
 
-    public static FundingSourceEnum fromValue(String value) {
+    private static final Map<String, FundingSourceEnum> BY_VALUE = new HashMap<String, FundingSourceEnum>();
+
+    static {
       for (FundingSourceEnum b : FundingSourceEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static FundingSourceEnum fromValue(String value) {
+      FundingSourceEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<FundingSourceEnum> {
@@ -131,13 +138,20 @@ public class PayWithGoogleDetails {
       return String.valueOf(value);
     }
 
-    public static TypeEnum fromValue(String value) {
+    private static final Map<String, TypeEnum> BY_VALUE = new HashMap<String, TypeEnum>();
+
+    static {
       for (TypeEnum b : TypeEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static TypeEnum fromValue(String value) {
+      TypeEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<TypeEnum> {
@@ -406,22 +420,63 @@ public class PayWithGoogleDetails {
        if (!PayWithGoogleDetails.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'PayWithGoogleDetails' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<PayWithGoogleDetails> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(PayWithGoogleDetails.class));
+       final TypeAdapter<FundingSourceEnum> fundingSourceAdapter = gson.getAdapter(FundingSourceEnum.class);
+       final TypeAdapter<String> googlePayTokenAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> recurringDetailReferenceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> storedPaymentMethodIdAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<TypeEnum> typeAdapter = gson.getAdapter(TypeEnum.class);
 
        return (TypeAdapter<T>) new TypeAdapter<PayWithGoogleDetails>() {
            @Override
            public void write(JsonWriter out, PayWithGoogleDetails value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("fundingSource");
+             fundingSourceAdapter.write(out, value.fundingSource);
+             out.name("googlePayToken");
+             googlePayTokenAdapter.write(out, value.googlePayToken);
+             out.name("recurringDetailReference");
+             recurringDetailReferenceAdapter.write(out, value.recurringDetailReference);
+             out.name("storedPaymentMethodId");
+             storedPaymentMethodIdAdapter.write(out, value.storedPaymentMethodId);
+             out.name("type");
+             typeAdapter.write(out, value.type);
+             out.endObject();
            }
 
            @Override
            public PayWithGoogleDetails read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             PayWithGoogleDetails instance = new PayWithGoogleDetails();
+             boolean googlePayTokenFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "fundingSource":
+                   instance.fundingSource = fundingSourceAdapter.read(in);
+                   break;
+                 case "googlePayToken":
+                   instance.googlePayToken = googlePayTokenAdapter.read(in);
+                   googlePayTokenFound = true;
+                   break;
+                 case "recurringDetailReference":
+                   instance.recurringDetailReference = recurringDetailReferenceAdapter.read(in);
+                   break;
+                 case "storedPaymentMethodId":
+                   instance.storedPaymentMethodId = storedPaymentMethodIdAdapter.read(in);
+                   break;
+                 case "type":
+                   instance.type = typeAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `PayWithGoogleDetails` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!googlePayTokenFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "googlePayToken", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
@@ -86,13 +86,20 @@ public class PaymentCancelResource {
       return String.valueOf(value);
     }
 
-    public static StatusEnum fromValue(String value) {
+    private static final Map<String, StatusEnum> BY_VALUE = new HashMap<String, StatusEnum>();
+
+    static {
       for (StatusEnum b : StatusEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static StatusEnum fromValue(String value) {
+      StatusEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<StatusEnum> {
@@ -359,22 +366,78 @@ public class PaymentCancelResource {
        if (!PaymentCancelResource.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'PaymentCancelResource' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<PaymentCancelResource> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(PaymentCancelResource.class));
+       final TypeAdapter<String> merchantAccountAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> paymentPspReferenceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> pspReferenceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> referenceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<StatusEnum> statusAdapter = gson.getAdapter(StatusEnum.class);
 
        return (TypeAdapter<T>) new TypeAdapter<PaymentCancelResource>() {
            @Override
            public void write(JsonWriter out, PaymentCancelResource value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("merchantAccount");
+             merchantAccountAdapter.write(out, value.merchantAccount);
+             out.name("paymentPspReference");
+             paymentPspReferenceAdapter.write(out, value.paymentPspReference);
+             out.name("pspReference");
+             pspReferenceAdapter.write(out, value.pspReference);
+             out.name("reference");
+             referenceAdapter.write(out, value.reference);
+             out.name("status");
+             statusAdapter.write(out, value.status);
+             out.endObject();
            }
 
            @Override
            public PaymentCancelResource read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             PaymentCancelResource instance = new PaymentCancelResource();
+             boolean merchantAccountFound = false;
+             boolean paymentPspReferenceFound = false;
+             boolean pspReferenceFound = false;
+             boolean statusFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "merchantAccount":
+                   instance.merchantAccount = merchantAccountAdapter.read(in);
+                   merchantAccountFound = true;
+                   break;
+                 case "paymentPspReference":
+                   instance.paymentPspReference = paymentPspReferenceAdapter.read(in);
+                   paymentPspReferenceFound = true;
+                   break;
+                 case "pspReference":
+                   instance.pspReference = pspReferenceAdapter.read(in);
+                   pspReferenceFound = true;
+                   break;
+                 case "reference":
+                   instance.reference = referenceAdapter.read(in);
+                   break;
+                 case "status":
+                   instance.status = statusAdapter.read(in);
+                   statusFound = true;
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `PaymentCancelResource` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!merchantAccountFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "merchantAccount", in.getPath()));
+             }
+             if (!paymentPspReferenceFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "paymentPspReference", in.getPath()));
+             }
+             if (!pspReferenceFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "pspReference", in.getPath()));
+             }
+             if (!statusFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "status", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
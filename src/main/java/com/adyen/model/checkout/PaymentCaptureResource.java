@@ -103,13 +103,20 @@ public class PaymentCaptureResource {
       return String.valueOf(value);
     }
 
-    public static StatusEnum fromValue(String value) {
+    private static final Map<String, StatusEnum> BY_VALUE = new HashMap<String, StatusEnum>();
+
+    static {
       for (StatusEnum b : StatusEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static StatusEnum fromValue(String value) {
+      StatusEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<StatusEnum> {
@@ -499,22 +506,101 @@ public class PaymentCaptureResource {
        if (!PaymentCaptureResource.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'PaymentCaptureResource' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<PaymentCaptureResource> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(PaymentCaptureResource.class));
+       final TypeAdapter<Amount> amountAdapter = gson.getAdapter(Amount.class);
+       final TypeAdapter<List<LineItem>> lineItemsAdapter = gson.getAdapter(new TypeToken<List<LineItem>>() {});
+       final TypeAdapter<String> merchantAccountAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> paymentPspReferenceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> pspReferenceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> referenceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<List<Split>> splitsAdapter = gson.getAdapter(new TypeToken<List<Split>>() {});
+       final TypeAdapter<StatusEnum> statusAdapter = gson.getAdapter(StatusEnum.class);
 
        return (TypeAdapter<T>) new TypeAdapter<PaymentCaptureResource>() {
            @Override
            public void write(JsonWriter out, PaymentCaptureResource value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("amount");
+             amountAdapter.write(out, value.amount);
+             out.name("lineItems");
+             lineItemsAdapter.write(out, value.lineItems);
+             out.name("merchantAccount");
+             merchantAccountAdapter.write(out, value.merchantAccount);
+             out.name("paymentPspReference");
+             paymentPspReferenceAdapter.write(out, value.paymentPspReference);
+             out.name("pspReference");
+             pspReferenceAdapter.write(out, value.pspReference);
+             out.name("reference");
+             referenceAdapter.write(out, value.reference);
+             out.name("splits");
+             splitsAdapter.write(out, value.splits);
+             out.name("status");
+             statusAdapter.write(out, value.status);
+             out.endObject();
            }
 
            @Override
            public PaymentCaptureResource read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             PaymentCaptureResource instance = new PaymentCaptureResource();
+             boolean amountFound = false;
+             boolean merchantAccountFound = false;
+             boolean paymentPspReferenceFound = false;
+             boolean pspReferenceFound = false;
+             boolean statusFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "amount":
+                   instance.amount = amountAdapter.read(in);
+                   amountFound = true;
+                   break;
+                 case "lineItems":
+                   instance.lineItems = lineItemsAdapter.read(in);
+                   break;
+                 case "merchantAccount":
+                   instance.merchantAccount = merchantAccountAdapter.read(in);
+                   merchantAccountFound = true;
+                   break;
+                 case "paymentPspReference":
+                   instance.paymentPspReference = paymentPspReferenceAdapter.read(in);
+                   paymentPspReferenceFound = true;
+                   break;
+                 case "pspReference":
+                   instance.pspReference = pspReferenceAdapter.read(in);
+                   pspReferenceFound = true;
+                   break;
+                 case "reference":
+                   instance.reference = referenceAdapter.read(in);
+                   break;
+                 case "splits":
+                   instance.splits = splitsAdapter.read(in);
+                   break;
+                 case "status":
+                   instance.status = statusAdapter.read(in);
+                   statusFound = true;
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `PaymentCaptureResource` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!amountFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "amount", in.getPath()));
+             }
+             if (!merchantAccountFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "merchantAccount", in.getPath()));
+             }
+             if (!paymentPspReferenceFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "paymentPspReference", in.getPath()));
+             }
+             if (!pspReferenceFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "pspReference", in.getPath()));
+             }
+             if (!statusFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "status", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
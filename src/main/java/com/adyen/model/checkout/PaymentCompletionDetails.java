@@ -674,22 +674,124 @@ public class PaymentCompletionDetails {
        if (!PaymentCompletionDetails.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'PaymentCompletionDetails' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<PaymentCompletionDetails> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(PaymentCompletionDetails.class));
+       final TypeAdapter<String> MDAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> paReqAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> paResAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> billingTokenAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> cupsecureplusSmscodeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> facilitatorAccessTokenAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> oneTimePasscodeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> orderIDAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> payerIDAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> payloadAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> paymentIDAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> paymentStatusAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> redirectResultAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> threeDSResultAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> threeds2ChallengeResultAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> threeds2FingerprintAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<PaymentCompletionDetails>() {
            @Override
            public void write(JsonWriter out, PaymentCompletionDetails value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("MD");
+             MDAdapter.write(out, value.MD);
+             out.name("PaReq");
+             paReqAdapter.write(out, value.paReq);
+             out.name("PaRes");
+             paResAdapter.write(out, value.paRes);
+             out.name("billingToken");
+             billingTokenAdapter.write(out, value.billingToken);
+             out.name("cupsecureplus.smscode");
+             cupsecureplusSmscodeAdapter.write(out, value.cupsecureplusSmscode);
+             out.name("facilitatorAccessToken");
+             facilitatorAccessTokenAdapter.write(out, value.facilitatorAccessToken);
+             out.name("oneTimePasscode");
+             oneTimePasscodeAdapter.write(out, value.oneTimePasscode);
+             out.name("orderID");
+             orderIDAdapter.write(out, value.orderID);
+             out.name("payerID");
+             payerIDAdapter.write(out, value.payerID);
+             out.name("payload");
+             payloadAdapter.write(out, value.payload);
+             out.name("paymentID");
+             paymentIDAdapter.write(out, value.paymentID);
+             out.name("paymentStatus");
+             paymentStatusAdapter.write(out, value.paymentStatus);
+             out.name("redirectResult");
+             redirectResultAdapter.write(out, value.redirectResult);
+             out.name("threeDSResult");
+             threeDSResultAdapter.write(out, value.threeDSResult);
+             out.name("threeds2.challengeResult");
+             threeds2ChallengeResultAdapter.write(out, value.threeds2ChallengeResult);
+             out.name("threeds2.fingerprint");
+             threeds2FingerprintAdapter.write(out, value.threeds2Fingerprint);
+             out.endObject();
            }
 
            @Override
            public PaymentCompletionDetails read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             PaymentCompletionDetails instance = new PaymentCompletionDetails();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "MD":
+                   instance.MD = MDAdapter.read(in);
+                   break;
+                 case "PaReq":
+                   instance.paReq = paReqAdapter.read(in);
+                   break;
+                 case "PaRes":
+                   instance.paRes = paResAdapter.read(in);
+                   break;
+                 case "billingToken":
+                   instance.billingToken = billingTokenAdapter.read(in);
+                   break;
+                 case "cupsecureplus.smscode":
+                   instance.cupsecureplusSmscode = cupsecureplusSmscodeAdapter.read(in);
+                   break;
+                 case "facilitatorAccessToken":
+                   instance.facilitatorAccessToken = facilitatorAccessTokenAdapter.read(in);
+                   break;
+                 case "oneTimePasscode":
+                   instance.oneTimePasscode = oneTimePasscodeAdapter.read(in);
+                   break;
+                 case "orderID":
+                   instance.orderID = orderIDAdapter.read(in);
+                   break;
+                 case "payerID":
+                   instance.payerID = payerIDAdapter.read(in);
+                   break;
+                 case "payload":
+                   instance.payload = payloadAdapter.read(in);
+                   break;
+                 case "paymentID":
+                   instance.paymentID = paymentIDAdapter.read(in);
+                   break;
+                 case "paymentStatus":
+                   instance.paymentStatus = paymentStatusAdapter.read(in);
+                   break;
+                 case "redirectResult":
+                   instance.redirectResult = redirectResultAdapter.read(in);
+                   break;
+                 case "threeDSResult":
+                   instance.threeDSResult = threeDSResultAdapter.read(in);
+                   break;
+                 case "threeds2.challengeResult":
+                   instance.threeds2ChallengeResult = threeds2ChallengeResultAdapter.read(in);
+                   break;
+                 case "threeds2.fingerprint":
+                   instance.threeds2Fingerprint = threeds2FingerprintAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `PaymentCompletionDetails` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
@@ -141,13 +141,20 @@ public class PaymentDetailsResponse {
       return String.valueOf(value);
     }
 
-    public static ResultCodeEnum fromValue(String value) {
+    private static final Map<String, ResultCodeEnum> BY_VALUE = new HashMap<String, ResultCodeEnum>();
+
+    static {
       for (ResultCodeEnum b : ResultCodeEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static ResultCodeEnum fromValue(String value) {
+      ResultCodeEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<ResultCodeEnum> {
@@ -723,22 +730,118 @@ public class PaymentDetailsResponse {
        if (!PaymentDetailsResponse.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'PaymentDetailsResponse' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<PaymentDetailsResponse> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(PaymentDetailsResponse.class));
+       final TypeAdapter<Map<String, String>> additionalDataAdapter = gson.getAdapter(new TypeToken<Map<String, String>>() {});
+       final TypeAdapter<Amount> amountAdapter = gson.getAdapter(Amount.class);
+       final TypeAdapter<String> donationTokenAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<FraudResult> fraudResultAdapter = gson.getAdapter(FraudResult.class);
+       final TypeAdapter<String> merchantReferenceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<CheckoutOrderResponse> orderAdapter = gson.getAdapter(CheckoutOrderResponse.class);
+       final TypeAdapter<ResponsePaymentMethod> paymentMethodAdapter = gson.getAdapter(ResponsePaymentMethod.class);
+       final TypeAdapter<String> pspReferenceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> refusalReasonAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> refusalReasonCodeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<ResultCodeEnum> resultCodeAdapter = gson.getAdapter(ResultCodeEnum.class);
+       final TypeAdapter<String> shopperLocaleAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<ThreeDS2ResponseData> threeDS2ResponseDataAdapter = gson.getAdapter(ThreeDS2ResponseData.class);
+       final TypeAdapter<ThreeDS2Result> threeDS2ResultAdapter = gson.getAdapter(ThreeDS2Result.class);
+       final TypeAdapter<String> threeDSPaymentDataAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<PaymentDetailsResponse>() {
            @Override
            public void write(JsonWriter out, PaymentDetailsResponse value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("additionalData");
+             additionalDataAdapter.write(out, value.additionalData);
+             out.name("amount");
+             amountAdapter.write(out, value.amount);
+             out.name("donationToken");
+             donationTokenAdapter.write(out, value.donationToken);
+             out.name("fraudResult");
+             fraudResultAdapter.write(out, value.fraudResult);
+             out.name("merchantReference");
+             merchantReferenceAdapter.write(out, value.merchantReference);
+             out.name("order");
+             orderAdapter.write(out, value.order);
+             out.name("paymentMethod");
+             paymentMethodAdapter.write(out, value.paymentMethod);
+             out.name("pspReference");
+             pspReferenceAdapter.write(out, value.pspReference);
+             out.name("refusalReason");
+             refusalReasonAdapter.write(out, value.refusalReason);
+             out.name("refusalReasonCode");
+             refusalReasonCodeAdapter.write(out, value.refusalReasonCode);
+             out.name("resultCode");
+             resultCodeAdapter.write(out, value.resultCode);
+             out.name("shopperLocale");
+             shopperLocaleAdapter.write(out, value.shopperLocale);
+             out.name("threeDS2ResponseData");
+             threeDS2ResponseDataAdapter.write(out, value.threeDS2ResponseData);
+             out.name("threeDS2Result");
+             threeDS2ResultAdapter.write(out, value.threeDS2Result);
+             out.name("threeDSPaymentData");
+             threeDSPaymentDataAdapter.write(out, value.threeDSPaymentData);
+             out.endObject();
            }
 
            @Override
            public PaymentDetailsResponse read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             PaymentDetailsResponse instance = new PaymentDetailsResponse();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "additionalData":
+                   instance.additionalData = additionalDataAdapter.read(in);
+                   break;
+                 case "amount":
+                   instance.amount = amountAdapter.read(in);
+                   break;
+                 case "donationToken":
+                   instance.donationToken = donationTokenAdapter.read(in);
+                   break;
+                 case "fraudResult":
+                   instance.fraudResult = fraudResultAdapter.read(in);
+                   break;
+                 case "merchantReference":
+                   instance.merchantReference = merchantReferenceAdapter.read(in);
+                   break;
+                 case "order":
+                   instance.order = orderAdapter.read(in);
+                   break;
+                 case "paymentMethod":
+                   instance.paymentMethod = paymentMethodAdapter.read(in);
+                   break;
+                 case "pspReference":
+                   instance.pspReference = pspReferenceAdapter.read(in);
+                   break;
+                 case "refusalReason":
+                   instance.refusalReason = refusalReasonAdapter.read(in);
+                   break;
+                 case "refusalReasonCode":
+                   instance.refusalReasonCode = refusalReasonCodeAdapter.read(in);
+                   break;
+                 case "resultCode":
+                   instance.resultCode = resultCodeAdapter.read(in);
+                   break;
+                 case "shopperLocale":
+                   instance.shopperLocale = shopperLocaleAdapter.read(in);
+                   break;
+                 case "threeDS2ResponseData":
+                   instance.threeDS2ResponseData = threeDS2ResponseDataAdapter.read(in);
+                   break;
+                 case "threeDS2Result":
+                   instance.threeDS2Result = threeDS2ResultAdapter.read(in);
+                   break;
+                 case "threeDSPaymentData":
+                   instance.threeDSPaymentData = threeDSPaymentDataAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `PaymentDetailsResponse` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
@@ -73,6 +73,7 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
@@ -99,6 +100,82 @@ import com.adyen.model.checkout.JSON;
 public class PaymentDonationRequestPaymentMethod extends AbstractOpenApiSchema {
     private static final Logger log = Logger.getLogger(PaymentDonationRequestPaymentMethod.class.getName());
 
+    // oneOf schemas by the values their `type` enum accepts, so reading only validates the schemas that can match
+    private static final Map<String, Set<Class<?>>> candidatesByDiscriminatorValue = new HashMap<String, Set<Class<?>>>();
+    private static final Set<Class<?>> allCandidates = new HashSet<Class<?>>();
+
+    static {
+        addCandidate(AchDetails.class, AchDetails.TypeEnum.values());
+        addCandidate(AfterpayDetails.class, AfterpayDetails.TypeEnum.values());
+        addCandidate(AmazonPayDetails.class, AmazonPayDetails.TypeEnum.values());
+        addCandidate(AndroidPayDetails.class, AndroidPayDetails.TypeEnum.values());
+        addCandidate(ApplePayDetails.class, ApplePayDetails.TypeEnum.values());
+        addCandidate(BacsDirectDebitDetails.class, BacsDirectDebitDetails.TypeEnum.values());
+        addCandidate(BillDeskDetails.class, BillDeskDetails.TypeEnum.values());
+        addCandidate(BlikDetails.class, BlikDetails.TypeEnum.values());
+        addCandidate(CardDetails.class, CardDetails.TypeEnum.values());
+        addCandidate(CellulantDetails.class, CellulantDetails.TypeEnum.values());
+        addCandidate(DokuDetails.class, DokuDetails.TypeEnum.values());
+        addCandidate(DotpayDetails.class, DotpayDetails.TypeEnum.values());
+        addCandidate(DragonpayDetails.class, DragonpayDetails.TypeEnum.values());
+        addCandidate(EcontextVoucherDetails.class, EcontextVoucherDetails.TypeEnum.values());
+        addCandidate(GenericIssuerPaymentMethodDetails.class, GenericIssuerPaymentMethodDetails.TypeEnum.values());
+        addCandidate(GiropayDetails.class, GiropayDetails.TypeEnum.values());
+        addCandidate(GooglePayDetails.class, GooglePayDetails.TypeEnum.values());
+        addCandidate(IdealDetails.class, IdealDetails.TypeEnum.values());
+        addCandidate(KlarnaDetails.class, KlarnaDetails.TypeEnum.values());
+        addCandidate(MasterpassDetails.class, MasterpassDetails.TypeEnum.values());
+        addCandidate(MbwayDetails.class, MbwayDetails.TypeEnum.values());
+        addCandidate(MobilePayDetails.class, MobilePayDetails.TypeEnum.values());
+        addCandidate(MolPayDetails.class, MolPayDetails.TypeEnum.values());
+        addCandidate(OpenInvoiceDetails.class, OpenInvoiceDetails.TypeEnum.values());
+        addCandidate(PayPalDetails.class, PayPalDetails.TypeEnum.values());
+        addCandidate(PayUUpiDetails.class, PayUUpiDetails.TypeEnum.values());
+        addCandidate(PayWithGoogleDetails.class, PayWithGoogleDetails.TypeEnum.values());
+        addCandidate(PaymentDetails.class, PaymentDetails.TypeEnum.values());
+        addCandidate(RatepayDetails.class, RatepayDetails.TypeEnum.values());
+        addCandidate(SamsungPayDetails.class, SamsungPayDetails.TypeEnum.values());
+        addCandidate(SepaDirectDebitDetails.class, SepaDirectDebitDetails.TypeEnum.values());
+        addCandidate(StoredPaymentMethodDetails.class, StoredPaymentMethodDetails.TypeEnum.values());
+        addCandidate(UpiCollectDetails.class, UpiCollectDetails.TypeEnum.values());
+        addCandidate(UpiIntentDetails.class, UpiIntentDetails.TypeEnum.values());
+        addCandidate(VippsDetails.class, VippsDetails.TypeEnum.values());
+        addCandidate(VisaCheckoutDetails.class, VisaCheckoutDetails.TypeEnum.values());
+        addCandidate(WeChatPayDetails.class, WeChatPayDetails.TypeEnum.values());
+        addCandidate(WeChatPayMiniProgramDetails.class, WeChatPayMiniProgramDetails.TypeEnum.values());
+        addCandidate(ZipDetails.class, ZipDetails.TypeEnum.values());
+    }
+
+    private static void addCandidate(Class<?> schema, Object[] discriminatorValues) {
+        allCandidates.add(schema);
+        for (Object discriminatorValue : discriminatorValues) {
+            Set<Class<?>> candidates = candidatesByDiscriminatorValue.get(discriminatorValue.toString());
+            if (candidates == null) {
+                candidates = new HashSet<Class<?>>();
+                candidatesByDiscriminatorValue.put(discriminatorValue.toString(), candidates);
+            }
+            candidates.add(schema);
+        }
+    }
+
+    /**
+     * Returns the oneOf schemas that accept the value of the discriminator `type` in the JSON object,
+     * or all of them when the value is missing or not declared by any schema.
+     *
+     * @param jsonObj JSON Object
+     * @return the candidate schemas
+     */
+    private static Set<Class<?>> getCandidates(JsonObject jsonObj) {
+        JsonElement discriminatorValue = jsonObj.get("type");
+        if (discriminatorValue != null && discriminatorValue.isJsonPrimitive()) {
+            Set<Class<?>> candidates = candidatesByDiscriminatorValue.get(discriminatorValue.getAsString());
+            if (candidates != null) {
+                return candidates;
+            }
+        }
+        return allCandidates;
+    }
+
     public static class CustomTypeAdapterFactory implements TypeAdapterFactory {
         @SuppressWarnings("unchecked")
         @Override
@@ -436,515 +513,594 @@ public class PaymentDonationRequestPaymentMethod extends AbstractOpenApiSchema {
                     Object deserialized = null;
                     JsonObject jsonObject = elementAdapter.read(in).getAsJsonObject();
 
+                    Set<Class<?>> candidates = getCandidates(jsonObject);
                     int match = 0;
                     ArrayList<String> errorMessages = new ArrayList<>();
                     TypeAdapter actualAdapter = elementAdapter;
 
                     // deserialize AchDetails
-                    try {
-                        // validate the JSON object to see if any exception is thrown
-                        AchDetails.validateJsonObject(jsonObject);
-                        actualAdapter = adapterAchDetails;
-                        match++;
-                        log.log(Level.FINER, "Input data matches schema 'AchDetails'");
-                    } catch (Exception e) {
-                        // deserialization failed, continue
-                        errorMessages.add(String.format("Deserialization for AchDetails failed with `%s`.", e.getMessage()));
-                        log.log(Level.FINER, "Input data does not match schema 'AchDetails'", e);
+                    if (candidates.contains(AchDetails.class)) {
+                        try {
+                            // validate the JSON object to see if any exception is thrown
+                            AchDetails.validateJsonObject(jsonObject);
+                            actualAdapter = adapterAchDetails;
+                            match++;
+                            log.log(Level.FINER, "Input data matches schema 'AchDetails'");
+                        } catch (Exception e) {
+                            // deserialization failed, continue
+                            errorMessages.add(String.format("Deserialization for AchDetails failed with `%s`.", e.getMessage()));
+                            log.log(Level.FINER, "Input data does not match schema 'AchDetails'", e);
+                        }
                     }
 
                     // deserialize AfterpayDetails
-                    try {
-                        // validate the JSON object to see if any exception is thrown
-                        AfterpayDetails.validateJsonObject(jsonObject);
-                        actualAdapter = adapterAfterpayDetails;
-                        match++;
-                        log.log(Level.FINER, "Input data matches schema 'AfterpayDetails'");
-                    } catch (Exception e) {
-                        // deserialization failed, continue
-                        errorMessages.add(String.format("Deserialization for AfterpayDetails failed with `%s`.", e.getMessage()));
-                        log.log(Level.FINER, "Input data does not match schema 'AfterpayDetails'", e);
+                    if (candidates.contains(AfterpayDetails.class)) {
+                        try {
+                            // validate the JSON object to see if any exception is thrown
+                            AfterpayDetails.validateJsonObject(jsonObject);
+                            actualAdapter = adapterAfterpayDetails;
+                            match++;
+                            log.log(Level.FINER, "Input data matches schema 'AfterpayDetails'");
+                        } catch (Exception e) {
+                            // deserialization failed, continue
+                            errorMessages.add(String.format("Deserialization for AfterpayDetails failed with `%s`.", e.getMessage()));
+                            log.log(Level.FINER, "Input data does not match schema 'AfterpayDetails'", e);
+                        }
                     }
 
                     // deserialize AmazonPayDetails
-                    try {
-                        // validate the JSON object to see if any exception is thrown
-                        AmazonPayDetails.validateJsonObject(jsonObject);
-                        actualAdapter = adapterAmazonPayDetails;
-                        match++;
-                        log.log(Level.FINER, "Input data matches schema 'AmazonPayDetails'");
-                    } catch (Exception e) {
-                        // deserialization failed, continue
-                        errorMessages.add(String.format("Deserialization for AmazonPayDetails failed with `%s`.", e.getMessage()));
-                        log.log(Level.FINER, "Input data does not match schema 'AmazonPayDetails'", e);
+                    if (candidates.contains(AmazonPayDetails.class)) {
+                        try {
+                            // validate the JSON object to see if any exception is thrown
+                            AmazonPayDetails.validateJsonObject(jsonObject);
+                            actualAdapter = adapterAmazonPayDetails;
+                            match++;
+                            log.log(Level.FINER, "Input data matches schema 'AmazonPayDetails'");
+                        } catch (Exception e) {
+                            // deserialization failed, continue
+                            errorMessages.add(String.format("Deserialization for AmazonPayDetails failed with `%s`.", e.getMessage()));
+                            log.log(Level.FINER, "Input data does not match schema 'AmazonPayDetails'", e);
+                        }
                     }
 
                     // deserialize AndroidPayDetails
-                    try {
-                        // validate the JSON object to see if any exception is thrown
-                        AndroidPayDetails.validateJsonObject(jsonObject);
-                        actualAdapter = adapterAndroidPayDetails;
-                        match++;
-                        log.log(Level.FINER, "Input data matches schema 'AndroidPayDetails'");
-                    } catch (Exception e) {
-                        // deserialization failed, continue
-                        errorMessages.add(String.format("Deserialization for AndroidPayDetails failed with `%s`.", e.getMessage()));
-                        log.log(Level.FINER, "Input data does not match schema 'AndroidPayDetails'", e);
+                    if (candidates.contains(AndroidPayDetails.class)) {
+                        try {
+                            // validate the JSON object to see if any exception is thrown
+                            AndroidPayDetails.validateJsonObject(jsonObject);
+                            actualAdapter = adapterAndroidPayDetails;
+                            match++;
+                            log.log(Level.FINER, "Input data matches schema 'AndroidPayDetails'");
+                        } catch (Exception e) {
+                            // deserialization failed, continue
+                            errorMessages.add(String.format("Deserialization for AndroidPayDetails failed with `%s`.", e.getMessage()));
+                            log.log(Level.FINER, "Input data does not match schema 'AndroidPayDetails'", e);
+                        }
                     }
 
                     // deserialize ApplePayDetails
-                    try {
-                        // validate the JSON object to see if any exception is thrown
-                        ApplePayDetails.validateJsonObject(jsonObject);
-                        actualAdapter = adapterApplePayDetails;
-                        match++;
-                        log.log(Level.FINER, "Input data matches schema 'ApplePayDetails'");
-                    } catch (Exception e) {
-                        // deserialization failed, continue
-                        errorMessages.add(String.format("Deserialization for ApplePayDetails failed with `%s`.", e.getMessage()));
-                        log.log(Level.FINER, "Input data does not match schema 'ApplePayDetails'", e);
+                    if (candidates.contains(ApplePayDetails.class)) {
+                        try {
+                            // validate the JSON object to see if any exception is thrown
+                            ApplePayDetails.validateJsonObject(jsonObject);
+                            actualAdapter = adapterApplePayDetails;
+                            match++;
+                            log.log(Level.FINER, "Input data matches schema 'ApplePayDetails'");
+                        } catch (Exception e) {
+                            // deserialization failed, continue
+                            errorMessages.add(String.format("Deserialization for ApplePayDetails failed with `%s`.", e.getMessage()));
+                            log.log(Level.FINER, "Input data does not match schema 'ApplePayDetails'", e);
+                        }
                     }
 
                     // deserialize BacsDirectDebitDetails
-                    try {
-                        // validate the JSON object to see if any exception is thrown
-                        BacsDirectDebitDetails.validateJsonObject(jsonObject);
-                        actualAdapter = adapterBacsDirectDebitDetails;
-                        match++;
-                        log.log(Level.FINER, "Input data matches schema 'BacsDirectDebitDetails'");
-                    } catch (Exception e) {
-                        // deserialization failed, continue
-                        errorMessages.add(String.format("Deserialization for BacsDirectDebitDetails failed with `%s`.", e.getMessage()));
-                        log.log(Level.FINER, "Input data does not match schema 'BacsDirectDebitDetails'", e);
+                    if (candidates.contains(BacsDirectDebitDetails.class)) {
+                        try {
+                            // validate the JSON object to see if any exception is thrown
+                            BacsDirectDebitDetails.validateJsonObject(jsonObject);
+                            actualAdapter = adapterBacsDirectDebitDetails;
+                            match++;
+                            log.log(Level.FINER, "Input data matches schema 'BacsDirectDebitDetails'");
+                        } catch (Exception e) {
+                            // deserialization failed, continue
+                            errorMessages.add(String.format("Deserialization for BacsDirectDebitDetails failed with `%s`.", e.getMessage()));
+                            log.log(Level.FINER, "Input data does not match schema 'BacsDirectDebitDetails'", e);
+                        }
                     }
 
                     // deserialize BillDeskDetails
-                    try {
-                        // validate the JSON object to see if any exception is thrown
-                        BillDeskDetails.validateJsonObject(jsonObject);
-                        actualAdapter = adapterBillDeskDetails;
-                        match++;
-                        log.log(Level.FINER, "Input data matches schema 'BillDeskDetails'");
-                    } catch (Exception e) {
-                        // deserialization failed, continue
-                        errorMessages.add(String.format("Deserialization for BillDeskDetails failed with `%s`.", e.getMessage()));
-                        log.log(Level.FINER, "Input data does not match schema 'BillDeskDetails'", e);
+                    if (candidates.contains(BillDeskDetails.class)) {
+                        try {
+                            // validate the JSON object to see if any exception is thrown
+                            BillDeskDetails.validateJsonObject(jsonObject);
+                            actualAdapter = adapterBillDeskDetails;
+                            match++;
+                            log.log(Level.FINER, "Input data matches schema 'BillDeskDetails'");
+                        } catch (Exception e) {
+                            // deserialization failed, continue
+                            errorMessages.add(String.format("Deserialization for BillDeskDetails failed with `%s`.", e.getMessage()));
+                            log.log(Level.FINER, "Input data does not match schema 'BillDeskDetails'", e);
+                        }
                     }
 
                     // deserialize BlikDetails
-                    try {
-                        // validate the JSON object to see if any exception is thrown
-                        BlikDetails.validateJsonObject(jsonObject);
-                        actualAdapter = adapterBlikDetails;
-                        match++;
-                        log.log(Level.FINER, "Input data matches schema 'BlikDetails'");
-                    } catch (Exception e) {
-                        // deserialization failed, continue
-                        errorMessages.add(String.format("Deserialization for BlikDetails failed with `%s`.", e.getMessage()));
-                        log.log(Level.FINER, "Input data does not match schema 'BlikDetails'", e);
+                    if (candidates.contains(BlikDetails.class)) {
+                        try {
+                            // validate the JSON object to see if any exception is thrown
+                            BlikDetails.validateJsonObject(jsonObject);
+                            actualAdapter = adapterBlikDetails;
+                            match++;
+                            log.log(Level.FINER, "Input data matches schema 'BlikDetails'");
+                        } catch (Exception e) {
+                            // deserialization failed, continue
+                            errorMessages.add(String.format("Deserialization for BlikDetails failed with `%s`.", e.getMessage()));
+                            log.log(Level.FINER, "Input data does not match schema 'BlikDetails'", e);
+                        }
                     }
 
                     // deserialize CardDetails
-                    try {
-                        // validate the JSON object to see if any exception is thrown
-                        CardDetails.validateJsonObject(jsonObject);
-                        actualAdapter = adapterCardDetails;
-                        match++;
-                        log.log(Level.FINER, "Input data matches schema 'CardDetails'");
-                    } catch (Exception e) {
-                        // deserialization failed, continue
-                        errorMessages.add(String.format("Deserialization for CardDetails failed with `%s`.", e.getMessage()));
-                        log.log(Level.FINER, "Input data does not match schema 'CardDetails'", e);
+                    if (candidates.contains(CardDetails.class)) {
+                        try {
+                            // validate the JSON object to see if any exception is thrown
+                            CardDetails.validateJsonObject(jsonObject);
+                            actualAdapter = adapterCardDetails;
+                            match++;
+                            log.log(Level.FINER, "Input data matches schema 'CardDetails'");
+                        } catch (Exception e) {
+                            // deserialization failed, continue
+                            errorMessages.add(String.format("Deserialization for CardDetails failed with `%s`.", e.getMessage()));
+                            log.log(Level.FINER, "Input data does not match schema 'CardDetails'", e);
+                        }
                     }
 
                     // deserialize CellulantDetails
-                    try {
-                        // validate the JSON object to see if any exception is thrown
-                        CellulantDetails.validateJsonObject(jsonObject);
-                        actualAdapter = adapterCellulantDetails;
-                        match++;
-                        log.log(Level.FINER, "Input data matches schema 'CellulantDetails'");
-                    } catch (Exception e) {
-                        // deserialization failed, continue
-                        errorMessages.add(String.format("Deserialization for CellulantDetails failed with `%s`.", e.getMessage()));
-                        log.log(Level.FINER, "Input data does not match schema 'CellulantDetails'", e);
+                    if (candidates.contains(CellulantDetails.class)) {
+                        try {
+                            // validate the JSON object to see if any exception is thrown
+                            CellulantDetails.validateJsonObject(jsonObject);
+                            actualAdapter = adapterCellulantDetails;
+                            match++;
+                            log.log(Level.FINER, "Input data matches schema 'CellulantDetails'");
+                        } catch (Exception e) {
+                            // deserialization failed, continue
+                            errorMessages.add(String.format("Deserialization for CellulantDetails failed with `%s`.", e.getMessage()));
+                            log.log(Level.FINER, "Input data does not match schema 'CellulantDetails'", e);
+                        }
                     }
 
                     // deserialize DokuDetails
-                    try {
-                        // validate the JSON object to see if any exception is thrown
-                        DokuDetails.validateJsonObject(jsonObject);
-                        actualAdapter = adapterDokuDetails;
-                        match++;
-                        log.log(Level.FINER, "Input data matches schema 'DokuDetails'");
-                    } catch (Exception e) {
-                        // deserialization failed, continue
-                        errorMessages.add(String.format("Deserialization for DokuDetails failed with `%s`.", e.getMessage()));
-                        log.log(Level.FINER, "Input data does not match schema 'DokuDetails'", e);
+                    if (candidates.contains(DokuDetails.class)) {
+                        try {
+                            // validate the JSON object to see if any exception is thrown
+                            DokuDetails.validateJsonObject(jsonObject);
+                            actualAdapter = adapterDokuDetails;
+                            match++;
+                            log.log(Level.FINER, "Input data matches schema 'DokuDetails'");
+                        } catch (Exception e) {
+                            // deserialization failed, continue
+                            errorMessages.add(String.format("Deserialization for DokuDetails failed with `%s`.", e.getMessage()));
+                            log.log(Level.FINER, "Input data does not match schema 'DokuDetails'", e);
+                        }
                     }
 
                     // deserialize DotpayDetails
-                    try {
-                        // validate the JSON object to see if any exception is thrown
-                        DotpayDetails.validateJsonObject(jsonObject);
-                        actualAdapter = adapterDotpayDetails;
-                        match++;
-                        log.log(Level.FINER, "Input data matches schema 'DotpayDetails'");
-                    } catch (Exception e) {
-                        // deserialization failed, continue
-                        errorMessages.add(String.format("Deserialization for DotpayDetails failed with `%s`.", e.getMessage()));
-                        log.log(Level.FINER, "Input data does not match schema 'DotpayDetails'", e);
+                    if (candidates.contains(DotpayDetails.class)) {
+                        try {
+                            // validate the JSON object to see if any exception is thrown
+                            DotpayDetails.validateJsonObject(jsonObject);
+                            actualAdapter = adapterDotpayDetails;
+                            match++;
+                            log.log(Level.FINER, "Input data matches schema 'DotpayDetails'");
+                        } catch (Exception e) {
+                            // deserialization failed, continue
+                            errorMessages.add(String.format("Deserialization for DotpayDetails failed with `%s`.", e.getMessage()));
+                            log.log(Level.FINER, "Input data does not match schema 'DotpayDetails'", e);
+                        }
                     }
 
                     // deserialize DragonpayDetails
-                    try {
-                        // validate the JSON object to see if any exception is thrown
-                        DragonpayDetails.validateJsonObject(jsonObject);
-                        actualAdapter = adapterDragonpayDetails;
-                        match++;
-                        log.log(Level.FINER, "Input data matches schema 'DragonpayDetails'");
-                    } catch (Exception e) {
-                        // deserialization failed, continue
-                        errorMessages.add(String.format("Deserialization for DragonpayDetails failed with `%s`.", e.getMessage()));
-                        log.log(Level.FINER, "Input data does not match schema 'DragonpayDetails'", e);
+                    if (candidates.contains(DragonpayDetails.class)) {
+                        try {
+                            // validate the JSON object to see if any exception is thrown
+                            DragonpayDetails.validateJsonObject(jsonObject);
+                            actualAdapter = adapterDragonpayDetails;
+                            match++;
+                            log.log(Level.FINER, "Input data matches schema 'DragonpayDetails'");
+                        } catch (Exception e) {
+                            // deserialization failed, continue
+                            errorMessages.add(String.format("Deserialization for DragonpayDetails failed with `%s`.", e.getMessage()));
+                            log.log(Level.FINER, "Input data does not match schema 'DragonpayDetails'", e);
+                        }
                     }
 
                     // deserialize EcontextVoucherDetails
-                    try {
-                        // validate the JSON object to see if any exception is thrown
-                        EcontextVoucherDetails.validateJsonObject(jsonObject);
-                        actualAdapter = adapterEcontextVoucherDetails;
-                        match++;
-                        log.log(Level.FINER, "Input data matches schema 'EcontextVoucherDetails'");
-                    } catch (Exception e) {
-                        // deserialization failed, continue
-                        errorMessages.add(String.format("Deserialization for EcontextVoucherDetails failed with `%s`.", e.getMessage()));
-                        log.log(Level.FINER, "Input data does not match schema 'EcontextVoucherDetails'", e);
+                    if (candidates.contains(EcontextVoucherDetails.class)) {
+                        try {
+                            // validate the JSON object to see if any exception is thrown
+                            EcontextVoucherDetails.validateJsonObject(jsonObject);
+                            actualAdapter = adapterEcontextVoucherDetails;
+                            match++;
+                            log.log(Level.FINER, "Input data matches schema 'EcontextVoucherDetails'");
+                        } catch (Exception e) {
+                            // deserialization failed, continue
+                            errorMessages.add(String.format("Deserialization for EcontextVoucherDetails failed with `%s`.", e.getMessage()));
+                            log.log(Level.FINER, "Input data does not match schema 'EcontextVoucherDetails'", e);
+                        }
                     }
 
                     // deserialize GenericIssuerPaymentMethodDetails
-                    try {
-                        // validate the JSON object to see if any exception is thrown
-                        GenericIssuerPaymentMethodDetails.validateJsonObject(jsonObject);
-                        actualAdapter = adapterGenericIssuerPaymentMethodDetails;
-                        match++;
-                        log.log(Level.FINER, "Input data matches schema 'GenericIssuerPaymentMethodDetails'");
-                    } catch (Exception e) {
-                        // deserialization failed, continue
-                        errorMessages.add(String.format("Deserialization for GenericIssuerPaymentMethodDetails failed with `%s`.", e.getMessage()));
-                        log.log(Level.FINER, "Input data does not match schema 'GenericIssuerPaymentMethodDetails'", e);
+                    if (candidates.contains(GenericIssuerPaymentMethodDetails.class)) {
+                        try {
+                            // validate the JSON object to see if any exception is thrown
+                            GenericIssuerPaymentMethodDetails.validateJsonObject(jsonObject);
+                            actualAdapter = adapterGenericIssuerPaymentMethodDetails;
+                            match++;
+                            log.log(Level.FINER, "Input data matches schema 'GenericIssuerPaymentMethodDetails'");
+                        } catch (Exception e) {
+                            // deserialization failed, continue
+                            errorMessages.add(String.format("Deserialization for GenericIssuerPaymentMethodDetails failed with `%s`.", e.getMessage()));
+                            log.log(Level.FINER, "Input data does not match schema 'GenericIssuerPaymentMethodDetails'", e);
+                        }
                     }
 
                     // deserialize GiropayDetails
-                    try {
-                        // validate the JSON object to see if any exception is thrown
-                        GiropayDetails.validateJsonObject(jsonObject);
-                        actualAdapter = adapterGiropayDetails;
-                        match++;
-                        log.log(Level.FINER, "Input data matches schema 'GiropayDetails'");
-                    } catch (Exception e) {
-                        // deserialization failed, continue
-                        errorMessages.add(String.format("Deserialization for GiropayDetails failed with `%s`.", e.getMessage()));
-                        log.log(Level.FINER, "Input data does not match schema 'GiropayDetails'", e);
+                    if (candidates.contains(GiropayDetails.class)) {
+                        try {
+                            // validate the JSON object to see if any exception is thrown
+                            GiropayDetails.validateJsonObject(jsonObject);
+                            actualAdapter = adapterGiropayDetails;
+                            match++;
+                            log.log(Level.FINER, "Input data matches schema 'GiropayDetails'");
+                        } catch (Exception e) {
+                            // deserialization failed, continue
+                            errorMessages.add(String.format("Deserialization for GiropayDetails failed with `%s`.", e.getMessage()));
+                            log.log(Level.FINER, "Input data does not match schema 'GiropayDetails'", e);
+                        }
                     }
 
                     // deserialize GooglePayDetails
-                    try {
-                        // validate the JSON object to see if any exception is thrown
-                        GooglePayDetails.validateJsonObject(jsonObject);
-                        actualAdapter = adapterGooglePayDetails;
-                        match++;
-                        log.log(Level.FINER, "Input data matches schema 'GooglePayDetails'");
-                    } catch (Exception e) {
-                        // deserialization failed, continue
-                        errorMessages.add(String.format("Deserialization for GooglePayDetails failed with `%s`.", e.getMessage()));
-                        log.log(Level.FINER, "Input data does not match schema 'GooglePayDetails'", e);
+                    if (candidates.contains(GooglePayDetails.class)) {
+                        try {
+                            // validate the JSON object to see if any exception is thrown
+                            GooglePayDetails.validateJsonObject(jsonObject);
+                            actualAdapter = adapterGooglePayDetails;
+                            match++;
+                            log.log(Level.FINER, "Input data matches schema 'GooglePayDetails'");
+                        } catch (Exception e) {
+                            // deserialization failed, continue
+                            errorMessages.add(String.format("Deserialization for GooglePayDetails failed with `%s`.", e.getMessage()));
+                            log.log(Level.FINER, "Input data does not match schema 'GooglePayDetails'", e);
+                        }
                     }
 
                     // deserialize IdealDetails
-                    try {
-                        // validate the JSON object to see if any exception is thrown
-                        IdealDetails.validateJsonObject(jsonObject);
-                        actualAdapter = adapterIdealDetails;
-                        match++;
-                        log.log(Level.FINER, "Input data matches schema 'IdealDetails'");
-                    } catch (Exception e) {
-                        // deserialization failed, continue
-                        errorMessages.add(String.format("Deserialization for IdealDetails failed with `%s`.", e.getMessage()));
-                        log.log(Level.FINER, "Input data does not match schema 'IdealDetails'", e);
+                    if (candidates.contains(IdealDetails.class)) {
+                        try {
+                            // validate the JSON object to see if any exception is thrown
+                            IdealDetails.validateJsonObject(jsonObject);
+                            actualAdapter = adapterIdealDetails;
+                            match++;
+                            log.log(Level.FINER, "Input data matches schema 'IdealDetails'");
+                        } catch (Exception e) {
+                            // deserialization failed, continue
+                            errorMessages.add(String.format("Deserialization for IdealDetails failed with `%s`.", e.getMessage()));
+                            log.log(Level.FINER, "Input data does not match schema 'IdealDetails'", e);
+                        }
                     }
 
                     // deserialize KlarnaDetails
-                    try {
-                        // validate the JSON object to see if any exception is thrown
-                        KlarnaDetails.validateJsonObject(jsonObject);
-                        actualAdapter = adapterKlarnaDetails;
-                        match++;
-                        log.log(Level.FINER, "Input data matches schema 'KlarnaDetails'");
-                    } catch (Exception e) {
-                        // deserialization failed, continue
-                        errorMessages.add(String.format("Deserialization for KlarnaDetails failed with `%s`.", e.getMessage()));
-                        log.log(Level.FINER, "Input data does not match schema 'KlarnaDetails'", e);
+                    if (candidates.contains(KlarnaDetails.class)) {
+                        try {
+                            // validate the JSON object to see if any exception is thrown
+                            KlarnaDetails.validateJsonObject(jsonObject);
+                            actualAdapter = adapterKlarnaDetails;
+                            match++;
+                            log.log(Level.FINER, "Input data matches schema 'KlarnaDetails'");
+                        } catch (Exception e) {
+                            // deserialization failed, continue
+                            errorMessages.add(String.format("Deserialization for KlarnaDetails failed with `%s`.", e.getMessage()));
+                            log.log(Level.FINER, "Input data does not match schema 'KlarnaDetails'", e);
+                        }
                     }
 
                     // deserialize MasterpassDetails
-                    try {
-                        // validate the JSON object to see if any exception is thrown
-                        MasterpassDetails.validateJsonObject(jsonObject);
-                        actualAdapter = adapterMasterpassDetails;
-                        match++;
-                        log.log(Level.FINER, "Input data matches schema 'MasterpassDetails'");
-                    } catch (Exception e) {
-                        // deserialization failed, continue
-                        errorMessages.add(String.format("Deserialization for MasterpassDetails failed with `%s`.", e.getMessage()));
-                        log.log(Level.FINER, "Input data does not match schema 'MasterpassDetails'", e);
+                    if (candidates.contains(MasterpassDetails.class)) {
+                        try {
+                            // validate the JSON object to see if any exception is thrown
+                            MasterpassDetails.validateJsonObject(jsonObject);
+                            actualAdapter = adapterMasterpassDetails;
+                            match++;
+                            log.log(Level.FINER, "Input data matches schema 'MasterpassDetails'");
+                        } catch (Exception e) {
+                            // deserialization failed, continue
+                            errorMessages.add(String.format("Deserialization for MasterpassDetails failed with `%s`.", e.getMessage()));
+                            log.log(Level.FINER, "Input data does not match schema 'MasterpassDetails'", e);
+                        }
                     }
 
                     // deserialize MbwayDetails
-                    try {
-                        // validate the JSON object to see if any exception is thrown
-                        MbwayDetails.validateJsonObject(jsonObject);
-                        actualAdapter = adapterMbwayDetails;
-                        match++;
-                        log.log(Level.FINER, "Input data matches schema 'MbwayDetails'");
-                    } catch (Exception e) {
-                        // deserialization failed, continue
-                        errorMessages.add(String.format("Deserialization for MbwayDetails failed with `%s`.", e.getMessage()));
-                        log.log(Level.FINER, "Input data does not match schema 'MbwayDetails'", e);
+                    if (candidates.contains(MbwayDetails.class)) {
+                        try {
+                            // validate the JSON object to see if any exception is thrown
+                            MbwayDetails.validateJsonObject(jsonObject);
+                            actualAdapter = adapterMbwayDetails;
+                            match++;
+                            log.log(Level.FINER, "Input data matches schema 'MbwayDetails'");
+                        } catch (Exception e) {
+                            // deserialization failed, continue
+                            errorMessages.add(String.format("Deserialization for MbwayDetails failed with `%s`.", e.getMessage()));
+                            log.log(Level.FINER, "Input data does not match schema 'MbwayDetails'", e);
+                        }
                     }
 
                     // deserialize MobilePayDetails
-                    try {
-                        // validate the JSON object to see if any exception is thrown
-                        MobilePayDetails.validateJsonObject(jsonObject);
-                        actualAdapter = adapterMobilePayDetails;
-                        match++;
-                        log.log(Level.FINER, "Input data matches schema 'MobilePayDetails'");
-                    } catch (Exception e) {
-                        // deserialization failed, continue
-                        errorMessages.add(String.format("Deserialization for MobilePayDetails failed with `%s`.", e.getMessage()));
-                        log.log(Level.FINER, "Input data does not match schema 'MobilePayDetails'", e);
+                    if (candidates.contains(MobilePayDetails.class)) {
+                        try {
+                            // validate the JSON object to see if any exception is thrown
+                            MobilePayDetails.validateJsonObject(jsonObject);
+                            actualAdapter = adapterMobilePayDetails;
+                            match++;
+                            log.log(Level.FINER, "Input data matches schema 'MobilePayDetails'");
+                        } catch (Exception e) {
+                            // deserialization failed, continue
+                            errorMessages.add(String.format("Deserialization for MobilePayDetails failed with `%s`.", e.getMessage()));
+                            log.log(Level.FINER, "Input data does not match schema 'MobilePayDetails'", e);
+                        }
                     }
 
                     // deserialize MolPayDetails
-                    try {
-                        // validate the JSON object to see if any exception is thrown
-                        MolPayDetails.validateJsonObject(jsonObject);
-                        actualAdapter = adapterMolPayDetails;
-                        match++;
-                        log.log(Level.FINER, "Input data matches schema 'MolPayDetails'");
-                    } catch (Exception e) {
-                        // deserialization failed, continue
-                        errorMessages.add(String.format("Deserialization for MolPayDetails failed with `%s`.", e.getMessage()));
-                        log.log(Level.FINER, "Input data does not match schema 'MolPayDetails'", e);
+                    if (candidates.contains(MolPayDetails.class)) {
+                        try {
+                            // validate the JSON object to see if any exception is thrown
+                            MolPayDetails.validateJsonObject(jsonObject);
+                            actualAdapter = adapterMolPayDetails;
+                            match++;
+                            log.log(Level.FINER, "Input data matches schema 'MolPayDetails'");
+                        } catch (Exception e) {
+                            // deserialization failed, continue
+                            errorMessages.add(String.format("Deserialization for MolPayDetails failed with `%s`.", e.getMessage()));
+                            log.log(Level.FINER, "Input data does not match schema 'MolPayDetails'", e);
+                        }
                     }
 
                     // deserialize OpenInvoiceDetails
-                    try {
-                        // validate the JSON object to see if any exception is thrown
-                        OpenInvoiceDetails.validateJsonObject(jsonObject);
-                        actualAdapter = adapterOpenInvoiceDetails;
-                        match++;
-                        log.log(Level.FINER, "Input data matches schema 'OpenInvoiceDetails'");
-                    } catch (Exception e) {
-                        // deserialization failed, continue
-                        errorMessages.add(String.format("Deserialization for OpenInvoiceDetails failed with `%s`.", e.getMessage()));
-                        log.log(Level.FINER, "Input data does not match schema 'OpenInvoiceDetails'", e);
+                    if (candidates.contains(OpenInvoiceDetails.class)) {
+                        try {
+                            // validate the JSON object to see if any exception is thrown
+                            OpenInvoiceDetails.validateJsonObject(jsonObject);
+                            actualAdapter = adapterOpenInvoiceDetails;
+                            match++;
+                            log.log(Level.FINER, "Input data matches schema 'OpenInvoiceDetails'");
+                        } catch (Exception e) {
+                            // deserialization failed, continue
+                            errorMessages.add(String.format("Deserialization for OpenInvoiceDetails failed with `%s`.", e.getMessage()));
+                            log.log(Level.FINER, "Input data does not match schema 'OpenInvoiceDetails'", e);
+                        }
                     }
 
                     // deserialize PayPalDetails
-                    try {
-                        // validate the JSON object to see if any exception is thrown
-                        PayPalDetails.validateJsonObject(jsonObject);
-                        actualAdapter = adapterPayPalDetails;
-                        match++;
-                        log.log(Level.FINER, "Input data matches schema 'PayPalDetails'");
-                    } catch (Exception e) {
-                        // deserialization failed, continue
-                        errorMessages.add(String.format("Deserialization for PayPalDetails failed with `%s`.", e.getMessage()));
-                        log.log(Level.FINER, "Input data does not match schema 'PayPalDetails'", e);
+                    if (candidates.contains(PayPalDetails.class)) {
+                        try {
+                            // validate the JSON object to see if any exception is thrown
+                            PayPalDetails.validateJsonObject(jsonObject);
+                            actualAdapter = adapterPayPalDetails;
+                            match++;
+                            log.log(Level.FINER, "Input data matches schema 'PayPalDetails'");
+                        } catch (Exception e) {
+                            // deserialization failed, continue
+                            errorMessages.add(String.format("Deserialization for PayPalDetails failed with `%s`.", e.getMessage()));
+                            log.log(Level.FINER, "Input data does not match schema 'PayPalDetails'", e);
+                        }
                     }
 
                     // deserialize PayUUpiDetails
-                    try {
-                        // validate the JSON object to see if any exception is thrown
-                        PayUUpiDetails.validateJsonObject(jsonObject);
-                        actualAdapter = adapterPayUUpiDetails;
-                        match++;
-                        log.log(Level.FINER, "Input data matches schema 'PayUUpiDetails'");
-                    } catch (Exception e) {
-                        // deserialization failed, continue
-                        errorMessages.add(String.format("Deserialization for PayUUpiDetails failed with `%s`.", e.getMessage()));
-                        log.log(Level.FINER, "Input data does not match schema 'PayUUpiDetails'", e);
+                    if (candidates.contains(PayUUpiDetails.class)) {
+                        try {
+                            // validate the JSON object to see if any exception is thrown
+                            PayUUpiDetails.validateJsonObject(jsonObject);
+                            actualAdapter = adapterPayUUpiDetails;
+                            match++;
+                            log.log(Level.FINER, "Input data matches schema 'PayUUpiDetails'");
+                        } catch (Exception e) {
+                            // deserialization failed, continue
+                            errorMessages.add(String.format("Deserialization for PayUUpiDetails failed with `%s`.", e.getMessage()));
+                            log.log(Level.FINER, "Input data does not match schema 'PayUUpiDetails'", e);
+                        }
                     }
 
                     // deserialize PayWithGoogleDetails
-                    try {
-                        // validate the JSON object to see if any exception is thrown
-                        PayWithGoogleDetails.validateJsonObject(jsonObject);
-                        actualAdapter = adapterPayWithGoogleDetails;
-                        match++;
-                        log.log(Level.FINER, "Input data matches schema 'PayWithGoogleDetails'");
-                    } catch (Exception e) {
-                        // deserialization failed, continue
-                        errorMessages.add(String.format("Deserialization for PayWithGoogleDetails failed with `%s`.", e.getMessage()));
-                        log.log(Level.FINER, "Input data does not match schema 'PayWithGoogleDetails'", e);
+                    if (candidates.contains(PayWithGoogleDetails.class)) {
+                        try {
+                            // validate the JSON object to see if any exception is thrown
+                            PayWithGoogleDetails.validateJsonObject(jsonObject);
+                            actualAdapter = adapterPayWithGoogleDetails;
+                            match++;
+                            log.log(Level.FINER, "Input data matches schema 'PayWithGoogleDetails'");
+                        } catch (Exception e) {
+                            // deserialization failed, continue
+                            errorMessages.add(String.format("Deserialization for PayWithGoogleDetails failed with `%s`.", e.getMessage()));
+                            log.log(Level.FINER, "Input data does not match schema 'PayWithGoogleDetails'", e);
+                        }
                     }
 
                     // deserialize PaymentDetails
-                    try {
-                        // validate the JSON object to see if any exception is thrown
-                        PaymentDetails.validateJsonObject(jsonObject);
-                        actualAdapter = adapterPaymentDetails;
-                        match++;
-                        log.log(Level.FINER, "Input data matches schema 'PaymentDetails'");
-                    } catch (Exception e) {
-                        // deserialization failed, continue
-                        errorMessages.add(String.format("Deserialization for PaymentDetails failed with `%s`.", e.getMessage()));
-                        log.log(Level.FINER, "Input data does not match schema 'PaymentDetails'", e);
+                    if (candidates.contains(PaymentDetails.class)) {
+                        try {
+                            // validate the JSON object to see if any exception is thrown
+                            PaymentDetails.validateJsonObject(jsonObject);
+                            actualAdapter = adapterPaymentDetails;
+                            match++;
+                            log.log(Level.FINER, "Input data matches schema 'PaymentDetails'");
+                        } catch (Exception e) {
+                            // deserialization failed, continue
+                            errorMessages.add(String.format("Deserialization for PaymentDetails failed with `%s`.", e.getMessage()));
+                            log.log(Level.FINER, "Input data does not match schema 'PaymentDetails'", e);
+                        }
                     }
 
                     // deserialize RatepayDetails
-                    try {
-                        // validate the JSON object to see if any exception is thrown
-                        RatepayDetails.validateJsonObject(jsonObject);
-                        actualAdapter = adapterRatepayDetails;
-                        match++;
-                        log.log(Level.FINER, "Input data matches schema 'RatepayDetails'");
-                    } catch (Exception e) {
-                        // deserialization failed, continue
-                        errorMessages.add(String.format("Deserialization for RatepayDetails failed with `%s`.", e.getMessage()));
-                        log.log(Level.FINER, "Input data does not match schema 'RatepayDetails'", e);
+                    if (candidates.contains(RatepayDetails.class)) {
+                        try {
+                            // validate the JSON object to see if any exception is thrown
+                            RatepayDetails.validateJsonObject(jsonObject);
+                            actualAdapter = adapterRatepayDetails;
+                            match++;
+                            log.log(Level.FINER, "Input data matches schema 'RatepayDetails'");
+                        } catch (Exception e) {
+                            // deserialization failed, continue
+                            errorMessages.add(String.format("Deserialization for RatepayDetails failed with `%s`.", e.getMessage()));
+                            log.log(Level.FINER, "Input data does not match schema 'RatepayDetails'", e);
+                        }
                     }
 
                     // deserialize SamsungPayDetails
-                    try {
-                        // validate the JSON object to see if any exception is thrown
-                        SamsungPayDetails.validateJsonObject(jsonObject);
-                        actualAdapter = adapterSamsungPayDetails;
-                        match++;
-                        log.log(Level.FINER, "Input data matches schema 'SamsungPayDetails'");
-                    } catch (Exception e) {
-                        // deserialization failed, continue
-                        errorMessages.add(String.format("Deserialization for SamsungPayDetails failed with `%s`.", e.getMessage()));
-                        log.log(Level.FINER, "Input data does not match schema 'SamsungPayDetails'", e);
+                    if (candidates.contains(SamsungPayDetails.class)) {
+                        try {
+                            // validate the JSON object to see if any exception is thrown
+                            SamsungPayDetails.validateJsonObject(jsonObject);
+                            actualAdapter = adapterSamsungPayDetails;
+                            match++;
+                            log.log(Level.FINER, "Input data matches schema 'SamsungPayDetails'");
+                        } catch (Exception e) {
+                            // deserialization failed, continue
+                            errorMessages.add(String.format("Deserialization for SamsungPayDetails failed with `%s`.", e.getMessage()));
+                            log.log(Level.FINER, "Input data does not match schema 'SamsungPayDetails'", e);
+                        }
                     }
 
                     // deserialize SepaDirectDebitDetails
-                    try {
-                        // validate the JSON object to see if any exception is thrown
-                        SepaDirectDebitDetails.validateJsonObject(jsonObject);
-                        actualAdapter = adapterSepaDirectDebitDetails;
-                        match++;
-                        log.log(Level.FINER, "Input data matches schema 'SepaDirectDebitDetails'");
-                    } catch (Exception e) {
-                        // deserialization failed, continue
-                        errorMessages.add(String.format("Deserialization for SepaDirectDebitDetails failed with `%s`.", e.getMessage()));
-                        log.log(Level.FINER, "Input data does not match schema 'SepaDirectDebitDetails'", e);
+                    if (candidates.contains(SepaDirectDebitDetails.class)) {
+                        try {
+                            // validate the JSON object to see if any exception is thrown
+                            SepaDirectDebitDetails.validateJsonObject(jsonObject);
+                            actualAdapter = adapterSepaDirectDebitDetails;
+                            match++;
+                            log.log(Level.FINER, "Input data matches schema 'SepaDirectDebitDetails'");
+                        } catch (Exception e) {
+                            // deserialization failed, continue
+                            errorMessages.add(String.format("Deserialization for SepaDirectDebitDetails failed with `%s`.", e.getMessage()));
+                            log.log(Level.FINER, "Input data does not match schema 'SepaDirectDebitDetails'", e);
+                        }
                     }
 
                     // deserialize StoredPaymentMethodDetails
-                    try {
-                        // validate the JSON object to see if any exception is thrown
-                        StoredPaymentMethodDetails.validateJsonObject(jsonObject);
-                        actualAdapter = adapterStoredPaymentMethodDetails;
-                        match++;
-                        log.log(Level.FINER, "Input data matches schema 'StoredPaymentMethodDetails'");
-                    } catch (Exception e) {
-                        // deserialization failed, continue
-                        errorMessages.add(String.format("Deserialization for StoredPaymentMethodDetails failed with `%s`.", e.getMessage()));
-                        log.log(Level.FINER, "Input data does not match schema 'StoredPaymentMethodDetails'", e);
+                    if (candidates.contains(StoredPaymentMethodDetails.class)) {
+                        try {
+                            // validate the JSON object to see if any exception is thrown
+                            StoredPaymentMethodDetails.validateJsonObject(jsonObject);
+                            actualAdapter = adapterStoredPaymentMethodDetails;
+                            match++;
+                            log.log(Level.FINER, "Input data matches schema 'StoredPaymentMethodDetails'");
+                        } catch (Exception e) {
+                            // deserialization failed, continue
+                            errorMessages.add(String.format("Deserialization for StoredPaymentMethodDetails failed with `%s`.", e.getMessage()));
+                            log.log(Level.FINER, "Input data does not match schema 'StoredPaymentMethodDetails'", e);
+                        }
                     }
 
                     // deserialize UpiCollectDetails
-                    try {
-                        // validate the JSON object to see if any exception is thrown
-                        UpiCollectDetails.validateJsonObject(jsonObject);
-                        actualAdapter = adapterUpiCollectDetails;
-                        match++;
-                        log.log(Level.FINER, "Input data matches schema 'UpiCollectDetails'");
-                    } catch (Exception e) {
-                        // deserialization failed, continue
-                        errorMessages.add(String.format("Deserialization for UpiCollectDetails failed with `%s`.", e.getMessage()));
-                        log.log(Level.FINER, "Input data does not match schema 'UpiCollectDetails'", e);
+                    if (candidates.contains(UpiCollectDetails.class)) {
+                        try {
+                            // validate the JSON object to see if any exception is thrown
+                            UpiCollectDetails.validateJsonObject(jsonObject);
+                            actualAdapter = adapterUpiCollectDetails;
+                            match++;
+                            log.log(Level.FINER, "Input data matches schema 'UpiCollectDetails'");
+                        } catch (Exception e) {
+                            // deserialization failed, continue
+                            errorMessages.add(String.format("Deserialization for UpiCollectDetails failed with `%s`.", e.getMessage()));
+                            log.log(Level.FINER, "Input data does not match schema 'UpiCollectDetails'", e);
+                        }
                     }
 
                     // deserialize UpiIntentDetails
-                    try {
-                        // validate the JSON object to see if any exception is thrown
-                        UpiIntentDetails.validateJsonObject(jsonObject);
-                        actualAdapter = adapterUpiIntentDetails;
-                        match++;
-                        log.log(Level.FINER, "Input data matches schema 'UpiIntentDetails'");
-                    } catch (Exception e) {
-                        // deserialization failed, continue
-                        errorMessages.add(String.format("Deserialization for UpiIntentDetails failed with `%s`.", e.getMessage()));
-                        log.log(Level.FINER, "Input data does not match schema 'UpiIntentDetails'", e);
+                    if (candidates.contains(UpiIntentDetails.class)) {
+                        try {
+                            // validate the JSON object to see if any exception is thrown
+                            UpiIntentDetails.validateJsonObject(jsonObject);
+                            actualAdapter = adapterUpiIntentDetails;
+                            match++;
+                            log.log(Level.FINER, "Input data matches schema 'UpiIntentDetails'");
+                        } catch (Exception e) {
+                            // deserialization failed, continue
+                            errorMessages.add(String.format("Deserialization for UpiIntentDetails failed with `%s`.", e.getMessage()));
+                            log.log(Level.FINER, "Input data does not match schema 'UpiIntentDetails'", e);
+                        }
                     }
 
                     // deserialize VippsDetails
-                    try {
-                        // validate the JSON object to see if any exception is thrown
-                        VippsDetails.validateJsonObject(jsonObject);
-                        actualAdapter = adapterVippsDetails;
-                        match++;
-                        log.log(Level.FINER, "Input data matches schema 'VippsDetails'");
-                    } catch (Exception e) {
-                        // deserialization failed, continue
-                        errorMessages.add(String.format("Deserialization for VippsDetails failed with `%s`.", e.getMessage()));
-                        log.log(Level.FINER, "Input data does not match schema 'VippsDetails'", e);
+                    if (candidates.contains(VippsDetails.class)) {
+                        try {
+                            // validate the JSON object to see if any exception is thrown
+                            VippsDetails.validateJsonObject(jsonObject);
+                            actualAdapter = adapterVippsDetails;
+                            match++;
+                            log.log(Level.FINER, "Input data matches schema 'VippsDetails'");
+                        } catch (Exception e) {
+                            // deserialization failed, continue
+                            errorMessages.add(String.format("Deserialization for VippsDetails failed with `%s`.", e.getMessage()));
+                            log.log(Level.FINER, "Input data does not match schema 'VippsDetails'", e);
+                        }
                     }
 
                     // deserialize VisaCheckoutDetails
-                    try {
-                        // validate the JSON object to see if any exception is thrown
-                        VisaCheckoutDetails.validateJsonObject(jsonObject);
-                        actualAdapter = adapterVisaCheckoutDetails;
-                        match++;
-                        log.log(Level.FINER, "Input data matches schema 'VisaCheckoutDetails'");
-                    } catch (Exception e) {
-                        // deserialization failed, continue
-                        errorMessages.add(String.format("Deserialization for VisaCheckoutDetails failed with `%s`.", e.getMessage()));
-                        log.log(Level.FINER, "Input data does not match schema 'VisaCheckoutDetails'", e);
+                    if (candidates.contains(VisaCheckoutDetails.class)) {
+                        try {
+                            // validate the JSON object to see if any exception is thrown
+                            VisaCheckoutDetails.validateJsonObject(jsonObject);
+                            actualAdapter = adapterVisaCheckoutDetails;
+                            match++;
+                            log.log(Level.FINER, "Input data matches schema 'VisaCheckoutDetails'");
+                        } catch (Exception e) {
+                            // deserialization failed, continue
+                            errorMessages.add(String.format("Deserialization for VisaCheckoutDetails failed with `%s`.", e.getMessage()));
+                            log.log(Level.FINER, "Input data does not match schema 'VisaCheckoutDetails'", e);
+                        }
                     }
 
                     // deserialize WeChatPayDetails
-                    try {
-                        // validate the JSON object to see if any exception is thrown
-                        WeChatPayDetails.validateJsonObject(jsonObject);
-                        actualAdapter = adapterWeChatPayDetails;
-                        match++;
-                        log.log(Level.FINER, "Input data matches schema 'WeChatPayDetails'");
-                    } catch (Exception e) {
-                        // deserialization failed, continue
-                        errorMessages.add(String.format("Deserialization for WeChatPayDetails failed with `%s`.", e.getMessage()));
-                        log.log(Level.FINER, "Input data does not match schema 'WeChatPayDetails'", e);
+                    if (candidates.contains(WeChatPayDetails.class)) {
+                        try {
+                            // validate the JSON object to see if any exception is thrown
+                            WeChatPayDetails.validateJsonObject(jsonObject);
+                            actualAdapter = adapterWeChatPayDetails;
+                            match++;
+                            log.log(Level.FINER, "Input data matches schema 'WeChatPayDetails'");
+                        } catch (Exception e) {
+                            // deserialization failed, continue
+                            errorMessages.add(String.format("Deserialization for WeChatPayDetails failed with `%s`.", e.getMessage()));
+                            log.log(Level.FINER, "Input data does not match schema 'WeChatPayDetails'", e);
+                        }
                     }
 
                     // deserialize WeChatPayMiniProgramDetails
-                    try {
-                        // validate the JSON object to see if any exception is thrown
-                        WeChatPayMiniProgramDetails.validateJsonObject(jsonObject);
-                        actualAdapter = adapterWeChatPayMiniProgramDetails;
-                        match++;
-                        log.log(Level.FINER, "Input data matches schema 'WeChatPayMiniProgramDetails'");
-                    } catch (Exception e) {
-                        // deserialization failed, continue
-                        errorMessages.add(String.format("Deserialization for WeChatPayMiniProgramDetails failed with `%s`.", e.getMessage()));
-                        log.log(Level.FINER, "Input data does not match schema 'WeChatPayMiniProgramDetails'", e);
+                    if (candidates.contains(WeChatPayMiniProgramDetails.class)) {
+                        try {
+                            // validate the JSON object to see if any exception is thrown
+                            WeChatPayMiniProgramDetails.validateJsonObject(jsonObject);
+                            actualAdapter = adapterWeChatPayMiniProgramDetails;
+                            match++;
+                            log.log(Level.FINER, "Input data matches schema 'WeChatPayMiniProgramDetails'");
+                        } catch (Exception e) {
+                            // deserialization failed, continue
+                            errorMessages.add(String.format("Deserialization for WeChatPayMiniProgramDetails failed with `%s`.", e.getMessage()));
+                            log.log(Level.FINER, "Input data does not match schema 'WeChatPayMiniProgramDetails'", e);
+                        }
                     }
 
                     // deserialize ZipDetails
-                    try {
-                        // validate the JSON object to see if any exception is thrown
-                        ZipDetails.validateJsonObject(jsonObject);
-                        actualAdapter = adapterZipDetails;
-                        match++;
-                        log.log(Level.FINER, "Input data matches schema 'ZipDetails'");
-                    } catch (Exception e) {
-                        // deserialization failed, continue
-                        errorMessages.add(String.format("Deserialization for ZipDetails failed with `%s`.", e.getMessage()));
-                        log.log(Level.FINER, "Input data does not match schema 'ZipDetails'", e);
+                    if (candidates.contains(ZipDetails.class)) {
+                        try {
+                            // validate the JSON object to see if any exception is thrown
+                            ZipDetails.validateJsonObject(jsonObject);
+                            actualAdapter = adapterZipDetails;
+                            match++;
+                            log.log(Level.FINER, "Input data matches schema 'ZipDetails'");
+                        } catch (Exception e) {
+                            // deserialization failed, continue
+                            errorMessages.add(String.format("Deserialization for ZipDetails failed with `%s`.", e.getMessage()));
+                            log.log(Level.FINER, "Input data does not match schema 'ZipDetails'", e);
+                        }
                     }
 
                     if (match == 1) {
@@ -1904,319 +2060,398 @@ public class PaymentDonationRequestPaymentMethod extends AbstractOpenApiSchema {
   */
   public static void validateJsonObject(JsonObject jsonObj) throws IOException {
     // validate oneOf schemas one by one
+    Set<Class<?>> candidates = getCandidates(jsonObj);
     int validCount = 0;
     ArrayList<String> errorMessages = new ArrayList<>();
     // validate the json string with AchDetails
-    try {
-      AchDetails.validateJsonObject(jsonObj);
-      validCount++;
-    } catch (Exception e) {
-      errorMessages.add(String.format("Deserialization for AchDetails failed with `%s`.", e.getMessage()));
-      // continue to the next one
+    if (candidates.contains(AchDetails.class)) {
+      try {
+        AchDetails.validateJsonObject(jsonObj);
+        validCount++;
+      } catch (Exception e) {
+        errorMessages.add(String.format("Deserialization for AchDetails failed with `%s`.", e.getMessage()));
+        // continue to the next one
+      }
     }
     // validate the json string with AfterpayDetails
-    try {
-      AfterpayDetails.validateJsonObject(jsonObj);
-      validCount++;
-    } catch (Exception e) {
-      errorMessages.add(String.format("Deserialization for AfterpayDetails failed with `%s`.", e.getMessage()));
-      // continue to the next one
+    if (candidates.contains(AfterpayDetails.class)) {
+      try {
+        AfterpayDetails.validateJsonObject(jsonObj);
+        validCount++;
+      } catch (Exception e) {
+        errorMessages.add(String.format("Deserialization for AfterpayDetails failed with `%s`.", e.getMessage()));
+        // continue to the next one
+      }
     }
     // validate the json string with AmazonPayDetails
-    try {
-      AmazonPayDetails.validateJsonObject(jsonObj);
-      validCount++;
-    } catch (Exception e) {
-      errorMessages.add(String.format("Deserialization for AmazonPayDetails failed with `%s`.", e.getMessage()));
-      // continue to the next one
+    if (candidates.contains(AmazonPayDetails.class)) {
+      try {
+        AmazonPayDetails.validateJsonObject(jsonObj);
+        validCount++;
+      } catch (Exception e) {
+        errorMessages.add(String.format("Deserialization for AmazonPayDetails failed with `%s`.", e.getMessage()));
+        // continue to the next one
+      }
     }
     // validate the json string with AndroidPayDetails
-    try {
-      AndroidPayDetails.validateJsonObject(jsonObj);
-      validCount++;
-    } catch (Exception e) {
-      errorMessages.add(String.format("Deserialization for AndroidPayDetails failed with `%s`.", e.getMessage()));
-      // continue to the next one
+    if (candidates.contains(AndroidPayDetails.class)) {
+      try {
+        AndroidPayDetails.validateJsonObject(jsonObj);
+        validCount++;
+      } catch (Exception e) {
+        errorMessages.add(String.format("Deserialization for AndroidPayDetails failed with `%s`.", e.getMessage()));
+        // continue to the next one
+      }
     }
     // validate the json string with ApplePayDetails
-    try {
-      ApplePayDetails.validateJsonObject(jsonObj);
-      validCount++;
-    } catch (Exception e) {
-      errorMessages.add(String.format("Deserialization for ApplePayDetails failed with `%s`.", e.getMessage()));
-      // continue to the next one
+    if (candidates.contains(ApplePayDetails.class)) {
+      try {
+        ApplePayDetails.validateJsonObject(jsonObj);
+        validCount++;
+      } catch (Exception e) {
+        errorMessages.add(String.format("Deserialization for ApplePayDetails failed with `%s`.", e.getMessage()));
+        // continue to the next one
+      }
     }
     // validate the json string with BacsDirectDebitDetails
-    try {
-      BacsDirectDebitDetails.validateJsonObject(jsonObj);
-      validCount++;
-    } catch (Exception e) {
-      errorMessages.add(String.format("Deserialization for BacsDirectDebitDetails failed with `%s`.", e.getMessage()));
-      // continue to the next one
+    if (candidates.contains(BacsDirectDebitDetails.class)) {
+      try {
+        BacsDirectDebitDetails.validateJsonObject(jsonObj);
+        validCount++;
+      } catch (Exception e) {
+        errorMessages.add(String.format("Deserialization for BacsDirectDebitDetails failed with `%s`.", e.getMessage()));
+        // continue to the next one
+      }
     }
     // validate the json string with BillDeskDetails
-    try {
-      BillDeskDetails.validateJsonObject(jsonObj);
-      validCount++;
-    } catch (Exception e) {
-      errorMessages.add(String.format("Deserialization for BillDeskDetails failed with `%s`.", e.getMessage()));
-      // continue to the next one
+    if (candidates.contains(BillDeskDetails.class)) {
+      try {
+        BillDeskDetails.validateJsonObject(jsonObj);
+        validCount++;
+      } catch (Exception e) {
+        errorMessages.add(String.format("Deserialization for BillDeskDetails failed with `%s`.", e.getMessage()));
+        // continue to the next one
+      }
     }
     // validate the json string with BlikDetails
-    try {
-      BlikDetails.validateJsonObject(jsonObj);
-      validCount++;
-    } catch (Exception e) {
-      errorMessages.add(String.format("Deserialization for BlikDetails failed with `%s`.", e.getMessage()));
-      // continue to the next one
+    if (candidates.contains(BlikDetails.class)) {
+      try {
+        BlikDetails.validateJsonObject(jsonObj);
+        validCount++;
+      } catch (Exception e) {
+        errorMessages.add(String.format("Deserialization for BlikDetails failed with `%s`.", e.getMessage()));
+        // continue to the next one
+      }
     }
     // validate the json string with CardDetails
-    try {
-      CardDetails.validateJsonObject(jsonObj);
-      validCount++;
-    } catch (Exception e) {
-      errorMessages.add(String.format("Deserialization for CardDetails failed with `%s`.", e.getMessage()));
-      // continue to the next one
+    if (candidates.contains(CardDetails.class)) {
+      try {
+        CardDetails.validateJsonObject(jsonObj);
+        validCount++;
+      } catch (Exception e) {
+        errorMessages.add(String.format("Deserialization for CardDetails failed with `%s`.", e.getMessage()));
+        // continue to the next one
+      }
     }
     // validate the json string with CellulantDetails
-    try {
-      CellulantDetails.validateJsonObject(jsonObj);
-      validCount++;
-    } catch (Exception e) {
-      errorMessages.add(String.format("Deserialization for CellulantDetails failed with `%s`.", e.getMessage()));
-      // continue to the next one
+    if (candidates.contains(CellulantDetails.class)) {
+      try {
+        CellulantDetails.validateJsonObject(jsonObj);
+        validCount++;
+      } catch (Exception e) {
+        errorMessages.add(String.format("Deserialization for CellulantDetails failed with `%s`.", e.getMessage()));
+        // continue to the next one
+      }
     }
     // validate the json string with DokuDetails
-    try {
-      DokuDetails.validateJsonObject(jsonObj);
-      validCount++;
-    } catch (Exception e) {
-      errorMessages.add(String.format("Deserialization for DokuDetails failed with `%s`.", e.getMessage()));
-      // continue to the next one
+    if (candidates.contains(DokuDetails.class)) {
+      try {
+        DokuDetails.validateJsonObject(jsonObj);
+        validCount++;
+      } catch (Exception e) {
+        errorMessages.add(String.format("Deserialization for DokuDetails failed with `%s`.", e.getMessage()));
+        // continue to the next one
+      }
     }
     // validate the json string with DotpayDetails
-    try {
-      DotpayDetails.validateJsonObject(jsonObj);
-      validCount++;
-    } catch (Exception e) {
-      errorMessages.add(String.format("Deserialization for DotpayDetails failed with `%s`.", e.getMessage()));
-      // continue to the next one
+    if (candidates.contains(DotpayDetails.class)) {
+      try {
+        DotpayDetails.validateJsonObject(jsonObj);
+        validCount++;
+      } catch (Exception e) {
+        errorMessages.add(String.format("Deserialization for DotpayDetails failed with `%s`.", e.getMessage()));
+        // continue to the next one
+      }
     }
     // validate the json string with DragonpayDetails
-    try {
-      DragonpayDetails.validateJsonObject(jsonObj);
-      validCount++;
-    } catch (Exception e) {
-      errorMessages.add(String.format("Deserialization for DragonpayDetails failed with `%s`.", e.getMessage()));
-      // continue to the next one
+    if (candidates.contains(DragonpayDetails.class)) {
+      try {
+        DragonpayDetails.validateJsonObject(jsonObj);
+        validCount++;
+      } catch (Exception e) {
+        errorMessages.add(String.format("Deserialization for DragonpayDetails failed with `%s`.", e.getMessage()));
+        // continue to the next one
+      }
     }
     // validate the json string with EcontextVoucherDetails
-    try {
-      EcontextVoucherDetails.validateJsonObject(jsonObj);
-      validCount++;
-    } catch (Exception e) {
-      errorMessages.add(String.format("Deserialization for EcontextVoucherDetails failed with `%s`.", e.getMessage()));
-      // continue to the next one
+    if (candidates.contains(EcontextVoucherDetails.class)) {
+      try {
+        EcontextVoucherDetails.validateJsonObject(jsonObj);
+        validCount++;
+      } catch (Exception e) {
+        errorMessages.add(String.format("Deserialization for EcontextVoucherDetails failed with `%s`.", e.getMessage()));
+        // continue to the next one
+      }
     }
     // validate the json string with GenericIssuerPaymentMethodDetails
-    try {
-      GenericIssuerPaymentMethodDetails.validateJsonObject(jsonObj);
-      validCount++;
-    } catch (Exception e) {
-      errorMessages.add(String.format("Deserialization for GenericIssuerPaymentMethodDetails failed with `%s`.", e.getMessage()));
-      // continue to the next one
+    if (candidates.contains(GenericIssuerPaymentMethodDetails.class)) {
+      try {
+        GenericIssuerPaymentMethodDetails.validateJsonObject(jsonObj);
+        validCount++;
+      } catch (Exception e) {
+        errorMessages.add(String.format("Deserialization for GenericIssuerPaymentMethodDetails failed with `%s`.", e.getMessage()));
+        // continue to the next one
+      }
     }
     // validate the json string with GiropayDetails
-    try {
-      GiropayDetails.validateJsonObject(jsonObj);
-      validCount++;
-    } catch (Exception e) {
-      errorMessages.add(String.format("Deserialization for GiropayDetails failed with `%s`.", e.getMessage()));
-      // continue to the next one
+    if (candidates.contains(GiropayDetails.class)) {
+      try {
+        GiropayDetails.validateJsonObject(jsonObj);
+        validCount++;
+      } catch (Exception e) {
+        errorMessages.add(String.format("Deserialization for GiropayDetails failed with `%s`.", e.getMessage()));
+        // continue to the next one
+      }
     }
     // validate the json string with GooglePayDetails
-    try {
-      GooglePayDetails.validateJsonObject(jsonObj);
-      validCount++;
-    } catch (Exception e) {
-      errorMessages.add(String.format("Deserialization for GooglePayDetails failed with `%s`.", e.getMessage()));
-      // continue to the next one
+    if (candidates.contains(GooglePayDetails.class)) {
+      try {
+        GooglePayDetails.validateJsonObject(jsonObj);
+        validCount++;
+      } catch (Exception e) {
+        errorMessages.add(String.format("Deserialization for GooglePayDetails failed with `%s`.", e.getMessage()));
+        // continue to the next one
+      }
     }
     // validate the json string with IdealDetails
-    try {
-      IdealDetails.validateJsonObject(jsonObj);
-      validCount++;
-    } catch (Exception e) {
-      errorMessages.add(String.format("Deserialization for IdealDetails failed with `%s`.", e.getMessage()));
-      // continue to the next one
+    if (candidates.contains(IdealDetails.class)) {
+      try {
+        IdealDetails.validateJsonObject(jsonObj);
+        validCount++;
+      } catch (Exception e) {
+        errorMessages.add(String.format("Deserialization for IdealDetails failed with `%s`.", e.getMessage()));
+        // continue to the next one
+      }
     }
     // validate the json string with KlarnaDetails
-    try {
-      KlarnaDetails.validateJsonObject(jsonObj);
-      validCount++;
-    } catch (Exception e) {
-      errorMessages.add(String.format("Deserialization for KlarnaDetails failed with `%s`.", e.getMessage()));
-      // continue to the next one
+    if (candidates.contains(KlarnaDetails.class)) {
+      try {
+        KlarnaDetails.validateJsonObject(jsonObj);
+        validCount++;
+      } catch (Exception e) {
+        errorMessages.add(String.format("Deserialization for KlarnaDetails failed with `%s`.", e.getMessage()));
+        // continue to the next one
+      }
     }
     // validate the json string with MasterpassDetails
-    try {
-      MasterpassDetails.validateJsonObject(jsonObj);
-      validCount++;
-    } catch (Exception e) {
-      errorMessages.add(String.format("Deserialization for MasterpassDetails failed with `%s`.", e.getMessage()));
-      // continue to the next one
+    if (candidates.contains(MasterpassDetails.class)) {
+      try {
+        MasterpassDetails.validateJsonObject(jsonObj);
+        validCount++;
+      } catch (Exception e) {
+        errorMessages.add(String.format("Deserialization for MasterpassDetails failed with `%s`.", e.getMessage()));
+        // continue to the next one
+      }
     }
     // validate the json string with MbwayDetails
-    try {
-      MbwayDetails.validateJsonObject(jsonObj);
-      validCount++;
-    } catch (Exception e) {
-      errorMessages.add(String.format("Deserialization for MbwayDetails failed with `%s`.", e.getMessage()));
-      // continue to the next one
+    if (candidates.contains(MbwayDetails.class)) {
+      try {
+        MbwayDetails.validateJsonObject(jsonObj);
+        validCount++;
+      } catch (Exception e) {
+        errorMessages.add(String.format("Deserialization for MbwayDetails failed with `%s`.", e.getMessage()));
+        // continue to the next one
+      }
     }
     // validate the json string with MobilePayDetails
-    try {
-      MobilePayDetails.validateJsonObject(jsonObj);
-      validCount++;
-    } catch (Exception e) {
-      errorMessages.add(String.format("Deserialization for MobilePayDetails failed with `%s`.", e.getMessage()));
-      // continue to the next one
+    if (candidates.contains(MobilePayDetails.class)) {
+      try {
+        MobilePayDetails.validateJsonObject(jsonObj);
+        validCount++;
+      } catch (Exception e) {
+        errorMessages.add(String.format("Deserialization for MobilePayDetails failed with `%s`.", e.getMessage()));
+        // continue to the next one
+      }
     }
     // validate the json string with MolPayDetails
-    try {
-      MolPayDetails.validateJsonObject(jsonObj);
-      validCount++;
-    } catch (Exception e) {
-      errorMessages.add(String.format("Deserialization for MolPayDetails failed with `%s`.", e.getMessage()));
-      // continue to the next one
+    if (candidates.contains(MolPayDetails.class)) {
+      try {
+        MolPayDetails.validateJsonObject(jsonObj);
+        validCount++;
+      } catch (Exception e) {
+        errorMessages.add(String.format("Deserialization for MolPayDetails failed with `%s`.", e.getMessage()));
+        // continue to the next one
+      }
     }
     // validate the json string with OpenInvoiceDetails
-    try {
-      OpenInvoiceDetails.validateJsonObject(jsonObj);
-      validCount++;
-    } catch (Exception e) {
-      errorMessages.add(String.format("Deserialization for OpenInvoiceDetails failed with `%s`.", e.getMessage()));
-      // continue to the next one
+    if (candidates.contains(OpenInvoiceDetails.class)) {
+      try {
+        OpenInvoiceDetails.validateJsonObject(jsonObj);
+        validCount++;
+      } catch (Exception e) {
+        errorMessages.add(String.format("Deserialization for OpenInvoiceDetails failed with `%s`.", e.getMessage()));
+        // continue to the next one
+      }
     }
     // validate the json string with PayPalDetails
-    try {
-      PayPalDetails.validateJsonObject(jsonObj);
-      validCount++;
-    } catch (Exception e) {
-      errorMessages.add(String.format("Deserialization for PayPalDetails failed with `%s`.", e.getMessage()));
-      // continue to the next one
+    if (candidates.contains(PayPalDetails.class)) {
+      try {
+        PayPalDetails.validateJsonObject(jsonObj);
+        validCount++;
+      } catch (Exception e) {
+        errorMessages.add(String.format("Deserialization for PayPalDetails failed with `%s`.", e.getMessage()));
+        // continue to the next one
+      }
     }
     // validate the json string with PayUUpiDetails
-    try {
-      PayUUpiDetails.validateJsonObject(jsonObj);
-      validCount++;
-    } catch (Exception e) {
-      errorMessages.add(String.format("Deserialization for PayUUpiDetails failed with `%s`.", e.getMessage()));
-      // continue to the next one
+    if (candidates.contains(PayUUpiDetails.class)) {
+      try {
+        PayUUpiDetails.validateJsonObject(jsonObj);
+        validCount++;
+      } catch (Exception e) {
+        errorMessages.add(String.format("Deserialization for PayUUpiDetails failed with `%s`.", e.getMessage()));
+        // continue to the next one
+      }
     }
     // validate the json string with PayWithGoogleDetails
-    try {
-      PayWithGoogleDetails.validateJsonObject(jsonObj);
-      validCount++;
-    } catch (Exception e) {
-      errorMessages.add(String.format("Deserialization for PayWithGoogleDetails failed with `%s`.", e.getMessage()));
-      // continue to the next one
+    if (candidates.contains(PayWithGoogleDetails.class)) {
+      try {
+        PayWithGoogleDetails.validateJsonObject(jsonObj);
+        validCount++;
+      } catch (Exception e) {
+        errorMessages.add(String.format("Deserialization for PayWithGoogleDetails failed with `%s`.", e.getMessage()));
+        // continue to the next one
+      }
     }
     // validate the json string with PaymentDetails
-    try {
-      PaymentDetails.validateJsonObject(jsonObj);
-      validCount++;
-    } catch (Exception e) {
-      errorMessages.add(String.format("Deserialization for PaymentDetails failed with `%s`.", e.getMessage()));
-      // continue to the next one
+    if (candidates.contains(PaymentDetails.class)) {
+      try {
+        PaymentDetails.validateJsonObject(jsonObj);
+        validCount++;
+      } catch (Exception e) {
+        errorMessages.add(String.format("Deserialization for PaymentDetails failed with `%s`.", e.getMessage()));
+        // continue to the next one
+      }
     }
     // validate the json string with RatepayDetails
-    try {
-      RatepayDetails.validateJsonObject(jsonObj);
-      validCount++;
-    } catch (Exception e) {
-      errorMessages.add(String.format("Deserialization for RatepayDetails failed with `%s`.", e.getMessage()));
-      // continue to the next one
+    if (candidates.contains(RatepayDetails.class)) {
+      try {
+        RatepayDetails.validateJsonObject(jsonObj);
+        validCount++;
+      } catch (Exception e) {
+        errorMessages.add(String.format("Deserialization for RatepayDetails failed with `%s`.", e.getMessage()));
+        // continue to the next one
+      }
     }
     // validate the json string with SamsungPayDetails
-    try {
-      SamsungPayDetails.validateJsonObject(jsonObj);
-      validCount++;
-    } catch (Exception e) {
-      errorMessages.add(String.format("Deserialization for SamsungPayDetails failed with `%s`.", e.getMessage()));
-      // continue to the next one
+    if (candidates.contains(SamsungPayDetails.class)) {
+      try {
+        SamsungPayDetails.validateJsonObject(jsonObj);
+        validCount++;
+      } catch (Exception e) {
+        errorMessages.add(String.format("Deserialization for SamsungPayDetails failed with `%s`.", e.getMessage()));
+        // continue to the next one
+      }
     }
     // validate the json string with SepaDirectDebitDetails
-    try {
-      SepaDirectDebitDetails.validateJsonObject(jsonObj);
-      validCount++;
-    } catch (Exception e) {
-      errorMessages.add(String.format("Deserialization for SepaDirectDebitDetails failed with `%s`.", e.getMessage()));
-      // continue to the next one
+    if (candidates.contains(SepaDirectDebitDetails.class)) {
+      try {
+        SepaDirectDebitDetails.validateJsonObject(jsonObj);
+        validCount++;
+      } catch (Exception e) {
+        errorMessages.add(String.format("Deserialization for SepaDirectDebitDetails failed with `%s`.", e.getMessage()));
+        // continue to the next one
+      }
     }
     // validate the json string with StoredPaymentMethodDetails
-    try {
-      StoredPaymentMethodDetails.validateJsonObject(jsonObj);
-      validCount++;
-    } catch (Exception e) {
-      errorMessages.add(String.format("Deserialization for StoredPaymentMethodDetails failed with `%s`.", e.getMessage()));
-      // continue to the next one
+    if (candidates.contains(StoredPaymentMethodDetails.class)) {
+      try {
+        StoredPaymentMethodDetails.validateJsonObject(jsonObj);
+        validCount++;
+      } catch (Exception e) {
+        errorMessages.add(String.format("Deserialization for StoredPaymentMethodDetails failed with `%s`.", e.getMessage()));
+        // continue to the next one
+      }
     }
     // validate the json string with UpiCollectDetails
-    try {
-      UpiCollectDetails.validateJsonObject(jsonObj);
-      validCount++;
-    } catch (Exception e) {
-      errorMessages.add(String.format("Deserialization for UpiCollectDetails failed with `%s`.", e.getMessage()));
-      // continue to the next one
+    if (candidates.contains(UpiCollectDetails.class)) {
+      try {
+        UpiCollectDetails.validateJsonObject(jsonObj);
+        validCount++;
+      } catch (Exception e) {
+        errorMessages.add(String.format("Deserialization for UpiCollectDetails failed with `%s`.", e.getMessage()));
+        // continue to the next one
+      }
     }
     // validate the json string with UpiIntentDetails
-    try {
-      UpiIntentDetails.validateJsonObject(jsonObj);
-      validCount++;
-    } catch (Exception e) {
-      errorMessages.add(String.format("Deserialization for UpiIntentDetails failed with `%s`.", e.getMessage()));
-      // continue to the next one
+    if (candidates.contains(UpiIntentDetails.class)) {
+      try {
+        UpiIntentDetails.validateJsonObject(jsonObj);
+        validCount++;
+      } catch (Exception e) {
+        errorMessages.add(String.format("Deserialization for UpiIntentDetails failed with `%s`.", e.getMessage()));
+        // continue to the next one
+      }
     }
     // validate the json string with VippsDetails
-    try {
-      VippsDetails.validateJsonObject(jsonObj);
-      validCount++;
-    } catch (Exception e) {
-      errorMessages.add(String.format("Deserialization for VippsDetails failed with `%s`.", e.getMessage()));
-      // continue to the next one
+    if (candidates.contains(VippsDetails.class)) {
+      try {
+        VippsDetails.validateJsonObject(jsonObj);
+        validCount++;
+      } catch (Exception e) {
+        errorMessages.add(String.format("Deserialization for VippsDetails failed with `%s`.", e.getMessage()));
+        // continue to the next one
+      }
     }
     // validate the json string with VisaCheckoutDetails
-    try {
-      VisaCheckoutDetails.validateJsonObject(jsonObj);
-      validCount++;
-    } catch (Exception e) {
-      errorMessages.add(String.format("Deserialization for VisaCheckoutDetails failed with `%s`.", e.getMessage()));
-      // continue to the next one
+    if (candidates.contains(VisaCheckoutDetails.class)) {
+      try {
+        VisaCheckoutDetails.validateJsonObject(jsonObj);
+        validCount++;
+      } catch (Exception e) {
+        errorMessages.add(String.format("Deserialization for VisaCheckoutDetails failed with `%s`.", e.getMessage()));
+        // continue to the next one
+      }
     }
     // validate the json string with WeChatPayDetails
-    try {
-      WeChatPayDetails.validateJsonObject(jsonObj);
-      validCount++;
-    } catch (Exception e) {
-      errorMessages.add(String.format("Deserialization for WeChatPayDetails failed with `%s`.", e.getMessage()));
-      // continue to the next one
+    if (candidates.contains(WeChatPayDetails.class)) {
+      try {
+        WeChatPayDetails.validateJsonObject(jsonObj);
+        validCount++;
+      } catch (Exception e) {
+        errorMessages.add(String.format("Deserialization for WeChatPayDetails failed with `%s`.", e.getMessage()));
+        // continue to the next one
+      }
     }
     // validate the json string with WeChatPayMiniProgramDetails
-    try {
-      WeChatPayMiniProgramDetails.validateJsonObject(jsonObj);
-      validCount++;
-    } catch (Exception e) {
-      errorMessages.add(String.format("Deserialization for WeChatPayMiniProgramDetails failed with `%s`.", e.getMessage()));
-      // continue to the next one
+    if (candidates.contains(WeChatPayMiniProgramDetails.class)) {
+      try {
+        WeChatPayMiniProgramDetails.validateJsonObject(jsonObj);
+        validCount++;
+      } catch (Exception e) {
+        errorMessages.add(String.format("Deserialization for WeChatPayMiniProgramDetails failed with `%s`.", e.getMessage()));
+        // continue to the next one
+      }
     }
     // validate the json string with ZipDetails
-    try {
-      ZipDetails.validateJsonObject(jsonObj);
-      validCount++;
-    } catch (Exception e) {
-      errorMessages.add(String.format("Deserialization for ZipDetails failed with `%s`.", e.getMessage()));
-      // continue to the next one
+    if (candidates.contains(ZipDetails.class)) {
+      try {
+        ZipDetails.validateJsonObject(jsonObj);
+        validCount++;
+      } catch (Exception e) {
+        errorMessages.add(String.format("Deserialization for ZipDetails failed with `%s`.", e.getMessage()));
+        // continue to the next one
+      }
     }
     if (validCount != 1) {
       throw new IOException(String.format("The JSON string is invalid for PaymentDonationRequestPaymentMethod with oneOf schemas: AchDetails, AfterpayDetails, AmazonPayDetails, AndroidPayDetails, ApplePayDetails, BacsDirectDebitDetails, BillDeskDetails, BlikDetails, CardDetails, CellulantDetails, DokuDetails, DotpayDetails, DragonpayDetails, EcontextVoucherDetails, GenericIssuerPaymentMethodDetails, GiropayDetails, GooglePayDetails, IdealDetails, KlarnaDetails, MasterpassDetails, MbwayDetails, MobilePayDetails, MolPayDetails, OpenInvoiceDetails, PayPalDetails, PayUUpiDetails, PayWithGoogleDetails, PaymentDetails, RatepayDetails, SamsungPayDetails, SepaDirectDebitDetails, StoredPaymentMethodDetails, UpiCollectDetails, UpiIntentDetails, VippsDetails, VisaCheckoutDetails, WeChatPayDetails, WeChatPayMiniProgramDetails, ZipDetails. %d class(es) match the result, expected 1. Detailed failure message for oneOf schemas: %s. JSON: %s", validCount, errorMessages, jsonObj.toString()));
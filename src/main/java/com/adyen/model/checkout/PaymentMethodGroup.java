@@ -232,22 +232,46 @@ public class PaymentMethodGroup {
        if (!PaymentMethodGroup.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'PaymentMethodGroup' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<PaymentMethodGroup> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(PaymentMethodGroup.class));
+       final TypeAdapter<String> nameAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> paymentMethodDataAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> typeAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<PaymentMethodGroup>() {
            @Override
            public void write(JsonWriter out, PaymentMethodGroup value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("name");
+             nameAdapter.write(out, value.name);
+             out.name("paymentMethodData");
+             paymentMethodDataAdapter.write(out, value.paymentMethodData);
+             out.name("type");
+             typeAdapter.write(out, value.type);
+             out.endObject();
            }
 
            @Override
            public PaymentMethodGroup read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             PaymentMethodGroup instance = new PaymentMethodGroup();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "name":
+                   instance.name = nameAdapter.read(in);
+                   break;
+                 case "paymentMethodData":
+                   instance.paymentMethodData = paymentMethodDataAdapter.read(in);
+                   break;
+                 case "type":
+                   instance.type = typeAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `PaymentMethodGroup` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
@@ -237,22 +237,56 @@ public class PaymentMethodIssuer {
        if (!PaymentMethodIssuer.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'PaymentMethodIssuer' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<PaymentMethodIssuer> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(PaymentMethodIssuer.class));
+       final TypeAdapter<Boolean> disabledAdapter = gson.getAdapter(Boolean.class);
+       final TypeAdapter<String> idAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> nameAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<PaymentMethodIssuer>() {
            @Override
            public void write(JsonWriter out, PaymentMethodIssuer value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("disabled");
+             disabledAdapter.write(out, value.disabled);
+             out.name("id");
+             idAdapter.write(out, value.id);
+             out.name("name");
+             nameAdapter.write(out, value.name);
+             out.endObject();
            }
 
            @Override
            public PaymentMethodIssuer read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             PaymentMethodIssuer instance = new PaymentMethodIssuer();
+             boolean idFound = false;
+             boolean nameFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "disabled":
+                   instance.disabled = disabledAdapter.read(in);
+                   break;
+                 case "id":
+                   instance.id = idAdapter.read(in);
+                   idFound = true;
+                   break;
+                 case "name":
+                   instance.name = nameAdapter.read(in);
+                   nameFound = true;
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `PaymentMethodIssuer` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!idFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "id", in.getPath()));
+             }
+             if (!nameFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "name", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
@@ -96,13 +96,20 @@ public class PaymentMethodsRequest {
       return String.valueOf(value);
     }
 
-    public static ChannelEnum fromValue(String value) {
+    private static final Map<String, ChannelEnum> BY_VALUE = new HashMap<String, ChannelEnum>();
+
+    static {
       for (ChannelEnum b : ChannelEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static ChannelEnum fromValue(String value) {
+      ChannelEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<ChannelEnum> {
@@ -620,22 +627,105 @@ public class PaymentMethodsRequest {
        if (!PaymentMethodsRequest.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'PaymentMethodsRequest' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<PaymentMethodsRequest> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(PaymentMethodsRequest.class));
+       final TypeAdapter<Map<String, String>> additionalDataAdapter = gson.getAdapter(new TypeToken<Map<String, String>>() {});
+       final TypeAdapter<List<String>> allowedPaymentMethodsAdapter = gson.getAdapter(new TypeToken<List<String>>() {});
+       final TypeAdapter<Amount> amountAdapter = gson.getAdapter(Amount.class);
+       final TypeAdapter<List<String>> blockedPaymentMethodsAdapter = gson.getAdapter(new TypeToken<List<String>>() {});
+       final TypeAdapter<ChannelEnum> channelAdapter = gson.getAdapter(ChannelEnum.class);
+       final TypeAdapter<String> countryCodeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> merchantAccountAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<CheckoutOrder> orderAdapter = gson.getAdapter(CheckoutOrder.class);
+       final TypeAdapter<String> shopperLocaleAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> shopperReferenceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<Boolean> splitCardFundingSourcesAdapter = gson.getAdapter(Boolean.class);
+       final TypeAdapter<String> storeAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<PaymentMethodsRequest>() {
            @Override
            public void write(JsonWriter out, PaymentMethodsRequest value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("additionalData");
+             additionalDataAdapter.write(out, value.additionalData);
+             out.name("allowedPaymentMethods");
+             allowedPaymentMethodsAdapter.write(out, value.allowedPaymentMethods);
+             out.name("amount");
+             amountAdapter.write(out, value.amount);
+             out.name("blockedPaymentMethods");
+             blockedPaymentMethodsAdapter.write(out, value.blockedPaymentMethods);
+             out.name("channel");
+             channelAdapter.write(out, value.channel);
+             out.name("countryCode");
+             countryCodeAdapter.write(out, value.countryCode);
+             out.name("merchantAccount");
+             merchantAccountAdapter.write(out, value.merchantAccount);
+             out.name("order");
+             orderAdapter.write(out, value.order);
+             out.name("shopperLocale");
+             shopperLocaleAdapter.write(out, value.shopperLocale);
+             out.name("shopperReference");
+             shopperReferenceAdapter.write(out, value.shopperReference);
+             out.name("splitCardFundingSources");
+             splitCardFundingSourcesAdapter.write(out, value.splitCardFundingSources);
+             out.name("store");
+             storeAdapter.write(out, value.store);
+             out.endObject();
            }
 
            @Override
            public PaymentMethodsRequest read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             PaymentMethodsRequest instance = new PaymentMethodsRequest();
+             boolean merchantAccountFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "additionalData":
+                   instance.additionalData = additionalDataAdapter.read(in);
+                   break;
+                 case "allowedPaymentMethods":
+                   instance.allowedPaymentMethods = allowedPaymentMethodsAdapter.read(in);
+                   break;
+                 case "amount":
+                   instance.amount = amountAdapter.read(in);
+                   break;
+                 case "blockedPaymentMethods":
+                   instance.blockedPaymentMethods = blockedPaymentMethodsAdapter.read(in);
+                   break;
+                 case "channel":
+                   instance.channel = channelAdapter.read(in);
+                   break;
+                 case "countryCode":
+                   instance.countryCode = countryCodeAdapter.read(in);
+                   break;
+                 case "merchantAccount":
+                   instance.merchantAccount = merchantAccountAdapter.read(in);
+                   merchantAccountFound = true;
+                   break;
+                 case "order":
+                   instance.order = orderAdapter.read(in);
+                   break;
+                 case "shopperLocale":
+                   instance.shopperLocale = shopperLocaleAdapter.read(in);
+                   break;
+                 case "shopperReference":
+                   instance.shopperReference = shopperReferenceAdapter.read(in);
+                   break;
+                 case "splitCardFundingSources":
+                   instance.splitCardFundingSources = splitCardFundingSourcesAdapter.read(in);
+                   break;
+                 case "store":
+                   instance.store = storeAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `PaymentMethodsRequest` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!merchantAccountFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "merchantAccount", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
@@ -234,22 +234,40 @@ public class PaymentMethodsResponse {
        if (!PaymentMethodsResponse.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'PaymentMethodsResponse' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<PaymentMethodsResponse> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(PaymentMethodsResponse.class));
+       final TypeAdapter<List<PaymentMethod>> paymentMethodsAdapter = gson.getAdapter(new TypeToken<List<PaymentMethod>>() {});
+       final TypeAdapter<List<StoredPaymentMethod>> storedPaymentMethodsAdapter = gson.getAdapter(new TypeToken<List<StoredPaymentMethod>>() {});
 
        return (TypeAdapter<T>) new TypeAdapter<PaymentMethodsResponse>() {
            @Override
            public void write(JsonWriter out, PaymentMethodsResponse value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("paymentMethods");
+             paymentMethodsAdapter.write(out, value.paymentMethods);
+             out.name("storedPaymentMethods");
+             storedPaymentMethodsAdapter.write(out, value.storedPaymentMethods);
+             out.endObject();
            }
 
            @Override
            public PaymentMethodsResponse read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             PaymentMethodsResponse instance = new PaymentMethodsResponse();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "paymentMethods":
+                   instance.paymentMethods = paymentMethodsAdapter.read(in);
+                   break;
+                 case "storedPaymentMethods":
+                   instance.storedPaymentMethods = storedPaymentMethodsAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `PaymentMethodsResponse` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
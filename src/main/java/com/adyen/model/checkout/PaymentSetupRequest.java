@@ -119,13 +119,20 @@ public class PaymentSetupRequest {
       return String.valueOf(value);
     }
 
-    public static ChannelEnum fromValue(String value) {
+    private static final Map<String, ChannelEnum> BY_VALUE = new HashMap<String, ChannelEnum>();
+
+    static {
       for (ChannelEnum b : ChannelEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    }
+
+    public static ChannelEnum fromValue(String value) {
+      ChannelEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      }
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<ChannelEnum> {
@@ -218,13 +225,20 @@ public class PaymentSetupRequest {
       return String.valueOf(value);
     }
 
-    public static EntityTypeEnum fromValue(String value) {
+    private static final Map<String, EntityTypeEnum> BY_VALUE = new HashMap<String, EntityTypeEnum>();
+
+    static {
       for (EntityTypeEnum b : EntityTypeEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    }
+
+    public static EntityTypeEnum fromValue(String value) {
+      EntityTypeEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      }
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<EntityTypeEnum> {
@@ -349,13 +363,20 @@ public class PaymentSetupRequest {
       return String.valueOf(value);
     }
 
-    public static ShopperInteractionEnum fromValue(String value) {
+    private static final Map<String, ShopperInteractionEnum> BY_VALUE = new HashMap<String, ShopperInteractionEnum>();
+
+    static {
       for (ShopperInteractionEnum b : ShopperInteractionEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static ShopperInteractionEnum fromValue(String value) {
+      ShopperInteractionEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<ShopperInteractionEnum> {
@@ -2135,22 +2156,371 @@ public class PaymentSetupRequest {
        if (!PaymentSetupRequest.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'PaymentSetupRequest' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<PaymentSetupRequest> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(PaymentSetupRequest.class));
+       final TypeAdapter<Map<String, String>> additionalDataAdapter = gson.getAdapter(new TypeToken<Map<String, String>>() {});
+       final TypeAdapter<List<String>> allowedPaymentMethodsAdapter = gson.getAdapter(new TypeToken<List<String>>() {});
+       final TypeAdapter<Amount> amountAdapter = gson.getAdapter(Amount.class);
+       final TypeAdapter<ApplicationInfo> applicationInfoAdapter = gson.getAdapter(ApplicationInfo.class);
+       final TypeAdapter<Address> billingAddressAdapter = gson.getAdapter(Address.class);
+       final TypeAdapter<List<String>> blockedPaymentMethodsAdapter = gson.getAdapter(new TypeToken<List<String>>() {});
+       final TypeAdapter<Integer> captureDelayHoursAdapter = gson.getAdapter(Integer.class);
+       final TypeAdapter<ChannelEnum> channelAdapter = gson.getAdapter(ChannelEnum.class);
+       final TypeAdapter<String> checkoutAttemptIdAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<Company> companyAdapter = gson.getAdapter(Company.class);
+       final TypeAdapter<ModelConfiguration> _configurationAdapter = gson.getAdapter(ModelConfiguration.class);
+       final TypeAdapter<String> conversionIdAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> countryCodeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<Date> dateOfBirthAdapter = gson.getAdapter(Date.class);
+       final TypeAdapter<ForexQuote> dccQuoteAdapter = gson.getAdapter(ForexQuote.class);
+       final TypeAdapter<Address> deliveryAddressAdapter = gson.getAdapter(Address.class);
+       final TypeAdapter<Date> deliveryDateAdapter = gson.getAdapter(Date.class);
+       final TypeAdapter<Boolean> enableOneClickAdapter = gson.getAdapter(Boolean.class);
+       final TypeAdapter<Boolean> enablePayOutAdapter = gson.getAdapter(Boolean.class);
+       final TypeAdapter<Boolean> enableRecurringAdapter = gson.getAdapter(Boolean.class);
+       final TypeAdapter<EntityTypeEnum> entityTypeAdapter = gson.getAdapter(EntityTypeEnum.class);
+       final TypeAdapter<Integer> fraudOffsetAdapter = gson.getAdapter(Integer.class);
+       final TypeAdapter<Installments> installmentsAdapter = gson.getAdapter(Installments.class);
+       final TypeAdapter<List<LineItem>> lineItemsAdapter = gson.getAdapter(new TypeToken<List<LineItem>>() {});
+       final TypeAdapter<Mandate> mandateAdapter = gson.getAdapter(Mandate.class);
+       final TypeAdapter<String> mccAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> merchantAccountAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> merchantOrderReferenceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<Map<String, String>> metadataAdapter = gson.getAdapter(new TypeToken<Map<String, String>>() {});
+       final TypeAdapter<String> orderReferenceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> originAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> recurringExpiryAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> recurringFrequencyAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> referenceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> returnUrlAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<RiskData> riskDataAdapter = gson.getAdapter(RiskData.class);
+       final TypeAdapter<String> sdkVersionAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> sessionValidityAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> shopperEmailAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> shopperIPAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<ShopperInteractionEnum> shopperInteractionAdapter = gson.getAdapter(ShopperInteractionEnum.class);
+       final TypeAdapter<String> shopperLocaleAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<Name> shopperNameAdapter = gson.getAdapter(Name.class);
+       final TypeAdapter<String> shopperReferenceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> shopperStatementAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> socialSecurityNumberAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<List<Split>> splitsAdapter = gson.getAdapter(new TypeToken<List<Split>>() {});
+       final TypeAdapter<String> storeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<Boolean> storePaymentMethodAdapter = gson.getAdapter(Boolean.class);
+       final TypeAdapter<String> telephoneNumberAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<Boolean> threeDSAuthenticationOnlyAdapter = gson.getAdapter(Boolean.class);
+       final TypeAdapter<String> tokenAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<Boolean> trustedShopperAdapter = gson.getAdapter(Boolean.class);
 
        return (TypeAdapter<T>) new TypeAdapter<PaymentSetupRequest>() {
            @Override
            public void write(JsonWriter out, PaymentSetupRequest value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("additionalData");
+             additionalDataAdapter.write(out, value.additionalData);
+             out.name("allowedPaymentMethods");
+             allowedPaymentMethodsAdapter.write(out, value.allowedPaymentMethods);
+             out.name("amount");
+             amountAdapter.write(out, value.amount);
+             out.name("applicationInfo");
+             applicationInfoAdapter.write(out, value.applicationInfo);
+             out.name("billingAddress");
+             billingAddressAdapter.write(out, value.billingAddress);
+             out.name("blockedPaymentMethods");
+             blockedPaymentMethodsAdapter.write(out, value.blockedPaymentMethods);
+             out.name("captureDelayHours");
+             captureDelayHoursAdapter.write(out, value.captureDelayHours);
+             out.name("channel");
+             channelAdapter.write(out, value.channel);
+             out.name("checkoutAttemptId");
+             checkoutAttemptIdAdapter.write(out, value.checkoutAttemptId);
+             out.name("company");
+             companyAdapter.write(out, value.company);
+             out.name("configuration");
+             _configurationAdapter.write(out, value._configuration);
+             out.name("conversionId");
+             conversionIdAdapter.write(out, value.conversionId);
+             out.name("countryCode");
+             countryCodeAdapter.write(out, value.countryCode);
+             out.name("dateOfBirth");
+             dateOfBirthAdapter.write(out, value.dateOfBirth);
+             out.name("dccQuote");
+             dccQuoteAdapter.write(out, value.dccQuote);
+             out.name("deliveryAddress");
+             deliveryAddressAdapter.write(out, value.deliveryAddress);
+             out.name("deliveryDate");
+             deliveryDateAdapter.write(out, value.deliveryDate);
+             out.name("enableOneClick");
+             enableOneClickAdapter.write(out, value.enableOneClick);
+             out.name("enablePayOut");
+             enablePayOutAdapter.write(out, value.enablePayOut);
+             out.name("enableRecurring");
+             enableRecurringAdapter.write(out, value.enableRecurring);
+             out.name("entityType");
+             entityTypeAdapter.write(out, value.entityType);
+             out.name("fraudOffset");
+             fraudOffsetAdapter.write(out, value.fraudOffset);
+             out.name("installments");
+             installmentsAdapter.write(out, value.installments);
+             out.name("lineItems");
+             lineItemsAdapter.write(out, value.lineItems);
+             out.name("mandate");
+             mandateAdapter.write(out, value.mandate);
+             out.name("mcc");
+             mccAdapter.write(out, value.mcc);
+             out.name("merchantAccount");
+             merchantAccountAdapter.write(out, value.merchantAccount);
+             out.name("merchantOrderReference");
+             merchantOrderReferenceAdapter.write(out, value.merchantOrderReference);
+             out.name("metadata");
+             metadataAdapter.write(out, value.metadata);
+             out.name("orderReference");
+             orderReferenceAdapter.write(out, value.orderReference);
+             out.name("origin");
+             originAdapter.write(out, value.origin);
+             out.name("recurringExpiry");
+             recurringExpiryAdapter.write(out, value.recurringExpiry);
+             out.name("recurringFrequency");
+             recurringFrequencyAdapter.write(out, value.recurringFrequency);
+             out.name("reference");
+             referenceAdapter.write(out, value.reference);
+             out.name("returnUrl");
+             returnUrlAdapter.write(out, value.returnUrl);
+             out.name("riskData");
+             riskDataAdapter.write(out, value.riskData);
+             out.name("sdkVersion");
+             sdkVersionAdapter.write(out, value.sdkVersion);
+             out.name("sessionValidity");
+             sessionValidityAdapter.write(out, value.sessionValidity);
+             out.name("shopperEmail");
+             shopperEmailAdapter.write(out, value.shopperEmail);
+             out.name("shopperIP");
+             shopperIPAdapter.write(out, value.shopperIP);
+             out.name("shopperInteraction");
+             shopperInteractionAdapter.write(out, value.shopperInteraction);
+             out.name("shopperLocale");
+             shopperLocaleAdapter.write(out, value.shopperLocale);
+             out.name("shopperName");
+             shopperNameAdapter.write(out, value.shopperName);
+             out.name("shopperReference");
+             shopperReferenceAdapter.write(out, value.shopperReference);
+             out.name("shopperStatement");
+             shopperStatementAdapter.write(out, value.shopperStatement);
+             out.name("socialSecurityNumber");
+             socialSecurityNumberAdapter.write(out, value.socialSecurityNumber);
+             out.name("splits");
+             splitsAdapter.write(out, value.splits);
+             out.name("store");
+             storeAdapter.write(out, value.store);
+             out.name("storePaymentMethod");
+             storePaymentMethodAdapter.write(out, value.storePaymentMethod);
+             out.name("telephoneNumber");
+             telephoneNumberAdapter.write(out, value.telephoneNumber);
+             out.name("threeDSAuthenticationOnly");
+             threeDSAuthenticationOnlyAdapter.write(out, value.threeDSAuthenticationOnly);
+             out.name("token");
+             tokenAdapter.write(out, value.token);
+             out.name("trustedShopper");
+             trustedShopperAdapter.write(out, value.trustedShopper);
+             out.endObject();
            }
 
            @Override
            public PaymentSetupRequest read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             PaymentSetupRequest instance = new PaymentSetupRequest();
+             boolean amountFound = false;
+             boolean countryCodeFound = false;
+             boolean merchantAccountFound = false;
+             boolean referenceFound = false;
+             boolean returnUrlFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "additionalData":
+                   instance.additionalData = additionalDataAdapter.read(in);
+                   break;
+                 case "allowedPaymentMethods":
+                   instance.allowedPaymentMethods = allowedPaymentMethodsAdapter.read(in);
+                   break;
+                 case "amount":
+                   instance.amount = amountAdapter.read(in);
+                   amountFound = true;
+                   break;
+                 case "applicationInfo":
+                   instance.applicationInfo = applicationInfoAdapter.read(in);
+                   break;
+                 case "billingAddress":
+                   instance.billingAddress = billingAddressAdapter.read(in);
+                   break;
+                 case "blockedPaymentMethods":
+                   instance.blockedPaymentMethods = blockedPaymentMethodsAdapter.read(in);
+                   break;
+                 case "captureDelayHours":
+                   instance.captureDelayHours = captureDelayHoursAdapter.read(in);
+                   break;
+                 case "channel":
+                   instance.channel = channelAdapter.read(in);
+                   break;
+                 case "checkoutAttemptId":
+                   instance.checkoutAttemptId = checkoutAttemptIdAdapter.read(in);
+                   break;
+                 case "company":
+                   instance.company = companyAdapter.read(in);
+                   break;
+                 case "configuration":
+                   instance._configuration = _configurationAdapter.read(in);
+                   break;
+                 case "conversionId":
+                   instance.conversionId = conversionIdAdapter.read(in);
+                   break;
+                 case "countryCode":
+                   instance.countryCode = countryCodeAdapter.read(in);
+                   countryCodeFound = true;
+                   break;
+                 case "dateOfBirth":
+                   instance.dateOfBirth = dateOfBirthAdapter.read(in);
+                   break;
+                 case "dccQuote":
+                   instance.dccQuote = dccQuoteAdapter.read(in);
+                   break;
+                 case "deliveryAddress":
+                   instance.deliveryAddress = deliveryAddressAdapter.read(in);
+                   break;
+                 case "deliveryDate":
+                   instance.deliveryDate = deliveryDateAdapter.read(in);
+                   break;
+                 case "enableOneClick":
+                   instance.enableOneClick = enableOneClickAdapter.read(in);
+                   break;
+                 case "enablePayOut":
+                   instance.enablePayOut = enablePayOutAdapter.read(in);
+                   break;
+                 case "enableRecurring":
+                   instance.enableRecurring = enableRecurringAdapter.read(in);
+                   break;
+                 case "entityType":
+                   instance.entityType = entityTypeAdapter.read(in);
+                   break;
+                 case "fraudOffset":
+                   instance.fraudOffset = fraudOffsetAdapter.read(in);
+                   break;
+                 case "installments":
+                   instance.installments = installmentsAdapter.read(in);
+                   break;
+                 case "lineItems":
+                   instance.lineItems = lineItemsAdapter.read(in);
+                   break;
+                 case "mandate":
+                   instance.mandate = mandateAdapter.read(in);
+                   break;
+                 case "mcc":
+                   instance.mcc = mccAdapter.read(in);
+                   break;
+                 case "merchantAccount":
+                   instance.merchantAccount = merchantAccountAdapter.read(in);
+                   merchantAccountFound = true;
+                   break;
+                 case "merchantOrderReference":
+                   instance.merchantOrderReference = merchantOrderReferenceAdapter.read(in);
+                   break;
+                 case "metadata":
+                   instance.metadata = metadataAdapter.read(in);
+                   break;
+                 case "orderReference":
+                   instance.orderReference = orderReferenceAdapter.read(in);
+                   break;
+                 case "origin":
+                   instance.origin = originAdapter.read(in);
+                   break;
+                 case "recurringExpiry":
+                   instance.recurringExpiry = recurringExpiryAdapter.read(in);
+                   break;
+                 case "recurringFrequency":
+                   instance.recurringFrequency = recurringFrequencyAdapter.read(in);
+                   break;
+                 case "reference":
+                   instance.reference = referenceAdapter.read(in);
+                   referenceFound = true;
+                   break;
+                 case "returnUrl":
+                   instance.returnUrl = returnUrlAdapter.read(in);
+                   returnUrlFound = true;
+                   break;
+                 case "riskData":
+                   instance.riskData = riskDataAdapter.read(in);
+                   break;
+                 case "sdkVersion":
+                   instance.sdkVersion = sdkVersionAdapter.read(in);
+                   break;
+                 case "sessionValidity":
+                   instance.sessionValidity = sessionValidityAdapter.read(in);
+                   break;
+                 case "shopperEmail":
+                   instance.shopperEmail = shopperEmailAdapter.read(in);
+                   break;
+                 case "shopperIP":
+                   instance.shopperIP = shopperIPAdapter.read(in);
+                   break;
+                 case "shopperInteraction":
+                   instance.shopperInteraction = shopperInteractionAdapter.read(in);
+                   break;
+                 case "shopperLocale":
+                   instance.shopperLocale = shopperLocaleAdapter.read(in);
+                   break;
+                 case "shopperName":
+                   instance.shopperName = shopperNameAdapter.read(in);
+                   break;
+                 case "shopperReference":
+                   instance.shopperReference = shopperReferenceAdapter.read(in);
+                   break;
+                 case "shopperStatement":
+                   instance.shopperStatement = shopperStatementAdapter.read(in);
+                   break;
+                 case "socialSecurityNumber":
+                   instance.socialSecurityNumber = socialSecurityNumberAdapter.read(in);
+                   break;
+                 case "splits":
+                   instance.splits = splitsAdapter.read(in);
+                   break;
+                 case "store":
+                   instance.store = storeAdapter.read(in);
+                   break;
+                 case "storePaymentMethod":
+                   instance.storePaymentMethod = storePaymentMethodAdapter.read(in);
+                   break;
+                 case "telephoneNumber":
+                   instance.telephoneNumber = telephoneNumberAdapter.read(in);
+                   break;
+                 case "threeDSAuthenticationOnly":
+                   instance.threeDSAuthenticationOnly = threeDSAuthenticationOnlyAdapter.read(in);
+                   break;
+                 case "token":
+                   instance.token = tokenAdapter.read(in);
+                   break;
+                 case "trustedShopper":
+                   instance.trustedShopper = trustedShopperAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `PaymentSetupRequest` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!amountFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "amount", in.getPath()));
+             }
+             if (!countryCodeFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "countryCode", in.getPath()));
+             }
+             if (!merchantAccountFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "merchantAccount", in.getPath()));
+             }
+             if (!referenceFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "reference", in.getPath()));
+             }
+             if (!returnUrlFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "returnUrl", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
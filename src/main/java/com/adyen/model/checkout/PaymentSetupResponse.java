@@ -219,22 +219,40 @@ public class PaymentSetupResponse {
        if (!PaymentSetupResponse.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'PaymentSetupResponse' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<PaymentSetupResponse> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(PaymentSetupResponse.class));
+       final TypeAdapter<String> paymentSessionAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<List<RecurringDetail>> recurringDetailsAdapter = gson.getAdapter(new TypeToken<List<RecurringDetail>>() {});
 
        return (TypeAdapter<T>) new TypeAdapter<PaymentSetupResponse>() {
            @Override
            public void write(JsonWriter out, PaymentSetupResponse value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("paymentSession");
+             paymentSessionAdapter.write(out, value.paymentSession);
+             out.name("recurringDetails");
+             recurringDetailsAdapter.write(out, value.recurringDetails);
+             out.endObject();
            }
 
            @Override
            public PaymentSetupResponse read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             PaymentSetupResponse instance = new PaymentSetupResponse();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "paymentSession":
+                   instance.paymentSession = paymentSessionAdapter.read(in);
+                   break;
+                 case "recurringDetails":
+                   instance.recurringDetails = recurringDetailsAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `PaymentSetupResponse` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
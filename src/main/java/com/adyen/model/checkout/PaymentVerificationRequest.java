@@ -172,22 +172,39 @@ public class PaymentVerificationRequest {
        if (!PaymentVerificationRequest.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'PaymentVerificationRequest' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<PaymentVerificationRequest> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(PaymentVerificationRequest.class));
+       final TypeAdapter<String> payloadAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<PaymentVerificationRequest>() {
            @Override
            public void write(JsonWriter out, PaymentVerificationRequest value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("payload");
+             payloadAdapter.write(out, value.payload);
+             out.endObject();
            }
 
            @Override
            public PaymentVerificationRequest read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             PaymentVerificationRequest instance = new PaymentVerificationRequest();
+             boolean payloadFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "payload":
+                   instance.payload = payloadAdapter.read(in);
+                   payloadFound = true;
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `PaymentVerificationRequest` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!payloadFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "payload", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
@@ -126,13 +126,20 @@ public class PaymentVerificationResponse {
       return String.valueOf(value);
     }
 
-    public static ResultCodeEnum fromValue(String value) {
+    private static final Map<String, ResultCodeEnum> BY_VALUE = new HashMap<String, ResultCodeEnum>();
+
+    static {
       for (ResultCodeEnum b : ResultCodeEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static ResultCodeEnum fromValue(String value) {
+      ResultCodeEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<ResultCodeEnum> {
@@ -559,22 +566,98 @@ public class PaymentVerificationResponse {
        if (!PaymentVerificationResponse.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'PaymentVerificationResponse' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<PaymentVerificationResponse> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(PaymentVerificationResponse.class));
+       final TypeAdapter<Map<String, String>> additionalDataAdapter = gson.getAdapter(new TypeToken<Map<String, String>>() {});
+       final TypeAdapter<FraudResult> fraudResultAdapter = gson.getAdapter(FraudResult.class);
+       final TypeAdapter<String> merchantReferenceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<CheckoutOrderResponse> orderAdapter = gson.getAdapter(CheckoutOrderResponse.class);
+       final TypeAdapter<String> pspReferenceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> refusalReasonAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> refusalReasonCodeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<ResultCodeEnum> resultCodeAdapter = gson.getAdapter(ResultCodeEnum.class);
+       final TypeAdapter<ServiceError2> serviceErrorAdapter = gson.getAdapter(ServiceError2.class);
+       final TypeAdapter<String> shopperLocaleAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<PaymentVerificationResponse>() {
            @Override
            public void write(JsonWriter out, PaymentVerificationResponse value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("additionalData");
+             additionalDataAdapter.write(out, value.additionalData);
+             out.name("fraudResult");
+             fraudResultAdapter.write(out, value.fraudResult);
+             out.name("merchantReference");
+             merchantReferenceAdapter.write(out, value.merchantReference);
+             out.name("order");
+             orderAdapter.write(out, value.order);
+             out.name("pspReference");
+             pspReferenceAdapter.write(out, value.pspReference);
+             out.name("refusalReason");
+             refusalReasonAdapter.write(out, value.refusalReason);
+             out.name("refusalReasonCode");
+             refusalReasonCodeAdapter.write(out, value.refusalReasonCode);
+             out.name("resultCode");
+             resultCodeAdapter.write(out, value.resultCode);
+             out.name("serviceError");
+             serviceErrorAdapter.write(out, value.serviceError);
+             out.name("shopperLocale");
+             shopperLocaleAdapter.write(out, value.shopperLocale);
+             out.endObject();
            }
 
            @Override
            public PaymentVerificationResponse read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             PaymentVerificationResponse instance = new PaymentVerificationResponse();
+             boolean merchantReferenceFound = false;
+             boolean shopperLocaleFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "additionalData":
+                   instance.additionalData = additionalDataAdapter.read(in);
+                   break;
+                 case "fraudResult":
+                   instance.fraudResult = fraudResultAdapter.read(in);
+                   break;
+                 case "merchantReference":
+                   instance.merchantReference = merchantReferenceAdapter.read(in);
+                   merchantReferenceFound = true;
+                   break;
+                 case "order":
+                   instance.order = orderAdapter.read(in);
+                   break;
+                 case "pspReference":
+                   instance.pspReference = pspReferenceAdapter.read(in);
+                   break;
+                 case "refusalReason":
+                   instance.refusalReason = refusalReasonAdapter.read(in);
+                   break;
+                 case "refusalReasonCode":
+                   instance.refusalReasonCode = refusalReasonCodeAdapter.read(in);
+                   break;
+                 case "resultCode":
+                   instance.resultCode = resultCodeAdapter.read(in);
+                   break;
+                 case "serviceError":
+                   instance.serviceError = serviceErrorAdapter.read(in);
+                   break;
+                 case "shopperLocale":
+                   instance.shopperLocale = shopperLocaleAdapter.read(in);
+                   shopperLocaleFound = true;
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `PaymentVerificationResponse` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!merchantReferenceFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "merchantReference", in.getPath()));
+             }
+             if (!shopperLocaleFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "shopperLocale", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
@@ -198,22 +198,40 @@ public class Phone {
        if (!Phone.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'Phone' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<Phone> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(Phone.class));
+       final TypeAdapter<String> ccAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> subscriberAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<Phone>() {
            @Override
            public void write(JsonWriter out, Phone value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("cc");
+             ccAdapter.write(out, value.cc);
+             out.name("subscriber");
+             subscriberAdapter.write(out, value.subscriber);
+             out.endObject();
            }
 
            @Override
            public Phone read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             Phone instance = new Phone();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "cc":
+                   instance.cc = ccAdapter.read(in);
+                   break;
+                 case "subscriber":
+                   instance.subscriber = subscriberAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `Phone` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
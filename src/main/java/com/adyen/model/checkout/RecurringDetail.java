@@ -90,13 +90,20 @@ public class RecurringDetail {
       return String.valueOf(value);
     }
 
-    public static FundingSourceEnum fromValue(String value) {
+    private static final Map<String, FundingSourceEnum> BY_VALUE = new HashMap<String, FundingSourceEnum>();
+
+    static {
       for (FundingSourceEnum b : FundingSourceEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static FundingSourceEnum fromValue(String value) {
+      FundingSourceEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<FundingSourceEnum> {
@@ -606,22 +613,94 @@ public class RecurringDetail {
        if (!RecurringDetail.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'RecurringDetail' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<RecurringDetail> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(RecurringDetail.class));
+       final TypeAdapter<String> brandAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<List<String>> brandsAdapter = gson.getAdapter(new TypeToken<List<String>>() {});
+       final TypeAdapter<Map<String, String>> _configurationAdapter = gson.getAdapter(new TypeToken<Map<String, String>>() {});
+       final TypeAdapter<FundingSourceEnum> fundingSourceAdapter = gson.getAdapter(FundingSourceEnum.class);
+       final TypeAdapter<PaymentMethodGroup> groupAdapter = gson.getAdapter(PaymentMethodGroup.class);
+       final TypeAdapter<List<InputDetail>> inputDetailsAdapter = gson.getAdapter(new TypeToken<List<InputDetail>>() {});
+       final TypeAdapter<List<PaymentMethodIssuer>> issuersAdapter = gson.getAdapter(new TypeToken<List<PaymentMethodIssuer>>() {});
+       final TypeAdapter<String> nameAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> recurringDetailReferenceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<StoredDetails> storedDetailsAdapter = gson.getAdapter(StoredDetails.class);
+       final TypeAdapter<String> typeAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<RecurringDetail>() {
            @Override
            public void write(JsonWriter out, RecurringDetail value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("brand");
+             brandAdapter.write(out, value.brand);
+             out.name("brands");
+             brandsAdapter.write(out, value.brands);
+             out.name("configuration");
+             _configurationAdapter.write(out, value._configuration);
+             out.name("fundingSource");
+             fundingSourceAdapter.write(out, value.fundingSource);
+             out.name("group");
+             groupAdapter.write(out, value.group);
+             out.name("inputDetails");
+             inputDetailsAdapter.write(out, value.inputDetails);
+             out.name("issuers");
+             issuersAdapter.write(out, value.issuers);
+             out.name("name");
+             nameAdapter.write(out, value.name);
+             out.name("recurringDetailReference");
+             recurringDetailReferenceAdapter.write(out, value.recurringDetailReference);
+             out.name("storedDetails");
+             storedDetailsAdapter.write(out, value.storedDetails);
+             out.name("type");
+             typeAdapter.write(out, value.type);
+             out.endObject();
            }
 
            @Override
            public RecurringDetail read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             RecurringDetail instance = new RecurringDetail();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "brand":
+                   instance.brand = brandAdapter.read(in);
+                   break;
+                 case "brands":
+                   instance.brands = brandsAdapter.read(in);
+                   break;
+                 case "configuration":
+                   instance._configuration = _configurationAdapter.read(in);
+                   break;
+                 case "fundingSource":
+                   instance.fundingSource = fundingSourceAdapter.read(in);
+                   break;
+                 case "group":
+                   instance.group = groupAdapter.read(in);
+                   break;
+                 case "inputDetails":
+                   instance.inputDetails = inputDetailsAdapter.read(in);
+                   break;
+                 case "issuers":
+                   instance.issuers = issuersAdapter.read(in);
+                   break;
+                 case "name":
+                   instance.name = nameAdapter.read(in);
+                   break;
+                 case "recurringDetailReference":
+                   instance.recurringDetailReference = recurringDetailReferenceAdapter.read(in);
+                   break;
+                 case "storedDetails":
+                   instance.storedDetails = storedDetailsAdapter.read(in);
+                   break;
+                 case "type":
+                   instance.type = typeAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `RecurringDetail` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
@@ -296,22 +296,58 @@ public class ResponseAdditionalData3DSecure {
        if (!ResponseAdditionalData3DSecure.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'ResponseAdditionalData3DSecure' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<ResponseAdditionalData3DSecure> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(ResponseAdditionalData3DSecure.class));
+       final TypeAdapter<String> cardHolderInfoAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> cavvAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> cavvAlgorithmAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> scaExemptionRequestedAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<Boolean> threeds2CardEnrolledAdapter = gson.getAdapter(Boolean.class);
 
        return (TypeAdapter<T>) new TypeAdapter<ResponseAdditionalData3DSecure>() {
            @Override
            public void write(JsonWriter out, ResponseAdditionalData3DSecure value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("cardHolderInfo");
+             cardHolderInfoAdapter.write(out, value.cardHolderInfo);
+             out.name("cavv");
+             cavvAdapter.write(out, value.cavv);
+             out.name("cavvAlgorithm");
+             cavvAlgorithmAdapter.write(out, value.cavvAlgorithm);
+             out.name("scaExemptionRequested");
+             scaExemptionRequestedAdapter.write(out, value.scaExemptionRequested);
+             out.name("threeds2.cardEnrolled");
+             threeds2CardEnrolledAdapter.write(out, value.threeds2CardEnrolled);
+             out.endObject();
            }
 
            @Override
            public ResponseAdditionalData3DSecure read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             ResponseAdditionalData3DSecure instance = new ResponseAdditionalData3DSecure();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "cardHolderInfo":
+                   instance.cardHolderInfo = cardHolderInfoAdapter.read(in);
+                   break;
+                 case "cavv":
+                   instance.cavv = cavvAdapter.read(in);
+                   break;
+                 case "cavvAlgorithm":
+                   instance.cavvAlgorithm = cavvAlgorithmAdapter.read(in);
+                   break;
+                 case "scaExemptionRequested":
+                   instance.scaExemptionRequested = scaExemptionRequestedAdapter.read(in);
+                   break;
+                 case "threeds2.cardEnrolled":
+                   instance.threeds2CardEnrolled = threeds2CardEnrolledAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `ResponseAdditionalData3DSecure` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
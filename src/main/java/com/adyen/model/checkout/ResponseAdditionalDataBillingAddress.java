@@ -334,22 +334,64 @@ public class ResponseAdditionalDataBillingAddress {
        if (!ResponseAdditionalDataBillingAddress.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'ResponseAdditionalDataBillingAddress' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<ResponseAdditionalDataBillingAddress> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(ResponseAdditionalDataBillingAddress.class));
+       final TypeAdapter<String> billingAddressCityAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> billingAddressCountryAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> billingAddressHouseNumberOrNameAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> billingAddressPostalCodeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> billingAddressStateOrProvinceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> billingAddressStreetAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<ResponseAdditionalDataBillingAddress>() {
            @Override
            public void write(JsonWriter out, ResponseAdditionalDataBillingAddress value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("billingAddress.city");
+             billingAddressCityAdapter.write(out, value.billingAddressCity);
+             out.name("billingAddress.country");
+             billingAddressCountryAdapter.write(out, value.billingAddressCountry);
+             out.name("billingAddress.houseNumberOrName");
+             billingAddressHouseNumberOrNameAdapter.write(out, value.billingAddressHouseNumberOrName);
+             out.name("billingAddress.postalCode");
+             billingAddressPostalCodeAdapter.write(out, value.billingAddressPostalCode);
+             out.name("billingAddress.stateOrProvince");
+             billingAddressStateOrProvinceAdapter.write(out, value.billingAddressStateOrProvince);
+             out.name("billingAddress.street");
+             billingAddressStreetAdapter.write(out, value.billingAddressStreet);
+             out.endObject();
            }
 
            @Override
            public ResponseAdditionalDataBillingAddress read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             ResponseAdditionalDataBillingAddress instance = new ResponseAdditionalDataBillingAddress();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "billingAddress.city":
+                   instance.billingAddressCity = billingAddressCityAdapter.read(in);
+                   break;
+                 case "billingAddress.country":
+                   instance.billingAddressCountry = billingAddressCountryAdapter.read(in);
+                   break;
+                 case "billingAddress.houseNumberOrName":
+                   instance.billingAddressHouseNumberOrName = billingAddressHouseNumberOrNameAdapter.read(in);
+                   break;
+                 case "billingAddress.postalCode":
+                   instance.billingAddressPostalCode = billingAddressPostalCodeAdapter.read(in);
+                   break;
+                 case "billingAddress.stateOrProvince":
+                   instance.billingAddressStateOrProvince = billingAddressStateOrProvinceAdapter.read(in);
+                   break;
+                 case "billingAddress.street":
+                   instance.billingAddressStreet = billingAddressStreetAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `ResponseAdditionalDataBillingAddress` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
@@ -402,22 +402,76 @@ public class ResponseAdditionalDataCard {
        if (!ResponseAdditionalDataCard.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'ResponseAdditionalDataCard' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<ResponseAdditionalDataCard> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(ResponseAdditionalDataCard.class));
+       final TypeAdapter<String> cardBinAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> cardHolderNameAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> cardIssuingBankAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> cardIssuingCountryAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> cardIssuingCurrencyAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> cardPaymentMethodAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> cardSummaryAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> issuerBinAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<ResponseAdditionalDataCard>() {
            @Override
            public void write(JsonWriter out, ResponseAdditionalDataCard value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("cardBin");
+             cardBinAdapter.write(out, value.cardBin);
+             out.name("cardHolderName");
+             cardHolderNameAdapter.write(out, value.cardHolderName);
+             out.name("cardIssuingBank");
+             cardIssuingBankAdapter.write(out, value.cardIssuingBank);
+             out.name("cardIssuingCountry");
+             cardIssuingCountryAdapter.write(out, value.cardIssuingCountry);
+             out.name("cardIssuingCurrency");
+             cardIssuingCurrencyAdapter.write(out, value.cardIssuingCurrency);
+             out.name("cardPaymentMethod");
+             cardPaymentMethodAdapter.write(out, value.cardPaymentMethod);
+             out.name("cardSummary");
+             cardSummaryAdapter.write(out, value.cardSummary);
+             out.name("issuerBin");
+             issuerBinAdapter.write(out, value.issuerBin);
+             out.endObject();
            }
 
            @Override
            public ResponseAdditionalDataCard read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             ResponseAdditionalDataCard instance = new ResponseAdditionalDataCard();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "cardBin":
+                   instance.cardBin = cardBinAdapter.read(in);
+                   break;
+                 case "cardHolderName":
+                   instance.cardHolderName = cardHolderNameAdapter.read(in);
+                   break;
+                 case "cardIssuingBank":
+                   instance.cardIssuingBank = cardIssuingBankAdapter.read(in);
+                   break;
+                 case "cardIssuingCountry":
+                   instance.cardIssuingCountry = cardIssuingCountryAdapter.read(in);
+                   break;
+                 case "cardIssuingCurrency":
+                   instance.cardIssuingCurrency = cardIssuingCurrencyAdapter.read(in);
+                   break;
+                 case "cardPaymentMethod":
+                   instance.cardPaymentMethod = cardPaymentMethodAdapter.read(in);
+                   break;
+                 case "cardSummary":
+                   instance.cardSummary = cardSummaryAdapter.read(in);
+                   break;
+                 case "issuerBin":
+                   instance.issuerBin = issuerBinAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `ResponseAdditionalDataCard` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
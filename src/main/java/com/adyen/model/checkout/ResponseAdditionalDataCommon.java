@@ -160,13 +160,20 @@ public class ResponseAdditionalDataCommon {
       return String.valueOf(value);
     }
 
-    public static FraudResultTypeEnum fromValue(String value) {
+    private static final Map<String, FraudResultTypeEnum> BY_VALUE = new HashMap<String, FraudResultTypeEnum>();
+
+    static {
       for (FraudResultTypeEnum b : FraudResultTypeEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static FraudResultTypeEnum fromValue(String value) {
+      FraudResultTypeEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<FraudResultTypeEnum> {
@@ -297,13 +304,20 @@ public class ResponseAdditionalDataCommon {
       return String.valueOf(value);
     }
 
-    public static RecurringProcessingModelEnum fromValue(String value) {
+    private static final Map<String, RecurringProcessingModelEnum> BY_VALUE = new HashMap<String, RecurringProcessingModelEnum>();
+
+    static {
       for (RecurringProcessingModelEnum b : RecurringProcessingModelEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static RecurringProcessingModelEnum fromValue(String value) {
+      RecurringProcessingModelEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<RecurringProcessingModelEnum> {
@@ -2238,22 +2252,382 @@ public class ResponseAdditionalDataCommon {
        if (!ResponseAdditionalDataCommon.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'ResponseAdditionalDataCommon' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<ResponseAdditionalDataCommon> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(ResponseAdditionalDataCommon.class));
+       final TypeAdapter<String> acquirerAccountCodeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> acquirerCodeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> acquirerReferenceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> aliasAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> aliasTypeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> authCodeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> authorisationMidAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> authorisedAmountCurrencyAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> authorisedAmountValueAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> avsResultAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> avsResultRawAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> bicAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> coBrandedWithAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> cvcResultAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> cvcResultRawAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> dsTransIDAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> eciAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> expiryDateAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> extraCostsCurrencyAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> extraCostsValueAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> fraudCheckItemNrFraudChecknameAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> fraudManualReviewAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<FraudResultTypeEnum> fraudResultTypeAdapter = gson.getAdapter(FraudResultTypeEnum.class);
+       final TypeAdapter<String> fundingSourceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> fundsAvailabilityAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> inferredRefusalReasonAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> isCardCommercialAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> issuerCountryAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> liabilityShiftAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> mcBankNetReferenceNumberAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> merchantAdviceCodeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> merchantReferenceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> networkTxReferenceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> ownerNameAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> paymentAccountReferenceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> paymentMethodAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> paymentMethodVariantAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> payoutEligibleAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> realtimeAccountUpdaterStatusAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> receiptFreeTextAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> recurringContractTypesAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> recurringFirstPspReferenceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> recurringRecurringDetailReferenceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> recurringShopperReferenceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<RecurringProcessingModelEnum> recurringProcessingModelAdapter = gson.getAdapter(RecurringProcessingModelEnum.class);
+       final TypeAdapter<String> referredAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> refusalReasonRawAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> requestAmountAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> requestCurrencyCodeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> shopperInteractionAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> shopperReferenceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> terminalIdAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> threeDAuthenticatedAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> threeDAuthenticatedResponseAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> threeDOfferedAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> threeDOfferedResponseAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> threeDSVersionAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> visaTransactionIdAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> xidAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<ResponseAdditionalDataCommon>() {
            @Override
            public void write(JsonWriter out, ResponseAdditionalDataCommon value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("acquirerAccountCode");
+             acquirerAccountCodeAdapter.write(out, value.acquirerAccountCode);
+             out.name("acquirerCode");
+             acquirerCodeAdapter.write(out, value.acquirerCode);
+             out.name("acquirerReference");
+             acquirerReferenceAdapter.write(out, value.acquirerReference);
+             out.name("alias");
+             aliasAdapter.write(out, value.alias);
+             out.name("aliasType");
+             aliasTypeAdapter.write(out, value.aliasType);
+             out.name("authCode");
+             authCodeAdapter.write(out, value.authCode);
+             out.name("authorisationMid");
+             authorisationMidAdapter.write(out, value.authorisationMid);
+             out.name("authorisedAmountCurrency");
+             authorisedAmountCurrencyAdapter.write(out, value.authorisedAmountCurrency);
+             out.name("authorisedAmountValue");
+             authorisedAmountValueAdapter.write(out, value.authorisedAmountValue);
+             out.name("avsResult");
+             avsResultAdapter.write(out, value.avsResult);
+             out.name("avsResultRaw");
+             avsResultRawAdapter.write(out, value.avsResultRaw);
+             out.name("bic");
+             bicAdapter.write(out, value.bic);
+             out.name("coBrandedWith");
+             coBrandedWithAdapter.write(out, value.coBrandedWith);
+             out.name("cvcResult");
+             cvcResultAdapter.write(out, value.cvcResult);
+             out.name("cvcResultRaw");
+             cvcResultRawAdapter.write(out, value.cvcResultRaw);
+             out.name("dsTransID");
+             dsTransIDAdapter.write(out, value.dsTransID);
+             out.name("eci");
+             eciAdapter.write(out, value.eci);
+             out.name("expiryDate");
+             expiryDateAdapter.write(out, value.expiryDate);
+             out.name("extraCostsCurrency");
+             extraCostsCurrencyAdapter.write(out, value.extraCostsCurrency);
+             out.name("extraCostsValue");
+             extraCostsValueAdapter.write(out, value.extraCostsValue);
+             out.name("fraudCheck-[itemNr]-[FraudCheckname]");
+             fraudCheckItemNrFraudChecknameAdapter.write(out, value.fraudCheckItemNrFraudCheckname);
+             out.name("fraudManualReview");
+             fraudManualReviewAdapter.write(out, value.fraudManualReview);
+             out.name("fraudResultType");
+             fraudResultTypeAdapter.write(out, value.fraudResultType);
+             out.name("fundingSource");
+             fundingSourceAdapter.write(out, value.fundingSource);
+             out.name("fundsAvailability");
+             fundsAvailabilityAdapter.write(out, value.fundsAvailability);
+             out.name("inferredRefusalReason");
+             inferredRefusalReasonAdapter.write(out, value.inferredRefusalReason);
+             out.name("isCardCommercial");
+             isCardCommercialAdapter.write(out, value.isCardCommercial);
+             out.name("issuerCountry");
+             issuerCountryAdapter.write(out, value.issuerCountry);
+             out.name("liabilityShift");
+             liabilityShiftAdapter.write(out, value.liabilityShift);
+             out.name("mcBankNetReferenceNumber");
+             mcBankNetReferenceNumberAdapter.write(out, value.mcBankNetReferenceNumber);
+             out.name("merchantAdviceCode");
+             merchantAdviceCodeAdapter.write(out, value.merchantAdviceCode);
+             out.name("merchantReference");
+             merchantReferenceAdapter.write(out, value.merchantReference);
+             out.name("networkTxReference");
+             networkTxReferenceAdapter.write(out, value.networkTxReference);
+             out.name("ownerName");
+             ownerNameAdapter.write(out, value.ownerName);
+             out.name("paymentAccountReference");
+             paymentAccountReferenceAdapter.write(out, value.paymentAccountReference);
+             out.name("paymentMethod");
+             paymentMethodAdapter.write(out, value.paymentMethod);
+             out.name("paymentMethodVariant");
+             paymentMethodVariantAdapter.write(out, value.paymentMethodVariant);
+             out.name("payoutEligible");
+             payoutEligibleAdapter.write(out, value.payoutEligible);
+             out.name("realtimeAccountUpdaterStatus");
+             realtimeAccountUpdaterStatusAdapter.write(out, value.realtimeAccountUpdaterStatus);
+             out.name("receiptFreeText");
+             receiptFreeTextAdapter.write(out, value.receiptFreeText);
+             out.name("recurring.contractTypes");
+             recurringContractTypesAdapter.write(out, value.recurringContractTypes);
+             out.name("recurring.firstPspReference");
+             recurringFirstPspReferenceAdapter.write(out, value.recurringFirstPspReference);
+             out.name("recurring.recurringDetailReference");
+             recurringRecurringDetailReferenceAdapter.write(out, value.recurringRecurringDetailReference);
+             out.name("recurring.shopperReference");
+             recurringShopperReferenceAdapter.write(out, value.recurringShopperReference);
+             out.name("recurringProcessingModel");
+             recurringProcessingModelAdapter.write(out, value.recurringProcessingModel);
+             out.name("referred");
+             referredAdapter.write(out, value.referred);
+             out.name("refusalReasonRaw");
+             refusalReasonRawAdapter.write(out, value.refusalReasonRaw);
+             out.name("requestAmount");
+             requestAmountAdapter.write(out, value.requestAmount);
+             out.name("requestCurrencyCode");
+             requestCurrencyCodeAdapter.write(out, value.requestCurrencyCode);
+             out.name("shopperInteraction");
+             shopperInteractionAdapter.write(out, value.shopperInteraction);
+             out.name("shopperReference");
+             shopperReferenceAdapter.write(out, value.shopperReference);
+             out.name("terminalId");
+             terminalIdAdapter.write(out, value.terminalId);
+             out.name("threeDAuthenticated");
+             threeDAuthenticatedAdapter.write(out, value.threeDAuthenticated);
+             out.name("threeDAuthenticatedResponse");
+             threeDAuthenticatedResponseAdapter.write(out, value.threeDAuthenticatedResponse);
+             out.name("threeDOffered");
+             threeDOfferedAdapter.write(out, value.threeDOffered);
+             out.name("threeDOfferedResponse");
+             threeDOfferedResponseAdapter.write(out, value.threeDOfferedResponse);
+             out.name("threeDSVersion");
+             threeDSVersionAdapter.write(out, value.threeDSVersion);
+             out.name("visaTransactionId");
+             visaTransactionIdAdapter.write(out, value.visaTransactionId);
+             out.name("xid");
+             xidAdapter.write(out, value.xid);
+             out.endObject();
            }
 
            @Override
            public ResponseAdditionalDataCommon read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             ResponseAdditionalDataCommon instance = new ResponseAdditionalDataCommon();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "acquirerAccountCode":
+                   instance.acquirerAccountCode = acquirerAccountCodeAdapter.read(in);
+                   break;
+                 case "acquirerCode":
+                   instance.acquirerCode = acquirerCodeAdapter.read(in);
+                   break;
+                 case "acquirerReference":
+                   instance.acquirerReference = acquirerReferenceAdapter.read(in);
+                   break;
+                 case "alias":
+                   instance.alias = aliasAdapter.read(in);
+                   break;
+                 case "aliasType":
+                   instance.aliasType = aliasTypeAdapter.read(in);
+                   break;
+                 case "authCode":
+                   instance.authCode = authCodeAdapter.read(in);
+                   break;
+                 case "authorisationMid":
+                   instance.authorisationMid = authorisationMidAdapter.read(in);
+                   break;
+                 case "authorisedAmountCurrency":
+                   instance.authorisedAmountCurrency = authorisedAmountCurrencyAdapter.read(in);
+                   break;
+                 case "authorisedAmountValue":
+                   instance.authorisedAmountValue = authorisedAmountValueAdapter.read(in);
+                   break;
+                 case "avsResult":
+                   instance.avsResult = avsResultAdapter.read(in);
+                   break;
+                 case "avsResultRaw":
+                   instance.avsResultRaw = avsResultRawAdapter.read(in);
+                   break;
+                 case "bic":
+                   instance.bic = bicAdapter.read(in);
+                   break;
+                 case "coBrandedWith":
+                   instance.coBrandedWith = coBrandedWithAdapter.read(in);
+                   break;
+                 case "cvcResult":
+                   instance.cvcResult = cvcResultAdapter.read(in);
+                   break;
+                 case "cvcResultRaw":
+                   instance.cvcResultRaw = cvcResultRawAdapter.read(in);
+                   break;
+                 case "dsTransID":
+                   instance.dsTransID = dsTransIDAdapter.read(in);
+                   break;
+                 case "eci":
+                   instance.eci = eciAdapter.read(in);
+                   break;
+                 case "expiryDate":
+                   instance.expiryDate = expiryDateAdapter.read(in);
+                   break;
+                 case "extraCostsCurrency":
+                   instance.extraCostsCurrency = extraCostsCurrencyAdapter.read(in);
+                   break;
+                 case "extraCostsValue":
+                   instance.extraCostsValue = extraCostsValueAdapter.read(in);
+                   break;
+                 case "fraudCheck-[itemNr]-[FraudCheckname]":
+                   instance.fraudCheckItemNrFraudCheckname = fraudCheckItemNrFraudChecknameAdapter.read(in);
+                   break;
+                 case "fraudManualReview":
+                   instance.fraudManualReview = fraudManualReviewAdapter.read(in);
+                   break;
+                 case "fraudResultType":
+                   instance.fraudResultType = fraudResultTypeAdapter.read(in);
+                   break;
+                 case "fundingSource":
+                   instance.fundingSource = fundingSourceAdapter.read(in);
+                   break;
+                 case "fundsAvailability":
+                   instance.fundsAvailability = fundsAvailabilityAdapter.read(in);
+                   break;
+                 case "inferredRefusalReason":
+                   instance.inferredRefusalReason = inferredRefusalReasonAdapter.read(in);
+                   break;
+                 case "isCardCommercial":
+                   instance.isCardCommercial = isCardCommercialAdapter.read(in);
+                   break;
+                 case "issuerCountry":
+                   instance.issuerCountry = issuerCountryAdapter.read(in);
+                   break;
+                 case "liabilityShift":
+                   instance.liabilityShift = liabilityShiftAdapter.read(in);
+                   break;
+                 case "mcBankNetReferenceNumber":
+                   instance.mcBankNetReferenceNumber = mcBankNetReferenceNumberAdapter.read(in);
+                   break;
+                 case "merchantAdviceCode":
+                   instance.merchantAdviceCode = merchantAdviceCodeAdapter.read(in);
+                   break;
+                 case "merchantReference":
+                   instance.merchantReference = merchantReferenceAdapter.read(in);
+                   break;
+                 case "networkTxReference":
+                   instance.networkTxReference = networkTxReferenceAdapter.read(in);
+                   break;
+                 case "ownerName":
+                   instance.ownerName = ownerNameAdapter.read(in);
+                   break;
+                 case "paymentAccountReference":
+                   instance.paymentAccountReference = paymentAccountReferenceAdapter.read(in);
+                   break;
+                 case "paymentMethod":
+                   instance.paymentMethod = paymentMethodAdapter.read(in);
+                   break;
+                 case "paymentMethodVariant":
+                   instance.paymentMethodVariant = paymentMethodVariantAdapter.read(in);
+                   break;
+                 case "payoutEligible":
+                   instance.payoutEligible = payoutEligibleAdapter.read(in);
+                   break;
+                 case "realtimeAccountUpdaterStatus":
+                   instance.realtimeAccountUpdaterStatus = realtimeAccountUpdaterStatusAdapter.read(in);
+                   break;
+                 case "receiptFreeText":
+                   instance.receiptFreeText = receiptFreeTextAdapter.read(in);
+                   break;
+                 case "recurring.contractTypes":
+                   instance.recurringContractTypes = recurringContractTypesAdapter.read(in);
+                   break;
+                 case "recurring.firstPspReference":
+                   instance.recurringFirstPspReference = recurringFirstPspReferenceAdapter.read(in);
+                   break;
+                 case "recurring.recurringDetailReference":
+                   instance.recurringRecurringDetailReference = recurringRecurringDetailReferenceAdapter.read(in);
+                   break;
+                 case "recurring.shopperReference":
+                   instance.recurringShopperReference = recurringShopperReferenceAdapter.read(in);
+                   break;
+                 case "recurringProcessingModel":
+                   instance.recurringProcessingModel = recurringProcessingModelAdapter.read(in);
+                   break;
+                 case "referred":
+                   instance.referred = referredAdapter.read(in);
+                   break;
+                 case "refusalReasonRaw":
+                   instance.refusalReasonRaw = refusalReasonRawAdapter.read(in);
+                   break;
+                 case "requestAmount":
+                   instance.requestAmount = requestAmountAdapter.read(in);
+                   break;
+                 case "requestCurrencyCode":
+                   instance.requestCurrencyCode = requestCurrencyCodeAdapter.read(in);
+                   break;
+                 case "shopperInteraction":
+                   instance.shopperInteraction = shopperInteractionAdapter.read(in);
+                   break;
+                 case "shopperReference":
+                   instance.shopperReference = shopperReferenceAdapter.read(in);
+                   break;
+                 case "terminalId":
+                   instance.terminalId = terminalIdAdapter.read(in);
+                   break;
+                 case "threeDAuthenticated":
+                   instance.threeDAuthenticated = threeDAuthenticatedAdapter.read(in);
+                   break;
+                 case "threeDAuthenticatedResponse":
+                   instance.threeDAuthenticatedResponse = threeDAuthenticatedResponseAdapter.read(in);
+                   break;
+                 case "threeDOffered":
+                   instance.threeDOffered = threeDOfferedAdapter.read(in);
+                   break;
+                 case "threeDOfferedResponse":
+                   instance.threeDOfferedResponse = threeDOfferedResponseAdapter.read(in);
+                   break;
+                 case "threeDSVersion":
+                   instance.threeDSVersion = threeDSVersionAdapter.read(in);
+                   break;
+                 case "visaTransactionId":
+                   instance.visaTransactionId = visaTransactionIdAdapter.read(in);
+                   break;
+                 case "xid":
+                   instance.xid = xidAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `ResponseAdditionalDataCommon` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
@@ -538,22 +538,100 @@ public class ResponseAdditionalDataInstallments {
        if (!ResponseAdditionalDataInstallments.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'ResponseAdditionalDataInstallments' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<ResponseAdditionalDataInstallments> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(ResponseAdditionalDataInstallments.class));
+       final TypeAdapter<String> installmentPaymentDataInstallmentTypeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> installmentPaymentDataOptionItemNrAnnualPercentageRateAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> installmentPaymentDataOptionItemNrFirstInstallmentAmountAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> installmentPaymentDataOptionItemNrInstallmentFeeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> installmentPaymentDataOptionItemNrInterestRateAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> installmentPaymentDataOptionItemNrMaximumNumberOfInstallmentsAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> installmentPaymentDataOptionItemNrMinimumNumberOfInstallmentsAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> installmentPaymentDataOptionItemNrNumberOfInstallmentsAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> installmentPaymentDataOptionItemNrSubsequentInstallmentAmountAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> installmentPaymentDataOptionItemNrTotalAmountDueAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> installmentPaymentDataPaymentOptionsAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> installmentsValueAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<ResponseAdditionalDataInstallments>() {
            @Override
            public void write(JsonWriter out, ResponseAdditionalDataInstallments value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("installmentPaymentData.installmentType");
+             installmentPaymentDataInstallmentTypeAdapter.write(out, value.installmentPaymentDataInstallmentType);
+             out.name("installmentPaymentData.option[itemNr].annualPercentageRate");
+             installmentPaymentDataOptionItemNrAnnualPercentageRateAdapter.write(out, value.installmentPaymentDataOptionItemNrAnnualPercentageRate);
+             out.name("installmentPaymentData.option[itemNr].firstInstallmentAmount");
+             installmentPaymentDataOptionItemNrFirstInstallmentAmountAdapter.write(out, value.installmentPaymentDataOptionItemNrFirstInstallmentAmount);
+             out.name("installmentPaymentData.option[itemNr].installmentFee");
+             installmentPaymentDataOptionItemNrInstallmentFeeAdapter.write(out, value.installmentPaymentDataOptionItemNrInstallmentFee);
+             out.name("installmentPaymentData.option[itemNr].interestRate");
+             installmentPaymentDataOptionItemNrInterestRateAdapter.write(out, value.installmentPaymentDataOptionItemNrInterestRate);
+             out.name("installmentPaymentData.option[itemNr].maximumNumberOfInstallments");
+             installmentPaymentDataOptionItemNrMaximumNumberOfInstallmentsAdapter.write(out, value.installmentPaymentDataOptionItemNrMaximumNumberOfInstallments);
+             out.name("installmentPaymentData.option[itemNr].minimumNumberOfInstallments");
+             installmentPaymentDataOptionItemNrMinimumNumberOfInstallmentsAdapter.write(out, value.installmentPaymentDataOptionItemNrMinimumNumberOfInstallments);
+             out.name("installmentPaymentData.option[itemNr].numberOfInstallments");
+             installmentPaymentDataOptionItemNrNumberOfInstallmentsAdapter.write(out, value.installmentPaymentDataOptionItemNrNumberOfInstallments);
+             out.name("installmentPaymentData.option[itemNr].subsequentInstallmentAmount");
+             installmentPaymentDataOptionItemNrSubsequentInstallmentAmountAdapter.write(out, value.installmentPaymentDataOptionItemNrSubsequentInstallmentAmount);
+             out.name("installmentPaymentData.option[itemNr].totalAmountDue");
+             installmentPaymentDataOptionItemNrTotalAmountDueAdapter.write(out, value.installmentPaymentDataOptionItemNrTotalAmountDue);
+             out.name("installmentPaymentData.paymentOptions");
+             installmentPaymentDataPaymentOptionsAdapter.write(out, value.installmentPaymentDataPaymentOptions);
+             out.name("installments.value");
+             installmentsValueAdapter.write(out, value.installmentsValue);
+             out.endObject();
            }
 
            @Override
            public ResponseAdditionalDataInstallments read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             ResponseAdditionalDataInstallments instance = new ResponseAdditionalDataInstallments();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "installmentPaymentData.installmentType":
+                   instance.installmentPaymentDataInstallmentType = installmentPaymentDataInstallmentTypeAdapter.read(in);
+                   break;
+                 case "installmentPaymentData.option[itemNr].annualPercentageRate":
+                   instance.installmentPaymentDataOptionItemNrAnnualPercentageRate = installmentPaymentDataOptionItemNrAnnualPercentageRateAdapter.read(in);
+                   break;
+                 case "installmentPaymentData.option[itemNr].firstInstallmentAmount":
+                   instance.installmentPaymentDataOptionItemNrFirstInstallmentAmount = installmentPaymentDataOptionItemNrFirstInstallmentAmountAdapter.read(in);
+                   break;
+                 case "installmentPaymentData.option[itemNr].installmentFee":
+                   instance.installmentPaymentDataOptionItemNrInstallmentFee = installmentPaymentDataOptionItemNrInstallmentFeeAdapter.read(in);
+                   break;
+                 case "installmentPaymentData.option[itemNr].interestRate":
+                   instance.installmentPaymentDataOptionItemNrInterestRate = installmentPaymentDataOptionItemNrInterestRateAdapter.read(in);
+                   break;
+                 case "installmentPaymentData.option[itemNr].maximumNumberOfInstallments":
+                   instance.installmentPaymentDataOptionItemNrMaximumNumberOfInstallments = installmentPaymentDataOptionItemNrMaximumNumberOfInstallmentsAdapter.read(in);
+                   break;
+                 case "installmentPaymentData.option[itemNr].minimumNumberOfInstallments":
+                   instance.installmentPaymentDataOptionItemNrMinimumNumberOfInstallments = installmentPaymentDataOptionItemNrMinimumNumberOfInstallmentsAdapter.read(in);
+                   break;
+                 case "installmentPaymentData.option[itemNr].numberOfInstallments":
+                   instance.installmentPaymentDataOptionItemNrNumberOfInstallments = installmentPaymentDataOptionItemNrNumberOfInstallmentsAdapter.read(in);
+                   break;
+                 case "installmentPaymentData.option[itemNr].subsequentInstallmentAmount":
+                   instance.installmentPaymentDataOptionItemNrSubsequentInstallmentAmount = installmentPaymentDataOptionItemNrSubsequentInstallmentAmountAdapter.read(in);
+                   break;
+                 case "installmentPaymentData.option[itemNr].totalAmountDue":
+                   instance.installmentPaymentDataOptionItemNrTotalAmountDue = installmentPaymentDataOptionItemNrTotalAmountDueAdapter.read(in);
+                   break;
+                 case "installmentPaymentData.paymentOptions":
+                   instance.installmentPaymentDataPaymentOptions = installmentPaymentDataPaymentOptionsAdapter.read(in);
+                   break;
+                 case "installments.value":
+                   instance.installmentsValue = installmentsValueAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `ResponseAdditionalDataInstallments` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
@@ -232,22 +232,46 @@ public class ResponseAdditionalDataNetworkTokens {
        if (!ResponseAdditionalDataNetworkTokens.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'ResponseAdditionalDataNetworkTokens' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<ResponseAdditionalDataNetworkTokens> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(ResponseAdditionalDataNetworkTokens.class));
+       final TypeAdapter<String> networkTokenAvailableAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> networkTokenBinAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> networkTokenTokenSummaryAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<ResponseAdditionalDataNetworkTokens>() {
            @Override
            public void write(JsonWriter out, ResponseAdditionalDataNetworkTokens value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("networkToken.available");
+             networkTokenAvailableAdapter.write(out, value.networkTokenAvailable);
+             out.name("networkToken.bin");
+             networkTokenBinAdapter.write(out, value.networkTokenBin);
+             out.name("networkToken.tokenSummary");
+             networkTokenTokenSummaryAdapter.write(out, value.networkTokenTokenSummary);
+             out.endObject();
            }
 
            @Override
            public ResponseAdditionalDataNetworkTokens read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             ResponseAdditionalDataNetworkTokens instance = new ResponseAdditionalDataNetworkTokens();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "networkToken.available":
+                   instance.networkTokenAvailable = networkTokenAvailableAdapter.read(in);
+                   break;
+                 case "networkToken.bin":
+                   instance.networkTokenBin = networkTokenBinAdapter.read(in);
+                   break;
+                 case "networkToken.tokenSummary":
+                   instance.networkTokenTokenSummary = networkTokenTokenSummaryAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `ResponseAdditionalDataNetworkTokens` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
@@ -232,22 +232,46 @@ public class ResponseAdditionalDataSepa {
        if (!ResponseAdditionalDataSepa.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'ResponseAdditionalDataSepa' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<ResponseAdditionalDataSepa> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(ResponseAdditionalDataSepa.class));
+       final TypeAdapter<String> sepadirectdebitDateOfSignatureAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> sepadirectdebitMandateIdAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> sepadirectdebitSequenceTypeAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<ResponseAdditionalDataSepa>() {
            @Override
            public void write(JsonWriter out, ResponseAdditionalDataSepa value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("sepadirectdebit.dateOfSignature");
+             sepadirectdebitDateOfSignatureAdapter.write(out, value.sepadirectdebitDateOfSignature);
+             out.name("sepadirectdebit.mandateId");
+             sepadirectdebitMandateIdAdapter.write(out, value.sepadirectdebitMandateId);
+             out.name("sepadirectdebit.sequenceType");
+             sepadirectdebitSequenceTypeAdapter.write(out, value.sepadirectdebitSequenceType);
+             out.endObject();
            }
 
            @Override
            public ResponseAdditionalDataSepa read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             ResponseAdditionalDataSepa instance = new ResponseAdditionalDataSepa();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "sepadirectdebit.dateOfSignature":
+                   instance.sepadirectdebitDateOfSignature = sepadirectdebitDateOfSignatureAdapter.read(in);
+                   break;
+                 case "sepadirectdebit.mandateId":
+                   instance.sepadirectdebitMandateId = sepadirectdebitMandateIdAdapter.read(in);
+                   break;
+                 case "sepadirectdebit.sequenceType":
+                   instance.sepadirectdebitSequenceType = sepadirectdebitSequenceTypeAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `ResponseAdditionalDataSepa` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
@@ -198,22 +198,40 @@ public class ResponsePaymentMethod {
        if (!ResponsePaymentMethod.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'ResponsePaymentMethod' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<ResponsePaymentMethod> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(ResponsePaymentMethod.class));
+       final TypeAdapter<String> brandAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> typeAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<ResponsePaymentMethod>() {
            @Override
            public void write(JsonWriter out, ResponsePaymentMethod value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("brand");
+             brandAdapter.write(out, value.brand);
+             out.name("type");
+             typeAdapter.write(out, value.type);
+             out.endObject();
            }
 
            @Override
            public ResponsePaymentMethod read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             ResponsePaymentMethod instance = new ResponsePaymentMethod();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "brand":
+                   instance.brand = brandAdapter.read(in);
+                   break;
+                 case "type":
+                   instance.type = typeAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `ResponsePaymentMethod` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
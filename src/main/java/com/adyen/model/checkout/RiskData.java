@@ -269,22 +269,52 @@ public class RiskData {
        if (!RiskData.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'RiskData' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<RiskData> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(RiskData.class));
+       final TypeAdapter<String> clientDataAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<Map<String, String>> customFieldsAdapter = gson.getAdapter(new TypeToken<Map<String, String>>() {});
+       final TypeAdapter<Integer> fraudOffsetAdapter = gson.getAdapter(Integer.class);
+       final TypeAdapter<String> profileReferenceAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<RiskData>() {
            @Override
            public void write(JsonWriter out, RiskData value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("clientData");
+             clientDataAdapter.write(out, value.clientData);
+             out.name("customFields");
+             customFieldsAdapter.write(out, value.customFields);
+             out.name("fraudOffset");
+             fraudOffsetAdapter.write(out, value.fraudOffset);
+             out.name("profileReference");
+             profileReferenceAdapter.write(out, value.profileReference);
+             out.endObject();
            }
 
            @Override
            public RiskData read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             RiskData instance = new RiskData();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "clientData":
+                   instance.clientData = clientDataAdapter.read(in);
+                   break;
+                 case "customFields":
+                   instance.customFields = customFieldsAdapter.read(in);
+                   break;
+                 case "fraudOffset":
+                   instance.fraudOffset = fraudOffsetAdapter.read(in);
+                   break;
+                 case "profileReference":
+                   instance.profileReference = profileReferenceAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `RiskData` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
@@ -266,22 +266,52 @@ public class SDKEphemPubKey {
        if (!SDKEphemPubKey.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'SDKEphemPubKey' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<SDKEphemPubKey> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(SDKEphemPubKey.class));
+       final TypeAdapter<String> crvAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> ktyAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> xAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> yAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<SDKEphemPubKey>() {
            @Override
            public void write(JsonWriter out, SDKEphemPubKey value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("crv");
+             crvAdapter.write(out, value.crv);
+             out.name("kty");
+             ktyAdapter.write(out, value.kty);
+             out.name("x");
+             xAdapter.write(out, value.x);
+             out.name("y");
+             yAdapter.write(out, value.y);
+             out.endObject();
            }
 
            @Override
            public SDKEphemPubKey read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             SDKEphemPubKey instance = new SDKEphemPubKey();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "crv":
+                   instance.crv = crvAdapter.read(in);
+                   break;
+                 case "kty":
+                   instance.kty = ktyAdapter.read(in);
+                   break;
+                 case "x":
+                   instance.x = xAdapter.read(in);
+                   break;
+                 case "y":
+                   instance.y = yAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `SDKEphemPubKey` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
@@ -266,22 +266,52 @@ public class ServiceError2 {
        if (!ServiceError2.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'ServiceError2' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<ServiceError2> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(ServiceError2.class));
+       final TypeAdapter<String> errorCodeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> errorTypeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> messageAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> pspReferenceAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<ServiceError2>() {
            @Override
            public void write(JsonWriter out, ServiceError2 value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("errorCode");
+             errorCodeAdapter.write(out, value.errorCode);
+             out.name("errorType");
+             errorTypeAdapter.write(out, value.errorType);
+             out.name("message");
+             messageAdapter.write(out, value.message);
+             out.name("pspReference");
+             pspReferenceAdapter.write(out, value.pspReference);
+             out.endObject();
            }
 
            @Override
            public ServiceError2 read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             ServiceError2 instance = new ServiceError2();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "errorCode":
+                   instance.errorCode = errorCodeAdapter.read(in);
+                   break;
+                 case "errorType":
+                   instance.errorType = errorTypeAdapter.read(in);
+                   break;
+                 case "message":
+                   instance.message = messageAdapter.read(in);
+                   break;
+                 case "pspReference":
+                   instance.pspReference = pspReferenceAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `ServiceError2` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
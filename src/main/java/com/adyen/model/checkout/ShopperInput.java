@@ -74,13 +74,20 @@ public class ShopperInput {
       return String.valueOf(value);
     }
 
-    public static BillingAddressEnum fromValue(String value) {
+    private static final Map<String, BillingAddressEnum> BY_VALUE = new HashMap<String, BillingAddressEnum>();
+
+    static {
       for (BillingAddressEnum b : BillingAddressEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    }
+
+    public static BillingAddressEnum fromValue(String value) {
+      BillingAddressEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      }
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<BillingAddressEnum> {
@@ -127,13 +134,20 @@ public class ShopperInput {
       return String.valueOf(value);
     }
 
-    public static DeliveryAddressEnum fromValue(String value) {
+    private static final Map<String, DeliveryAddressEnum> BY_VALUE = new HashMap<String, DeliveryAddressEnum>();
+
+    static {
       for (DeliveryAddressEnum b : DeliveryAddressEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    }
+
+    public static DeliveryAddressEnum fromValue(String value) {
+      DeliveryAddressEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      }
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<DeliveryAddressEnum> {
@@ -180,13 +194,20 @@ public class ShopperInput {
       return String.valueOf(value);
     }
 
-    public static PersonalDetailsEnum fromValue(String value) {
+    private static final Map<String, PersonalDetailsEnum> BY_VALUE = new HashMap<String, PersonalDetailsEnum>();
+
+    static {
       for (PersonalDetailsEnum b : PersonalDetailsEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static PersonalDetailsEnum fromValue(String value) {
+      PersonalDetailsEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<PersonalDetailsEnum> {
@@ -388,22 +409,46 @@ public class ShopperInput {
        if (!ShopperInput.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'ShopperInput' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<ShopperInput> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(ShopperInput.class));
+       final TypeAdapter<BillingAddressEnum> billingAddressAdapter = gson.getAdapter(BillingAddressEnum.class);
+       final TypeAdapter<DeliveryAddressEnum> deliveryAddressAdapter = gson.getAdapter(DeliveryAddressEnum.class);
+       final TypeAdapter<PersonalDetailsEnum> personalDetailsAdapter = gson.getAdapter(PersonalDetailsEnum.class);
 
        return (TypeAdapter<T>) new TypeAdapter<ShopperInput>() {
            @Override
            public void write(JsonWriter out, ShopperInput value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("billingAddress");
+             billingAddressAdapter.write(out, value.billingAddress);
+             out.name("deliveryAddress");
+             deliveryAddressAdapter.write(out, value.deliveryAddress);
+             out.name("personalDetails");
+             personalDetailsAdapter.write(out, value.personalDetails);
+             out.endObject();
            }
 
            @Override
            public ShopperInput read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             ShopperInput instance = new ShopperInput();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "billingAddress":
+                   instance.billingAddress = billingAddressAdapter.read(in);
+                   break;
+                 case "deliveryAddress":
+                   instance.deliveryAddress = deliveryAddressAdapter.read(in);
+                   break;
+                 case "personalDetails":
+                   instance.personalDetails = personalDetailsAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `ShopperInput` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
@@ -202,22 +202,45 @@ public class SplitAmount {
        if (!SplitAmount.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'SplitAmount' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<SplitAmount> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(SplitAmount.class));
+       final TypeAdapter<String> currencyAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<Long> valueAdapter = gson.getAdapter(Long.class);
 
        return (TypeAdapter<T>) new TypeAdapter<SplitAmount>() {
            @Override
            public void write(JsonWriter out, SplitAmount value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("currency");
+             currencyAdapter.write(out, value.currency);
+             out.name("value");
+             valueAdapter.write(out, value.value);
+             out.endObject();
            }
 
            @Override
            public SplitAmount read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             SplitAmount instance = new SplitAmount();
+             boolean valueFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "currency":
+                   instance.currency = currencyAdapter.read(in);
+                   break;
+                 case "value":
+                   instance.value = valueAdapter.read(in);
+                   valueFound = true;
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `SplitAmount` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!valueFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "value", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
@@ -234,22 +234,46 @@ public class StoredDetails {
        if (!StoredDetails.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'StoredDetails' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<StoredDetails> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(StoredDetails.class));
+       final TypeAdapter<BankAccount> bankAdapter = gson.getAdapter(BankAccount.class);
+       final TypeAdapter<Card> cardAdapter = gson.getAdapter(Card.class);
+       final TypeAdapter<String> emailAddressAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<StoredDetails>() {
            @Override
            public void write(JsonWriter out, StoredDetails value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("bank");
+             bankAdapter.write(out, value.bank);
+             out.name("card");
+             cardAdapter.write(out, value.card);
+             out.name("emailAddress");
+             emailAddressAdapter.write(out, value.emailAddress);
+             out.endObject();
            }
 
            @Override
            public StoredDetails read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             StoredDetails instance = new StoredDetails();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "bank":
+                   instance.bank = bankAdapter.read(in);
+                   break;
+                 case "card":
+                   instance.card = cardAdapter.read(in);
+                   break;
+                 case "emailAddress":
+                   instance.emailAddress = emailAddressAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `StoredDetails` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
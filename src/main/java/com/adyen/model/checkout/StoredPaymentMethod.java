@@ -582,22 +582,106 @@ public class StoredPaymentMethod {
        if (!StoredPaymentMethod.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'StoredPaymentMethod' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<StoredPaymentMethod> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(StoredPaymentMethod.class));
+       final TypeAdapter<String> brandAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> expiryMonthAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> expiryYearAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> holderNameAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> ibanAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> idAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> lastFourAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> nameAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> networkTxReferenceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> ownerNameAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> shopperEmailAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<List<String>> supportedShopperInteractionsAdapter = gson.getAdapter(new TypeToken<List<String>>() {});
+       final TypeAdapter<String> typeAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<StoredPaymentMethod>() {
            @Override
            public void write(JsonWriter out, StoredPaymentMethod value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("brand");
+             brandAdapter.write(out, value.brand);
+             out.name("expiryMonth");
+             expiryMonthAdapter.write(out, value.expiryMonth);
+             out.name("expiryYear");
+             expiryYearAdapter.write(out, value.expiryYear);
+             out.name("holderName");
+             holderNameAdapter.write(out, value.holderName);
+             out.name("iban");
+             ibanAdapter.write(out, value.iban);
+             out.name("id");
+             idAdapter.write(out, value.id);
+             out.name("lastFour");
+             lastFourAdapter.write(out, value.lastFour);
+             out.name("name");
+             nameAdapter.write(out, value.name);
+             out.name("networkTxReference");
+             networkTxReferenceAdapter.write(out, value.networkTxReference);
+             out.name("ownerName");
+             ownerNameAdapter.write(out, value.ownerName);
+             out.name("shopperEmail");
+             shopperEmailAdapter.write(out, value.shopperEmail);
+             out.name("supportedShopperInteractions");
+             supportedShopperInteractionsAdapter.write(out, value.supportedShopperInteractions);
+             out.name("type");
+             typeAdapter.write(out, value.type);
+             out.endObject();
            }
 
            @Override
            public StoredPaymentMethod read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             StoredPaymentMethod instance = new StoredPaymentMethod();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "brand":
+                   instance.brand = brandAdapter.read(in);
+                   break;
+                 case "expiryMonth":
+                   instance.expiryMonth = expiryMonthAdapter.read(in);
+                   break;
+                 case "expiryYear":
+                   instance.expiryYear = expiryYearAdapter.read(in);
+                   break;
+                 case "holderName":
+                   instance.holderName = holderNameAdapter.read(in);
+                   break;
+                 case "iban":
+                   instance.iban = ibanAdapter.read(in);
+                   break;
+                 case "id":
+                   instance.id = idAdapter.read(in);
+                   break;
+                 case "lastFour":
+                   instance.lastFour = lastFourAdapter.read(in);
+                   break;
+                 case "name":
+                   instance.name = nameAdapter.read(in);
+                   break;
+                 case "networkTxReference":
+                   instance.networkTxReference = networkTxReferenceAdapter.read(in);
+                   break;
+                 case "ownerName":
+                   instance.ownerName = ownerNameAdapter.read(in);
+                   break;
+                 case "shopperEmail":
+                   instance.shopperEmail = shopperEmailAdapter.read(in);
+                   break;
+                 case "supportedShopperInteractions":
+                   instance.supportedShopperInteractions = supportedShopperInteractionsAdapter.read(in);
+                   break;
+                 case "type":
+                   instance.type = typeAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `StoredPaymentMethod` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
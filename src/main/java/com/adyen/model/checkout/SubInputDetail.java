@@ -355,22 +355,64 @@ public class SubInputDetail {
        if (!SubInputDetail.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'SubInputDetail' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<SubInputDetail> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(SubInputDetail.class));
+       final TypeAdapter<Map<String, String>> _configurationAdapter = gson.getAdapter(new TypeToken<Map<String, String>>() {});
+       final TypeAdapter<List<Item>> itemsAdapter = gson.getAdapter(new TypeToken<List<Item>>() {});
+       final TypeAdapter<String> keyAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<Boolean> optionalAdapter = gson.getAdapter(Boolean.class);
+       final TypeAdapter<String> typeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> valueAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<SubInputDetail>() {
            @Override
            public void write(JsonWriter out, SubInputDetail value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("configuration");
+             _configurationAdapter.write(out, value._configuration);
+             out.name("items");
+             itemsAdapter.write(out, value.items);
+             out.name("key");
+             keyAdapter.write(out, value.key);
+             out.name("optional");
+             optionalAdapter.write(out, value.optional);
+             out.name("type");
+             typeAdapter.write(out, value.type);
+             out.name("value");
+             valueAdapter.write(out, value.value);
+             out.endObject();
            }
 
            @Override
            public SubInputDetail read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             SubInputDetail instance = new SubInputDetail();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "configuration":
+                   instance._configuration = _configurationAdapter.read(in);
+                   break;
+                 case "items":
+                   instance.items = itemsAdapter.read(in);
+                   break;
+                 case "key":
+                   instance.key = keyAdapter.read(in);
+                   break;
+                 case "optional":
+                   instance.optional = optionalAdapter.read(in);
+                   break;
+                 case "type":
+                   instance.type = typeAdapter.read(in);
+                   break;
+                 case "value":
+                   instance.value = valueAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `SubInputDetail` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
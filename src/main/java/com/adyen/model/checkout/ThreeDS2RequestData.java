@@ -84,13 +84,20 @@ public class ThreeDS2RequestData {
       return String.valueOf(value);
     }
 
-    public static AcctTypeEnum fromValue(String value) {
+    private static final Map<String, AcctTypeEnum> BY_VALUE = new HashMap<String, AcctTypeEnum>();
+
+    static {
       for (AcctTypeEnum b : AcctTypeEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    }
+
+    public static AcctTypeEnum fromValue(String value) {
+      AcctTypeEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      }
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<AcctTypeEnum> {
@@ -143,13 +150,20 @@ public class ThreeDS2RequestData {
       return String.valueOf(value);
     }
 
-    public static AddrMatchEnum fromValue(String value) {
+    private static final Map<String, AddrMatchEnum> BY_VALUE = new HashMap<String, AddrMatchEnum>();
+
+    static {
       for (AddrMatchEnum b : AddrMatchEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    }
+
+    public static AddrMatchEnum fromValue(String value) {
+      AddrMatchEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      }
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<AddrMatchEnum> {
@@ -202,13 +216,20 @@ public class ThreeDS2RequestData {
       return String.valueOf(value);
     }
 
-    public static ChallengeIndicatorEnum fromValue(String value) {
+    private static final Map<String, ChallengeIndicatorEnum> BY_VALUE = new HashMap<String, ChallengeIndicatorEnum>();
+
+    static {
       for (ChallengeIndicatorEnum b : ChallengeIndicatorEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static ChallengeIndicatorEnum fromValue(String value) {
+      ChallengeIndicatorEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<ChallengeIndicatorEnum> {
@@ -351,13 +372,20 @@ public class ThreeDS2RequestData {
       return String.valueOf(value);
     }
 
-    public static ThreeDSRequestorChallengeIndEnum fromValue(String value) {
+    private static final Map<String, ThreeDSRequestorChallengeIndEnum> BY_VALUE = new HashMap<String, ThreeDSRequestorChallengeIndEnum>();
+
+    static {
       for (ThreeDSRequestorChallengeIndEnum b : ThreeDSRequestorChallengeIndEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    }
+
+    public static ThreeDSRequestorChallengeIndEnum fromValue(String value) {
+      ThreeDSRequestorChallengeIndEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      }
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<ThreeDSRequestorChallengeIndEnum> {
@@ -424,13 +452,20 @@ public class ThreeDS2RequestData {
       return String.valueOf(value);
     }
 
-    public static TransTypeEnum fromValue(String value) {
+    private static final Map<String, TransTypeEnum> BY_VALUE = new HashMap<String, TransTypeEnum>();
+
+    static {
       for (TransTypeEnum b : TransTypeEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    }
+
+    public static TransTypeEnum fromValue(String value) {
+      TransTypeEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      }
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<TransTypeEnum> {
@@ -481,13 +516,20 @@ public class ThreeDS2RequestData {
       return String.valueOf(value);
     }
 
-    public static TransactionTypeEnum fromValue(String value) {
+    private static final Map<String, TransactionTypeEnum> BY_VALUE = new HashMap<String, TransactionTypeEnum>();
+
+    static {
       for (TransactionTypeEnum b : TransactionTypeEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static TransactionTypeEnum fromValue(String value) {
+      TransactionTypeEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<TransactionTypeEnum> {
@@ -1786,22 +1828,267 @@ public class ThreeDS2RequestData {
        if (!ThreeDS2RequestData.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'ThreeDS2RequestData' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<ThreeDS2RequestData> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(ThreeDS2RequestData.class));
+       final TypeAdapter<AcctInfo> acctInfoAdapter = gson.getAdapter(AcctInfo.class);
+       final TypeAdapter<AcctTypeEnum> acctTypeAdapter = gson.getAdapter(AcctTypeEnum.class);
+       final TypeAdapter<String> acquirerBINAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> acquirerMerchantIDAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<AddrMatchEnum> addrMatchAdapter = gson.getAdapter(AddrMatchEnum.class);
+       final TypeAdapter<Boolean> authenticationOnlyAdapter = gson.getAdapter(Boolean.class);
+       final TypeAdapter<ChallengeIndicatorEnum> challengeIndicatorAdapter = gson.getAdapter(ChallengeIndicatorEnum.class);
+       final TypeAdapter<String> deviceChannelAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<DeviceRenderOptions> deviceRenderOptionsAdapter = gson.getAdapter(DeviceRenderOptions.class);
+       final TypeAdapter<Phone> homePhoneAdapter = gson.getAdapter(Phone.class);
+       final TypeAdapter<String> mccAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> merchantNameAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> messageVersionAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<Phone> mobilePhoneAdapter = gson.getAdapter(Phone.class);
+       final TypeAdapter<String> notificationURLAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<Boolean> payTokenIndAdapter = gson.getAdapter(Boolean.class);
+       final TypeAdapter<String> paymentAuthenticationUseCaseAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> purchaseInstalDataAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> recurringExpiryAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> recurringFrequencyAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> sdkAppIDAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> sdkEncDataAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<SDKEphemPubKey> sdkEphemPubKeyAdapter = gson.getAdapter(SDKEphemPubKey.class);
+       final TypeAdapter<Integer> sdkMaxTimeoutAdapter = gson.getAdapter(Integer.class);
+       final TypeAdapter<String> sdkReferenceNumberAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> sdkTransIDAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> sdkVersionAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> threeDSCompIndAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> threeDSRequestorAuthenticationIndAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<ThreeDSRequestorAuthenticationInfo> threeDSRequestorAuthenticationInfoAdapter = gson.getAdapter(ThreeDSRequestorAuthenticationInfo.class);
+       final TypeAdapter<ThreeDSRequestorChallengeIndEnum> threeDSRequestorChallengeIndAdapter = gson.getAdapter(ThreeDSRequestorChallengeIndEnum.class);
+       final TypeAdapter<String> threeDSRequestorIDAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> threeDSRequestorNameAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<ThreeDSRequestorPriorAuthenticationInfo> threeDSRequestorPriorAuthenticationInfoAdapter = gson.getAdapter(ThreeDSRequestorPriorAuthenticationInfo.class);
+       final TypeAdapter<String> threeDSRequestorURLAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<TransTypeEnum> transTypeAdapter = gson.getAdapter(TransTypeEnum.class);
+       final TypeAdapter<TransactionTypeEnum> transactionTypeAdapter = gson.getAdapter(TransactionTypeEnum.class);
+       final TypeAdapter<String> whiteListStatusAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<Phone> workPhoneAdapter = gson.getAdapter(Phone.class);
 
        return (TypeAdapter<T>) new TypeAdapter<ThreeDS2RequestData>() {
            @Override
            public void write(JsonWriter out, ThreeDS2RequestData value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("acctInfo");
+             acctInfoAdapter.write(out, value.acctInfo);
+             out.name("acctType");
+             acctTypeAdapter.write(out, value.acctType);
+             out.name("acquirerBIN");
+             acquirerBINAdapter.write(out, value.acquirerBIN);
+             out.name("acquirerMerchantID");
+             acquirerMerchantIDAdapter.write(out, value.acquirerMerchantID);
+             out.name("addrMatch");
+             addrMatchAdapter.write(out, value.addrMatch);
+             out.name("authenticationOnly");
+             authenticationOnlyAdapter.write(out, value.authenticationOnly);
+             out.name("challengeIndicator");
+             challengeIndicatorAdapter.write(out, value.challengeIndicator);
+             out.name("deviceChannel");
+             deviceChannelAdapter.write(out, value.deviceChannel);
+             out.name("deviceRenderOptions");
+             deviceRenderOptionsAdapter.write(out, value.deviceRenderOptions);
+             out.name("homePhone");
+             homePhoneAdapter.write(out, value.homePhone);
+             out.name("mcc");
+             mccAdapter.write(out, value.mcc);
+             out.name("merchantName");
+             merchantNameAdapter.write(out, value.merchantName);
+             out.name("messageVersion");
+             messageVersionAdapter.write(out, value.messageVersion);
+             out.name("mobilePhone");
+             mobilePhoneAdapter.write(out, value.mobilePhone);
+             out.name("notificationURL");
+             notificationURLAdapter.write(out, value.notificationURL);
+             out.name("payTokenInd");
+             payTokenIndAdapter.write(out, value.payTokenInd);
+             out.name("paymentAuthenticationUseCase");
+             paymentAuthenticationUseCaseAdapter.write(out, value.paymentAuthenticationUseCase);
+             out.name("purchaseInstalData");
+             purchaseInstalDataAdapter.write(out, value.purchaseInstalData);
+             out.name("recurringExpiry");
+             recurringExpiryAdapter.write(out, value.recurringExpiry);
+             out.name("recurringFrequency");
+             recurringFrequencyAdapter.write(out, value.recurringFrequency);
+             out.name("sdkAppID");
+             sdkAppIDAdapter.write(out, value.sdkAppID);
+             out.name("sdkEncData");
+             sdkEncDataAdapter.write(out, value.sdkEncData);
+             out.name("sdkEphemPubKey");
+             sdkEphemPubKeyAdapter.write(out, value.sdkEphemPubKey);
+             out.name("sdkMaxTimeout");
+             sdkMaxTimeoutAdapter.write(out, value.sdkMaxTimeout);
+             out.name("sdkReferenceNumber");
+             sdkReferenceNumberAdapter.write(out, value.sdkReferenceNumber);
+             out.name("sdkTransID");
+             sdkTransIDAdapter.write(out, value.sdkTransID);
+             out.name("sdkVersion");
+             sdkVersionAdapter.write(out, value.sdkVersion);
+             out.name("threeDSCompInd");
+             threeDSCompIndAdapter.write(out, value.threeDSCompInd);
+             out.name("threeDSRequestorAuthenticationInd");
+             threeDSRequestorAuthenticationIndAdapter.write(out, value.threeDSRequestorAuthenticationInd);
+             out.name("threeDSRequestorAuthenticationInfo");
+             threeDSRequestorAuthenticationInfoAdapter.write(out, value.threeDSRequestorAuthenticationInfo);
+             out.name("threeDSRequestorChallengeInd");
+             threeDSRequestorChallengeIndAdapter.write(out, value.threeDSRequestorChallengeInd);
+             out.name("threeDSRequestorID");
+             threeDSRequestorIDAdapter.write(out, value.threeDSRequestorID);
+             out.name("threeDSRequestorName");
+             threeDSRequestorNameAdapter.write(out, value.threeDSRequestorName);
+             out.name("threeDSRequestorPriorAuthenticationInfo");
+             threeDSRequestorPriorAuthenticationInfoAdapter.write(out, value.threeDSRequestorPriorAuthenticationInfo);
+             out.name("threeDSRequestorURL");
+             threeDSRequestorURLAdapter.write(out, value.threeDSRequestorURL);
+             out.name("transType");
+             transTypeAdapter.write(out, value.transType);
+             out.name("transactionType");
+             transactionTypeAdapter.write(out, value.transactionType);
+             out.name("whiteListStatus");
+             whiteListStatusAdapter.write(out, value.whiteListStatus);
+             out.name("workPhone");
+             workPhoneAdapter.write(out, value.workPhone);
+             out.endObject();
            }
 
            @Override
            public ThreeDS2RequestData read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             ThreeDS2RequestData instance = new ThreeDS2RequestData();
+             boolean deviceChannelFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "acctInfo":
+                   instance.acctInfo = acctInfoAdapter.read(in);
+                   break;
+                 case "acctType":
+                   instance.acctType = acctTypeAdapter.read(in);
+                   break;
+                 case "acquirerBIN":
+                   instance.acquirerBIN = acquirerBINAdapter.read(in);
+                   break;
+                 case "acquirerMerchantID":
+                   instance.acquirerMerchantID = acquirerMerchantIDAdapter.read(in);
+                   break;
+                 case "addrMatch":
+                   instance.addrMatch = addrMatchAdapter.read(in);
+                   break;
+                 case "authenticationOnly":
+                   instance.authenticationOnly = authenticationOnlyAdapter.read(in);
+                   break;
+                 case "challengeIndicator":
+                   instance.challengeIndicator = challengeIndicatorAdapter.read(in);
+                   break;
+                 case "deviceChannel":
+                   instance.deviceChannel = deviceChannelAdapter.read(in);
+                   deviceChannelFound = true;
+                   break;
+                 case "deviceRenderOptions":
+                   instance.deviceRenderOptions = deviceRenderOptionsAdapter.read(in);
+                   break;
+                 case "homePhone":
+                   instance.homePhone = homePhoneAdapter.read(in);
+                   break;
+                 case "mcc":
+                   instance.mcc = mccAdapter.read(in);
+                   break;
+                 case "merchantName":
+                   instance.merchantName = merchantNameAdapter.read(in);
+                   break;
+                 case "messageVersion":
+                   instance.messageVersion = messageVersionAdapter.read(in);
+                   break;
+                 case "mobilePhone":
+                   instance.mobilePhone = mobilePhoneAdapter.read(in);
+                   break;
+                 case "notificationURL":
+                   instance.notificationURL = notificationURLAdapter.read(in);
+                   break;
+                 case "payTokenInd":
+                   instance.payTokenInd = payTokenIndAdapter.read(in);
+                   break;
+                 case "paymentAuthenticationUseCase":
+                   instance.paymentAuthenticationUseCase = paymentAuthenticationUseCaseAdapter.read(in);
+                   break;
+                 case "purchaseInstalData":
+                   instance.purchaseInstalData = purchaseInstalDataAdapter.read(in);
+                   break;
+                 case "recurringExpiry":
+                   instance.recurringExpiry = recurringExpiryAdapter.read(in);
+                   break;
+                 case "recurringFrequency":
+                   instance.recurringFrequency = recurringFrequencyAdapter.read(in);
+                   break;
+                 case "sdkAppID":
+                   instance.sdkAppID = sdkAppIDAdapter.read(in);
+                   break;
+                 case "sdkEncData":
+                   instance.sdkEncData = sdkEncDataAdapter.read(in);
+                   break;
+                 case "sdkEphemPubKey":
+                   instance.sdkEphemPubKey = sdkEphemPubKeyAdapter.read(in);
+                   break;
+                 case "sdkMaxTimeout":
+                   instance.sdkMaxTimeout = sdkMaxTimeoutAdapter.read(in);
+                   break;
+                 case "sdkReferenceNumber":
+                   instance.sdkReferenceNumber = sdkReferenceNumberAdapter.read(in);
+                   break;
+                 case "sdkTransID":
+                   instance.sdkTransID = sdkTransIDAdapter.read(in);
+                   break;
+                 case "sdkVersion":
+                   instance.sdkVersion = sdkVersionAdapter.read(in);
+                   break;
+                 case "threeDSCompInd":
+                   instance.threeDSCompInd = threeDSCompIndAdapter.read(in);
+                   break;
+                 case "threeDSRequestorAuthenticationInd":
+                   instance.threeDSRequestorAuthenticationInd = threeDSRequestorAuthenticationIndAdapter.read(in);
+                   break;
+                 case "threeDSRequestorAuthenticationInfo":
+                   instance.threeDSRequestorAuthenticationInfo = threeDSRequestorAuthenticationInfoAdapter.read(in);
+                   break;
+                 case "threeDSRequestorChallengeInd":
+                   instance.threeDSRequestorChallengeInd = threeDSRequestorChallengeIndAdapter.read(in);
+                   break;
+                 case "threeDSRequestorID":
+                   instance.threeDSRequestorID = threeDSRequestorIDAdapter.read(in);
+                   break;
+                 case "threeDSRequestorName":
+                   instance.threeDSRequestorName = threeDSRequestorNameAdapter.read(in);
+                   break;
+                 case "threeDSRequestorPriorAuthenticationInfo":
+                   instance.threeDSRequestorPriorAuthenticationInfo = threeDSRequestorPriorAuthenticationInfoAdapter.read(in);
+                   break;
+                 case "threeDSRequestorURL":
+                   instance.threeDSRequestorURL = threeDSRequestorURLAdapter.read(in);
+                   break;
+                 case "transType":
+                   instance.transType = transTypeAdapter.read(in);
+                   break;
+                 case "transactionType":
+                   instance.transactionType = transactionTypeAdapter.read(in);
+                   break;
+                 case "whiteListStatus":
+                   instance.whiteListStatus = whiteListStatusAdapter.read(in);
+                   break;
+                 case "workPhone":
+                   instance.workPhone = workPhoneAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `ThreeDS2RequestData` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!deviceChannelFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "deviceChannel", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
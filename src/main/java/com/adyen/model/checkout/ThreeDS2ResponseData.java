@@ -776,22 +776,142 @@ public class ThreeDS2ResponseData {
        if (!ThreeDS2ResponseData.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'ThreeDS2ResponseData' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<ThreeDS2ResponseData> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(ThreeDS2ResponseData.class));
+       final TypeAdapter<String> acsChallengeMandatedAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> acsOperatorIDAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> acsReferenceNumberAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> acsSignedContentAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> acsTransIDAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> acsURLAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> authenticationTypeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> cardHolderInfoAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> cavvAlgorithmAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> challengeIndicatorAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> dsReferenceNumberAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> dsTransIDAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> exemptionIndicatorAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> messageVersionAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> riskScoreAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> sdkEphemPubKeyAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> threeDSServerTransIDAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> transStatusAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> transStatusReasonAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<ThreeDS2ResponseData>() {
            @Override
            public void write(JsonWriter out, ThreeDS2ResponseData value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("acsChallengeMandated");
+             acsChallengeMandatedAdapter.write(out, value.acsChallengeMandated);
+             out.name("acsOperatorID");
+             acsOperatorIDAdapter.write(out, value.acsOperatorID);
+             out.name("acsReferenceNumber");
+             acsReferenceNumberAdapter.write(out, value.acsReferenceNumber);
+             out.name("acsSignedContent");
+             acsSignedContentAdapter.write(out, value.acsSignedContent);
+             out.name("acsTransID");
+             acsTransIDAdapter.write(out, value.acsTransID);
+             out.name("acsURL");
+             acsURLAdapter.write(out, value.acsURL);
+             out.name("authenticationType");
+             authenticationTypeAdapter.write(out, value.authenticationType);
+             out.name("cardHolderInfo");
+             cardHolderInfoAdapter.write(out, value.cardHolderInfo);
+             out.name("cavvAlgorithm");
+             cavvAlgorithmAdapter.write(out, value.cavvAlgorithm);
+             out.name("challengeIndicator");
+             challengeIndicatorAdapter.write(out, value.challengeIndicator);
+             out.name("dsReferenceNumber");
+             dsReferenceNumberAdapter.write(out, value.dsReferenceNumber);
+             out.name("dsTransID");
+             dsTransIDAdapter.write(out, value.dsTransID);
+             out.name("exemptionIndicator");
+             exemptionIndicatorAdapter.write(out, value.exemptionIndicator);
+             out.name("messageVersion");
+             messageVersionAdapter.write(out, value.messageVersion);
+             out.name("riskScore");
+             riskScoreAdapter.write(out, value.riskScore);
+             out.name("sdkEphemPubKey");
+             sdkEphemPubKeyAdapter.write(out, value.sdkEphemPubKey);
+             out.name("threeDSServerTransID");
+             threeDSServerTransIDAdapter.write(out, value.threeDSServerTransID);
+             out.name("transStatus");
+             transStatusAdapter.write(out, value.transStatus);
+             out.name("transStatusReason");
+             transStatusReasonAdapter.write(out, value.transStatusReason);
+             out.endObject();
            }
 
            @Override
            public ThreeDS2ResponseData read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             ThreeDS2ResponseData instance = new ThreeDS2ResponseData();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "acsChallengeMandated":
+                   instance.acsChallengeMandated = acsChallengeMandatedAdapter.read(in);
+                   break;
+                 case "acsOperatorID":
+                   instance.acsOperatorID = acsOperatorIDAdapter.read(in);
+                   break;
+                 case "acsReferenceNumber":
+                   instance.acsReferenceNumber = acsReferenceNumberAdapter.read(in);
+                   break;
+                 case "acsSignedContent":
+                   instance.acsSignedContent = acsSignedContentAdapter.read(in);
+                   break;
+                 case "acsTransID":
+                   instance.acsTransID = acsTransIDAdapter.read(in);
+                   break;
+                 case "acsURL":
+                   instance.acsURL = acsURLAdapter.read(in);
+                   break;
+                 case "authenticationType":
+                   instance.authenticationType = authenticationTypeAdapter.read(in);
+                   break;
+                 case "cardHolderInfo":
+                   instance.cardHolderInfo = cardHolderInfoAdapter.read(in);
+                   break;
+                 case "cavvAlgorithm":
+                   instance.cavvAlgorithm = cavvAlgorithmAdapter.read(in);
+                   break;
+                 case "challengeIndicator":
+                   instance.challengeIndicator = challengeIndicatorAdapter.read(in);
+                   break;
+                 case "dsReferenceNumber":
+                   instance.dsReferenceNumber = dsReferenceNumberAdapter.read(in);
+                   break;
+                 case "dsTransID":
+                   instance.dsTransID = dsTransIDAdapter.read(in);
+                   break;
+                 case "exemptionIndicator":
+                   instance.exemptionIndicator = exemptionIndicatorAdapter.read(in);
+                   break;
+                 case "messageVersion":
+                   instance.messageVersion = messageVersionAdapter.read(in);
+                   break;
+                 case "riskScore":
+                   instance.riskScore = riskScoreAdapter.read(in);
+                   break;
+                 case "sdkEphemPubKey":
+                   instance.sdkEphemPubKey = sdkEphemPubKeyAdapter.read(in);
+                   break;
+                 case "threeDSServerTransID":
+                   instance.threeDSServerTransID = threeDSServerTransIDAdapter.read(in);
+                   break;
+                 case "transStatus":
+                   instance.transStatus = transStatusAdapter.read(in);
+                   break;
+                 case "transStatusReason":
+                   instance.transStatusReason = transStatusReasonAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `ThreeDS2ResponseData` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
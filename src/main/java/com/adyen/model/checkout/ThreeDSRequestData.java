@@ -78,13 +78,20 @@ public class ThreeDSRequestData {
       return String.valueOf(value);
     }
 
-    public static ChallengeWindowSizeEnum fromValue(String value) {
+    private static final Map<String, ChallengeWindowSizeEnum> BY_VALUE = new HashMap<String, ChallengeWindowSizeEnum>();
+
+    static {
       for (ChallengeWindowSizeEnum b : ChallengeWindowSizeEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    }
+
+    public static ChallengeWindowSizeEnum fromValue(String value) {
+      ChallengeWindowSizeEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      }
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<ChallengeWindowSizeEnum> {
@@ -127,13 +134,20 @@ public class ThreeDSRequestData {
       return String.valueOf(value);
     }
 
-    public static NativeThreeDSEnum fromValue(String value) {
+    private static final Map<String, NativeThreeDSEnum> BY_VALUE = new HashMap<String, NativeThreeDSEnum>();
+
+    static {
       for (NativeThreeDSEnum b : NativeThreeDSEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    }
+
+    public static NativeThreeDSEnum fromValue(String value) {
+      NativeThreeDSEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      }
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<NativeThreeDSEnum> {
@@ -178,13 +192,20 @@ public class ThreeDSRequestData {
       return String.valueOf(value);
     }
 
-    public static ThreeDSVersionEnum fromValue(String value) {
+    private static final Map<String, ThreeDSVersionEnum> BY_VALUE = new HashMap<String, ThreeDSVersionEnum>();
+
+    static {
       for (ThreeDSVersionEnum b : ThreeDSVersionEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static ThreeDSVersionEnum fromValue(String value) {
+      ThreeDSVersionEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<ThreeDSVersionEnum> {
@@ -386,22 +407,46 @@ public class ThreeDSRequestData {
        if (!ThreeDSRequestData.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'ThreeDSRequestData' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<ThreeDSRequestData> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(ThreeDSRequestData.class));
+       final TypeAdapter<ChallengeWindowSizeEnum> challengeWindowSizeAdapter = gson.getAdapter(ChallengeWindowSizeEnum.class);
+       final TypeAdapter<NativeThreeDSEnum> nativeThreeDSAdapter = gson.getAdapter(NativeThreeDSEnum.class);
+       final TypeAdapter<ThreeDSVersionEnum> threeDSVersionAdapter = gson.getAdapter(ThreeDSVersionEnum.class);
 
        return (TypeAdapter<T>) new TypeAdapter<ThreeDSRequestData>() {
            @Override
            public void write(JsonWriter out, ThreeDSRequestData value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("challengeWindowSize");
+             challengeWindowSizeAdapter.write(out, value.challengeWindowSize);
+             out.name("nativeThreeDS");
+             nativeThreeDSAdapter.write(out, value.nativeThreeDS);
+             out.name("threeDSVersion");
+             threeDSVersionAdapter.write(out, value.threeDSVersion);
+             out.endObject();
            }
 
            @Override
            public ThreeDSRequestData read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             ThreeDSRequestData instance = new ThreeDSRequestData();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "challengeWindowSize":
+                   instance.challengeWindowSize = challengeWindowSizeAdapter.read(in);
+                   break;
+                 case "nativeThreeDS":
+                   instance.nativeThreeDS = nativeThreeDSAdapter.read(in);
+                   break;
+                 case "threeDSVersion":
+                   instance.threeDSVersion = threeDSVersionAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `ThreeDSRequestData` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
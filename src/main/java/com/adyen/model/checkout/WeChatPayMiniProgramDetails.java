@@ -78,13 +78,20 @@ public class WeChatPayMiniProgramDetails {
       return String.valueOf(value);
     }
 
-    public static TypeEnum fromValue(String value) {
+    private static final Map<String, TypeEnum> BY_VALUE = new HashMap<String, TypeEnum>();
+
+    static {
       for (TypeEnum b : TypeEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static TypeEnum fromValue(String value) {
+      TypeEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<TypeEnum> {
@@ -280,22 +287,46 @@ public class WeChatPayMiniProgramDetails {
        if (!WeChatPayMiniProgramDetails.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'WeChatPayMiniProgramDetails' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<WeChatPayMiniProgramDetails> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(WeChatPayMiniProgramDetails.class));
+       final TypeAdapter<String> appIdAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> openidAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<TypeEnum> typeAdapter = gson.getAdapter(TypeEnum.class);
 
        return (TypeAdapter<T>) new TypeAdapter<WeChatPayMiniProgramDetails>() {
            @Override
            public void write(JsonWriter out, WeChatPayMiniProgramDetails value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("appId");
+             appIdAdapter.write(out, value.appId);
+             out.name("openid");
+             openidAdapter.write(out, value.openid);
+             out.name("type");
+             typeAdapter.write(out, value.type);
+             out.endObject();
            }
 
            @Override
            public WeChatPayMiniProgramDetails read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             WeChatPayMiniProgramDetails instance = new WeChatPayMiniProgramDetails();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "appId":
+                   instance.appId = appIdAdapter.read(in);
+                   break;
+                 case "openid":
+                   instance.openid = openidAdapter.read(in);
+                   break;
+                 case "type":
+                   instance.type = typeAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `WeChatPayMiniProgramDetails` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
@@ -342,22 +342,69 @@ public class Address {
        if (!Address.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'Address' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<Address> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(Address.class));
+       final TypeAdapter<String> cityAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> countryAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> postalCodeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> stateOrProvinceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> streetAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> street2Adapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<Address>() {
            @Override
            public void write(JsonWriter out, Address value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("city");
+             cityAdapter.write(out, value.city);
+             out.name("country");
+             countryAdapter.write(out, value.country);
+             out.name("postalCode");
+             postalCodeAdapter.write(out, value.postalCode);
+             out.name("stateOrProvince");
+             stateOrProvinceAdapter.write(out, value.stateOrProvince);
+             out.name("street");
+             streetAdapter.write(out, value.street);
+             out.name("street2");
+             street2Adapter.write(out, value.street2);
+             out.endObject();
            }
 
            @Override
            public Address read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             Address instance = new Address();
+             boolean countryFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "city":
+                   instance.city = cityAdapter.read(in);
+                   break;
+                 case "country":
+                   instance.country = countryAdapter.read(in);
+                   countryFound = true;
+                   break;
+                 case "postalCode":
+                   instance.postalCode = postalCodeAdapter.read(in);
+                   break;
+                 case "stateOrProvince":
+                   instance.stateOrProvince = stateOrProvinceAdapter.read(in);
+                   break;
+                 case "street":
+                   instance.street = streetAdapter.read(in);
+                   break;
+                 case "street2":
+                   instance.street2 = street2Adapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `Address` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!countryFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "country", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
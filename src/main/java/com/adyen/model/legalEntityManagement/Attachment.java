@@ -308,22 +308,63 @@ public class Attachment {
        if (!Attachment.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'Attachment' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<Attachment> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(Attachment.class));
+       final TypeAdapter<byte[]> contentAdapter = gson.getAdapter(byte[].class);
+       final TypeAdapter<String> contentTypeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> filenameAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> pageNameAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> pageTypeAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<Attachment>() {
            @Override
            public void write(JsonWriter out, Attachment value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("content");
+             contentAdapter.write(out, value.content);
+             out.name("contentType");
+             contentTypeAdapter.write(out, value.contentType);
+             out.name("filename");
+             filenameAdapter.write(out, value.filename);
+             out.name("pageName");
+             pageNameAdapter.write(out, value.pageName);
+             out.name("pageType");
+             pageTypeAdapter.write(out, value.pageType);
+             out.endObject();
            }
 
            @Override
            public Attachment read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             Attachment instance = new Attachment();
+             boolean contentFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "content":
+                   instance.content = contentAdapter.read(in);
+                   contentFound = true;
+                   break;
+                 case "contentType":
+                   instance.contentType = contentTypeAdapter.read(in);
+                   break;
+                 case "filename":
+                   instance.filename = filenameAdapter.read(in);
+                   break;
+                 case "pageName":
+                   instance.pageName = pageNameAdapter.read(in);
+                   break;
+                 case "pageType":
+                   instance.pageType = pageTypeAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `Attachment` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!contentFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "content", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
@@ -515,22 +515,104 @@ public class BankAccountInfo {
        if (!BankAccountInfo.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'BankAccountInfo' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<BankAccountInfo> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(BankAccountInfo.class));
+       final TypeAdapter<String> accountNumberAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> accountTypeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> bankBicSwiftAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> bankCityAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> bankCodeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> bankNameAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> branchCodeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> checkCodeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> countryCodeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> currencyCodeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> ibanAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<BankAccountInfo>() {
            @Override
            public void write(JsonWriter out, BankAccountInfo value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("accountNumber");
+             accountNumberAdapter.write(out, value.accountNumber);
+             out.name("accountType");
+             accountTypeAdapter.write(out, value.accountType);
+             out.name("bankBicSwift");
+             bankBicSwiftAdapter.write(out, value.bankBicSwift);
+             out.name("bankCity");
+             bankCityAdapter.write(out, value.bankCity);
+             out.name("bankCode");
+             bankCodeAdapter.write(out, value.bankCode);
+             out.name("bankName");
+             bankNameAdapter.write(out, value.bankName);
+             out.name("branchCode");
+             branchCodeAdapter.write(out, value.branchCode);
+             out.name("checkCode");
+             checkCodeAdapter.write(out, value.checkCode);
+             out.name("countryCode");
+             countryCodeAdapter.write(out, value.countryCode);
+             out.name("currencyCode");
+             currencyCodeAdapter.write(out, value.currencyCode);
+             out.name("iban");
+             ibanAdapter.write(out, value.iban);
+             out.endObject();
            }
 
            @Override
            public BankAccountInfo read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             BankAccountInfo instance = new BankAccountInfo();
+             boolean countryCodeFound = false;
+             boolean currencyCodeFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "accountNumber":
+                   instance.accountNumber = accountNumberAdapter.read(in);
+                   break;
+                 case "accountType":
+                   instance.accountType = accountTypeAdapter.read(in);
+                   break;
+                 case "bankBicSwift":
+                   instance.bankBicSwift = bankBicSwiftAdapter.read(in);
+                   break;
+                 case "bankCity":
+                   instance.bankCity = bankCityAdapter.read(in);
+                   break;
+                 case "bankCode":
+                   instance.bankCode = bankCodeAdapter.read(in);
+                   break;
+                 case "bankName":
+                   instance.bankName = bankNameAdapter.read(in);
+                   break;
+                 case "branchCode":
+                   instance.branchCode = branchCodeAdapter.read(in);
+                   break;
+                 case "checkCode":
+                   instance.checkCode = checkCodeAdapter.read(in);
+                   break;
+                 case "countryCode":
+                   instance.countryCode = countryCodeAdapter.read(in);
+                   countryCodeFound = true;
+                   break;
+                 case "currencyCode":
+                   instance.currencyCode = currencyCodeAdapter.read(in);
+                   currencyCodeFound = true;
+                   break;
+                 case "iban":
+                   instance.iban = ibanAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `BankAccountInfo` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!countryCodeFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "countryCode", in.getPath()));
+             }
+             if (!currencyCodeFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "currencyCode", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
@@ -164,22 +164,34 @@ public class BirthData {
        if (!BirthData.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'BirthData' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<BirthData> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(BirthData.class));
+       final TypeAdapter<String> dateOfBirthAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<BirthData>() {
            @Override
            public void write(JsonWriter out, BirthData value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("dateOfBirth");
+             dateOfBirthAdapter.write(out, value.dateOfBirth);
+             out.endObject();
            }
 
            @Override
            public BirthData read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             BirthData instance = new BirthData();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "dateOfBirth":
+                   instance.dateOfBirth = dateOfBirthAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `BirthData` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
@@ -397,22 +397,70 @@ public class BusinessLineInfoUpdate {
        if (!BusinessLineInfoUpdate.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'BusinessLineInfoUpdate' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<BusinessLineInfoUpdate> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(BusinessLineInfoUpdate.class));
+       final TypeAdapter<String> capabilityAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> industryCodeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> legalEntityIdAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<List<String>> salesChannelsAdapter = gson.getAdapter(new TypeToken<List<String>>() {});
+       final TypeAdapter<SourceOfFunds> sourceOfFundsAdapter = gson.getAdapter(SourceOfFunds.class);
+       final TypeAdapter<List<WebData>> webDataAdapter = gson.getAdapter(new TypeToken<List<WebData>>() {});
+       final TypeAdapter<WebDataExemption> webDataExemptionAdapter = gson.getAdapter(WebDataExemption.class);
 
        return (TypeAdapter<T>) new TypeAdapter<BusinessLineInfoUpdate>() {
            @Override
            public void write(JsonWriter out, BusinessLineInfoUpdate value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("capability");
+             capabilityAdapter.write(out, value.capability);
+             out.name("industryCode");
+             industryCodeAdapter.write(out, value.industryCode);
+             out.name("legalEntityId");
+             legalEntityIdAdapter.write(out, value.legalEntityId);
+             out.name("salesChannels");
+             salesChannelsAdapter.write(out, value.salesChannels);
+             out.name("sourceOfFunds");
+             sourceOfFundsAdapter.write(out, value.sourceOfFunds);
+             out.name("webData");
+             webDataAdapter.write(out, value.webData);
+             out.name("webDataExemption");
+             webDataExemptionAdapter.write(out, value.webDataExemption);
+             out.endObject();
            }
 
            @Override
            public BusinessLineInfoUpdate read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             BusinessLineInfoUpdate instance = new BusinessLineInfoUpdate();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "capability":
+                   instance.capability = capabilityAdapter.read(in);
+                   break;
+                 case "industryCode":
+                   instance.industryCode = industryCodeAdapter.read(in);
+                   break;
+                 case "legalEntityId":
+                   instance.legalEntityId = legalEntityIdAdapter.read(in);
+                   break;
+                 case "salesChannels":
+                   instance.salesChannels = salesChannelsAdapter.read(in);
+                   break;
+                 case "sourceOfFunds":
+                   instance.sourceOfFunds = sourceOfFundsAdapter.read(in);
+                   break;
+                 case "webData":
+                   instance.webData = webDataAdapter.read(in);
+                   break;
+                 case "webDataExemption":
+                   instance.webDataExemption = webDataExemptionAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `BusinessLineInfoUpdate` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
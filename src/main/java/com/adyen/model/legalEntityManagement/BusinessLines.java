@@ -188,22 +188,39 @@ public class BusinessLines {
        if (!BusinessLines.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'BusinessLines' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<BusinessLines> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(BusinessLines.class));
+       final TypeAdapter<List<BusinessLine>> businessLinesAdapter = gson.getAdapter(new TypeToken<List<BusinessLine>>() {});
 
        return (TypeAdapter<T>) new TypeAdapter<BusinessLines>() {
            @Override
            public void write(JsonWriter out, BusinessLines value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("businessLines");
+             businessLinesAdapter.write(out, value.businessLines);
+             out.endObject();
            }
 
            @Override
            public BusinessLines read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             BusinessLines instance = new BusinessLines();
+             boolean businessLinesFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "businessLines":
+                   instance.businessLines = businessLinesAdapter.read(in);
+                   businessLinesFound = true;
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `BusinessLines` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!businessLinesFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "businessLines", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
@@ -138,13 +138,20 @@ public class Document {
       return String.valueOf(value);
     }
 
-    public static TypeEnum fromValue(String value) {
+    private static final Map<String, TypeEnum> BY_VALUE = new HashMap<String, TypeEnum>();
+
+    static {
       for (TypeEnum b : TypeEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static TypeEnum fromValue(String value) {
+      TypeEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<TypeEnum> {
@@ -610,22 +617,119 @@ public class Document {
        if (!Document.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'Document' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<Document> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(Document.class));
+       final TypeAdapter<Attachment> attachmentAdapter = gson.getAdapter(Attachment.class);
+       final TypeAdapter<List<Attachment>> attachmentsAdapter = gson.getAdapter(new TypeToken<List<Attachment>>() {});
+       final TypeAdapter<String> descriptionAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> expiryDateAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> fileNameAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> idAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> issuerCountryAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> issuerStateAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> numberAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<OwnerEntity> ownerAdapter = gson.getAdapter(OwnerEntity.class);
+       final TypeAdapter<TypeEnum> typeAdapter = gson.getAdapter(TypeEnum.class);
 
        return (TypeAdapter<T>) new TypeAdapter<Document>() {
            @Override
            public void write(JsonWriter out, Document value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("attachment");
+             attachmentAdapter.write(out, value.attachment);
+             out.name("attachments");
+             attachmentsAdapter.write(out, value.attachments);
+             out.name("description");
+             descriptionAdapter.write(out, value.description);
+             out.name("expiryDate");
+             expiryDateAdapter.write(out, value.expiryDate);
+             out.name("fileName");
+             fileNameAdapter.write(out, value.fileName);
+             out.name("id");
+             idAdapter.write(out, value.id);
+             out.name("issuerCountry");
+             issuerCountryAdapter.write(out, value.issuerCountry);
+             out.name("issuerState");
+             issuerStateAdapter.write(out, value.issuerState);
+             out.name("number");
+             numberAdapter.write(out, value.number);
+             out.name("owner");
+             ownerAdapter.write(out, value.owner);
+             out.name("type");
+             typeAdapter.write(out, value.type);
+             out.endObject();
            }
 
            @Override
            public Document read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             Document instance = new Document();
+             boolean attachmentsFound = false;
+             boolean descriptionFound = false;
+             boolean idFound = false;
+             boolean ownerFound = false;
+             boolean typeFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "attachment":
+                   instance.attachment = attachmentAdapter.read(in);
+                   break;
+                 case "attachments":
+                   instance.attachments = attachmentsAdapter.read(in);
+                   attachmentsFound = true;
+                   break;
+                 case "description":
+                   instance.description = descriptionAdapter.read(in);
+                   descriptionFound = true;
+                   break;
+                 case "expiryDate":
+                   instance.expiryDate = expiryDateAdapter.read(in);
+                   break;
+                 case "fileName":
+                   instance.fileName = fileNameAdapter.read(in);
+                   break;
+                 case "id":
+                   instance.id = idAdapter.read(in);
+                   idFound = true;
+                   break;
+                 case "issuerCountry":
+                   instance.issuerCountry = issuerCountryAdapter.read(in);
+                   break;
+                 case "issuerState":
+                   instance.issuerState = issuerStateAdapter.read(in);
+                   break;
+                 case "number":
+                   instance.number = numberAdapter.read(in);
+                   break;
+                 case "owner":
+                   instance.owner = ownerAdapter.read(in);
+                   ownerFound = true;
+                   break;
+                 case "type":
+                   instance.type = typeAdapter.read(in);
+                   typeFound = true;
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `Document` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!attachmentsFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "attachments", in.getPath()));
+             }
+             if (!descriptionFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "description", in.getPath()));
+             }
+             if (!idFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "id", in.getPath()));
+             }
+             if (!ownerFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "owner", in.getPath()));
+             }
+             if (!typeFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "type", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
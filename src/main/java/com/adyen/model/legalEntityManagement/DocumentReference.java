@@ -228,22 +228,46 @@ public class DocumentReference {
        if (!DocumentReference.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'DocumentReference' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<DocumentReference> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(DocumentReference.class));
+       final TypeAdapter<Boolean> activeAdapter = gson.getAdapter(Boolean.class);
+       final TypeAdapter<String> fileNameAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> idAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<DocumentReference>() {
            @Override
            public void write(JsonWriter out, DocumentReference value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("active");
+             activeAdapter.write(out, value.active);
+             out.name("fileName");
+             fileNameAdapter.write(out, value.fileName);
+             out.name("id");
+             idAdapter.write(out, value.id);
+             out.endObject();
            }
 
            @Override
            public DocumentReference read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             DocumentReference instance = new DocumentReference();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "active":
+                   instance.active = activeAdapter.read(in);
+                   break;
+                 case "fileName":
+                   instance.fileName = fileNameAdapter.read(in);
+                   break;
+                 case "id":
+                   instance.id = idAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `DocumentReference` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
@@ -164,22 +164,34 @@ public class EntityReference {
        if (!EntityReference.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'EntityReference' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<EntityReference> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(EntityReference.class));
+       final TypeAdapter<String> idAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<EntityReference>() {
            @Override
            public void write(JsonWriter out, EntityReference value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("id");
+             idAdapter.write(out, value.id);
+             out.endObject();
            }
 
            @Override
            public EntityReference read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             EntityReference instance = new EntityReference();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "id":
+                   instance.id = idAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `EntityReference` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
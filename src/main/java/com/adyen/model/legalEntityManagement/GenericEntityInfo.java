@@ -288,22 +288,52 @@ public class GenericEntityInfo {
        if (!GenericEntityInfo.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'GenericEntityInfo' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<GenericEntityInfo> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(GenericEntityInfo.class));
+       final TypeAdapter<List<LegalEntityAssociation>> entityAssociationsAdapter = gson.getAdapter(new TypeToken<List<LegalEntityAssociation>>() {});
+       final TypeAdapter<Individual> individualAdapter = gson.getAdapter(Individual.class);
+       final TypeAdapter<Organization> organizationAdapter = gson.getAdapter(Organization.class);
+       final TypeAdapter<SoleProprietorship> soleProprietorshipAdapter = gson.getAdapter(SoleProprietorship.class);
 
        return (TypeAdapter<T>) new TypeAdapter<GenericEntityInfo>() {
            @Override
            public void write(JsonWriter out, GenericEntityInfo value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("entityAssociations");
+             entityAssociationsAdapter.write(out, value.entityAssociations);
+             out.name("individual");
+             individualAdapter.write(out, value.individual);
+             out.name("organization");
+             organizationAdapter.write(out, value.organization);
+             out.name("soleProprietorship");
+             soleProprietorshipAdapter.write(out, value.soleProprietorship);
+             out.endObject();
            }
 
            @Override
            public GenericEntityInfo read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             GenericEntityInfo instance = new GenericEntityInfo();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "entityAssociations":
+                   instance.entityAssociations = entityAssociationsAdapter.read(in);
+                   break;
+                 case "individual":
+                   instance.individual = individualAdapter.read(in);
+                   break;
+                 case "organization":
+                   instance.organization = organizationAdapter.read(in);
+                   break;
+                 case "soleProprietorship":
+                   instance.soleProprietorship = soleProprietorshipAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `GenericEntityInfo` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
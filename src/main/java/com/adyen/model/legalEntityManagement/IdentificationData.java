@@ -114,13 +114,20 @@ public class IdentificationData {
       return String.valueOf(value);
     }
 
-    public static TypeEnum fromValue(String value) {
+    private static final Map<String, TypeEnum> BY_VALUE = new HashMap<String, TypeEnum>();
+
+    static {
       for (TypeEnum b : TypeEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static TypeEnum fromValue(String value) {
+      TypeEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<TypeEnum> {
@@ -414,22 +421,69 @@ public class IdentificationData {
        if (!IdentificationData.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'IdentificationData' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<IdentificationData> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(IdentificationData.class));
+       final TypeAdapter<String> expiryDateAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> issuerCountryAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> issuerStateAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<Boolean> nationalIdExemptAdapter = gson.getAdapter(Boolean.class);
+       final TypeAdapter<String> numberAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<TypeEnum> typeAdapter = gson.getAdapter(TypeEnum.class);
 
        return (TypeAdapter<T>) new TypeAdapter<IdentificationData>() {
            @Override
            public void write(JsonWriter out, IdentificationData value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("expiryDate");
+             expiryDateAdapter.write(out, value.expiryDate);
+             out.name("issuerCountry");
+             issuerCountryAdapter.write(out, value.issuerCountry);
+             out.name("issuerState");
+             issuerStateAdapter.write(out, value.issuerState);
+             out.name("nationalIdExempt");
+             nationalIdExemptAdapter.write(out, value.nationalIdExempt);
+             out.name("number");
+             numberAdapter.write(out, value.number);
+             out.name("type");
+             typeAdapter.write(out, value.type);
+             out.endObject();
            }
 
            @Override
            public IdentificationData read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             IdentificationData instance = new IdentificationData();
+             boolean typeFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "expiryDate":
+                   instance.expiryDate = expiryDateAdapter.read(in);
+                   break;
+                 case "issuerCountry":
+                   instance.issuerCountry = issuerCountryAdapter.read(in);
+                   break;
+                 case "issuerState":
+                   instance.issuerState = issuerStateAdapter.read(in);
+                   break;
+                 case "nationalIdExempt":
+                   instance.nationalIdExempt = nationalIdExemptAdapter.read(in);
+                   break;
+                 case "number":
+                   instance.number = numberAdapter.read(in);
+                   break;
+                 case "type":
+                   instance.type = typeAdapter.read(in);
+                   typeFound = true;
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `IdentificationData` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!typeFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "type", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
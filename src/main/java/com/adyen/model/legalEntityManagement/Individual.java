@@ -470,22 +470,92 @@ public class Individual {
        if (!Individual.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'Individual' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<Individual> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(Individual.class));
+       final TypeAdapter<BirthData> birthDataAdapter = gson.getAdapter(BirthData.class);
+       final TypeAdapter<String> emailAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<IdentificationData> identificationDataAdapter = gson.getAdapter(IdentificationData.class);
+       final TypeAdapter<Name> nameAdapter = gson.getAdapter(Name.class);
+       final TypeAdapter<String> nationalityAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<PhoneNumber> phoneAdapter = gson.getAdapter(PhoneNumber.class);
+       final TypeAdapter<Address> residentialAddressAdapter = gson.getAdapter(Address.class);
+       final TypeAdapter<List<TaxInformation>> taxInformationAdapter = gson.getAdapter(new TypeToken<List<TaxInformation>>() {});
+       final TypeAdapter<WebData> webDataAdapter = gson.getAdapter(WebData.class);
 
        return (TypeAdapter<T>) new TypeAdapter<Individual>() {
            @Override
            public void write(JsonWriter out, Individual value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("birthData");
+             birthDataAdapter.write(out, value.birthData);
+             out.name("email");
+             emailAdapter.write(out, value.email);
+             out.name("identificationData");
+             identificationDataAdapter.write(out, value.identificationData);
+             out.name("name");
+             nameAdapter.write(out, value.name);
+             out.name("nationality");
+             nationalityAdapter.write(out, value.nationality);
+             out.name("phone");
+             phoneAdapter.write(out, value.phone);
+             out.name("residentialAddress");
+             residentialAddressAdapter.write(out, value.residentialAddress);
+             out.name("taxInformation");
+             taxInformationAdapter.write(out, value.taxInformation);
+             out.name("webData");
+             webDataAdapter.write(out, value.webData);
+             out.endObject();
            }
 
            @Override
            public Individual read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             Individual instance = new Individual();
+             boolean nameFound = false;
+             boolean residentialAddressFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "birthData":
+                   instance.birthData = birthDataAdapter.read(in);
+                   break;
+                 case "email":
+                   instance.email = emailAdapter.read(in);
+                   break;
+                 case "identificationData":
+                   instance.identificationData = identificationDataAdapter.read(in);
+                   break;
+                 case "name":
+                   instance.name = nameAdapter.read(in);
+                   nameFound = true;
+                   break;
+                 case "nationality":
+                   instance.nationality = nationalityAdapter.read(in);
+                   break;
+                 case "phone":
+                   instance.phone = phoneAdapter.read(in);
+                   break;
+                 case "residentialAddress":
+                   instance.residentialAddress = residentialAddressAdapter.read(in);
+                   residentialAddressFound = true;
+                   break;
+                 case "taxInformation":
+                   instance.taxInformation = taxInformationAdapter.read(in);
+                   break;
+                 case "webData":
+                   instance.webData = webDataAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `Individual` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!nameFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "name", in.getPath()));
+             }
+             if (!residentialAddressFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "residentialAddress", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
@@ -122,13 +122,20 @@ public class LegalEntity {
       return String.valueOf(value);
     }
 
-    public static TypeEnum fromValue(String value) {
+    private static final Map<String, TypeEnum> BY_VALUE = new HashMap<String, TypeEnum>();
+
+    static {
       for (TypeEnum b : TypeEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static TypeEnum fromValue(String value) {
+      TypeEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<TypeEnum> {
@@ -608,22 +615,98 @@ public class LegalEntity {
        if (!LegalEntity.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'LegalEntity' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<LegalEntity> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(LegalEntity.class));
+       final TypeAdapter<List<DocumentReference>> documentDetailsAdapter = gson.getAdapter(new TypeToken<List<DocumentReference>>() {});
+       final TypeAdapter<List<EntityReference>> documentsAdapter = gson.getAdapter(new TypeToken<List<EntityReference>>() {});
+       final TypeAdapter<List<LegalEntityAssociation>> entityAssociationsAdapter = gson.getAdapter(new TypeToken<List<LegalEntityAssociation>>() {});
+       final TypeAdapter<String> idAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<Individual> individualAdapter = gson.getAdapter(Individual.class);
+       final TypeAdapter<Organization> organizationAdapter = gson.getAdapter(Organization.class);
+       final TypeAdapter<String> referenceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<SoleProprietorship> soleProprietorshipAdapter = gson.getAdapter(SoleProprietorship.class);
+       final TypeAdapter<List<EntityReference>> transferInstrumentsAdapter = gson.getAdapter(new TypeToken<List<EntityReference>>() {});
+       final TypeAdapter<TypeEnum> typeAdapter = gson.getAdapter(TypeEnum.class);
 
        return (TypeAdapter<T>) new TypeAdapter<LegalEntity>() {
            @Override
            public void write(JsonWriter out, LegalEntity value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("documentDetails");
+             documentDetailsAdapter.write(out, value.documentDetails);
+             out.name("documents");
+             documentsAdapter.write(out, value.documents);
+             out.name("entityAssociations");
+             entityAssociationsAdapter.write(out, value.entityAssociations);
+             out.name("id");
+             idAdapter.write(out, value.id);
+             out.name("individual");
+             individualAdapter.write(out, value.individual);
+             out.name("organization");
+             organizationAdapter.write(out, value.organization);
+             out.name("reference");
+             referenceAdapter.write(out, value.reference);
+             out.name("soleProprietorship");
+             soleProprietorshipAdapter.write(out, value.soleProprietorship);
+             out.name("transferInstruments");
+             transferInstrumentsAdapter.write(out, value.transferInstruments);
+             out.name("type");
+             typeAdapter.write(out, value.type);
+             out.endObject();
            }
 
            @Override
            public LegalEntity read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             LegalEntity instance = new LegalEntity();
+             boolean idFound = false;
+             boolean typeFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "documentDetails":
+                   instance.documentDetails = documentDetailsAdapter.read(in);
+                   break;
+                 case "documents":
+                   instance.documents = documentsAdapter.read(in);
+                   break;
+                 case "entityAssociations":
+                   instance.entityAssociations = entityAssociationsAdapter.read(in);
+                   break;
+                 case "id":
+                   instance.id = idAdapter.read(in);
+                   idFound = true;
+                   break;
+                 case "individual":
+                   instance.individual = individualAdapter.read(in);
+                   break;
+                 case "organization":
+                   instance.organization = organizationAdapter.read(in);
+                   break;
+                 case "reference":
+                   instance.reference = referenceAdapter.read(in);
+                   break;
+                 case "soleProprietorship":
+                   instance.soleProprietorship = soleProprietorshipAdapter.read(in);
+                   break;
+                 case "transferInstruments":
+                   instance.transferInstruments = transferInstrumentsAdapter.read(in);
+                   break;
+                 case "type":
+                   instance.type = typeAdapter.read(in);
+                   typeFound = true;
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `LegalEntity` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!idFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "id", in.getPath()));
+             }
+             if (!typeFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "type", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
@@ -94,13 +94,20 @@ public class LegalEntityAssociation {
       return String.valueOf(value);
     }
 
-    public static TypeEnum fromValue(String value) {
+    private static final Map<String, TypeEnum> BY_VALUE = new HashMap<String, TypeEnum>();
+
+    static {
       for (TypeEnum b : TypeEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static TypeEnum fromValue(String value) {
+      TypeEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<TypeEnum> {
@@ -380,22 +387,74 @@ public class LegalEntityAssociation {
        if (!LegalEntityAssociation.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'LegalEntityAssociation' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<LegalEntityAssociation> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(LegalEntityAssociation.class));
+       final TypeAdapter<String> associatorIdAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> entityTypeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> jobTitleAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> legalEntityIdAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> nameAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<TypeEnum> typeAdapter = gson.getAdapter(TypeEnum.class);
 
        return (TypeAdapter<T>) new TypeAdapter<LegalEntityAssociation>() {
            @Override
            public void write(JsonWriter out, LegalEntityAssociation value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("associatorId");
+             associatorIdAdapter.write(out, value.associatorId);
+             out.name("entityType");
+             entityTypeAdapter.write(out, value.entityType);
+             out.name("jobTitle");
+             jobTitleAdapter.write(out, value.jobTitle);
+             out.name("legalEntityId");
+             legalEntityIdAdapter.write(out, value.legalEntityId);
+             out.name("name");
+             nameAdapter.write(out, value.name);
+             out.name("type");
+             typeAdapter.write(out, value.type);
+             out.endObject();
            }
 
            @Override
            public LegalEntityAssociation read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             LegalEntityAssociation instance = new LegalEntityAssociation();
+             boolean legalEntityIdFound = false;
+             boolean typeFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "associatorId":
+                   instance.associatorId = associatorIdAdapter.read(in);
+                   break;
+                 case "entityType":
+                   instance.entityType = entityTypeAdapter.read(in);
+                   break;
+                 case "jobTitle":
+                   instance.jobTitle = jobTitleAdapter.read(in);
+                   break;
+                 case "legalEntityId":
+                   instance.legalEntityId = legalEntityIdAdapter.read(in);
+                   legalEntityIdFound = true;
+                   break;
+                 case "name":
+                   instance.name = nameAdapter.read(in);
+                   break;
+                 case "type":
+                   instance.type = typeAdapter.read(in);
+                   typeFound = true;
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `LegalEntityAssociation` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!legalEntityIdFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "legalEntityId", in.getPath()));
+             }
+             if (!typeFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "type", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
@@ -104,13 +104,20 @@ public class LegalEntityInfo {
       return String.valueOf(value);
     }
 
-    public static TypeEnum fromValue(String value) {
+    private static final Map<String, TypeEnum> BY_VALUE = new HashMap<String, TypeEnum>();
+
+    static {
       for (TypeEnum b : TypeEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static TypeEnum fromValue(String value) {
+      TypeEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<TypeEnum> {
@@ -420,22 +427,69 @@ public class LegalEntityInfo {
        if (!LegalEntityInfo.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'LegalEntityInfo' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<LegalEntityInfo> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(LegalEntityInfo.class));
+       final TypeAdapter<List<LegalEntityAssociation>> entityAssociationsAdapter = gson.getAdapter(new TypeToken<List<LegalEntityAssociation>>() {});
+       final TypeAdapter<Individual> individualAdapter = gson.getAdapter(Individual.class);
+       final TypeAdapter<Organization> organizationAdapter = gson.getAdapter(Organization.class);
+       final TypeAdapter<String> referenceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<SoleProprietorship> soleProprietorshipAdapter = gson.getAdapter(SoleProprietorship.class);
+       final TypeAdapter<TypeEnum> typeAdapter = gson.getAdapter(TypeEnum.class);
 
        return (TypeAdapter<T>) new TypeAdapter<LegalEntityInfo>() {
            @Override
            public void write(JsonWriter out, LegalEntityInfo value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("entityAssociations");
+             entityAssociationsAdapter.write(out, value.entityAssociations);
+             out.name("individual");
+             individualAdapter.write(out, value.individual);
+             out.name("organization");
+             organizationAdapter.write(out, value.organization);
+             out.name("reference");
+             referenceAdapter.write(out, value.reference);
+             out.name("soleProprietorship");
+             soleProprietorshipAdapter.write(out, value.soleProprietorship);
+             out.name("type");
+             typeAdapter.write(out, value.type);
+             out.endObject();
            }
 
            @Override
            public LegalEntityInfo read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             LegalEntityInfo instance = new LegalEntityInfo();
+             boolean typeFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "entityAssociations":
+                   instance.entityAssociations = entityAssociationsAdapter.read(in);
+                   break;
+                 case "individual":
+                   instance.individual = individualAdapter.read(in);
+                   break;
+                 case "organization":
+                   instance.organization = organizationAdapter.read(in);
+                   break;
+                 case "reference":
+                   instance.reference = referenceAdapter.read(in);
+                   break;
+                 case "soleProprietorship":
+                   instance.soleProprietorship = soleProprietorshipAdapter.read(in);
+                   break;
+                 case "type":
+                   instance.type = typeAdapter.read(in);
+                   typeFound = true;
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `LegalEntityInfo` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!typeFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "type", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
@@ -232,22 +232,46 @@ public class OnboardingLinkInfo {
        if (!OnboardingLinkInfo.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'OnboardingLinkInfo' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<OnboardingLinkInfo> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(OnboardingLinkInfo.class));
+       final TypeAdapter<String> localeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> redirectUrlAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> themeIdAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<OnboardingLinkInfo>() {
            @Override
            public void write(JsonWriter out, OnboardingLinkInfo value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("locale");
+             localeAdapter.write(out, value.locale);
+             out.name("redirectUrl");
+             redirectUrlAdapter.write(out, value.redirectUrl);
+             out.name("themeId");
+             themeIdAdapter.write(out, value.themeId);
+             out.endObject();
            }
 
            @Override
            public OnboardingLinkInfo read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             OnboardingLinkInfo instance = new OnboardingLinkInfo();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "locale":
+                   instance.locale = localeAdapter.read(in);
+                   break;
+                 case "redirectUrl":
+                   instance.redirectUrl = redirectUrlAdapter.read(in);
+                   break;
+                 case "themeId":
+                   instance.themeId = themeIdAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `OnboardingLinkInfo` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
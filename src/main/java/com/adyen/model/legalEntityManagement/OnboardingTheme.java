@@ -307,22 +307,73 @@ public class OnboardingTheme {
        if (!OnboardingTheme.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'OnboardingTheme' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<OnboardingTheme> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(OnboardingTheme.class));
+       final TypeAdapter<Date> createdAtAdapter = gson.getAdapter(Date.class);
+       final TypeAdapter<String> descriptionAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> idAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<Map<String, String>> propertiesAdapter = gson.getAdapter(new TypeToken<Map<String, String>>() {});
+       final TypeAdapter<Date> updatedAtAdapter = gson.getAdapter(Date.class);
 
        return (TypeAdapter<T>) new TypeAdapter<OnboardingTheme>() {
            @Override
            public void write(JsonWriter out, OnboardingTheme value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("createdAt");
+             createdAtAdapter.write(out, value.createdAt);
+             out.name("description");
+             descriptionAdapter.write(out, value.description);
+             out.name("id");
+             idAdapter.write(out, value.id);
+             out.name("properties");
+             propertiesAdapter.write(out, value.properties);
+             out.name("updatedAt");
+             updatedAtAdapter.write(out, value.updatedAt);
+             out.endObject();
            }
 
            @Override
            public OnboardingTheme read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             OnboardingTheme instance = new OnboardingTheme();
+             boolean createdAtFound = false;
+             boolean idFound = false;
+             boolean propertiesFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "createdAt":
+                   instance.createdAt = createdAtAdapter.read(in);
+                   createdAtFound = true;
+                   break;
+                 case "description":
+                   instance.description = descriptionAdapter.read(in);
+                   break;
+                 case "id":
+                   instance.id = idAdapter.read(in);
+                   idFound = true;
+                   break;
+                 case "properties":
+                   instance.properties = propertiesAdapter.read(in);
+                   propertiesFound = true;
+                   break;
+                 case "updatedAt":
+                   instance.updatedAt = updatedAtAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `OnboardingTheme` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!createdAtFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "createdAt", in.getPath()));
+             }
+             if (!idFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "id", in.getPath()));
+             }
+             if (!propertiesFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "properties", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
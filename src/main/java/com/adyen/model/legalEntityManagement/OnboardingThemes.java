@@ -256,22 +256,51 @@ public class OnboardingThemes {
        if (!OnboardingThemes.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'OnboardingThemes' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<OnboardingThemes> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(OnboardingThemes.class));
+       final TypeAdapter<String> nextAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> previousAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<List<OnboardingTheme>> themesAdapter = gson.getAdapter(new TypeToken<List<OnboardingTheme>>() {});
 
        return (TypeAdapter<T>) new TypeAdapter<OnboardingThemes>() {
            @Override
            public void write(JsonWriter out, OnboardingThemes value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("next");
+             nextAdapter.write(out, value.next);
+             out.name("previous");
+             previousAdapter.write(out, value.previous);
+             out.name("themes");
+             themesAdapter.write(out, value.themes);
+             out.endObject();
            }
 
            @Override
            public OnboardingThemes read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             OnboardingThemes instance = new OnboardingThemes();
+             boolean themesFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "next":
+                   instance.next = nextAdapter.read(in);
+                   break;
+                 case "previous":
+                   instance.previous = previousAdapter.read(in);
+                   break;
+                 case "themes":
+                   instance.themes = themesAdapter.read(in);
+                   themesFound = true;
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `OnboardingThemes` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!themesFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "themes", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
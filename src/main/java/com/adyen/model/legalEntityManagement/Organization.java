@@ -132,13 +132,20 @@ public class Organization {
       return String.valueOf(value);
     }
 
-    public static TypeEnum fromValue(String value) {
+    private static final Map<String, TypeEnum> BY_VALUE = new HashMap<String, TypeEnum>();
+
+    static {
       for (TypeEnum b : TypeEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static TypeEnum fromValue(String value) {
+      TypeEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<TypeEnum> {
@@ -183,13 +190,20 @@ public class Organization {
       return String.valueOf(value);
     }
 
-    public static VatAbsenceReasonEnum fromValue(String value) {
+    private static final Map<String, VatAbsenceReasonEnum> BY_VALUE = new HashMap<String, VatAbsenceReasonEnum>();
+
+    static {
       for (VatAbsenceReasonEnum b : VatAbsenceReasonEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static VatAbsenceReasonEnum fromValue(String value) {
+      VatAbsenceReasonEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<VatAbsenceReasonEnum> {
@@ -781,22 +795,128 @@ public class Organization {
        if (!Organization.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'Organization' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<Organization> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(Organization.class));
+       final TypeAdapter<String> descriptionAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> doingBusinessAsAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> emailAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> legalNameAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<PhoneNumber> phoneAdapter = gson.getAdapter(PhoneNumber.class);
+       final TypeAdapter<Address> principalPlaceOfBusinessAdapter = gson.getAdapter(Address.class);
+       final TypeAdapter<Address> registeredAddressAdapter = gson.getAdapter(Address.class);
+       final TypeAdapter<String> registrationNumberAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<StockData> stockDataAdapter = gson.getAdapter(StockData.class);
+       final TypeAdapter<List<TaxInformation>> taxInformationAdapter = gson.getAdapter(new TypeToken<List<TaxInformation>>() {});
+       final TypeAdapter<TaxReportingClassification> taxReportingClassificationAdapter = gson.getAdapter(TaxReportingClassification.class);
+       final TypeAdapter<TypeEnum> typeAdapter = gson.getAdapter(TypeEnum.class);
+       final TypeAdapter<VatAbsenceReasonEnum> vatAbsenceReasonAdapter = gson.getAdapter(VatAbsenceReasonEnum.class);
+       final TypeAdapter<String> vatNumberAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<WebData> webDataAdapter = gson.getAdapter(WebData.class);
 
        return (TypeAdapter<T>) new TypeAdapter<Organization>() {
            @Override
            public void write(JsonWriter out, Organization value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("description");
+             descriptionAdapter.write(out, value.description);
+             out.name("doingBusinessAs");
+             doingBusinessAsAdapter.write(out, value.doingBusinessAs);
+             out.name("email");
+             emailAdapter.write(out, value.email);
+             out.name("legalName");
+             legalNameAdapter.write(out, value.legalName);
+             out.name("phone");
+             phoneAdapter.write(out, value.phone);
+             out.name("principalPlaceOfBusiness");
+             principalPlaceOfBusinessAdapter.write(out, value.principalPlaceOfBusiness);
+             out.name("registeredAddress");
+             registeredAddressAdapter.write(out, value.registeredAddress);
+             out.name("registrationNumber");
+             registrationNumberAdapter.write(out, value.registrationNumber);
+             out.name("stockData");
+             stockDataAdapter.write(out, value.stockData);
+             out.name("taxInformation");
+             taxInformationAdapter.write(out, value.taxInformation);
+             out.name("taxReportingClassification");
+             taxReportingClassificationAdapter.write(out, value.taxReportingClassification);
+             out.name("type");
+             typeAdapter.write(out, value.type);
+             out.name("vatAbsenceReason");
+             vatAbsenceReasonAdapter.write(out, value.vatAbsenceReason);
+             out.name("vatNumber");
+             vatNumberAdapter.write(out, value.vatNumber);
+             out.name("webData");
+             webDataAdapter.write(out, value.webData);
+             out.endObject();
            }
 
            @Override
            public Organization read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             Organization instance = new Organization();
+             boolean legalNameFound = false;
+             boolean registeredAddressFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "description":
+                   instance.description = descriptionAdapter.read(in);
+                   break;
+                 case "doingBusinessAs":
+                   instance.doingBusinessAs = doingBusinessAsAdapter.read(in);
+                   break;
+                 case "email":
+                   instance.email = emailAdapter.read(in);
+                   break;
+                 case "legalName":
+                   instance.legalName = legalNameAdapter.read(in);
+                   legalNameFound = true;
+                   break;
+                 case "phone":
+                   instance.phone = phoneAdapter.read(in);
+                   break;
+                 case "principalPlaceOfBusiness":
+                   instance.principalPlaceOfBusiness = principalPlaceOfBusinessAdapter.read(in);
+                   break;
+                 case "registeredAddress":
+                   instance.registeredAddress = registeredAddressAdapter.read(in);
+                   registeredAddressFound = true;
+                   break;
+                 case "registrationNumber":
+                   instance.registrationNumber = registrationNumberAdapter.read(in);
+                   break;
+                 case "stockData":
+                   instance.stockData = stockDataAdapter.read(in);
+                   break;
+                 case "taxInformation":
+                   instance.taxInformation = taxInformationAdapter.read(in);
+                   break;
+                 case "taxReportingClassification":
+                   instance.taxReportingClassification = taxReportingClassificationAdapter.read(in);
+                   break;
+                 case "type":
+                   instance.type = typeAdapter.read(in);
+                   break;
+                 case "vatAbsenceReason":
+                   instance.vatAbsenceReason = vatAbsenceReasonAdapter.read(in);
+                   break;
+                 case "vatNumber":
+                   instance.vatNumber = vatNumberAdapter.read(in);
+                   break;
+                 case "webData":
+                   instance.webData = webDataAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `Organization` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!legalNameFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "legalName", in.getPath()));
+             }
+             if (!registeredAddressFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "registeredAddress", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
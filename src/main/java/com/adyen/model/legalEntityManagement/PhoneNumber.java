@@ -206,22 +206,45 @@ public class PhoneNumber {
        if (!PhoneNumber.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'PhoneNumber' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<PhoneNumber> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(PhoneNumber.class));
+       final TypeAdapter<String> numberAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> typeAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<PhoneNumber>() {
            @Override
            public void write(JsonWriter out, PhoneNumber value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("number");
+             numberAdapter.write(out, value.number);
+             out.name("type");
+             typeAdapter.write(out, value.type);
+             out.endObject();
            }
 
            @Override
            public PhoneNumber read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             PhoneNumber instance = new PhoneNumber();
+             boolean numberFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "number":
+                   instance.number = numberAdapter.read(in);
+                   numberFound = true;
+                   break;
+                 case "type":
+                   instance.type = typeAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `PhoneNumber` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!numberFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "number", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
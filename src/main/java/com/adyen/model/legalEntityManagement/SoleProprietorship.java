@@ -97,13 +97,20 @@ public class SoleProprietorship {
       return String.valueOf(value);
     }
 
-    public static VatAbsenceReasonEnum fromValue(String value) {
+    private static final Map<String, VatAbsenceReasonEnum> BY_VALUE = new HashMap<String, VatAbsenceReasonEnum>();
+
+    static {
       for (VatAbsenceReasonEnum b : VatAbsenceReasonEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static VatAbsenceReasonEnum fromValue(String value) {
+      VatAbsenceReasonEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<VatAbsenceReasonEnum> {
@@ -463,22 +470,91 @@ public class SoleProprietorship {
        if (!SoleProprietorship.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'SoleProprietorship' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<SoleProprietorship> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(SoleProprietorship.class));
+       final TypeAdapter<String> countryOfGoverningLawAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> doingBusinessAsAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> nameAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<Address> principalPlaceOfBusinessAdapter = gson.getAdapter(Address.class);
+       final TypeAdapter<Address> registeredAddressAdapter = gson.getAdapter(Address.class);
+       final TypeAdapter<String> registrationNumberAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<VatAbsenceReasonEnum> vatAbsenceReasonAdapter = gson.getAdapter(VatAbsenceReasonEnum.class);
+       final TypeAdapter<String> vatNumberAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<SoleProprietorship>() {
            @Override
            public void write(JsonWriter out, SoleProprietorship value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("countryOfGoverningLaw");
+             countryOfGoverningLawAdapter.write(out, value.countryOfGoverningLaw);
+             out.name("doingBusinessAs");
+             doingBusinessAsAdapter.write(out, value.doingBusinessAs);
+             out.name("name");
+             nameAdapter.write(out, value.name);
+             out.name("principalPlaceOfBusiness");
+             principalPlaceOfBusinessAdapter.write(out, value.principalPlaceOfBusiness);
+             out.name("registeredAddress");
+             registeredAddressAdapter.write(out, value.registeredAddress);
+             out.name("registrationNumber");
+             registrationNumberAdapter.write(out, value.registrationNumber);
+             out.name("vatAbsenceReason");
+             vatAbsenceReasonAdapter.write(out, value.vatAbsenceReason);
+             out.name("vatNumber");
+             vatNumberAdapter.write(out, value.vatNumber);
+             out.endObject();
            }
 
            @Override
            public SoleProprietorship read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             SoleProprietorship instance = new SoleProprietorship();
+             boolean countryOfGoverningLawFound = false;
+             boolean nameFound = false;
+             boolean registeredAddressFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "countryOfGoverningLaw":
+                   instance.countryOfGoverningLaw = countryOfGoverningLawAdapter.read(in);
+                   countryOfGoverningLawFound = true;
+                   break;
+                 case "doingBusinessAs":
+                   instance.doingBusinessAs = doingBusinessAsAdapter.read(in);
+                   break;
+                 case "name":
+                   instance.name = nameAdapter.read(in);
+                   nameFound = true;
+                   break;
+                 case "principalPlaceOfBusiness":
+                   instance.principalPlaceOfBusiness = principalPlaceOfBusinessAdapter.read(in);
+                   break;
+                 case "registeredAddress":
+                   instance.registeredAddress = registeredAddressAdapter.read(in);
+                   registeredAddressFound = true;
+                   break;
+                 case "registrationNumber":
+                   instance.registrationNumber = registrationNumberAdapter.read(in);
+                   break;
+                 case "vatAbsenceReason":
+                   instance.vatAbsenceReason = vatAbsenceReasonAdapter.read(in);
+                   break;
+                 case "vatNumber":
+                   instance.vatNumber = vatNumberAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `SoleProprietorship` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!countryOfGoverningLawFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "countryOfGoverningLaw", in.getPath()));
+             }
+             if (!nameFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "name", in.getPath()));
+             }
+             if (!registeredAddressFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "registeredAddress", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
@@ -82,13 +82,20 @@ public class SourceOfFunds {
       return String.valueOf(value);
     }
 
-    public static TypeEnum fromValue(String value) {
+    private static final Map<String, TypeEnum> BY_VALUE = new HashMap<String, TypeEnum>();
+
+    static {
       for (TypeEnum b : TypeEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static TypeEnum fromValue(String value) {
+      TypeEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<TypeEnum> {
@@ -310,22 +317,52 @@ public class SourceOfFunds {
        if (!SourceOfFunds.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'SourceOfFunds' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<SourceOfFunds> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(SourceOfFunds.class));
+       final TypeAdapter<String> acquiringBusinessLineIdAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<Boolean> adyenProcessedFundsAdapter = gson.getAdapter(Boolean.class);
+       final TypeAdapter<String> descriptionAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<TypeEnum> typeAdapter = gson.getAdapter(TypeEnum.class);
 
        return (TypeAdapter<T>) new TypeAdapter<SourceOfFunds>() {
            @Override
            public void write(JsonWriter out, SourceOfFunds value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("acquiringBusinessLineId");
+             acquiringBusinessLineIdAdapter.write(out, value.acquiringBusinessLineId);
+             out.name("adyenProcessedFunds");
+             adyenProcessedFundsAdapter.write(out, value.adyenProcessedFunds);
+             out.name("description");
+             descriptionAdapter.write(out, value.description);
+             out.name("type");
+             typeAdapter.write(out, value.type);
+             out.endObject();
            }
 
            @Override
            public SourceOfFunds read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             SourceOfFunds instance = new SourceOfFunds();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "acquiringBusinessLineId":
+                   instance.acquiringBusinessLineId = acquiringBusinessLineIdAdapter.read(in);
+                   break;
+                 case "adyenProcessedFunds":
+                   instance.adyenProcessedFunds = adyenProcessedFundsAdapter.read(in);
+                   break;
+                 case "description":
+                   instance.description = descriptionAdapter.read(in);
+                   break;
+                 case "type":
+                   instance.type = typeAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `SourceOfFunds` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
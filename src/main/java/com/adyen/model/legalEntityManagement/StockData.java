@@ -232,22 +232,46 @@ public class StockData {
        if (!StockData.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'StockData' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<StockData> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(StockData.class));
+       final TypeAdapter<String> marketIdentifierAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> stockNumberAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> tickerSymbolAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<StockData>() {
            @Override
            public void write(JsonWriter out, StockData value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("marketIdentifier");
+             marketIdentifierAdapter.write(out, value.marketIdentifier);
+             out.name("stockNumber");
+             stockNumberAdapter.write(out, value.stockNumber);
+             out.name("tickerSymbol");
+             tickerSymbolAdapter.write(out, value.tickerSymbol);
+             out.endObject();
            }
 
            @Override
            public StockData read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             StockData instance = new StockData();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "marketIdentifier":
+                   instance.marketIdentifier = marketIdentifierAdapter.read(in);
+                   break;
+                 case "stockNumber":
+                   instance.stockNumber = stockNumberAdapter.read(in);
+                   break;
+                 case "tickerSymbol":
+                   instance.tickerSymbol = tickerSymbolAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `StockData` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
@@ -232,22 +232,46 @@ public class TaxInformation {
        if (!TaxInformation.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'TaxInformation' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<TaxInformation> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(TaxInformation.class));
+       final TypeAdapter<String> countryAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> numberAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> typeAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<TaxInformation>() {
            @Override
            public void write(JsonWriter out, TaxInformation value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("country");
+             countryAdapter.write(out, value.country);
+             out.name("number");
+             numberAdapter.write(out, value.number);
+             out.name("type");
+             typeAdapter.write(out, value.type);
+             out.endObject();
            }
 
            @Override
            public TaxInformation read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             TaxInformation instance = new TaxInformation();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "country":
+                   instance.country = countryAdapter.read(in);
+                   break;
+                 case "number":
+                   instance.number = numberAdapter.read(in);
+                   break;
+                 case "type":
+                   instance.type = typeAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `TaxInformation` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
@@ -80,13 +80,20 @@ public class TaxReportingClassification {
       return String.valueOf(value);
     }
 
-    public static BusinessTypeEnum fromValue(String value) {
+    private static final Map<String, BusinessTypeEnum> BY_VALUE = new HashMap<String, BusinessTypeEnum>();
+
+    static {
       for (BusinessTypeEnum b : BusinessTypeEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    }
+
+    public static BusinessTypeEnum fromValue(String value) {
+      BusinessTypeEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      }
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<BusinessTypeEnum> {
@@ -141,13 +148,20 @@ public class TaxReportingClassification {
       return String.valueOf(value);
     }
 
-    public static MainSourceOfIncomeEnum fromValue(String value) {
+    private static final Map<String, MainSourceOfIncomeEnum> BY_VALUE = new HashMap<String, MainSourceOfIncomeEnum>();
+
+    static {
       for (MainSourceOfIncomeEnum b : MainSourceOfIncomeEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    }
+
+    public static MainSourceOfIncomeEnum fromValue(String value) {
+      MainSourceOfIncomeEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      }
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<MainSourceOfIncomeEnum> {
@@ -196,13 +210,20 @@ public class TaxReportingClassification {
       return String.valueOf(value);
     }
 
-    public static TypeEnum fromValue(String value) {
+    private static final Map<String, TypeEnum> BY_VALUE = new HashMap<String, TypeEnum>();
+
+    static {
       for (TypeEnum b : TypeEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static TypeEnum fromValue(String value) {
+      TypeEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<TypeEnum> {
@@ -434,22 +455,52 @@ public class TaxReportingClassification {
        if (!TaxReportingClassification.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'TaxReportingClassification' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<TaxReportingClassification> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(TaxReportingClassification.class));
+       final TypeAdapter<BusinessTypeEnum> businessTypeAdapter = gson.getAdapter(BusinessTypeEnum.class);
+       final TypeAdapter<String> financialInstitutionNumberAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<MainSourceOfIncomeEnum> mainSourceOfIncomeAdapter = gson.getAdapter(MainSourceOfIncomeEnum.class);
+       final TypeAdapter<TypeEnum> typeAdapter = gson.getAdapter(TypeEnum.class);
 
        return (TypeAdapter<T>) new TypeAdapter<TaxReportingClassification>() {
            @Override
            public void write(JsonWriter out, TaxReportingClassification value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("businessType");
+             businessTypeAdapter.write(out, value.businessType);
+             out.name("financialInstitutionNumber");
+             financialInstitutionNumberAdapter.write(out, value.financialInstitutionNumber);
+             out.name("mainSourceOfIncome");
+             mainSourceOfIncomeAdapter.write(out, value.mainSourceOfIncome);
+             out.name("type");
+             typeAdapter.write(out, value.type);
+             out.endObject();
            }
 
            @Override
            public TaxReportingClassification read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             TaxReportingClassification instance = new TaxReportingClassification();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "businessType":
+                   instance.businessType = businessTypeAdapter.read(in);
+                   break;
+                 case "financialInstitutionNumber":
+                   instance.financialInstitutionNumber = financialInstitutionNumberAdapter.read(in);
+                   break;
+                 case "mainSourceOfIncome":
+                   instance.mainSourceOfIncome = mainSourceOfIncomeAdapter.read(in);
+                   break;
+                 case "type":
+                   instance.type = typeAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `TaxReportingClassification` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
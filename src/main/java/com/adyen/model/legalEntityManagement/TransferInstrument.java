@@ -97,13 +97,20 @@ public class TransferInstrument {
       return String.valueOf(value);
     }
 
-    public static TypeEnum fromValue(String value) {
+    private static final Map<String, TypeEnum> BY_VALUE = new HashMap<String, TypeEnum>();
+
+    static {
       for (TypeEnum b : TypeEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static TypeEnum fromValue(String value) {
+      TypeEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<TypeEnum> {
@@ -414,22 +421,79 @@ public class TransferInstrument {
        if (!TransferInstrument.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'TransferInstrument' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<TransferInstrument> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(TransferInstrument.class));
+       final TypeAdapter<BankAccountInfo> bankAccountAdapter = gson.getAdapter(BankAccountInfo.class);
+       final TypeAdapter<List<DocumentReference>> documentDetailsAdapter = gson.getAdapter(new TypeToken<List<DocumentReference>>() {});
+       final TypeAdapter<String> idAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> legalEntityIdAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<RecurringDetail> recurringDetailAdapter = gson.getAdapter(RecurringDetail.class);
+       final TypeAdapter<TypeEnum> typeAdapter = gson.getAdapter(TypeEnum.class);
 
        return (TypeAdapter<T>) new TypeAdapter<TransferInstrument>() {
            @Override
            public void write(JsonWriter out, TransferInstrument value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("bankAccount");
+             bankAccountAdapter.write(out, value.bankAccount);
+             out.name("documentDetails");
+             documentDetailsAdapter.write(out, value.documentDetails);
+             out.name("id");
+             idAdapter.write(out, value.id);
+             out.name("legalEntityId");
+             legalEntityIdAdapter.write(out, value.legalEntityId);
+             out.name("recurringDetail");
+             recurringDetailAdapter.write(out, value.recurringDetail);
+             out.name("type");
+             typeAdapter.write(out, value.type);
+             out.endObject();
            }
 
            @Override
            public TransferInstrument read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             TransferInstrument instance = new TransferInstrument();
+             boolean idFound = false;
+             boolean legalEntityIdFound = false;
+             boolean typeFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "bankAccount":
+                   instance.bankAccount = bankAccountAdapter.read(in);
+                   break;
+                 case "documentDetails":
+                   instance.documentDetails = documentDetailsAdapter.read(in);
+                   break;
+                 case "id":
+                   instance.id = idAdapter.read(in);
+                   idFound = true;
+                   break;
+                 case "legalEntityId":
+                   instance.legalEntityId = legalEntityIdAdapter.read(in);
+                   legalEntityIdFound = true;
+                   break;
+                 case "recurringDetail":
+                   instance.recurringDetail = recurringDetailAdapter.read(in);
+                   break;
+                 case "type":
+                   instance.type = typeAdapter.read(in);
+                   typeFound = true;
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `TransferInstrument` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!idFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "id", in.getPath()));
+             }
+             if (!legalEntityIdFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "legalEntityId", in.getPath()));
+             }
+             if (!typeFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "type", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
@@ -86,13 +86,20 @@ public class TransferInstrumentInfo {
       return String.valueOf(value);
     }
 
-    public static TypeEnum fromValue(String value) {
+    private static final Map<String, TypeEnum> BY_VALUE = new HashMap<String, TypeEnum>();
+
+    static {
       for (TypeEnum b : TypeEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static TypeEnum fromValue(String value) {
+      TypeEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<TypeEnum> {
@@ -327,22 +334,62 @@ public class TransferInstrumentInfo {
        if (!TransferInstrumentInfo.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'TransferInstrumentInfo' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<TransferInstrumentInfo> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(TransferInstrumentInfo.class));
+       final TypeAdapter<BankAccountInfo> bankAccountAdapter = gson.getAdapter(BankAccountInfo.class);
+       final TypeAdapter<String> legalEntityIdAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<RecurringDetail> recurringDetailAdapter = gson.getAdapter(RecurringDetail.class);
+       final TypeAdapter<TypeEnum> typeAdapter = gson.getAdapter(TypeEnum.class);
 
        return (TypeAdapter<T>) new TypeAdapter<TransferInstrumentInfo>() {
            @Override
            public void write(JsonWriter out, TransferInstrumentInfo value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("bankAccount");
+             bankAccountAdapter.write(out, value.bankAccount);
+             out.name("legalEntityId");
+             legalEntityIdAdapter.write(out, value.legalEntityId);
+             out.name("recurringDetail");
+             recurringDetailAdapter.write(out, value.recurringDetail);
+             out.name("type");
+             typeAdapter.write(out, value.type);
+             out.endObject();
            }
 
            @Override
            public TransferInstrumentInfo read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             TransferInstrumentInfo instance = new TransferInstrumentInfo();
+             boolean legalEntityIdFound = false;
+             boolean typeFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "bankAccount":
+                   instance.bankAccount = bankAccountAdapter.read(in);
+                   break;
+                 case "legalEntityId":
+                   instance.legalEntityId = legalEntityIdAdapter.read(in);
+                   legalEntityIdFound = true;
+                   break;
+                 case "recurringDetail":
+                   instance.recurringDetail = recurringDetailAdapter.read(in);
+                   break;
+                 case "type":
+                   instance.type = typeAdapter.read(in);
+                   typeFound = true;
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `TransferInstrumentInfo` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!legalEntityIdFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "legalEntityId", in.getPath()));
+             }
+             if (!typeFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "type", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
@@ -164,22 +164,34 @@ public class WebData {
        if (!WebData.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'WebData' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<WebData> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(WebData.class));
+       final TypeAdapter<String> webAddressAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<WebData>() {
            @Override
            public void write(JsonWriter out, WebData value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("webAddress");
+             webAddressAdapter.write(out, value.webAddress);
+             out.endObject();
            }
 
            @Override
            public WebData read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             WebData instance = new WebData();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "webAddress":
+                   instance.webAddress = webAddressAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `WebData` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
@@ -70,13 +70,20 @@ public class WebDataExemption {
       return String.valueOf(value);
     }
 
-    public static ReasonEnum fromValue(String value) {
+    private static final Map<String, ReasonEnum> BY_VALUE = new HashMap<String, ReasonEnum>();
+
+    static {
       for (ReasonEnum b : ReasonEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static ReasonEnum fromValue(String value) {
+      ReasonEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<ReasonEnum> {
@@ -212,22 +219,34 @@ public class WebDataExemption {
        if (!WebDataExemption.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'WebDataExemption' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<WebDataExemption> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(WebDataExemption.class));
+       final TypeAdapter<ReasonEnum> reasonAdapter = gson.getAdapter(ReasonEnum.class);
 
        return (TypeAdapter<T>) new TypeAdapter<WebDataExemption>() {
            @Override
            public void write(JsonWriter out, WebDataExemption value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("reason");
+             reasonAdapter.write(out, value.reason);
+             out.endObject();
            }
 
            @Override
            public WebDataExemption read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             WebDataExemption instance = new WebDataExemption();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "reason":
+                   instance.reason = reasonAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `WebDataExemption` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
@@ -214,22 +214,40 @@ public class AdditionalSettings {
        if (!AdditionalSettings.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'AdditionalSettings' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<AdditionalSettings> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(AdditionalSettings.class));
+       final TypeAdapter<List<String>> includeEventCodesAdapter = gson.getAdapter(new TypeToken<List<String>>() {});
+       final TypeAdapter<Map<String, Boolean>> propertiesAdapter = gson.getAdapter(new TypeToken<Map<String, Boolean>>() {});
 
        return (TypeAdapter<T>) new TypeAdapter<AdditionalSettings>() {
            @Override
            public void write(JsonWriter out, AdditionalSettings value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("includeEventCodes");
+             includeEventCodesAdapter.write(out, value.includeEventCodes);
+             out.name("properties");
+             propertiesAdapter.write(out, value.properties);
+             out.endObject();
            }
 
            @Override
            public AdditionalSettings read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             AdditionalSettings instance = new AdditionalSettings();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "includeEventCodes":
+                   instance.includeEventCodes = includeEventCodesAdapter.read(in);
+                   break;
+                 case "properties":
+                   instance.properties = propertiesAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `AdditionalSettings` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
@@ -256,22 +256,46 @@ public class AdditionalSettingsResponse {
        if (!AdditionalSettingsResponse.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'AdditionalSettingsResponse' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<AdditionalSettingsResponse> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(AdditionalSettingsResponse.class));
+       final TypeAdapter<List<String>> excludeEventCodesAdapter = gson.getAdapter(new TypeToken<List<String>>() {});
+       final TypeAdapter<List<String>> includeEventCodesAdapter = gson.getAdapter(new TypeToken<List<String>>() {});
+       final TypeAdapter<Map<String, Boolean>> propertiesAdapter = gson.getAdapter(new TypeToken<Map<String, Boolean>>() {});
 
        return (TypeAdapter<T>) new TypeAdapter<AdditionalSettingsResponse>() {
            @Override
            public void write(JsonWriter out, AdditionalSettingsResponse value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("excludeEventCodes");
+             excludeEventCodesAdapter.write(out, value.excludeEventCodes);
+             out.name("includeEventCodes");
+             includeEventCodesAdapter.write(out, value.includeEventCodes);
+             out.name("properties");
+             propertiesAdapter.write(out, value.properties);
+             out.endObject();
            }
 
            @Override
            public AdditionalSettingsResponse read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             AdditionalSettingsResponse instance = new AdditionalSettingsResponse();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "excludeEventCodes":
+                   instance.excludeEventCodes = excludeEventCodesAdapter.read(in);
+                   break;
+                 case "includeEventCodes":
+                   instance.includeEventCodes = includeEventCodesAdapter.read(in);
+                   break;
+                 case "properties":
+                   instance.properties = propertiesAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `AdditionalSettingsResponse` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
@@ -368,22 +368,70 @@ public class Address {
        if (!Address.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'Address' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<Address> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(Address.class));
+       final TypeAdapter<String> cityAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> companyNameAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> countryAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> postalCodeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> stateOrProvinceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> streetAddressAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> streetAddress2Adapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<Address>() {
            @Override
            public void write(JsonWriter out, Address value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("city");
+             cityAdapter.write(out, value.city);
+             out.name("companyName");
+             companyNameAdapter.write(out, value.companyName);
+             out.name("country");
+             countryAdapter.write(out, value.country);
+             out.name("postalCode");
+             postalCodeAdapter.write(out, value.postalCode);
+             out.name("stateOrProvince");
+             stateOrProvinceAdapter.write(out, value.stateOrProvince);
+             out.name("streetAddress");
+             streetAddressAdapter.write(out, value.streetAddress);
+             out.name("streetAddress2");
+             streetAddress2Adapter.write(out, value.streetAddress2);
+             out.endObject();
            }
 
            @Override
            public Address read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             Address instance = new Address();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "city":
+                   instance.city = cityAdapter.read(in);
+                   break;
+                 case "companyName":
+                   instance.companyName = companyNameAdapter.read(in);
+                   break;
+                 case "country":
+                   instance.country = countryAdapter.read(in);
+                   break;
+                 case "postalCode":
+                   instance.postalCode = postalCodeAdapter.read(in);
+                   break;
+                 case "stateOrProvince":
+                   instance.stateOrProvince = stateOrProvinceAdapter.read(in);
+                   break;
+                 case "streetAddress":
+                   instance.streetAddress = streetAddressAdapter.read(in);
+                   break;
+                 case "streetAddress2":
+                   instance.streetAddress2 = streetAddress2Adapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `Address` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
@@ -183,22 +183,34 @@ public class AllowedOriginsResponse {
        if (!AllowedOriginsResponse.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'AllowedOriginsResponse' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<AllowedOriginsResponse> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(AllowedOriginsResponse.class));
+       final TypeAdapter<List<AllowedOrigin>> dataAdapter = gson.getAdapter(new TypeToken<List<AllowedOrigin>>() {});
 
        return (TypeAdapter<T>) new TypeAdapter<AllowedOriginsResponse>() {
            @Override
            public void write(JsonWriter out, AllowedOriginsResponse value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("data");
+             dataAdapter.write(out, value.data);
+             out.endObject();
            }
 
            @Override
            public AllowedOriginsResponse read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             AllowedOriginsResponse instance = new AllowedOriginsResponse();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "data":
+                   instance.data = dataAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `AllowedOriginsResponse` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
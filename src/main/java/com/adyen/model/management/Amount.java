@@ -194,22 +194,40 @@ public class Amount {
        if (!Amount.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'Amount' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<Amount> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(Amount.class));
+       final TypeAdapter<String> currencyAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<Object> valueAdapter = gson.getAdapter(Object.class);
 
        return (TypeAdapter<T>) new TypeAdapter<Amount>() {
            @Override
            public void write(JsonWriter out, Amount value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("currency");
+             currencyAdapter.write(out, value.currency);
+             out.name("value");
+             valueAdapter.write(out, value.value);
+             out.endObject();
            }
 
            @Override
            public Amount read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             Amount instance = new Amount();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "currency":
+                   instance.currency = currencyAdapter.read(in);
+                   break;
+                 case "value":
+                   instance.value = valueAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `Amount` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
@@ -203,22 +203,50 @@ public class Amount2 {
        if (!Amount2.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'Amount2' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<Amount2> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(Amount2.class));
+       final TypeAdapter<String> currencyAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<Long> valueAdapter = gson.getAdapter(Long.class);
 
        return (TypeAdapter<T>) new TypeAdapter<Amount2>() {
            @Override
            public void write(JsonWriter out, Amount2 value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("currency");
+             currencyAdapter.write(out, value.currency);
+             out.name("value");
+             valueAdapter.write(out, value.value);
+             out.endObject();
            }
 
            @Override
            public Amount2 read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             Amount2 instance = new Amount2();
+             boolean currencyFound = false;
+             boolean valueFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "currency":
+                   instance.currency = currencyAdapter.read(in);
+                   currencyFound = true;
+                   break;
+                 case "value":
+                   instance.value = valueAdapter.read(in);
+                   valueFound = true;
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `Amount2` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!currencyFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "currency", in.getPath()));
+             }
+             if (!valueFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "value", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
@@ -373,22 +373,80 @@ public class AndroidApp {
        if (!AndroidApp.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'AndroidApp' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<AndroidApp> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(AndroidApp.class));
+       final TypeAdapter<String> descriptionAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> idAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> labelAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> packageNameAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> statusAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<Integer> versionCodeAdapter = gson.getAdapter(Integer.class);
+       final TypeAdapter<String> versionNameAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<AndroidApp>() {
            @Override
            public void write(JsonWriter out, AndroidApp value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("description");
+             descriptionAdapter.write(out, value.description);
+             out.name("id");
+             idAdapter.write(out, value.id);
+             out.name("label");
+             labelAdapter.write(out, value.label);
+             out.name("packageName");
+             packageNameAdapter.write(out, value.packageName);
+             out.name("status");
+             statusAdapter.write(out, value.status);
+             out.name("versionCode");
+             versionCodeAdapter.write(out, value.versionCode);
+             out.name("versionName");
+             versionNameAdapter.write(out, value.versionName);
+             out.endObject();
            }
 
            @Override
            public AndroidApp read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             AndroidApp instance = new AndroidApp();
+             boolean idFound = false;
+             boolean statusFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "description":
+                   instance.description = descriptionAdapter.read(in);
+                   break;
+                 case "id":
+                   instance.id = idAdapter.read(in);
+                   idFound = true;
+                   break;
+                 case "label":
+                   instance.label = labelAdapter.read(in);
+                   break;
+                 case "packageName":
+                   instance.packageName = packageNameAdapter.read(in);
+                   break;
+                 case "status":
+                   instance.status = statusAdapter.read(in);
+                   statusFound = true;
+                   break;
+                 case "versionCode":
+                   instance.versionCode = versionCodeAdapter.read(in);
+                   break;
+                 case "versionName":
+                   instance.versionName = versionNameAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `AndroidApp` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!idFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "id", in.getPath()));
+             }
+             if (!statusFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "status", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
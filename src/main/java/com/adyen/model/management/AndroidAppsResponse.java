@@ -183,22 +183,34 @@ public class AndroidAppsResponse {
        if (!AndroidAppsResponse.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'AndroidAppsResponse' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<AndroidAppsResponse> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(AndroidAppsResponse.class));
+       final TypeAdapter<List<AndroidApp>> dataAdapter = gson.getAdapter(new TypeToken<List<AndroidApp>>() {});
 
        return (TypeAdapter<T>) new TypeAdapter<AndroidAppsResponse>() {
            @Override
            public void write(JsonWriter out, AndroidAppsResponse value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("data");
+             dataAdapter.write(out, value.data);
+             out.endObject();
            }
 
            @Override
            public AndroidAppsResponse read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             AndroidAppsResponse instance = new AndroidAppsResponse();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "data":
+                   instance.data = dataAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `AndroidAppsResponse` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
@@ -369,22 +369,75 @@ public class AndroidCertificate {
        if (!AndroidCertificate.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'AndroidCertificate' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<AndroidCertificate> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(AndroidCertificate.class));
+       final TypeAdapter<String> descriptionAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> extensionAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> idAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> nameAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<Date> notAfterAdapter = gson.getAdapter(Date.class);
+       final TypeAdapter<Date> notBeforeAdapter = gson.getAdapter(Date.class);
+       final TypeAdapter<String> statusAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<AndroidCertificate>() {
            @Override
            public void write(JsonWriter out, AndroidCertificate value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("description");
+             descriptionAdapter.write(out, value.description);
+             out.name("extension");
+             extensionAdapter.write(out, value.extension);
+             out.name("id");
+             idAdapter.write(out, value.id);
+             out.name("name");
+             nameAdapter.write(out, value.name);
+             out.name("notAfter");
+             notAfterAdapter.write(out, value.notAfter);
+             out.name("notBefore");
+             notBeforeAdapter.write(out, value.notBefore);
+             out.name("status");
+             statusAdapter.write(out, value.status);
+             out.endObject();
            }
 
            @Override
            public AndroidCertificate read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             AndroidCertificate instance = new AndroidCertificate();
+             boolean idFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "description":
+                   instance.description = descriptionAdapter.read(in);
+                   break;
+                 case "extension":
+                   instance.extension = extensionAdapter.read(in);
+                   break;
+                 case "id":
+                   instance.id = idAdapter.read(in);
+                   idFound = true;
+                   break;
+                 case "name":
+                   instance.name = nameAdapter.read(in);
+                   break;
+                 case "notAfter":
+                   instance.notAfter = notAfterAdapter.read(in);
+                   break;
+                 case "notBefore":
+                   instance.notBefore = notBeforeAdapter.read(in);
+                   break;
+                 case "status":
+                   instance.status = statusAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `AndroidCertificate` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!idFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "id", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
@@ -183,22 +183,34 @@ public class AndroidCertificatesResponse {
        if (!AndroidCertificatesResponse.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'AndroidCertificatesResponse' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<AndroidCertificatesResponse> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(AndroidCertificatesResponse.class));
+       final TypeAdapter<List<AndroidCertificate>> dataAdapter = gson.getAdapter(new TypeToken<List<AndroidCertificate>>() {});
 
        return (TypeAdapter<T>) new TypeAdapter<AndroidCertificatesResponse>() {
            @Override
            public void write(JsonWriter out, AndroidCertificatesResponse value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("data");
+             dataAdapter.write(out, value.data);
+             out.endObject();
            }
 
            @Override
            public AndroidCertificatesResponse read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             AndroidCertificatesResponse instance = new AndroidCertificatesResponse();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "data":
+                   instance.data = dataAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `AndroidCertificatesResponse` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
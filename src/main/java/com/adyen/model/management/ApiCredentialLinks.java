@@ -343,22 +343,69 @@ public class ApiCredentialLinks {
        if (!ApiCredentialLinks.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'ApiCredentialLinks' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<ApiCredentialLinks> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(ApiCredentialLinks.class));
+       final TypeAdapter<LinksElement> allowedOriginsAdapter = gson.getAdapter(LinksElement.class);
+       final TypeAdapter<LinksElement> companyAdapter = gson.getAdapter(LinksElement.class);
+       final TypeAdapter<LinksElement> generateApiKeyAdapter = gson.getAdapter(LinksElement.class);
+       final TypeAdapter<LinksElement> generateClientKeyAdapter = gson.getAdapter(LinksElement.class);
+       final TypeAdapter<LinksElement> merchantAdapter = gson.getAdapter(LinksElement.class);
+       final TypeAdapter<LinksElement> selfAdapter = gson.getAdapter(LinksElement.class);
 
        return (TypeAdapter<T>) new TypeAdapter<ApiCredentialLinks>() {
            @Override
            public void write(JsonWriter out, ApiCredentialLinks value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("allowedOrigins");
+             allowedOriginsAdapter.write(out, value.allowedOrigins);
+             out.name("company");
+             companyAdapter.write(out, value.company);
+             out.name("generateApiKey");
+             generateApiKeyAdapter.write(out, value.generateApiKey);
+             out.name("generateClientKey");
+             generateClientKeyAdapter.write(out, value.generateClientKey);
+             out.name("merchant");
+             merchantAdapter.write(out, value.merchant);
+             out.name("self");
+             selfAdapter.write(out, value.self);
+             out.endObject();
            }
 
            @Override
            public ApiCredentialLinks read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             ApiCredentialLinks instance = new ApiCredentialLinks();
+             boolean selfFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "allowedOrigins":
+                   instance.allowedOrigins = allowedOriginsAdapter.read(in);
+                   break;
+                 case "company":
+                   instance.company = companyAdapter.read(in);
+                   break;
+                 case "generateApiKey":
+                   instance.generateApiKey = generateApiKeyAdapter.read(in);
+                   break;
+                 case "generateClientKey":
+                   instance.generateClientKey = generateClientKeyAdapter.read(in);
+                   break;
+                 case "merchant":
+                   instance.merchant = merchantAdapter.read(in);
+                   break;
+                 case "self":
+                   instance.self = selfAdapter.read(in);
+                   selfFound = true;
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `ApiCredentialLinks` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!selfFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "self", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
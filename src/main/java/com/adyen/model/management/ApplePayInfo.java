@@ -179,22 +179,39 @@ public class ApplePayInfo {
        if (!ApplePayInfo.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'ApplePayInfo' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<ApplePayInfo> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(ApplePayInfo.class));
+       final TypeAdapter<List<String>> domainsAdapter = gson.getAdapter(new TypeToken<List<String>>() {});
 
        return (TypeAdapter<T>) new TypeAdapter<ApplePayInfo>() {
            @Override
            public void write(JsonWriter out, ApplePayInfo value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("domains");
+             domainsAdapter.write(out, value.domains);
+             out.endObject();
            }
 
            @Override
            public ApplePayInfo read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             ApplePayInfo instance = new ApplePayInfo();
+             boolean domainsFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "domains":
+                   instance.domains = domainsAdapter.read(in);
+                   domainsFound = true;
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `ApplePayInfo` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!domainsFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "domains", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
@@ -160,22 +160,34 @@ public class BcmcInfo {
        if (!BcmcInfo.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'BcmcInfo' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<BcmcInfo> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(BcmcInfo.class));
+       final TypeAdapter<Boolean> enableBcmcMobileAdapter = gson.getAdapter(Boolean.class);
 
        return (TypeAdapter<T>) new TypeAdapter<BcmcInfo>() {
            @Override
            public void write(JsonWriter out, BcmcInfo value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("enableBcmcMobile");
+             enableBcmcMobileAdapter.write(out, value.enableBcmcMobile);
+             out.endObject();
            }
 
            @Override
            public BcmcInfo read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             BcmcInfo instance = new BcmcInfo();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "enableBcmcMobile":
+                   instance.enableBcmcMobile = enableBcmcMobileAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `BcmcInfo` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
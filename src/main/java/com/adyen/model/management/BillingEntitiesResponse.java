@@ -183,22 +183,34 @@ public class BillingEntitiesResponse {
        if (!BillingEntitiesResponse.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'BillingEntitiesResponse' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<BillingEntitiesResponse> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(BillingEntitiesResponse.class));
+       final TypeAdapter<List<BillingEntity>> dataAdapter = gson.getAdapter(new TypeToken<List<BillingEntity>>() {});
 
        return (TypeAdapter<T>) new TypeAdapter<BillingEntitiesResponse>() {
            @Override
            public void write(JsonWriter out, BillingEntitiesResponse value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("data");
+             dataAdapter.write(out, value.data);
+             out.endObject();
            }
 
            @Override
            public BillingEntitiesResponse read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             BillingEntitiesResponse instance = new BillingEntitiesResponse();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "data":
+                   instance.data = dataAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `BillingEntitiesResponse` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
@@ -301,22 +301,58 @@ public class BillingEntity {
        if (!BillingEntity.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'BillingEntity' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<BillingEntity> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(BillingEntity.class));
+       final TypeAdapter<Address> addressAdapter = gson.getAdapter(Address.class);
+       final TypeAdapter<String> emailAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> idAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> nameAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> taxIdAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<BillingEntity>() {
            @Override
            public void write(JsonWriter out, BillingEntity value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("address");
+             addressAdapter.write(out, value.address);
+             out.name("email");
+             emailAdapter.write(out, value.email);
+             out.name("id");
+             idAdapter.write(out, value.id);
+             out.name("name");
+             nameAdapter.write(out, value.name);
+             out.name("taxId");
+             taxIdAdapter.write(out, value.taxId);
+             out.endObject();
            }
 
            @Override
            public BillingEntity read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             BillingEntity instance = new BillingEntity();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "address":
+                   instance.address = addressAdapter.read(in);
+                   break;
+                 case "email":
+                   instance.email = emailAdapter.read(in);
+                   break;
+                 case "id":
+                   instance.id = idAdapter.read(in);
+                   break;
+                 case "name":
+                   instance.name = nameAdapter.read(in);
+                   break;
+                 case "taxId":
+                   instance.taxId = taxIdAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `BillingEntity` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
@@ -164,22 +164,34 @@ public class CardholderReceipt {
        if (!CardholderReceipt.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'CardholderReceipt' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<CardholderReceipt> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(CardholderReceipt.class));
+       final TypeAdapter<String> headerForAuthorizedReceiptAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<CardholderReceipt>() {
            @Override
            public void write(JsonWriter out, CardholderReceipt value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("headerForAuthorizedReceipt");
+             headerForAuthorizedReceiptAdapter.write(out, value.headerForAuthorizedReceipt);
+             out.endObject();
            }
 
            @Override
            public CardholderReceipt read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             CardholderReceipt instance = new CardholderReceipt();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "headerForAuthorizedReceipt":
+                   instance.headerForAuthorizedReceipt = headerForAuthorizedReceiptAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `CardholderReceipt` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
@@ -172,22 +172,39 @@ public class CartesBancairesInfo {
        if (!CartesBancairesInfo.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'CartesBancairesInfo' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<CartesBancairesInfo> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(CartesBancairesInfo.class));
+       final TypeAdapter<String> siretAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<CartesBancairesInfo>() {
            @Override
            public void write(JsonWriter out, CartesBancairesInfo value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("siret");
+             siretAdapter.write(out, value.siret);
+             out.endObject();
            }
 
            @Override
            public CartesBancairesInfo read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             CartesBancairesInfo instance = new CartesBancairesInfo();
+             boolean siretFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "siret":
+                   instance.siret = siretAdapter.read(in);
+                   siretFound = true;
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `CartesBancairesInfo` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!siretFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "siret", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
@@ -388,22 +388,70 @@ public class Company {
        if (!Company.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'Company' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<Company> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(Company.class));
+       final TypeAdapter<CompanyLinks> linksAdapter = gson.getAdapter(CompanyLinks.class);
+       final TypeAdapter<List<DataCenter>> dataCentersAdapter = gson.getAdapter(new TypeToken<List<DataCenter>>() {});
+       final TypeAdapter<String> descriptionAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> idAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> nameAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> referenceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> statusAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<Company>() {
            @Override
            public void write(JsonWriter out, Company value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("_links");
+             linksAdapter.write(out, value.links);
+             out.name("dataCenters");
+             dataCentersAdapter.write(out, value.dataCenters);
+             out.name("description");
+             descriptionAdapter.write(out, value.description);
+             out.name("id");
+             idAdapter.write(out, value.id);
+             out.name("name");
+             nameAdapter.write(out, value.name);
+             out.name("reference");
+             referenceAdapter.write(out, value.reference);
+             out.name("status");
+             statusAdapter.write(out, value.status);
+             out.endObject();
            }
 
            @Override
            public Company read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             Company instance = new Company();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "_links":
+                   instance.links = linksAdapter.read(in);
+                   break;
+                 case "dataCenters":
+                   instance.dataCenters = dataCentersAdapter.read(in);
+                   break;
+                 case "description":
+                   instance.description = descriptionAdapter.read(in);
+                   break;
+                 case "id":
+                   instance.id = idAdapter.read(in);
+                   break;
+                 case "name":
+                   instance.name = nameAdapter.read(in);
+                   break;
+                 case "reference":
+                   instance.reference = referenceAdapter.read(in);
+                   break;
+                 case "status":
+                   instance.status = statusAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `Company` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
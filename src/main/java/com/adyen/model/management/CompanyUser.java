@@ -503,22 +503,113 @@ public class CompanyUser {
        if (!CompanyUser.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'CompanyUser' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<CompanyUser> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(CompanyUser.class));
+       final TypeAdapter<Links> linksAdapter = gson.getAdapter(Links.class);
+       final TypeAdapter<List<String>> accountGroupsAdapter = gson.getAdapter(new TypeToken<List<String>>() {});
+       final TypeAdapter<Boolean> activeAdapter = gson.getAdapter(Boolean.class);
+       final TypeAdapter<List<String>> associatedMerchantAccountsAdapter = gson.getAdapter(new TypeToken<List<String>>() {});
+       final TypeAdapter<String> emailAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> idAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<Name> nameAdapter = gson.getAdapter(Name.class);
+       final TypeAdapter<List<String>> rolesAdapter = gson.getAdapter(new TypeToken<List<String>>() {});
+       final TypeAdapter<String> timeZoneCodeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> usernameAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<CompanyUser>() {
            @Override
            public void write(JsonWriter out, CompanyUser value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("_links");
+             linksAdapter.write(out, value.links);
+             out.name("accountGroups");
+             accountGroupsAdapter.write(out, value.accountGroups);
+             out.name("active");
+             activeAdapter.write(out, value.active);
+             out.name("associatedMerchantAccounts");
+             associatedMerchantAccountsAdapter.write(out, value.associatedMerchantAccounts);
+             out.name("email");
+             emailAdapter.write(out, value.email);
+             out.name("id");
+             idAdapter.write(out, value.id);
+             out.name("name");
+             nameAdapter.write(out, value.name);
+             out.name("roles");
+             rolesAdapter.write(out, value.roles);
+             out.name("timeZoneCode");
+             timeZoneCodeAdapter.write(out, value.timeZoneCode);
+             out.name("username");
+             usernameAdapter.write(out, value.username);
+             out.endObject();
            }
 
            @Override
            public CompanyUser read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             CompanyUser instance = new CompanyUser();
+             boolean emailFound = false;
+             boolean idFound = false;
+             boolean rolesFound = false;
+             boolean timeZoneCodeFound = false;
+             boolean usernameFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "_links":
+                   instance.links = linksAdapter.read(in);
+                   break;
+                 case "accountGroups":
+                   instance.accountGroups = accountGroupsAdapter.read(in);
+                   break;
+                 case "active":
+                   instance.active = activeAdapter.read(in);
+                   break;
+                 case "associatedMerchantAccounts":
+                   instance.associatedMerchantAccounts = associatedMerchantAccountsAdapter.read(in);
+                   break;
+                 case "email":
+                   instance.email = emailAdapter.read(in);
+                   emailFound = true;
+                   break;
+                 case "id":
+                   instance.id = idAdapter.read(in);
+                   idFound = true;
+                   break;
+                 case "name":
+                   instance.name = nameAdapter.read(in);
+                   break;
+                 case "roles":
+                   instance.roles = rolesAdapter.read(in);
+                   rolesFound = true;
+                   break;
+                 case "timeZoneCode":
+                   instance.timeZoneCode = timeZoneCodeAdapter.read(in);
+                   timeZoneCodeFound = true;
+                   break;
+                 case "username":
+                   instance.username = usernameAdapter.read(in);
+                   usernameFound = true;
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `CompanyUser` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!emailFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "email", in.getPath()));
+             }
+             if (!idFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "id", in.getPath()));
+             }
+             if (!rolesFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "roles", in.getPath()));
+             }
+             if (!timeZoneCodeFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "timeZoneCode", in.getPath()));
+             }
+             if (!usernameFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "username", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
@@ -72,13 +72,20 @@ public class Connectivity {
       return String.valueOf(value);
     }
 
-    public static SimcardStatusEnum fromValue(String value) {
+    private static final Map<String, SimcardStatusEnum> BY_VALUE = new HashMap<String, SimcardStatusEnum>();
+
+    static {
       for (SimcardStatusEnum b : SimcardStatusEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static SimcardStatusEnum fromValue(String value) {
+      SimcardStatusEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<SimcardStatusEnum> {
@@ -214,22 +221,34 @@ public class Connectivity {
        if (!Connectivity.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'Connectivity' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<Connectivity> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(Connectivity.class));
+       final TypeAdapter<SimcardStatusEnum> simcardStatusAdapter = gson.getAdapter(SimcardStatusEnum.class);
 
        return (TypeAdapter<T>) new TypeAdapter<Connectivity>() {
            @Override
            public void write(JsonWriter out, Connectivity value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("simcardStatus");
+             simcardStatusAdapter.write(out, value.simcardStatus);
+             out.endObject();
            }
 
            @Override
            public Connectivity read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             Connectivity instance = new Connectivity();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "simcardStatus":
+                   instance.simcardStatus = simcardStatusAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `Connectivity` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
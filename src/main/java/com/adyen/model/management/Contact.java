@@ -300,22 +300,58 @@ public class Contact {
        if (!Contact.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'Contact' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<Contact> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(Contact.class));
+       final TypeAdapter<String> emailAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> firstNameAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> infixAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> lastNameAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> phoneNumberAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<Contact>() {
            @Override
            public void write(JsonWriter out, Contact value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("email");
+             emailAdapter.write(out, value.email);
+             out.name("firstName");
+             firstNameAdapter.write(out, value.firstName);
+             out.name("infix");
+             infixAdapter.write(out, value.infix);
+             out.name("lastName");
+             lastNameAdapter.write(out, value.lastName);
+             out.name("phoneNumber");
+             phoneNumberAdapter.write(out, value.phoneNumber);
+             out.endObject();
            }
 
            @Override
            public Contact read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             Contact instance = new Contact();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "email":
+                   instance.email = emailAdapter.read(in);
+                   break;
+                 case "firstName":
+                   instance.firstName = firstNameAdapter.read(in);
+                   break;
+                 case "infix":
+                   instance.infix = infixAdapter.read(in);
+                   break;
+                 case "lastName":
+                   instance.lastName = lastNameAdapter.read(in);
+                   break;
+                 case "phoneNumber":
+                   instance.phoneNumber = phoneNumberAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `Contact` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
@@ -241,22 +241,51 @@ public class CreateAllowedOriginRequest {
        if (!CreateAllowedOriginRequest.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'CreateAllowedOriginRequest' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<CreateAllowedOriginRequest> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(CreateAllowedOriginRequest.class));
+       final TypeAdapter<Links> linksAdapter = gson.getAdapter(Links.class);
+       final TypeAdapter<String> domainAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> idAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<CreateAllowedOriginRequest>() {
            @Override
            public void write(JsonWriter out, CreateAllowedOriginRequest value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("_links");
+             linksAdapter.write(out, value.links);
+             out.name("domain");
+             domainAdapter.write(out, value.domain);
+             out.name("id");
+             idAdapter.write(out, value.id);
+             out.endObject();
            }
 
            @Override
            public CreateAllowedOriginRequest read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             CreateAllowedOriginRequest instance = new CreateAllowedOriginRequest();
+             boolean domainFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "_links":
+                   instance.links = linksAdapter.read(in);
+                   break;
+                 case "domain":
+                   instance.domain = domainAdapter.read(in);
+                   domainFound = true;
+                   break;
+                 case "id":
+                   instance.id = idAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `CreateAllowedOriginRequest` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!domainFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "domain", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
@@ -545,22 +545,134 @@ public class CreateApiCredentialResponse {
        if (!CreateApiCredentialResponse.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'CreateApiCredentialResponse' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<CreateApiCredentialResponse> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(CreateApiCredentialResponse.class));
+       final TypeAdapter<ApiCredentialLinks> linksAdapter = gson.getAdapter(ApiCredentialLinks.class);
+       final TypeAdapter<Boolean> activeAdapter = gson.getAdapter(Boolean.class);
+       final TypeAdapter<List<String>> allowedIpAddressesAdapter = gson.getAdapter(new TypeToken<List<String>>() {});
+       final TypeAdapter<List<AllowedOrigin>> allowedOriginsAdapter = gson.getAdapter(new TypeToken<List<AllowedOrigin>>() {});
+       final TypeAdapter<String> apiKeyAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> clientKeyAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> descriptionAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> idAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> passwordAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<List<String>> rolesAdapter = gson.getAdapter(new TypeToken<List<String>>() {});
+       final TypeAdapter<String> usernameAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<CreateApiCredentialResponse>() {
            @Override
            public void write(JsonWriter out, CreateApiCredentialResponse value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("_links");
+             linksAdapter.write(out, value.links);
+             out.name("active");
+             activeAdapter.write(out, value.active);
+             out.name("allowedIpAddresses");
+             allowedIpAddressesAdapter.write(out, value.allowedIpAddresses);
+             out.name("allowedOrigins");
+             allowedOriginsAdapter.write(out, value.allowedOrigins);
+             out.name("apiKey");
+             apiKeyAdapter.write(out, value.apiKey);
+             out.name("clientKey");
+             clientKeyAdapter.write(out, value.clientKey);
+             out.name("description");
+             descriptionAdapter.write(out, value.description);
+             out.name("id");
+             idAdapter.write(out, value.id);
+             out.name("password");
+             passwordAdapter.write(out, value.password);
+             out.name("roles");
+             rolesAdapter.write(out, value.roles);
+             out.name("username");
+             usernameAdapter.write(out, value.username);
+             out.endObject();
            }
 
            @Override
            public CreateApiCredentialResponse read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             CreateApiCredentialResponse instance = new CreateApiCredentialResponse();
+             boolean activeFound = false;
+             boolean allowedIpAddressesFound = false;
+             boolean apiKeyFound = false;
+             boolean clientKeyFound = false;
+             boolean idFound = false;
+             boolean passwordFound = false;
+             boolean rolesFound = false;
+             boolean usernameFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "_links":
+                   instance.links = linksAdapter.read(in);
+                   break;
+                 case "active":
+                   instance.active = activeAdapter.read(in);
+                   activeFound = true;
+                   break;
+                 case "allowedIpAddresses":
+                   instance.allowedIpAddresses = allowedIpAddressesAdapter.read(in);
+                   allowedIpAddressesFound = true;
+                   break;
+                 case "allowedOrigins":
+                   instance.allowedOrigins = allowedOriginsAdapter.read(in);
+                   break;
+                 case "apiKey":
+                   instance.apiKey = apiKeyAdapter.read(in);
+                   apiKeyFound = true;
+                   break;
+                 case "clientKey":
+                   instance.clientKey = clientKeyAdapter.read(in);
+                   clientKeyFound = true;
+                   break;
+                 case "description":
+                   instance.description = descriptionAdapter.read(in);
+                   break;
+                 case "id":
+                   instance.id = idAdapter.read(in);
+                   idFound = true;
+                   break;
+                 case "password":
+                   instance.password = passwordAdapter.read(in);
+                   passwordFound = true;
+                   break;
+                 case "roles":
+                   instance.roles = rolesAdapter.read(in);
+                   rolesFound = true;
+                   break;
+                 case "username":
+                   instance.username = usernameAdapter.read(in);
+                   usernameFound = true;
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `CreateApiCredentialResponse` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!activeFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "active", in.getPath()));
+             }
+             if (!allowedIpAddressesFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "allowedIpAddresses", in.getPath()));
+             }
+             if (!apiKeyFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "apiKey", in.getPath()));
+             }
+             if (!clientKeyFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "clientKey", in.getPath()));
+             }
+             if (!idFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "id", in.getPath()));
+             }
+             if (!passwordFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "password", in.getPath()));
+             }
+             if (!rolesFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "roles", in.getPath()));
+             }
+             if (!usernameFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "username", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
@@ -292,22 +292,52 @@ public class CreateCompanyApiCredentialRequest {
        if (!CreateCompanyApiCredentialRequest.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'CreateCompanyApiCredentialRequest' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<CreateCompanyApiCredentialRequest> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(CreateCompanyApiCredentialRequest.class));
+       final TypeAdapter<List<String>> allowedOriginsAdapter = gson.getAdapter(new TypeToken<List<String>>() {});
+       final TypeAdapter<List<String>> associatedMerchantAccountsAdapter = gson.getAdapter(new TypeToken<List<String>>() {});
+       final TypeAdapter<String> descriptionAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<List<String>> rolesAdapter = gson.getAdapter(new TypeToken<List<String>>() {});
 
        return (TypeAdapter<T>) new TypeAdapter<CreateCompanyApiCredentialRequest>() {
            @Override
            public void write(JsonWriter out, CreateCompanyApiCredentialRequest value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("allowedOrigins");
+             allowedOriginsAdapter.write(out, value.allowedOrigins);
+             out.name("associatedMerchantAccounts");
+             associatedMerchantAccountsAdapter.write(out, value.associatedMerchantAccounts);
+             out.name("description");
+             descriptionAdapter.write(out, value.description);
+             out.name("roles");
+             rolesAdapter.write(out, value.roles);
+             out.endObject();
            }
 
            @Override
            public CreateCompanyApiCredentialRequest read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             CreateCompanyApiCredentialRequest instance = new CreateCompanyApiCredentialRequest();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "allowedOrigins":
+                   instance.allowedOrigins = allowedOriginsAdapter.read(in);
+                   break;
+                 case "associatedMerchantAccounts":
+                   instance.associatedMerchantAccounts = associatedMerchantAccountsAdapter.read(in);
+                   break;
+                 case "description":
+                   instance.description = descriptionAdapter.read(in);
+                   break;
+                 case "roles":
+                   instance.roles = rolesAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `CreateCompanyApiCredentialRequest` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
@@ -405,22 +405,85 @@ public class CreateCompanyUserRequest {
        if (!CreateCompanyUserRequest.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'CreateCompanyUserRequest' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<CreateCompanyUserRequest> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(CreateCompanyUserRequest.class));
+       final TypeAdapter<List<String>> accountGroupsAdapter = gson.getAdapter(new TypeToken<List<String>>() {});
+       final TypeAdapter<List<String>> associatedMerchantAccountsAdapter = gson.getAdapter(new TypeToken<List<String>>() {});
+       final TypeAdapter<String> emailAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<Name> nameAdapter = gson.getAdapter(Name.class);
+       final TypeAdapter<List<String>> rolesAdapter = gson.getAdapter(new TypeToken<List<String>>() {});
+       final TypeAdapter<String> timeZoneCodeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> usernameAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<CreateCompanyUserRequest>() {
            @Override
            public void write(JsonWriter out, CreateCompanyUserRequest value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("accountGroups");
+             accountGroupsAdapter.write(out, value.accountGroups);
+             out.name("associatedMerchantAccounts");
+             associatedMerchantAccountsAdapter.write(out, value.associatedMerchantAccounts);
+             out.name("email");
+             emailAdapter.write(out, value.email);
+             out.name("name");
+             nameAdapter.write(out, value.name);
+             out.name("roles");
+             rolesAdapter.write(out, value.roles);
+             out.name("timeZoneCode");
+             timeZoneCodeAdapter.write(out, value.timeZoneCode);
+             out.name("username");
+             usernameAdapter.write(out, value.username);
+             out.endObject();
            }
 
            @Override
            public CreateCompanyUserRequest read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             CreateCompanyUserRequest instance = new CreateCompanyUserRequest();
+             boolean emailFound = false;
+             boolean nameFound = false;
+             boolean usernameFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "accountGroups":
+                   instance.accountGroups = accountGroupsAdapter.read(in);
+                   break;
+                 case "associatedMerchantAccounts":
+                   instance.associatedMerchantAccounts = associatedMerchantAccountsAdapter.read(in);
+                   break;
+                 case "email":
+                   instance.email = emailAdapter.read(in);
+                   emailFound = true;
+                   break;
+                 case "name":
+                   instance.name = nameAdapter.read(in);
+                   nameFound = true;
+                   break;
+                 case "roles":
+                   instance.roles = rolesAdapter.read(in);
+                   break;
+                 case "timeZoneCode":
+                   instance.timeZoneCode = timeZoneCodeAdapter.read(in);
+                   break;
+                 case "username":
+                   instance.username = usernameAdapter.read(in);
+                   usernameFound = true;
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `CreateCompanyUserRequest` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!emailFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "email", in.getPath()));
+             }
+             if (!nameFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "name", in.getPath()));
+             }
+             if (!usernameFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "username", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
@@ -342,22 +342,69 @@ public class CreateMerchantRequest {
        if (!CreateMerchantRequest.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'CreateMerchantRequest' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<CreateMerchantRequest> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(CreateMerchantRequest.class));
+       final TypeAdapter<String> businessLineIdAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> companyIdAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> descriptionAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> legalEntityIdAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> pricingPlanAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> referenceAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<CreateMerchantRequest>() {
            @Override
            public void write(JsonWriter out, CreateMerchantRequest value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("businessLineId");
+             businessLineIdAdapter.write(out, value.businessLineId);
+             out.name("companyId");
+             companyIdAdapter.write(out, value.companyId);
+             out.name("description");
+             descriptionAdapter.write(out, value.description);
+             out.name("legalEntityId");
+             legalEntityIdAdapter.write(out, value.legalEntityId);
+             out.name("pricingPlan");
+             pricingPlanAdapter.write(out, value.pricingPlan);
+             out.name("reference");
+             referenceAdapter.write(out, value.reference);
+             out.endObject();
            }
 
            @Override
            public CreateMerchantRequest read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             CreateMerchantRequest instance = new CreateMerchantRequest();
+             boolean companyIdFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "businessLineId":
+                   instance.businessLineId = businessLineIdAdapter.read(in);
+                   break;
+                 case "companyId":
+                   instance.companyId = companyIdAdapter.read(in);
+                   companyIdFound = true;
+                   break;
+                 case "description":
+                   instance.description = descriptionAdapter.read(in);
+                   break;
+                 case "legalEntityId":
+                   instance.legalEntityId = legalEntityIdAdapter.read(in);
+                   break;
+                 case "pricingPlan":
+                   instance.pricingPlan = pricingPlanAdapter.read(in);
+                   break;
+                 case "reference":
+                   instance.reference = referenceAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `CreateMerchantRequest` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!companyIdFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "companyId", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
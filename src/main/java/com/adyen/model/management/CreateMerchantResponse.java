@@ -368,22 +368,70 @@ public class CreateMerchantResponse {
        if (!CreateMerchantResponse.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'CreateMerchantResponse' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<CreateMerchantResponse> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(CreateMerchantResponse.class));
+       final TypeAdapter<String> businessLineIdAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> companyIdAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> descriptionAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> idAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> legalEntityIdAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> pricingPlanAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> referenceAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<CreateMerchantResponse>() {
            @Override
            public void write(JsonWriter out, CreateMerchantResponse value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("businessLineId");
+             businessLineIdAdapter.write(out, value.businessLineId);
+             out.name("companyId");
+             companyIdAdapter.write(out, value.companyId);
+             out.name("description");
+             descriptionAdapter.write(out, value.description);
+             out.name("id");
+             idAdapter.write(out, value.id);
+             out.name("legalEntityId");
+             legalEntityIdAdapter.write(out, value.legalEntityId);
+             out.name("pricingPlan");
+             pricingPlanAdapter.write(out, value.pricingPlan);
+             out.name("reference");
+             referenceAdapter.write(out, value.reference);
+             out.endObject();
            }
 
            @Override
            public CreateMerchantResponse read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             CreateMerchantResponse instance = new CreateMerchantResponse();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "businessLineId":
+                   instance.businessLineId = businessLineIdAdapter.read(in);
+                   break;
+                 case "companyId":
+                   instance.companyId = companyIdAdapter.read(in);
+                   break;
+                 case "description":
+                   instance.description = descriptionAdapter.read(in);
+                   break;
+                 case "id":
+                   instance.id = idAdapter.read(in);
+                   break;
+                 case "legalEntityId":
+                   instance.legalEntityId = legalEntityIdAdapter.read(in);
+                   break;
+                 case "pricingPlan":
+                   instance.pricingPlan = pricingPlanAdapter.read(in);
+                   break;
+                 case "reference":
+                   instance.reference = referenceAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `CreateMerchantResponse` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
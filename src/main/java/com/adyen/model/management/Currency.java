@@ -232,22 +232,51 @@ public class Currency {
        if (!Currency.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'Currency' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<Currency> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(Currency.class));
+       final TypeAdapter<Integer> amountAdapter = gson.getAdapter(Integer.class);
+       final TypeAdapter<String> currencyCodeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<Object> percentageAdapter = gson.getAdapter(Object.class);
 
        return (TypeAdapter<T>) new TypeAdapter<Currency>() {
            @Override
            public void write(JsonWriter out, Currency value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("amount");
+             amountAdapter.write(out, value.amount);
+             out.name("currencyCode");
+             currencyCodeAdapter.write(out, value.currencyCode);
+             out.name("percentage");
+             percentageAdapter.write(out, value.percentage);
+             out.endObject();
            }
 
            @Override
            public Currency read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             Currency instance = new Currency();
+             boolean currencyCodeFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "amount":
+                   instance.amount = amountAdapter.read(in);
+                   break;
+                 case "currencyCode":
+                   instance.currencyCode = currencyCodeAdapter.read(in);
+                   currencyCodeFound = true;
+                   break;
+                 case "percentage":
+                   instance.percentage = percentageAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `Currency` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!currencyCodeFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "currencyCode", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
@@ -362,22 +362,70 @@ public class CustomNotification {
        if (!CustomNotification.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'CustomNotification' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<CustomNotification> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(CustomNotification.class));
+       final TypeAdapter<Amount2> amountAdapter = gson.getAdapter(Amount2.class);
+       final TypeAdapter<String> eventCodeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<Date> eventDateAdapter = gson.getAdapter(Date.class);
+       final TypeAdapter<String> merchantReferenceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> paymentMethodAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> reasonAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<Boolean> successAdapter = gson.getAdapter(Boolean.class);
 
        return (TypeAdapter<T>) new TypeAdapter<CustomNotification>() {
            @Override
            public void write(JsonWriter out, CustomNotification value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("amount");
+             amountAdapter.write(out, value.amount);
+             out.name("eventCode");
+             eventCodeAdapter.write(out, value.eventCode);
+             out.name("eventDate");
+             eventDateAdapter.write(out, value.eventDate);
+             out.name("merchantReference");
+             merchantReferenceAdapter.write(out, value.merchantReference);
+             out.name("paymentMethod");
+             paymentMethodAdapter.write(out, value.paymentMethod);
+             out.name("reason");
+             reasonAdapter.write(out, value.reason);
+             out.name("success");
+             successAdapter.write(out, value.success);
+             out.endObject();
            }
 
            @Override
            public CustomNotification read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             CustomNotification instance = new CustomNotification();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "amount":
+                   instance.amount = amountAdapter.read(in);
+                   break;
+                 case "eventCode":
+                   instance.eventCode = eventCodeAdapter.read(in);
+                   break;
+                 case "eventDate":
+                   instance.eventDate = eventDateAdapter.read(in);
+                   break;
+                 case "merchantReference":
+                   instance.merchantReference = merchantReferenceAdapter.read(in);
+                   break;
+                 case "paymentMethod":
+                   instance.paymentMethod = paymentMethodAdapter.read(in);
+                   break;
+                 case "reason":
+                   instance.reason = reasonAdapter.read(in);
+                   break;
+                 case "success":
+                   instance.success = successAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `CustomNotification` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
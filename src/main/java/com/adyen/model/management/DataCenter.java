@@ -198,22 +198,40 @@ public class DataCenter {
        if (!DataCenter.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'DataCenter' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<DataCenter> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(DataCenter.class));
+       final TypeAdapter<String> livePrefixAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> nameAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<DataCenter>() {
            @Override
            public void write(JsonWriter out, DataCenter value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("livePrefix");
+             livePrefixAdapter.write(out, value.livePrefix);
+             out.name("name");
+             nameAdapter.write(out, value.name);
+             out.endObject();
            }
 
            @Override
            public DataCenter read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             DataCenter instance = new DataCenter();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "livePrefix":
+                   instance.livePrefix = livePrefixAdapter.read(in);
+                   break;
+                 case "name":
+                   instance.name = nameAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `DataCenter` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
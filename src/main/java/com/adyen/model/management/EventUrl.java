@@ -233,22 +233,40 @@ public class EventUrl {
        if (!EventUrl.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'EventUrl' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<EventUrl> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(EventUrl.class));
+       final TypeAdapter<List<Url>> eventLocalUrlsAdapter = gson.getAdapter(new TypeToken<List<Url>>() {});
+       final TypeAdapter<List<Url>> eventPublicUrlsAdapter = gson.getAdapter(new TypeToken<List<Url>>() {});
 
        return (TypeAdapter<T>) new TypeAdapter<EventUrl>() {
            @Override
            public void write(JsonWriter out, EventUrl value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("eventLocalUrls");
+             eventLocalUrlsAdapter.write(out, value.eventLocalUrls);
+             out.name("eventPublicUrls");
+             eventPublicUrlsAdapter.write(out, value.eventPublicUrls);
+             out.endObject();
            }
 
            @Override
            public EventUrl read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             EventUrl instance = new EventUrl();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "eventLocalUrls":
+                   instance.eventLocalUrls = eventLocalUrlsAdapter.read(in);
+                   break;
+                 case "eventPublicUrls":
+                   instance.eventPublicUrls = eventPublicUrlsAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `EventUrl` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
@@ -395,22 +395,76 @@ public class ExternalTerminalAction {
        if (!ExternalTerminalAction.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'ExternalTerminalAction' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<ExternalTerminalAction> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(ExternalTerminalAction.class));
+       final TypeAdapter<String> actionTypeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> configAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<Date> confirmedAtAdapter = gson.getAdapter(Date.class);
+       final TypeAdapter<String> idAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> resultAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<Date> scheduledAtAdapter = gson.getAdapter(Date.class);
+       final TypeAdapter<String> statusAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> terminalIdAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<ExternalTerminalAction>() {
            @Override
            public void write(JsonWriter out, ExternalTerminalAction value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("actionType");
+             actionTypeAdapter.write(out, value.actionType);
+             out.name("config");
+             configAdapter.write(out, value.config);
+             out.name("confirmedAt");
+             confirmedAtAdapter.write(out, value.confirmedAt);
+             out.name("id");
+             idAdapter.write(out, value.id);
+             out.name("result");
+             resultAdapter.write(out, value.result);
+             out.name("scheduledAt");
+             scheduledAtAdapter.write(out, value.scheduledAt);
+             out.name("status");
+             statusAdapter.write(out, value.status);
+             out.name("terminalId");
+             terminalIdAdapter.write(out, value.terminalId);
+             out.endObject();
            }
 
            @Override
            public ExternalTerminalAction read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             ExternalTerminalAction instance = new ExternalTerminalAction();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "actionType":
+                   instance.actionType = actionTypeAdapter.read(in);
+                   break;
+                 case "config":
+                   instance.config = configAdapter.read(in);
+                   break;
+                 case "confirmedAt":
+                   instance.confirmedAt = confirmedAtAdapter.read(in);
+                   break;
+                 case "id":
+                   instance.id = idAdapter.read(in);
+                   break;
+                 case "result":
+                   instance.result = resultAdapter.read(in);
+                   break;
+                 case "scheduledAt":
+                   instance.scheduledAt = scheduledAtAdapter.read(in);
+                   break;
+                 case "status":
+                   instance.status = statusAdapter.read(in);
+                   break;
+                 case "terminalId":
+                   instance.terminalId = terminalIdAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `ExternalTerminalAction` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
@@ -172,22 +172,39 @@ public class GenerateApiKeyResponse {
        if (!GenerateApiKeyResponse.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'GenerateApiKeyResponse' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<GenerateApiKeyResponse> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(GenerateApiKeyResponse.class));
+       final TypeAdapter<String> apiKeyAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<GenerateApiKeyResponse>() {
            @Override
            public void write(JsonWriter out, GenerateApiKeyResponse value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("apiKey");
+             apiKeyAdapter.write(out, value.apiKey);
+             out.endObject();
            }
 
            @Override
            public GenerateApiKeyResponse read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             GenerateApiKeyResponse instance = new GenerateApiKeyResponse();
+             boolean apiKeyFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "apiKey":
+                   instance.apiKey = apiKeyAdapter.read(in);
+                   apiKeyFound = true;
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `GenerateApiKeyResponse` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!apiKeyFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "apiKey", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
@@ -172,22 +172,39 @@ public class GenerateClientKeyResponse {
        if (!GenerateClientKeyResponse.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'GenerateClientKeyResponse' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<GenerateClientKeyResponse> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(GenerateClientKeyResponse.class));
+       final TypeAdapter<String> clientKeyAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<GenerateClientKeyResponse>() {
            @Override
            public void write(JsonWriter out, GenerateClientKeyResponse value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("clientKey");
+             clientKeyAdapter.write(out, value.clientKey);
+             out.endObject();
            }
 
            @Override
            public GenerateClientKeyResponse read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             GenerateClientKeyResponse instance = new GenerateClientKeyResponse();
+             boolean clientKeyFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "clientKey":
+                   instance.clientKey = clientKeyAdapter.read(in);
+                   clientKeyFound = true;
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `GenerateClientKeyResponse` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!clientKeyFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "clientKey", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
@@ -172,22 +172,39 @@ public class GenerateHmacKeyResponse {
        if (!GenerateHmacKeyResponse.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'GenerateHmacKeyResponse' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<GenerateHmacKeyResponse> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(GenerateHmacKeyResponse.class));
+       final TypeAdapter<String> hmacKeyAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<GenerateHmacKeyResponse>() {
            @Override
            public void write(JsonWriter out, GenerateHmacKeyResponse value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("hmacKey");
+             hmacKeyAdapter.write(out, value.hmacKey);
+             out.endObject();
            }
 
            @Override
            public GenerateHmacKeyResponse read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             GenerateHmacKeyResponse instance = new GenerateHmacKeyResponse();
+             boolean hmacKeyFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "hmacKey":
+                   instance.hmacKey = hmacKeyAdapter.read(in);
+                   hmacKeyFound = true;
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `GenerateHmacKeyResponse` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!hmacKeyFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "hmacKey", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
@@ -172,22 +172,39 @@ public class GiroPayInfo {
        if (!GiroPayInfo.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'GiroPayInfo' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<GiroPayInfo> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(GiroPayInfo.class));
+       final TypeAdapter<String> supportEmailAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<GiroPayInfo>() {
            @Override
            public void write(JsonWriter out, GiroPayInfo value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("supportEmail");
+             supportEmailAdapter.write(out, value.supportEmail);
+             out.endObject();
            }
 
            @Override
            public GiroPayInfo read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             GiroPayInfo instance = new GiroPayInfo();
+             boolean supportEmailFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "supportEmail":
+                   instance.supportEmail = supportEmailAdapter.read(in);
+                   supportEmailFound = true;
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `GiroPayInfo` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!supportEmailFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "supportEmail", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
@@ -268,22 +268,52 @@ public class Gratuity {
        if (!Gratuity.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'Gratuity' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<Gratuity> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(Gratuity.class));
+       final TypeAdapter<Boolean> allowCustomAmountAdapter = gson.getAdapter(Boolean.class);
+       final TypeAdapter<String> currencyAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<List<String>> predefinedTipEntriesAdapter = gson.getAdapter(new TypeToken<List<String>>() {});
+       final TypeAdapter<Boolean> usePredefinedTipEntriesAdapter = gson.getAdapter(Boolean.class);
 
        return (TypeAdapter<T>) new TypeAdapter<Gratuity>() {
            @Override
            public void write(JsonWriter out, Gratuity value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("allowCustomAmount");
+             allowCustomAmountAdapter.write(out, value.allowCustomAmount);
+             out.name("currency");
+             currencyAdapter.write(out, value.currency);
+             out.name("predefinedTipEntries");
+             predefinedTipEntriesAdapter.write(out, value.predefinedTipEntries);
+             out.name("usePredefinedTipEntries");
+             usePredefinedTipEntriesAdapter.write(out, value.usePredefinedTipEntries);
+             out.endObject();
            }
 
            @Override
            public Gratuity read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             Gratuity instance = new Gratuity();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "allowCustomAmount":
+                   instance.allowCustomAmount = allowCustomAmountAdapter.read(in);
+                   break;
+                 case "currency":
+                   instance.currency = currencyAdapter.read(in);
+                   break;
+                 case "predefinedTipEntries":
+                   instance.predefinedTipEntries = predefinedTipEntriesAdapter.read(in);
+                   break;
+                 case "usePredefinedTipEntries":
+                   instance.usePredefinedTipEntries = usePredefinedTipEntriesAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `Gratuity` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
@@ -160,22 +160,34 @@ public class Hardware {
        if (!Hardware.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'Hardware' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<Hardware> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(Hardware.class));
+       final TypeAdapter<Integer> displayMaximumBackLightAdapter = gson.getAdapter(Integer.class);
 
        return (TypeAdapter<T>) new TypeAdapter<Hardware>() {
            @Override
            public void write(JsonWriter out, Hardware value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("displayMaximumBackLight");
+             displayMaximumBackLightAdapter.write(out, value.displayMaximumBackLight);
+             out.endObject();
            }
 
            @Override
            public Hardware read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             Hardware instance = new Hardware();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "displayMaximumBackLight":
+                   instance.displayMaximumBackLight = displayMaximumBackLightAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `Hardware` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
@@ -242,22 +242,61 @@ public class InvalidField {
        if (!InvalidField.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'InvalidField' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<InvalidField> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(InvalidField.class));
+       final TypeAdapter<String> messageAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> nameAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> valueAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<InvalidField>() {
            @Override
            public void write(JsonWriter out, InvalidField value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("message");
+             messageAdapter.write(out, value.message);
+             out.name("name");
+             nameAdapter.write(out, value.name);
+             out.name("value");
+             valueAdapter.write(out, value.value);
+             out.endObject();
            }
 
            @Override
            public InvalidField read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             InvalidField instance = new InvalidField();
+             boolean messageFound = false;
+             boolean nameFound = false;
+             boolean valueFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "message":
+                   instance.message = messageAdapter.read(in);
+                   messageFound = true;
+                   break;
+                 case "name":
+                   instance.name = nameAdapter.read(in);
+                   nameFound = true;
+                   break;
+                 case "value":
+                   instance.value = valueAdapter.read(in);
+                   valueFound = true;
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `InvalidField` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!messageFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "message", in.getPath()));
+             }
+             if (!nameFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "name", in.getPath()));
+             }
+             if (!valueFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "value", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
@@ -174,22 +174,34 @@ public class JSONPath {
        if (!JSONPath.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'JSONPath' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<JSONPath> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(JSONPath.class));
+       final TypeAdapter<List<String>> contentAdapter = gson.getAdapter(new TypeToken<List<String>>() {});
 
        return (TypeAdapter<T>) new TypeAdapter<JSONPath>() {
            @Override
            public void write(JsonWriter out, JSONPath value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("content");
+             contentAdapter.write(out, value.content);
+             out.endObject();
            }
 
            @Override
            public JSONPath read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             JSONPath instance = new JSONPath();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "content":
+                   instance.content = contentAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `JSONPath` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
@@ -84,13 +84,20 @@ public class KlarnaInfo {
       return String.valueOf(value);
     }
 
-    public static RegionEnum fromValue(String value) {
+    private static final Map<String, RegionEnum> BY_VALUE = new HashMap<String, RegionEnum>();
+
+    static {
       for (RegionEnum b : RegionEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static RegionEnum fromValue(String value) {
+      RegionEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<RegionEnum> {
@@ -326,22 +333,67 @@ public class KlarnaInfo {
        if (!KlarnaInfo.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'KlarnaInfo' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<KlarnaInfo> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(KlarnaInfo.class));
+       final TypeAdapter<Boolean> autoCaptureAdapter = gson.getAdapter(Boolean.class);
+       final TypeAdapter<String> disputeEmailAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<RegionEnum> regionAdapter = gson.getAdapter(RegionEnum.class);
+       final TypeAdapter<String> supportEmailAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<KlarnaInfo>() {
            @Override
            public void write(JsonWriter out, KlarnaInfo value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("autoCapture");
+             autoCaptureAdapter.write(out, value.autoCapture);
+             out.name("disputeEmail");
+             disputeEmailAdapter.write(out, value.disputeEmail);
+             out.name("region");
+             regionAdapter.write(out, value.region);
+             out.name("supportEmail");
+             supportEmailAdapter.write(out, value.supportEmail);
+             out.endObject();
            }
 
            @Override
            public KlarnaInfo read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             KlarnaInfo instance = new KlarnaInfo();
+             boolean disputeEmailFound = false;
+             boolean regionFound = false;
+             boolean supportEmailFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "autoCapture":
+                   instance.autoCapture = autoCaptureAdapter.read(in);
+                   break;
+                 case "disputeEmail":
+                   instance.disputeEmail = disputeEmailAdapter.read(in);
+                   disputeEmailFound = true;
+                   break;
+                 case "region":
+                   instance.region = regionAdapter.read(in);
+                   regionFound = true;
+                   break;
+                 case "supportEmail":
+                   instance.supportEmail = supportEmailAdapter.read(in);
+                   supportEmailFound = true;
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `KlarnaInfo` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!disputeEmailFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "disputeEmail", in.getPath()));
+             }
+             if (!regionFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "region", in.getPath()));
+             }
+             if (!supportEmailFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "supportEmail", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
@@ -173,22 +173,39 @@ public class Links {
        if (!Links.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'Links' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<Links> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(Links.class));
+       final TypeAdapter<LinksElement> selfAdapter = gson.getAdapter(LinksElement.class);
 
        return (TypeAdapter<T>) new TypeAdapter<Links>() {
            @Override
            public void write(JsonWriter out, Links value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("self");
+             selfAdapter.write(out, value.self);
+             out.endObject();
            }
 
            @Override
            public Links read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             Links instance = new Links();
+             boolean selfFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "self":
+                   instance.self = selfAdapter.read(in);
+                   selfFound = true;
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `Links` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!selfFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "self", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
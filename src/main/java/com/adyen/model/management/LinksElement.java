@@ -164,22 +164,34 @@ public class LinksElement {
        if (!LinksElement.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'LinksElement' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<LinksElement> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(LinksElement.class));
+       final TypeAdapter<String> hrefAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<LinksElement>() {
            @Override
            public void write(JsonWriter out, LinksElement value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("href");
+             hrefAdapter.write(out, value.href);
+             out.endObject();
            }
 
            @Override
            public LinksElement read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             LinksElement instance = new LinksElement();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "href":
+                   instance.href = hrefAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `LinksElement` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
@@ -287,22 +287,62 @@ public class ListCompanyUsersResponse {
        if (!ListCompanyUsersResponse.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'ListCompanyUsersResponse' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<ListCompanyUsersResponse> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(ListCompanyUsersResponse.class));
+       final TypeAdapter<PaginationLinks> linksAdapter = gson.getAdapter(PaginationLinks.class);
+       final TypeAdapter<List<CompanyUser>> dataAdapter = gson.getAdapter(new TypeToken<List<CompanyUser>>() {});
+       final TypeAdapter<Integer> itemsTotalAdapter = gson.getAdapter(Integer.class);
+       final TypeAdapter<Integer> pagesTotalAdapter = gson.getAdapter(Integer.class);
 
        return (TypeAdapter<T>) new TypeAdapter<ListCompanyUsersResponse>() {
            @Override
            public void write(JsonWriter out, ListCompanyUsersResponse value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("_links");
+             linksAdapter.write(out, value.links);
+             out.name("data");
+             dataAdapter.write(out, value.data);
+             out.name("itemsTotal");
+             itemsTotalAdapter.write(out, value.itemsTotal);
+             out.name("pagesTotal");
+             pagesTotalAdapter.write(out, value.pagesTotal);
+             out.endObject();
            }
 
            @Override
            public ListCompanyUsersResponse read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             ListCompanyUsersResponse instance = new ListCompanyUsersResponse();
+             boolean itemsTotalFound = false;
+             boolean pagesTotalFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "_links":
+                   instance.links = linksAdapter.read(in);
+                   break;
+                 case "data":
+                   instance.data = dataAdapter.read(in);
+                   break;
+                 case "itemsTotal":
+                   instance.itemsTotal = itemsTotalAdapter.read(in);
+                   itemsTotalFound = true;
+                   break;
+                 case "pagesTotal":
+                   instance.pagesTotal = pagesTotalAdapter.read(in);
+                   pagesTotalFound = true;
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `ListCompanyUsersResponse` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!itemsTotalFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "itemsTotal", in.getPath()));
+             }
+             if (!pagesTotalFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "pagesTotal", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
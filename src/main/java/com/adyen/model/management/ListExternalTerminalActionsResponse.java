@@ -183,22 +183,34 @@ public class ListExternalTerminalActionsResponse {
        if (!ListExternalTerminalActionsResponse.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'ListExternalTerminalActionsResponse' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<ListExternalTerminalActionsResponse> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(ListExternalTerminalActionsResponse.class));
+       final TypeAdapter<List<ExternalTerminalAction>> dataAdapter = gson.getAdapter(new TypeToken<List<ExternalTerminalAction>>() {});
 
        return (TypeAdapter<T>) new TypeAdapter<ListExternalTerminalActionsResponse>() {
            @Override
            public void write(JsonWriter out, ListExternalTerminalActionsResponse value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("data");
+             dataAdapter.write(out, value.data);
+             out.endObject();
            }
 
            @Override
            public ListExternalTerminalActionsResponse read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             ListExternalTerminalActionsResponse instance = new ListExternalTerminalActionsResponse();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "data":
+                   instance.data = dataAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `ListExternalTerminalActionsResponse` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
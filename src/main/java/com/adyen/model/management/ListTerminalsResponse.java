@@ -183,22 +183,34 @@ public class ListTerminalsResponse {
        if (!ListTerminalsResponse.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'ListTerminalsResponse' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<ListTerminalsResponse> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(ListTerminalsResponse.class));
+       final TypeAdapter<List<Terminal>> dataAdapter = gson.getAdapter(new TypeToken<List<Terminal>>() {});
 
        return (TypeAdapter<T>) new TypeAdapter<ListTerminalsResponse>() {
            @Override
            public void write(JsonWriter out, ListTerminalsResponse value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("data");
+             dataAdapter.write(out, value.data);
+             out.endObject();
            }
 
            @Override
            public ListTerminalsResponse read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             ListTerminalsResponse instance = new ListTerminalsResponse();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "data":
+                   instance.data = dataAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `ListTerminalsResponse` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
@@ -626,22 +626,112 @@ public class Merchant {
        if (!Merchant.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'Merchant' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<Merchant> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(Merchant.class));
+       final TypeAdapter<MerchantLinks> linksAdapter = gson.getAdapter(MerchantLinks.class);
+       final TypeAdapter<String> captureDelayAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> companyIdAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<List<DataCenter>> dataCentersAdapter = gson.getAdapter(new TypeToken<List<DataCenter>>() {});
+       final TypeAdapter<String> defaultShopperInteractionAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> descriptionAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> idAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> merchantCityAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> nameAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> pricingPlanAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> primarySettlementCurrencyAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> referenceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> shopWebAddressAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> statusAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<Merchant>() {
            @Override
            public void write(JsonWriter out, Merchant value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("_links");
+             linksAdapter.write(out, value.links);
+             out.name("captureDelay");
+             captureDelayAdapter.write(out, value.captureDelay);
+             out.name("companyId");
+             companyIdAdapter.write(out, value.companyId);
+             out.name("dataCenters");
+             dataCentersAdapter.write(out, value.dataCenters);
+             out.name("defaultShopperInteraction");
+             defaultShopperInteractionAdapter.write(out, value.defaultShopperInteraction);
+             out.name("description");
+             descriptionAdapter.write(out, value.description);
+             out.name("id");
+             idAdapter.write(out, value.id);
+             out.name("merchantCity");
+             merchantCityAdapter.write(out, value.merchantCity);
+             out.name("name");
+             nameAdapter.write(out, value.name);
+             out.name("pricingPlan");
+             pricingPlanAdapter.write(out, value.pricingPlan);
+             out.name("primarySettlementCurrency");
+             primarySettlementCurrencyAdapter.write(out, value.primarySettlementCurrency);
+             out.name("reference");
+             referenceAdapter.write(out, value.reference);
+             out.name("shopWebAddress");
+             shopWebAddressAdapter.write(out, value.shopWebAddress);
+             out.name("status");
+             statusAdapter.write(out, value.status);
+             out.endObject();
            }
 
            @Override
            public Merchant read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             Merchant instance = new Merchant();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "_links":
+                   instance.links = linksAdapter.read(in);
+                   break;
+                 case "captureDelay":
+                   instance.captureDelay = captureDelayAdapter.read(in);
+                   break;
+                 case "companyId":
+                   instance.companyId = companyIdAdapter.read(in);
+                   break;
+                 case "dataCenters":
+                   instance.dataCenters = dataCentersAdapter.read(in);
+                   break;
+                 case "defaultShopperInteraction":
+                   instance.defaultShopperInteraction = defaultShopperInteractionAdapter.read(in);
+                   break;
+                 case "description":
+                   instance.description = descriptionAdapter.read(in);
+                   break;
+                 case "id":
+                   instance.id = idAdapter.read(in);
+                   break;
+                 case "merchantCity":
+                   instance.merchantCity = merchantCityAdapter.read(in);
+                   break;
+                 case "name":
+                   instance.name = nameAdapter.read(in);
+                   break;
+                 case "pricingPlan":
+                   instance.pricingPlan = pricingPlanAdapter.read(in);
+                   break;
+                 case "primarySettlementCurrency":
+                   instance.primarySettlementCurrency = primarySettlementCurrencyAdapter.read(in);
+                   break;
+                 case "reference":
+                   instance.reference = referenceAdapter.read(in);
+                   break;
+                 case "shopWebAddress":
+                   instance.shopWebAddress = shopWebAddressAdapter.read(in);
+                   break;
+                 case "status":
+                   instance.status = statusAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `Merchant` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
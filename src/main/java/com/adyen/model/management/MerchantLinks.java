@@ -275,22 +275,57 @@ public class MerchantLinks {
        if (!MerchantLinks.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'MerchantLinks' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<MerchantLinks> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(MerchantLinks.class));
+       final TypeAdapter<LinksElement> apiCredentialsAdapter = gson.getAdapter(LinksElement.class);
+       final TypeAdapter<LinksElement> selfAdapter = gson.getAdapter(LinksElement.class);
+       final TypeAdapter<LinksElement> usersAdapter = gson.getAdapter(LinksElement.class);
+       final TypeAdapter<LinksElement> webhooksAdapter = gson.getAdapter(LinksElement.class);
 
        return (TypeAdapter<T>) new TypeAdapter<MerchantLinks>() {
            @Override
            public void write(JsonWriter out, MerchantLinks value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("apiCredentials");
+             apiCredentialsAdapter.write(out, value.apiCredentials);
+             out.name("self");
+             selfAdapter.write(out, value.self);
+             out.name("users");
+             usersAdapter.write(out, value.users);
+             out.name("webhooks");
+             webhooksAdapter.write(out, value.webhooks);
+             out.endObject();
            }
 
            @Override
            public MerchantLinks read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             MerchantLinks instance = new MerchantLinks();
+             boolean selfFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "apiCredentials":
+                   instance.apiCredentials = apiCredentialsAdapter.read(in);
+                   break;
+                 case "self":
+                   instance.self = selfAdapter.read(in);
+                   selfFound = true;
+                   break;
+                 case "users":
+                   instance.users = usersAdapter.read(in);
+                   break;
+                 case "webhooks":
+                   instance.webhooks = webhooksAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `MerchantLinks` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!selfFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "self", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
@@ -194,22 +194,40 @@ public class MinorUnitsMonetaryValue {
        if (!MinorUnitsMonetaryValue.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'MinorUnitsMonetaryValue' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<MinorUnitsMonetaryValue> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(MinorUnitsMonetaryValue.class));
+       final TypeAdapter<Integer> amountAdapter = gson.getAdapter(Integer.class);
+       final TypeAdapter<String> currencyCodeAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<MinorUnitsMonetaryValue>() {
            @Override
            public void write(JsonWriter out, MinorUnitsMonetaryValue value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("amount");
+             amountAdapter.write(out, value.amount);
+             out.name("currencyCode");
+             currencyCodeAdapter.write(out, value.currencyCode);
+             out.endObject();
            }
 
            @Override
            public MinorUnitsMonetaryValue read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             MinorUnitsMonetaryValue instance = new MinorUnitsMonetaryValue();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "amount":
+                   instance.amount = amountAdapter.read(in);
+                   break;
+                 case "currencyCode":
+                   instance.currencyCode = currencyCodeAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `MinorUnitsMonetaryValue` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
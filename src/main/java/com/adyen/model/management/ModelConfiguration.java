@@ -265,22 +265,56 @@ public class ModelConfiguration {
        if (!ModelConfiguration.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'ModelConfiguration' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<ModelConfiguration> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(ModelConfiguration.class));
+       final TypeAdapter<String> brandAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<List<Currency>> currenciesAdapter = gson.getAdapter(new TypeToken<List<Currency>>() {});
+       final TypeAdapter<List<String>> sourcesAdapter = gson.getAdapter(new TypeToken<List<String>>() {});
 
        return (TypeAdapter<T>) new TypeAdapter<ModelConfiguration>() {
            @Override
            public void write(JsonWriter out, ModelConfiguration value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("brand");
+             brandAdapter.write(out, value.brand);
+             out.name("currencies");
+             currenciesAdapter.write(out, value.currencies);
+             out.name("sources");
+             sourcesAdapter.write(out, value.sources);
+             out.endObject();
            }
 
            @Override
            public ModelConfiguration read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             ModelConfiguration instance = new ModelConfiguration();
+             boolean brandFound = false;
+             boolean currenciesFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "brand":
+                   instance.brand = brandAdapter.read(in);
+                   brandFound = true;
+                   break;
+                 case "currencies":
+                   instance.currencies = currenciesAdapter.read(in);
+                   currenciesFound = true;
+                   break;
+                 case "sources":
+                   instance.sources = sourcesAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `ModelConfiguration` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!brandFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "brand", in.getPath()));
+             }
+             if (!currenciesFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "currencies", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
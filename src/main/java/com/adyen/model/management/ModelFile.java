@@ -207,22 +207,50 @@ public class ModelFile {
        if (!ModelFile.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'ModelFile' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<ModelFile> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(ModelFile.class));
+       final TypeAdapter<String> dataAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> nameAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<ModelFile>() {
            @Override
            public void write(JsonWriter out, ModelFile value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("data");
+             dataAdapter.write(out, value.data);
+             out.name("name");
+             nameAdapter.write(out, value.name);
+             out.endObject();
            }
 
            @Override
            public ModelFile read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             ModelFile instance = new ModelFile();
+             boolean dataFound = false;
+             boolean nameFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "data":
+                   instance.data = dataAdapter.read(in);
+                   dataFound = true;
+                   break;
+                 case "name":
+                   instance.name = nameAdapter.read(in);
+                   nameFound = true;
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `ModelFile` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!dataFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "data", in.getPath()));
+             }
+             if (!nameFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "name", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
@@ -207,22 +207,50 @@ public class Name {
        if (!Name.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'Name' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<Name> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(Name.class));
+       final TypeAdapter<String> firstNameAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> lastNameAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<Name>() {
            @Override
            public void write(JsonWriter out, Name value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("firstName");
+             firstNameAdapter.write(out, value.firstName);
+             out.name("lastName");
+             lastNameAdapter.write(out, value.lastName);
+             out.endObject();
            }
 
            @Override
            public Name read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             Name instance = new Name();
+             boolean firstNameFound = false;
+             boolean lastNameFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "firstName":
+                   instance.firstName = firstNameAdapter.read(in);
+                   firstNameFound = true;
+                   break;
+                 case "lastName":
+                   instance.lastName = lastNameAdapter.read(in);
+                   lastNameFound = true;
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `Name` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!firstNameFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "firstName", in.getPath()));
+             }
+             if (!lastNameFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "lastName", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
@@ -198,22 +198,40 @@ public class Name2 {
        if (!Name2.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'Name2' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<Name2> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(Name2.class));
+       final TypeAdapter<String> firstNameAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> lastNameAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<Name2>() {
            @Override
            public void write(JsonWriter out, Name2 value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("firstName");
+             firstNameAdapter.write(out, value.firstName);
+             out.name("lastName");
+             lastNameAdapter.write(out, value.lastName);
+             out.endObject();
            }
 
            @Override
            public Name2 read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             Name2 instance = new Name2();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "firstName":
+                   instance.firstName = firstNameAdapter.read(in);
+                   break;
+                 case "lastName":
+                   instance.lastName = lastNameAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `Name2` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
@@ -211,22 +211,40 @@ public class Nexo {
        if (!Nexo.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'Nexo' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<Nexo> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(Nexo.class));
+       final TypeAdapter<EventUrl> eventUrlsAdapter = gson.getAdapter(EventUrl.class);
+       final TypeAdapter<List<String>> nexoEventUrlsAdapter = gson.getAdapter(new TypeToken<List<String>>() {});
 
        return (TypeAdapter<T>) new TypeAdapter<Nexo>() {
            @Override
            public void write(JsonWriter out, Nexo value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("eventUrls");
+             eventUrlsAdapter.write(out, value.eventUrls);
+             out.name("nexoEventUrls");
+             nexoEventUrlsAdapter.write(out, value.nexoEventUrls);
+             out.endObject();
            }
 
            @Override
            public Nexo read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             Nexo instance = new Nexo();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "eventUrls":
+                   instance.eventUrls = eventUrlsAdapter.read(in);
+                   break;
+                 case "nexoEventUrls":
+                   instance.nexoEventUrls = nexoEventUrlsAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `Nexo` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
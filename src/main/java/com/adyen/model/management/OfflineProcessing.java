@@ -213,22 +213,40 @@ public class OfflineProcessing {
        if (!OfflineProcessing.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'OfflineProcessing' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<OfflineProcessing> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(OfflineProcessing.class));
+       final TypeAdapter<Integer> chipFloorLimitAdapter = gson.getAdapter(Integer.class);
+       final TypeAdapter<List<MinorUnitsMonetaryValue>> offlineSwipeLimitsAdapter = gson.getAdapter(new TypeToken<List<MinorUnitsMonetaryValue>>() {});
 
        return (TypeAdapter<T>) new TypeAdapter<OfflineProcessing>() {
            @Override
            public void write(JsonWriter out, OfflineProcessing value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("chipFloorLimit");
+             chipFloorLimitAdapter.write(out, value.chipFloorLimit);
+             out.name("offlineSwipeLimits");
+             offlineSwipeLimitsAdapter.write(out, value.offlineSwipeLimits);
+             out.endObject();
            }
 
            @Override
            public OfflineProcessing read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             OfflineProcessing instance = new OfflineProcessing();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "chipFloorLimit":
+                   instance.chipFloorLimit = chipFloorLimitAdapter.read(in);
+                   break;
+                 case "offlineSwipeLimits":
+                   instance.offlineSwipeLimits = offlineSwipeLimitsAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `OfflineProcessing` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
@@ -228,22 +228,46 @@ public class Opi {
        if (!Opi.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'Opi' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<Opi> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(Opi.class));
+       final TypeAdapter<Boolean> enablePayAtTableAdapter = gson.getAdapter(Boolean.class);
+       final TypeAdapter<String> payAtTableStoreNumberAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> payAtTableURLAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<Opi>() {
            @Override
            public void write(JsonWriter out, Opi value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("enablePayAtTable");
+             enablePayAtTableAdapter.write(out, value.enablePayAtTable);
+             out.name("payAtTableStoreNumber");
+             payAtTableStoreNumberAdapter.write(out, value.payAtTableStoreNumber);
+             out.name("payAtTableURL");
+             payAtTableURLAdapter.write(out, value.payAtTableURL);
+             out.endObject();
            }
 
            @Override
            public Opi read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             Opi instance = new Opi();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "enablePayAtTable":
+                   instance.enablePayAtTable = enablePayAtTableAdapter.read(in);
+                   break;
+                 case "payAtTableStoreNumber":
+                   instance.payAtTableStoreNumber = payAtTableStoreNumberAdapter.read(in);
+                   break;
+                 case "payAtTableURL":
+                   instance.payAtTableURL = payAtTableURLAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `Opi` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
@@ -311,22 +311,73 @@ public class PaginationLinks {
        if (!PaginationLinks.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'PaginationLinks' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<PaginationLinks> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(PaginationLinks.class));
+       final TypeAdapter<LinksElement> firstAdapter = gson.getAdapter(LinksElement.class);
+       final TypeAdapter<LinksElement> lastAdapter = gson.getAdapter(LinksElement.class);
+       final TypeAdapter<LinksElement> nextAdapter = gson.getAdapter(LinksElement.class);
+       final TypeAdapter<LinksElement> prevAdapter = gson.getAdapter(LinksElement.class);
+       final TypeAdapter<LinksElement> selfAdapter = gson.getAdapter(LinksElement.class);
 
        return (TypeAdapter<T>) new TypeAdapter<PaginationLinks>() {
            @Override
            public void write(JsonWriter out, PaginationLinks value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("first");
+             firstAdapter.write(out, value.first);
+             out.name("last");
+             lastAdapter.write(out, value.last);
+             out.name("next");
+             nextAdapter.write(out, value.next);
+             out.name("prev");
+             prevAdapter.write(out, value.prev);
+             out.name("self");
+             selfAdapter.write(out, value.self);
+             out.endObject();
            }
 
            @Override
            public PaginationLinks read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             PaginationLinks instance = new PaginationLinks();
+             boolean firstFound = false;
+             boolean lastFound = false;
+             boolean selfFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "first":
+                   instance.first = firstAdapter.read(in);
+                   firstFound = true;
+                   break;
+                 case "last":
+                   instance.last = lastAdapter.read(in);
+                   lastFound = true;
+                   break;
+                 case "next":
+                   instance.next = nextAdapter.read(in);
+                   break;
+                 case "prev":
+                   instance.prev = prevAdapter.read(in);
+                   break;
+                 case "self":
+                   instance.self = selfAdapter.read(in);
+                   selfFound = true;
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `PaginationLinks` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!firstFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "first", in.getPath()));
+             }
+             if (!lastFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "last", in.getPath()));
+             }
+             if (!selfFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "self", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
@@ -237,22 +237,56 @@ public class PayPalInfo {
        if (!PayPalInfo.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'PayPalInfo' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<PayPalInfo> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(PayPalInfo.class));
+       final TypeAdapter<Boolean> directCaptureAdapter = gson.getAdapter(Boolean.class);
+       final TypeAdapter<String> payerIdAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> subjectAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<PayPalInfo>() {
            @Override
            public void write(JsonWriter out, PayPalInfo value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("directCapture");
+             directCaptureAdapter.write(out, value.directCapture);
+             out.name("payerId");
+             payerIdAdapter.write(out, value.payerId);
+             out.name("subject");
+             subjectAdapter.write(out, value.subject);
+             out.endObject();
            }
 
            @Override
            public PayPalInfo read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             PayPalInfo instance = new PayPalInfo();
+             boolean payerIdFound = false;
+             boolean subjectFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "directCapture":
+                   instance.directCapture = directCaptureAdapter.read(in);
+                   break;
+                 case "payerId":
+                   instance.payerId = payerIdAdapter.read(in);
+                   payerIdFound = true;
+                   break;
+                 case "subject":
+                   instance.subject = subjectAdapter.read(in);
+                   subjectFound = true;
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `PayPalInfo` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!payerIdFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "payerId", in.getPath()));
+             }
+             if (!subjectFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "subject", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
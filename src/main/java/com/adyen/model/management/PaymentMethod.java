@@ -154,13 +154,20 @@ public class PaymentMethod {
       return String.valueOf(value);
     }
 
-    public static VerificationStatusEnum fromValue(String value) {
+    private static final Map<String, VerificationStatusEnum> BY_VALUE = new HashMap<String, VerificationStatusEnum>();
+
+    static {
       for (VerificationStatusEnum b : VerificationStatusEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static VerificationStatusEnum fromValue(String value) {
+      VerificationStatusEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<VerificationStatusEnum> {
@@ -822,22 +829,141 @@ public class PaymentMethod {
        if (!PaymentMethod.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'PaymentMethod' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<PaymentMethod> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(PaymentMethod.class));
+       final TypeAdapter<Boolean> allowedAdapter = gson.getAdapter(Boolean.class);
+       final TypeAdapter<ApplePayInfo> applePayAdapter = gson.getAdapter(ApplePayInfo.class);
+       final TypeAdapter<BcmcInfo> bcmcAdapter = gson.getAdapter(BcmcInfo.class);
+       final TypeAdapter<String> businessLineIdAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<CartesBancairesInfo> cartesBancairesAdapter = gson.getAdapter(CartesBancairesInfo.class);
+       final TypeAdapter<List<String>> countriesAdapter = gson.getAdapter(new TypeToken<List<String>>() {});
+       final TypeAdapter<List<String>> currenciesAdapter = gson.getAdapter(new TypeToken<List<String>>() {});
+       final TypeAdapter<Boolean> enabledAdapter = gson.getAdapter(Boolean.class);
+       final TypeAdapter<GiroPayInfo> giroPayAdapter = gson.getAdapter(GiroPayInfo.class);
+       final TypeAdapter<String> idAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<KlarnaInfo> klarnaAdapter = gson.getAdapter(KlarnaInfo.class);
+       final TypeAdapter<PayPalInfo> paypalAdapter = gson.getAdapter(PayPalInfo.class);
+       final TypeAdapter<String> shopperInteractionAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<SofortInfo> sofortAdapter = gson.getAdapter(SofortInfo.class);
+       final TypeAdapter<String> storeIdAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<SwishInfo> swishAdapter = gson.getAdapter(SwishInfo.class);
+       final TypeAdapter<String> typeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<VerificationStatusEnum> verificationStatusAdapter = gson.getAdapter(VerificationStatusEnum.class);
 
        return (TypeAdapter<T>) new TypeAdapter<PaymentMethod>() {
            @Override
            public void write(JsonWriter out, PaymentMethod value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("allowed");
+             allowedAdapter.write(out, value.allowed);
+             out.name("applePay");
+             applePayAdapter.write(out, value.applePay);
+             out.name("bcmc");
+             bcmcAdapter.write(out, value.bcmc);
+             out.name("businessLineId");
+             businessLineIdAdapter.write(out, value.businessLineId);
+             out.name("cartesBancaires");
+             cartesBancairesAdapter.write(out, value.cartesBancaires);
+             out.name("countries");
+             countriesAdapter.write(out, value.countries);
+             out.name("currencies");
+             currenciesAdapter.write(out, value.currencies);
+             out.name("enabled");
+             enabledAdapter.write(out, value.enabled);
+             out.name("giroPay");
+             giroPayAdapter.write(out, value.giroPay);
+             out.name("id");
+             idAdapter.write(out, value.id);
+             out.name("klarna");
+             klarnaAdapter.write(out, value.klarna);
+             out.name("paypal");
+             paypalAdapter.write(out, value.paypal);
+             out.name("shopperInteraction");
+             shopperInteractionAdapter.write(out, value.shopperInteraction);
+             out.name("sofort");
+             sofortAdapter.write(out, value.sofort);
+             out.name("storeId");
+             storeIdAdapter.write(out, value.storeId);
+             out.name("swish");
+             swishAdapter.write(out, value.swish);
+             out.name("type");
+             typeAdapter.write(out, value.type);
+             out.name("verificationStatus");
+             verificationStatusAdapter.write(out, value.verificationStatus);
+             out.endObject();
            }
 
            @Override
            public PaymentMethod read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             PaymentMethod instance = new PaymentMethod();
+             boolean idFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "allowed":
+                   instance.allowed = allowedAdapter.read(in);
+                   break;
+                 case "applePay":
+                   instance.applePay = applePayAdapter.read(in);
+                   break;
+                 case "bcmc":
+                   instance.bcmc = bcmcAdapter.read(in);
+                   break;
+                 case "businessLineId":
+                   instance.businessLineId = businessLineIdAdapter.read(in);
+                   break;
+                 case "cartesBancaires":
+                   instance.cartesBancaires = cartesBancairesAdapter.read(in);
+                   break;
+                 case "countries":
+                   instance.countries = countriesAdapter.read(in);
+                   break;
+                 case "currencies":
+                   instance.currencies = currenciesAdapter.read(in);
+                   break;
+                 case "enabled":
+                   instance.enabled = enabledAdapter.read(in);
+                   break;
+                 case "giroPay":
+                   instance.giroPay = giroPayAdapter.read(in);
+                   break;
+                 case "id":
+                   instance.id = idAdapter.read(in);
+                   idFound = true;
+                   break;
+                 case "klarna":
+                   instance.klarna = klarnaAdapter.read(in);
+                   break;
+                 case "paypal":
+                   instance.paypal = paypalAdapter.read(in);
+                   break;
+                 case "shopperInteraction":
+                   instance.shopperInteraction = shopperInteractionAdapter.read(in);
+                   break;
+                 case "sofort":
+                   instance.sofort = sofortAdapter.read(in);
+                   break;
+                 case "storeId":
+                   instance.storeId = storeIdAdapter.read(in);
+                   break;
+                 case "swish":
+                   instance.swish = swishAdapter.read(in);
+                   break;
+                 case "type":
+                   instance.type = typeAdapter.read(in);
+                   break;
+                 case "verificationStatus":
+                   instance.verificationStatus = verificationStatusAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `PaymentMethod` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!idFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "id", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
@@ -90,13 +90,20 @@ public class PayoutSettings {
       return String.valueOf(value);
     }
 
-    public static PriorityEnum fromValue(String value) {
+    private static final Map<String, PriorityEnum> BY_VALUE = new HashMap<String, PriorityEnum>();
+
+    static {
       for (PriorityEnum b : PriorityEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static PriorityEnum fromValue(String value) {
+      PriorityEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<PriorityEnum> {
@@ -149,13 +156,20 @@ public class PayoutSettings {
       return String.valueOf(value);
     }
 
-    public static VerificationStatusEnum fromValue(String value) {
+    private static final Map<String, VerificationStatusEnum> BY_VALUE = new HashMap<String, VerificationStatusEnum>();
+
+    static {
       for (VerificationStatusEnum b : VerificationStatusEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static VerificationStatusEnum fromValue(String value) {
+      VerificationStatusEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<VerificationStatusEnum> {
@@ -475,22 +489,80 @@ public class PayoutSettings {
        if (!PayoutSettings.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'PayoutSettings' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<PayoutSettings> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(PayoutSettings.class));
+       final TypeAdapter<Boolean> allowedAdapter = gson.getAdapter(Boolean.class);
+       final TypeAdapter<Boolean> enabledAdapter = gson.getAdapter(Boolean.class);
+       final TypeAdapter<String> enabledFromDateAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> idAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<PriorityEnum> priorityAdapter = gson.getAdapter(PriorityEnum.class);
+       final TypeAdapter<String> transferInstrumentIdAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<VerificationStatusEnum> verificationStatusAdapter = gson.getAdapter(VerificationStatusEnum.class);
 
        return (TypeAdapter<T>) new TypeAdapter<PayoutSettings>() {
            @Override
            public void write(JsonWriter out, PayoutSettings value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("allowed");
+             allowedAdapter.write(out, value.allowed);
+             out.name("enabled");
+             enabledAdapter.write(out, value.enabled);
+             out.name("enabledFromDate");
+             enabledFromDateAdapter.write(out, value.enabledFromDate);
+             out.name("id");
+             idAdapter.write(out, value.id);
+             out.name("priority");
+             priorityAdapter.write(out, value.priority);
+             out.name("transferInstrumentId");
+             transferInstrumentIdAdapter.write(out, value.transferInstrumentId);
+             out.name("verificationStatus");
+             verificationStatusAdapter.write(out, value.verificationStatus);
+             out.endObject();
            }
 
            @Override
            public PayoutSettings read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             PayoutSettings instance = new PayoutSettings();
+             boolean idFound = false;
+             boolean transferInstrumentIdFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "allowed":
+                   instance.allowed = allowedAdapter.read(in);
+                   break;
+                 case "enabled":
+                   instance.enabled = enabledAdapter.read(in);
+                   break;
+                 case "enabledFromDate":
+                   instance.enabledFromDate = enabledFromDateAdapter.read(in);
+                   break;
+                 case "id":
+                   instance.id = idAdapter.read(in);
+                   idFound = true;
+                   break;
+                 case "priority":
+                   instance.priority = priorityAdapter.read(in);
+                   break;
+                 case "transferInstrumentId":
+                   instance.transferInstrumentId = transferInstrumentIdAdapter.read(in);
+                   transferInstrumentIdFound = true;
+                   break;
+                 case "verificationStatus":
+                   instance.verificationStatus = verificationStatusAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `PayoutSettings` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!idFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "id", in.getPath()));
+             }
+             if (!transferInstrumentIdFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "transferInstrumentId", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
@@ -236,22 +236,51 @@ public class PayoutSettingsRequest {
        if (!PayoutSettingsRequest.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'PayoutSettingsRequest' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<PayoutSettingsRequest> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(PayoutSettingsRequest.class));
+       final TypeAdapter<Boolean> enabledAdapter = gson.getAdapter(Boolean.class);
+       final TypeAdapter<String> enabledFromDateAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> transferInstrumentIdAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<PayoutSettingsRequest>() {
            @Override
            public void write(JsonWriter out, PayoutSettingsRequest value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("enabled");
+             enabledAdapter.write(out, value.enabled);
+             out.name("enabledFromDate");
+             enabledFromDateAdapter.write(out, value.enabledFromDate);
+             out.name("transferInstrumentId");
+             transferInstrumentIdAdapter.write(out, value.transferInstrumentId);
+             out.endObject();
            }
 
            @Override
            public PayoutSettingsRequest read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             PayoutSettingsRequest instance = new PayoutSettingsRequest();
+             boolean transferInstrumentIdFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "enabled":
+                   instance.enabled = enabledAdapter.read(in);
+                   break;
+                 case "enabledFromDate":
+                   instance.enabledFromDate = enabledFromDateAdapter.read(in);
+                   break;
+                 case "transferInstrumentId":
+                   instance.transferInstrumentId = transferInstrumentIdAdapter.read(in);
+                   transferInstrumentIdFound = true;
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `PayoutSettingsRequest` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!transferInstrumentIdFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "transferInstrumentId", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
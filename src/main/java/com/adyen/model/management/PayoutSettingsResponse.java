@@ -183,22 +183,34 @@ public class PayoutSettingsResponse {
        if (!PayoutSettingsResponse.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'PayoutSettingsResponse' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<PayoutSettingsResponse> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(PayoutSettingsResponse.class));
+       final TypeAdapter<List<PayoutSettings>> dataAdapter = gson.getAdapter(new TypeToken<List<PayoutSettings>>() {});
 
        return (TypeAdapter<T>) new TypeAdapter<PayoutSettingsResponse>() {
            @Override
            public void write(JsonWriter out, PayoutSettingsResponse value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("data");
+             dataAdapter.write(out, value.data);
+             out.endObject();
            }
 
            @Override
            public PayoutSettingsResponse read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             PayoutSettingsResponse instance = new PayoutSettingsResponse();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "data":
+                   instance.data = dataAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `PayoutSettingsResponse` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
@@ -738,22 +738,156 @@ public class Profile {
        if (!Profile.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'Profile' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<Profile> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(Profile.class));
+       final TypeAdapter<String> authTypeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<Boolean> autoWifiAdapter = gson.getAdapter(Boolean.class);
+       final TypeAdapter<String> bssTypeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<Integer> channelAdapter = gson.getAdapter(Integer.class);
+       final TypeAdapter<Boolean> defaultProfileAdapter = gson.getAdapter(Boolean.class);
+       final TypeAdapter<String> eapAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<ModelFile> eapCaCertAdapter = gson.getAdapter(ModelFile.class);
+       final TypeAdapter<ModelFile> eapClientCertAdapter = gson.getAdapter(ModelFile.class);
+       final TypeAdapter<ModelFile> eapClientKeyAdapter = gson.getAdapter(ModelFile.class);
+       final TypeAdapter<String> eapClientPwdAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> eapIdentityAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<ModelFile> eapIntermediateCertAdapter = gson.getAdapter(ModelFile.class);
+       final TypeAdapter<String> eapPwdAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<Boolean> hiddenSsidAdapter = gson.getAdapter(Boolean.class);
+       final TypeAdapter<String> nameAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> pskAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> ssidAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> wsecAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<Profile>() {
            @Override
            public void write(JsonWriter out, Profile value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("authType");
+             authTypeAdapter.write(out, value.authType);
+             out.name("autoWifi");
+             autoWifiAdapter.write(out, value.autoWifi);
+             out.name("bssType");
+             bssTypeAdapter.write(out, value.bssType);
+             out.name("channel");
+             channelAdapter.write(out, value.channel);
+             out.name("defaultProfile");
+             defaultProfileAdapter.write(out, value.defaultProfile);
+             out.name("eap");
+             eapAdapter.write(out, value.eap);
+             out.name("eapCaCert");
+             eapCaCertAdapter.write(out, value.eapCaCert);
+             out.name("eapClientCert");
+             eapClientCertAdapter.write(out, value.eapClientCert);
+             out.name("eapClientKey");
+             eapClientKeyAdapter.write(out, value.eapClientKey);
+             out.name("eapClientPwd");
+             eapClientPwdAdapter.write(out, value.eapClientPwd);
+             out.name("eapIdentity");
+             eapIdentityAdapter.write(out, value.eapIdentity);
+             out.name("eapIntermediateCert");
+             eapIntermediateCertAdapter.write(out, value.eapIntermediateCert);
+             out.name("eapPwd");
+             eapPwdAdapter.write(out, value.eapPwd);
+             out.name("hiddenSsid");
+             hiddenSsidAdapter.write(out, value.hiddenSsid);
+             out.name("name");
+             nameAdapter.write(out, value.name);
+             out.name("psk");
+             pskAdapter.write(out, value.psk);
+             out.name("ssid");
+             ssidAdapter.write(out, value.ssid);
+             out.name("wsec");
+             wsecAdapter.write(out, value.wsec);
+             out.endObject();
            }
 
            @Override
            public Profile read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             Profile instance = new Profile();
+             boolean authTypeFound = false;
+             boolean bssTypeFound = false;
+             boolean ssidFound = false;
+             boolean wsecFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "authType":
+                   instance.authType = authTypeAdapter.read(in);
+                   authTypeFound = true;
+                   break;
+                 case "autoWifi":
+                   instance.autoWifi = autoWifiAdapter.read(in);
+                   break;
+                 case "bssType":
+                   instance.bssType = bssTypeAdapter.read(in);
+                   bssTypeFound = true;
+                   break;
+                 case "channel":
+                   instance.channel = channelAdapter.read(in);
+                   break;
+                 case "defaultProfile":
+                   instance.defaultProfile = defaultProfileAdapter.read(in);
+                   break;
+                 case "eap":
+                   instance.eap = eapAdapter.read(in);
+                   break;
+                 case "eapCaCert":
+                   instance.eapCaCert = eapCaCertAdapter.read(in);
+                   break;
+                 case "eapClientCert":
+                   instance.eapClientCert = eapClientCertAdapter.read(in);
+                   break;
+                 case "eapClientKey":
+                   instance.eapClientKey = eapClientKeyAdapter.read(in);
+                   break;
+                 case "eapClientPwd":
+                   instance.eapClientPwd = eapClientPwdAdapter.read(in);
+                   break;
+                 case "eapIdentity":
+                   instance.eapIdentity = eapIdentityAdapter.read(in);
+                   break;
+                 case "eapIntermediateCert":
+                   instance.eapIntermediateCert = eapIntermediateCertAdapter.read(in);
+                   break;
+                 case "eapPwd":
+                   instance.eapPwd = eapPwdAdapter.read(in);
+                   break;
+                 case "hiddenSsid":
+                   instance.hiddenSsid = hiddenSsidAdapter.read(in);
+                   break;
+                 case "name":
+                   instance.name = nameAdapter.read(in);
+                   break;
+                 case "psk":
+                   instance.psk = pskAdapter.read(in);
+                   break;
+                 case "ssid":
+                   instance.ssid = ssidAdapter.read(in);
+                   ssidFound = true;
+                   break;
+                 case "wsec":
+                   instance.wsec = wsecAdapter.read(in);
+                   wsecFound = true;
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `Profile` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!authTypeFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "authType", in.getPath()));
+             }
+             if (!bssTypeFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "bssType", in.getPath()));
+             }
+             if (!ssidFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "ssid", in.getPath()));
+             }
+             if (!wsecFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "wsec", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
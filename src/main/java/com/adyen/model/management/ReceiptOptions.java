@@ -198,22 +198,40 @@ public class ReceiptOptions {
        if (!ReceiptOptions.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'ReceiptOptions' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<ReceiptOptions> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(ReceiptOptions.class));
+       final TypeAdapter<String> logoAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> qrCodeDataAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<ReceiptOptions>() {
            @Override
            public void write(JsonWriter out, ReceiptOptions value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("logo");
+             logoAdapter.write(out, value.logo);
+             out.name("qrCodeData");
+             qrCodeDataAdapter.write(out, value.qrCodeData);
+             out.endObject();
            }
 
            @Override
            public ReceiptOptions read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             ReceiptOptions instance = new ReceiptOptions();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "logo":
+                   instance.logo = logoAdapter.read(in);
+                   break;
+                 case "qrCodeData":
+                   instance.qrCodeData = qrCodeDataAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `ReceiptOptions` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
@@ -610,22 +610,124 @@ public class ReceiptPrinting {
        if (!ReceiptPrinting.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'ReceiptPrinting' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<ReceiptPrinting> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(ReceiptPrinting.class));
+       final TypeAdapter<Boolean> merchantApprovedAdapter = gson.getAdapter(Boolean.class);
+       final TypeAdapter<Boolean> merchantCancelledAdapter = gson.getAdapter(Boolean.class);
+       final TypeAdapter<Boolean> merchantCaptureApprovedAdapter = gson.getAdapter(Boolean.class);
+       final TypeAdapter<Boolean> merchantCaptureRefusedAdapter = gson.getAdapter(Boolean.class);
+       final TypeAdapter<Boolean> merchantRefundApprovedAdapter = gson.getAdapter(Boolean.class);
+       final TypeAdapter<Boolean> merchantRefundRefusedAdapter = gson.getAdapter(Boolean.class);
+       final TypeAdapter<Boolean> merchantRefusedAdapter = gson.getAdapter(Boolean.class);
+       final TypeAdapter<Boolean> merchantVoidAdapter = gson.getAdapter(Boolean.class);
+       final TypeAdapter<Boolean> shopperApprovedAdapter = gson.getAdapter(Boolean.class);
+       final TypeAdapter<Boolean> shopperCancelledAdapter = gson.getAdapter(Boolean.class);
+       final TypeAdapter<Boolean> shopperCaptureApprovedAdapter = gson.getAdapter(Boolean.class);
+       final TypeAdapter<Boolean> shopperCaptureRefusedAdapter = gson.getAdapter(Boolean.class);
+       final TypeAdapter<Boolean> shopperRefundApprovedAdapter = gson.getAdapter(Boolean.class);
+       final TypeAdapter<Boolean> shopperRefundRefusedAdapter = gson.getAdapter(Boolean.class);
+       final TypeAdapter<Boolean> shopperRefusedAdapter = gson.getAdapter(Boolean.class);
+       final TypeAdapter<Boolean> shopperVoidAdapter = gson.getAdapter(Boolean.class);
 
        return (TypeAdapter<T>) new TypeAdapter<ReceiptPrinting>() {
            @Override
            public void write(JsonWriter out, ReceiptPrinting value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("merchantApproved");
+             merchantApprovedAdapter.write(out, value.merchantApproved);
+             out.name("merchantCancelled");
+             merchantCancelledAdapter.write(out, value.merchantCancelled);
+             out.name("merchantCaptureApproved");
+             merchantCaptureApprovedAdapter.write(out, value.merchantCaptureApproved);
+             out.name("merchantCaptureRefused");
+             merchantCaptureRefusedAdapter.write(out, value.merchantCaptureRefused);
+             out.name("merchantRefundApproved");
+             merchantRefundApprovedAdapter.write(out, value.merchantRefundApproved);
+             out.name("merchantRefundRefused");
+             merchantRefundRefusedAdapter.write(out, value.merchantRefundRefused);
+             out.name("merchantRefused");
+             merchantRefusedAdapter.write(out, value.merchantRefused);
+             out.name("merchantVoid");
+             merchantVoidAdapter.write(out, value.merchantVoid);
+             out.name("shopperApproved");
+             shopperApprovedAdapter.write(out, value.shopperApproved);
+             out.name("shopperCancelled");
+             shopperCancelledAdapter.write(out, value.shopperCancelled);
+             out.name("shopperCaptureApproved");
+             shopperCaptureApprovedAdapter.write(out, value.shopperCaptureApproved);
+             out.name("shopperCaptureRefused");
+             shopperCaptureRefusedAdapter.write(out, value.shopperCaptureRefused);
+             out.name("shopperRefundApproved");
+             shopperRefundApprovedAdapter.write(out, value.shopperRefundApproved);
+             out.name("shopperRefundRefused");
+             shopperRefundRefusedAdapter.write(out, value.shopperRefundRefused);
+             out.name("shopperRefused");
+             shopperRefusedAdapter.write(out, value.shopperRefused);
+             out.name("shopperVoid");
+             shopperVoidAdapter.write(out, value.shopperVoid);
+             out.endObject();
            }
 
            @Override
            public ReceiptPrinting read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             ReceiptPrinting instance = new ReceiptPrinting();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "merchantApproved":
+                   instance.merchantApproved = merchantApprovedAdapter.read(in);
+                   break;
+                 case "merchantCancelled":
+                   instance.merchantCancelled = merchantCancelledAdapter.read(in);
+                   break;
+                 case "merchantCaptureApproved":
+                   instance.merchantCaptureApproved = merchantCaptureApprovedAdapter.read(in);
+                   break;
+                 case "merchantCaptureRefused":
+                   instance.merchantCaptureRefused = merchantCaptureRefusedAdapter.read(in);
+                   break;
+                 case "merchantRefundApproved":
+                   instance.merchantRefundApproved = merchantRefundApprovedAdapter.read(in);
+                   break;
+                 case "merchantRefundRefused":
+                   instance.merchantRefundRefused = merchantRefundRefusedAdapter.read(in);
+                   break;
+                 case "merchantRefused":
+                   instance.merchantRefused = merchantRefusedAdapter.read(in);
+                   break;
+                 case "merchantVoid":
+                   instance.merchantVoid = merchantVoidAdapter.read(in);
+                   break;
+                 case "shopperApproved":
+                   instance.shopperApproved = shopperApprovedAdapter.read(in);
+                   break;
+                 case "shopperCancelled":
+                   instance.shopperCancelled = shopperCancelledAdapter.read(in);
+                   break;
+                 case "shopperCaptureApproved":
+                   instance.shopperCaptureApproved = shopperCaptureApprovedAdapter.read(in);
+                   break;
+                 case "shopperCaptureRefused":
+                   instance.shopperCaptureRefused = shopperCaptureRefusedAdapter.read(in);
+                   break;
+                 case "shopperRefundApproved":
+                   instance.shopperRefundApproved = shopperRefundApprovedAdapter.read(in);
+                   break;
+                 case "shopperRefundRefused":
+                   instance.shopperRefundRefused = shopperRefundRefusedAdapter.read(in);
+                   break;
+                 case "shopperRefused":
+                   instance.shopperRefused = shopperRefusedAdapter.read(in);
+                   break;
+                 case "shopperVoid":
+                   instance.shopperVoid = shopperVoidAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `ReceiptPrinting` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
@@ -198,22 +198,40 @@ public class RequestActivationResponse {
        if (!RequestActivationResponse.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'RequestActivationResponse' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<RequestActivationResponse> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(RequestActivationResponse.class));
+       final TypeAdapter<String> companyIdAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> merchantIdAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<RequestActivationResponse>() {
            @Override
            public void write(JsonWriter out, RequestActivationResponse value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("companyId");
+             companyIdAdapter.write(out, value.companyId);
+             out.name("merchantId");
+             merchantIdAdapter.write(out, value.merchantId);
+             out.endObject();
            }
 
            @Override
            public RequestActivationResponse read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             RequestActivationResponse instance = new RequestActivationResponse();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "companyId":
+                   instance.companyId = companyIdAdapter.read(in);
+                   break;
+                 case "merchantId":
+                   instance.merchantId = merchantIdAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `RequestActivationResponse` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
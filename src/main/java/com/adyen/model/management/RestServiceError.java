@@ -464,22 +464,107 @@ public class RestServiceError {
        if (!RestServiceError.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'RestServiceError' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<RestServiceError> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(RestServiceError.class));
+       final TypeAdapter<String> detailAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> errorCodeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> instanceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<List<InvalidField>> invalidFieldsAdapter = gson.getAdapter(new TypeToken<List<InvalidField>>() {});
+       final TypeAdapter<String> requestIdAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<JSONObject> responseAdapter = gson.getAdapter(JSONObject.class);
+       final TypeAdapter<Integer> statusAdapter = gson.getAdapter(Integer.class);
+       final TypeAdapter<String> titleAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> typeAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<RestServiceError>() {
            @Override
            public void write(JsonWriter out, RestServiceError value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("detail");
+             detailAdapter.write(out, value.detail);
+             out.name("errorCode");
+             errorCodeAdapter.write(out, value.errorCode);
+             out.name("instance");
+             instanceAdapter.write(out, value.instance);
+             out.name("invalidFields");
+             invalidFieldsAdapter.write(out, value.invalidFields);
+             out.name("requestId");
+             requestIdAdapter.write(out, value.requestId);
+             out.name("response");
+             responseAdapter.write(out, value.response);
+             out.name("status");
+             statusAdapter.write(out, value.status);
+             out.name("title");
+             titleAdapter.write(out, value.title);
+             out.name("type");
+             typeAdapter.write(out, value.type);
+             out.endObject();
            }
 
            @Override
            public RestServiceError read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             RestServiceError instance = new RestServiceError();
+             boolean detailFound = false;
+             boolean errorCodeFound = false;
+             boolean statusFound = false;
+             boolean titleFound = false;
+             boolean typeFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "detail":
+                   instance.detail = detailAdapter.read(in);
+                   detailFound = true;
+                   break;
+                 case "errorCode":
+                   instance.errorCode = errorCodeAdapter.read(in);
+                   errorCodeFound = true;
+                   break;
+                 case "instance":
+                   instance.instance = instanceAdapter.read(in);
+                   break;
+                 case "invalidFields":
+                   instance.invalidFields = invalidFieldsAdapter.read(in);
+                   break;
+                 case "requestId":
+                   instance.requestId = requestIdAdapter.read(in);
+                   break;
+                 case "response":
+                   instance.response = responseAdapter.read(in);
+                   break;
+                 case "status":
+                   instance.status = statusAdapter.read(in);
+                   statusFound = true;
+                   break;
+                 case "title":
+                   instance.title = titleAdapter.read(in);
+                   titleFound = true;
+                   break;
+                 case "type":
+                   instance.type = typeAdapter.read(in);
+                   typeFound = true;
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `RestServiceError` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!detailFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "detail", in.getPath()));
+             }
+             if (!errorCodeFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "errorCode", in.getPath()));
+             }
+             if (!statusFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "status", in.getPath()));
+             }
+             if (!titleFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "title", in.getPath()));
+             }
+             if (!typeFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "type", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
@@ -277,22 +277,52 @@ public class ScheduleTerminalActionsRequest {
        if (!ScheduleTerminalActionsRequest.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'ScheduleTerminalActionsRequest' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<ScheduleTerminalActionsRequest> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(ScheduleTerminalActionsRequest.class));
+       final TypeAdapter<ScheduleTerminalActionsRequestActionDetails> actionDetailsAdapter = gson.getAdapter(ScheduleTerminalActionsRequestActionDetails.class);
+       final TypeAdapter<String> scheduledAtAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> storeIdAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<List<String>> terminalIdsAdapter = gson.getAdapter(new TypeToken<List<String>>() {});
 
        return (TypeAdapter<T>) new TypeAdapter<ScheduleTerminalActionsRequest>() {
            @Override
            public void write(JsonWriter out, ScheduleTerminalActionsRequest value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("actionDetails");
+             actionDetailsAdapter.write(out, value.actionDetails);
+             out.name("scheduledAt");
+             scheduledAtAdapter.write(out, value.scheduledAt);
+             out.name("storeId");
+             storeIdAdapter.write(out, value.storeId);
+             out.name("terminalIds");
+             terminalIdsAdapter.write(out, value.terminalIds);
+             out.endObject();
            }
 
            @Override
            public ScheduleTerminalActionsRequest read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             ScheduleTerminalActionsRequest instance = new ScheduleTerminalActionsRequest();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "actionDetails":
+                   instance.actionDetails = actionDetailsAdapter.read(in);
+                   break;
+                 case "scheduledAt":
+                   instance.scheduledAt = scheduledAtAdapter.read(in);
+                   break;
+                 case "storeId":
+                   instance.storeId = storeIdAdapter.read(in);
+                   break;
+                 case "terminalIds":
+                   instance.terminalIds = terminalIdsAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `ScheduleTerminalActionsRequest` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
@@ -430,22 +430,76 @@ public class ScheduleTerminalActionsResponse {
        if (!ScheduleTerminalActionsResponse.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'ScheduleTerminalActionsResponse' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<ScheduleTerminalActionsResponse> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(ScheduleTerminalActionsResponse.class));
+       final TypeAdapter<ScheduleTerminalActionsRequestActionDetails> actionDetailsAdapter = gson.getAdapter(ScheduleTerminalActionsRequestActionDetails.class);
+       final TypeAdapter<List<TerminalActionScheduleDetail>> itemsAdapter = gson.getAdapter(new TypeToken<List<TerminalActionScheduleDetail>>() {});
+       final TypeAdapter<String> scheduledAtAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> storeIdAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<List<String>> terminalIdsAdapter = gson.getAdapter(new TypeToken<List<String>>() {});
+       final TypeAdapter<Map<String, List<String>>> terminalsWithErrorsAdapter = gson.getAdapter(new TypeToken<Map<String, List<String>>>() {});
+       final TypeAdapter<Integer> totalErrorsAdapter = gson.getAdapter(Integer.class);
+       final TypeAdapter<Integer> totalScheduledAdapter = gson.getAdapter(Integer.class);
 
        return (TypeAdapter<T>) new TypeAdapter<ScheduleTerminalActionsResponse>() {
            @Override
            public void write(JsonWriter out, ScheduleTerminalActionsResponse value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("actionDetails");
+             actionDetailsAdapter.write(out, value.actionDetails);
+             out.name("items");
+             itemsAdapter.write(out, value.items);
+             out.name("scheduledAt");
+             scheduledAtAdapter.write(out, value.scheduledAt);
+             out.name("storeId");
+             storeIdAdapter.write(out, value.storeId);
+             out.name("terminalIds");
+             terminalIdsAdapter.write(out, value.terminalIds);
+             out.name("terminalsWithErrors");
+             terminalsWithErrorsAdapter.write(out, value.terminalsWithErrors);
+             out.name("totalErrors");
+             totalErrorsAdapter.write(out, value.totalErrors);
+             out.name("totalScheduled");
+             totalScheduledAdapter.write(out, value.totalScheduled);
+             out.endObject();
            }
 
            @Override
            public ScheduleTerminalActionsResponse read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             ScheduleTerminalActionsResponse instance = new ScheduleTerminalActionsResponse();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "actionDetails":
+                   instance.actionDetails = actionDetailsAdapter.read(in);
+                   break;
+                 case "items":
+                   instance.items = itemsAdapter.read(in);
+                   break;
+                 case "scheduledAt":
+                   instance.scheduledAt = scheduledAtAdapter.read(in);
+                   break;
+                 case "storeId":
+                   instance.storeId = storeIdAdapter.read(in);
+                   break;
+                 case "terminalIds":
+                   instance.terminalIds = terminalIdsAdapter.read(in);
+                   break;
+                 case "terminalsWithErrors":
+                   instance.terminalsWithErrors = terminalsWithErrorsAdapter.read(in);
+                   break;
+                 case "totalErrors":
+                   instance.totalErrors = totalErrorsAdapter.read(in);
+                   break;
+                 case "totalScheduled":
+                   instance.totalScheduled = totalScheduledAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `ScheduleTerminalActionsResponse` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
@@ -224,22 +224,46 @@ public class Settings {
        if (!Settings.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'Settings' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<Settings> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(Settings.class));
+       final TypeAdapter<String> bandAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<Boolean> roamingAdapter = gson.getAdapter(Boolean.class);
+       final TypeAdapter<Integer> timeoutAdapter = gson.getAdapter(Integer.class);
 
        return (TypeAdapter<T>) new TypeAdapter<Settings>() {
            @Override
            public void write(JsonWriter out, Settings value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("band");
+             bandAdapter.write(out, value.band);
+             out.name("roaming");
+             roamingAdapter.write(out, value.roaming);
+             out.name("timeout");
+             timeoutAdapter.write(out, value.timeout);
+             out.endObject();
            }
 
            @Override
            public Settings read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             Settings instance = new Settings();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "band":
+                   instance.band = bandAdapter.read(in);
+                   break;
+                 case "roaming":
+                   instance.roaming = roamingAdapter.read(in);
+                   break;
+                 case "timeout":
+                   instance.timeout = timeoutAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `Settings` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
@@ -268,22 +268,52 @@ public class ShippingLocation {
        if (!ShippingLocation.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'ShippingLocation' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<ShippingLocation> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(ShippingLocation.class));
+       final TypeAdapter<Address> addressAdapter = gson.getAdapter(Address.class);
+       final TypeAdapter<Contact> contactAdapter = gson.getAdapter(Contact.class);
+       final TypeAdapter<String> idAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> nameAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<ShippingLocation>() {
            @Override
            public void write(JsonWriter out, ShippingLocation value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("address");
+             addressAdapter.write(out, value.address);
+             out.name("contact");
+             contactAdapter.write(out, value.contact);
+             out.name("id");
+             idAdapter.write(out, value.id);
+             out.name("name");
+             nameAdapter.write(out, value.name);
+             out.endObject();
            }
 
            @Override
            public ShippingLocation read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             ShippingLocation instance = new ShippingLocation();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "address":
+                   instance.address = addressAdapter.read(in);
+                   break;
+                 case "contact":
+                   instance.contact = contactAdapter.read(in);
+                   break;
+                 case "id":
+                   instance.id = idAdapter.read(in);
+                   break;
+                 case "name":
+                   instance.name = nameAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `ShippingLocation` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
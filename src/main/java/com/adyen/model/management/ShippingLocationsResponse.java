@@ -183,22 +183,34 @@ public class ShippingLocationsResponse {
        if (!ShippingLocationsResponse.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'ShippingLocationsResponse' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<ShippingLocationsResponse> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(ShippingLocationsResponse.class));
+       final TypeAdapter<List<ShippingLocation>> dataAdapter = gson.getAdapter(new TypeToken<List<ShippingLocation>>() {});
 
        return (TypeAdapter<T>) new TypeAdapter<ShippingLocationsResponse>() {
            @Override
            public void write(JsonWriter out, ShippingLocationsResponse value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("data");
+             dataAdapter.write(out, value.data);
+             out.endObject();
            }
 
            @Override
            public ShippingLocationsResponse read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             ShippingLocationsResponse instance = new ShippingLocationsResponse();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "data":
+                   instance.data = dataAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `ShippingLocationsResponse` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
@@ -78,13 +78,20 @@ public class ShopperStatement {
       return String.valueOf(value);
     }
 
-    public static TypeEnum fromValue(String value) {
+    private static final Map<String, TypeEnum> BY_VALUE = new HashMap<String, TypeEnum>();
+
+    static {
       for (TypeEnum b : TypeEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static TypeEnum fromValue(String value) {
+      TypeEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<TypeEnum> {
@@ -258,22 +265,45 @@ public class ShopperStatement {
        if (!ShopperStatement.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'ShopperStatement' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<ShopperStatement> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(ShopperStatement.class));
+       final TypeAdapter<String> doingBusinessAsNameAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<TypeEnum> typeAdapter = gson.getAdapter(TypeEnum.class);
 
        return (TypeAdapter<T>) new TypeAdapter<ShopperStatement>() {
            @Override
            public void write(JsonWriter out, ShopperStatement value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("doingBusinessAsName");
+             doingBusinessAsNameAdapter.write(out, value.doingBusinessAsName);
+             out.name("type");
+             typeAdapter.write(out, value.type);
+             out.endObject();
            }
 
            @Override
            public ShopperStatement read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             ShopperStatement instance = new ShopperStatement();
+             boolean doingBusinessAsNameFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "doingBusinessAsName":
+                   instance.doingBusinessAsName = doingBusinessAsNameAdapter.read(in);
+                   doingBusinessAsNameFound = true;
+                   break;
+                 case "type":
+                   instance.type = typeAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `ShopperStatement` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!doingBusinessAsNameFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "doingBusinessAsName", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
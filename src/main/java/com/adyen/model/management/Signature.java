@@ -224,22 +224,46 @@ public class Signature {
        if (!Signature.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'Signature' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<Signature> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(Signature.class));
+       final TypeAdapter<Boolean> askSignatureOnScreenAdapter = gson.getAdapter(Boolean.class);
+       final TypeAdapter<String> deviceNameAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<Boolean> skipSignatureAdapter = gson.getAdapter(Boolean.class);
 
        return (TypeAdapter<T>) new TypeAdapter<Signature>() {
            @Override
            public void write(JsonWriter out, Signature value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("askSignatureOnScreen");
+             askSignatureOnScreenAdapter.write(out, value.askSignatureOnScreen);
+             out.name("deviceName");
+             deviceNameAdapter.write(out, value.deviceName);
+             out.name("skipSignature");
+             skipSignatureAdapter.write(out, value.skipSignature);
+             out.endObject();
            }
 
            @Override
            public Signature read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             Signature instance = new Signature();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "askSignatureOnScreen":
+                   instance.askSignatureOnScreen = askSignatureOnScreenAdapter.read(in);
+                   break;
+                 case "deviceName":
+                   instance.deviceName = deviceNameAdapter.read(in);
+                   break;
+                 case "skipSignature":
+                   instance.skipSignature = skipSignatureAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `Signature` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
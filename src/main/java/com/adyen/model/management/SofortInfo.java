@@ -207,22 +207,50 @@ public class SofortInfo {
        if (!SofortInfo.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'SofortInfo' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<SofortInfo> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(SofortInfo.class));
+       final TypeAdapter<String> currencyCodeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> logoAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<SofortInfo>() {
            @Override
            public void write(JsonWriter out, SofortInfo value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("currencyCode");
+             currencyCodeAdapter.write(out, value.currencyCode);
+             out.name("logo");
+             logoAdapter.write(out, value.logo);
+             out.endObject();
            }
 
            @Override
            public SofortInfo read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             SofortInfo instance = new SofortInfo();
+             boolean currencyCodeFound = false;
+             boolean logoFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "currencyCode":
+                   instance.currencyCode = currencyCodeAdapter.read(in);
+                   currencyCodeFound = true;
+                   break;
+                 case "logo":
+                   instance.logo = logoAdapter.read(in);
+                   logoFound = true;
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `SofortInfo` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!currencyCodeFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "currencyCode", in.getPath()));
+             }
+             if (!logoFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "logo", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
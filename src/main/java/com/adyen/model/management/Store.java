@@ -123,13 +123,20 @@ public class Store {
       return String.valueOf(value);
     }
 
-    public static StatusEnum fromValue(String value) {
+    private static final Map<String, StatusEnum> BY_VALUE = new HashMap<String, StatusEnum>();
+
+    static {
       for (StatusEnum b : StatusEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static StatusEnum fromValue(String value) {
+      StatusEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<StatusEnum> {
@@ -603,22 +610,100 @@ public class Store {
        if (!Store.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'Store' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<Store> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(Store.class));
+       final TypeAdapter<Links> linksAdapter = gson.getAdapter(Links.class);
+       final TypeAdapter<Address2> addressAdapter = gson.getAdapter(Address2.class);
+       final TypeAdapter<List<String>> businessLineIdsAdapter = gson.getAdapter(new TypeToken<List<String>>() {});
+       final TypeAdapter<String> descriptionAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> externalReferenceIdAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> idAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> merchantIdAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> phoneNumberAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> referenceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> shopperStatementAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<StoreSplitConfiguration> splitConfigurationAdapter = gson.getAdapter(StoreSplitConfiguration.class);
+       final TypeAdapter<StatusEnum> statusAdapter = gson.getAdapter(StatusEnum.class);
 
        return (TypeAdapter<T>) new TypeAdapter<Store>() {
            @Override
            public void write(JsonWriter out, Store value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("_links");
+             linksAdapter.write(out, value.links);
+             out.name("address");
+             addressAdapter.write(out, value.address);
+             out.name("businessLineIds");
+             businessLineIdsAdapter.write(out, value.businessLineIds);
+             out.name("description");
+             descriptionAdapter.write(out, value.description);
+             out.name("externalReferenceId");
+             externalReferenceIdAdapter.write(out, value.externalReferenceId);
+             out.name("id");
+             idAdapter.write(out, value.id);
+             out.name("merchantId");
+             merchantIdAdapter.write(out, value.merchantId);
+             out.name("phoneNumber");
+             phoneNumberAdapter.write(out, value.phoneNumber);
+             out.name("reference");
+             referenceAdapter.write(out, value.reference);
+             out.name("shopperStatement");
+             shopperStatementAdapter.write(out, value.shopperStatement);
+             out.name("splitConfiguration");
+             splitConfigurationAdapter.write(out, value.splitConfiguration);
+             out.name("status");
+             statusAdapter.write(out, value.status);
+             out.endObject();
            }
 
            @Override
            public Store read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             Store instance = new Store();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "_links":
+                   instance.links = linksAdapter.read(in);
+                   break;
+                 case "address":
+                   instance.address = addressAdapter.read(in);
+                   break;
+                 case "businessLineIds":
+                   instance.businessLineIds = businessLineIdsAdapter.read(in);
+                   break;
+                 case "description":
+                   instance.description = descriptionAdapter.read(in);
+                   break;
+                 case "externalReferenceId":
+                   instance.externalReferenceId = externalReferenceIdAdapter.read(in);
+                   break;
+                 case "id":
+                   instance.id = idAdapter.read(in);
+                   break;
+                 case "merchantId":
+                   instance.merchantId = merchantIdAdapter.read(in);
+                   break;
+                 case "phoneNumber":
+                   instance.phoneNumber = phoneNumberAdapter.read(in);
+                   break;
+                 case "reference":
+                   instance.reference = referenceAdapter.read(in);
+                   break;
+                 case "shopperStatement":
+                   instance.shopperStatement = shopperStatementAdapter.read(in);
+                   break;
+                 case "splitConfiguration":
+                   instance.splitConfiguration = splitConfigurationAdapter.read(in);
+                   break;
+                 case "status":
+                   instance.status = statusAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `Store` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
@@ -425,22 +425,96 @@ public class StoreCreationRequest {
        if (!StoreCreationRequest.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'StoreCreationRequest' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<StoreCreationRequest> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(StoreCreationRequest.class));
+       final TypeAdapter<Address2> addressAdapter = gson.getAdapter(Address2.class);
+       final TypeAdapter<List<String>> businessLineIdsAdapter = gson.getAdapter(new TypeToken<List<String>>() {});
+       final TypeAdapter<String> descriptionAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> externalReferenceIdAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> phoneNumberAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> referenceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> shopperStatementAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<StoreSplitConfiguration> splitConfigurationAdapter = gson.getAdapter(StoreSplitConfiguration.class);
 
        return (TypeAdapter<T>) new TypeAdapter<StoreCreationRequest>() {
            @Override
            public void write(JsonWriter out, StoreCreationRequest value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("address");
+             addressAdapter.write(out, value.address);
+             out.name("businessLineIds");
+             businessLineIdsAdapter.write(out, value.businessLineIds);
+             out.name("description");
+             descriptionAdapter.write(out, value.description);
+             out.name("externalReferenceId");
+             externalReferenceIdAdapter.write(out, value.externalReferenceId);
+             out.name("phoneNumber");
+             phoneNumberAdapter.write(out, value.phoneNumber);
+             out.name("reference");
+             referenceAdapter.write(out, value.reference);
+             out.name("shopperStatement");
+             shopperStatementAdapter.write(out, value.shopperStatement);
+             out.name("splitConfiguration");
+             splitConfigurationAdapter.write(out, value.splitConfiguration);
+             out.endObject();
            }
 
            @Override
            public StoreCreationRequest read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             StoreCreationRequest instance = new StoreCreationRequest();
+             boolean addressFound = false;
+             boolean descriptionFound = false;
+             boolean phoneNumberFound = false;
+             boolean shopperStatementFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "address":
+                   instance.address = addressAdapter.read(in);
+                   addressFound = true;
+                   break;
+                 case "businessLineIds":
+                   instance.businessLineIds = businessLineIdsAdapter.read(in);
+                   break;
+                 case "description":
+                   instance.description = descriptionAdapter.read(in);
+                   descriptionFound = true;
+                   break;
+                 case "externalReferenceId":
+                   instance.externalReferenceId = externalReferenceIdAdapter.read(in);
+                   break;
+                 case "phoneNumber":
+                   instance.phoneNumber = phoneNumberAdapter.read(in);
+                   phoneNumberFound = true;
+                   break;
+                 case "reference":
+                   instance.reference = referenceAdapter.read(in);
+                   break;
+                 case "shopperStatement":
+                   instance.shopperStatement = shopperStatementAdapter.read(in);
+                   shopperStatementFound = true;
+                   break;
+                 case "splitConfiguration":
+                   instance.splitConfiguration = splitConfigurationAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `StoreCreationRequest` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!addressFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "address", in.getPath()));
+             }
+             if (!descriptionFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "description", in.getPath()));
+             }
+             if (!phoneNumberFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "phoneNumber", in.getPath()));
+             }
+             if (!shopperStatementFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "shopperStatement", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
@@ -198,22 +198,40 @@ public class StoreSplitConfiguration {
        if (!StoreSplitConfiguration.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'StoreSplitConfiguration' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<StoreSplitConfiguration> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(StoreSplitConfiguration.class));
+       final TypeAdapter<String> balanceAccountIdAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> splitConfigurationIdAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<StoreSplitConfiguration>() {
            @Override
            public void write(JsonWriter out, StoreSplitConfiguration value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("balanceAccountId");
+             balanceAccountIdAdapter.write(out, value.balanceAccountId);
+             out.name("splitConfigurationId");
+             splitConfigurationIdAdapter.write(out, value.splitConfigurationId);
+             out.endObject();
            }
 
            @Override
            public StoreSplitConfiguration read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             StoreSplitConfiguration instance = new StoreSplitConfiguration();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "balanceAccountId":
+                   instance.balanceAccountId = balanceAccountIdAdapter.read(in);
+                   break;
+                 case "splitConfigurationId":
+                   instance.splitConfigurationId = splitConfigurationIdAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `StoreSplitConfiguration` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
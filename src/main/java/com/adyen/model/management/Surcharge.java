@@ -213,22 +213,40 @@ public class Surcharge {
        if (!Surcharge.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'Surcharge' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<Surcharge> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(Surcharge.class));
+       final TypeAdapter<Boolean> askConfirmationAdapter = gson.getAdapter(Boolean.class);
+       final TypeAdapter<List<ModelConfiguration>> configurationsAdapter = gson.getAdapter(new TypeToken<List<ModelConfiguration>>() {});
 
        return (TypeAdapter<T>) new TypeAdapter<Surcharge>() {
            @Override
            public void write(JsonWriter out, Surcharge value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("askConfirmation");
+             askConfirmationAdapter.write(out, value.askConfirmation);
+             out.name("configurations");
+             configurationsAdapter.write(out, value.configurations);
+             out.endObject();
            }
 
            @Override
            public Surcharge read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             Surcharge instance = new Surcharge();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "askConfirmation":
+                   instance.askConfirmation = askConfirmationAdapter.read(in);
+                   break;
+                 case "configurations":
+                   instance.configurations = configurationsAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `Surcharge` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
@@ -172,22 +172,39 @@ public class SwishInfo {
        if (!SwishInfo.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'SwishInfo' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<SwishInfo> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(SwishInfo.class));
+       final TypeAdapter<String> swishNumberAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<SwishInfo>() {
            @Override
            public void write(JsonWriter out, SwishInfo value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("swishNumber");
+             swishNumberAdapter.write(out, value.swishNumber);
+             out.endObject();
            }
 
            @Override
            public SwishInfo read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             SwishInfo instance = new SwishInfo();
+             boolean swishNumberFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "swishNumber":
+                   instance.swishNumber = swishNumberAdapter.read(in);
+                   swishNumberFound = true;
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `SwishInfo` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!swishNumberFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "swishNumber", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
@@ -867,22 +867,160 @@ public class Terminal {
        if (!Terminal.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'Terminal' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<Terminal> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(Terminal.class));
+       final TypeAdapter<Boolean> assignedAdapter = gson.getAdapter(Boolean.class);
+       final TypeAdapter<String> bluetoothIpAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> bluetoothMacAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> cityAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> companyAccountAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> countryCodeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> deviceModelAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> ethernetIpAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> ethernetMacAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> firmwareVersionAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> iccidAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> idAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<Date> lastActivityDateTimeAdapter = gson.getAdapter(Date.class);
+       final TypeAdapter<Date> lastTransactionDateTimeAdapter = gson.getAdapter(Date.class);
+       final TypeAdapter<String> linkNegotiationAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> serialNumberAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> simStatusAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> statusAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> storeStatusAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> wifiIpAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> wifiMacAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> wifiSsidAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<Terminal>() {
            @Override
            public void write(JsonWriter out, Terminal value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("assigned");
+             assignedAdapter.write(out, value.assigned);
+             out.name("bluetoothIp");
+             bluetoothIpAdapter.write(out, value.bluetoothIp);
+             out.name("bluetoothMac");
+             bluetoothMacAdapter.write(out, value.bluetoothMac);
+             out.name("city");
+             cityAdapter.write(out, value.city);
+             out.name("companyAccount");
+             companyAccountAdapter.write(out, value.companyAccount);
+             out.name("countryCode");
+             countryCodeAdapter.write(out, value.countryCode);
+             out.name("deviceModel");
+             deviceModelAdapter.write(out, value.deviceModel);
+             out.name("ethernetIp");
+             ethernetIpAdapter.write(out, value.ethernetIp);
+             out.name("ethernetMac");
+             ethernetMacAdapter.write(out, value.ethernetMac);
+             out.name("firmwareVersion");
+             firmwareVersionAdapter.write(out, value.firmwareVersion);
+             out.name("iccid");
+             iccidAdapter.write(out, value.iccid);
+             out.name("id");
+             idAdapter.write(out, value.id);
+             out.name("lastActivityDateTime");
+             lastActivityDateTimeAdapter.write(out, value.lastActivityDateTime);
+             out.name("lastTransactionDateTime");
+             lastTransactionDateTimeAdapter.write(out, value.lastTransactionDateTime);
+             out.name("linkNegotiation");
+             linkNegotiationAdapter.write(out, value.linkNegotiation);
+             out.name("serialNumber");
+             serialNumberAdapter.write(out, value.serialNumber);
+             out.name("simStatus");
+             simStatusAdapter.write(out, value.simStatus);
+             out.name("status");
+             statusAdapter.write(out, value.status);
+             out.name("storeStatus");
+             storeStatusAdapter.write(out, value.storeStatus);
+             out.name("wifiIp");
+             wifiIpAdapter.write(out, value.wifiIp);
+             out.name("wifiMac");
+             wifiMacAdapter.write(out, value.wifiMac);
+             out.name("wifiSsid");
+             wifiSsidAdapter.write(out, value.wifiSsid);
+             out.endObject();
            }
 
            @Override
            public Terminal read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             Terminal instance = new Terminal();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "assigned":
+                   instance.assigned = assignedAdapter.read(in);
+                   break;
+                 case "bluetoothIp":
+                   instance.bluetoothIp = bluetoothIpAdapter.read(in);
+                   break;
+                 case "bluetoothMac":
+                   instance.bluetoothMac = bluetoothMacAdapter.read(in);
+                   break;
+                 case "city":
+                   instance.city = cityAdapter.read(in);
+                   break;
+                 case "companyAccount":
+                   instance.companyAccount = companyAccountAdapter.read(in);
+                   break;
+                 case "countryCode":
+                   instance.countryCode = countryCodeAdapter.read(in);
+                   break;
+                 case "deviceModel":
+                   instance.deviceModel = deviceModelAdapter.read(in);
+                   break;
+                 case "ethernetIp":
+                   instance.ethernetIp = ethernetIpAdapter.read(in);
+                   break;
+                 case "ethernetMac":
+                   instance.ethernetMac = ethernetMacAdapter.read(in);
+                   break;
+                 case "firmwareVersion":
+                   instance.firmwareVersion = firmwareVersionAdapter.read(in);
+                   break;
+                 case "iccid":
+                   instance.iccid = iccidAdapter.read(in);
+                   break;
+                 case "id":
+                   instance.id = idAdapter.read(in);
+                   break;
+                 case "lastActivityDateTime":
+                   instance.lastActivityDateTime = lastActivityDateTimeAdapter.read(in);
+                   break;
+                 case "lastTransactionDateTime":
+                   instance.lastTransactionDateTime = lastTransactionDateTimeAdapter.read(in);
+                   break;
+                 case "linkNegotiation":
+                   instance.linkNegotiation = linkNegotiationAdapter.read(in);
+                   break;
+                 case "serialNumber":
+                   instance.serialNumber = serialNumberAdapter.read(in);
+                   break;
+                 case "simStatus":
+                   instance.simStatus = simStatusAdapter.read(in);
+                   break;
+                 case "status":
+                   instance.status = statusAdapter.read(in);
+                   break;
+                 case "storeStatus":
+                   instance.storeStatus = storeStatusAdapter.read(in);
+                   break;
+                 case "wifiIp":
+                   instance.wifiIp = wifiIpAdapter.read(in);
+                   break;
+                 case "wifiMac":
+                   instance.wifiMac = wifiMacAdapter.read(in);
+                   break;
+                 case "wifiSsid":
+                   instance.wifiSsid = wifiSsidAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `Terminal` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
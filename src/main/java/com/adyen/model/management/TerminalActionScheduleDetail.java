@@ -198,22 +198,40 @@ public class TerminalActionScheduleDetail {
        if (!TerminalActionScheduleDetail.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'TerminalActionScheduleDetail' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<TerminalActionScheduleDetail> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(TerminalActionScheduleDetail.class));
+       final TypeAdapter<String> idAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> terminalIdAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<TerminalActionScheduleDetail>() {
            @Override
            public void write(JsonWriter out, TerminalActionScheduleDetail value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("id");
+             idAdapter.write(out, value.id);
+             out.name("terminalId");
+             terminalIdAdapter.write(out, value.terminalId);
+             out.endObject();
            }
 
            @Override
            public TerminalActionScheduleDetail read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             TerminalActionScheduleDetail instance = new TerminalActionScheduleDetail();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "id":
+                   instance.id = idAdapter.read(in);
+                   break;
+                 case "terminalId":
+                   instance.terminalId = terminalIdAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `TerminalActionScheduleDetail` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
@@ -183,22 +183,34 @@ public class TerminalModelsResponse {
        if (!TerminalModelsResponse.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'TerminalModelsResponse' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<TerminalModelsResponse> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(TerminalModelsResponse.class));
+       final TypeAdapter<List<IdName>> dataAdapter = gson.getAdapter(new TypeToken<List<IdName>>() {});
 
        return (TypeAdapter<T>) new TypeAdapter<TerminalModelsResponse>() {
            @Override
            public void write(JsonWriter out, TerminalModelsResponse value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("data");
+             dataAdapter.write(out, value.data);
+             out.endObject();
            }
 
            @Override
            public TerminalModelsResponse read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             TerminalModelsResponse instance = new TerminalModelsResponse();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "data":
+                   instance.data = dataAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `TerminalModelsResponse` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
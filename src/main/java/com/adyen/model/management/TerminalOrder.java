@@ -423,22 +423,76 @@ public class TerminalOrder {
        if (!TerminalOrder.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'TerminalOrder' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<TerminalOrder> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(TerminalOrder.class));
+       final TypeAdapter<BillingEntity> billingEntityAdapter = gson.getAdapter(BillingEntity.class);
+       final TypeAdapter<String> customerOrderReferenceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> idAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<List<OrderItem>> itemsAdapter = gson.getAdapter(new TypeToken<List<OrderItem>>() {});
+       final TypeAdapter<String> orderDateAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<ShippingLocation> shippingLocationAdapter = gson.getAdapter(ShippingLocation.class);
+       final TypeAdapter<String> statusAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> trackingUrlAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<TerminalOrder>() {
            @Override
            public void write(JsonWriter out, TerminalOrder value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("billingEntity");
+             billingEntityAdapter.write(out, value.billingEntity);
+             out.name("customerOrderReference");
+             customerOrderReferenceAdapter.write(out, value.customerOrderReference);
+             out.name("id");
+             idAdapter.write(out, value.id);
+             out.name("items");
+             itemsAdapter.write(out, value.items);
+             out.name("orderDate");
+             orderDateAdapter.write(out, value.orderDate);
+             out.name("shippingLocation");
+             shippingLocationAdapter.write(out, value.shippingLocation);
+             out.name("status");
+             statusAdapter.write(out, value.status);
+             out.name("trackingUrl");
+             trackingUrlAdapter.write(out, value.trackingUrl);
+             out.endObject();
            }
 
            @Override
            public TerminalOrder read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             TerminalOrder instance = new TerminalOrder();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "billingEntity":
+                   instance.billingEntity = billingEntityAdapter.read(in);
+                   break;
+                 case "customerOrderReference":
+                   instance.customerOrderReference = customerOrderReferenceAdapter.read(in);
+                   break;
+                 case "id":
+                   instance.id = idAdapter.read(in);
+                   break;
+                 case "items":
+                   instance.items = itemsAdapter.read(in);
+                   break;
+                 case "orderDate":
+                   instance.orderDate = orderDateAdapter.read(in);
+                   break;
+                 case "shippingLocation":
+                   instance.shippingLocation = shippingLocationAdapter.read(in);
+                   break;
+                 case "status":
+                   instance.status = statusAdapter.read(in);
+                   break;
+                 case "trackingUrl":
+                   instance.trackingUrl = trackingUrlAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `TerminalOrder` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
@@ -319,22 +319,58 @@ public class TerminalOrderRequest {
        if (!TerminalOrderRequest.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'TerminalOrderRequest' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<TerminalOrderRequest> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(TerminalOrderRequest.class));
+       final TypeAdapter<String> billingEntityIdAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> customerOrderReferenceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<List<OrderItem>> itemsAdapter = gson.getAdapter(new TypeToken<List<OrderItem>>() {});
+       final TypeAdapter<String> shippingLocationIdAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> taxIdAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<TerminalOrderRequest>() {
            @Override
            public void write(JsonWriter out, TerminalOrderRequest value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("billingEntityId");
+             billingEntityIdAdapter.write(out, value.billingEntityId);
+             out.name("customerOrderReference");
+             customerOrderReferenceAdapter.write(out, value.customerOrderReference);
+             out.name("items");
+             itemsAdapter.write(out, value.items);
+             out.name("shippingLocationId");
+             shippingLocationIdAdapter.write(out, value.shippingLocationId);
+             out.name("taxId");
+             taxIdAdapter.write(out, value.taxId);
+             out.endObject();
            }
 
            @Override
            public TerminalOrderRequest read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             TerminalOrderRequest instance = new TerminalOrderRequest();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "billingEntityId":
+                   instance.billingEntityId = billingEntityIdAdapter.read(in);
+                   break;
+                 case "customerOrderReference":
+                   instance.customerOrderReference = customerOrderReferenceAdapter.read(in);
+                   break;
+                 case "items":
+                   instance.items = itemsAdapter.read(in);
+                   break;
+                 case "shippingLocationId":
+                   instance.shippingLocationId = shippingLocationIdAdapter.read(in);
+                   break;
+                 case "taxId":
+                   instance.taxId = taxIdAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `TerminalOrderRequest` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
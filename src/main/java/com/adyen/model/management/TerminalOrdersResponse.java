@@ -183,22 +183,34 @@ public class TerminalOrdersResponse {
        if (!TerminalOrdersResponse.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'TerminalOrdersResponse' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<TerminalOrdersResponse> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(TerminalOrdersResponse.class));
+       final TypeAdapter<List<TerminalOrder>> dataAdapter = gson.getAdapter(new TypeToken<List<TerminalOrder>>() {});
 
        return (TypeAdapter<T>) new TypeAdapter<TerminalOrdersResponse>() {
            @Override
            public void write(JsonWriter out, TerminalOrdersResponse value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("data");
+             dataAdapter.write(out, value.data);
+             out.endObject();
            }
 
            @Override
            public TerminalOrdersResponse read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             TerminalOrdersResponse instance = new TerminalOrdersResponse();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "data":
+                   instance.data = dataAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `TerminalOrdersResponse` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
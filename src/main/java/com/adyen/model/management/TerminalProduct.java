@@ -311,22 +311,58 @@ public class TerminalProduct {
        if (!TerminalProduct.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'TerminalProduct' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<TerminalProduct> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(TerminalProduct.class));
+       final TypeAdapter<String> descriptionAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> idAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<List<String>> itemsIncludedAdapter = gson.getAdapter(new TypeToken<List<String>>() {});
+       final TypeAdapter<String> nameAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<Amount> priceAdapter = gson.getAdapter(Amount.class);
 
        return (TypeAdapter<T>) new TypeAdapter<TerminalProduct>() {
            @Override
            public void write(JsonWriter out, TerminalProduct value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("description");
+             descriptionAdapter.write(out, value.description);
+             out.name("id");
+             idAdapter.write(out, value.id);
+             out.name("itemsIncluded");
+             itemsIncludedAdapter.write(out, value.itemsIncluded);
+             out.name("name");
+             nameAdapter.write(out, value.name);
+             out.name("price");
+             priceAdapter.write(out, value.price);
+             out.endObject();
            }
 
            @Override
            public TerminalProduct read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             TerminalProduct instance = new TerminalProduct();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "description":
+                   instance.description = descriptionAdapter.read(in);
+                   break;
+                 case "id":
+                   instance.id = idAdapter.read(in);
+                   break;
+                 case "itemsIncluded":
+                   instance.itemsIncluded = itemsIncludedAdapter.read(in);
+                   break;
+                 case "name":
+                   instance.name = nameAdapter.read(in);
+                   break;
+                 case "price":
+                   instance.price = priceAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `TerminalProduct` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
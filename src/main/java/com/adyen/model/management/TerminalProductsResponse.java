@@ -183,22 +183,34 @@ public class TerminalProductsResponse {
        if (!TerminalProductsResponse.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'TerminalProductsResponse' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<TerminalProductsResponse> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(TerminalProductsResponse.class));
+       final TypeAdapter<List<TerminalProduct>> dataAdapter = gson.getAdapter(new TypeToken<List<TerminalProduct>>() {});
 
        return (TypeAdapter<T>) new TypeAdapter<TerminalProductsResponse>() {
            @Override
            public void write(JsonWriter out, TerminalProductsResponse value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("data");
+             dataAdapter.write(out, value.data);
+             out.endObject();
            }
 
            @Override
            public TerminalProductsResponse read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             TerminalProductsResponse instance = new TerminalProductsResponse();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "data":
+                   instance.data = dataAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `TerminalProductsResponse` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
@@ -603,22 +603,106 @@ public class TerminalSettings {
        if (!TerminalSettings.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'TerminalSettings' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<TerminalSettings> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(TerminalSettings.class));
+       final TypeAdapter<CardholderReceipt> cardholderReceiptAdapter = gson.getAdapter(CardholderReceipt.class);
+       final TypeAdapter<Connectivity> connectivityAdapter = gson.getAdapter(Connectivity.class);
+       final TypeAdapter<List<Gratuity>> gratuitiesAdapter = gson.getAdapter(new TypeToken<List<Gratuity>>() {});
+       final TypeAdapter<Hardware> hardwareAdapter = gson.getAdapter(Hardware.class);
+       final TypeAdapter<Nexo> nexoAdapter = gson.getAdapter(Nexo.class);
+       final TypeAdapter<OfflineProcessing> offlineProcessingAdapter = gson.getAdapter(OfflineProcessing.class);
+       final TypeAdapter<Opi> opiAdapter = gson.getAdapter(Opi.class);
+       final TypeAdapter<ReceiptOptions> receiptOptionsAdapter = gson.getAdapter(ReceiptOptions.class);
+       final TypeAdapter<ReceiptPrinting> receiptPrintingAdapter = gson.getAdapter(ReceiptPrinting.class);
+       final TypeAdapter<Signature> signatureAdapter = gson.getAdapter(Signature.class);
+       final TypeAdapter<Surcharge> surchargeAdapter = gson.getAdapter(Surcharge.class);
+       final TypeAdapter<Timeouts> timeoutsAdapter = gson.getAdapter(Timeouts.class);
+       final TypeAdapter<WifiProfiles> wifiProfilesAdapter = gson.getAdapter(WifiProfiles.class);
 
        return (TypeAdapter<T>) new TypeAdapter<TerminalSettings>() {
            @Override
            public void write(JsonWriter out, TerminalSettings value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("cardholderReceipt");
+             cardholderReceiptAdapter.write(out, value.cardholderReceipt);
+             out.name("connectivity");
+             connectivityAdapter.write(out, value.connectivity);
+             out.name("gratuities");
+             gratuitiesAdapter.write(out, value.gratuities);
+             out.name("hardware");
+             hardwareAdapter.write(out, value.hardware);
+             out.name("nexo");
+             nexoAdapter.write(out, value.nexo);
+             out.name("offlineProcessing");
+             offlineProcessingAdapter.write(out, value.offlineProcessing);
+             out.name("opi");
+             opiAdapter.write(out, value.opi);
+             out.name("receiptOptions");
+             receiptOptionsAdapter.write(out, value.receiptOptions);
+             out.name("receiptPrinting");
+             receiptPrintingAdapter.write(out, value.receiptPrinting);
+             out.name("signature");
+             signatureAdapter.write(out, value.signature);
+             out.name("surcharge");
+             surchargeAdapter.write(out, value.surcharge);
+             out.name("timeouts");
+             timeoutsAdapter.write(out, value.timeouts);
+             out.name("wifiProfiles");
+             wifiProfilesAdapter.write(out, value.wifiProfiles);
+             out.endObject();
            }
 
            @Override
            public TerminalSettings read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             TerminalSettings instance = new TerminalSettings();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "cardholderReceipt":
+                   instance.cardholderReceipt = cardholderReceiptAdapter.read(in);
+                   break;
+                 case "connectivity":
+                   instance.connectivity = connectivityAdapter.read(in);
+                   break;
+                 case "gratuities":
+                   instance.gratuities = gratuitiesAdapter.read(in);
+                   break;
+                 case "hardware":
+                   instance.hardware = hardwareAdapter.read(in);
+                   break;
+                 case "nexo":
+                   instance.nexo = nexoAdapter.read(in);
+                   break;
+                 case "offlineProcessing":
+                   instance.offlineProcessing = offlineProcessingAdapter.read(in);
+                   break;
+                 case "opi":
+                   instance.opi = opiAdapter.read(in);
+                   break;
+                 case "receiptOptions":
+                   instance.receiptOptions = receiptOptionsAdapter.read(in);
+                   break;
+                 case "receiptPrinting":
+                   instance.receiptPrinting = receiptPrintingAdapter.read(in);
+                   break;
+                 case "signature":
+                   instance.signature = signatureAdapter.read(in);
+                   break;
+                 case "surcharge":
+                   instance.surcharge = surchargeAdapter.read(in);
+                   break;
+                 case "timeouts":
+                   instance.timeouts = timeoutsAdapter.read(in);
+                   break;
+                 case "wifiProfiles":
+                   instance.wifiProfiles = wifiProfilesAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `TerminalSettings` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
@@ -251,22 +251,46 @@ public class TestCompanyWebhookRequest {
        if (!TestCompanyWebhookRequest.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'TestCompanyWebhookRequest' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<TestCompanyWebhookRequest> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(TestCompanyWebhookRequest.class));
+       final TypeAdapter<List<String>> merchantIdsAdapter = gson.getAdapter(new TypeToken<List<String>>() {});
+       final TypeAdapter<CustomNotification> notificationAdapter = gson.getAdapter(CustomNotification.class);
+       final TypeAdapter<List<String>> typesAdapter = gson.getAdapter(new TypeToken<List<String>>() {});
 
        return (TypeAdapter<T>) new TypeAdapter<TestCompanyWebhookRequest>() {
            @Override
            public void write(JsonWriter out, TestCompanyWebhookRequest value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("merchantIds");
+             merchantIdsAdapter.write(out, value.merchantIds);
+             out.name("notification");
+             notificationAdapter.write(out, value.notification);
+             out.name("types");
+             typesAdapter.write(out, value.types);
+             out.endObject();
            }
 
            @Override
            public TestCompanyWebhookRequest read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             TestCompanyWebhookRequest instance = new TestCompanyWebhookRequest();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "merchantIds":
+                   instance.merchantIds = merchantIdsAdapter.read(in);
+                   break;
+                 case "notification":
+                   instance.notification = notificationAdapter.read(in);
+                   break;
+                 case "types":
+                   instance.types = typesAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `TestCompanyWebhookRequest` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
@@ -342,22 +342,69 @@ public class TestOutput {
        if (!TestOutput.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'TestOutput' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<TestOutput> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(TestOutput.class));
+       final TypeAdapter<String> merchantIdAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> outputAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> requestSentAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> responseCodeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> responseTimeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> statusAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<TestOutput>() {
            @Override
            public void write(JsonWriter out, TestOutput value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("merchantId");
+             merchantIdAdapter.write(out, value.merchantId);
+             out.name("output");
+             outputAdapter.write(out, value.output);
+             out.name("requestSent");
+             requestSentAdapter.write(out, value.requestSent);
+             out.name("responseCode");
+             responseCodeAdapter.write(out, value.responseCode);
+             out.name("responseTime");
+             responseTimeAdapter.write(out, value.responseTime);
+             out.name("status");
+             statusAdapter.write(out, value.status);
+             out.endObject();
            }
 
            @Override
            public TestOutput read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             TestOutput instance = new TestOutput();
+             boolean statusFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "merchantId":
+                   instance.merchantId = merchantIdAdapter.read(in);
+                   break;
+                 case "output":
+                   instance.output = outputAdapter.read(in);
+                   break;
+                 case "requestSent":
+                   instance.requestSent = requestSentAdapter.read(in);
+                   break;
+                 case "responseCode":
+                   instance.responseCode = responseCodeAdapter.read(in);
+                   break;
+                 case "responseTime":
+                   instance.responseTime = responseTimeAdapter.read(in);
+                   break;
+                 case "status":
+                   instance.status = statusAdapter.read(in);
+                   statusFound = true;
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `TestOutput` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!statusFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "status", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
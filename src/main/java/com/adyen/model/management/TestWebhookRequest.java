@@ -209,22 +209,40 @@ public class TestWebhookRequest {
        if (!TestWebhookRequest.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'TestWebhookRequest' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<TestWebhookRequest> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(TestWebhookRequest.class));
+       final TypeAdapter<CustomNotification> notificationAdapter = gson.getAdapter(CustomNotification.class);
+       final TypeAdapter<List<String>> typesAdapter = gson.getAdapter(new TypeToken<List<String>>() {});
 
        return (TypeAdapter<T>) new TypeAdapter<TestWebhookRequest>() {
            @Override
            public void write(JsonWriter out, TestWebhookRequest value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("notification");
+             notificationAdapter.write(out, value.notification);
+             out.name("types");
+             typesAdapter.write(out, value.types);
+             out.endObject();
            }
 
            @Override
            public TestWebhookRequest read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             TestWebhookRequest instance = new TestWebhookRequest();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "notification":
+                   instance.notification = notificationAdapter.read(in);
+                   break;
+                 case "types":
+                   instance.types = typesAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `TestWebhookRequest` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
@@ -183,22 +183,34 @@ public class TestWebhookResponse {
        if (!TestWebhookResponse.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'TestWebhookResponse' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<TestWebhookResponse> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(TestWebhookResponse.class));
+       final TypeAdapter<List<TestOutput>> dataAdapter = gson.getAdapter(new TypeToken<List<TestOutput>>() {});
 
        return (TypeAdapter<T>) new TypeAdapter<TestWebhookResponse>() {
            @Override
            public void write(JsonWriter out, TestWebhookResponse value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("data");
+             dataAdapter.write(out, value.data);
+             out.endObject();
            }
 
            @Override
            public TestWebhookResponse read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             TestWebhookResponse instance = new TestWebhookResponse();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "data":
+                   instance.data = dataAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `TestWebhookResponse` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
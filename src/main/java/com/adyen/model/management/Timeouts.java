@@ -160,22 +160,34 @@ public class Timeouts {
        if (!Timeouts.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'Timeouts' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<Timeouts> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(Timeouts.class));
+       final TypeAdapter<Integer> fromActiveToSleepAdapter = gson.getAdapter(Integer.class);
 
        return (TypeAdapter<T>) new TypeAdapter<Timeouts>() {
            @Override
            public void write(JsonWriter out, Timeouts value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("fromActiveToSleep");
+             fromActiveToSleepAdapter.write(out, value.fromActiveToSleep);
+             out.endObject();
            }
 
            @Override
            public Timeouts read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             Timeouts instance = new Timeouts();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "fromActiveToSleep":
+                   instance.fromActiveToSleep = fromActiveToSleepAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `Timeouts` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
@@ -334,22 +334,64 @@ public class UpdatableAddress {
        if (!UpdatableAddress.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'UpdatableAddress' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<UpdatableAddress> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(UpdatableAddress.class));
+       final TypeAdapter<String> cityAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> line1Adapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> line2Adapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> line3Adapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> postalCodeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> stateOrProvinceAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<UpdatableAddress>() {
            @Override
            public void write(JsonWriter out, UpdatableAddress value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("city");
+             cityAdapter.write(out, value.city);
+             out.name("line1");
+             line1Adapter.write(out, value.line1);
+             out.name("line2");
+             line2Adapter.write(out, value.line2);
+             out.name("line3");
+             line3Adapter.write(out, value.line3);
+             out.name("postalCode");
+             postalCodeAdapter.write(out, value.postalCode);
+             out.name("stateOrProvince");
+             stateOrProvinceAdapter.write(out, value.stateOrProvince);
+             out.endObject();
            }
 
            @Override
            public UpdatableAddress read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             UpdatableAddress instance = new UpdatableAddress();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "city":
+                   instance.city = cityAdapter.read(in);
+                   break;
+                 case "line1":
+                   instance.line1 = line1Adapter.read(in);
+                   break;
+                 case "line2":
+                   instance.line2 = line2Adapter.read(in);
+                   break;
+                 case "line3":
+                   instance.line3 = line3Adapter.read(in);
+                   break;
+                 case "postalCode":
+                   instance.postalCode = postalCodeAdapter.read(in);
+                   break;
+                 case "stateOrProvince":
+                   instance.stateOrProvince = stateOrProvinceAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `UpdatableAddress` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
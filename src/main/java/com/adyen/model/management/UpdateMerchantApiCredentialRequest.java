@@ -280,22 +280,52 @@ public class UpdateMerchantApiCredentialRequest {
        if (!UpdateMerchantApiCredentialRequest.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'UpdateMerchantApiCredentialRequest' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<UpdateMerchantApiCredentialRequest> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(UpdateMerchantApiCredentialRequest.class));
+       final TypeAdapter<Boolean> activeAdapter = gson.getAdapter(Boolean.class);
+       final TypeAdapter<List<String>> allowedOriginsAdapter = gson.getAdapter(new TypeToken<List<String>>() {});
+       final TypeAdapter<String> descriptionAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<List<String>> rolesAdapter = gson.getAdapter(new TypeToken<List<String>>() {});
 
        return (TypeAdapter<T>) new TypeAdapter<UpdateMerchantApiCredentialRequest>() {
            @Override
            public void write(JsonWriter out, UpdateMerchantApiCredentialRequest value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("active");
+             activeAdapter.write(out, value.active);
+             out.name("allowedOrigins");
+             allowedOriginsAdapter.write(out, value.allowedOrigins);
+             out.name("description");
+             descriptionAdapter.write(out, value.description);
+             out.name("roles");
+             rolesAdapter.write(out, value.roles);
+             out.endObject();
            }
 
            @Override
            public UpdateMerchantApiCredentialRequest read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             UpdateMerchantApiCredentialRequest instance = new UpdateMerchantApiCredentialRequest();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "active":
+                   instance.active = activeAdapter.read(in);
+                   break;
+                 case "allowedOrigins":
+                   instance.allowedOrigins = allowedOriginsAdapter.read(in);
+                   break;
+                 case "description":
+                   instance.description = descriptionAdapter.read(in);
+                   break;
+                 case "roles":
+                   instance.roles = rolesAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `UpdateMerchantApiCredentialRequest` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
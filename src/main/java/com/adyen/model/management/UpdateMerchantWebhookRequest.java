@@ -95,13 +95,20 @@ public class UpdateMerchantWebhookRequest {
       return String.valueOf(value);
     }
 
-    public static CommunicationFormatEnum fromValue(String value) {
+    private static final Map<String, CommunicationFormatEnum> BY_VALUE = new HashMap<String, CommunicationFormatEnum>();
+
+    static {
       for (CommunicationFormatEnum b : CommunicationFormatEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    }
+
+    public static CommunicationFormatEnum fromValue(String value) {
+      CommunicationFormatEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      }
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<CommunicationFormatEnum> {
@@ -150,13 +157,20 @@ public class UpdateMerchantWebhookRequest {
       return String.valueOf(value);
     }
 
-    public static NetworkTypeEnum fromValue(String value) {
+    private static final Map<String, NetworkTypeEnum> BY_VALUE = new HashMap<String, NetworkTypeEnum>();
+
+    static {
       for (NetworkTypeEnum b : NetworkTypeEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    }
+
+    public static NetworkTypeEnum fromValue(String value) {
+      NetworkTypeEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      }
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<NetworkTypeEnum> {
@@ -225,13 +239,20 @@ public class UpdateMerchantWebhookRequest {
       return String.valueOf(value);
     }
 
-    public static SslVersionEnum fromValue(String value) {
+    private static final Map<String, SslVersionEnum> BY_VALUE = new HashMap<String, SslVersionEnum>();
+
+    static {
       for (SslVersionEnum b : SslVersionEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static SslVersionEnum fromValue(String value) {
+      SslVersionEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<SslVersionEnum> {
@@ -731,22 +752,121 @@ public class UpdateMerchantWebhookRequest {
        if (!UpdateMerchantWebhookRequest.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'UpdateMerchantWebhookRequest' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<UpdateMerchantWebhookRequest> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(UpdateMerchantWebhookRequest.class));
+       final TypeAdapter<Boolean> acceptsExpiredCertificateAdapter = gson.getAdapter(Boolean.class);
+       final TypeAdapter<Boolean> acceptsSelfSignedCertificateAdapter = gson.getAdapter(Boolean.class);
+       final TypeAdapter<Boolean> acceptsUntrustedRootCertificateAdapter = gson.getAdapter(Boolean.class);
+       final TypeAdapter<Boolean> activeAdapter = gson.getAdapter(Boolean.class);
+       final TypeAdapter<AdditionalSettings> additionalSettingsAdapter = gson.getAdapter(AdditionalSettings.class);
+       final TypeAdapter<CommunicationFormatEnum> communicationFormatAdapter = gson.getAdapter(CommunicationFormatEnum.class);
+       final TypeAdapter<String> descriptionAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<NetworkTypeEnum> networkTypeAdapter = gson.getAdapter(NetworkTypeEnum.class);
+       final TypeAdapter<String> passwordAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<Boolean> populateSoapActionHeaderAdapter = gson.getAdapter(Boolean.class);
+       final TypeAdapter<SslVersionEnum> sslVersionAdapter = gson.getAdapter(SslVersionEnum.class);
+       final TypeAdapter<String> urlAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> usernameAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<UpdateMerchantWebhookRequest>() {
            @Override
            public void write(JsonWriter out, UpdateMerchantWebhookRequest value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("acceptsExpiredCertificate");
+             acceptsExpiredCertificateAdapter.write(out, value.acceptsExpiredCertificate);
+             out.name("acceptsSelfSignedCertificate");
+             acceptsSelfSignedCertificateAdapter.write(out, value.acceptsSelfSignedCertificate);
+             out.name("acceptsUntrustedRootCertificate");
+             acceptsUntrustedRootCertificateAdapter.write(out, value.acceptsUntrustedRootCertificate);
+             out.name("active");
+             activeAdapter.write(out, value.active);
+             out.name("additionalSettings");
+             additionalSettingsAdapter.write(out, value.additionalSettings);
+             out.name("communicationFormat");
+             communicationFormatAdapter.write(out, value.communicationFormat);
+             out.name("description");
+             descriptionAdapter.write(out, value.description);
+             out.name("networkType");
+             networkTypeAdapter.write(out, value.networkType);
+             out.name("password");
+             passwordAdapter.write(out, value.password);
+             out.name("populateSoapActionHeader");
+             populateSoapActionHeaderAdapter.write(out, value.populateSoapActionHeader);
+             out.name("sslVersion");
+             sslVersionAdapter.write(out, value.sslVersion);
+             out.name("url");
+             urlAdapter.write(out, value.url);
+             out.name("username");
+             usernameAdapter.write(out, value.username);
+             out.endObject();
            }
 
            @Override
            public UpdateMerchantWebhookRequest read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             UpdateMerchantWebhookRequest instance = new UpdateMerchantWebhookRequest();
+             boolean activeFound = false;
+             boolean communicationFormatFound = false;
+             boolean urlFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "acceptsExpiredCertificate":
+                   instance.acceptsExpiredCertificate = acceptsExpiredCertificateAdapter.read(in);
+                   break;
+                 case "acceptsSelfSignedCertificate":
+                   instance.acceptsSelfSignedCertificate = acceptsSelfSignedCertificateAdapter.read(in);
+                   break;
+                 case "acceptsUntrustedRootCertificate":
+                   instance.acceptsUntrustedRootCertificate = acceptsUntrustedRootCertificateAdapter.read(in);
+                   break;
+                 case "active":
+                   instance.active = activeAdapter.read(in);
+                   activeFound = true;
+                   break;
+                 case "additionalSettings":
+                   instance.additionalSettings = additionalSettingsAdapter.read(in);
+                   break;
+                 case "communicationFormat":
+                   instance.communicationFormat = communicationFormatAdapter.read(in);
+                   communicationFormatFound = true;
+                   break;
+                 case "description":
+                   instance.description = descriptionAdapter.read(in);
+                   break;
+                 case "networkType":
+                   instance.networkType = networkTypeAdapter.read(in);
+                   break;
+                 case "password":
+                   instance.password = passwordAdapter.read(in);
+                   break;
+                 case "populateSoapActionHeader":
+                   instance.populateSoapActionHeader = populateSoapActionHeaderAdapter.read(in);
+                   break;
+                 case "sslVersion":
+                   instance.sslVersion = sslVersionAdapter.read(in);
+                   break;
+                 case "url":
+                   instance.url = urlAdapter.read(in);
+                   urlFound = true;
+                   break;
+                 case "username":
+                   instance.username = usernameAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `UpdateMerchantWebhookRequest` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!activeFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "active", in.getPath()));
+             }
+             if (!communicationFormatFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "communicationFormat", in.getPath()));
+             }
+             if (!urlFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "url", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
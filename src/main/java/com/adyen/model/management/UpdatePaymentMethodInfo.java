@@ -281,22 +281,52 @@ public class UpdatePaymentMethodInfo {
        if (!UpdatePaymentMethodInfo.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'UpdatePaymentMethodInfo' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<UpdatePaymentMethodInfo> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(UpdatePaymentMethodInfo.class));
+       final TypeAdapter<List<String>> countriesAdapter = gson.getAdapter(new TypeToken<List<String>>() {});
+       final TypeAdapter<List<String>> currenciesAdapter = gson.getAdapter(new TypeToken<List<String>>() {});
+       final TypeAdapter<Boolean> enabledAdapter = gson.getAdapter(Boolean.class);
+       final TypeAdapter<ShopperStatement> shopperStatementAdapter = gson.getAdapter(ShopperStatement.class);
 
        return (TypeAdapter<T>) new TypeAdapter<UpdatePaymentMethodInfo>() {
            @Override
            public void write(JsonWriter out, UpdatePaymentMethodInfo value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("countries");
+             countriesAdapter.write(out, value.countries);
+             out.name("currencies");
+             currenciesAdapter.write(out, value.currencies);
+             out.name("enabled");
+             enabledAdapter.write(out, value.enabled);
+             out.name("shopperStatement");
+             shopperStatementAdapter.write(out, value.shopperStatement);
+             out.endObject();
            }
 
            @Override
            public UpdatePaymentMethodInfo read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             UpdatePaymentMethodInfo instance = new UpdatePaymentMethodInfo();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "countries":
+                   instance.countries = countriesAdapter.read(in);
+                   break;
+                 case "currencies":
+                   instance.currencies = currenciesAdapter.read(in);
+                   break;
+                 case "enabled":
+                   instance.enabled = enabledAdapter.read(in);
+                   break;
+                 case "shopperStatement":
+                   instance.shopperStatement = shopperStatementAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `UpdatePaymentMethodInfo` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
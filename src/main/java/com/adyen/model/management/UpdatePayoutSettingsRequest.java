@@ -160,22 +160,34 @@ public class UpdatePayoutSettingsRequest {
        if (!UpdatePayoutSettingsRequest.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'UpdatePayoutSettingsRequest' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<UpdatePayoutSettingsRequest> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(UpdatePayoutSettingsRequest.class));
+       final TypeAdapter<Boolean> enabledAdapter = gson.getAdapter(Boolean.class);
 
        return (TypeAdapter<T>) new TypeAdapter<UpdatePayoutSettingsRequest>() {
            @Override
            public void write(JsonWriter out, UpdatePayoutSettingsRequest value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("enabled");
+             enabledAdapter.write(out, value.enabled);
+             out.endObject();
            }
 
            @Override
            public UpdatePayoutSettingsRequest read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             UpdatePayoutSettingsRequest instance = new UpdatePayoutSettingsRequest();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "enabled":
+                   instance.enabled = enabledAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `UpdatePayoutSettingsRequest` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
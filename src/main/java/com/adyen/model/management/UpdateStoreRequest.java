@@ -98,13 +98,20 @@ public class UpdateStoreRequest {
       return String.valueOf(value);
     }
 
-    public static StatusEnum fromValue(String value) {
+    private static final Map<String, StatusEnum> BY_VALUE = new HashMap<String, StatusEnum>();
+
+    static {
       for (StatusEnum b : StatusEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static StatusEnum fromValue(String value) {
+      StatusEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<StatusEnum> {
@@ -398,22 +405,64 @@ public class UpdateStoreRequest {
        if (!UpdateStoreRequest.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'UpdateStoreRequest' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<UpdateStoreRequest> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(UpdateStoreRequest.class));
+       final TypeAdapter<UpdatableAddress> addressAdapter = gson.getAdapter(UpdatableAddress.class);
+       final TypeAdapter<List<String>> businessLineIdsAdapter = gson.getAdapter(new TypeToken<List<String>>() {});
+       final TypeAdapter<String> descriptionAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> externalReferenceIdAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<StoreSplitConfiguration> splitConfigurationAdapter = gson.getAdapter(StoreSplitConfiguration.class);
+       final TypeAdapter<StatusEnum> statusAdapter = gson.getAdapter(StatusEnum.class);
 
        return (TypeAdapter<T>) new TypeAdapter<UpdateStoreRequest>() {
            @Override
            public void write(JsonWriter out, UpdateStoreRequest value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("address");
+             addressAdapter.write(out, value.address);
+             out.name("businessLineIds");
+             businessLineIdsAdapter.write(out, value.businessLineIds);
+             out.name("description");
+             descriptionAdapter.write(out, value.description);
+             out.name("externalReferenceId");
+             externalReferenceIdAdapter.write(out, value.externalReferenceId);
+             out.name("splitConfiguration");
+             splitConfigurationAdapter.write(out, value.splitConfiguration);
+             out.name("status");
+             statusAdapter.write(out, value.status);
+             out.endObject();
            }
 
            @Override
            public UpdateStoreRequest read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             UpdateStoreRequest instance = new UpdateStoreRequest();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "address":
+                   instance.address = addressAdapter.read(in);
+                   break;
+                 case "businessLineIds":
+                   instance.businessLineIds = businessLineIdsAdapter.read(in);
+                   break;
+                 case "description":
+                   instance.description = descriptionAdapter.read(in);
+                   break;
+                 case "externalReferenceId":
+                   instance.externalReferenceId = externalReferenceIdAdapter.read(in);
+                   break;
+                 case "splitConfiguration":
+                   instance.splitConfiguration = splitConfigurationAdapter.read(in);
+                   break;
+                 case "status":
+                   instance.status = statusAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `UpdateStoreRequest` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
@@ -232,22 +232,46 @@ public class Url {
        if (!Url.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'Url' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<Url> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(Url.class));
+       final TypeAdapter<String> passwordAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> urlAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> usernameAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<Url>() {
            @Override
            public void write(JsonWriter out, Url value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("password");
+             passwordAdapter.write(out, value.password);
+             out.name("url");
+             urlAdapter.write(out, value.url);
+             out.name("username");
+             usernameAdapter.write(out, value.username);
+             out.endObject();
            }
 
            @Override
            public Url read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             Url instance = new Url();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "password":
+                   instance.password = passwordAdapter.read(in);
+                   break;
+                 case "url":
+                   instance.url = urlAdapter.read(in);
+                   break;
+                 case "username":
+                   instance.username = usernameAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `Url` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
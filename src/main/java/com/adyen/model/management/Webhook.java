@@ -110,13 +110,20 @@ public class Webhook {
       return String.valueOf(value);
     }
 
-    public static CommunicationFormatEnum fromValue(String value) {
+    private static final Map<String, CommunicationFormatEnum> BY_VALUE = new HashMap<String, CommunicationFormatEnum>();
+
+    static {
       for (CommunicationFormatEnum b : CommunicationFormatEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static CommunicationFormatEnum fromValue(String value) {
+      CommunicationFormatEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<CommunicationFormatEnum> {
@@ -167,13 +174,20 @@ public class Webhook {
       return String.valueOf(value);
     }
 
-    public static FilterMerchantAccountTypeEnum fromValue(String value) {
+    private static final Map<String, FilterMerchantAccountTypeEnum> BY_VALUE = new HashMap<String, FilterMerchantAccountTypeEnum>();
+
+    static {
       for (FilterMerchantAccountTypeEnum b : FilterMerchantAccountTypeEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static FilterMerchantAccountTypeEnum fromValue(String value) {
+      FilterMerchantAccountTypeEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<FilterMerchantAccountTypeEnum> {
@@ -238,13 +252,20 @@ public class Webhook {
       return String.valueOf(value);
     }
 
-    public static NetworkTypeEnum fromValue(String value) {
+    private static final Map<String, NetworkTypeEnum> BY_VALUE = new HashMap<String, NetworkTypeEnum>();
+
+    static {
       for (NetworkTypeEnum b : NetworkTypeEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static NetworkTypeEnum fromValue(String value) {
+      NetworkTypeEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<NetworkTypeEnum> {
@@ -309,13 +330,20 @@ public class Webhook {
       return String.valueOf(value);
     }
 
-    public static SslVersionEnum fromValue(String value) {
+    private static final Map<String, SslVersionEnum> BY_VALUE = new HashMap<String, SslVersionEnum>();
+
+    static {
       for (SslVersionEnum b : SslVersionEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static SslVersionEnum fromValue(String value) {
+      SslVersionEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<SslVersionEnum> {
@@ -1093,22 +1121,180 @@ public class Webhook {
        if (!Webhook.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'Webhook' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<Webhook> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(Webhook.class));
+       final TypeAdapter<WebhookLinks> linksAdapter = gson.getAdapter(WebhookLinks.class);
+       final TypeAdapter<Boolean> acceptsExpiredCertificateAdapter = gson.getAdapter(Boolean.class);
+       final TypeAdapter<Boolean> acceptsSelfSignedCertificateAdapter = gson.getAdapter(Boolean.class);
+       final TypeAdapter<Boolean> acceptsUntrustedRootCertificateAdapter = gson.getAdapter(Boolean.class);
+       final TypeAdapter<String> accountReferenceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<Boolean> activeAdapter = gson.getAdapter(Boolean.class);
+       final TypeAdapter<AdditionalSettingsResponse> additionalSettingsAdapter = gson.getAdapter(AdditionalSettingsResponse.class);
+       final TypeAdapter<String> certificateAliasAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<CommunicationFormatEnum> communicationFormatAdapter = gson.getAdapter(CommunicationFormatEnum.class);
+       final TypeAdapter<String> descriptionAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<FilterMerchantAccountTypeEnum> filterMerchantAccountTypeAdapter = gson.getAdapter(FilterMerchantAccountTypeEnum.class);
+       final TypeAdapter<List<String>> filterMerchantAccountsAdapter = gson.getAdapter(new TypeToken<List<String>>() {});
+       final TypeAdapter<Boolean> hasErrorAdapter = gson.getAdapter(Boolean.class);
+       final TypeAdapter<Boolean> hasPasswordAdapter = gson.getAdapter(Boolean.class);
+       final TypeAdapter<String> hmacKeyCheckValueAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> idAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<NetworkTypeEnum> networkTypeAdapter = gson.getAdapter(NetworkTypeEnum.class);
+       final TypeAdapter<Boolean> populateSoapActionHeaderAdapter = gson.getAdapter(Boolean.class);
+       final TypeAdapter<SslVersionEnum> sslVersionAdapter = gson.getAdapter(SslVersionEnum.class);
+       final TypeAdapter<String> typeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> urlAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> usernameAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<Webhook>() {
            @Override
            public void write(JsonWriter out, Webhook value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("_links");
+             linksAdapter.write(out, value.links);
+             out.name("acceptsExpiredCertificate");
+             acceptsExpiredCertificateAdapter.write(out, value.acceptsExpiredCertificate);
+             out.name("acceptsSelfSignedCertificate");
+             acceptsSelfSignedCertificateAdapter.write(out, value.acceptsSelfSignedCertificate);
+             out.name("acceptsUntrustedRootCertificate");
+             acceptsUntrustedRootCertificateAdapter.write(out, value.acceptsUntrustedRootCertificate);
+             out.name("accountReference");
+             accountReferenceAdapter.write(out, value.accountReference);
+             out.name("active");
+             activeAdapter.write(out, value.active);
+             out.name("additionalSettings");
+             additionalSettingsAdapter.write(out, value.additionalSettings);
+             out.name("certificateAlias");
+             certificateAliasAdapter.write(out, value.certificateAlias);
+             out.name("communicationFormat");
+             communicationFormatAdapter.write(out, value.communicationFormat);
+             out.name("description");
+             descriptionAdapter.write(out, value.description);
+             out.name("filterMerchantAccountType");
+             filterMerchantAccountTypeAdapter.write(out, value.filterMerchantAccountType);
+             out.name("filterMerchantAccounts");
+             filterMerchantAccountsAdapter.write(out, value.filterMerchantAccounts);
+             out.name("hasError");
+             hasErrorAdapter.write(out, value.hasError);
+             out.name("hasPassword");
+             hasPasswordAdapter.write(out, value.hasPassword);
+             out.name("hmacKeyCheckValue");
+             hmacKeyCheckValueAdapter.write(out, value.hmacKeyCheckValue);
+             out.name("id");
+             idAdapter.write(out, value.id);
+             out.name("networkType");
+             networkTypeAdapter.write(out, value.networkType);
+             out.name("populateSoapActionHeader");
+             populateSoapActionHeaderAdapter.write(out, value.populateSoapActionHeader);
+             out.name("sslVersion");
+             sslVersionAdapter.write(out, value.sslVersion);
+             out.name("type");
+             typeAdapter.write(out, value.type);
+             out.name("url");
+             urlAdapter.write(out, value.url);
+             out.name("username");
+             usernameAdapter.write(out, value.username);
+             out.endObject();
            }
 
            @Override
            public Webhook read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             Webhook instance = new Webhook();
+             boolean activeFound = false;
+             boolean communicationFormatFound = false;
+             boolean typeFound = false;
+             boolean urlFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "_links":
+                   instance.links = linksAdapter.read(in);
+                   break;
+                 case "acceptsExpiredCertificate":
+                   instance.acceptsExpiredCertificate = acceptsExpiredCertificateAdapter.read(in);
+                   break;
+                 case "acceptsSelfSignedCertificate":
+                   instance.acceptsSelfSignedCertificate = acceptsSelfSignedCertificateAdapter.read(in);
+                   break;
+                 case "acceptsUntrustedRootCertificate":
+                   instance.acceptsUntrustedRootCertificate = acceptsUntrustedRootCertificateAdapter.read(in);
+                   break;
+                 case "accountReference":
+                   instance.accountReference = accountReferenceAdapter.read(in);
+                   break;
+                 case "active":
+                   instance.active = activeAdapter.read(in);
+                   activeFound = true;
+                   break;
+                 case "additionalSettings":
+                   instance.additionalSettings = additionalSettingsAdapter.read(in);
+                   break;
+                 case "certificateAlias":
+                   instance.certificateAlias = certificateAliasAdapter.read(in);
+                   break;
+                 case "communicationFormat":
+                   instance.communicationFormat = communicationFormatAdapter.read(in);
+                   communicationFormatFound = true;
+                   break;
+                 case "description":
+                   instance.description = descriptionAdapter.read(in);
+                   break;
+                 case "filterMerchantAccountType":
+                   instance.filterMerchantAccountType = filterMerchantAccountTypeAdapter.read(in);
+                   break;
+                 case "filterMerchantAccounts":
+                   instance.filterMerchantAccounts = filterMerchantAccountsAdapter.read(in);
+                   break;
+                 case "hasError":
+                   instance.hasError = hasErrorAdapter.read(in);
+                   break;
+                 case "hasPassword":
+                   instance.hasPassword = hasPasswordAdapter.read(in);
+                   break;
+                 case "hmacKeyCheckValue":
+                   instance.hmacKeyCheckValue = hmacKeyCheckValueAdapter.read(in);
+                   break;
+                 case "id":
+                   instance.id = idAdapter.read(in);
+                   break;
+                 case "networkType":
+                   instance.networkType = networkTypeAdapter.read(in);
+                   break;
+                 case "populateSoapActionHeader":
+                   instance.populateSoapActionHeader = populateSoapActionHeaderAdapter.read(in);
+                   break;
+                 case "sslVersion":
+                   instance.sslVersion = sslVersionAdapter.read(in);
+                   break;
+                 case "type":
+                   instance.type = typeAdapter.read(in);
+                   typeFound = true;
+                   break;
+                 case "url":
+                   instance.url = urlAdapter.read(in);
+                   urlFound = true;
+                   break;
+                 case "username":
+                   instance.username = usernameAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `Webhook` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!activeFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "active", in.getPath()));
+             }
+             if (!communicationFormatFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "communicationFormat", in.getPath()));
+             }
+             if (!typeFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "type", in.getPath()));
+             }
+             if (!urlFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "url", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
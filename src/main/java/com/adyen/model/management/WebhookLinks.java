@@ -311,22 +311,73 @@ public class WebhookLinks {
        if (!WebhookLinks.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'WebhookLinks' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<WebhookLinks> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(WebhookLinks.class));
+       final TypeAdapter<LinksElement> companyAdapter = gson.getAdapter(LinksElement.class);
+       final TypeAdapter<LinksElement> generateHmacAdapter = gson.getAdapter(LinksElement.class);
+       final TypeAdapter<LinksElement> merchantAdapter = gson.getAdapter(LinksElement.class);
+       final TypeAdapter<LinksElement> selfAdapter = gson.getAdapter(LinksElement.class);
+       final TypeAdapter<LinksElement> testWebhookAdapter = gson.getAdapter(LinksElement.class);
 
        return (TypeAdapter<T>) new TypeAdapter<WebhookLinks>() {
            @Override
            public void write(JsonWriter out, WebhookLinks value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("company");
+             companyAdapter.write(out, value.company);
+             out.name("generateHmac");
+             generateHmacAdapter.write(out, value.generateHmac);
+             out.name("merchant");
+             merchantAdapter.write(out, value.merchant);
+             out.name("self");
+             selfAdapter.write(out, value.self);
+             out.name("testWebhook");
+             testWebhookAdapter.write(out, value.testWebhook);
+             out.endObject();
            }
 
            @Override
            public WebhookLinks read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             WebhookLinks instance = new WebhookLinks();
+             boolean generateHmacFound = false;
+             boolean selfFound = false;
+             boolean testWebhookFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "company":
+                   instance.company = companyAdapter.read(in);
+                   break;
+                 case "generateHmac":
+                   instance.generateHmac = generateHmacAdapter.read(in);
+                   generateHmacFound = true;
+                   break;
+                 case "merchant":
+                   instance.merchant = merchantAdapter.read(in);
+                   break;
+                 case "self":
+                   instance.self = selfAdapter.read(in);
+                   selfFound = true;
+                   break;
+                 case "testWebhook":
+                   instance.testWebhook = testWebhookAdapter.read(in);
+                   testWebhookFound = true;
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `WebhookLinks` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!generateHmacFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "generateHmac", in.getPath()));
+             }
+             if (!selfFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "self", in.getPath()));
+             }
+             if (!testWebhookFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "testWebhook", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
@@ -218,22 +218,40 @@ public class WifiProfiles {
        if (!WifiProfiles.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'WifiProfiles' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<WifiProfiles> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(WifiProfiles.class));
+       final TypeAdapter<List<Profile>> profilesAdapter = gson.getAdapter(new TypeToken<List<Profile>>() {});
+       final TypeAdapter<Settings> settingsAdapter = gson.getAdapter(Settings.class);
 
        return (TypeAdapter<T>) new TypeAdapter<WifiProfiles>() {
            @Override
            public void write(JsonWriter out, WifiProfiles value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("profiles");
+             profilesAdapter.write(out, value.profiles);
+             out.name("settings");
+             settingsAdapter.write(out, value.settings);
+             out.endObject();
            }
 
            @Override
            public WifiProfiles read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             WifiProfiles instance = new WifiProfiles();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "profiles":
+                   instance.profiles = profilesAdapter.read(in);
+                   break;
+                 case "settings":
+                   instance.settings = settingsAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `WifiProfiles` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
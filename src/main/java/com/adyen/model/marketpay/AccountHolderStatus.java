@@ -32,6 +32,8 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.HashMap;
+import java.util.Map;
 
 
 import static com.adyen.util.Util.toIndentedString;
@@ -76,13 +78,16 @@ public class AccountHolderStatus {
             return String.valueOf(value);
         }
 
-        public static StatusEnum fromValue(String text) {
+        private static final Map<String, StatusEnum> BY_VALUE = new HashMap<String, StatusEnum>();
+
+        static {
             for (StatusEnum b : StatusEnum.values()) {
-                if (String.valueOf(b.value).equals(text)) {
-                    return b;
-                }
+                BY_VALUE.put(b.value, b);
             }
-            return null;
+        }
+
+        public static StatusEnum fromValue(String text) {
+            return BY_VALUE.get(text);
         }
 
         public static class Adapter extends TypeAdapter<StatusEnum> {
@@ -31,9 +31,10 @@ import com.google.gson.stream.JsonWriter;
 
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.HashMap;
+import java.util.Map;
 
 
 import static com.adyen.util.Util.toIndentedString;
@@ -80,10 +81,16 @@ public class CloseAccountResponse {
             return String.valueOf(value);
         }
 
+        private static final Map<String, StatusEnum> BY_VALUE = new HashMap<String, StatusEnum>();
+
+        static {
+            for (StatusEnum b : StatusEnum.values()) {
+                BY_VALUE.put(b.value, b);
+            }
+        }
+
         public static StatusEnum fromValue(String text) {
-            return Arrays.stream(values()).
-                    filter(s -> s.value.equals(text)).
-                    findFirst().orElse(null);
+            return BY_VALUE.get(text);
         }
 
         public static class Adapter extends TypeAdapter<StatusEnum> {
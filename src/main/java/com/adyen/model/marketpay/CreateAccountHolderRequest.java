@@ -29,6 +29,8 @@ import com.google.gson.stream.JsonWriter;
 
 import java.io.IOException;
 import java.util.Objects;
+import java.util.HashMap;
+import java.util.Map;
 
 
 import static com.adyen.util.Util.toIndentedString;
@@ -74,14 +76,18 @@ public class CreateAccountHolderRequest {
         public String toString() {
             return String.valueOf(value);
         }
-        public static LegalEntityEnum fromValue(String input) {
+        private static final Map<String, LegalEntityEnum> BY_VALUE = new HashMap<String, LegalEntityEnum>();
+
+        static {
             for (LegalEntityEnum b : LegalEntityEnum.values()) {
-                if (b.value.equals(input)) {
-                    return b;
-                }
+                BY_VALUE.put(b.value, b);
             }
-            return null;
         }
+
+        public static LegalEntityEnum fromValue(String input) {
+            return BY_VALUE.get(input);
+        }
+
         public static class Adapter extends TypeAdapter<LegalEntityEnum> {
             @Override
             public void write(final JsonWriter jsonWriter, final LegalEntityEnum enumeration) throws IOException {
@@ -29,9 +29,9 @@ import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonWriter;
 
 import java.io.IOException;
-import java.util.Arrays;
 import java.util.Map;
 import java.util.Objects;
+import java.util.HashMap;
 
 
 import static com.adyen.util.Util.toIndentedString;
@@ -85,10 +85,16 @@ public class CreateAccountRequest {
             return String.valueOf(value);
         }
 
+        private static final Map<String, PayoutScheduleEnum> BY_VALUE = new HashMap<String, PayoutScheduleEnum>();
+
+        static {
+            for (PayoutScheduleEnum b : PayoutScheduleEnum.values()) {
+                BY_VALUE.put(b.value, b);
+            }
+        }
+
         public static PayoutScheduleEnum fromValue(String text) {
-            return Arrays.stream(values()).
-                    filter(s -> s.value.equals(text)).
-                    findFirst().orElse(null);
+            return BY_VALUE.get(text);
         }
 
         public static class Adapter extends TypeAdapter<PayoutScheduleEnum> {
@@ -30,7 +30,6 @@ import com.google.gson.stream.JsonWriter;
 
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -93,10 +92,16 @@ public class CreateAccountResponse {
             return String.valueOf(value);
         }
 
+        private static final Map<String, StatusEnum> BY_VALUE = new HashMap<String, StatusEnum>();
+
+        static {
+            for (StatusEnum b : StatusEnum.values()) {
+                BY_VALUE.put(b.value, b);
+            }
+        }
+
         public static StatusEnum fromValue(String text) {
-            return Arrays.stream(values()).
-                    filter(s -> s.value.equals(text)).
-                    findFirst().orElse(null);
+            return BY_VALUE.get(text);
         }
 
         public static class Adapter extends TypeAdapter<StatusEnum> {
@@ -28,6 +28,8 @@ import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonWriter;
 
 import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
 
 @JsonAdapter(PayoutSpeedEnum.Adapter.class)
 public enum PayoutSpeedEnum {
@@ -46,13 +48,16 @@ public enum PayoutSpeedEnum {
         return String.valueOf(value);
     }
 
-    public static PayoutSpeedEnum fromValue(String text) {
+    private static final Map<String, PayoutSpeedEnum> BY_VALUE = new HashMap<String, PayoutSpeedEnum>();
+
+    static {
         for (PayoutSpeedEnum b : PayoutSpeedEnum.values()) {
-            if (String.valueOf(b.value).equals(text)) {
-                return b;
-            }
+            BY_VALUE.put(b.value, b);
         }
-        return null;
+    }
+
+    public static PayoutSpeedEnum fromValue(String text) {
+        return BY_VALUE.get(text);
     }
 
     public static class Adapter extends TypeAdapter<PayoutSpeedEnum> {
@@ -29,8 +29,9 @@ import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonWriter;
 
 import java.io.IOException;
-import java.util.Arrays;
 import java.util.Objects;
+import java.util.HashMap;
+import java.util.Map;
 
 
 import static com.adyen.util.Util.toIndentedString;
@@ -70,10 +71,16 @@ public class PerformVerificationRequest {
             return String.valueOf(value);
         }
 
+        private static final Map<String, AccountStateTypeEnum> BY_VALUE = new HashMap<String, AccountStateTypeEnum>();
+
+        static {
+            for (AccountStateTypeEnum b : AccountStateTypeEnum.values()) {
+                BY_VALUE.put(b.value, b);
+            }
+        }
+
         public static AccountStateTypeEnum fromValue(String text) {
-            return Arrays.stream(values()).
-                    filter(s -> s.value.equals(text)).
-                    findFirst().orElse(null);
+            return BY_VALUE.get(text);
         }
 
         public static class Adapter extends TypeAdapter<AccountStateTypeEnum> {
@@ -29,8 +29,9 @@ import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonWriter;
 
 import java.io.IOException;
-import java.util.Arrays;
 import java.util.Objects;
+import java.util.HashMap;
+import java.util.Map;
 
 
 import static com.adyen.util.Util.toIndentedString;
@@ -77,10 +78,16 @@ public class PersonalDocumentData {
             return String.valueOf(value);
         }
 
+        private static final Map<String, TypeEnum> BY_VALUE = new HashMap<String, TypeEnum>();
+
+        static {
+            for (TypeEnum b : TypeEnum.values()) {
+                BY_VALUE.put(b.value, b);
+            }
+        }
+
         public static TypeEnum fromValue(String text) {
-            return Arrays.stream(values()).
-                    filter(s -> s.value.equals(text)).
-                    findFirst().orElse(null);
+            return BY_VALUE.get(text);
         }
 
         public static class Adapter extends TypeAdapter<TypeEnum> {
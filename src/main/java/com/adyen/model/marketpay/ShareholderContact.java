@@ -32,6 +32,8 @@ import com.google.gson.stream.JsonWriter;
 
 import java.io.IOException;
 import java.util.Objects;
+import java.util.HashMap;
+import java.util.Map;
 
 
 import static com.adyen.util.Util.toIndentedString;
@@ -89,13 +91,16 @@ public class ShareholderContact {
     public String toString() {
       return String.valueOf(value);
     }
-    public static ShareholderTypeEnum fromValue(String text) {
+    private static final Map<String, ShareholderTypeEnum> BY_VALUE = new HashMap<String, ShareholderTypeEnum>();
+
+    static {
       for (ShareholderTypeEnum b : ShareholderTypeEnum.values()) {
-        if (String.valueOf(b.value).equals(text)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
       }
-      return null;
+    }
+
+    public static ShareholderTypeEnum fromValue(String text) {
+      return BY_VALUE.get(text);
     }
 
     public static class Adapter extends TypeAdapter<ShareholderTypeEnum> {
@@ -31,6 +31,8 @@ import com.google.gson.stream.JsonWriter;
 
 import java.io.IOException;
 import java.util.Objects;
+import java.util.HashMap;
+import java.util.Map;
 
 import static com.adyen.util.Util.toIndentedString;
 
@@ -69,13 +71,16 @@ public class StoreDetail {
         public String toString() {
             return String.valueOf(value);
         }
-        public static ShopperInteractionEnum fromValue(String text) {
+        private static final Map<String, ShopperInteractionEnum> BY_VALUE = new HashMap<String, ShopperInteractionEnum>();
+
+        static {
             for (ShopperInteractionEnum b : ShopperInteractionEnum.values()) {
-                if (String.valueOf(b.value).equals(text)) {
-                    return b;
-                }
+                BY_VALUE.put(b.value, b);
             }
-            return null;
+        }
+
+        public static ShopperInteractionEnum fromValue(String text) {
+            return BY_VALUE.get(text);
         }
 
         public static class Adapter extends TypeAdapter<ShopperInteractionEnum> {
@@ -120,13 +125,16 @@ public class StoreDetail {
         public String toString() {
             return String.valueOf(value);
         }
-        public static StatusEnum fromValue(String text) {
+        private static final Map<String, StatusEnum> BY_VALUE = new HashMap<String, StatusEnum>();
+
+        static {
             for (StatusEnum b : StatusEnum.values()) {
-                if (String.valueOf(b.value).equals(text)) {
-                    return b;
-                }
+                BY_VALUE.put(b.value, b);
             }
-            return null;
+        }
+
+        public static StatusEnum fromValue(String text) {
+            return BY_VALUE.get(text);
         }
         public static class Adapter extends TypeAdapter<StatusEnum> {
             @Override
@@ -30,9 +30,10 @@ import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonWriter;
 
 import java.io.IOException;
-import java.util.Arrays;
 import java.util.Date;
 import java.util.Objects;
+import java.util.HashMap;
+import java.util.Map;
 
 
 import static com.adyen.util.Util.toIndentedString;
@@ -148,10 +149,16 @@ public class Transaction {
             return String.valueOf(value);
         }
 
+        private static final Map<String, TransactionStatusEnum> BY_VALUE = new HashMap<String, TransactionStatusEnum>();
+
+        static {
+            for (TransactionStatusEnum b : TransactionStatusEnum.values()) {
+                BY_VALUE.put(b.value, b);
+            }
+        }
+
         public static TransactionStatusEnum fromValue(String text) {
-            return Arrays.stream(values()).
-                    filter(s -> s.value.equals(text)).
-                    findFirst().orElse(null);
+            return BY_VALUE.get(text);
         }
 
         public static class Adapter extends TypeAdapter<TransactionStatusEnum> {
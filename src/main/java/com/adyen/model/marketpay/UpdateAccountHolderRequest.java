@@ -30,8 +30,9 @@ import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonWriter;
 
 import java.io.IOException;
-import java.util.Arrays;
 import java.util.Objects;
+import java.util.HashMap;
+import java.util.Map;
 
 
 import static com.adyen.util.Util.toIndentedString;
@@ -75,10 +76,16 @@ public class UpdateAccountHolderRequest {
             return String.valueOf(value);
         }
 
+        private static final Map<String, LegalEntityEnum> BY_VALUE = new HashMap<String, LegalEntityEnum>();
+
+        static {
+            for (LegalEntityEnum b : LegalEntityEnum.values()) {
+                BY_VALUE.put(b.value, b);
+            }
+        }
+
         public static LegalEntityEnum fromValue(String text) {
-            return Arrays.stream(values()).
-                    filter(s -> s.value.equals(text)).
-                    findFirst().orElse(null);
+            return BY_VALUE.get(text);
         }
 
         public static class Adapter extends TypeAdapter<LegalEntityEnum> {
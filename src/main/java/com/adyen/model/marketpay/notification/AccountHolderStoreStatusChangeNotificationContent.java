@@ -32,6 +32,8 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.HashMap;
+import java.util.Map;
 
 import static com.adyen.util.Util.toIndentedString;
 
@@ -73,13 +75,16 @@ public class AccountHolderStoreStatusChangeNotificationContent {
             return String.valueOf(value);
         }
 
-        public static NewStatusEnum fromValue(String text) {
+        private static final Map<String, NewStatusEnum> BY_VALUE = new HashMap<String, NewStatusEnum>();
+
+        static {
             for (NewStatusEnum b : NewStatusEnum.values()) {
-                if (String.valueOf(b.value).equals(text)) {
-                    return b;
-                }
+                BY_VALUE.put(b.value, b);
             }
-            return null;
+        }
+
+        public static NewStatusEnum fromValue(String text) {
+            return BY_VALUE.get(text);
         }
 
         public static class Adapter extends TypeAdapter<NewStatusEnum> {
@@ -126,13 +131,16 @@ public class AccountHolderStoreStatusChangeNotificationContent {
             return String.valueOf(value);
         }
 
-        public static OldStatusEnum fromValue(String text) {
+        private static final Map<String, OldStatusEnum> BY_VALUE = new HashMap<String, OldStatusEnum>();
+
+        static {
             for (OldStatusEnum b : OldStatusEnum.values()) {
-                if (String.valueOf(b.value).equals(text)) {
-                    return b;
-                }
+                BY_VALUE.put(b.value, b);
             }
-            return null;
+        }
+
+        public static OldStatusEnum fromValue(String text) {
+            return BY_VALUE.get(text);
         }
 
         public static class Adapter extends TypeAdapter<OldStatusEnum> {
@@ -31,6 +31,8 @@ import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import java.util.Date;
 import java.util.Objects;
+import java.util.HashMap;
+import java.util.Map;
 
 import static com.adyen.util.Util.toIndentedString;
 
@@ -83,13 +85,16 @@ public class AccountHolderUpcomingDeadlineNotificationContent {
             return String.valueOf(value);
         }
 
-        public static EventEnum fromValue(String text) {
+        private static final Map<String, EventEnum> BY_VALUE = new HashMap<String, EventEnum>();
+
+        static {
             for (EventEnum b : EventEnum.values()) {
-                if (String.valueOf(b.value).equals(text)) {
-                    return b;
-                }
+                BY_VALUE.put(b.value, b);
             }
-            return null;
+        }
+
+        public static EventEnum fromValue(String text) {
+            return BY_VALUE.get(text);
         }
 
         public static class Adapter extends TypeAdapter<EventEnum> {
@@ -30,6 +30,8 @@ import com.google.gson.stream.JsonWriter;
 
 import java.io.IOException;
 import java.util.Objects;
+import java.util.HashMap;
+import java.util.Map;
 
 import static com.adyen.util.Util.toIndentedString;
 
@@ -194,13 +196,16 @@ public class FieldType {
             return String.valueOf(value);
         }
 
-        public static FieldNameEnum fromValue(String text) {
+        private static final Map<String, FieldNameEnum> BY_VALUE = new HashMap<String, FieldNameEnum>();
+
+        static {
             for (FieldNameEnum b : FieldNameEnum.values()) {
-                if (String.valueOf(b.value).equals(text)) {
-                    return b;
-                }
+                BY_VALUE.put(b.value, b);
             }
-            return null;
+        }
+
+        public static FieldNameEnum fromValue(String text) {
+            return BY_VALUE.get(text);
         }
 
         public static class Adapter extends TypeAdapter<FieldNameEnum> {
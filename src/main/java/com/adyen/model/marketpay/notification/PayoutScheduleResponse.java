@@ -31,6 +31,8 @@ import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import java.util.Date;
 import java.util.Objects;
+import java.util.HashMap;
+import java.util.Map;
 
 import static com.adyen.util.Util.toIndentedString;
 
@@ -78,13 +80,16 @@ public class PayoutScheduleResponse {
             return String.valueOf(value);
         }
 
-        public static ScheduleEnum fromValue(String text) {
+        private static final Map<String, ScheduleEnum> BY_VALUE = new HashMap<String, ScheduleEnum>();
+
+        static {
             for (ScheduleEnum b : ScheduleEnum.values()) {
-                if (String.valueOf(b.value).equals(text)) {
-                    return b;
-                }
+                BY_VALUE.put(b.value, b);
             }
-            return null;
+        }
+
+        public static ScheduleEnum fromValue(String text) {
+            return BY_VALUE.get(text);
         }
 
         public static class Adapter extends TypeAdapter<ScheduleEnum> {
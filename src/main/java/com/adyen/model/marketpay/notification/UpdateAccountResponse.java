@@ -85,13 +85,16 @@ public class UpdateAccountResponse {
             return String.valueOf(value);
         }
 
-        public static PayoutSpeedEnum fromValue(String text) {
+        private static final Map<String, PayoutSpeedEnum> BY_VALUE = new HashMap<String, PayoutSpeedEnum>();
+
+        static {
             for (PayoutSpeedEnum b : PayoutSpeedEnum.values()) {
-                if (String.valueOf(b.value).equals(text)) {
-                    return b;
-                }
+                BY_VALUE.put(b.value, b);
             }
-            return null;
+        }
+
+        public static PayoutSpeedEnum fromValue(String text) {
+            return BY_VALUE.get(text);
         }
 
         public static class Adapter extends TypeAdapter<PayoutSpeedEnum> {
@@ -5,7 +5,8 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
-import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
 
 /**
@@ -104,6 +105,14 @@ public enum AccountType {
         return value;
     }
 
+    private static final Map<String, AccountType> BY_VALUE = new HashMap<String, AccountType>();
+
+    static {
+        for (AccountType b : AccountType.values()) {
+            BY_VALUE.put(b.value, b);
+        }
+    }
+
     /**
      * From value account type.
      *
@@ -111,9 +120,11 @@ public enum AccountType {
      * @return the account type
      */
     public static AccountType fromValue(String v) {
-        return Arrays.stream(values()).
-                filter(s -> s.value.equals(v)).
-                findFirst().orElseThrow(() -> new IllegalArgumentException(v));
+        AccountType b = BY_VALUE.get(v);
+        if (b == null) {
+            throw new IllegalArgumentException(v);
+        }
+        return b;
     }
 
 }
@@ -3,7 +3,8 @@ package com.adyen.model.nexo;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
-import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
 
 /**
@@ -100,6 +101,14 @@ public enum AlgorithmType {
         return value;
     }
 
+    private static final Map<String, AlgorithmType> BY_VALUE = new HashMap<String, AlgorithmType>();
+
+    static {
+        for (AlgorithmType b : AlgorithmType.values()) {
+            BY_VALUE.put(b.value, b);
+        }
+    }
+
     /**
      * From value algorithm type.
      *
@@ -107,9 +116,11 @@ public enum AlgorithmType {
      * @return the algorithm type
      */
     public static AlgorithmType fromValue(String v) {
-        return Arrays.stream(values()).
-                filter(s -> s.value.equals(v)).
-                findFirst().orElseThrow(() -> new IllegalArgumentException(v));
+        AlgorithmType b = BY_VALUE.get(v);
+        if (b == null) {
+            throw new IllegalArgumentException(v);
+        }
+        return b;
     }
 
 }
@@ -3,7 +3,8 @@ package com.adyen.model.nexo;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
-import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
 
 /**
@@ -61,6 +62,14 @@ public enum AlignmentType {
         return value;
     }
 
+    private static final Map<String, AlignmentType> BY_VALUE = new HashMap<String, AlignmentType>();
+
+    static {
+        for (AlignmentType b : AlignmentType.values()) {
+            BY_VALUE.put(b.value, b);
+        }
+    }
+
     /**
      * From value alignment type.
      *
@@ -68,9 +77,11 @@ public enum AlignmentType {
      * @return the alignment type
      */
     public static AlignmentType fromValue(String v) {
-        return Arrays.stream(values()).
-                filter(s -> s.value.equals(v)).
-                findFirst().orElseThrow(() -> new IllegalArgumentException(v));
+        AlignmentType b = BY_VALUE.get(v);
+        if (b == null) {
+            throw new IllegalArgumentException(v);
+        }
+        return b;
     }
 
 }
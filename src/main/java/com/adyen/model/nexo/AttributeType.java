@@ -3,7 +3,8 @@ package com.adyen.model.nexo;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
-import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
 
 /**
@@ -72,6 +73,14 @@ public enum AttributeType {
         return value;
     }
 
+    private static final Map<String, AttributeType> BY_VALUE = new HashMap<String, AttributeType>();
+
+    static {
+        for (AttributeType b : AttributeType.values()) {
+            BY_VALUE.put(b.value, b);
+        }
+    }
+
     /**
      * From value attribute type.
      *
@@ -79,9 +88,11 @@ public enum AttributeType {
      * @return the attribute type
      */
     public static AttributeType fromValue(String v) {
-        return Arrays.stream(values()).
-                filter(s -> s.value.equals(v)).
-                findFirst().orElseThrow(() -> new IllegalArgumentException(v));
+        AttributeType b = BY_VALUE.get(v);
+        if (b == null) {
+            throw new IllegalArgumentException(v);
+        }
+        return b;
     }
 
 }
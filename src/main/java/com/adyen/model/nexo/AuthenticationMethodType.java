@@ -5,7 +5,8 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
-import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
 
 /**
@@ -128,6 +129,18 @@ public enum AuthenticationMethodType {
         return value;
     }
 
+    private static final Map<String, AuthenticationMethodType> BY_VALUE = new HashMap<String, AuthenticationMethodType>();
+
+    static {
+        for (AuthenticationMethodType b : AuthenticationMethodType.values()) {
+            for (String v : b.value) {
+                if (!BY_VALUE.containsKey(v)) {
+                    BY_VALUE.put(v, b);
+                }
+            }
+        }
+    }
+
     /**
      * From value authentication method type.
      *
@@ -135,9 +148,11 @@ public enum AuthenticationMethodType {
      * @return the authentication method type
      */
     public static AuthenticationMethodType fromValue(String v) {
-        return Arrays.stream(values()).
-                filter(s -> Arrays.asList(s.value).contains(v)).
-                findFirst().orElseThrow(() -> new IllegalArgumentException(v));
+        AuthenticationMethodType b = BY_VALUE.get(v);
+        if (b == null) {
+            throw new IllegalArgumentException(v);
+        }
+        return b;
     }
 
 }
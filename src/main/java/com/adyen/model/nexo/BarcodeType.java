@@ -3,7 +3,8 @@ package com.adyen.model.nexo;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
-import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
 
 /**
@@ -78,6 +79,14 @@ public enum BarcodeType {
         return value;
     }
 
+    private static final Map<String, BarcodeType> BY_VALUE = new HashMap<String, BarcodeType>();
+
+    static {
+        for (BarcodeType b : BarcodeType.values()) {
+            BY_VALUE.put(b.value, b);
+        }
+    }
+
     /**
      * From value barcode type.
      *
@@ -85,9 +94,11 @@ public enum BarcodeType {
      * @return the barcode type
      */
     public static BarcodeType fromValue(String v) {
-        return Arrays.stream(values()).
-                filter(s -> s.value.equals(v)).
-                findFirst().orElseThrow(() -> new IllegalArgumentException(v));
+        BarcodeType b = BY_VALUE.get(v);
+        if (b == null) {
+            throw new IllegalArgumentException(v);
+        }
+        return b;
     }
 
 }
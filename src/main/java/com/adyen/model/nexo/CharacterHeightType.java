@@ -3,7 +3,8 @@ package com.adyen.model.nexo;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
-import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
 
 /**
@@ -55,6 +56,14 @@ public enum CharacterHeightType {
         return value;
     }
 
+    private static final Map<String, CharacterHeightType> BY_VALUE = new HashMap<String, CharacterHeightType>();
+
+    static {
+        for (CharacterHeightType b : CharacterHeightType.values()) {
+            BY_VALUE.put(b.value, b);
+        }
+    }
+
     /**
      * From value character height type.
      *
@@ -62,9 +71,11 @@ public enum CharacterHeightType {
      * @return the character height type
      */
     public static CharacterHeightType fromValue(String v) {
-        return Arrays.stream(values()).
-                filter(s -> s.value.equals(v)).
-                findFirst().orElseThrow(() -> new IllegalArgumentException(v));
+        CharacterHeightType b = BY_VALUE.get(v);
+        if (b == null) {
+            throw new IllegalArgumentException(v);
+        }
+        return b;
     }
 
 }
@@ -3,7 +3,8 @@ package com.adyen.model.nexo;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
-import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
 
 /**
@@ -49,6 +50,14 @@ public enum CharacterWidthType {
         return value;
     }
 
+    private static final Map<String, CharacterWidthType> BY_VALUE = new HashMap<String, CharacterWidthType>();
+
+    static {
+        for (CharacterWidthType b : CharacterWidthType.values()) {
+            BY_VALUE.put(b.value, b);
+        }
+    }
+
     /**
      * From value character width type.
      *
@@ -56,9 +65,11 @@ public enum CharacterWidthType {
      * @return the character width type
      */
     public static CharacterWidthType fromValue(String v) {
-        return Arrays.stream(values()).
-                filter(s -> s.value.equals(v)).
-                findFirst().orElseThrow(() -> new IllegalArgumentException(v));
+        CharacterWidthType b = BY_VALUE.get(v);
+        if (b == null) {
+            throw new IllegalArgumentException(v);
+        }
+        return b;
     }
 
 }
@@ -3,7 +3,8 @@ package com.adyen.model.nexo;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
-import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
 
 /**
@@ -49,6 +50,14 @@ public enum CheckTypeCodeType {
         return value;
     }
 
+    private static final Map<String, CheckTypeCodeType> BY_VALUE = new HashMap<String, CheckTypeCodeType>();
+
+    static {
+        for (CheckTypeCodeType b : CheckTypeCodeType.values()) {
+            BY_VALUE.put(b.value, b);
+        }
+    }
+
     /**
      * From value check type code type.
      *
@@ -56,9 +65,11 @@ public enum CheckTypeCodeType {
      * @return the check type code type
      */
     public static CheckTypeCodeType fromValue(String v) {
-        return Arrays.stream(values()).
-                filter(s -> s.value.equals(v)).
-                findFirst().orElseThrow(() -> new IllegalArgumentException(v));
+        CheckTypeCodeType b = BY_VALUE.get(v);
+        if (b == null) {
+            throw new IllegalArgumentException(v);
+        }
+        return b;
     }
 
 }
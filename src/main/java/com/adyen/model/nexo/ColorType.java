@@ -3,7 +3,8 @@ package com.adyen.model.nexo;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
-import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
 
 /**
@@ -85,6 +86,14 @@ public enum ColorType {
         return value;
     }
 
+    private static final Map<String, ColorType> BY_VALUE = new HashMap<String, ColorType>();
+
+    static {
+        for (ColorType b : ColorType.values()) {
+            BY_VALUE.put(b.value, b);
+        }
+    }
+
     /**
      * From value color type.
      *
@@ -92,9 +101,11 @@ public enum ColorType {
      * @return the color type
      */
     public static ColorType fromValue(String v) {
-        return Arrays.stream(values()).
-                filter(s -> s.value.equals(v)).
-                findFirst().orElseThrow(() -> new IllegalArgumentException(v));
+        ColorType b = BY_VALUE.get(v);
+        if (b == null) {
+            throw new IllegalArgumentException(v);
+        }
+        return b;
     }
 
 }
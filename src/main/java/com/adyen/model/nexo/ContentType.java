@@ -3,7 +3,8 @@ package com.adyen.model.nexo;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
-import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
 
 /**
@@ -79,6 +80,14 @@ public enum ContentType {
         return value;
     }
 
+    private static final Map<String, ContentType> BY_VALUE = new HashMap<String, ContentType>();
+
+    static {
+        for (ContentType b : ContentType.values()) {
+            BY_VALUE.put(b.value, b);
+        }
+    }
+
     /**
      * From value content type.
      *
@@ -86,9 +95,11 @@ public enum ContentType {
      * @return the content type
      */
     public static ContentType fromValue(String v) {
-        return Arrays.stream(values()).
-                filter(s -> s.value.equals(v)).
-                findFirst().orElseThrow(() -> new IllegalArgumentException(v));
+        ContentType b = BY_VALUE.get(v);
+        if (b == null) {
+            throw new IllegalArgumentException(v);
+        }
+        return b;
     }
 
 }
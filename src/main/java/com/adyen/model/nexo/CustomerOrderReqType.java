@@ -5,7 +5,8 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
-import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
 
 /**
@@ -63,6 +64,14 @@ public enum CustomerOrderReqType {
         return value;
     }
 
+    private static final Map<String, CustomerOrderReqType> BY_VALUE = new HashMap<String, CustomerOrderReqType>();
+
+    static {
+        for (CustomerOrderReqType b : CustomerOrderReqType.values()) {
+            BY_VALUE.put(b.value, b);
+        }
+    }
+
     /**
      * From value customer order req type.
      *
@@ -70,9 +79,11 @@ public enum CustomerOrderReqType {
      * @return the customer order req type
      */
     public static CustomerOrderReqType fromValue(String v) {
-        return Arrays.stream(values()).
-                filter(s -> s.value.equals(v)).
-                findFirst().orElseThrow(() -> new IllegalArgumentException(v));
+        CustomerOrderReqType b = BY_VALUE.get(v);
+        if (b == null) {
+            throw new IllegalArgumentException(v);
+        }
+        return b;
     }
 
 }
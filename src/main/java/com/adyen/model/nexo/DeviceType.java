@@ -5,7 +5,8 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
-import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
 
 /**
@@ -71,6 +72,14 @@ public enum DeviceType {
         return value;
     }
 
+    private static final Map<String, DeviceType> BY_VALUE = new HashMap<String, DeviceType>();
+
+    static {
+        for (DeviceType b : DeviceType.values()) {
+            BY_VALUE.put(b.value, b);
+        }
+    }
+
     /**
      * From value device type.
      *
@@ -78,9 +87,11 @@ public enum DeviceType {
      * @return the device type
      */
     public static DeviceType fromValue(String v) {
-        return Arrays.stream(values()).
-                filter(s -> s.value.equals(v)).
-                findFirst().orElseThrow(() -> new IllegalArgumentException(v));
+        DeviceType b = BY_VALUE.get(v);
+        if (b == null) {
+            throw new IllegalArgumentException(v);
+        }
+        return b;
     }
 
 }
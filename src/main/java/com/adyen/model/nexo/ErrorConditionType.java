@@ -5,7 +5,8 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
-import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
 
 /**
@@ -175,6 +176,14 @@ public enum ErrorConditionType {
         return value;
     }
 
+    private static final Map<String, ErrorConditionType> BY_VALUE = new HashMap<String, ErrorConditionType>();
+
+    static {
+        for (ErrorConditionType b : ErrorConditionType.values()) {
+            BY_VALUE.put(b.value, b);
+        }
+    }
+
     /**
      * From value error condition type.
      *
@@ -182,9 +191,11 @@ public enum ErrorConditionType {
      * @return the error condition type
      */
     public static ErrorConditionType fromValue(String v) {
-        return Arrays.stream(values()).
-                filter(s -> s.value.equals(v)).
-                findFirst().orElseThrow(() -> new IllegalArgumentException(v));
+        ErrorConditionType b = BY_VALUE.get(v);
+        if (b == null) {
+            throw new IllegalArgumentException(v);
+        }
+        return b;
     }
 
 }
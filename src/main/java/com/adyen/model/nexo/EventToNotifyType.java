@@ -5,7 +5,8 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
-import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
 
 /**
@@ -167,6 +168,14 @@ public enum EventToNotifyType {
         return value;
     }
 
+    private static final Map<String, EventToNotifyType> BY_VALUE = new HashMap<String, EventToNotifyType>();
+
+    static {
+        for (EventToNotifyType b : EventToNotifyType.values()) {
+            BY_VALUE.put(b.value, b);
+        }
+    }
+
     /**
      * From value event to notify type.
      *
@@ -174,9 +183,11 @@ public enum EventToNotifyType {
      * @return the event to notify type
      */
     public static EventToNotifyType fromValue(String v) {
-        return Arrays.stream(values()).
-                filter(s -> s.value.equals(v)).
-                findFirst().orElseThrow(() -> new IllegalArgumentException(v));
+        EventToNotifyType b = BY_VALUE.get(v);
+        if (b == null) {
+            throw new IllegalArgumentException(v);
+        }
+        return b;
     }
 
 }
@@ -5,7 +5,8 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
-import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
 
 /**
@@ -123,6 +124,14 @@ public enum ForceEntryModeType {
         return value;
     }
 
+    private static final Map<String, ForceEntryModeType> BY_VALUE = new HashMap<String, ForceEntryModeType>();
+
+    static {
+        for (ForceEntryModeType b : ForceEntryModeType.values()) {
+            BY_VALUE.put(b.value, b);
+        }
+    }
+
     /**
      * From value force entry mode type.
      *
@@ -130,9 +139,11 @@ public enum ForceEntryModeType {
      * @return the force entry mode type
      */
     public static ForceEntryModeType fromValue(String v) {
-        return Arrays.stream(values()).
-                filter(s -> s.value.equals(v)).
-                findFirst().orElseThrow(() -> new IllegalArgumentException(v));
+        ForceEntryModeType b = BY_VALUE.get(v);
+        if (b == null) {
+            throw new IllegalArgumentException(v);
+        }
+        return b;
     }
 
 }
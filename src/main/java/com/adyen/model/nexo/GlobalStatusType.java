@@ -5,7 +5,8 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
-import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
 
 /**
@@ -69,6 +70,14 @@ public enum GlobalStatusType {
         return value;
     }
 
+    private static final Map<String, GlobalStatusType> BY_VALUE = new HashMap<String, GlobalStatusType>();
+
+    static {
+        for (GlobalStatusType b : GlobalStatusType.values()) {
+            BY_VALUE.put(b.value, b);
+        }
+    }
+
     /**
      * From value global status type.
      *
@@ -76,9 +85,11 @@ public enum GlobalStatusType {
      * @return the global status type
      */
     public static GlobalStatusType fromValue(String v) {
-        return Arrays.stream(values()).
-                filter(s -> s.value.equals(v)).
-                findFirst().orElseThrow(() -> new IllegalArgumentException(v));
+        GlobalStatusType b = BY_VALUE.get(v);
+        if (b == null) {
+            throw new IllegalArgumentException(v);
+        }
+        return b;
     }
 
 }
@@ -5,7 +5,8 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
-import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
 
 /**
@@ -71,6 +72,14 @@ public enum IdentificationSupportType {
         return value;
     }
 
+    private static final Map<String, IdentificationSupportType> BY_VALUE = new HashMap<String, IdentificationSupportType>();
+
+    static {
+        for (IdentificationSupportType b : IdentificationSupportType.values()) {
+            BY_VALUE.put(b.value, b);
+        }
+    }
+
     /**
      * From value identification support type.
      *
@@ -78,9 +87,11 @@ public enum IdentificationSupportType {
      * @return the identification support type
      */
     public static IdentificationSupportType fromValue(String v) {
-        return Arrays.stream(values()).
-                filter(s -> s.value.equals(v)).
-                findFirst().orElseThrow(() -> new IllegalArgumentException(v));
+        IdentificationSupportType b = BY_VALUE.get(v);
+        if (b == null) {
+            throw new IllegalArgumentException(v);
+        }
+        return b;
     }
 
 }
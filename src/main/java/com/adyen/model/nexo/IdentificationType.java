@@ -5,7 +5,8 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
-import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
 
 /**
@@ -77,6 +78,14 @@ public enum IdentificationType {
         return value;
     }
 
+    private static final Map<String, IdentificationType> BY_VALUE = new HashMap<String, IdentificationType>();
+
+    static {
+        for (IdentificationType b : IdentificationType.values()) {
+            BY_VALUE.put(b.value, b);
+        }
+    }
+
     /**
      * From value identification type.
      *
@@ -84,9 +93,11 @@ public enum IdentificationType {
      * @return the identification type
      */
     public static IdentificationType fromValue(String v) {
-        return Arrays.stream(values()).
-                filter(s -> s.value.equals(v)).
-                findFirst().orElseThrow(() -> new IllegalArgumentException(v));
+        IdentificationType b = BY_VALUE.get(v);
+        if (b == null) {
+            throw new IllegalArgumentException(v);
+        }
+        return b;
     }
 
 }
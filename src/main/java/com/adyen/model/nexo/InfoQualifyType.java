@@ -5,7 +5,8 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
-import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
 
 /**
@@ -119,6 +120,14 @@ public enum InfoQualifyType {
         return value;
     }
 
+    private static final Map<String, InfoQualifyType> BY_VALUE = new HashMap<String, InfoQualifyType>();
+
+    static {
+        for (InfoQualifyType b : InfoQualifyType.values()) {
+            BY_VALUE.put(b.value, b);
+        }
+    }
+
     /**
      * From value info qualify type.
      *
@@ -126,9 +135,11 @@ public enum InfoQualifyType {
      * @return the info qualify type
      */
     public static InfoQualifyType fromValue(String v) {
-        return Arrays.stream(values()).
-                filter(s -> s.value.equals(v)).
-                findFirst().orElseThrow(() -> new IllegalArgumentException(v));
+        InfoQualifyType b = BY_VALUE.get(v);
+        if (b == null) {
+            throw new IllegalArgumentException(v);
+        }
+        return b;
     }
 
 }
@@ -5,7 +5,8 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
-import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
 
 /**
@@ -111,6 +112,14 @@ public enum InputCommandType {
         return value;
     }
 
+    private static final Map<String, InputCommandType> BY_VALUE = new HashMap<String, InputCommandType>();
+
+    static {
+        for (InputCommandType b : InputCommandType.values()) {
+            BY_VALUE.put(b.value, b);
+        }
+    }
+
     /**
      * From value input command type.
      *
@@ -118,9 +127,11 @@ public enum InputCommandType {
      * @return the input command type
      */
     public static InputCommandType fromValue(String v) {
-        return Arrays.stream(values()).
-                filter(s -> s.value.equals(v)).
-                findFirst().orElseThrow(() -> new IllegalArgumentException(v));
+        InputCommandType b = BY_VALUE.get(v);
+        if (b == null) {
+            throw new IllegalArgumentException(v);
+        }
+        return b;
     }
 
 }
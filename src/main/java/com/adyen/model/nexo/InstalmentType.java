@@ -5,7 +5,8 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
-import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
 
 /**
@@ -63,6 +64,14 @@ public enum InstalmentType {
         return value;
     }
 
+    private static final Map<String, InstalmentType> BY_VALUE = new HashMap<String, InstalmentType>();
+
+    static {
+        for (InstalmentType b : InstalmentType.values()) {
+            BY_VALUE.put(b.value, b);
+        }
+    }
+
     /**
      * From value instalment type.
      *
@@ -70,9 +79,11 @@ public enum InstalmentType {
      * @return the instalment type
      */
     public static InstalmentType fromValue(String v) {
-        return Arrays.stream(values()).
-                filter(s -> s.value.equals(v)).
-                findFirst().orElseThrow(() -> new IllegalArgumentException(v));
+        InstalmentType b = BY_VALUE.get(v);
+        if (b == null) {
+            throw new IllegalArgumentException(v);
+        }
+        return b;
     }
 
 }
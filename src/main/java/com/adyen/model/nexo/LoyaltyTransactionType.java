@@ -5,7 +5,8 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
-import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
 
 /**
@@ -87,6 +88,14 @@ public enum LoyaltyTransactionType {
         return value;
     }
 
+    private static final Map<String, LoyaltyTransactionType> BY_VALUE = new HashMap<String, LoyaltyTransactionType>();
+
+    static {
+        for (LoyaltyTransactionType b : LoyaltyTransactionType.values()) {
+            BY_VALUE.put(b.value, b);
+        }
+    }
+
     /**
      * From value loyalty transaction type.
      *
@@ -94,9 +103,11 @@ public enum LoyaltyTransactionType {
      * @return the loyalty transaction type
      */
     public static LoyaltyTransactionType fromValue(String v) {
-        return Arrays.stream(values()).
-                filter(s -> s.value.equals(v)).
-                findFirst().orElseThrow(() -> new IllegalArgumentException(v));
+        LoyaltyTransactionType b = BY_VALUE.get(v);
+        if (b == null) {
+            throw new IllegalArgumentException(v);
+        }
+        return b;
     }
 
 }
@@ -5,7 +5,8 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
-import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
 
 /**
@@ -55,6 +56,14 @@ public enum LoyaltyUnitType {
         return value;
     }
 
+    private static final Map<String, LoyaltyUnitType> BY_VALUE = new HashMap<String, LoyaltyUnitType>();
+
+    static {
+        for (LoyaltyUnitType b : LoyaltyUnitType.values()) {
+            BY_VALUE.put(b.value, b);
+        }
+    }
+
     /**
      * From value loyalty unit type.
      *
@@ -62,9 +71,11 @@ public enum LoyaltyUnitType {
      * @return the loyalty unit type
      */
     public static LoyaltyUnitType fromValue(String v) {
-        return Arrays.stream(values()).
-                filter(s -> s.value.equals(v)).
-                findFirst().orElseThrow(() -> new IllegalArgumentException(v));
+        LoyaltyUnitType b = BY_VALUE.get(v);
+        if (b == null) {
+            throw new IllegalArgumentException(v);
+        }
+        return b;
     }
 
 }
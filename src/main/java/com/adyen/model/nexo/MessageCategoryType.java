@@ -5,7 +5,8 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
-import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
 
 /**
@@ -253,6 +254,14 @@ public enum MessageCategoryType {
         return value;
     }
 
+    private static final Map<String, MessageCategoryType> BY_VALUE = new HashMap<String, MessageCategoryType>();
+
+    static {
+        for (MessageCategoryType b : MessageCategoryType.values()) {
+            BY_VALUE.put(b.value, b);
+        }
+    }
+
     /**
      * From value message category type.
      *
@@ -260,9 +269,11 @@ public enum MessageCategoryType {
      * @return the message category type
      */
     public static MessageCategoryType fromValue(String v) {
-        return Arrays.stream(values()).
-                filter(s -> s.value.equals(v)).
-                findFirst().orElseThrow(() -> new IllegalArgumentException(v));
+        MessageCategoryType b = BY_VALUE.get(v);
+        if (b == null) {
+            throw new IllegalArgumentException(v);
+        }
+        return b;
     }
 
 }
@@ -5,7 +5,8 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
-import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
 
 /**
@@ -63,6 +64,14 @@ public enum MessageClassType {
         return value;
     }
 
+    private static final Map<String, MessageClassType> BY_VALUE = new HashMap<String, MessageClassType>();
+
+    static {
+        for (MessageClassType b : MessageClassType.values()) {
+            BY_VALUE.put(b.value, b);
+        }
+    }
+
     /**
      * From value message class type.
      *
@@ -70,9 +79,11 @@ public enum MessageClassType {
      * @return the message class type
      */
     public static MessageClassType fromValue(String v) {
-        return Arrays.stream(values()).
-                filter(s -> s.value.equals(v)).
-                findFirst().orElseThrow(() -> new IllegalArgumentException(v));
+        MessageClassType b = BY_VALUE.get(v);
+        if (b == null) {
+            throw new IllegalArgumentException(v);
+        }
+        return b;
     }
 
 }
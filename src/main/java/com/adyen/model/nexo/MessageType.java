@@ -5,7 +5,8 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
-import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
 
 /**
@@ -63,6 +64,14 @@ public enum MessageType {
         return value;
     }
 
+    private static final Map<String, MessageType> BY_VALUE = new HashMap<String, MessageType>();
+
+    static {
+        for (MessageType b : MessageType.values()) {
+            BY_VALUE.put(b.value, b);
+        }
+    }
+
     /**
      * From value message type.
      *
@@ -70,9 +79,11 @@ public enum MessageType {
      * @return the message type
      */
     public static MessageType fromValue(String v) {
-        return Arrays.stream(values()).
-                filter(s -> s.value.equals(v)).
-                findFirst().orElseThrow(() -> new IllegalArgumentException(v));
+        MessageType b = BY_VALUE.get(v);
+        if (b == null) {
+            throw new IllegalArgumentException(v);
+        }
+        return b;
     }
 
 }
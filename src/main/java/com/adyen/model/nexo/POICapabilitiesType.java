@@ -5,7 +5,8 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
-import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
 
 /**
@@ -141,6 +142,14 @@ public enum POICapabilitiesType {
         return value;
     }
 
+    private static final Map<String, POICapabilitiesType> BY_VALUE = new HashMap<String, POICapabilitiesType>();
+
+    static {
+        for (POICapabilitiesType b : POICapabilitiesType.values()) {
+            BY_VALUE.put(b.value, b);
+        }
+    }
+
     /**
      * From value poi capabilities type.
      *
@@ -148,9 +157,11 @@ public enum POICapabilitiesType {
      * @return the poi capabilities type
      */
     public static POICapabilitiesType fromValue(String v) {
-        return Arrays.stream(values()).
-                filter(s -> s.value.equals(v)).
-                findFirst().orElseThrow(() -> new IllegalArgumentException(v));
+        POICapabilitiesType b = BY_VALUE.get(v);
+        if (b == null) {
+            throw new IllegalArgumentException(v);
+        }
+        return b;
     }
 
 }
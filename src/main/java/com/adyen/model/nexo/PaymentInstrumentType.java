@@ -5,7 +5,8 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
-import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
 
 /**
@@ -79,6 +80,14 @@ public enum PaymentInstrumentType {
         return value;
     }
 
+    private static final Map<String, PaymentInstrumentType> BY_VALUE = new HashMap<String, PaymentInstrumentType>();
+
+    static {
+        for (PaymentInstrumentType b : PaymentInstrumentType.values()) {
+            BY_VALUE.put(b.value, b);
+        }
+    }
+
     /**
      * From value payment instrument type.
      *
@@ -86,9 +95,11 @@ public enum PaymentInstrumentType {
      * @return the payment instrument type
      */
     public static PaymentInstrumentType fromValue(String v) {
-        return Arrays.stream(values()).
-                filter(s -> s.value.equals(v)).
-                findFirst().orElseThrow(() -> new IllegalArgumentException(v));
+        PaymentInstrumentType b = BY_VALUE.get(v);
+        if (b == null) {
+            throw new IllegalArgumentException(v);
+        }
+        return b;
     }
 
 }
@@ -5,7 +5,8 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
-import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
 
 /**
@@ -135,6 +136,14 @@ public enum PaymentType {
         return value;
     }
 
+    private static final Map<String, PaymentType> BY_VALUE = new HashMap<String, PaymentType>();
+
+    static {
+        for (PaymentType b : PaymentType.values()) {
+            BY_VALUE.put(b.value, b);
+        }
+    }
+
     /**
      * From value payment type.
      *
@@ -142,9 +151,11 @@ public enum PaymentType {
      * @return the payment type
      */
     public static PaymentType fromValue(String v) {
-        return Arrays.stream(values()).
-                filter(s -> s.value.equals(v)).
-                findFirst().orElseThrow(() -> new IllegalArgumentException(v));
+        PaymentType b = BY_VALUE.get(v);
+        if (b == null) {
+            throw new IllegalArgumentException(v);
+        }
+        return b;
     }
 
 }
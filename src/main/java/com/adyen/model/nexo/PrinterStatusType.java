@@ -5,7 +5,8 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
-import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
 
 /**
@@ -77,6 +78,14 @@ public enum PrinterStatusType {
         return value;
     }
 
+    private static final Map<String, PrinterStatusType> BY_VALUE = new HashMap<String, PrinterStatusType>();
+
+    static {
+        for (PrinterStatusType b : PrinterStatusType.values()) {
+            BY_VALUE.put(b.value, b);
+        }
+    }
+
     /**
      * From value printer status type.
      *
@@ -84,9 +93,11 @@ public enum PrinterStatusType {
      * @return the printer status type
      */
     public static PrinterStatusType fromValue(String v) {
-        return Arrays.stream(values()).
-                filter(s -> s.value.equals(v)).
-                findFirst().orElseThrow(() -> new IllegalArgumentException(v));
+        PrinterStatusType b = BY_VALUE.get(v);
+        if (b == null) {
+            throw new IllegalArgumentException(v);
+        }
+        return b;
     }
 
 }
@@ -5,7 +5,8 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
-import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
 
 /**
@@ -71,6 +72,14 @@ public enum ReconciliationType {
         return value;
     }
 
+    private static final Map<String, ReconciliationType> BY_VALUE = new HashMap<String, ReconciliationType>();
+
+    static {
+        for (ReconciliationType b : ReconciliationType.values()) {
+            BY_VALUE.put(b.value, b);
+        }
+    }
+
     /**
      * From value reconciliation type.
      *
@@ -78,9 +87,11 @@ public enum ReconciliationType {
      * @return the reconciliation type
      */
     public static ReconciliationType fromValue(String v) {
-        return Arrays.stream(values()).
-                filter(s -> s.value.equals(v)).
-                findFirst().orElseThrow(() -> new IllegalArgumentException(v));
+        ReconciliationType b = BY_VALUE.get(v);
+        if (b == null) {
+            throw new IllegalArgumentException(v);
+        }
+        return b;
     }
 
 }
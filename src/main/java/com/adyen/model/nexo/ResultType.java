@@ -5,7 +5,8 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
-import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
 
 /**
@@ -63,6 +64,14 @@ public enum ResultType {
         return value;
     }
 
+    private static final Map<String, ResultType> BY_VALUE = new HashMap<String, ResultType>();
+
+    static {
+        for (ResultType b : ResultType.values()) {
+            BY_VALUE.put(b.value, b);
+        }
+    }
+
     /**
      * From value result type.
      *
@@ -70,9 +79,11 @@ public enum ResultType {
      * @return the result type
      */
     public static ResultType fromValue(String v) {
-        return Arrays.stream(values()).
-                filter(s -> s.value.equals(v)).
-                findFirst().orElseThrow(() -> new IllegalArgumentException(v));
+        ResultType b = BY_VALUE.get(v);
+        if (b == null) {
+            throw new IllegalArgumentException(v);
+        }
+        return b;
     }
 
 }
@@ -5,7 +5,8 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
-import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
 
 /**
@@ -71,6 +72,14 @@ public enum ReversalReasonType {
         return value;
     }
 
+    private static final Map<String, ReversalReasonType> BY_VALUE = new HashMap<String, ReversalReasonType>();
+
+    static {
+        for (ReversalReasonType b : ReversalReasonType.values()) {
+            BY_VALUE.put(b.value, b);
+        }
+    }
+
     /**
      * From value reversal reason type.
      *
@@ -78,9 +87,11 @@ public enum ReversalReasonType {
      * @return the reversal reason type
      */
     public static ReversalReasonType fromValue(String v) {
-        return Arrays.stream(values()).
-                filter(s -> s.value.equals(v)).
-                findFirst().orElseThrow(() -> new IllegalArgumentException(v));
+        ReversalReasonType b = BY_VALUE.get(v);
+        if (b == null) {
+            throw new IllegalArgumentException(v);
+        }
+        return b;
     }
 
 }
@@ -5,7 +5,8 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
-import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
 
 /**
@@ -157,6 +158,14 @@ public enum SaleCapabilitiesType {
         return value;
     }
 
+    private static final Map<String, SaleCapabilitiesType> BY_VALUE = new HashMap<String, SaleCapabilitiesType>();
+
+    static {
+        for (SaleCapabilitiesType b : SaleCapabilitiesType.values()) {
+            BY_VALUE.put(b.value, b);
+        }
+    }
+
     /**
      * From value sale capabilities type.
      *
@@ -164,9 +173,11 @@ public enum SaleCapabilitiesType {
      * @return the sale capabilities type
      */
     public static SaleCapabilitiesType fromValue(String v) {
-        return Arrays.stream(values()).
-                filter(s -> s.value.equals(v)).
-                findFirst().orElseThrow(() -> new IllegalArgumentException(v));
+        SaleCapabilitiesType b = BY_VALUE.get(v);
+        if (b == null) {
+            throw new IllegalArgumentException(v);
+        }
+        return b;
     }
 
 }
@@ -5,7 +5,8 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
-import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
 
 /**
@@ -117,6 +118,14 @@ public enum ServiceProfilesType {
         return value;
     }
 
+    private static final Map<String, ServiceProfilesType> BY_VALUE = new HashMap<String, ServiceProfilesType>();
+
+    static {
+        for (ServiceProfilesType b : ServiceProfilesType.values()) {
+            BY_VALUE.put(b.value, b);
+        }
+    }
+
     /**
      * From value service profiles type.
      *
@@ -124,9 +133,11 @@ public enum ServiceProfilesType {
      * @return the service profiles type
      */
     public static ServiceProfilesType fromValue(String v) {
-        return Arrays.stream(values()).
-                filter(s -> s.value.equals(v)).
-                findFirst().orElseThrow(() -> new IllegalArgumentException(v));
+        ServiceProfilesType b = BY_VALUE.get(v);
+        if (b == null) {
+            throw new IllegalArgumentException(v);
+        }
+        return b;
     }
 
 }
@@ -5,7 +5,8 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
-import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
 
 /**
@@ -63,6 +64,14 @@ public enum ServicesEnabledType {
         return value;
     }
 
+    private static final Map<String, ServicesEnabledType> BY_VALUE = new HashMap<String, ServicesEnabledType>();
+
+    static {
+        for (ServicesEnabledType b : ServicesEnabledType.values()) {
+            BY_VALUE.put(b.value, b);
+        }
+    }
+
     /**
      * From value services enabled type.
      *
@@ -70,9 +79,11 @@ public enum ServicesEnabledType {
      * @return the services enabled type
      */
     public static ServicesEnabledType fromValue(String v) {
-        return Arrays.stream(values()).
-                filter(s -> s.value.equals(v)).
-                findFirst().orElseThrow(() -> new IllegalArgumentException(v));
+        ServicesEnabledType b = BY_VALUE.get(v);
+        if (b == null) {
+            throw new IllegalArgumentException(v);
+        }
+        return b;
     }
 
 }
@@ -5,7 +5,8 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
-import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
 
 /**
@@ -63,6 +64,14 @@ public enum StoredValueAccountType {
         return value;
     }
 
+    private static final Map<String, StoredValueAccountType> BY_VALUE = new HashMap<String, StoredValueAccountType>();
+
+    static {
+        for (StoredValueAccountType b : StoredValueAccountType.values()) {
+            BY_VALUE.put(b.value, b);
+        }
+    }
+
     /**
      * From value stored value account type.
      *
@@ -70,9 +79,11 @@ public enum StoredValueAccountType {
      * @return the stored value account type
      */
     public static StoredValueAccountType fromValue(String v) {
-        return Arrays.stream(values()).
-                filter(s -> s.value.equals(v)).
-                findFirst().orElseThrow(() -> new IllegalArgumentException(v));
+        StoredValueAccountType b = BY_VALUE.get(v);
+        if (b == null) {
+            throw new IllegalArgumentException(v);
+        }
+        return b;
     }
 
 }
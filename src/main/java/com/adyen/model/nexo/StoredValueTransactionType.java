@@ -5,7 +5,8 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
-import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
 
 /**
@@ -87,6 +88,14 @@ public enum StoredValueTransactionType {
         return value;
     }
 
+    private static final Map<String, StoredValueTransactionType> BY_VALUE = new HashMap<String, StoredValueTransactionType>();
+
+    static {
+        for (StoredValueTransactionType b : StoredValueTransactionType.values()) {
+            BY_VALUE.put(b.value, b);
+        }
+    }
+
     /**
      * From value stored value transaction type.
      *
@@ -94,9 +103,11 @@ public enum StoredValueTransactionType {
      * @return the stored value transaction type
      */
     public static StoredValueTransactionType fromValue(String v) {
-        return Arrays.stream(values()).
-                filter(s -> s.value.equals(v)).
-                findFirst().orElseThrow(() -> new IllegalArgumentException(v));
+        StoredValueTransactionType b = BY_VALUE.get(v);
+        if (b == null) {
+            throw new IllegalArgumentException(v);
+        }
+        return b;
     }
 
 }
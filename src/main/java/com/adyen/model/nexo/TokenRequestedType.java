@@ -5,7 +5,8 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
-import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
 
 /**
@@ -55,6 +56,14 @@ public enum TokenRequestedType {
         return value;
     }
 
+    private static final Map<String, TokenRequestedType> BY_VALUE = new HashMap<String, TokenRequestedType>();
+
+    static {
+        for (TokenRequestedType b : TokenRequestedType.values()) {
+            BY_VALUE.put(b.value, b);
+        }
+    }
+
     /**
      * From value token requested type.
      *
@@ -62,9 +71,11 @@ public enum TokenRequestedType {
      * @return the token requested type
      */
     public static TokenRequestedType fromValue(String v) {
-        return Arrays.stream(values()).
-                filter(s -> s.value.equals(v)).
-                findFirst().orElseThrow(() -> new IllegalArgumentException(v));
+        TokenRequestedType b = BY_VALUE.get(v);
+        if (b == null) {
+            throw new IllegalArgumentException(v);
+        }
+        return b;
     }
 
 }
@@ -5,7 +5,8 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
-import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
 
 /**
@@ -77,6 +78,14 @@ public enum TotalDetailsType {
         return value;
     }
 
+    private static final Map<String, TotalDetailsType> BY_VALUE = new HashMap<String, TotalDetailsType>();
+
+    static {
+        for (TotalDetailsType b : TotalDetailsType.values()) {
+            BY_VALUE.put(b.value, b);
+        }
+    }
+
     /**
      * From value total details type.
      *
@@ -84,9 +93,11 @@ public enum TotalDetailsType {
      * @return the total details type
      */
     public static TotalDetailsType fromValue(String v) {
-        return Arrays.stream(values()).
-                filter(s -> s.value.equals(v)).
-                findFirst().orElseThrow(() -> new IllegalArgumentException(v));
+        TotalDetailsType b = BY_VALUE.get(v);
+        if (b == null) {
+            throw new IllegalArgumentException(v);
+        }
+        return b;
     }
 
 }
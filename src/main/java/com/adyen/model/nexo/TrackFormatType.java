@@ -5,7 +5,8 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
-import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
 
 /**
@@ -83,6 +84,14 @@ public enum TrackFormatType {
         return value;
     }
 
+    private static final Map<String, TrackFormatType> BY_VALUE = new HashMap<String, TrackFormatType>();
+
+    static {
+        for (TrackFormatType b : TrackFormatType.values()) {
+            BY_VALUE.put(b.value, b);
+        }
+    }
+
     /**
      * From value track format type.
      *
@@ -90,9 +99,11 @@ public enum TrackFormatType {
      * @return the track format type
      */
     public static TrackFormatType fromValue(String v) {
-        return Arrays.stream(values()).
-                filter(s -> s.value.equals(v)).
-                findFirst().orElseThrow(() -> new IllegalArgumentException(v));
+        TrackFormatType b = BY_VALUE.get(v);
+        if (b == null) {
+            throw new IllegalArgumentException(v);
+        }
+        return b;
     }
 
 }
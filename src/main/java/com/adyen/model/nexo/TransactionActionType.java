@@ -5,7 +5,8 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
-import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
 
 /**
@@ -55,6 +56,14 @@ public enum TransactionActionType {
         return value;
     }
 
+    private static final Map<String, TransactionActionType> BY_VALUE = new HashMap<String, TransactionActionType>();
+
+    static {
+        for (TransactionActionType b : TransactionActionType.values()) {
+            BY_VALUE.put(b.value, b);
+        }
+    }
+
     /**
      * From value transaction action type.
      *
@@ -62,9 +71,11 @@ public enum TransactionActionType {
      * @return the transaction action type
      */
     public static TransactionActionType fromValue(String v) {
-        return Arrays.stream(values()).
-                filter(s -> s.value.equals(v)).
-                findFirst().orElseThrow(() -> new IllegalArgumentException(v));
+        TransactionActionType b = BY_VALUE.get(v);
+        if (b == null) {
+            throw new IllegalArgumentException(v);
+        }
+        return b;
     }
 
 }
@@ -5,7 +5,8 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
-import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
 
 /**
@@ -191,6 +192,14 @@ public enum TransactionType {
         return value;
     }
 
+    private static final Map<String, TransactionType> BY_VALUE = new HashMap<String, TransactionType>();
+
+    static {
+        for (TransactionType b : TransactionType.values()) {
+            BY_VALUE.put(b.value, b);
+        }
+    }
+
     /**
      * From value transaction type.
      *
@@ -198,9 +207,11 @@ public enum TransactionType {
      * @return the transaction type
      */
     public static TransactionType fromValue(String v) {
-        return Arrays.stream(values()).
-                filter(s -> s.value.equals(v)).
-                findFirst().orElseThrow(() -> new IllegalArgumentException(v));
+        TransactionType b = BY_VALUE.get(v);
+        if (b == null) {
+            throw new IllegalArgumentException(v);
+        }
+        return b;
     }
 
 }
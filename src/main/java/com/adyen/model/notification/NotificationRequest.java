@@ -22,8 +22,15 @@ package com.adyen.model.notification;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
 import com.google.gson.annotations.SerializedName;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -76,4 +83,52 @@ public class NotificationRequest {
         sb.append("}");
         return sb.toString();
     }
+
+    /**
+     * Gson adapter binding the fields of NotificationRequest without reflection, skipping unknown fields.
+     * Register it on the Gson used to read the model; subclasses keep the reflective adapter.
+     */
+    public static class CustomTypeAdapterFactory implements TypeAdapterFactory {
+        @SuppressWarnings("unchecked")
+        @Override
+        public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+            if (type.getRawType() != NotificationRequest.class) {
+                return null;
+            }
+            final TypeAdapter<String> liveAdapter = gson.getAdapter(String.class);
+            final TypeAdapter<List<NotificationRequestItemContainer>> notificationItemContainersAdapter = gson.getAdapter(new TypeToken<List<NotificationRequestItemContainer>>() { });
+
+            return (TypeAdapter<T>) new TypeAdapter<NotificationRequest>() {
+                @Override
+                public void write(JsonWriter out, NotificationRequest value) throws IOException {
+                    out.beginObject();
+                    out.name("live");
+                    liveAdapter.write(out, value.live);
+                    out.name("notificationItems");
+                    notificationItemContainersAdapter.write(out, value.notificationItemContainers);
+                    out.endObject();
+                }
+
+                @Override
+                public NotificationRequest read(JsonReader in) throws IOException {
+                    NotificationRequest instance = new NotificationRequest();
+                    in.beginObject();
+                    while (in.hasNext()) {
+                        switch (in.nextName()) {
+                            case "live":
+                                instance.live = liveAdapter.read(in);
+                                break;
+                            case "notificationItems":
+                                instance.notificationItemContainers = notificationItemContainersAdapter.read(in);
+                                break;
+                            default:
+                                in.skipValue();
+                        }
+                    }
+                    in.endObject();
+                    return instance;
+                }
+            }.nullSafe();
+        }
+    }
 }
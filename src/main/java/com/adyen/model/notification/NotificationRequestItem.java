@@ -21,8 +21,15 @@
 package com.adyen.model.notification;
 
 import com.adyen.model.Amount;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
 import com.google.gson.annotations.SerializedName;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 
+import java.io.IOException;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
@@ -247,4 +254,115 @@ public class NotificationRequestItem {
         sb.append("}");
         return sb.toString();
     }
+
+    /**
+     * Gson adapter binding the fields of NotificationRequestItem without reflection, skipping unknown fields.
+     * Register it on the Gson used to read the model; subclasses keep the reflective adapter.
+     */
+    public static class CustomTypeAdapterFactory implements TypeAdapterFactory {
+        @SuppressWarnings("unchecked")
+        @Override
+        public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+            if (type.getRawType() != NotificationRequestItem.class) {
+                return null;
+            }
+            final TypeAdapter<Amount> amountAdapter = gson.getAdapter(Amount.class);
+            final TypeAdapter<String> eventCodeAdapter = gson.getAdapter(String.class);
+            final TypeAdapter<Date> eventDateAdapter = gson.getAdapter(Date.class);
+            final TypeAdapter<String> merchantAccountCodeAdapter = gson.getAdapter(String.class);
+            final TypeAdapter<String> merchantReferenceAdapter = gson.getAdapter(String.class);
+            final TypeAdapter<String> originalReferenceAdapter = gson.getAdapter(String.class);
+            final TypeAdapter<String> pspReferenceAdapter = gson.getAdapter(String.class);
+            final TypeAdapter<String> reasonAdapter = gson.getAdapter(String.class);
+            final TypeAdapter<Boolean> successAdapter = gson.getAdapter(Boolean.class);
+            final TypeAdapter<String> paymentMethodAdapter = gson.getAdapter(String.class);
+            final TypeAdapter<List<String>> operationsAdapter = gson.getAdapter(new TypeToken<List<String>>() { });
+            final TypeAdapter<Map<String, String>> additionalDataAdapter = gson.getAdapter(new TypeToken<Map<String, String>>() { });
+
+            return (TypeAdapter<T>) new TypeAdapter<NotificationRequestItem>() {
+                @Override
+                public void write(JsonWriter out, NotificationRequestItem value) throws IOException {
+                    out.beginObject();
+                    out.name("amount");
+                    amountAdapter.write(out, value.amount);
+                    out.name("eventCode");
+                    eventCodeAdapter.write(out, value.eventCode);
+                    out.name("eventDate");
+                    eventDateAdapter.write(out, value.eventDate);
+                    out.name("merchantAccountCode");
+                    merchantAccountCodeAdapter.write(out, value.merchantAccountCode);
+                    out.name("merchantReference");
+                    merchantReferenceAdapter.write(out, value.merchantReference);
+                    out.name("originalReference");
+                    originalReferenceAdapter.write(out, value.originalReference);
+                    out.name("pspReference");
+                    pspReferenceAdapter.write(out, value.pspReference);
+                    out.name("reason");
+                    reasonAdapter.write(out, value.reason);
+                    out.name("success");
+                    successAdapter.write(out, value.success);
+                    out.name("paymentMethod");
+                    paymentMethodAdapter.write(out, value.paymentMethod);
+                    out.name("operations");
+                    operationsAdapter.write(out, value.operations);
+                    out.name("additionalData");
+                    additionalDataAdapter.write(out, value.additionalData);
+                    out.endObject();
+                }
+
+                @Override
+                public NotificationRequestItem read(JsonReader in) throws IOException {
+                    NotificationRequestItem instance = new NotificationRequestItem();
+                    in.beginObject();
+                    while (in.hasNext()) {
+                        switch (in.nextName()) {
+                            case "amount":
+                                instance.amount = amountAdapter.read(in);
+                                break;
+                            case "eventCode":
+                                instance.eventCode = eventCodeAdapter.read(in);
+                                break;
+                            case "eventDate":
+                                instance.eventDate = eventDateAdapter.read(in);
+                                break;
+                            case "merchantAccountCode":
+                                instance.merchantAccountCode = merchantAccountCodeAdapter.read(in);
+                                break;
+                            case "merchantReference":
+                                instance.merchantReference = merchantReferenceAdapter.read(in);
+                                break;
+                            case "originalReference":
+                                instance.originalReference = originalReferenceAdapter.read(in);
+                                break;
+                            case "pspReference":
+                                instance.pspReference = pspReferenceAdapter.read(in);
+                                break;
+                            case "reason":
+                                instance.reason = reasonAdapter.read(in);
+                                break;
+                            case "success":
+                                Boolean success = successAdapter.read(in);
+                                if (success != null) {
+                                    instance.success = success;
+                                }
+                                break;
+                            case "paymentMethod":
+                                instance.paymentMethod = paymentMethodAdapter.read(in);
+                                break;
+                            case "operations":
+                                instance.operations = operationsAdapter.read(in);
+                                break;
+                            case "additionalData":
+                                instance.additionalData = additionalDataAdapter.read(in);
+                                break;
+                            default:
+                                in.skipValue();
+                        }
+                    }
+                    in.endObject();
+                    return instance;
+                }
+            }.nullSafe();
+        }
+    }
 }
@@ -21,7 +21,15 @@
 package com.adyen.model.notification;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
 import com.google.gson.annotations.SerializedName;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
 
 
 import static com.adyen.util.Util.toIndentedString;
@@ -52,5 +60,45 @@ public class NotificationRequestItemContainer {
         return sb.toString();
     }
 
+    /**
+     * Gson adapter binding the fields of NotificationRequestItemContainer without reflection, skipping unknown fields.
+     * Register it on the Gson used to read the model; subclasses keep the reflective adapter.
+     */
+    public static class CustomTypeAdapterFactory implements TypeAdapterFactory {
+        @SuppressWarnings("unchecked")
+        @Override
+        public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+            if (type.getRawType() != NotificationRequestItemContainer.class) {
+                return null;
+            }
+            final TypeAdapter<NotificationRequestItem> notificationItemAdapter = gson.getAdapter(NotificationRequestItem.class);
+
+            return (TypeAdapter<T>) new TypeAdapter<NotificationRequestItemContainer>() {
+                @Override
+                public void write(JsonWriter out, NotificationRequestItemContainer value) throws IOException {
+                    out.beginObject();
+                    out.name("NotificationRequestItem");
+                    notificationItemAdapter.write(out, value.notificationItem);
+                    out.endObject();
+                }
 
+                @Override
+                public NotificationRequestItemContainer read(JsonReader in) throws IOException {
+                    NotificationRequestItemContainer instance = new NotificationRequestItemContainer();
+                    in.beginObject();
+                    while (in.hasNext()) {
+                        switch (in.nextName()) {
+                            case "NotificationRequestItem":
+                                instance.notificationItem = notificationItemAdapter.read(in);
+                                break;
+                            default:
+                                in.skipValue();
+                        }
+                    }
+                    in.endObject();
+                    return instance;
+                }
+            }.nullSafe();
+        }
+    }
 }
@@ -79,13 +79,20 @@ public class AccountInfo {
       return String.valueOf(value);
     }
 
-    public static AccountAgeIndicatorEnum fromValue(String value) {
+    private static final Map<String, AccountAgeIndicatorEnum> BY_VALUE = new HashMap<String, AccountAgeIndicatorEnum>();
+
+    static {
       for (AccountAgeIndicatorEnum b : AccountAgeIndicatorEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    }
+
+    public static AccountAgeIndicatorEnum fromValue(String value) {
+      AccountAgeIndicatorEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      }
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<AccountAgeIndicatorEnum> {
@@ -138,13 +145,20 @@ public class AccountInfo {
       return String.valueOf(value);
     }
 
-    public static AccountChangeIndicatorEnum fromValue(String value) {
+    private static final Map<String, AccountChangeIndicatorEnum> BY_VALUE = new HashMap<String, AccountChangeIndicatorEnum>();
+
+    static {
       for (AccountChangeIndicatorEnum b : AccountChangeIndicatorEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    }
+
+    public static AccountChangeIndicatorEnum fromValue(String value) {
+      AccountChangeIndicatorEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      }
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<AccountChangeIndicatorEnum> {
@@ -195,13 +209,20 @@ public class AccountInfo {
       return String.valueOf(value);
     }
 
-    public static AccountTypeEnum fromValue(String value) {
+    private static final Map<String, AccountTypeEnum> BY_VALUE = new HashMap<String, AccountTypeEnum>();
+
+    static {
       for (AccountTypeEnum b : AccountTypeEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static AccountTypeEnum fromValue(String value) {
+      AccountTypeEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<AccountTypeEnum> {
@@ -258,13 +279,20 @@ public class AccountInfo {
       return String.valueOf(value);
     }
 
-    public static DeliveryAddressUsageIndicatorEnum fromValue(String value) {
+    private static final Map<String, DeliveryAddressUsageIndicatorEnum> BY_VALUE = new HashMap<String, DeliveryAddressUsageIndicatorEnum>();
+
+    static {
       for (DeliveryAddressUsageIndicatorEnum b : DeliveryAddressUsageIndicatorEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    }
+
+    public static DeliveryAddressUsageIndicatorEnum fromValue(String value) {
+      DeliveryAddressUsageIndicatorEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      }
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<DeliveryAddressUsageIndicatorEnum> {
@@ -327,13 +355,20 @@ public class AccountInfo {
       return String.valueOf(value);
     }
 
-    public static PasswordChangeIndicatorEnum fromValue(String value) {
+    private static final Map<String, PasswordChangeIndicatorEnum> BY_VALUE = new HashMap<String, PasswordChangeIndicatorEnum>();
+
+    static {
       for (PasswordChangeIndicatorEnum b : PasswordChangeIndicatorEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    }
+
+    public static PasswordChangeIndicatorEnum fromValue(String value) {
+      PasswordChangeIndicatorEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      }
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<PasswordChangeIndicatorEnum> {
@@ -396,13 +431,20 @@ public class AccountInfo {
       return String.valueOf(value);
     }
 
-    public static PaymentAccountIndicatorEnum fromValue(String value) {
+    private static final Map<String, PaymentAccountIndicatorEnum> BY_VALUE = new HashMap<String, PaymentAccountIndicatorEnum>();
+
+    static {
       for (PaymentAccountIndicatorEnum b : PaymentAccountIndicatorEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static PaymentAccountIndicatorEnum fromValue(String value) {
+      PaymentAccountIndicatorEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<PaymentAccountIndicatorEnum> {
@@ -1071,22 +1113,142 @@ public class AccountInfo {
        if (!AccountInfo.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'AccountInfo' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<AccountInfo> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(AccountInfo.class));
+       final TypeAdapter<AccountAgeIndicatorEnum> accountAgeIndicatorAdapter = gson.getAdapter(AccountAgeIndicatorEnum.class);
+       final TypeAdapter<Date> accountChangeDateAdapter = gson.getAdapter(Date.class);
+       final TypeAdapter<AccountChangeIndicatorEnum> accountChangeIndicatorAdapter = gson.getAdapter(AccountChangeIndicatorEnum.class);
+       final TypeAdapter<Date> accountCreationDateAdapter = gson.getAdapter(Date.class);
+       final TypeAdapter<AccountTypeEnum> accountTypeAdapter = gson.getAdapter(AccountTypeEnum.class);
+       final TypeAdapter<Integer> addCardAttemptsDayAdapter = gson.getAdapter(Integer.class);
+       final TypeAdapter<Date> deliveryAddressUsageDateAdapter = gson.getAdapter(Date.class);
+       final TypeAdapter<DeliveryAddressUsageIndicatorEnum> deliveryAddressUsageIndicatorAdapter = gson.getAdapter(DeliveryAddressUsageIndicatorEnum.class);
+       final TypeAdapter<String> homePhoneAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> mobilePhoneAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<Date> passwordChangeDateAdapter = gson.getAdapter(Date.class);
+       final TypeAdapter<PasswordChangeIndicatorEnum> passwordChangeIndicatorAdapter = gson.getAdapter(PasswordChangeIndicatorEnum.class);
+       final TypeAdapter<Integer> pastTransactionsDayAdapter = gson.getAdapter(Integer.class);
+       final TypeAdapter<Integer> pastTransactionsYearAdapter = gson.getAdapter(Integer.class);
+       final TypeAdapter<Date> paymentAccountAgeAdapter = gson.getAdapter(Date.class);
+       final TypeAdapter<PaymentAccountIndicatorEnum> paymentAccountIndicatorAdapter = gson.getAdapter(PaymentAccountIndicatorEnum.class);
+       final TypeAdapter<Integer> purchasesLast6MonthsAdapter = gson.getAdapter(Integer.class);
+       final TypeAdapter<Boolean> suspiciousActivityAdapter = gson.getAdapter(Boolean.class);
+       final TypeAdapter<String> workPhoneAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<AccountInfo>() {
            @Override
            public void write(JsonWriter out, AccountInfo value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("accountAgeIndicator");
+             accountAgeIndicatorAdapter.write(out, value.accountAgeIndicator);
+             out.name("accountChangeDate");
+             accountChangeDateAdapter.write(out, value.accountChangeDate);
+             out.name("accountChangeIndicator");
+             accountChangeIndicatorAdapter.write(out, value.accountChangeIndicator);
+             out.name("accountCreationDate");
+             accountCreationDateAdapter.write(out, value.accountCreationDate);
+             out.name("accountType");
+             accountTypeAdapter.write(out, value.accountType);
+             out.name("addCardAttemptsDay");
+             addCardAttemptsDayAdapter.write(out, value.addCardAttemptsDay);
+             out.name("deliveryAddressUsageDate");
+             deliveryAddressUsageDateAdapter.write(out, value.deliveryAddressUsageDate);
+             out.name("deliveryAddressUsageIndicator");
+             deliveryAddressUsageIndicatorAdapter.write(out, value.deliveryAddressUsageIndicator);
+             out.name("homePhone");
+             homePhoneAdapter.write(out, value.homePhone);
+             out.name("mobilePhone");
+             mobilePhoneAdapter.write(out, value.mobilePhone);
+             out.name("passwordChangeDate");
+             passwordChangeDateAdapter.write(out, value.passwordChangeDate);
+             out.name("passwordChangeIndicator");
+             passwordChangeIndicatorAdapter.write(out, value.passwordChangeIndicator);
+             out.name("pastTransactionsDay");
+             pastTransactionsDayAdapter.write(out, value.pastTransactionsDay);
+             out.name("pastTransactionsYear");
+             pastTransactionsYearAdapter.write(out, value.pastTransactionsYear);
+             out.name("paymentAccountAge");
+             paymentAccountAgeAdapter.write(out, value.paymentAccountAge);
+             out.name("paymentAccountIndicator");
+             paymentAccountIndicatorAdapter.write(out, value.paymentAccountIndicator);
+             out.name("purchasesLast6Months");
+             purchasesLast6MonthsAdapter.write(out, value.purchasesLast6Months);
+             out.name("suspiciousActivity");
+             suspiciousActivityAdapter.write(out, value.suspiciousActivity);
+             out.name("workPhone");
+             workPhoneAdapter.write(out, value.workPhone);
+             out.endObject();
            }
 
            @Override
            public AccountInfo read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             AccountInfo instance = new AccountInfo();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "accountAgeIndicator":
+                   instance.accountAgeIndicator = accountAgeIndicatorAdapter.read(in);
+                   break;
+                 case "accountChangeDate":
+                   instance.accountChangeDate = accountChangeDateAdapter.read(in);
+                   break;
+                 case "accountChangeIndicator":
+                   instance.accountChangeIndicator = accountChangeIndicatorAdapter.read(in);
+                   break;
+                 case "accountCreationDate":
+                   instance.accountCreationDate = accountCreationDateAdapter.read(in);
+                   break;
+                 case "accountType":
+                   instance.accountType = accountTypeAdapter.read(in);
+                   break;
+                 case "addCardAttemptsDay":
+                   instance.addCardAttemptsDay = addCardAttemptsDayAdapter.read(in);
+                   break;
+                 case "deliveryAddressUsageDate":
+                   instance.deliveryAddressUsageDate = deliveryAddressUsageDateAdapter.read(in);
+                   break;
+                 case "deliveryAddressUsageIndicator":
+                   instance.deliveryAddressUsageIndicator = deliveryAddressUsageIndicatorAdapter.read(in);
+                   break;
+                 case "homePhone":
+                   instance.homePhone = homePhoneAdapter.read(in);
+                   break;
+                 case "mobilePhone":
+                   instance.mobilePhone = mobilePhoneAdapter.read(in);
+                   break;
+                 case "passwordChangeDate":
+                   instance.passwordChangeDate = passwordChangeDateAdapter.read(in);
+                   break;
+                 case "passwordChangeIndicator":
+                   instance.passwordChangeIndicator = passwordChangeIndicatorAdapter.read(in);
+                   break;
+                 case "pastTransactionsDay":
+                   instance.pastTransactionsDay = pastTransactionsDayAdapter.read(in);
+                   break;
+                 case "pastTransactionsYear":
+                   instance.pastTransactionsYear = pastTransactionsYearAdapter.read(in);
+                   break;
+                 case "paymentAccountAge":
+                   instance.paymentAccountAge = paymentAccountAgeAdapter.read(in);
+                   break;
+                 case "paymentAccountIndicator":
+                   instance.paymentAccountIndicator = paymentAccountIndicatorAdapter.read(in);
+                   break;
+                 case "purchasesLast6Months":
+                   instance.purchasesLast6Months = purchasesLast6MonthsAdapter.read(in);
+                   break;
+                 case "suspiciousActivity":
+                   instance.suspiciousActivity = suspiciousActivityAdapter.read(in);
+                   break;
+                 case "workPhone":
+                   instance.workPhone = workPhoneAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `AccountInfo` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
@@ -507,22 +507,103 @@ public class AdjustAuthorisationRequest {
        if (!AdjustAuthorisationRequest.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'AdjustAuthorisationRequest' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<AdjustAuthorisationRequest> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(AdjustAuthorisationRequest.class));
+       final TypeAdapter<Map<String, String>> additionalDataAdapter = gson.getAdapter(new TypeToken<Map<String, String>>() {});
+       final TypeAdapter<String> merchantAccountAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<Amount> modificationAmountAdapter = gson.getAdapter(Amount.class);
+       final TypeAdapter<ThreeDSecureData> mpiDataAdapter = gson.getAdapter(ThreeDSecureData.class);
+       final TypeAdapter<String> originalMerchantReferenceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> originalReferenceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> referenceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<List<Split>> splitsAdapter = gson.getAdapter(new TypeToken<List<Split>>() {});
+       final TypeAdapter<String> tenderReferenceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> uniqueTerminalIdAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<AdjustAuthorisationRequest>() {
            @Override
            public void write(JsonWriter out, AdjustAuthorisationRequest value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("additionalData");
+             additionalDataAdapter.write(out, value.additionalData);
+             out.name("merchantAccount");
+             merchantAccountAdapter.write(out, value.merchantAccount);
+             out.name("modificationAmount");
+             modificationAmountAdapter.write(out, value.modificationAmount);
+             out.name("mpiData");
+             mpiDataAdapter.write(out, value.mpiData);
+             out.name("originalMerchantReference");
+             originalMerchantReferenceAdapter.write(out, value.originalMerchantReference);
+             out.name("originalReference");
+             originalReferenceAdapter.write(out, value.originalReference);
+             out.name("reference");
+             referenceAdapter.write(out, value.reference);
+             out.name("splits");
+             splitsAdapter.write(out, value.splits);
+             out.name("tenderReference");
+             tenderReferenceAdapter.write(out, value.tenderReference);
+             out.name("uniqueTerminalId");
+             uniqueTerminalIdAdapter.write(out, value.uniqueTerminalId);
+             out.endObject();
            }
 
            @Override
            public AdjustAuthorisationRequest read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             AdjustAuthorisationRequest instance = new AdjustAuthorisationRequest();
+             boolean merchantAccountFound = false;
+             boolean modificationAmountFound = false;
+             boolean originalReferenceFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "additionalData":
+                   instance.additionalData = additionalDataAdapter.read(in);
+                   break;
+                 case "merchantAccount":
+                   instance.merchantAccount = merchantAccountAdapter.read(in);
+                   merchantAccountFound = true;
+                   break;
+                 case "modificationAmount":
+                   instance.modificationAmount = modificationAmountAdapter.read(in);
+                   modificationAmountFound = true;
+                   break;
+                 case "mpiData":
+                   instance.mpiData = mpiDataAdapter.read(in);
+                   break;
+                 case "originalMerchantReference":
+                   instance.originalMerchantReference = originalMerchantReferenceAdapter.read(in);
+                   break;
+                 case "originalReference":
+                   instance.originalReference = originalReferenceAdapter.read(in);
+                   originalReferenceFound = true;
+                   break;
+                 case "reference":
+                   instance.reference = referenceAdapter.read(in);
+                   break;
+                 case "splits":
+                   instance.splits = splitsAdapter.read(in);
+                   break;
+                 case "tenderReference":
+                   instance.tenderReference = tenderReferenceAdapter.read(in);
+                   break;
+                 case "uniqueTerminalId":
+                   instance.uniqueTerminalId = uniqueTerminalIdAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `AdjustAuthorisationRequest` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!merchantAccountFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "merchantAccount", in.getPath()));
+             }
+             if (!modificationAmountFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "modificationAmount", in.getPath()));
+             }
+             if (!originalReferenceFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "originalReference", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
@@ -338,22 +338,64 @@ public class ApplicationInfo {
        if (!ApplicationInfo.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'ApplicationInfo' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<ApplicationInfo> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(ApplicationInfo.class));
+       final TypeAdapter<CommonField> adyenLibraryAdapter = gson.getAdapter(CommonField.class);
+       final TypeAdapter<CommonField> adyenPaymentSourceAdapter = gson.getAdapter(CommonField.class);
+       final TypeAdapter<ExternalPlatform> externalPlatformAdapter = gson.getAdapter(ExternalPlatform.class);
+       final TypeAdapter<CommonField> merchantApplicationAdapter = gson.getAdapter(CommonField.class);
+       final TypeAdapter<MerchantDevice> merchantDeviceAdapter = gson.getAdapter(MerchantDevice.class);
+       final TypeAdapter<ShopperInteractionDevice> shopperInteractionDeviceAdapter = gson.getAdapter(ShopperInteractionDevice.class);
 
        return (TypeAdapter<T>) new TypeAdapter<ApplicationInfo>() {
            @Override
            public void write(JsonWriter out, ApplicationInfo value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("adyenLibrary");
+             adyenLibraryAdapter.write(out, value.adyenLibrary);
+             out.name("adyenPaymentSource");
+             adyenPaymentSourceAdapter.write(out, value.adyenPaymentSource);
+             out.name("externalPlatform");
+             externalPlatformAdapter.write(out, value.externalPlatform);
+             out.name("merchantApplication");
+             merchantApplicationAdapter.write(out, value.merchantApplication);
+             out.name("merchantDevice");
+             merchantDeviceAdapter.write(out, value.merchantDevice);
+             out.name("shopperInteractionDevice");
+             shopperInteractionDeviceAdapter.write(out, value.shopperInteractionDevice);
+             out.endObject();
            }
 
            @Override
            public ApplicationInfo read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             ApplicationInfo instance = new ApplicationInfo();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "adyenLibrary":
+                   instance.adyenLibrary = adyenLibraryAdapter.read(in);
+                   break;
+                 case "adyenPaymentSource":
+                   instance.adyenPaymentSource = adyenPaymentSourceAdapter.read(in);
+                   break;
+                 case "externalPlatform":
+                   instance.externalPlatform = externalPlatformAdapter.read(in);
+                   break;
+                 case "merchantApplication":
+                   instance.merchantApplication = merchantApplicationAdapter.read(in);
+                   break;
+                 case "merchantDevice":
+                   instance.merchantDevice = merchantDeviceAdapter.read(in);
+                   break;
+                 case "shopperInteractionDevice":
+                   instance.shopperInteractionDevice = shopperInteractionDeviceAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `ApplicationInfo` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
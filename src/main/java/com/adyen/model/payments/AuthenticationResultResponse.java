@@ -200,22 +200,40 @@ public class AuthenticationResultResponse {
        if (!AuthenticationResultResponse.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'AuthenticationResultResponse' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<AuthenticationResultResponse> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(AuthenticationResultResponse.class));
+       final TypeAdapter<ThreeDS1Result> threeDS1ResultAdapter = gson.getAdapter(ThreeDS1Result.class);
+       final TypeAdapter<ThreeDS2Result> threeDS2ResultAdapter = gson.getAdapter(ThreeDS2Result.class);
 
        return (TypeAdapter<T>) new TypeAdapter<AuthenticationResultResponse>() {
            @Override
            public void write(JsonWriter out, AuthenticationResultResponse value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("threeDS1Result");
+             threeDS1ResultAdapter.write(out, value.threeDS1Result);
+             out.name("threeDS2Result");
+             threeDS2ResultAdapter.write(out, value.threeDS2Result);
+             out.endObject();
            }
 
            @Override
            public AuthenticationResultResponse read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             AuthenticationResultResponse instance = new AuthenticationResultResponse();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "threeDS1Result":
+                   instance.threeDS1Result = threeDS1ResultAdapter.read(in);
+                   break;
+                 case "threeDS2Result":
+                   instance.threeDS2Result = threeDS2ResultAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `AuthenticationResultResponse` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
@@ -427,22 +427,122 @@ public class BrowserInfo {
        if (!BrowserInfo.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'BrowserInfo' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<BrowserInfo> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(BrowserInfo.class));
+       final TypeAdapter<String> acceptHeaderAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<Integer> colorDepthAdapter = gson.getAdapter(Integer.class);
+       final TypeAdapter<Boolean> javaEnabledAdapter = gson.getAdapter(Boolean.class);
+       final TypeAdapter<Boolean> javaScriptEnabledAdapter = gson.getAdapter(Boolean.class);
+       final TypeAdapter<String> languageAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<Integer> screenHeightAdapter = gson.getAdapter(Integer.class);
+       final TypeAdapter<Integer> screenWidthAdapter = gson.getAdapter(Integer.class);
+       final TypeAdapter<Integer> timeZoneOffsetAdapter = gson.getAdapter(Integer.class);
+       final TypeAdapter<String> userAgentAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<BrowserInfo>() {
            @Override
            public void write(JsonWriter out, BrowserInfo value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("acceptHeader");
+             acceptHeaderAdapter.write(out, value.acceptHeader);
+             out.name("colorDepth");
+             colorDepthAdapter.write(out, value.colorDepth);
+             out.name("javaEnabled");
+             javaEnabledAdapter.write(out, value.javaEnabled);
+             out.name("javaScriptEnabled");
+             javaScriptEnabledAdapter.write(out, value.javaScriptEnabled);
+             out.name("language");
+             languageAdapter.write(out, value.language);
+             out.name("screenHeight");
+             screenHeightAdapter.write(out, value.screenHeight);
+             out.name("screenWidth");
+             screenWidthAdapter.write(out, value.screenWidth);
+             out.name("timeZoneOffset");
+             timeZoneOffsetAdapter.write(out, value.timeZoneOffset);
+             out.name("userAgent");
+             userAgentAdapter.write(out, value.userAgent);
+             out.endObject();
            }
 
            @Override
            public BrowserInfo read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             BrowserInfo instance = new BrowserInfo();
+             boolean acceptHeaderFound = false;
+             boolean colorDepthFound = false;
+             boolean javaEnabledFound = false;
+             boolean languageFound = false;
+             boolean screenHeightFound = false;
+             boolean screenWidthFound = false;
+             boolean timeZoneOffsetFound = false;
+             boolean userAgentFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "acceptHeader":
+                   instance.acceptHeader = acceptHeaderAdapter.read(in);
+                   acceptHeaderFound = true;
+                   break;
+                 case "colorDepth":
+                   instance.colorDepth = colorDepthAdapter.read(in);
+                   colorDepthFound = true;
+                   break;
+                 case "javaEnabled":
+                   instance.javaEnabled = javaEnabledAdapter.read(in);
+                   javaEnabledFound = true;
+                   break;
+                 case "javaScriptEnabled":
+                   instance.javaScriptEnabled = javaScriptEnabledAdapter.read(in);
+                   break;
+                 case "language":
+                   instance.language = languageAdapter.read(in);
+                   languageFound = true;
+                   break;
+                 case "screenHeight":
+                   instance.screenHeight = screenHeightAdapter.read(in);
+                   screenHeightFound = true;
+                   break;
+                 case "screenWidth":
+                   instance.screenWidth = screenWidthAdapter.read(in);
+                   screenWidthFound = true;
+                   break;
+                 case "timeZoneOffset":
+                   instance.timeZoneOffset = timeZoneOffsetAdapter.read(in);
+                   timeZoneOffsetFound = true;
+                   break;
+                 case "userAgent":
+                   instance.userAgent = userAgentAdapter.read(in);
+                   userAgentFound = true;
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `BrowserInfo` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!acceptHeaderFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "acceptHeader", in.getPath()));
+             }
+             if (!colorDepthFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "colorDepth", in.getPath()));
+             }
+             if (!javaEnabledFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "javaEnabled", in.getPath()));
+             }
+             if (!languageFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "language", in.getPath()));
+             }
+             if (!screenHeightFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "screenHeight", in.getPath()));
+             }
+             if (!screenWidthFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "screenWidth", in.getPath()));
+             }
+             if (!timeZoneOffsetFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "timeZoneOffset", in.getPath()));
+             }
+             if (!userAgentFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "userAgent", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
@@ -419,22 +419,86 @@ public class CancelOrRefundRequest {
        if (!CancelOrRefundRequest.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'CancelOrRefundRequest' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<CancelOrRefundRequest> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(CancelOrRefundRequest.class));
+       final TypeAdapter<Map<String, String>> additionalDataAdapter = gson.getAdapter(new TypeToken<Map<String, String>>() {});
+       final TypeAdapter<String> merchantAccountAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<ThreeDSecureData> mpiDataAdapter = gson.getAdapter(ThreeDSecureData.class);
+       final TypeAdapter<String> originalMerchantReferenceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> originalReferenceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> referenceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> tenderReferenceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> uniqueTerminalIdAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<CancelOrRefundRequest>() {
            @Override
            public void write(JsonWriter out, CancelOrRefundRequest value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("additionalData");
+             additionalDataAdapter.write(out, value.additionalData);
+             out.name("merchantAccount");
+             merchantAccountAdapter.write(out, value.merchantAccount);
+             out.name("mpiData");
+             mpiDataAdapter.write(out, value.mpiData);
+             out.name("originalMerchantReference");
+             originalMerchantReferenceAdapter.write(out, value.originalMerchantReference);
+             out.name("originalReference");
+             originalReferenceAdapter.write(out, value.originalReference);
+             out.name("reference");
+             referenceAdapter.write(out, value.reference);
+             out.name("tenderReference");
+             tenderReferenceAdapter.write(out, value.tenderReference);
+             out.name("uniqueTerminalId");
+             uniqueTerminalIdAdapter.write(out, value.uniqueTerminalId);
+             out.endObject();
            }
 
            @Override
            public CancelOrRefundRequest read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             CancelOrRefundRequest instance = new CancelOrRefundRequest();
+             boolean merchantAccountFound = false;
+             boolean originalReferenceFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "additionalData":
+                   instance.additionalData = additionalDataAdapter.read(in);
+                   break;
+                 case "merchantAccount":
+                   instance.merchantAccount = merchantAccountAdapter.read(in);
+                   merchantAccountFound = true;
+                   break;
+                 case "mpiData":
+                   instance.mpiData = mpiDataAdapter.read(in);
+                   break;
+                 case "originalMerchantReference":
+                   instance.originalMerchantReference = originalMerchantReferenceAdapter.read(in);
+                   break;
+                 case "originalReference":
+                   instance.originalReference = originalReferenceAdapter.read(in);
+                   originalReferenceFound = true;
+                   break;
+                 case "reference":
+                   instance.reference = referenceAdapter.read(in);
+                   break;
+                 case "tenderReference":
+                   instance.tenderReference = tenderReferenceAdapter.read(in);
+                   break;
+                 case "uniqueTerminalId":
+                   instance.uniqueTerminalId = uniqueTerminalIdAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `CancelOrRefundRequest` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!merchantAccountFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "merchantAccount", in.getPath()));
+             }
+             if (!originalReferenceFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "originalReference", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
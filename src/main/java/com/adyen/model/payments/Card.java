@@ -413,22 +413,96 @@ public class Card {
        if (!Card.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'Card' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<Card> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(Card.class));
+       final TypeAdapter<String> cvcAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> expiryMonthAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> expiryYearAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> holderNameAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> issueNumberAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> numberAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> startMonthAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> startYearAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<Card>() {
            @Override
            public void write(JsonWriter out, Card value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("cvc");
+             cvcAdapter.write(out, value.cvc);
+             out.name("expiryMonth");
+             expiryMonthAdapter.write(out, value.expiryMonth);
+             out.name("expiryYear");
+             expiryYearAdapter.write(out, value.expiryYear);
+             out.name("holderName");
+             holderNameAdapter.write(out, value.holderName);
+             out.name("issueNumber");
+             issueNumberAdapter.write(out, value.issueNumber);
+             out.name("number");
+             numberAdapter.write(out, value.number);
+             out.name("startMonth");
+             startMonthAdapter.write(out, value.startMonth);
+             out.name("startYear");
+             startYearAdapter.write(out, value.startYear);
+             out.endObject();
            }
 
            @Override
            public Card read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             Card instance = new Card();
+             boolean expiryMonthFound = false;
+             boolean expiryYearFound = false;
+             boolean holderNameFound = false;
+             boolean numberFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "cvc":
+                   instance.cvc = cvcAdapter.read(in);
+                   break;
+                 case "expiryMonth":
+                   instance.expiryMonth = expiryMonthAdapter.read(in);
+                   expiryMonthFound = true;
+                   break;
+                 case "expiryYear":
+                   instance.expiryYear = expiryYearAdapter.read(in);
+                   expiryYearFound = true;
+                   break;
+                 case "holderName":
+                   instance.holderName = holderNameAdapter.read(in);
+                   holderNameFound = true;
+                   break;
+                 case "issueNumber":
+                   instance.issueNumber = issueNumberAdapter.read(in);
+                   break;
+                 case "number":
+                   instance.number = numberAdapter.read(in);
+                   numberFound = true;
+                   break;
+                 case "startMonth":
+                   instance.startMonth = startMonthAdapter.read(in);
+                   break;
+                 case "startYear":
+                   instance.startYear = startYearAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `Card` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!expiryMonthFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "expiryMonth", in.getPath()));
+             }
+             if (!expiryYearFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "expiryYear", in.getPath()));
+             }
+             if (!holderNameFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "holderName", in.getPath()));
+             }
+             if (!numberFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "number", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
@@ -76,13 +76,20 @@ public class DeviceRenderOptions {
       return String.valueOf(value);
     }
 
-    public static SdkInterfaceEnum fromValue(String value) {
+    private static final Map<String, SdkInterfaceEnum> BY_VALUE = new HashMap<String, SdkInterfaceEnum>();
+
+    static {
       for (SdkInterfaceEnum b : SdkInterfaceEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static SdkInterfaceEnum fromValue(String value) {
+      SdkInterfaceEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<SdkInterfaceEnum> {
@@ -133,13 +140,20 @@ public class DeviceRenderOptions {
       return String.valueOf(value);
     }
 
-    public static SdkUiTypeEnum fromValue(String value) {
+    private static final Map<String, SdkUiTypeEnum> BY_VALUE = new HashMap<String, SdkUiTypeEnum>();
+
+    static {
       for (SdkUiTypeEnum b : SdkUiTypeEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static SdkUiTypeEnum fromValue(String value) {
+      SdkUiTypeEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<SdkUiTypeEnum> {
@@ -313,22 +327,40 @@ public class DeviceRenderOptions {
        if (!DeviceRenderOptions.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'DeviceRenderOptions' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<DeviceRenderOptions> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(DeviceRenderOptions.class));
+       final TypeAdapter<SdkInterfaceEnum> sdkInterfaceAdapter = gson.getAdapter(SdkInterfaceEnum.class);
+       final TypeAdapter<List<SdkUiTypeEnum>> sdkUiTypeAdapter = gson.getAdapter(new TypeToken<List<SdkUiTypeEnum>>() {});
 
        return (TypeAdapter<T>) new TypeAdapter<DeviceRenderOptions>() {
            @Override
            public void write(JsonWriter out, DeviceRenderOptions value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("sdkInterface");
+             sdkInterfaceAdapter.write(out, value.sdkInterface);
+             out.name("sdkUiType");
+             sdkUiTypeAdapter.write(out, value.sdkUiType);
+             out.endObject();
            }
 
            @Override
            public DeviceRenderOptions read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             DeviceRenderOptions instance = new DeviceRenderOptions();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "sdkInterface":
+                   instance.sdkInterface = sdkInterfaceAdapter.read(in);
+                   break;
+                 case "sdkUiType":
+                   instance.sdkUiType = sdkUiTypeAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `DeviceRenderOptions` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
@@ -311,22 +311,73 @@ public class DonationRequest {
        if (!DonationRequest.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'DonationRequest' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<DonationRequest> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(DonationRequest.class));
+       final TypeAdapter<String> donationAccountAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> merchantAccountAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<Amount> modificationAmountAdapter = gson.getAdapter(Amount.class);
+       final TypeAdapter<String> originalReferenceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> referenceAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<DonationRequest>() {
            @Override
            public void write(JsonWriter out, DonationRequest value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("donationAccount");
+             donationAccountAdapter.write(out, value.donationAccount);
+             out.name("merchantAccount");
+             merchantAccountAdapter.write(out, value.merchantAccount);
+             out.name("modificationAmount");
+             modificationAmountAdapter.write(out, value.modificationAmount);
+             out.name("originalReference");
+             originalReferenceAdapter.write(out, value.originalReference);
+             out.name("reference");
+             referenceAdapter.write(out, value.reference);
+             out.endObject();
            }
 
            @Override
            public DonationRequest read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             DonationRequest instance = new DonationRequest();
+             boolean donationAccountFound = false;
+             boolean merchantAccountFound = false;
+             boolean modificationAmountFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "donationAccount":
+                   instance.donationAccount = donationAccountAdapter.read(in);
+                   donationAccountFound = true;
+                   break;
+                 case "merchantAccount":
+                   instance.merchantAccount = merchantAccountAdapter.read(in);
+                   merchantAccountFound = true;
+                   break;
+                 case "modificationAmount":
+                   instance.modificationAmount = modificationAmountAdapter.read(in);
+                   modificationAmountFound = true;
+                   break;
+                 case "originalReference":
+                   instance.originalReference = originalReferenceAdapter.read(in);
+                   break;
+                 case "reference":
+                   instance.reference = referenceAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `DonationRequest` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!donationAccountFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "donationAccount", in.getPath()));
+             }
+             if (!merchantAccountFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "merchantAccount", in.getPath()));
+             }
+             if (!modificationAmountFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "modificationAmount", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
@@ -232,22 +232,46 @@ public class ExternalPlatform {
        if (!ExternalPlatform.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'ExternalPlatform' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<ExternalPlatform> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(ExternalPlatform.class));
+       final TypeAdapter<String> integratorAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> nameAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> versionAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<ExternalPlatform>() {
            @Override
            public void write(JsonWriter out, ExternalPlatform value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("integrator");
+             integratorAdapter.write(out, value.integrator);
+             out.name("name");
+             nameAdapter.write(out, value.name);
+             out.name("version");
+             versionAdapter.write(out, value.version);
+             out.endObject();
            }
 
            @Override
            public ExternalPlatform read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             ExternalPlatform instance = new ExternalPlatform();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "integrator":
+                   instance.integrator = integratorAdapter.read(in);
+                   break;
+                 case "name":
+                   instance.name = nameAdapter.read(in);
+                   break;
+                 case "version":
+                   instance.version = versionAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `ExternalPlatform` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
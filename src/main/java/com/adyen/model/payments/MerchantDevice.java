@@ -232,22 +232,46 @@ public class MerchantDevice {
        if (!MerchantDevice.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'MerchantDevice' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<MerchantDevice> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(MerchantDevice.class));
+       final TypeAdapter<String> osAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> osVersionAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> referenceAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<MerchantDevice>() {
            @Override
            public void write(JsonWriter out, MerchantDevice value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("os");
+             osAdapter.write(out, value.os);
+             out.name("osVersion");
+             osVersionAdapter.write(out, value.osVersion);
+             out.name("reference");
+             referenceAdapter.write(out, value.reference);
+             out.endObject();
            }
 
            @Override
            public MerchantDevice read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             MerchantDevice instance = new MerchantDevice();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "os":
+                   instance.os = osAdapter.read(in);
+                   break;
+                 case "osVersion":
+                   instance.osVersion = osVersionAdapter.read(in);
+                   break;
+                 case "reference":
+                   instance.reference = referenceAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `MerchantDevice` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
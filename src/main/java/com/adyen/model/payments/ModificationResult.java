@@ -95,13 +95,20 @@ public class ModificationResult {
       return String.valueOf(value);
     }
 
-    public static ResponseEnum fromValue(String value) {
+    private static final Map<String, ResponseEnum> BY_VALUE = new HashMap<String, ResponseEnum>();
+
+    static {
       for (ResponseEnum b : ResponseEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static ResponseEnum fromValue(String value) {
+      ResponseEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<ResponseEnum> {
@@ -310,22 +317,56 @@ public class ModificationResult {
        if (!ModificationResult.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'ModificationResult' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<ModificationResult> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(ModificationResult.class));
+       final TypeAdapter<Map<String, String>> additionalDataAdapter = gson.getAdapter(new TypeToken<Map<String, String>>() {});
+       final TypeAdapter<String> pspReferenceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<ResponseEnum> responseAdapter = gson.getAdapter(ResponseEnum.class);
 
        return (TypeAdapter<T>) new TypeAdapter<ModificationResult>() {
            @Override
            public void write(JsonWriter out, ModificationResult value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("additionalData");
+             additionalDataAdapter.write(out, value.additionalData);
+             out.name("pspReference");
+             pspReferenceAdapter.write(out, value.pspReference);
+             out.name("response");
+             responseAdapter.write(out, value.response);
+             out.endObject();
            }
 
            @Override
            public ModificationResult read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             ModificationResult instance = new ModificationResult();
+             boolean pspReferenceFound = false;
+             boolean responseFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "additionalData":
+                   instance.additionalData = additionalDataAdapter.read(in);
+                   break;
+                 case "pspReference":
+                   instance.pspReference = pspReferenceAdapter.read(in);
+                   pspReferenceFound = true;
+                   break;
+                 case "response":
+                   instance.response = responseAdapter.read(in);
+                   responseFound = true;
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `ModificationResult` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!pspReferenceFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "pspReference", in.getPath()));
+             }
+             if (!responseFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "response", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
@@ -139,13 +139,20 @@ public class PaymentResult {
       return String.valueOf(value);
     }
 
-    public static ResultCodeEnum fromValue(String value) {
+    private static final Map<String, ResultCodeEnum> BY_VALUE = new HashMap<String, ResultCodeEnum>();
+
+    static {
       for (ResultCodeEnum b : ResultCodeEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static ResultCodeEnum fromValue(String value) {
+      ResultCodeEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<ResultCodeEnum> {
@@ -585,22 +592,94 @@ public class PaymentResult {
        if (!PaymentResult.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'PaymentResult' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<PaymentResult> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(PaymentResult.class));
+       final TypeAdapter<Map<String, String>> additionalDataAdapter = gson.getAdapter(new TypeToken<Map<String, String>>() {});
+       final TypeAdapter<String> authCodeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<Amount> dccAmountAdapter = gson.getAdapter(Amount.class);
+       final TypeAdapter<String> dccSignatureAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<FraudResult> fraudResultAdapter = gson.getAdapter(FraudResult.class);
+       final TypeAdapter<String> issuerUrlAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> mdAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> paRequestAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> pspReferenceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> refusalReasonAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<ResultCodeEnum> resultCodeAdapter = gson.getAdapter(ResultCodeEnum.class);
 
        return (TypeAdapter<T>) new TypeAdapter<PaymentResult>() {
            @Override
            public void write(JsonWriter out, PaymentResult value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("additionalData");
+             additionalDataAdapter.write(out, value.additionalData);
+             out.name("authCode");
+             authCodeAdapter.write(out, value.authCode);
+             out.name("dccAmount");
+             dccAmountAdapter.write(out, value.dccAmount);
+             out.name("dccSignature");
+             dccSignatureAdapter.write(out, value.dccSignature);
+             out.name("fraudResult");
+             fraudResultAdapter.write(out, value.fraudResult);
+             out.name("issuerUrl");
+             issuerUrlAdapter.write(out, value.issuerUrl);
+             out.name("md");
+             mdAdapter.write(out, value.md);
+             out.name("paRequest");
+             paRequestAdapter.write(out, value.paRequest);
+             out.name("pspReference");
+             pspReferenceAdapter.write(out, value.pspReference);
+             out.name("refusalReason");
+             refusalReasonAdapter.write(out, value.refusalReason);
+             out.name("resultCode");
+             resultCodeAdapter.write(out, value.resultCode);
+             out.endObject();
            }
 
            @Override
            public PaymentResult read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             PaymentResult instance = new PaymentResult();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "additionalData":
+                   instance.additionalData = additionalDataAdapter.read(in);
+                   break;
+                 case "authCode":
+                   instance.authCode = authCodeAdapter.read(in);
+                   break;
+                 case "dccAmount":
+                   instance.dccAmount = dccAmountAdapter.read(in);
+                   break;
+                 case "dccSignature":
+                   instance.dccSignature = dccSignatureAdapter.read(in);
+                   break;
+                 case "fraudResult":
+                   instance.fraudResult = fraudResultAdapter.read(in);
+                   break;
+                 case "issuerUrl":
+                   instance.issuerUrl = issuerUrlAdapter.read(in);
+                   break;
+                 case "md":
+                   instance.md = mdAdapter.read(in);
+                   break;
+                 case "paRequest":
+                   instance.paRequest = paRequestAdapter.read(in);
+                   break;
+                 case "pspReference":
+                   instance.pspReference = pspReferenceAdapter.read(in);
+                   break;
+                 case "refusalReason":
+                   instance.refusalReason = refusalReasonAdapter.read(in);
+                   break;
+                 case "resultCode":
+                   instance.resultCode = resultCodeAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `PaymentResult` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
@@ -337,22 +337,64 @@ public class ServiceError {
        if (!ServiceError.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'ServiceError' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<ServiceError> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(ServiceError.class));
+       final TypeAdapter<Map<String, String>> additionalDataAdapter = gson.getAdapter(new TypeToken<Map<String, String>>() {});
+       final TypeAdapter<String> errorCodeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> errorTypeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> messageAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> pspReferenceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<Integer> statusAdapter = gson.getAdapter(Integer.class);
 
        return (TypeAdapter<T>) new TypeAdapter<ServiceError>() {
            @Override
            public void write(JsonWriter out, ServiceError value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("additionalData");
+             additionalDataAdapter.write(out, value.additionalData);
+             out.name("errorCode");
+             errorCodeAdapter.write(out, value.errorCode);
+             out.name("errorType");
+             errorTypeAdapter.write(out, value.errorType);
+             out.name("message");
+             messageAdapter.write(out, value.message);
+             out.name("pspReference");
+             pspReferenceAdapter.write(out, value.pspReference);
+             out.name("status");
+             statusAdapter.write(out, value.status);
+             out.endObject();
            }
 
            @Override
            public ServiceError read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             ServiceError instance = new ServiceError();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "additionalData":
+                   instance.additionalData = additionalDataAdapter.read(in);
+                   break;
+                 case "errorCode":
+                   instance.errorCode = errorCodeAdapter.read(in);
+                   break;
+                 case "errorType":
+                   instance.errorType = errorTypeAdapter.read(in);
+                   break;
+                 case "message":
+                   instance.message = messageAdapter.read(in);
+                   break;
+                 case "pspReference":
+                   instance.pspReference = pspReferenceAdapter.read(in);
+                   break;
+                 case "status":
+                   instance.status = statusAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `ServiceError` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
@@ -232,22 +232,46 @@ public class ShopperInteractionDevice {
        if (!ShopperInteractionDevice.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'ShopperInteractionDevice' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<ShopperInteractionDevice> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(ShopperInteractionDevice.class));
+       final TypeAdapter<String> localeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> osAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> osVersionAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<ShopperInteractionDevice>() {
            @Override
            public void write(JsonWriter out, ShopperInteractionDevice value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("locale");
+             localeAdapter.write(out, value.locale);
+             out.name("os");
+             osAdapter.write(out, value.os);
+             out.name("osVersion");
+             osVersionAdapter.write(out, value.osVersion);
+             out.endObject();
            }
 
            @Override
            public ShopperInteractionDevice read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             ShopperInteractionDevice instance = new ShopperInteractionDevice();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "locale":
+                   instance.locale = localeAdapter.read(in);
+                   break;
+                 case "os":
+                   instance.os = osAdapter.read(in);
+                   break;
+                 case "osVersion":
+                   instance.osVersion = osVersionAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `ShopperInteractionDevice` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
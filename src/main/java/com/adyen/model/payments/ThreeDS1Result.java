@@ -334,22 +334,64 @@ public class ThreeDS1Result {
        if (!ThreeDS1Result.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'ThreeDS1Result' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<ThreeDS1Result> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(ThreeDS1Result.class));
+       final TypeAdapter<String> cavvAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> cavvAlgorithmAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> eciAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> threeDAuthenticatedResponseAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> threeDOfferedResponseAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> xidAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<ThreeDS1Result>() {
            @Override
            public void write(JsonWriter out, ThreeDS1Result value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("cavv");
+             cavvAdapter.write(out, value.cavv);
+             out.name("cavvAlgorithm");
+             cavvAlgorithmAdapter.write(out, value.cavvAlgorithm);
+             out.name("eci");
+             eciAdapter.write(out, value.eci);
+             out.name("threeDAuthenticatedResponse");
+             threeDAuthenticatedResponseAdapter.write(out, value.threeDAuthenticatedResponse);
+             out.name("threeDOfferedResponse");
+             threeDOfferedResponseAdapter.write(out, value.threeDOfferedResponse);
+             out.name("xid");
+             xidAdapter.write(out, value.xid);
+             out.endObject();
            }
 
            @Override
            public ThreeDS1Result read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             ThreeDS1Result instance = new ThreeDS1Result();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "cavv":
+                   instance.cavv = cavvAdapter.read(in);
+                   break;
+                 case "cavvAlgorithm":
+                   instance.cavvAlgorithm = cavvAlgorithmAdapter.read(in);
+                   break;
+                 case "eci":
+                   instance.eci = eciAdapter.read(in);
+                   break;
+                 case "threeDAuthenticatedResponse":
+                   instance.threeDAuthenticatedResponse = threeDAuthenticatedResponseAdapter.read(in);
+                   break;
+                 case "threeDOfferedResponse":
+                   instance.threeDOfferedResponse = threeDOfferedResponseAdapter.read(in);
+                   break;
+                 case "xid":
+                   instance.xid = xidAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `ThreeDS1Result` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
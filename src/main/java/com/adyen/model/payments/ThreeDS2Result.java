@@ -90,13 +90,20 @@ public class ThreeDS2Result {
       return String.valueOf(value);
     }
 
-    public static ChallengeCancelEnum fromValue(String value) {
+    private static final Map<String, ChallengeCancelEnum> BY_VALUE = new HashMap<String, ChallengeCancelEnum>();
+
+    static {
       for (ChallengeCancelEnum b : ChallengeCancelEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    }
+
+    public static ChallengeCancelEnum fromValue(String value) {
+      ChallengeCancelEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      }
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<ChallengeCancelEnum> {
@@ -145,13 +152,20 @@ public class ThreeDS2Result {
       return String.valueOf(value);
     }
 
-    public static ChallengeIndicatorEnum fromValue(String value) {
+    private static final Map<String, ChallengeIndicatorEnum> BY_VALUE = new HashMap<String, ChallengeIndicatorEnum>();
+
+    static {
       for (ChallengeIndicatorEnum b : ChallengeIndicatorEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    }
+
+    public static ChallengeIndicatorEnum fromValue(String value) {
+      ChallengeIndicatorEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      }
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<ChallengeIndicatorEnum> {
@@ -208,13 +222,20 @@ public class ThreeDS2Result {
       return String.valueOf(value);
     }
 
-    public static ExemptionIndicatorEnum fromValue(String value) {
+    private static final Map<String, ExemptionIndicatorEnum> BY_VALUE = new HashMap<String, ExemptionIndicatorEnum>();
+
+    static {
       for (ExemptionIndicatorEnum b : ExemptionIndicatorEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static ExemptionIndicatorEnum fromValue(String value) {
+      ExemptionIndicatorEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<ExemptionIndicatorEnum> {
@@ -774,22 +795,112 @@ public class ThreeDS2Result {
        if (!ThreeDS2Result.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'ThreeDS2Result' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<ThreeDS2Result> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(ThreeDS2Result.class));
+       final TypeAdapter<String> authenticationValueAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> cavvAlgorithmAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<ChallengeCancelEnum> challengeCancelAdapter = gson.getAdapter(ChallengeCancelEnum.class);
+       final TypeAdapter<ChallengeIndicatorEnum> challengeIndicatorAdapter = gson.getAdapter(ChallengeIndicatorEnum.class);
+       final TypeAdapter<String> dsTransIDAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> eciAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<ExemptionIndicatorEnum> exemptionIndicatorAdapter = gson.getAdapter(ExemptionIndicatorEnum.class);
+       final TypeAdapter<String> messageVersionAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> riskScoreAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> threeDSServerTransIDAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> timestampAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> transStatusAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> transStatusReasonAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> whiteListStatusAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<ThreeDS2Result>() {
            @Override
            public void write(JsonWriter out, ThreeDS2Result value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("authenticationValue");
+             authenticationValueAdapter.write(out, value.authenticationValue);
+             out.name("cavvAlgorithm");
+             cavvAlgorithmAdapter.write(out, value.cavvAlgorithm);
+             out.name("challengeCancel");
+             challengeCancelAdapter.write(out, value.challengeCancel);
+             out.name("challengeIndicator");
+             challengeIndicatorAdapter.write(out, value.challengeIndicator);
+             out.name("dsTransID");
+             dsTransIDAdapter.write(out, value.dsTransID);
+             out.name("eci");
+             eciAdapter.write(out, value.eci);
+             out.name("exemptionIndicator");
+             exemptionIndicatorAdapter.write(out, value.exemptionIndicator);
+             out.name("messageVersion");
+             messageVersionAdapter.write(out, value.messageVersion);
+             out.name("riskScore");
+             riskScoreAdapter.write(out, value.riskScore);
+             out.name("threeDSServerTransID");
+             threeDSServerTransIDAdapter.write(out, value.threeDSServerTransID);
+             out.name("timestamp");
+             timestampAdapter.write(out, value.timestamp);
+             out.name("transStatus");
+             transStatusAdapter.write(out, value.transStatus);
+             out.name("transStatusReason");
+             transStatusReasonAdapter.write(out, value.transStatusReason);
+             out.name("whiteListStatus");
+             whiteListStatusAdapter.write(out, value.whiteListStatus);
+             out.endObject();
            }
 
            @Override
            public ThreeDS2Result read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             ThreeDS2Result instance = new ThreeDS2Result();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "authenticationValue":
+                   instance.authenticationValue = authenticationValueAdapter.read(in);
+                   break;
+                 case "cavvAlgorithm":
+                   instance.cavvAlgorithm = cavvAlgorithmAdapter.read(in);
+                   break;
+                 case "challengeCancel":
+                   instance.challengeCancel = challengeCancelAdapter.read(in);
+                   break;
+                 case "challengeIndicator":
+                   instance.challengeIndicator = challengeIndicatorAdapter.read(in);
+                   break;
+                 case "dsTransID":
+                   instance.dsTransID = dsTransIDAdapter.read(in);
+                   break;
+                 case "eci":
+                   instance.eci = eciAdapter.read(in);
+                   break;
+                 case "exemptionIndicator":
+                   instance.exemptionIndicator = exemptionIndicatorAdapter.read(in);
+                   break;
+                 case "messageVersion":
+                   instance.messageVersion = messageVersionAdapter.read(in);
+                   break;
+                 case "riskScore":
+                   instance.riskScore = riskScoreAdapter.read(in);
+                   break;
+                 case "threeDSServerTransID":
+                   instance.threeDSServerTransID = threeDSServerTransIDAdapter.read(in);
+                   break;
+                 case "timestamp":
+                   instance.timestamp = timestampAdapter.read(in);
+                   break;
+                 case "transStatus":
+                   instance.transStatus = transStatusAdapter.read(in);
+                   break;
+                 case "transStatusReason":
+                   instance.transStatusReason = transStatusReasonAdapter.read(in);
+                   break;
+                 case "whiteListStatus":
+                   instance.whiteListStatus = whiteListStatusAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `ThreeDS2Result` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
@@ -165,22 +165,34 @@ public class ThreeDS2ResultResponse {
        if (!ThreeDS2ResultResponse.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'ThreeDS2ResultResponse' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<ThreeDS2ResultResponse> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(ThreeDS2ResultResponse.class));
+       final TypeAdapter<ThreeDS2Result> threeDS2ResultAdapter = gson.getAdapter(ThreeDS2Result.class);
 
        return (TypeAdapter<T>) new TypeAdapter<ThreeDS2ResultResponse>() {
            @Override
            public void write(JsonWriter out, ThreeDS2ResultResponse value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("threeDS2Result");
+             threeDS2ResultAdapter.write(out, value.threeDS2Result);
+             out.endObject();
            }
 
            @Override
            public ThreeDS2ResultResponse read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             ThreeDS2ResultResponse instance = new ThreeDS2ResultResponse();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "threeDS2Result":
+                   instance.threeDS2Result = threeDS2ResultAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `ThreeDS2ResultResponse` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
@@ -84,13 +84,20 @@ public class ThreeDSRequestorAuthenticationInfo {
       return String.valueOf(value);
     }
 
-    public static ThreeDSReqAuthMethodEnum fromValue(String value) {
+    private static final Map<String, ThreeDSReqAuthMethodEnum> BY_VALUE = new HashMap<String, ThreeDSReqAuthMethodEnum>();
+
+    static {
       for (ThreeDSReqAuthMethodEnum b : ThreeDSReqAuthMethodEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static ThreeDSReqAuthMethodEnum fromValue(String value) {
+      ThreeDSReqAuthMethodEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<ThreeDSReqAuthMethodEnum> {
@@ -290,22 +297,46 @@ public class ThreeDSRequestorAuthenticationInfo {
        if (!ThreeDSRequestorAuthenticationInfo.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'ThreeDSRequestorAuthenticationInfo' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<ThreeDSRequestorAuthenticationInfo> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(ThreeDSRequestorAuthenticationInfo.class));
+       final TypeAdapter<String> threeDSReqAuthDataAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<ThreeDSReqAuthMethodEnum> threeDSReqAuthMethodAdapter = gson.getAdapter(ThreeDSReqAuthMethodEnum.class);
+       final TypeAdapter<String> threeDSReqAuthTimestampAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<ThreeDSRequestorAuthenticationInfo>() {
            @Override
            public void write(JsonWriter out, ThreeDSRequestorAuthenticationInfo value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("threeDSReqAuthData");
+             threeDSReqAuthDataAdapter.write(out, value.threeDSReqAuthData);
+             out.name("threeDSReqAuthMethod");
+             threeDSReqAuthMethodAdapter.write(out, value.threeDSReqAuthMethod);
+             out.name("threeDSReqAuthTimestamp");
+             threeDSReqAuthTimestampAdapter.write(out, value.threeDSReqAuthTimestamp);
+             out.endObject();
            }
 
            @Override
            public ThreeDSRequestorAuthenticationInfo read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             ThreeDSRequestorAuthenticationInfo instance = new ThreeDSRequestorAuthenticationInfo();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "threeDSReqAuthData":
+                   instance.threeDSReqAuthData = threeDSReqAuthDataAdapter.read(in);
+                   break;
+                 case "threeDSReqAuthMethod":
+                   instance.threeDSReqAuthMethod = threeDSReqAuthMethodAdapter.read(in);
+                   break;
+                 case "threeDSReqAuthTimestamp":
+                   instance.threeDSReqAuthTimestamp = threeDSReqAuthTimestampAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `ThreeDSRequestorAuthenticationInfo` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
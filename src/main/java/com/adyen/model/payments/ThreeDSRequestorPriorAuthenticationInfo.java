@@ -80,13 +80,20 @@ public class ThreeDSRequestorPriorAuthenticationInfo {
       return String.valueOf(value);
     }
 
-    public static ThreeDSReqPriorAuthMethodEnum fromValue(String value) {
+    private static final Map<String, ThreeDSReqPriorAuthMethodEnum> BY_VALUE = new HashMap<String, ThreeDSReqPriorAuthMethodEnum>();
+
+    static {
       for (ThreeDSReqPriorAuthMethodEnum b : ThreeDSReqPriorAuthMethodEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static ThreeDSReqPriorAuthMethodEnum fromValue(String value) {
+      ThreeDSReqPriorAuthMethodEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<ThreeDSReqPriorAuthMethodEnum> {
@@ -320,22 +327,52 @@ public class ThreeDSRequestorPriorAuthenticationInfo {
        if (!ThreeDSRequestorPriorAuthenticationInfo.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'ThreeDSRequestorPriorAuthenticationInfo' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<ThreeDSRequestorPriorAuthenticationInfo> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(ThreeDSRequestorPriorAuthenticationInfo.class));
+       final TypeAdapter<String> threeDSReqPriorAuthDataAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<ThreeDSReqPriorAuthMethodEnum> threeDSReqPriorAuthMethodAdapter = gson.getAdapter(ThreeDSReqPriorAuthMethodEnum.class);
+       final TypeAdapter<String> threeDSReqPriorAuthTimestampAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> threeDSReqPriorRefAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<ThreeDSRequestorPriorAuthenticationInfo>() {
            @Override
            public void write(JsonWriter out, ThreeDSRequestorPriorAuthenticationInfo value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("threeDSReqPriorAuthData");
+             threeDSReqPriorAuthDataAdapter.write(out, value.threeDSReqPriorAuthData);
+             out.name("threeDSReqPriorAuthMethod");
+             threeDSReqPriorAuthMethodAdapter.write(out, value.threeDSReqPriorAuthMethod);
+             out.name("threeDSReqPriorAuthTimestamp");
+             threeDSReqPriorAuthTimestampAdapter.write(out, value.threeDSReqPriorAuthTimestamp);
+             out.name("threeDSReqPriorRef");
+             threeDSReqPriorRefAdapter.write(out, value.threeDSReqPriorRef);
+             out.endObject();
            }
 
            @Override
            public ThreeDSRequestorPriorAuthenticationInfo read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             ThreeDSRequestorPriorAuthenticationInfo instance = new ThreeDSRequestorPriorAuthenticationInfo();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "threeDSReqPriorAuthData":
+                   instance.threeDSReqPriorAuthData = threeDSReqPriorAuthDataAdapter.read(in);
+                   break;
+                 case "threeDSReqPriorAuthMethod":
+                   instance.threeDSReqPriorAuthMethod = threeDSReqPriorAuthMethodAdapter.read(in);
+                   break;
+                 case "threeDSReqPriorAuthTimestamp":
+                   instance.threeDSReqPriorAuthTimestamp = threeDSReqPriorAuthTimestampAdapter.read(in);
+                   break;
+                 case "threeDSReqPriorRef":
+                   instance.threeDSReqPriorRef = threeDSReqPriorRefAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `ThreeDSRequestorPriorAuthenticationInfo` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
@@ -76,13 +76,20 @@ public class ThreeDSecureData {
       return String.valueOf(value);
     }
 
-    public static AuthenticationResponseEnum fromValue(String value) {
+    private static final Map<String, AuthenticationResponseEnum> BY_VALUE = new HashMap<String, AuthenticationResponseEnum>();
+
+    static {
       for (AuthenticationResponseEnum b : AuthenticationResponseEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    }
+
+    public static AuthenticationResponseEnum fromValue(String value) {
+      AuthenticationResponseEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      }
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<AuthenticationResponseEnum> {
@@ -145,13 +152,20 @@ public class ThreeDSecureData {
       return String.valueOf(value);
     }
 
-    public static ChallengeCancelEnum fromValue(String value) {
+    private static final Map<String, ChallengeCancelEnum> BY_VALUE = new HashMap<String, ChallengeCancelEnum>();
+
+    static {
       for (ChallengeCancelEnum b : ChallengeCancelEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    }
+
+    public static ChallengeCancelEnum fromValue(String value) {
+      ChallengeCancelEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      }
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<ChallengeCancelEnum> {
@@ -208,13 +222,20 @@ public class ThreeDSecureData {
       return String.valueOf(value);
     }
 
-    public static DirectoryResponseEnum fromValue(String value) {
+    private static final Map<String, DirectoryResponseEnum> BY_VALUE = new HashMap<String, DirectoryResponseEnum>();
+
+    static {
       for (DirectoryResponseEnum b : DirectoryResponseEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static DirectoryResponseEnum fromValue(String value) {
+      DirectoryResponseEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<DirectoryResponseEnum> {
@@ -702,22 +723,100 @@ public class ThreeDSecureData {
        if (!ThreeDSecureData.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'ThreeDSecureData' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<ThreeDSecureData> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(ThreeDSecureData.class));
+       final TypeAdapter<AuthenticationResponseEnum> authenticationResponseAdapter = gson.getAdapter(AuthenticationResponseEnum.class);
+       final TypeAdapter<byte[]> cavvAdapter = gson.getAdapter(byte[].class);
+       final TypeAdapter<String> cavvAlgorithmAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<ChallengeCancelEnum> challengeCancelAdapter = gson.getAdapter(ChallengeCancelEnum.class);
+       final TypeAdapter<DirectoryResponseEnum> directoryResponseAdapter = gson.getAdapter(DirectoryResponseEnum.class);
+       final TypeAdapter<String> dsTransIDAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> eciAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> riskScoreAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> threeDSVersionAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<byte[]> tokenAuthenticationVerificationValueAdapter = gson.getAdapter(byte[].class);
+       final TypeAdapter<String> transStatusReasonAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<byte[]> xidAdapter = gson.getAdapter(byte[].class);
 
        return (TypeAdapter<T>) new TypeAdapter<ThreeDSecureData>() {
            @Override
            public void write(JsonWriter out, ThreeDSecureData value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("authenticationResponse");
+             authenticationResponseAdapter.write(out, value.authenticationResponse);
+             out.name("cavv");
+             cavvAdapter.write(out, value.cavv);
+             out.name("cavvAlgorithm");
+             cavvAlgorithmAdapter.write(out, value.cavvAlgorithm);
+             out.name("challengeCancel");
+             challengeCancelAdapter.write(out, value.challengeCancel);
+             out.name("directoryResponse");
+             directoryResponseAdapter.write(out, value.directoryResponse);
+             out.name("dsTransID");
+             dsTransIDAdapter.write(out, value.dsTransID);
+             out.name("eci");
+             eciAdapter.write(out, value.eci);
+             out.name("riskScore");
+             riskScoreAdapter.write(out, value.riskScore);
+             out.name("threeDSVersion");
+             threeDSVersionAdapter.write(out, value.threeDSVersion);
+             out.name("tokenAuthenticationVerificationValue");
+             tokenAuthenticationVerificationValueAdapter.write(out, value.tokenAuthenticationVerificationValue);
+             out.name("transStatusReason");
+             transStatusReasonAdapter.write(out, value.transStatusReason);
+             out.name("xid");
+             xidAdapter.write(out, value.xid);
+             out.endObject();
            }
 
            @Override
            public ThreeDSecureData read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             ThreeDSecureData instance = new ThreeDSecureData();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "authenticationResponse":
+                   instance.authenticationResponse = authenticationResponseAdapter.read(in);
+                   break;
+                 case "cavv":
+                   instance.cavv = cavvAdapter.read(in);
+                   break;
+                 case "cavvAlgorithm":
+                   instance.cavvAlgorithm = cavvAlgorithmAdapter.read(in);
+                   break;
+                 case "challengeCancel":
+                   instance.challengeCancel = challengeCancelAdapter.read(in);
+                   break;
+                 case "directoryResponse":
+                   instance.directoryResponse = directoryResponseAdapter.read(in);
+                   break;
+                 case "dsTransID":
+                   instance.dsTransID = dsTransIDAdapter.read(in);
+                   break;
+                 case "eci":
+                   instance.eci = eciAdapter.read(in);
+                   break;
+                 case "riskScore":
+                   instance.riskScore = riskScoreAdapter.read(in);
+                   break;
+                 case "threeDSVersion":
+                   instance.threeDSVersion = threeDSVersionAdapter.read(in);
+                   break;
+                 case "tokenAuthenticationVerificationValue":
+                   instance.tokenAuthenticationVerificationValue = tokenAuthenticationVerificationValueAdapter.read(in);
+                   break;
+                 case "transStatusReason":
+                   instance.transStatusReason = transStatusReasonAdapter.read(in);
+                   break;
+                 case "xid":
+                   instance.xid = xidAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `ThreeDSecureData` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
@@ -234,22 +234,61 @@ public class FraudCheckResult {
        if (!FraudCheckResult.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'FraudCheckResult' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<FraudCheckResult> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(FraudCheckResult.class));
+       final TypeAdapter<Integer> accountScoreAdapter = gson.getAdapter(Integer.class);
+       final TypeAdapter<Integer> checkIdAdapter = gson.getAdapter(Integer.class);
+       final TypeAdapter<String> nameAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<FraudCheckResult>() {
            @Override
            public void write(JsonWriter out, FraudCheckResult value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("accountScore");
+             accountScoreAdapter.write(out, value.accountScore);
+             out.name("checkId");
+             checkIdAdapter.write(out, value.checkId);
+             out.name("name");
+             nameAdapter.write(out, value.name);
+             out.endObject();
            }
 
            @Override
            public FraudCheckResult read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             FraudCheckResult instance = new FraudCheckResult();
+             boolean accountScoreFound = false;
+             boolean checkIdFound = false;
+             boolean nameFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "accountScore":
+                   instance.accountScore = accountScoreAdapter.read(in);
+                   accountScoreFound = true;
+                   break;
+                 case "checkId":
+                   instance.checkId = checkIdAdapter.read(in);
+                   checkIdFound = true;
+                   break;
+                 case "name":
+                   instance.name = nameAdapter.read(in);
+                   nameFound = true;
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `FraudCheckResult` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!accountScoreFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "accountScore", in.getPath()));
+             }
+             if (!checkIdFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "checkId", in.getPath()));
+             }
+             if (!nameFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "name", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
@@ -46,7 +46,7 @@ import java.util.HashMap;
  *       backward-compatibility
  */
 public class JSON {
-    private static Gson gson;
+    private static volatile Gson gson;
     private static boolean isLenientOnJson = false;
     private static DateTypeAdapter dateTypeAdapter = new DateTypeAdapter();
     private static SqlDateTypeAdapter sqlDateTypeAdapter = new SqlDateTypeAdapter();
@@ -83,7 +83,10 @@ public class JSON {
         return clazz;
     }
 
-    {
+    /**
+     * Builds the default Gson with the adapters of all the models of the package
+     */
+    private static Gson createDefaultGson() {
         GsonBuilder gsonBuilder = createGson();
         gsonBuilder.registerTypeAdapter(Date.class, dateTypeAdapter);
         gsonBuilder.registerTypeAdapter(java.sql.Date.class, sqlDateTypeAdapter);
@@ -109,22 +112,30 @@ public class JSON {
         gsonBuilder.registerTypeAdapterFactory(new com.adyen.model.payout.StoreDetailResponse.CustomTypeAdapterFactory());
         gsonBuilder.registerTypeAdapterFactory(new com.adyen.model.payout.SubmitRequest.CustomTypeAdapterFactory());
         gsonBuilder.registerTypeAdapterFactory(new com.adyen.model.payout.SubmitResponse.CustomTypeAdapterFactory());
-        gson = gsonBuilder.create();
+        return gsonBuilder.create();
+    }
+
+    /**
+     * Holds the default Gson, built once on first use and safely published to all threads by the class initialization
+     */
+    private static final class DefaultGson {
+        private static final Gson INSTANCE = createDefaultGson();
     }
 
     /**
      * Get Gson.
      *
-     * @return Gson
+     * @return the Gson set with {@link #setGson(Gson)}, or else the default one
      */
     public static Gson getGson() {
-        return gson;
+        Gson custom = gson;
+        return custom != null ? custom : DefaultGson.INSTANCE;
     }
 
     /**
      * Set Gson.
      *
-     * @param gson Gson
+     * @param gson Gson, null to use the default one again
      */
     public static void setGson(Gson gson) {
         JSON.gson = gson;
@@ -141,7 +152,7 @@ public class JSON {
      * @return String representation of the JSON
      */
     public static String serialize(Object obj) {
-        return gson.toJson(obj);
+        return getGson().toJson(obj);
     }
 
     /**
@@ -159,9 +170,9 @@ public class JSON {
                 JsonReader jsonReader = new JsonReader(new StringReader(body));
                 // see https://google-gson.googlecode.com/svn/trunk/gson/docs/javadocs/com/google/gson/stream/JsonReader.html#setLenient(boolean)
                 jsonReader.setLenient(true);
-                return gson.fromJson(jsonReader, returnType);
+                return getGson().fromJson(jsonReader, returnType);
             } else {
-                return gson.fromJson(body, returnType);
+                return getGson().fromJson(body, returnType);
             }
         } catch (JsonParseException e) {
             // Fallback processing when failed to parse JSON form response body:
@@ -75,13 +75,20 @@ public class Recurring {
       return String.valueOf(value);
     }
 
-    public static ContractEnum fromValue(String value) {
+    private static final Map<String, ContractEnum> BY_VALUE = new HashMap<String, ContractEnum>();
+
+    static {
       for (ContractEnum b : ContractEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static ContractEnum fromValue(String value) {
+      ContractEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<ContractEnum> {
@@ -138,13 +145,20 @@ public class Recurring {
       return String.valueOf(value);
     }
 
-    public static TokenServiceEnum fromValue(String value) {
+    private static final Map<String, TokenServiceEnum> BY_VALUE = new HashMap<String, TokenServiceEnum>();
+
+    static {
       for (TokenServiceEnum b : TokenServiceEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static TokenServiceEnum fromValue(String value) {
+      TokenServiceEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<TokenServiceEnum> {
@@ -399,22 +413,58 @@ public class Recurring {
        if (!Recurring.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'Recurring' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<Recurring> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(Recurring.class));
+       final TypeAdapter<ContractEnum> contractAdapter = gson.getAdapter(ContractEnum.class);
+       final TypeAdapter<String> recurringDetailNameAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<Date> recurringExpiryAdapter = gson.getAdapter(Date.class);
+       final TypeAdapter<String> recurringFrequencyAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<TokenServiceEnum> tokenServiceAdapter = gson.getAdapter(TokenServiceEnum.class);
 
        return (TypeAdapter<T>) new TypeAdapter<Recurring>() {
            @Override
            public void write(JsonWriter out, Recurring value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("contract");
+             contractAdapter.write(out, value.contract);
+             out.name("recurringDetailName");
+             recurringDetailNameAdapter.write(out, value.recurringDetailName);
+             out.name("recurringExpiry");
+             recurringExpiryAdapter.write(out, value.recurringExpiry);
+             out.name("recurringFrequency");
+             recurringFrequencyAdapter.write(out, value.recurringFrequency);
+             out.name("tokenService");
+             tokenServiceAdapter.write(out, value.tokenService);
+             out.endObject();
            }
 
            @Override
            public Recurring read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             Recurring instance = new Recurring();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "contract":
+                   instance.contract = contractAdapter.read(in);
+                   break;
+                 case "recurringDetailName":
+                   instance.recurringDetailName = recurringDetailNameAdapter.read(in);
+                   break;
+                 case "recurringExpiry":
+                   instance.recurringExpiry = recurringExpiryAdapter.read(in);
+                   break;
+                 case "recurringFrequency":
+                   instance.recurringFrequency = recurringFrequencyAdapter.read(in);
+                   break;
+                 case "tokenService":
+                   instance.tokenService = tokenServiceAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `Recurring` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
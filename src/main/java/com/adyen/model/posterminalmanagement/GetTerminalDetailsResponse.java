@@ -22,6 +22,8 @@
 package com.adyen.model.posterminalmanagement;
 
 import java.util.Objects;
+import java.util.HashMap;
+import java.util.Map;
 
 import com.fasterxml.jackson.annotation.JsonValue;
 import com.google.gson.TypeAdapter;
@@ -137,13 +139,16 @@ public class GetTerminalDetailsResponse {
             return String.valueOf(value);
         }
 
-        public static TerminalStatusEnum fromValue(String text) {
+        private static final Map<String, TerminalStatusEnum> BY_VALUE = new HashMap<String, TerminalStatusEnum>();
+
+        static {
             for (TerminalStatusEnum b : TerminalStatusEnum.values()) {
-                if (String.valueOf(b.value).equals(text)) {
-                    return b;
-                }
+                BY_VALUE.put(b.value, b);
             }
-            return null;
+        }
+
+        public static TerminalStatusEnum fromValue(String text) {
+            return BY_VALUE.get(text);
         }
 
         public static class Adapter extends TypeAdapter<TerminalStatusEnum> {
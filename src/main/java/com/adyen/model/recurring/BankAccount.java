@@ -436,22 +436,82 @@ public class BankAccount {
        if (!BankAccount.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'BankAccount' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<BankAccount> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(BankAccount.class));
+       final TypeAdapter<String> bankAccountNumberAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> bankCityAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> bankLocationIdAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> bankNameAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> bicAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> countryCodeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> ibanAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> ownerNameAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> taxIdAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<BankAccount>() {
            @Override
            public void write(JsonWriter out, BankAccount value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("bankAccountNumber");
+             bankAccountNumberAdapter.write(out, value.bankAccountNumber);
+             out.name("bankCity");
+             bankCityAdapter.write(out, value.bankCity);
+             out.name("bankLocationId");
+             bankLocationIdAdapter.write(out, value.bankLocationId);
+             out.name("bankName");
+             bankNameAdapter.write(out, value.bankName);
+             out.name("bic");
+             bicAdapter.write(out, value.bic);
+             out.name("countryCode");
+             countryCodeAdapter.write(out, value.countryCode);
+             out.name("iban");
+             ibanAdapter.write(out, value.iban);
+             out.name("ownerName");
+             ownerNameAdapter.write(out, value.ownerName);
+             out.name("taxId");
+             taxIdAdapter.write(out, value.taxId);
+             out.endObject();
            }
 
            @Override
            public BankAccount read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             BankAccount instance = new BankAccount();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "bankAccountNumber":
+                   instance.bankAccountNumber = bankAccountNumberAdapter.read(in);
+                   break;
+                 case "bankCity":
+                   instance.bankCity = bankCityAdapter.read(in);
+                   break;
+                 case "bankLocationId":
+                   instance.bankLocationId = bankLocationIdAdapter.read(in);
+                   break;
+                 case "bankName":
+                   instance.bankName = bankNameAdapter.read(in);
+                   break;
+                 case "bic":
+                   instance.bic = bicAdapter.read(in);
+                   break;
+                 case "countryCode":
+                   instance.countryCode = countryCodeAdapter.read(in);
+                   break;
+                 case "iban":
+                   instance.iban = ibanAdapter.read(in);
+                   break;
+                 case "ownerName":
+                   instance.ownerName = ownerNameAdapter.read(in);
+                   break;
+                 case "taxId":
+                   instance.taxId = taxIdAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `BankAccount` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
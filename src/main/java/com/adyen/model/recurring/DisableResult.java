@@ -164,22 +164,34 @@ public class DisableResult {
        if (!DisableResult.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'DisableResult' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<DisableResult> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(DisableResult.class));
+       final TypeAdapter<String> responseAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<DisableResult>() {
            @Override
            public void write(JsonWriter out, DisableResult value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("response");
+             responseAdapter.write(out, value.response);
+             out.endObject();
            }
 
            @Override
            public DisableResult read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             DisableResult instance = new DisableResult();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "response":
+                   instance.response = responseAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `DisableResult` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
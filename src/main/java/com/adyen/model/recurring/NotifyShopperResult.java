@@ -368,22 +368,70 @@ public class NotifyShopperResult {
        if (!NotifyShopperResult.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'NotifyShopperResult' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<NotifyShopperResult> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(NotifyShopperResult.class));
+       final TypeAdapter<String> displayedReferenceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> messageAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> pspReferenceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> referenceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> resultCodeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> shopperNotificationReferenceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> storedPaymentMethodIdAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<NotifyShopperResult>() {
            @Override
            public void write(JsonWriter out, NotifyShopperResult value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("displayedReference");
+             displayedReferenceAdapter.write(out, value.displayedReference);
+             out.name("message");
+             messageAdapter.write(out, value.message);
+             out.name("pspReference");
+             pspReferenceAdapter.write(out, value.pspReference);
+             out.name("reference");
+             referenceAdapter.write(out, value.reference);
+             out.name("resultCode");
+             resultCodeAdapter.write(out, value.resultCode);
+             out.name("shopperNotificationReference");
+             shopperNotificationReferenceAdapter.write(out, value.shopperNotificationReference);
+             out.name("storedPaymentMethodId");
+             storedPaymentMethodIdAdapter.write(out, value.storedPaymentMethodId);
+             out.endObject();
            }
 
            @Override
            public NotifyShopperResult read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             NotifyShopperResult instance = new NotifyShopperResult();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "displayedReference":
+                   instance.displayedReference = displayedReferenceAdapter.read(in);
+                   break;
+                 case "message":
+                   instance.message = messageAdapter.read(in);
+                   break;
+                 case "pspReference":
+                   instance.pspReference = pspReferenceAdapter.read(in);
+                   break;
+                 case "reference":
+                   instance.reference = referenceAdapter.read(in);
+                   break;
+                 case "resultCode":
+                   instance.resultCode = resultCodeAdapter.read(in);
+                   break;
+                 case "shopperNotificationReference":
+                   instance.shopperNotificationReference = shopperNotificationReferenceAdapter.read(in);
+                   break;
+                 case "storedPaymentMethodId":
+                   instance.storedPaymentMethodId = storedPaymentMethodIdAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `NotifyShopperResult` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
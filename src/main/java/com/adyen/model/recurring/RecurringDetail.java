@@ -735,22 +735,140 @@ public class RecurringDetail {
        if (!RecurringDetail.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'RecurringDetail' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<RecurringDetail> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(RecurringDetail.class));
+       final TypeAdapter<Map<String, String>> additionalDataAdapter = gson.getAdapter(new TypeToken<Map<String, String>>() {});
+       final TypeAdapter<String> aliasAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> aliasTypeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<BankAccount> bankAdapter = gson.getAdapter(BankAccount.class);
+       final TypeAdapter<Address> billingAddressAdapter = gson.getAdapter(Address.class);
+       final TypeAdapter<Card> cardAdapter = gson.getAdapter(Card.class);
+       final TypeAdapter<List<String>> contractTypesAdapter = gson.getAdapter(new TypeToken<List<String>>() {});
+       final TypeAdapter<Date> creationDateAdapter = gson.getAdapter(Date.class);
+       final TypeAdapter<String> firstPspReferenceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> nameAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> networkTxReferenceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> paymentMethodVariantAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> recurringDetailReferenceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<Name> shopperNameAdapter = gson.getAdapter(Name.class);
+       final TypeAdapter<String> socialSecurityNumberAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<TokenDetails> tokenDetailsAdapter = gson.getAdapter(TokenDetails.class);
+       final TypeAdapter<String> variantAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<RecurringDetail>() {
            @Override
            public void write(JsonWriter out, RecurringDetail value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("additionalData");
+             additionalDataAdapter.write(out, value.additionalData);
+             out.name("alias");
+             aliasAdapter.write(out, value.alias);
+             out.name("aliasType");
+             aliasTypeAdapter.write(out, value.aliasType);
+             out.name("bank");
+             bankAdapter.write(out, value.bank);
+             out.name("billingAddress");
+             billingAddressAdapter.write(out, value.billingAddress);
+             out.name("card");
+             cardAdapter.write(out, value.card);
+             out.name("contractTypes");
+             contractTypesAdapter.write(out, value.contractTypes);
+             out.name("creationDate");
+             creationDateAdapter.write(out, value.creationDate);
+             out.name("firstPspReference");
+             firstPspReferenceAdapter.write(out, value.firstPspReference);
+             out.name("name");
+             nameAdapter.write(out, value.name);
+             out.name("networkTxReference");
+             networkTxReferenceAdapter.write(out, value.networkTxReference);
+             out.name("paymentMethodVariant");
+             paymentMethodVariantAdapter.write(out, value.paymentMethodVariant);
+             out.name("recurringDetailReference");
+             recurringDetailReferenceAdapter.write(out, value.recurringDetailReference);
+             out.name("shopperName");
+             shopperNameAdapter.write(out, value.shopperName);
+             out.name("socialSecurityNumber");
+             socialSecurityNumberAdapter.write(out, value.socialSecurityNumber);
+             out.name("tokenDetails");
+             tokenDetailsAdapter.write(out, value.tokenDetails);
+             out.name("variant");
+             variantAdapter.write(out, value.variant);
+             out.endObject();
            }
 
            @Override
            public RecurringDetail read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             RecurringDetail instance = new RecurringDetail();
+             boolean recurringDetailReferenceFound = false;
+             boolean variantFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "additionalData":
+                   instance.additionalData = additionalDataAdapter.read(in);
+                   break;
+                 case "alias":
+                   instance.alias = aliasAdapter.read(in);
+                   break;
+                 case "aliasType":
+                   instance.aliasType = aliasTypeAdapter.read(in);
+                   break;
+                 case "bank":
+                   instance.bank = bankAdapter.read(in);
+                   break;
+                 case "billingAddress":
+                   instance.billingAddress = billingAddressAdapter.read(in);
+                   break;
+                 case "card":
+                   instance.card = cardAdapter.read(in);
+                   break;
+                 case "contractTypes":
+                   instance.contractTypes = contractTypesAdapter.read(in);
+                   break;
+                 case "creationDate":
+                   instance.creationDate = creationDateAdapter.read(in);
+                   break;
+                 case "firstPspReference":
+                   instance.firstPspReference = firstPspReferenceAdapter.read(in);
+                   break;
+                 case "name":
+                   instance.name = nameAdapter.read(in);
+                   break;
+                 case "networkTxReference":
+                   instance.networkTxReference = networkTxReferenceAdapter.read(in);
+                   break;
+                 case "paymentMethodVariant":
+                   instance.paymentMethodVariant = paymentMethodVariantAdapter.read(in);
+                   break;
+                 case "recurringDetailReference":
+                   instance.recurringDetailReference = recurringDetailReferenceAdapter.read(in);
+                   recurringDetailReferenceFound = true;
+                   break;
+                 case "shopperName":
+                   instance.shopperName = shopperNameAdapter.read(in);
+                   break;
+                 case "socialSecurityNumber":
+                   instance.socialSecurityNumber = socialSecurityNumberAdapter.read(in);
+                   break;
+                 case "tokenDetails":
+                   instance.tokenDetails = tokenDetailsAdapter.read(in);
+                   break;
+                 case "variant":
+                   instance.variant = variantAdapter.read(in);
+                   variantFound = true;
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `RecurringDetail` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!recurringDetailReferenceFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "recurringDetailReference", in.getPath()));
+             }
+             if (!variantFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "variant", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
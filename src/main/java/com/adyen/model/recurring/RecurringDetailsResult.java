@@ -282,22 +282,52 @@ public class RecurringDetailsResult {
        if (!RecurringDetailsResult.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'RecurringDetailsResult' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<RecurringDetailsResult> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(RecurringDetailsResult.class));
+       final TypeAdapter<Date> creationDateAdapter = gson.getAdapter(Date.class);
+       final TypeAdapter<List<RecurringDetail>> detailsAdapter = gson.getAdapter(new TypeToken<List<RecurringDetail>>() {});
+       final TypeAdapter<String> lastKnownShopperEmailAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> shopperReferenceAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<RecurringDetailsResult>() {
            @Override
            public void write(JsonWriter out, RecurringDetailsResult value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("creationDate");
+             creationDateAdapter.write(out, value.creationDate);
+             out.name("details");
+             detailsAdapter.write(out, value.details);
+             out.name("lastKnownShopperEmail");
+             lastKnownShopperEmailAdapter.write(out, value.lastKnownShopperEmail);
+             out.name("shopperReference");
+             shopperReferenceAdapter.write(out, value.shopperReference);
+             out.endObject();
            }
 
            @Override
            public RecurringDetailsResult read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             RecurringDetailsResult instance = new RecurringDetailsResult();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "creationDate":
+                   instance.creationDate = creationDateAdapter.read(in);
+                   break;
+                 case "details":
+                   instance.details = detailsAdapter.read(in);
+                   break;
+                 case "lastKnownShopperEmail":
+                   instance.lastKnownShopperEmail = lastKnownShopperEmailAdapter.read(in);
+                   break;
+                 case "shopperReference":
+                   instance.shopperReference = shopperReferenceAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `RecurringDetailsResult` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
@@ -207,22 +207,50 @@ public class ScheduleAccountUpdaterResult {
        if (!ScheduleAccountUpdaterResult.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'ScheduleAccountUpdaterResult' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<ScheduleAccountUpdaterResult> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(ScheduleAccountUpdaterResult.class));
+       final TypeAdapter<String> pspReferenceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> resultAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<ScheduleAccountUpdaterResult>() {
            @Override
            public void write(JsonWriter out, ScheduleAccountUpdaterResult value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("pspReference");
+             pspReferenceAdapter.write(out, value.pspReference);
+             out.name("result");
+             resultAdapter.write(out, value.result);
+             out.endObject();
            }
 
            @Override
            public ScheduleAccountUpdaterResult read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             ScheduleAccountUpdaterResult instance = new ScheduleAccountUpdaterResult();
+             boolean pspReferenceFound = false;
+             boolean resultFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "pspReference":
+                   instance.pspReference = pspReferenceAdapter.read(in);
+                   pspReferenceFound = true;
+                   break;
+                 case "result":
+                   instance.result = resultAdapter.read(in);
+                   resultFound = true;
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `ScheduleAccountUpdaterResult` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!pspReferenceFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "pspReference", in.getPath()));
+             }
+             if (!resultFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "result", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
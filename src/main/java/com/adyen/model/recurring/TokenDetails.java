@@ -205,22 +205,40 @@ public class TokenDetails {
        if (!TokenDetails.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'TokenDetails' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<TokenDetails> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(TokenDetails.class));
+       final TypeAdapter<Map<String, String>> tokenDataAdapter = gson.getAdapter(new TypeToken<Map<String, String>>() {});
+       final TypeAdapter<String> tokenDataTypeAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<TokenDetails>() {
            @Override
            public void write(JsonWriter out, TokenDetails value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("tokenData");
+             tokenDataAdapter.write(out, value.tokenData);
+             out.name("tokenDataType");
+             tokenDataTypeAdapter.write(out, value.tokenDataType);
+             out.endObject();
            }
 
            @Override
            public TokenDetails read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             TokenDetails instance = new TokenDetails();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "tokenData":
+                   instance.tokenData = tokenDataAdapter.read(in);
+                   break;
+                 case "tokenDataType":
+                   instance.tokenDataType = tokenDataTypeAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `TokenDetails` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
@@ -21,6 +21,8 @@
 package com.adyen.model.storedvalue;
 
 import java.util.Objects;
+import java.util.HashMap;
+import java.util.Map;
 
 import com.adyen.model.checkout.PaymentMethod;
 import com.fasterxml.jackson.annotation.JsonValue;
@@ -80,13 +82,16 @@ public class StoredValueBalanceMergeRequest {
             return String.valueOf(value);
         }
 
-        public static ShopperInteractionEnum fromValue(String text) {
+        private static final Map<String, ShopperInteractionEnum> BY_VALUE = new HashMap<String, ShopperInteractionEnum>();
+
+        static {
             for (ShopperInteractionEnum b : ShopperInteractionEnum.values()) {
-                if (String.valueOf(b.value).equals(text)) {
-                    return b;
-                }
+                BY_VALUE.put(b.value, b);
             }
-            return null;
+        }
+
+        public static ShopperInteractionEnum fromValue(String text) {
+            return BY_VALUE.get(text);
         }
 
         public static class Adapter extends TypeAdapter<ShopperInteractionEnum> {
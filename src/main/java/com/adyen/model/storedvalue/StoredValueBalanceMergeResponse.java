@@ -21,6 +21,8 @@
 package com.adyen.model.storedvalue;
 
 import java.util.Objects;
+import java.util.HashMap;
+import java.util.Map;
 
 import com.fasterxml.jackson.annotation.JsonValue;
 import com.google.gson.TypeAdapter;
@@ -76,13 +78,16 @@ public class StoredValueBalanceMergeResponse {
             return String.valueOf(value);
         }
 
-        public static ResultCodeEnum fromValue(String text) {
+        private static final Map<String, ResultCodeEnum> BY_VALUE = new HashMap<String, ResultCodeEnum>();
+
+        static {
             for (ResultCodeEnum b : ResultCodeEnum.values()) {
-                if (String.valueOf(b.value).equals(text)) {
-                    return b;
-                }
+                BY_VALUE.put(b.value, b);
             }
-            return null;
+        }
+
+        public static ResultCodeEnum fromValue(String text) {
+            return BY_VALUE.get(text);
         }
 
         public static class Adapter extends TypeAdapter<ResultCodeEnum> {
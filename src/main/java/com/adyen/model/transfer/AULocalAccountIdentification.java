@@ -25,6 +25,8 @@ import java.util.HashSet;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * AULocalAccountIdentification
@@ -61,13 +63,20 @@ public class AULocalAccountIdentification {
       return String.valueOf(value);
     }
 
-    public static TypeEnum fromValue(String value) {
+    private static final Map<String, TypeEnum> BY_VALUE = new HashMap<String, TypeEnum>();
+
+    static {
       for (TypeEnum b : TypeEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static TypeEnum fromValue(String value) {
+      TypeEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<TypeEnum> {
@@ -272,22 +281,56 @@ public class AULocalAccountIdentification {
        if (!AULocalAccountIdentification.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'AULocalAccountIdentification' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<AULocalAccountIdentification> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(AULocalAccountIdentification.class));
+       final TypeAdapter<String> accountNumberAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> bsbCodeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<TypeEnum> typeAdapter = gson.getAdapter(TypeEnum.class);
 
        return (TypeAdapter<T>) new TypeAdapter<AULocalAccountIdentification>() {
            @Override
            public void write(JsonWriter out, AULocalAccountIdentification value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("accountNumber");
+             accountNumberAdapter.write(out, value.accountNumber);
+             out.name("bsbCode");
+             bsbCodeAdapter.write(out, value.bsbCode);
+             out.name("type");
+             typeAdapter.write(out, value.type);
+             out.endObject();
            }
 
            @Override
            public AULocalAccountIdentification read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             AULocalAccountIdentification instance = new AULocalAccountIdentification();
+             boolean accountNumberFound = false;
+             boolean bsbCodeFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "accountNumber":
+                   instance.accountNumber = accountNumberAdapter.read(in);
+                   accountNumberFound = true;
+                   break;
+                 case "bsbCode":
+                   instance.bsbCode = bsbCodeAdapter.read(in);
+                   bsbCodeFound = true;
+                   break;
+                 case "type":
+                   instance.type = typeAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `AULocalAccountIdentification` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!accountNumberFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "accountNumber", in.getPath()));
+             }
+             if (!bsbCodeFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "bsbCode", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
@@ -324,22 +324,69 @@ public class Address2 {
        if (!Address2.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'Address2' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<Address2> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(Address2.class));
+       final TypeAdapter<String> cityAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> countryAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> line1Adapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> line2Adapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> postalCodeAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> stateOrProvinceAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<Address2>() {
            @Override
            public void write(JsonWriter out, Address2 value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("city");
+             cityAdapter.write(out, value.city);
+             out.name("country");
+             countryAdapter.write(out, value.country);
+             out.name("line1");
+             line1Adapter.write(out, value.line1);
+             out.name("line2");
+             line2Adapter.write(out, value.line2);
+             out.name("postalCode");
+             postalCodeAdapter.write(out, value.postalCode);
+             out.name("stateOrProvince");
+             stateOrProvinceAdapter.write(out, value.stateOrProvince);
+             out.endObject();
            }
 
            @Override
            public Address2 read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             Address2 instance = new Address2();
+             boolean countryFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "city":
+                   instance.city = cityAdapter.read(in);
+                   break;
+                 case "country":
+                   instance.country = countryAdapter.read(in);
+                   countryFound = true;
+                   break;
+                 case "line1":
+                   instance.line1 = line1Adapter.read(in);
+                   break;
+                 case "line2":
+                   instance.line2 = line2Adapter.read(in);
+                   break;
+                 case "postalCode":
+                   instance.postalCode = postalCodeAdapter.read(in);
+                   break;
+                 case "stateOrProvince":
+                   instance.stateOrProvince = stateOrProvinceAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `Address2` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!countryFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "country", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
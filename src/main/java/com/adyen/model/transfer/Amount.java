@@ -185,22 +185,50 @@ public class Amount {
        if (!Amount.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'Amount' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<Amount> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(Amount.class));
+       final TypeAdapter<String> currencyAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<Long> valueAdapter = gson.getAdapter(Long.class);
 
        return (TypeAdapter<T>) new TypeAdapter<Amount>() {
            @Override
            public void write(JsonWriter out, Amount value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("currency");
+             currencyAdapter.write(out, value.currency);
+             out.name("value");
+             valueAdapter.write(out, value.value);
+             out.endObject();
            }
 
            @Override
            public Amount read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             Amount instance = new Amount();
+             boolean currencyFound = false;
+             boolean valueFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "currency":
+                   instance.currency = currencyAdapter.read(in);
+                   currencyFound = true;
+                   break;
+                 case "value":
+                   instance.value = valueAdapter.read(in);
+                   valueFound = true;
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `Amount` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!currencyFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "currency", in.getPath()));
+             }
+             if (!valueFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "value", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
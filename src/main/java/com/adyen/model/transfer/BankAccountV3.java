@@ -189,22 +189,50 @@ public class BankAccountV3 {
        if (!BankAccountV3.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'BankAccountV3' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<BankAccountV3> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(BankAccountV3.class));
+       final TypeAdapter<PartyIdentification2> accountHolderAdapter = gson.getAdapter(PartyIdentification2.class);
+       final TypeAdapter<BankAccountV3AccountIdentification> accountIdentificationAdapter = gson.getAdapter(BankAccountV3AccountIdentification.class);
 
        return (TypeAdapter<T>) new TypeAdapter<BankAccountV3>() {
            @Override
            public void write(JsonWriter out, BankAccountV3 value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("accountHolder");
+             accountHolderAdapter.write(out, value.accountHolder);
+             out.name("accountIdentification");
+             accountIdentificationAdapter.write(out, value.accountIdentification);
+             out.endObject();
            }
 
            @Override
            public BankAccountV3 read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             BankAccountV3 instance = new BankAccountV3();
+             boolean accountHolderFound = false;
+             boolean accountIdentificationFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "accountHolder":
+                   instance.accountHolder = accountHolderAdapter.read(in);
+                   accountHolderFound = true;
+                   break;
+                 case "accountIdentification":
+                   instance.accountIdentification = accountIdentificationAdapter.read(in);
+                   accountIdentificationFound = true;
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `BankAccountV3` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!accountHolderFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "accountHolder", in.getPath()));
+             }
+             if (!accountIdentificationFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "accountIdentification", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
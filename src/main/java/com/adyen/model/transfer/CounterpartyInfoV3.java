@@ -214,22 +214,46 @@ public class CounterpartyInfoV3 {
        if (!CounterpartyInfoV3.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'CounterpartyInfoV3' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<CounterpartyInfoV3> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(CounterpartyInfoV3.class));
+       final TypeAdapter<String> balanceAccountIdAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<BankAccountV3> bankAccountAdapter = gson.getAdapter(BankAccountV3.class);
+       final TypeAdapter<String> transferInstrumentIdAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<CounterpartyInfoV3>() {
            @Override
            public void write(JsonWriter out, CounterpartyInfoV3 value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("balanceAccountId");
+             balanceAccountIdAdapter.write(out, value.balanceAccountId);
+             out.name("bankAccount");
+             bankAccountAdapter.write(out, value.bankAccount);
+             out.name("transferInstrumentId");
+             transferInstrumentIdAdapter.write(out, value.transferInstrumentId);
+             out.endObject();
            }
 
            @Override
            public CounterpartyInfoV3 read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             CounterpartyInfoV3 instance = new CounterpartyInfoV3();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "balanceAccountId":
+                   instance.balanceAccountId = balanceAccountIdAdapter.read(in);
+                   break;
+                 case "bankAccount":
+                   instance.bankAccount = bankAccountAdapter.read(in);
+                   break;
+                 case "transferInstrumentId":
+                   instance.transferInstrumentId = transferInstrumentIdAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `CounterpartyInfoV3` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
@@ -248,22 +248,52 @@ public class CounterpartyV3 {
        if (!CounterpartyV3.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'CounterpartyV3' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<CounterpartyV3> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(CounterpartyV3.class));
+       final TypeAdapter<String> balanceAccountIdAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<BankAccountV3> bankAccountAdapter = gson.getAdapter(BankAccountV3.class);
+       final TypeAdapter<MerchantData> merchantAdapter = gson.getAdapter(MerchantData.class);
+       final TypeAdapter<String> transferInstrumentIdAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<CounterpartyV3>() {
            @Override
            public void write(JsonWriter out, CounterpartyV3 value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("balanceAccountId");
+             balanceAccountIdAdapter.write(out, value.balanceAccountId);
+             out.name("bankAccount");
+             bankAccountAdapter.write(out, value.bankAccount);
+             out.name("merchant");
+             merchantAdapter.write(out, value.merchant);
+             out.name("transferInstrumentId");
+             transferInstrumentIdAdapter.write(out, value.transferInstrumentId);
+             out.endObject();
            }
 
            @Override
            public CounterpartyV3 read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             CounterpartyV3 instance = new CounterpartyV3();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "balanceAccountId":
+                   instance.balanceAccountId = balanceAccountIdAdapter.read(in);
+                   break;
+                 case "bankAccount":
+                   instance.bankAccount = bankAccountAdapter.read(in);
+                   break;
+                 case "merchant":
+                   instance.merchant = merchantAdapter.read(in);
+                   break;
+                 case "transferInstrumentId":
+                   instance.transferInstrumentId = transferInstrumentIdAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `CounterpartyV3` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
@@ -194,22 +194,40 @@ public class JSONObject {
        if (!JSONObject.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'JSONObject' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<JSONObject> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(JSONObject.class));
+       final TypeAdapter<List<JSONPath>> pathsAdapter = gson.getAdapter(new TypeToken<List<JSONPath>>() {});
+       final TypeAdapter<JSONPath> rootPathAdapter = gson.getAdapter(JSONPath.class);
 
        return (TypeAdapter<T>) new TypeAdapter<JSONObject>() {
            @Override
            public void write(JsonWriter out, JSONObject value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("paths");
+             pathsAdapter.write(out, value.paths);
+             out.name("rootPath");
+             rootPathAdapter.write(out, value.rootPath);
+             out.endObject();
            }
 
            @Override
            public JSONObject read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             JSONObject instance = new JSONObject();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "paths":
+                   instance.paths = pathsAdapter.read(in);
+                   break;
+                 case "rootPath":
+                   instance.rootPath = rootPathAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `JSONObject` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
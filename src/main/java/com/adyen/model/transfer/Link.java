@@ -146,22 +146,34 @@ public class Link {
        if (!Link.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'Link' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<Link> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(Link.class));
+       final TypeAdapter<String> hrefAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<Link>() {
            @Override
            public void write(JsonWriter out, Link value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("href");
+             hrefAdapter.write(out, value.href);
+             out.endObject();
            }
 
            @Override
            public Link read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             Link instance = new Link();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "href":
+                   instance.href = hrefAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `Link` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
@@ -180,22 +180,40 @@ public class Links {
        if (!Links.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'Links' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<Links> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(Links.class));
+       final TypeAdapter<Link> nextAdapter = gson.getAdapter(Link.class);
+       final TypeAdapter<Link> prevAdapter = gson.getAdapter(Link.class);
 
        return (TypeAdapter<T>) new TypeAdapter<Links>() {
            @Override
            public void write(JsonWriter out, Links value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("next");
+             nextAdapter.write(out, value.next);
+             out.name("prev");
+             prevAdapter.write(out, value.prev);
+             out.endObject();
            }
 
            @Override
            public Links read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             Links instance = new Links();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "next":
+                   instance.next = nextAdapter.read(in);
+                   break;
+                 case "prev":
+                   instance.prev = prevAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `Links` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
@@ -248,22 +248,52 @@ public class MerchantData {
        if (!MerchantData.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'MerchantData' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<MerchantData> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(MerchantData.class));
+       final TypeAdapter<String> mccAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> merchantIdAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<NameLocation> nameLocationAdapter = gson.getAdapter(NameLocation.class);
+       final TypeAdapter<String> postalCodeAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<MerchantData>() {
            @Override
            public void write(JsonWriter out, MerchantData value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("mcc");
+             mccAdapter.write(out, value.mcc);
+             out.name("merchantId");
+             merchantIdAdapter.write(out, value.merchantId);
+             out.name("nameLocation");
+             nameLocationAdapter.write(out, value.nameLocation);
+             out.name("postalCode");
+             postalCodeAdapter.write(out, value.postalCode);
+             out.endObject();
            }
 
            @Override
            public MerchantData read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             MerchantData instance = new MerchantData();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "mcc":
+                   instance.mcc = mccAdapter.read(in);
+                   break;
+                 case "merchantId":
+                   instance.merchantId = merchantIdAdapter.read(in);
+                   break;
+                 case "nameLocation":
+                   instance.nameLocation = nameLocationAdapter.read(in);
+                   break;
+                 case "postalCode":
+                   instance.postalCode = postalCodeAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `MerchantData` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
@@ -316,22 +316,64 @@ public class NameLocation {
        if (!NameLocation.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'NameLocation' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<NameLocation> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(NameLocation.class));
+       final TypeAdapter<String> cityAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> countryAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> countryOfOriginAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> nameAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> rawDataAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> stateAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<NameLocation>() {
            @Override
            public void write(JsonWriter out, NameLocation value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("city");
+             cityAdapter.write(out, value.city);
+             out.name("country");
+             countryAdapter.write(out, value.country);
+             out.name("countryOfOrigin");
+             countryOfOriginAdapter.write(out, value.countryOfOrigin);
+             out.name("name");
+             nameAdapter.write(out, value.name);
+             out.name("rawData");
+             rawDataAdapter.write(out, value.rawData);
+             out.name("state");
+             stateAdapter.write(out, value.state);
+             out.endObject();
            }
 
            @Override
            public NameLocation read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             NameLocation instance = new NameLocation();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "city":
+                   instance.city = cityAdapter.read(in);
+                   break;
+                 case "country":
+                   instance.country = countryAdapter.read(in);
+                   break;
+                 case "countryOfOrigin":
+                   instance.countryOfOrigin = countryOfOriginAdapter.read(in);
+                   break;
+                 case "name":
+                   instance.name = nameAdapter.read(in);
+                   break;
+                 case "rawData":
+                   instance.rawData = rawDataAdapter.read(in);
+                   break;
+                 case "state":
+                   instance.state = stateAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `NameLocation` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
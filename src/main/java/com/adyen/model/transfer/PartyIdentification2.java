@@ -25,6 +25,8 @@ import java.util.HashSet;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * PartyIdentification2
@@ -73,13 +75,20 @@ public class PartyIdentification2 {
       return String.valueOf(value);
     }
 
-    public static TypeEnum fromValue(String value) {
+    private static final Map<String, TypeEnum> BY_VALUE = new HashMap<String, TypeEnum>();
+
+    static {
       for (TypeEnum b : TypeEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static TypeEnum fromValue(String value) {
+      TypeEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<TypeEnum> {
@@ -343,22 +352,63 @@ public class PartyIdentification2 {
        if (!PartyIdentification2.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'PartyIdentification2' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<PartyIdentification2> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(PartyIdentification2.class));
+       final TypeAdapter<Address2> addressAdapter = gson.getAdapter(Address2.class);
+       final TypeAdapter<String> firstNameAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> fullNameAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> lastNameAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<TypeEnum> typeAdapter = gson.getAdapter(TypeEnum.class);
 
        return (TypeAdapter<T>) new TypeAdapter<PartyIdentification2>() {
            @Override
            public void write(JsonWriter out, PartyIdentification2 value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("address");
+             addressAdapter.write(out, value.address);
+             out.name("firstName");
+             firstNameAdapter.write(out, value.firstName);
+             out.name("fullName");
+             fullNameAdapter.write(out, value.fullName);
+             out.name("lastName");
+             lastNameAdapter.write(out, value.lastName);
+             out.name("type");
+             typeAdapter.write(out, value.type);
+             out.endObject();
            }
 
            @Override
            public PartyIdentification2 read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             PartyIdentification2 instance = new PartyIdentification2();
+             boolean fullNameFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "address":
+                   instance.address = addressAdapter.read(in);
+                   break;
+                 case "firstName":
+                   instance.firstName = firstNameAdapter.read(in);
+                   break;
+                 case "fullName":
+                   instance.fullName = fullNameAdapter.read(in);
+                   fullNameFound = true;
+                   break;
+                 case "lastName":
+                   instance.lastName = lastNameAdapter.read(in);
+                   break;
+                 case "type":
+                   instance.type = typeAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `PartyIdentification2` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!fullNameFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "fullName", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
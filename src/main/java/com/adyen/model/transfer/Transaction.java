@@ -26,6 +26,8 @@ import java.util.HashSet;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Transaction
@@ -82,13 +84,20 @@ public class Transaction {
       return String.valueOf(value);
     }
 
-    public static CategoryEnum fromValue(String value) {
+    private static final Map<String, CategoryEnum> BY_VALUE = new HashMap<String, CategoryEnum>();
+
+    static {
       for (CategoryEnum b : CategoryEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    }
+
+    public static CategoryEnum fromValue(String value) {
+      CategoryEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      }
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<CategoryEnum> {
@@ -165,13 +174,20 @@ public class Transaction {
       return String.valueOf(value);
     }
 
-    public static StatusEnum fromValue(String value) {
+    private static final Map<String, StatusEnum> BY_VALUE = new HashMap<String, StatusEnum>();
+
+    static {
       for (StatusEnum b : StatusEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    }
+
+    public static StatusEnum fromValue(String value) {
+      StatusEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      }
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<StatusEnum> {
@@ -266,13 +282,20 @@ public class Transaction {
       return String.valueOf(value);
     }
 
-    public static TypeEnum fromValue(String value) {
+    private static final Map<String, TypeEnum> BY_VALUE = new HashMap<String, TypeEnum>();
+
+    static {
       for (TypeEnum b : TypeEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static TypeEnum fromValue(String value) {
+      TypeEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<TypeEnum> {
@@ -933,22 +956,191 @@ public class Transaction {
        if (!Transaction.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'Transaction' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<Transaction> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(Transaction.class));
+       final TypeAdapter<String> accountHolderIdAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<Amount> amountAdapter = gson.getAdapter(Amount.class);
+       final TypeAdapter<String> balanceAccountIdAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> balancePlatformAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<Date> bookingDateAdapter = gson.getAdapter(Date.class);
+       final TypeAdapter<CategoryEnum> categoryAdapter = gson.getAdapter(CategoryEnum.class);
+       final TypeAdapter<CounterpartyV3> counterpartyAdapter = gson.getAdapter(CounterpartyV3.class);
+       final TypeAdapter<Date> createdAtAdapter = gson.getAdapter(Date.class);
+       final TypeAdapter<String> descriptionAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> idAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<Amount> instructedAmountAdapter = gson.getAdapter(Amount.class);
+       final TypeAdapter<String> paymentInstrumentIdAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> referenceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> referenceForBeneficiaryAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<StatusEnum> statusAdapter = gson.getAdapter(StatusEnum.class);
+       final TypeAdapter<String> transferIdAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<TypeEnum> typeAdapter = gson.getAdapter(TypeEnum.class);
+       final TypeAdapter<Date> valueDateAdapter = gson.getAdapter(Date.class);
 
        return (TypeAdapter<T>) new TypeAdapter<Transaction>() {
            @Override
            public void write(JsonWriter out, Transaction value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("accountHolderId");
+             accountHolderIdAdapter.write(out, value.accountHolderId);
+             out.name("amount");
+             amountAdapter.write(out, value.amount);
+             out.name("balanceAccountId");
+             balanceAccountIdAdapter.write(out, value.balanceAccountId);
+             out.name("balancePlatform");
+             balancePlatformAdapter.write(out, value.balancePlatform);
+             out.name("bookingDate");
+             bookingDateAdapter.write(out, value.bookingDate);
+             out.name("category");
+             categoryAdapter.write(out, value.category);
+             out.name("counterparty");
+             counterpartyAdapter.write(out, value.counterparty);
+             out.name("createdAt");
+             createdAtAdapter.write(out, value.createdAt);
+             out.name("description");
+             descriptionAdapter.write(out, value.description);
+             out.name("id");
+             idAdapter.write(out, value.id);
+             out.name("instructedAmount");
+             instructedAmountAdapter.write(out, value.instructedAmount);
+             out.name("paymentInstrumentId");
+             paymentInstrumentIdAdapter.write(out, value.paymentInstrumentId);
+             out.name("reference");
+             referenceAdapter.write(out, value.reference);
+             out.name("referenceForBeneficiary");
+             referenceForBeneficiaryAdapter.write(out, value.referenceForBeneficiary);
+             out.name("status");
+             statusAdapter.write(out, value.status);
+             out.name("transferId");
+             transferIdAdapter.write(out, value.transferId);
+             out.name("type");
+             typeAdapter.write(out, value.type);
+             out.name("valueDate");
+             valueDateAdapter.write(out, value.valueDate);
+             out.endObject();
            }
 
            @Override
            public Transaction read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             Transaction instance = new Transaction();
+             boolean accountHolderIdFound = false;
+             boolean amountFound = false;
+             boolean balanceAccountIdFound = false;
+             boolean balancePlatformFound = false;
+             boolean bookingDateFound = false;
+             boolean counterpartyFound = false;
+             boolean createdAtFound = false;
+             boolean idFound = false;
+             boolean referenceFound = false;
+             boolean statusFound = false;
+             boolean valueDateFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "accountHolderId":
+                   instance.accountHolderId = accountHolderIdAdapter.read(in);
+                   accountHolderIdFound = true;
+                   break;
+                 case "amount":
+                   instance.amount = amountAdapter.read(in);
+                   amountFound = true;
+                   break;
+                 case "balanceAccountId":
+                   instance.balanceAccountId = balanceAccountIdAdapter.read(in);
+                   balanceAccountIdFound = true;
+                   break;
+                 case "balancePlatform":
+                   instance.balancePlatform = balancePlatformAdapter.read(in);
+                   balancePlatformFound = true;
+                   break;
+                 case "bookingDate":
+                   instance.bookingDate = bookingDateAdapter.read(in);
+                   bookingDateFound = true;
+                   break;
+                 case "category":
+                   instance.category = categoryAdapter.read(in);
+                   break;
+                 case "counterparty":
+                   instance.counterparty = counterpartyAdapter.read(in);
+                   counterpartyFound = true;
+                   break;
+                 case "createdAt":
+                   instance.createdAt = createdAtAdapter.read(in);
+                   createdAtFound = true;
+                   break;
+                 case "description":
+                   instance.description = descriptionAdapter.read(in);
+                   break;
+                 case "id":
+                   instance.id = idAdapter.read(in);
+                   idFound = true;
+                   break;
+                 case "instructedAmount":
+                   instance.instructedAmount = instructedAmountAdapter.read(in);
+                   break;
+                 case "paymentInstrumentId":
+                   instance.paymentInstrumentId = paymentInstrumentIdAdapter.read(in);
+                   break;
+                 case "reference":
+                   instance.reference = referenceAdapter.read(in);
+                   referenceFound = true;
+                   break;
+                 case "referenceForBeneficiary":
+                   instance.referenceForBeneficiary = referenceForBeneficiaryAdapter.read(in);
+                   break;
+                 case "status":
+                   instance.status = statusAdapter.read(in);
+                   statusFound = true;
+                   break;
+                 case "transferId":
+                   instance.transferId = transferIdAdapter.read(in);
+                   break;
+                 case "type":
+                   instance.type = typeAdapter.read(in);
+                   break;
+                 case "valueDate":
+                   instance.valueDate = valueDateAdapter.read(in);
+                   valueDateFound = true;
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `Transaction` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!accountHolderIdFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "accountHolderId", in.getPath()));
+             }
+             if (!amountFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "amount", in.getPath()));
+             }
+             if (!balanceAccountIdFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "balanceAccountId", in.getPath()));
+             }
+             if (!balancePlatformFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "balancePlatform", in.getPath()));
+             }
+             if (!bookingDateFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "bookingDate", in.getPath()));
+             }
+             if (!counterpartyFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "counterparty", in.getPath()));
+             }
+             if (!createdAtFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "createdAt", in.getPath()));
+             }
+             if (!idFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "id", in.getPath()));
+             }
+             if (!referenceFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "reference", in.getPath()));
+             }
+             if (!statusFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "status", in.getPath()));
+             }
+             if (!valueDateFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "valueDate", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
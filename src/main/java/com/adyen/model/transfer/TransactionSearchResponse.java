@@ -194,22 +194,40 @@ public class TransactionSearchResponse {
        if (!TransactionSearchResponse.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'TransactionSearchResponse' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<TransactionSearchResponse> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(TransactionSearchResponse.class));
+       final TypeAdapter<Links> linksAdapter = gson.getAdapter(Links.class);
+       final TypeAdapter<List<Transaction>> dataAdapter = gson.getAdapter(new TypeToken<List<Transaction>>() {});
 
        return (TypeAdapter<T>) new TypeAdapter<TransactionSearchResponse>() {
            @Override
            public void write(JsonWriter out, TransactionSearchResponse value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("_links");
+             linksAdapter.write(out, value.links);
+             out.name("data");
+             dataAdapter.write(out, value.data);
+             out.endObject();
            }
 
            @Override
            public TransactionSearchResponse read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             TransactionSearchResponse instance = new TransactionSearchResponse();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "_links":
+                   instance.links = linksAdapter.read(in);
+                   break;
+                 case "data":
+                   instance.data = dataAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `TransactionSearchResponse` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             return instance;
            }
 
        }.nullSafe();
@@ -25,6 +25,8 @@ import java.util.HashSet;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * TransferInfo
@@ -63,13 +65,20 @@ public class TransferInfo {
       return String.valueOf(value);
     }
 
-    public static CategoryEnum fromValue(String value) {
+    private static final Map<String, CategoryEnum> BY_VALUE = new HashMap<String, CategoryEnum>();
+
+    static {
       for (CategoryEnum b : CategoryEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static CategoryEnum fromValue(String value) {
+      CategoryEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<CategoryEnum> {
@@ -134,13 +143,20 @@ public class TransferInfo {
       return String.valueOf(value);
     }
 
-    public static PriorityEnum fromValue(String value) {
+    private static final Map<String, PriorityEnum> BY_VALUE = new HashMap<String, PriorityEnum>();
+
+    static {
       for (PriorityEnum b : PriorityEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+        BY_VALUE.put(b.value, b);
+      }
+    }
+
+    public static PriorityEnum fromValue(String value) {
+      PriorityEnum b = BY_VALUE.get(value);
+      if (b == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return b;
     }
 
     public static class Adapter extends TypeAdapter<PriorityEnum> {
@@ -566,22 +582,103 @@ public class TransferInfo {
        if (!TransferInfo.class.isAssignableFrom(type.getRawType())) {
          return null; // this class only serializes 'TransferInfo' and its subtypes
        }
-       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
-       final TypeAdapter<TransferInfo> thisAdapter
-                        = gson.getDelegateAdapter(this, TypeToken.get(TransferInfo.class));
+       final TypeAdapter<Amount> amountAdapter = gson.getAdapter(Amount.class);
+       final TypeAdapter<String> balanceAccountIdAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<CategoryEnum> categoryAdapter = gson.getAdapter(CategoryEnum.class);
+       final TypeAdapter<CounterpartyInfoV3> counterpartyAdapter = gson.getAdapter(CounterpartyInfoV3.class);
+       final TypeAdapter<String> descriptionAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> idAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> paymentInstrumentIdAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<PriorityEnum> priorityAdapter = gson.getAdapter(PriorityEnum.class);
+       final TypeAdapter<String> referenceAdapter = gson.getAdapter(String.class);
+       final TypeAdapter<String> referenceForBeneficiaryAdapter = gson.getAdapter(String.class);
 
        return (TypeAdapter<T>) new TypeAdapter<TransferInfo>() {
            @Override
            public void write(JsonWriter out, TransferInfo value) throws IOException {
-             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
-             elementAdapter.write(out, obj);
+             out.beginObject();
+             out.name("amount");
+             amountAdapter.write(out, value.amount);
+             out.name("balanceAccountId");
+             balanceAccountIdAdapter.write(out, value.balanceAccountId);
+             out.name("category");
+             categoryAdapter.write(out, value.category);
+             out.name("counterparty");
+             counterpartyAdapter.write(out, value.counterparty);
+             out.name("description");
+             descriptionAdapter.write(out, value.description);
+             out.name("id");
+             idAdapter.write(out, value.id);
+             out.name("paymentInstrumentId");
+             paymentInstrumentIdAdapter.write(out, value.paymentInstrumentId);
+             out.name("priority");
+             priorityAdapter.write(out, value.priority);
+             out.name("reference");
+             referenceAdapter.write(out, value.reference);
+             out.name("referenceForBeneficiary");
+             referenceForBeneficiaryAdapter.write(out, value.referenceForBeneficiary);
+             out.endObject();
            }
 
            @Override
            public TransferInfo read(JsonReader in) throws IOException {
-             JsonObject jsonObj = elementAdapter.read(in).getAsJsonObject();
-             validateJsonObject(jsonObj);
-             return thisAdapter.fromJsonTree(jsonObj);
+             // binds and validates the fields in a single pass, without building a JSON tree
+             TransferInfo instance = new TransferInfo();
+             boolean amountFound = false;
+             boolean categoryFound = false;
+             boolean counterpartyFound = false;
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               switch (name) {
+                 case "amount":
+                   instance.amount = amountAdapter.read(in);
+                   amountFound = true;
+                   break;
+                 case "balanceAccountId":
+                   instance.balanceAccountId = balanceAccountIdAdapter.read(in);
+                   break;
+                 case "category":
+                   instance.category = categoryAdapter.read(in);
+                   categoryFound = true;
+                   break;
+                 case "counterparty":
+                   instance.counterparty = counterpartyAdapter.read(in);
+                   counterpartyFound = true;
+                   break;
+                 case "description":
+                   instance.description = descriptionAdapter.read(in);
+                   break;
+                 case "id":
+                   instance.id = idAdapter.read(in);
+                   break;
+                 case "paymentInstrumentId":
+                   instance.paymentInstrumentId = paymentInstrumentIdAdapter.read(in);
+                   break;
+                 case "priority":
+                   instance.priority = priorityAdapter.read(in);
+                   break;
+                 case "reference":
+                   instance.reference = referenceAdapter.read(in);
+                   break;
+                 case "referenceForBeneficiary":
+                   instance.referenceForBeneficiary = referenceForBeneficiaryAdapter.read(in);
+                   break;
+                 default:
+                   throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `TransferInfo` properties. Path: %s", name, in.getPath()));
+               }
+             }
+             in.endObject();
+             if (!amountFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "amount", in.getPath()));
+             }
+             if (!categoryFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "category", in.getPath()));
+             }
+             if (!counterpartyFound) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string. Path: %s", "counterparty", in.getPath()));
+             }
+             return instance;
            }
 
        }.nullSafe();
@@ -21,28 +21,54 @@
 package com.adyen.notification;
 
 import com.adyen.deserializer.MarketPayNotificationMessageDeserializer;
+import com.adyen.model.Amount;
 import com.adyen.model.marketpay.notification.GenericNotification;
 import com.adyen.model.notification.NotificationRequest;
+import com.adyen.model.notification.NotificationRequestItem;
+import com.adyen.model.notification.NotificationRequestItemContainer;
+import com.adyen.serializer.GsonModelSerializer;
+import com.adyen.serializer.ModelSerializer;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
-import com.google.gson.reflect.TypeToken;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
 
 /**
  * Notification converter
  */
 public class NotificationHandler {
-    private static final Gson GSON = new Gson();
+    // notifications are read without reflection, unknown fields are skipped as before
+    private static final Gson GSON = new GsonBuilder()
+            .registerTypeAdapterFactory(new NotificationRequest.CustomTypeAdapterFactory())
+            .registerTypeAdapterFactory(new NotificationRequestItemContainer.CustomTypeAdapterFactory())
+            .registerTypeAdapterFactory(new NotificationRequestItem.CustomTypeAdapterFactory())
+            .registerTypeAdapterFactory(new Amount.CustomTypeAdapterFactory())
+            .create();
     private final Gson marketPayGson;
+    private final ModelSerializer serializer;
 
     public NotificationHandler() {
+        this(new GsonModelSerializer(GSON));
+    }
+
+    /**
+     * @param serializer serializer of the notification requests, e.g. a {@link com.adyen.serializer.JacksonModelSerializer};
+     *                   MarketPay notifications are always read with Gson
+     */
+    public NotificationHandler(ModelSerializer serializer) {
+        this.serializer = serializer;
         GsonBuilder gsonBuilder = new GsonBuilder();
         gsonBuilder.registerTypeAdapter(GenericNotification.class, new MarketPayNotificationMessageDeserializer());
         marketPayGson = gsonBuilder.create();
     }
 
     public NotificationRequest handleNotificationJson(String json) {
-        return GSON.fromJson(json, new TypeToken<NotificationRequest>() {
-        }.getType());
+        try {
+            return serializer.fromJson(json, NotificationRequest.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
     public GenericNotification handleMarketpayNotificationJson(String json) {
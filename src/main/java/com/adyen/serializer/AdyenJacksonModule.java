@@ -0,0 +1,275 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.serializer;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.PropertyName;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.cfg.MapperConfig;
+import com.fasterxml.jackson.databind.deser.Deserializers;
+import com.fasterxml.jackson.databind.introspect.Annotated;
+import com.fasterxml.jackson.databind.introspect.AnnotatedClass;
+import com.fasterxml.jackson.databind.introspect.AnnotatedField;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMethod;
+import com.fasterxml.jackson.databind.introspect.NopAnnotationIntrospector;
+import com.fasterxml.jackson.databind.introspect.VisibilityChecker;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.Serializers;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.internal.bind.util.ISO8601Utils;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.text.ParseException;
+import java.text.ParsePosition;
+import java.util.Date;
+
+/**
+ * Jackson module mapping the models of the library the way their Gson type adapters do:
+ * <ul>
+ * <li>fields are bound by their {@code @SerializedName}, without going through the getters and setters</li>
+ * <li>enums are written with {@code getValue()} and read with {@code fromValue(...)}</li>
+ * <li>dates are ISO 8601 strings, like {@code JSON.DateTypeAdapter}</li>
+ * <li>oneOf models are written as their actual instance and read with their own {@code fromJson}, which selects
+ * and validates the schema</li>
+ * <li>unknown properties are rejected only by the generated models, which validate them; the other models, e.g. the
+ * notifications, skip them</li>
+ * </ul>
+ */
+public class AdyenJacksonModule extends SimpleModule {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final String MODEL_PACKAGE = "com.adyen.model";
+    private static final String ONE_OF_SUPERCLASS = "AbstractOpenApiSchema";
+    // static field of the generated models listing the properties their Gson adapters accept
+    private static final String OPENAPI_FIELDS = "openapiFields";
+
+    public AdyenJacksonModule() {
+        super(AdyenJacksonModule.class.getSimpleName());
+        addSerializer(Date.class, new DateSerializer());
+        addDeserializer(Date.class, new DateDeserializer());
+    }
+
+    @Override
+    public void setupModule(SetupContext context) {
+        super.setupModule(context);
+        context.insertAnnotationIntrospector(new ModelAnnotationIntrospector());
+        context.addSerializers(new OneOfSerializers());
+        context.addDeserializers(new OneOfDeserializers());
+    }
+
+    private static boolean isModel(Class<?> type) {
+        return type.getName().startsWith(MODEL_PACKAGE);
+    }
+
+    private static boolean isOneOf(Class<?> type) {
+        return isModel(type) && type.getSuperclass() != null && ONE_OF_SUPERCLASS.equals(type.getSuperclass().getSimpleName());
+    }
+
+    private static Method findMethod(Class<?> type, String name, Class<?>... parameterTypes) {
+        try {
+            return type.getMethod(name, parameterTypes);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalArgumentException(type.getName() + " has no " + name + " method", e);
+        }
+    }
+
+    private static final class ModelAnnotationIntrospector extends NopAnnotationIntrospector {
+
+        private static final long serialVersionUID = 1L;
+
+        // whether a class declares @SerializedName fields, resolved once per class
+        private static final ClassValue<Boolean> SERIALIZED_NAME_FIELDS = new ClassValue<Boolean>() {
+            @Override
+            protected Boolean computeValue(Class<?> type) {
+                for (Field field : type.getDeclaredFields()) {
+                    if (field.isAnnotationPresent(SerializedName.class)) {
+                        return Boolean.TRUE;
+                    }
+                }
+                return Boolean.FALSE;
+            }
+        };
+
+        @Override
+        public VisibilityChecker<?> findAutoDetectVisibility(AnnotatedClass ac, VisibilityChecker<?> checker) {
+            if (!SERIALIZED_NAME_FIELDS.get(ac.getRawType())) {
+                return checker;
+            }
+            return checker.withFieldVisibility(JsonAutoDetect.Visibility.ANY)
+                    .withGetterVisibility(JsonAutoDetect.Visibility.NONE)
+                    .withIsGetterVisibility(JsonAutoDetect.Visibility.NONE)
+                    .withSetterVisibility(JsonAutoDetect.Visibility.NONE);
+        }
+
+        // whether a model rejects unknown properties like its generated Gson adapter, resolved once per class
+        private static final ClassValue<Boolean> STRICT_MODELS = new ClassValue<Boolean>() {
+            @Override
+            protected Boolean computeValue(Class<?> type) {
+                for (Field field : type.getDeclaredFields()) {
+                    if (Modifier.isStatic(field.getModifiers()) && OPENAPI_FIELDS.equals(field.getName())) {
+                        return Boolean.TRUE;
+                    }
+                }
+                return Boolean.FALSE;
+            }
+        };
+
+        @Override
+        public JsonIgnoreProperties.Value findPropertyIgnoralByName(MapperConfig<?> config, Annotated a) {
+            if (a instanceof AnnotatedClass && isModel(a.getRawType()) && !STRICT_MODELS.get(a.getRawType())) {
+                return JsonIgnoreProperties.Value.forIgnoreUnknown(true);
+            }
+            return JsonIgnoreProperties.Value.empty();
+        }
+
+        @Override
+        public PropertyName findNameForSerialization(Annotated a) {
+            return findSerializedName(a);
+        }
+
+        @Override
+        public PropertyName findNameForDeserialization(Annotated a) {
+            return findSerializedName(a);
+        }
+
+        @Override
+        public Boolean hasAsValue(Annotated a) {
+            if (a instanceof AnnotatedMethod && isEnumMethod((AnnotatedMethod) a, "getValue", 0)) {
+                return Boolean.TRUE;
+            }
+            return null;
+        }
+
+        @Override
+        public JsonCreator.Mode findCreatorAnnotation(MapperConfig<?> config, Annotated a) {
+            if (a instanceof AnnotatedMethod && isEnumMethod((AnnotatedMethod) a, "fromValue", 1)
+                    && Modifier.isStatic(((AnnotatedMethod) a).getModifiers())) {
+                return JsonCreator.Mode.DELEGATING;
+            }
+            return null;
+        }
+
+        private static PropertyName findSerializedName(Annotated a) {
+            if (!(a instanceof AnnotatedField)) {
+                return null;
+            }
+            SerializedName serializedName = a.getAnnotation(SerializedName.class);
+            return serializedName == null ? null : PropertyName.construct(serializedName.value());
+        }
+
+        private static boolean isEnumMethod(AnnotatedMethod method, String name, int parameterCount) {
+            Class<?> declaringClass = method.getDeclaringClass();
+            return declaringClass.isEnum() && isModel(declaringClass)
+                    && name.equals(method.getName()) && method.getParameterCount() == parameterCount;
+        }
+    }
+
+    private static final class DateSerializer extends JsonSerializer<Date> {
+        @Override
+        public void serialize(Date value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+            gen.writeString(ISO8601Utils.format(value, true));
+        }
+    }
+
+    private static final class DateDeserializer extends JsonDeserializer<Date> {
+        @Override
+        public Date deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            String date = p.getValueAsString();
+            try {
+                return ISO8601Utils.parse(date, new ParsePosition(0));
+            } catch (ParseException e) {
+                return (Date) ctxt.handleWeirdStringValue(Date.class, date, e.getMessage());
+            }
+        }
+    }
+
+    private static final class OneOfSerializers extends Serializers.Base {
+        @Override
+        public JsonSerializer<?> findSerializer(SerializationConfig config, JavaType type, BeanDescription beanDesc) {
+            return isOneOf(type.getRawClass()) ? new OneOfSerializer(type.getRawClass()) : null;
+        }
+    }
+
+    private static final class OneOfSerializer extends JsonSerializer<Object> {
+        private final Method getActualInstance;
+
+        OneOfSerializer(Class<?> type) {
+            getActualInstance = findMethod(type, "getActualInstance");
+        }
+
+        @Override
+        public void serialize(Object value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+            Object actualInstance;
+            try {
+                actualInstance = getActualInstance.invoke(value);
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException(e);
+            }
+            serializers.defaultSerializeValue(actualInstance, gen);
+        }
+    }
+
+    private static final class OneOfDeserializers extends Deserializers.Base {
+        @Override
+        public JsonDeserializer<?> findBeanDeserializer(JavaType type, DeserializationConfig config, BeanDescription beanDesc) {
+            return isOneOf(type.getRawClass()) ? new OneOfDeserializer(type.getRawClass()) : null;
+        }
+    }
+
+    private static final class OneOfDeserializer extends JsonDeserializer<Object> {
+        private final Class<?> type;
+        private final Method fromJson;
+
+        OneOfDeserializer(Class<?> type) {
+            this.type = type;
+            this.fromJson = findMethod(type, "fromJson", String.class);
+        }
+
+        @Override
+        public Object deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            if (p.currentToken() == JsonToken.VALUE_NULL) {
+                return null;
+            }
+            String json = ctxt.readTree(p).toString();
+            try {
+                return fromJson.invoke(null, json);
+            } catch (ReflectiveOperationException e) {
+                return ctxt.handleInstantiationProblem(type, json, e.getCause() == null ? e : e.getCause());
+            }
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.serializer;
+
+import com.google.gson.Gson;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.Reader;
+import java.io.Writer;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Gson implementation of {@link ModelSerializer}, the serializer the library uses by default.
+ * <p>
+ * Without a Gson instance, the models of a generated package are serialized with the Gson of that package,
+ * e.g. {@link com.adyen.model.checkout.JSON#getGson()}, which holds their type adapters and validation.
+ */
+public class GsonModelSerializer implements ModelSerializer {
+
+    private static final Map<String, Supplier<Gson>> GSON_BY_PACKAGE = new HashMap<>();
+    private static final Gson DEFAULT_GSON = new Gson();
+
+    static {
+        GSON_BY_PACKAGE.put("com.adyen.model.checkout", com.adyen.model.checkout.JSON::getGson);
+        GSON_BY_PACKAGE.put("com.adyen.model.legalEntityManagement", com.adyen.model.legalEntityManagement.JSON::getGson);
+        GSON_BY_PACKAGE.put("com.adyen.model.management", com.adyen.model.management.JSON::getGson);
+        GSON_BY_PACKAGE.put("com.adyen.model.payments", com.adyen.model.payments.JSON::getGson);
+        GSON_BY_PACKAGE.put("com.adyen.model.payout", com.adyen.model.payout.JSON::getGson);
+        GSON_BY_PACKAGE.put("com.adyen.model.recurring", com.adyen.model.recurring.JSON::getGson);
+        GSON_BY_PACKAGE.put("com.adyen.model.transfer", com.adyen.model.transfer.JSON::getGson);
+    }
+
+    private final Gson gson;
+
+    /**
+     * Serializer using the Gson of each generated model package, and a plain Gson for the other models.
+     */
+    public GsonModelSerializer() {
+        this(null);
+    }
+
+    /**
+     * @param gson Gson instance used for all models
+     */
+    public GsonModelSerializer(Gson gson) {
+        this.gson = gson;
+    }
+
+    @Override
+    public String toJson(Object model) {
+        return getGson(model.getClass()).toJson(model);
+    }
+
+    @Override
+    public void toJson(Object model, Writer writer) throws IOException {
+        Gson modelGson = getGson(model.getClass());
+        JsonWriter jsonWriter = modelGson.newJsonWriter(writer);
+        modelGson.toJson(model, model.getClass(), jsonWriter);
+        jsonWriter.flush();
+    }
+
+    @Override
+    public <T> T fromJson(String json, Type type) {
+        return getGson(type).fromJson(json, type);
+    }
+
+    @Override
+    public <T> T fromJson(Reader reader, Type type) {
+        return getGson(type).fromJson(reader, type);
+    }
+
+    private Gson getGson(Type type) {
+        if (gson != null) {
+            return gson;
+        }
+        if (type instanceof Class && ((Class<?>) type).getPackage() != null) {
+            Supplier<Gson> packageGson = GSON_BY_PACKAGE.get(((Class<?>) type).getPackage().getName());
+            if (packageGson != null) {
+                return packageGson.get();
+            }
+        }
+        return DEFAULT_GSON;
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.serializer;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.reflect.Type;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Jackson implementation of {@link ModelSerializer}, binding the models with {@link AdyenJacksonModule}.
+ * <p>
+ * The {@link ObjectReader} and {@link ObjectWriter} of each model type are created once, with their root
+ * (de)serializer resolved, and shared by all requests. Modules generating bytecode accessors such as Blackbird
+ * can be registered on the mapper given to the constructor.
+ * <p>
+ * Unlike the Gson type adapters of the generated models, Jackson does not check that required fields are present.
+ */
+public class JacksonModelSerializer implements ModelSerializer {
+
+    private final ObjectMapper mapper;
+    private final ConcurrentMap<Type, ObjectReader> readers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+    public JacksonModelSerializer() {
+        this(new ObjectMapper());
+    }
+
+    /**
+     * @param mapper mapper holding the features and modules to use; it is copied and left unchanged
+     */
+    public JacksonModelSerializer(ObjectMapper mapper) {
+        this.mapper = mapper.copy()
+                .registerModule(new AdyenJacksonModule())
+                .setSerializationInclusion(JsonInclude.Include.NON_NULL);
+    }
+
+    @Override
+    public String toJson(Object model) {
+        try {
+            return getWriter(model.getClass()).writeValueAsString(model);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void toJson(Object model, Writer writer) throws IOException {
+        ObjectWriter objectWriter = getWriter(model.getClass());
+        // the generator is flushed but not closed, the writer belongs to the caller
+        JsonGenerator generator = objectWriter.createGenerator(writer);
+        objectWriter.writeValue(generator, model);
+        generator.flush();
+    }
+
+    @Override
+    public <T> T fromJson(String json, Type type) throws IOException {
+        if (json == null || json.isEmpty()) {
+            return null;
+        }
+        return getReader(type).readValue(json);
+    }
+
+    @Override
+    public <T> T fromJson(Reader reader, Type type) throws IOException {
+        ObjectReader objectReader = getReader(type);
+        try (JsonParser parser = objectReader.createParser(reader)) {
+            if (parser.nextToken() == null) {
+                // empty body
+                return null;
+            }
+            return objectReader.readValue(parser);
+        }
+    }
+
+    private ObjectReader getReader(Type type) {
+        return readers.computeIfAbsent(type, t -> mapper.readerFor(mapper.constructType(t)));
+    }
+
+    private ObjectWriter getWriter(Class<?> type) {
+        return writers.computeIfAbsent(type, mapper::writerFor);
+    }
+}
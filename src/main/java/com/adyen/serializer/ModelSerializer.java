@@ -0,0 +1,70 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.serializer;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.reflect.Type;
+
+/**
+ * Converts request and response models to and from JSON. The library uses Gson through {@link GsonModelSerializer}
+ * unless another implementation, e.g. {@link JacksonModelSerializer}, is set with
+ * {@link com.adyen.Config#setModelSerializer(ModelSerializer)}.
+ * <p>
+ * Implementations are shared by all the requests of a client and must be thread-safe.
+ */
+public interface ModelSerializer {
+
+    /**
+     * @param model model to serialize
+     * @return JSON of the model
+     * @throws java.io.UncheckedIOException if the model cannot be serialized
+     */
+    String toJson(Object model);
+
+    /**
+     * Writes the JSON of the model to the writer and flushes it.
+     *
+     * @param model model to serialize
+     * @param writer writer of the JSON
+     * @throws IOException if the model cannot be serialized or written
+     */
+    void toJson(Object model, Writer writer) throws IOException;
+
+    /**
+     * @param json JSON to parse
+     * @param type type of the model
+     * @param <T> model type
+     * @return the model, or null for an empty JSON
+     * @throws IOException if the JSON cannot be read or does not match the model
+     */
+    <T> T fromJson(String json, Type type) throws IOException;
+
+    /**
+     * @param reader reader of the JSON to parse
+     * @param type type of the model
+     * @param <T> model type
+     * @return the model, or null for an empty JSON
+     * @throws IOException if the JSON cannot be read or does not match the model
+     */
+    <T> T fromJson(Reader reader, Type type) throws IOException;
+}
@@ -48,12 +48,18 @@ import com.adyen.model.checkout.JSON;
 
 
 import java.io.IOException;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
 
 import static com.adyen.constants.ApiConstants.HttpMethod.GET;
 import static com.adyen.constants.ApiConstants.HttpMethod.PATCH;
+import static com.adyen.constants.ApiConstants.HttpMethod.POST;
 
 public class Checkout extends ApiKeyAuthenticatedService {
 
+    private static final String PAYMENT_PSP_REFERENCE = "paymentPspReference";
+    private static final String LINK_ID = "linkId";
+
     private final CheckoutResource cancels;
     private final CheckoutResource payments;
     private final CheckoutResource paymentMethods;
@@ -68,6 +74,12 @@ public class Checkout extends ApiKeyAuthenticatedService {
     private final CheckoutResource donations;
     private final CheckoutResource cardDetails;
     private final CheckoutResource paymentLinks;
+    private final CheckoutResource paymentsCaptures;
+    private final CheckoutResource paymentsCancels;
+    private final CheckoutResource paymentsReversals;
+    private final CheckoutResource paymentsRefunds;
+    private final CheckoutResource paymentsAmountUpdates;
+    private final CheckoutResource paymentLinksLinkId;
 
     public Checkout(Client client) {
 
@@ -86,8 +98,12 @@ public class Checkout extends ApiKeyAuthenticatedService {
         donations = new CheckoutResource(this, "/donations");
         cardDetails = new CheckoutResource(this, "/cardDetails");
         paymentLinks = new CheckoutResource(this, "/paymentLinks");
-        new JSON();
-
+        paymentsCaptures = new CheckoutResource(this, "/payments/{" + PAYMENT_PSP_REFERENCE + "}/captures");
+        paymentsCancels = new CheckoutResource(this, "/payments/{" + PAYMENT_PSP_REFERENCE + "}/cancels");
+        paymentsReversals = new CheckoutResource(this, "/payments/{" + PAYMENT_PSP_REFERENCE + "}/reversals");
+        paymentsRefunds = new CheckoutResource(this, "/payments/{" + PAYMENT_PSP_REFERENCE + "}/refunds");
+        paymentsAmountUpdates = new CheckoutResource(this, "/payments/{" + PAYMENT_PSP_REFERENCE + "}/amountUpdates");
+        paymentLinksLinkId = new CheckoutResource(this, "/paymentLinks/{" + LINK_ID + "}");
     }
 
     /**
@@ -104,9 +120,22 @@ public class Checkout extends ApiKeyAuthenticatedService {
 
 
     public PaymentResponse payments(PaymentRequest paymentRequest, RequestOptions requestOptions) throws ApiException, IOException {
-        String jsonRequest = paymentRequest.toJson();
-        String jsonResult = payments.request(jsonRequest, requestOptions);
-        return PaymentResponse.fromJson(jsonResult);
+        return payments.request(paymentRequest, JSON.getGson(), requestOptions, PaymentResponse.class);
+    }
+
+    /**
+     * Asynchronous POST /payments API call
+     *
+     * @param paymentRequest PaymentRequest
+     * @return future of the PaymentResponse
+     */
+    public CompletableFuture<PaymentResponse> paymentsAsync(PaymentRequest paymentRequest) {
+        return paymentsAsync(paymentRequest, null);
+    }
+
+    public CompletableFuture<PaymentResponse> paymentsAsync(PaymentRequest paymentRequest, RequestOptions requestOptions) {
+        String jsonRequest = toJson(paymentRequest, JSON.getGson());
+        return fromJsonAsync(payments.requestAsync(jsonRequest, requestOptions), json -> fromJson(json, PaymentResponse.class, JSON.getGson()));
     }
 
     /**
@@ -119,9 +148,18 @@ public class Checkout extends ApiKeyAuthenticatedService {
      */
 
     public PaymentMethodsResponse paymentMethods(PaymentMethodsRequest paymentMethodsRequest) throws ApiException, IOException {
-        String jsonRequest = paymentMethodsRequest.toJson();
-        String jsonResult = paymentMethods.request(jsonRequest);
-        return PaymentMethodsResponse.fromJson(jsonResult);
+        return paymentMethods.request(paymentMethodsRequest, JSON.getGson(), null, PaymentMethodsResponse.class);
+    }
+
+    /**
+     * Asynchronous POST /paymentMethods API call
+     *
+     * @param paymentMethodsRequest PaymentMethodsRequest
+     * @return future of the PaymentMethodsResponse
+     */
+    public CompletableFuture<PaymentMethodsResponse> paymentMethodsAsync(PaymentMethodsRequest paymentMethodsRequest) {
+        String jsonRequest = toJson(paymentMethodsRequest, JSON.getGson());
+        return fromJsonAsync(paymentMethods.requestAsync(jsonRequest, null), json -> fromJson(json, PaymentMethodsResponse.class, JSON.getGson()));
     }
 
     /**
@@ -137,9 +175,24 @@ public class Checkout extends ApiKeyAuthenticatedService {
     }
 
     public PaymentDetailsResponse paymentsDetails(DetailsRequest paymentsDetailsRequest, RequestOptions requestOptions) throws ApiException, IOException {
-        String jsonRequest = paymentsDetailsRequest.toJson();
+        String jsonRequest = toJson(paymentsDetailsRequest, JSON.getGson());
         String jsonResult = paymentsDetails.request(jsonRequest, requestOptions);
-        return PaymentDetailsResponse.fromJson(jsonResult);
+        return fromJson(jsonResult, PaymentDetailsResponse.class, JSON.getGson());
+    }
+
+    /**
+     * Asynchronous POST payments/details API call
+     *
+     * @param paymentsDetailsRequest paymentsDetailsRequest
+     * @return future of the PaymentDetailsResponse
+     */
+    public CompletableFuture<PaymentDetailsResponse> paymentsDetailsAsync(DetailsRequest paymentsDetailsRequest) {
+        return paymentsDetailsAsync(paymentsDetailsRequest, null);
+    }
+
+    public CompletableFuture<PaymentDetailsResponse> paymentsDetailsAsync(DetailsRequest paymentsDetailsRequest, RequestOptions requestOptions) {
+        String jsonRequest = toJson(paymentsDetailsRequest, JSON.getGson());
+        return fromJsonAsync(paymentsDetails.requestAsync(jsonRequest, requestOptions), json -> fromJson(json, PaymentDetailsResponse.class, JSON.getGson()));
     }
 
     /**
@@ -156,9 +209,9 @@ public class Checkout extends ApiKeyAuthenticatedService {
     }
 
     public PaymentSetupResponse paymentSession(PaymentSetupRequest paymentSessionRequest, RequestOptions requestOptions) throws ApiException, IOException {
-        String jsonRequest = paymentSessionRequest.toJson();
+        String jsonRequest = toJson(paymentSessionRequest, JSON.getGson());
         String jsonResult = paymentSession.request(jsonRequest, requestOptions);
-        return PaymentSetupResponse.fromJson(jsonResult);
+        return fromJson(jsonResult, PaymentSetupResponse.class, JSON.getGson());
     }
 
     /**
@@ -170,9 +223,9 @@ public class Checkout extends ApiKeyAuthenticatedService {
      * @throws ApiException ApiException
      */
     public PaymentVerificationResponse paymentResult(PaymentVerificationRequest paymentResultRequest) throws ApiException, IOException {
-        String jsonRequest = paymentResultRequest.toJson();
+        String jsonRequest = toJson(paymentResultRequest, JSON.getGson());
         String jsonResult = paymentsResult.request(jsonRequest);
-        return PaymentVerificationResponse.fromJson(jsonResult);
+        return fromJson(jsonResult, PaymentVerificationResponse.class, JSON.getGson());
     }
 
     /**
@@ -184,9 +237,9 @@ public class Checkout extends ApiKeyAuthenticatedService {
      * @throws IOException
      */
     public CheckoutCreateOrderResponse orders(CheckoutCreateOrderRequest checkoutCreateOrderRequest) throws ApiException, IOException {
-        String jsonRequest = checkoutCreateOrderRequest.toJson();
+        String jsonRequest = toJson(checkoutCreateOrderRequest, JSON.getGson());
         String jsonResult = orders.request(jsonRequest);
-        return CheckoutCreateOrderResponse.fromJson(jsonResult);
+        return fromJson(jsonResult, CheckoutCreateOrderResponse.class, JSON.getGson());
     }
 
     /**
@@ -198,9 +251,9 @@ public class Checkout extends ApiKeyAuthenticatedService {
      * @throws IOException
      */
     public CheckoutCancelOrderResponse ordersCancel(CheckoutCancelOrderRequest checkoutCancelOrderRequest) throws ApiException, IOException {
-        String jsonRequest = checkoutCancelOrderRequest.toJson();
+        String jsonRequest = toJson(checkoutCancelOrderRequest, JSON.getGson());
         String jsonResult = ordersCancel.request(jsonRequest);
-        return CheckoutCancelOrderResponse.fromJson(jsonResult);
+        return fromJson(jsonResult, CheckoutCancelOrderResponse.class, JSON.getGson());
     }
 
     /**
@@ -212,9 +265,19 @@ public class Checkout extends ApiKeyAuthenticatedService {
      * @throws IOException
      */
     public CreateCheckoutSessionResponse sessions(CreateCheckoutSessionRequest createCheckoutSessionRequest) throws ApiException, IOException {
-        String jsonRequest = createCheckoutSessionRequest.toJson();
-        String jsonResult = sessions.request(jsonRequest);
-        return CreateCheckoutSessionResponse.fromJson(jsonResult);
+        String jsonResult = sessions.request(createCheckoutSessionRequest, JSON.getGson(), null);
+        return fromJson(jsonResult, CreateCheckoutSessionResponse.class, JSON.getGson());
+    }
+
+    /**
+     * Asynchronous POST /sessions API call
+     *
+     * @param createCheckoutSessionRequest CreateCheckoutSessionRequest
+     * @return future of the CreateCheckoutSessionResponse
+     */
+    public CompletableFuture<CreateCheckoutSessionResponse> sessionsAsync(CreateCheckoutSessionRequest createCheckoutSessionRequest) {
+        String jsonRequest = toJson(createCheckoutSessionRequest, JSON.getGson());
+        return fromJsonAsync(sessions.requestAsync(jsonRequest, null), json -> fromJson(json, CreateCheckoutSessionResponse.class, JSON.getGson()));
     }
 
     /**
@@ -228,10 +291,9 @@ public class Checkout extends ApiKeyAuthenticatedService {
     }
 
     public PaymentCaptureResource paymentsCaptures(String paymentPspReference, CreatePaymentCaptureRequest createPaymentCaptureRequest, RequestOptions requestOptions) throws ApiException, IOException {
-        CheckoutResource paymentsCaptures = new CheckoutResource(this, "/payments/" + paymentPspReference + "/captures");
-        String jsonRequest = createPaymentCaptureRequest.toJson();
-        String jsonResult = paymentsCaptures.request(jsonRequest, requestOptions);
-        return PaymentCaptureResource.fromJson(jsonResult);
+        String jsonRequest = toJson(createPaymentCaptureRequest, JSON.getGson());
+        String jsonResult = paymentsCaptures.request(jsonRequest, requestOptions, POST, Collections.singletonMap(PAYMENT_PSP_REFERENCE, paymentPspReference));
+        return fromJson(jsonResult, PaymentCaptureResource.class, JSON.getGson());
     }
 
     /**
@@ -248,10 +310,9 @@ public class Checkout extends ApiKeyAuthenticatedService {
     }
 
     public PaymentCancelResource paymentsCancels(String paymentPspReference, CreatePaymentCancelRequest createPaymentCancelRequest, RequestOptions requestOptions) throws ApiException, IOException {
-        CheckoutResource paymentsCancels = new CheckoutResource(this, "/payments/" + paymentPspReference + "/cancels");
-        String jsonRequest = createPaymentCancelRequest.toJson();
-        String jsonResult = paymentsCancels.request(jsonRequest, requestOptions);
-        return PaymentCancelResource.fromJson(jsonResult);
+        String jsonRequest = toJson(createPaymentCancelRequest, JSON.getGson());
+        String jsonResult = paymentsCancels.request(jsonRequest, requestOptions, POST, Collections.singletonMap(PAYMENT_PSP_REFERENCE, paymentPspReference));
+        return fromJson(jsonResult, PaymentCancelResource.class, JSON.getGson());
     }
 
     /**
@@ -267,9 +328,9 @@ public class Checkout extends ApiKeyAuthenticatedService {
     }
 
     public StandalonePaymentCancelResource cancels(CreateStandalonePaymentCancelRequest createStandalonePaymentCancelRequest, RequestOptions requestOptions) throws ApiException, IOException {
-        String jsonRequest = createStandalonePaymentCancelRequest.toJson();
+        String jsonRequest = toJson(createStandalonePaymentCancelRequest, JSON.getGson());
         String jsonResult = cancels.request(jsonRequest, requestOptions);
-        return StandalonePaymentCancelResource.fromJson(jsonResult);
+        return fromJson(jsonResult, StandalonePaymentCancelResource.class, JSON.getGson());
     }
 
     /**
@@ -286,10 +347,9 @@ public class Checkout extends ApiKeyAuthenticatedService {
     }
 
     public PaymentReversalResource paymentsReversals(String paymentPspReference, CreatePaymentReversalRequest createPaymentReversalRequest, RequestOptions requestOptions) throws ApiException, IOException {
-        CheckoutResource paymentReversal = new CheckoutResource(this, "/payments/" + paymentPspReference + "/reversals");
-        String jsonRequest = createPaymentReversalRequest.toJson();
-        String jsonResult = paymentReversal.request(jsonRequest, requestOptions);
-        return PaymentReversalResource.fromJson(jsonResult);
+        String jsonRequest = toJson(createPaymentReversalRequest, JSON.getGson());
+        String jsonResult = paymentsReversals.request(jsonRequest, requestOptions, POST, Collections.singletonMap(PAYMENT_PSP_REFERENCE, paymentPspReference));
+        return fromJson(jsonResult, PaymentReversalResource.class, JSON.getGson());
     }
 
     /**
@@ -306,10 +366,9 @@ public class Checkout extends ApiKeyAuthenticatedService {
     }
 
     public PaymentRefundResource paymentsRefunds(String paymentPspReference, CreatePaymentRefundRequest createPaymentRefundRequest, RequestOptions requestOptions) throws ApiException, IOException {
-        CheckoutResource paymentsRefunds = new CheckoutResource(this, "/payments/" + paymentPspReference + "/refunds");
-        String jsonRequest = createPaymentRefundRequest.toJson();
-        String jsonResult = paymentsRefunds.request(jsonRequest, requestOptions);
-        return PaymentRefundResource.fromJson(jsonResult);
+        String jsonRequest = toJson(createPaymentRefundRequest, JSON.getGson());
+        String jsonResult = paymentsRefunds.request(jsonRequest, requestOptions, POST, Collections.singletonMap(PAYMENT_PSP_REFERENCE, paymentPspReference));
+        return fromJson(jsonResult, PaymentRefundResource.class, JSON.getGson());
     }
 
     /**
@@ -326,10 +385,9 @@ public class Checkout extends ApiKeyAuthenticatedService {
     }
 
     public PaymentAmountUpdateResource paymentsAmountUpdates(String paymentPspReference, CreatePaymentAmountUpdateRequest createPaymentAmountUpdateRequest, RequestOptions requestOptions) throws ApiException, IOException {
-        CheckoutResource paymentsAmountUpdates = new CheckoutResource(this, "/payments/" + paymentPspReference + "/amountUpdates");
-        String jsonRequest = createPaymentAmountUpdateRequest.toJson();
-        String jsonResult = paymentsAmountUpdates.request(jsonRequest, requestOptions);
-        return PaymentAmountUpdateResource.fromJson(jsonResult);
+        String jsonRequest = toJson(createPaymentAmountUpdateRequest, JSON.getGson());
+        String jsonResult = paymentsAmountUpdates.request(jsonRequest, requestOptions, POST, Collections.singletonMap(PAYMENT_PSP_REFERENCE, paymentPspReference));
+        return fromJson(jsonResult, PaymentAmountUpdateResource.class, JSON.getGson());
     }
 
     /**
@@ -341,9 +399,9 @@ public class Checkout extends ApiKeyAuthenticatedService {
      * @throws IOException
      */
     public CheckoutBalanceCheckResponse paymentsMethodsBalance(CheckoutBalanceCheckRequest checkoutBalanceCheckRequest) throws ApiException, IOException {
-        String jsonRequest = checkoutBalanceCheckRequest.toJson();
+        String jsonRequest = toJson(checkoutBalanceCheckRequest, JSON.getGson());
         String jsonResult = paymentMethodsBalance.request(jsonRequest);
-        return CheckoutBalanceCheckResponse.fromJson(jsonResult);
+        return fromJson(jsonResult, CheckoutBalanceCheckResponse.class, JSON.getGson());
     }
 
     /**
@@ -355,9 +413,8 @@ public class Checkout extends ApiKeyAuthenticatedService {
      * @throws IOException
      */
     public PaymentLinkResponse paymentLinks(CreatePaymentLinkRequest createPaymentLinkRequest) throws ApiException, IOException {
-        String jsonRequest = createPaymentLinkRequest.toJson();
-        String jsonResult = paymentLinks.request(jsonRequest);
-        return PaymentLinkResponse.fromJson(jsonResult);
+        String jsonResult = paymentLinks.request(createPaymentLinkRequest, JSON.getGson(), null);
+        return fromJson(jsonResult, PaymentLinkResponse.class, JSON.getGson());
     }
 
     /**
@@ -369,9 +426,8 @@ public class Checkout extends ApiKeyAuthenticatedService {
      * @throws IOException
      */
     public PaymentLinkResponse getPaymentLinks(String linkId) throws ApiException, IOException {
-        CheckoutResource paymentLinks = new CheckoutResource(this, "/paymentLinks/" + linkId);
-        String jsonResult = paymentLinks.request("{}", GET);
-        return PaymentLinkResponse.fromJson(jsonResult);
+        String jsonResult = paymentLinksLinkId.request("{}", null, GET, Collections.singletonMap(LINK_ID, linkId));
+        return fromJson(jsonResult, PaymentLinkResponse.class, JSON.getGson());
     }
 
     /**
@@ -384,11 +440,9 @@ public class Checkout extends ApiKeyAuthenticatedService {
      * @throws IOException
      */
     public PaymentLinkResponse patchPaymentLinks(String linkId, UpdatePaymentLinkRequest updatePaymentLinkRequest) throws ApiException, IOException {
-        CheckoutResource paymentLinks = new CheckoutResource(this, "/paymentLinks/" + linkId);
-
-        String jsonRequest = updatePaymentLinkRequest.toJson();
-        String jsonResult = paymentLinks.request(jsonRequest, PATCH);
-        return PaymentLinkResponse.fromJson(jsonResult);
+        String jsonRequest = toJson(updatePaymentLinkRequest, JSON.getGson());
+        String jsonResult = paymentLinksLinkId.request(jsonRequest, null, PATCH, Collections.singletonMap(LINK_ID, linkId));
+        return fromJson(jsonResult, PaymentLinkResponse.class, JSON.getGson());
     }
 
     /**
@@ -400,9 +454,9 @@ public class Checkout extends ApiKeyAuthenticatedService {
      * @throws IOException
      */
     public ApplePaySessionResponse applePaySessions(CreateApplePaySessionRequest createApplePaySessionRequest) throws ApiException, IOException {
-        String jsonRequest = createApplePaySessionRequest.toJson();
+        String jsonRequest = toJson(createApplePaySessionRequest, JSON.getGson());
         String jsonResult = applePaySessions.request(jsonRequest);
-        return ApplePaySessionResponse.fromJson(jsonResult);
+        return fromJson(jsonResult, ApplePaySessionResponse.class, JSON.getGson());
     }
 
     /**
@@ -414,9 +468,9 @@ public class Checkout extends ApiKeyAuthenticatedService {
      * @throws IOException
      */
     public DonationResponse donations(PaymentDonationRequest paymentDonationRequest) throws ApiException, IOException {
-        String jsonRequest = paymentDonationRequest.toJson();
+        String jsonRequest = toJson(paymentDonationRequest, JSON.getGson());
         String jsonResult = donations.request(jsonRequest);
-        return DonationResponse.fromJson(jsonResult);
+        return fromJson(jsonResult, DonationResponse.class, JSON.getGson());
     }
 
     /**
@@ -428,8 +482,8 @@ public class Checkout extends ApiKeyAuthenticatedService {
      * @throws IOException
      */
     public CardDetailsResponse cardDetails(CardDetailsRequest cardDetailsRequest) throws ApiException, IOException {
-        String jsonRequest = cardDetailsRequest.toJson();
+        String jsonRequest = toJson(cardDetailsRequest, JSON.getGson());
         String jsonResult = cardDetails.request(jsonRequest);
-        return CardDetailsResponse.fromJson(jsonResult);
+        return fromJson(jsonResult, CardDetailsResponse.class, JSON.getGson());
     }
 }
@@ -5,33 +5,37 @@ import com.adyen.Service;
 import com.adyen.constants.ApiConstants;
 import com.adyen.model.legalEntityManagement.BusinessLine;
 import com.adyen.model.legalEntityManagement.BusinessLineInfo;
+import com.adyen.model.legalEntityManagement.JSON;
 import com.adyen.service.exception.ApiException;
 import com.adyen.service.resource.LegalEntityManagementResource;
 
 import java.io.IOException;
+import java.util.Collections;
 
 public class BusinessLineService extends Service {
+    private final LegalEntityManagementResource businessLines;
+    private final LegalEntityManagementResource businessLinesBusinessLineId;
+
     public BusinessLineService(Client client) {
         super(client);
+        businessLines = new LegalEntityManagementResource(this, "/businessLines");
+        businessLinesBusinessLineId = new LegalEntityManagementResource(this, "/businessLines/{businessLineId}");
     }
 
     public BusinessLine create(BusinessLineInfo request) throws IOException, ApiException {
-        String jsonRequest = request.toJson();
-        LegalEntityManagementResource resource = new LegalEntityManagementResource(this, "/businessLines");
-        String jsonResult = resource.request(jsonRequest);
-        return BusinessLine.fromJson(jsonResult);
+        String jsonRequest = toJson(request, JSON.getGson());
+        String jsonResult = businessLines.request(jsonRequest);
+        return fromJson(jsonResult, BusinessLine.class, JSON.getGson());
     }
 
     public BusinessLine retrieve(String businessLineId) throws IOException, ApiException {
-        LegalEntityManagementResource resource = new LegalEntityManagementResource(this, String.format("/businessLines/%s", businessLineId));
-        String jsonResult = resource.request(null, ApiConstants.HttpMethod.GET);
-        return BusinessLine.fromJson(jsonResult);
+        String jsonResult = businessLinesBusinessLineId.request(null, null, ApiConstants.HttpMethod.GET, Collections.singletonMap("businessLineId", businessLineId));
+        return fromJson(jsonResult, BusinessLine.class, JSON.getGson());
     }
 
     public BusinessLine update(String businessLineId, BusinessLineInfo request) throws IOException, ApiException {
-        String jsonRequest = request.toJson();
-        LegalEntityManagementResource resource = new LegalEntityManagementResource(this, String.format("/businessLines/%s", businessLineId));
-        String jsonResult = resource.request(jsonRequest, ApiConstants.HttpMethod.PATCH);
-        return BusinessLine.fromJson(jsonResult);
+        String jsonRequest = toJson(request, JSON.getGson());
+        String jsonResult = businessLinesBusinessLineId.request(jsonRequest, null, ApiConstants.HttpMethod.PATCH, Collections.singletonMap("businessLineId", businessLineId));
+        return fromJson(jsonResult, BusinessLine.class, JSON.getGson());
     }
 }
@@ -4,38 +4,41 @@ import com.adyen.Client;
 import com.adyen.Service;
 import com.adyen.constants.ApiConstants;
 import com.adyen.model.legalEntityManagement.Document;
+import com.adyen.model.legalEntityManagement.JSON;
 import com.adyen.service.exception.ApiException;
 import com.adyen.service.resource.LegalEntityManagementResource;
 
 import java.io.IOException;
+import java.util.Collections;
 
 public class Documents extends Service {
+    private final LegalEntityManagementResource documents;
+    private final LegalEntityManagementResource documentsDocumentId;
+
     public Documents(Client client) {
         super(client);
+        documents = new LegalEntityManagementResource(this, "/documents");
+        documentsDocumentId = new LegalEntityManagementResource(this, "/documents/{documentId}");
     }
 
     public Document create(Document request) throws IOException, ApiException {
-        String jsonRequest = request.toJson();
-        LegalEntityManagementResource resource = new LegalEntityManagementResource(this, "/documents");
-        String jsonResult = resource.request(jsonRequest);
-        return Document.fromJson(jsonResult);
+        String jsonRequest = toJson(request, JSON.getGson());
+        String jsonResult = documents.request(jsonRequest);
+        return fromJson(jsonResult, Document.class, JSON.getGson());
     }
 
     public Document retrieve(String documentId) throws IOException, ApiException {
-        LegalEntityManagementResource resource = new LegalEntityManagementResource(this, String.format("/documents/%s", documentId));
-        String jsonResult = resource.request(null, ApiConstants.HttpMethod.GET);
-        return Document.fromJson(jsonResult);
+        String jsonResult = documentsDocumentId.request(null, null, ApiConstants.HttpMethod.GET, Collections.singletonMap("documentId", documentId));
+        return fromJson(jsonResult, Document.class, JSON.getGson());
     }
 
     public Document update(String documentId, Document request) throws IOException, ApiException {
-        String jsonRequest = request.toJson();
-        LegalEntityManagementResource resource = new LegalEntityManagementResource(this, String.format("/documents/%s", documentId));
-        String jsonResult = resource.request(jsonRequest, ApiConstants.HttpMethod.PATCH);
-        return Document.fromJson(jsonResult);
+        String jsonRequest = toJson(request, JSON.getGson());
+        String jsonResult = documentsDocumentId.request(jsonRequest, null, ApiConstants.HttpMethod.PATCH, Collections.singletonMap("documentId", documentId));
+        return fromJson(jsonResult, Document.class, JSON.getGson());
     }
 
     public void delete(String documentId) throws IOException, ApiException {
-        LegalEntityManagementResource resource = new LegalEntityManagementResource(this, String.format("/documents/%s", documentId));
-        resource.request(null, ApiConstants.HttpMethod.DELETE);
+        documentsDocumentId.request(null, null, ApiConstants.HttpMethod.DELETE, Collections.singletonMap("documentId", documentId));
     }
 }
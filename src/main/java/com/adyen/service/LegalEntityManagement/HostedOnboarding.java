@@ -3,6 +3,7 @@ package com.adyen.service.LegalEntityManagement;
 import com.adyen.Client;
 import com.adyen.Service;
 import com.adyen.constants.ApiConstants;
+import com.adyen.model.legalEntityManagement.JSON;
 import com.adyen.model.legalEntityManagement.OnboardingLink;
 import com.adyen.model.legalEntityManagement.OnboardingLinkInfo;
 import com.adyen.model.legalEntityManagement.OnboardingTheme;
@@ -11,28 +12,33 @@ import com.adyen.service.exception.ApiException;
 import com.adyen.service.resource.LegalEntityManagementResource;
 
 import java.io.IOException;
+import java.util.Collections;
 
 public class HostedOnboarding extends Service {
+    private final LegalEntityManagementResource legalEntitiesLegalEntityIdOnboardingLinks;
+    private final LegalEntityManagementResource themes;
+    private final LegalEntityManagementResource themesThemeId;
+
     public HostedOnboarding(Client client) {
         super(client);
+        legalEntitiesLegalEntityIdOnboardingLinks = new LegalEntityManagementResource(this, "/legalEntities/{legalEntityId}/onboardingLinks");
+        themes = new LegalEntityManagementResource(this, "/themes");
+        themesThemeId = new LegalEntityManagementResource(this, "/themes/{themeId}");
     }
 
     public OnboardingLink create(String legalEntityId, OnboardingLinkInfo request) throws IOException, ApiException {
-        String jsonRequest = request.toJson();
-        LegalEntityManagementResource resource = new LegalEntityManagementResource(this, String.format("/legalEntities/%s/onboardingLinks", legalEntityId));
-        String jsonResult = resource.request(jsonRequest);
-        return OnboardingLink.fromJson(jsonResult);
+        String jsonRequest = toJson(request, JSON.getGson());
+        String jsonResult = legalEntitiesLegalEntityIdOnboardingLinks.request(jsonRequest, null, ApiConstants.HttpMethod.POST, Collections.singletonMap("legalEntityId", legalEntityId));
+        return fromJson(jsonResult, OnboardingLink.class, JSON.getGson());
     }
 
     public OnboardingThemes listThemes() throws IOException, ApiException {
-        LegalEntityManagementResource resource = new LegalEntityManagementResource(this, "/themes");
-        String jsonResult = resource.request(null, ApiConstants.HttpMethod.GET);
-        return OnboardingThemes.fromJson(jsonResult);
+        String jsonResult = themes.request(null, ApiConstants.HttpMethod.GET);
+        return fromJson(jsonResult, OnboardingThemes.class, JSON.getGson());
     }
 
     public OnboardingTheme retrieveTheme(String themeId) throws IOException, ApiException {
-        LegalEntityManagementResource resource = new LegalEntityManagementResource(this, String.format("/themes/%s", themeId));
-        String jsonResult = resource.request(null, ApiConstants.HttpMethod.GET);
-        return OnboardingTheme.fromJson(jsonResult);
+        String jsonResult = themesThemeId.request(null, null, ApiConstants.HttpMethod.GET, Collections.singletonMap("themeId", themeId));
+        return fromJson(jsonResult, OnboardingTheme.class, JSON.getGson());
     }
 }
@@ -4,41 +4,46 @@ import com.adyen.Client;
 import com.adyen.Service;
 import com.adyen.constants.ApiConstants;
 import com.adyen.model.legalEntityManagement.BusinessLines;
+import com.adyen.model.legalEntityManagement.JSON;
 import com.adyen.model.legalEntityManagement.LegalEntity;
 import com.adyen.model.legalEntityManagement.LegalEntityInfo;
 import com.adyen.service.exception.ApiException;
 import com.adyen.service.resource.LegalEntityManagementResource;
 
 import java.io.IOException;
+import java.util.Collections;
 
 public class LegalEntities extends Service {
+    private final LegalEntityManagementResource legalEntities;
+    private final LegalEntityManagementResource legalEntitiesLegalEntityId;
+    private final LegalEntityManagementResource legalEntitiesLegalEntityIdBusinessLines;
+
     public LegalEntities(Client client) {
         super(client);
+        legalEntities = new LegalEntityManagementResource(this, "/legalEntities");
+        legalEntitiesLegalEntityId = new LegalEntityManagementResource(this, "/legalEntities/{legalEntityId}");
+        legalEntitiesLegalEntityIdBusinessLines = new LegalEntityManagementResource(this, "/legalEntities/{legalEntityId}/businessLines");
     }
 
     public LegalEntity create(LegalEntityInfo request) throws IOException, ApiException {
-        String jsonRequest = request.toJson();
-        LegalEntityManagementResource resource = new LegalEntityManagementResource(this, "/legalEntities");
-        String jsonResult = resource.request(jsonRequest);
-        return LegalEntity.fromJson(jsonResult);
+        String jsonRequest = toJson(request, JSON.getGson());
+        String jsonResult = legalEntities.request(jsonRequest);
+        return fromJson(jsonResult, LegalEntity.class, JSON.getGson());
     }
 
     public LegalEntity retrieve(String legalEntityId) throws IOException, ApiException {
-        LegalEntityManagementResource resource = new LegalEntityManagementResource(this, String.format("/legalEntities/%s", legalEntityId));
-        String jsonResult = resource.request(null, ApiConstants.HttpMethod.GET);
-        return LegalEntity.fromJson(jsonResult);
+        String jsonResult = legalEntitiesLegalEntityId.request(null, null, ApiConstants.HttpMethod.GET, Collections.singletonMap("legalEntityId", legalEntityId));
+        return fromJson(jsonResult, LegalEntity.class, JSON.getGson());
     }
 
     public LegalEntity update(String legalEntityId, LegalEntityInfo request) throws IOException, ApiException {
-        String jsonRequest = request.toJson();
-        LegalEntityManagementResource resource = new LegalEntityManagementResource(this, String.format("/legalEntities/%s", legalEntityId));
-        String jsonResult = resource.request(jsonRequest, ApiConstants.HttpMethod.PATCH);
-        return LegalEntity.fromJson(jsonResult);
+        String jsonRequest = toJson(request, JSON.getGson());
+        String jsonResult = legalEntitiesLegalEntityId.request(jsonRequest, null, ApiConstants.HttpMethod.PATCH, Collections.singletonMap("legalEntityId", legalEntityId));
+        return fromJson(jsonResult, LegalEntity.class, JSON.getGson());
     }
 
     public BusinessLines listBusinessLines(String legalEntityId) throws IOException, ApiException {
-        LegalEntityManagementResource resource = new LegalEntityManagementResource(this, String.format("/legalEntities/%s/businessLines", legalEntityId));
-        String jsonResult = resource.request(null, ApiConstants.HttpMethod.GET);
-        return BusinessLines.fromJson(jsonResult);
+        String jsonResult = legalEntitiesLegalEntityIdBusinessLines.request(null, null, ApiConstants.HttpMethod.GET, Collections.singletonMap("legalEntityId", legalEntityId));
+        return fromJson(jsonResult, BusinessLines.class, JSON.getGson());
     }
 }
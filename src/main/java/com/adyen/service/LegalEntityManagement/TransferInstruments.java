@@ -3,41 +3,44 @@ package com.adyen.service.LegalEntityManagement;
 import com.adyen.Client;
 import com.adyen.Service;
 import com.adyen.constants.ApiConstants;
+import com.adyen.model.legalEntityManagement.JSON;
 import com.adyen.model.legalEntityManagement.TransferInstrument;
 import com.adyen.model.legalEntityManagement.TransferInstrumentInfo;
 import com.adyen.service.exception.ApiException;
 import com.adyen.service.resource.LegalEntityManagementResource;
 
 import java.io.IOException;
+import java.util.Collections;
 
 public class TransferInstruments extends Service {
+    private final LegalEntityManagementResource transferInstruments;
+    private final LegalEntityManagementResource transferInstrumentsTransferInstrumentId;
+
     public TransferInstruments(Client client) {
         super(client);
+        transferInstruments = new LegalEntityManagementResource(this, "/transferInstruments");
+        transferInstrumentsTransferInstrumentId = new LegalEntityManagementResource(this, "/transferInstruments/{transferInstrumentId}");
     }
 
     public TransferInstrument create(TransferInstrumentInfo request) throws IOException, ApiException {
-        String jsonRequest = request.toJson();
-        LegalEntityManagementResource resource = new LegalEntityManagementResource(this, "/transferInstruments");
-        String jsonResult = resource.request(jsonRequest);
-        return TransferInstrument.fromJson(jsonResult);
+        String jsonRequest = toJson(request, JSON.getGson());
+        String jsonResult = transferInstruments.request(jsonRequest);
+        return fromJson(jsonResult, TransferInstrument.class, JSON.getGson());
     }
 
     public TransferInstrument retrieve(String transferInstrumentId) throws IOException, ApiException {
-        LegalEntityManagementResource resource = new LegalEntityManagementResource(this, String.format("/transferInstruments/%s", transferInstrumentId));
-        String jsonResult = resource.request(null, ApiConstants.HttpMethod.GET);
-        return TransferInstrument.fromJson(jsonResult);
+        String jsonResult = transferInstrumentsTransferInstrumentId.request(null, null, ApiConstants.HttpMethod.GET, Collections.singletonMap("transferInstrumentId", transferInstrumentId));
+        return fromJson(jsonResult, TransferInstrument.class, JSON.getGson());
     }
 
     public TransferInstrument update(String transferInstrumentId, TransferInstrumentInfo request) throws IOException, ApiException {
-        String jsonRequest = request.toJson();
-        LegalEntityManagementResource resource = new LegalEntityManagementResource(this, String.format("/transferInstruments/%s", transferInstrumentId));
-        String jsonResult = resource.request(jsonRequest, ApiConstants.HttpMethod.PATCH);
-        return TransferInstrument.fromJson(jsonResult);
+        String jsonRequest = toJson(request, JSON.getGson());
+        String jsonResult = transferInstrumentsTransferInstrumentId.request(jsonRequest, null, ApiConstants.HttpMethod.PATCH, Collections.singletonMap("transferInstrumentId", transferInstrumentId));
+        return fromJson(jsonResult, TransferInstrument.class, JSON.getGson());
     }
 
     public void delete(String transferInstrumentId) throws IOException, ApiException {
-        LegalEntityManagementResource resource = new LegalEntityManagementResource(this, String.format("/transferInstruments/%s", transferInstrumentId));
-        resource.request(null, ApiConstants.HttpMethod.DELETE);
+        transferInstrumentsTransferInstrumentId.request(null, null, ApiConstants.HttpMethod.DELETE, Collections.singletonMap("transferInstrumentId", transferInstrumentId));
     }
 
 }
@@ -0,0 +1,171 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Endpoint with {@code {name}} placeholders, parsed once into literal parts and placeholder names.
+ * Rendering appends the percent-encoded path parameters to a single sized builder.
+ */
+final class PathTemplate {
+    private static final int MAX_CACHED_TEMPLATES = 4096;
+    private static final ConcurrentMap<String, PathTemplate> TEMPLATES = new ConcurrentHashMap<>();
+    private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
+    private final String template;
+    // literals.length == names.length + 1, literals surround the placeholders
+    private final String[] literals;
+    private final String[] names;
+
+    private PathTemplate(String template, String[] literals, String[] names) {
+        this.template = template;
+        this.literals = literals;
+        this.names = names;
+    }
+
+    /**
+     * Returns the compiled template of the endpoint, shared by all resources with the same endpoint
+     */
+    static PathTemplate of(String template) {
+        if (template == null) {
+            return compile(null);
+        }
+        PathTemplate result = TEMPLATES.get(template);
+        if (result == null) {
+            result = compile(template);
+            if (TEMPLATES.size() < MAX_CACHED_TEMPLATES) {
+                TEMPLATES.putIfAbsent(template, result);
+            }
+        }
+        return result;
+    }
+
+    static PathTemplate compile(String template) {
+        if (template == null || template.indexOf('{') < 0) {
+            return new PathTemplate(template, new String[]{template}, new String[0]);
+        }
+        List<String> literals = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        int i = 0;
+        int literalStart = 0;
+        while (i < template.length()) {
+            int beginVar = template.indexOf('{', i);
+            int endVar = beginVar < 0 ? -1 : template.indexOf('}', beginVar);
+            if (endVar < 0) {
+                break;
+            }
+            literals.add(template.substring(literalStart, beginVar));
+            names.add(template.substring(beginVar + 1, endVar));
+            i = endVar + 1;
+            literalStart = i;
+        }
+        literals.add(template.substring(literalStart));
+        return new PathTemplate(template, literals.toArray(new String[0]), names.toArray(new String[0]));
+    }
+
+    String getTemplate() {
+        return template;
+    }
+
+    /**
+     * Replaces the placeholders with the percent-encoded values of the given path parameters.
+     * The template is returned as is when it has no placeholders.
+     *
+     * @throws IllegalArgumentException when a placeholder has no parameter, including when none are given
+     */
+    String render(Map<String, String> params) {
+        if (names.length == 0) {
+            return template;
+        }
+        if (params == null) {
+            throw new IllegalArgumentException("Missing path parameter " + names[0] + " of " + template);
+        }
+        String[] values = new String[names.length];
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        for (int i = 0; i < names.length; i++) {
+            values[i] = params.get(names[i]);
+            if (values[i] == null) {
+                throw new IllegalArgumentException("Missing path parameter " + names[i] + " of " + template);
+            }
+            length += values[i].length();
+        }
+
+        StringBuilder path = new StringBuilder(length + 16);
+        path.append(literals[0]);
+        for (int i = 0; i < names.length; i++) {
+            appendEncoded(path, values[i]);
+            path.append(literals[i + 1]);
+        }
+        return path.toString();
+    }
+
+    /**
+     * Appends the value as a path segment: characters other than pchar (RFC 3986) are percent-encoded as UTF-8
+     */
+    static void appendEncoded(StringBuilder path, String value) {
+        int length = value.length();
+        int i = 0;
+        while (i < length && isPathChar(value.charAt(i))) {
+            i++;
+        }
+        if (i == length) {
+            path.append(value);
+            return;
+        }
+        path.append(value, 0, i);
+        for (byte b : value.substring(i).getBytes(StandardCharsets.UTF_8)) {
+            char c = (char) (b & 0xFF);
+            if (isPathChar(c)) {
+                path.append(c);
+            } else {
+                path.append('%').append(HEX_DIGITS[(b >> 4) & 0xF]).append(HEX_DIGITS[b & 0xF]);
+            }
+        }
+    }
+
+    private static boolean isPathChar(char c) {
+        if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')) {
+            return true;
+        }
+        switch (c) {
+            case '-': case '.': case '_': case '~':
+            case '!': case '$': case '&': case '\'': case '(': case ')': case '*': case '+': case ',': case ';': case '=':
+            case ':': case '@':
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return template;
+    }
+}
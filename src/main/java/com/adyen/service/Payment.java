@@ -48,6 +48,7 @@ import com.adyen.service.resource.PaymentResource;
 
 import java.io.IOException;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import static com.adyen.Client.LIB_NAME;
 import static com.adyen.Client.LIB_VERSION;
@@ -84,7 +85,6 @@ public class Payment extends Service {
         adjustAuthorisation = new PaymentResource(this, "/adjustAuthorisation");
         donate = new PaymentResource(this, "/donate");
         voidPendingRefund = new PaymentResource(this, "/voidPendingRefund");
-        new JSON();
     }
 
     /**
@@ -101,9 +101,24 @@ public class Payment extends Service {
 
     public PaymentResult authorise(PaymentRequest paymentRequest, RequestOptions requestOptions) throws ApiException, IOException {
         paymentRequest.setApplicationInfo(addLibrary(paymentRequest.getApplicationInfo()));
-        String jsonRequest = paymentRequest.toJson();
-        String jsonResult = authorise.request(jsonRequest, requestOptions);
-        return PaymentResult.fromJson(jsonResult);
+        String jsonResult = authorise.request(paymentRequest, JSON.getGson(), requestOptions);
+        return fromJson(jsonResult, PaymentResult.class, JSON.getGson());
+    }
+
+    /**
+     * Asynchronous POST /authorise API call
+     *
+     * @param paymentRequest paymentRequest
+     * @return future of the PaymentResult
+     */
+    public CompletableFuture<PaymentResult> authoriseAsync(PaymentRequest paymentRequest) {
+        return authoriseAsync(paymentRequest, null);
+    }
+
+    public CompletableFuture<PaymentResult> authoriseAsync(PaymentRequest paymentRequest, RequestOptions requestOptions) {
+        paymentRequest.setApplicationInfo(addLibrary(paymentRequest.getApplicationInfo()));
+        String jsonRequest = toJson(paymentRequest, JSON.getGson());
+        return fromJsonAsync(authorise.requestAsync(jsonRequest, requestOptions), json -> fromJson(json, PaymentResult.class, JSON.getGson()));
     }
 
     /**
@@ -115,11 +130,11 @@ public class Payment extends Service {
      */
     public PaymentResult authorise3D(PaymentRequest3d paymentRequest3d) throws Exception {
         paymentRequest3d.setApplicationInfo(addLibrary(paymentRequest3d.getApplicationInfo()));
-        String jsonRequest = paymentRequest3d.toJson();
+        String jsonRequest = toJson(paymentRequest3d, JSON.getGson());
 
         String jsonResult = authorise3D.request(jsonRequest);
 
-        return PaymentResult.fromJson(jsonResult);
+        return fromJson(jsonResult, PaymentResult.class, JSON.getGson());
     }
 
     /**
@@ -131,11 +146,11 @@ public class Payment extends Service {
      */
     public PaymentResult authorise3DS2(PaymentRequest3ds2 paymentRequest3ds2) throws Exception {
         paymentRequest3ds2.setApplicationInfo(addLibrary(paymentRequest3ds2.getApplicationInfo()));
-        String jsonRequest = paymentRequest3ds2.toJson();
+        String jsonRequest = toJson(paymentRequest3ds2, JSON.getGson());
 
         String jsonResult = authorise3DS2.request(jsonRequest);
 
-        return PaymentResult.fromJson(jsonResult);
+        return fromJson(jsonResult, PaymentResult.class, JSON.getGson());
     }
 
     /**
@@ -148,11 +163,11 @@ public class Payment extends Service {
      */
     @Deprecated
     public ThreeDS2ResultResponse retrieve3ds2Result(ThreeDS2ResultRequest threeDS2ResultRequest) throws Exception {
-        String jsonRequest = threeDS2ResultRequest.toJson();
+        String jsonRequest = toJson(threeDS2ResultRequest, JSON.getGson());
 
         String jsonResult = retrieve3DS2Result.request(jsonRequest);
 
-        return ThreeDS2ResultResponse.fromJson(jsonResult);
+        return fromJson(jsonResult, ThreeDS2ResultResponse.class, JSON.getGson());
     }
 
     /**
@@ -164,11 +179,11 @@ public class Payment extends Service {
      * @throws IOException  IOException
      */
     public AuthenticationResultResponse getAuthenticationResult(AuthenticationResultRequest authenticationResultRequest) throws IOException, ApiException {
-        String jsonRequest = authenticationResultRequest.toJson();
+        String jsonRequest = toJson(authenticationResultRequest, JSON.getGson());
 
         String jsonResult = getAuthenticationResult.request(jsonRequest);
 
-        return AuthenticationResultResponse.fromJson(jsonResult);
+        return fromJson(jsonResult, AuthenticationResultResponse.class, JSON.getGson());
     }
 
     /**
@@ -189,11 +204,22 @@ public class Payment extends Service {
      * @throws IOException  IOException
      */
     public ModificationResult capture(CaptureRequest captureRequest) throws IOException, ApiException {
-        String jsonRequest = captureRequest.toJson();
+        String jsonRequest = toJson(captureRequest, JSON.getGson());
 
         String jsonResult = capture.request(jsonRequest);
 
-        return ModificationResult.fromJson(jsonResult);
+        return fromJson(jsonResult, ModificationResult.class, JSON.getGson());
+    }
+
+    /**
+     * Asynchronous POST /capture API call
+     *
+     * @param captureRequest CaptureRequest
+     * @return future of the ModificationResult
+     */
+    public CompletableFuture<ModificationResult> captureAsync(CaptureRequest captureRequest) {
+        String jsonRequest = toJson(captureRequest, JSON.getGson());
+        return fromJsonAsync(capture.requestAsync(jsonRequest, null), json -> fromJson(json, ModificationResult.class, JSON.getGson()));
     }
 
     /**
@@ -205,11 +231,22 @@ public class Payment extends Service {
      * @throws IOException  IOException
      */
     public ModificationResult cancel(CancelRequest cancelRequest) throws IOException, ApiException {
-        String jsonRequest = cancelRequest.toJson();
+        String jsonRequest = toJson(cancelRequest, JSON.getGson());
 
         String jsonResult = cancel.request(jsonRequest);
 
-        return ModificationResult.fromJson(jsonResult);
+        return fromJson(jsonResult, ModificationResult.class, JSON.getGson());
+    }
+
+    /**
+     * Asynchronous POST /cancel API call
+     *
+     * @param cancelRequest CancelRequest
+     * @return future of the ModificationResult
+     */
+    public CompletableFuture<ModificationResult> cancelAsync(CancelRequest cancelRequest) {
+        String jsonRequest = toJson(cancelRequest, JSON.getGson());
+        return fromJsonAsync(cancel.requestAsync(jsonRequest, null), json -> fromJson(json, ModificationResult.class, JSON.getGson()));
     }
 
     /**
@@ -221,11 +258,22 @@ public class Payment extends Service {
      * @throws IOException  IOException
      */
     public ModificationResult refund(RefundRequest refundRequest) throws IOException, ApiException {
-        String jsonRequest = refundRequest.toJson();
+        String jsonRequest = toJson(refundRequest, JSON.getGson());
 
         String jsonResult = refund.request(jsonRequest);
 
-        return ModificationResult.fromJson(jsonResult);
+        return fromJson(jsonResult, ModificationResult.class, JSON.getGson());
+    }
+
+    /**
+     * Asynchronous POST /refund API call
+     *
+     * @param refundRequest RefundRequest
+     * @return future of the ModificationResult
+     */
+    public CompletableFuture<ModificationResult> refundAsync(RefundRequest refundRequest) {
+        String jsonRequest = toJson(refundRequest, JSON.getGson());
+        return fromJsonAsync(refund.requestAsync(jsonRequest, null), json -> fromJson(json, ModificationResult.class, JSON.getGson()));
     }
 
     /**
@@ -237,11 +285,11 @@ public class Payment extends Service {
      * @throws IOException  IOException
      */
     public ModificationResult cancelOrRefund(CancelOrRefundRequest cancelOrRefundRequest) throws IOException, ApiException {
-        String jsonRequest = cancelOrRefundRequest.toJson();
+        String jsonRequest = toJson(cancelOrRefundRequest, JSON.getGson());
 
         String jsonResult = cancelOrRefund.request(jsonRequest);
 
-        return ModificationResult.fromJson(jsonResult);
+        return fromJson(jsonResult, ModificationResult.class, JSON.getGson());
     }
 
     /**
@@ -253,11 +301,11 @@ public class Payment extends Service {
      * @throws IOException  IOException
      */
     public ModificationResult technicalCancel(TechnicalCancelRequest technicalCancelRequest) throws IOException, ApiException {
-        String jsonRequest = technicalCancelRequest.toJson();
+        String jsonRequest = toJson(technicalCancelRequest, JSON.getGson());
 
         String jsonResult = technicalCancel.request(jsonRequest);
 
-        return ModificationResult.fromJson(jsonResult);
+        return fromJson(jsonResult, ModificationResult.class, JSON.getGson());
     }
 
     /**
@@ -269,11 +317,11 @@ public class Payment extends Service {
      * @throws IOException  IOException
      */
     public ModificationResult adjustAuthorisation(AdjustAuthorisationRequest adjustAuthorisationRequest) throws IOException, ApiException {
-        String jsonRequest = adjustAuthorisationRequest.toJson();
+        String jsonRequest = toJson(adjustAuthorisationRequest, JSON.getGson());
 
         String jsonResult = adjustAuthorisation.request(jsonRequest);
 
-        return ModificationResult.fromJson(jsonResult);
+        return fromJson(jsonResult, ModificationResult.class, JSON.getGson());
     }
 
     /**
@@ -285,11 +333,11 @@ public class Payment extends Service {
      * @throws IOException  IOException
      */
     public ModificationResult donate(DonationRequest donationRequest) throws IOException, ApiException {
-        String jsonRequest = donationRequest.toJson();
+        String jsonRequest = toJson(donationRequest, JSON.getGson());
 
         String jsonResult = donate.request(jsonRequest);
 
-        return ModificationResult.fromJson(jsonResult);
+        return fromJson(jsonResult, ModificationResult.class, JSON.getGson());
     }
 
     /**
@@ -301,10 +349,10 @@ public class Payment extends Service {
      * @throws IOException  IOException
      */
     public ModificationResult voidPendingRefund(VoidPendingRefundRequest voidPendingRefundRequest) throws IOException, ApiException {
-        String jsonRequest = voidPendingRefundRequest.toJson();
+        String jsonRequest = toJson(voidPendingRefundRequest, JSON.getGson());
 
         String jsonResult = voidPendingRefund.request(jsonRequest);
 
-        return ModificationResult.fromJson(jsonResult);
+        return fromJson(jsonResult, ModificationResult.class, JSON.getGson());
     }
 }
@@ -60,7 +60,6 @@ public class Payout extends Service {
         storeDetail = new StoreDetail(this);
         submitThirdparty = new SubmitThirdParty(this);
         payout = new com.adyen.service.resource.payout.Payout(this);
-        new JSON();
     }
 
     /**
@@ -72,11 +71,11 @@ public class Payout extends Service {
      * @throws ApiException ApiException
      */
     public StoreDetailAndSubmitResponse storeDetailAndSubmitThirdParty(StoreDetailAndSubmitRequest request) throws IOException, ApiException {
-        String jsonRequest = request.toJson();
+        String jsonRequest = toJson(request, JSON.getGson());
 
         String jsonResult = storeDetailAndSubmitThirdParty.request(jsonRequest);
 
-        return StoreDetailAndSubmitResponse.fromJson(jsonResult);
+        return fromJson(jsonResult, StoreDetailAndSubmitResponse.class, JSON.getGson());
     }
 
     /**
@@ -87,11 +86,11 @@ public class Payout extends Service {
      * @throws ApiException ApiException
      */
     public ModifyResponse confirmThirdParty(ModifyRequest request) throws IOException, ApiException {
-        String jsonRequest = request.toJson();
+        String jsonRequest = toJson(request, JSON.getGson());
 
         String jsonResult = confirmThirdParty.request(jsonRequest);
 
-        return ModifyResponse.fromJson(jsonResult);
+        return fromJson(jsonResult, ModifyResponse.class, JSON.getGson());
     }
 
     /**
@@ -101,11 +100,11 @@ public class Payout extends Service {
      * @throws ApiException ApiException
      */
     public ModifyResponse declineThirdParty(ModifyRequest request) throws IOException, ApiException {
-        String jsonRequest = request.toJson();
+        String jsonRequest = toJson(request, JSON.getGson());
 
         String jsonResult = declineThirdParty.request(jsonRequest);
 
-        return ModifyResponse.fromJson(jsonResult);
+        return fromJson(jsonResult, ModifyResponse.class, JSON.getGson());
     }
 
     /**
@@ -117,11 +116,11 @@ public class Payout extends Service {
      * @throws ApiException ApiException
      */
     public StoreDetailResponse storeDetail(StoreDetailRequest request) throws IOException, ApiException {
-        String jsonRequest = request.toJson();
+        String jsonRequest = toJson(request, JSON.getGson());
 
         String jsonResult = storeDetail.request(jsonRequest);
 
-        return StoreDetailResponse.fromJson(jsonResult);
+        return fromJson(jsonResult, StoreDetailResponse.class, JSON.getGson());
     }
 
     /**
@@ -133,11 +132,11 @@ public class Payout extends Service {
      * @throws ApiException ApiException
      */
     public SubmitResponse submitThirdparty(SubmitRequest request) throws IOException, ApiException {
-        String jsonRequest = request.toJson();
+        String jsonRequest = toJson(request, JSON.getGson());
 
         String jsonResult = submitThirdparty.request(jsonRequest);
 
-        return SubmitResponse.fromJson(jsonResult);
+        return fromJson(jsonResult, SubmitResponse.class, JSON.getGson());
     }
 
     /**
@@ -162,10 +161,10 @@ public class Payout extends Service {
      * @throws ApiException
      */
     public PayoutResponse payout(PayoutRequest request, RequestOptions requestOptions) throws IOException, ApiException {
-        String jsonRequest = request.toJson();
+        String jsonRequest = toJson(request, JSON.getGson());
 
         String jsonResult = payout.request(jsonRequest, requestOptions);
 
-        return PayoutResponse.fromJson(jsonResult);
+        return fromJson(jsonResult, PayoutResponse.class, JSON.getGson());
     }
 }
@@ -51,7 +51,6 @@ public class Recurring extends Service {
         disable = new Disable(this);
         scheduleAccountUpdater = new ScheduleAccountUpdater(this);
         notifyShopper = new NotifyShopper(this);
-        new JSON();
     }
 
     /**
@@ -63,9 +62,9 @@ public class Recurring extends Service {
      * @throws ApiException ApiException
      */
     public RecurringDetailsResult listRecurringDetails(RecurringDetailsRequest request) throws IOException, ApiException {
-        String jsonRequest = request.toJson();
+        String jsonRequest = toJson(request, JSON.getGson());
         String jsonResult = listRecurringDetails.request(jsonRequest);
-        return RecurringDetailsResult.fromJson(jsonResult);
+        return fromJson(jsonResult, RecurringDetailsResult.class, JSON.getGson());
     }
 
     /**
@@ -77,9 +76,9 @@ public class Recurring extends Service {
      * @throws ApiException ApiException
      */
     public DisableResult disable(DisableRequest request) throws IOException, ApiException {
-        String jsonRequest = request.toJson();
+        String jsonRequest = toJson(request, JSON.getGson());
         String jsonResult = disable.request(jsonRequest);
-        return DisableResult.fromJson(jsonResult);
+        return fromJson(jsonResult, DisableResult.class, JSON.getGson());
     }
 
     /**
@@ -91,9 +90,9 @@ public class Recurring extends Service {
      * @throws ApiException ApiException
      */
     public ScheduleAccountUpdaterResult scheduleAccountUpdater(ScheduleAccountUpdaterRequest request) throws IOException, ApiException {
-        String jsonRequest = request.toJson();
+        String jsonRequest = toJson(request, JSON.getGson());
         String jsonResult = scheduleAccountUpdater.request(jsonRequest);
-        return ScheduleAccountUpdaterResult.fromJson(jsonResult);
+        return fromJson(jsonResult, ScheduleAccountUpdaterResult.class, JSON.getGson());
     }
 
     /**
@@ -105,9 +104,9 @@ public class Recurring extends Service {
      * @throws ApiException ApiException
      */
     public NotifyShopperResult notifyShopper(NotifyShopperRequest request) throws IOException, ApiException {
-        String jsonRequest = request.toJson();
+        String jsonRequest = toJson(request, JSON.getGson());
         String jsonResult = notifyShopper.request(jsonRequest);
-        return NotifyShopperResult.fromJson(jsonResult);
+        return fromJson(jsonResult, NotifyShopperResult.class, JSON.getGson());
     }
 
 }
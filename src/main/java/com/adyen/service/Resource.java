@@ -23,18 +23,41 @@ package com.adyen.service;
 import com.adyen.Config;
 import com.adyen.Service;
 import com.adyen.constants.ApiConstants;
+import com.adyen.httpclient.AsyncClientInterface;
+import com.adyen.httpclient.CircuitBreakerPolicy;
+import com.adyen.httpclient.ClientInterceptor;
 import com.adyen.httpclient.ClientInterface;
+import com.adyen.httpclient.ClientRequest;
+import com.adyen.httpclient.ConcurrencyLimiter;
 import com.adyen.httpclient.HTTPClientException;
+import com.adyen.httpclient.InterceptorChain;
+import com.adyen.httpclient.RetryPolicy;
+import com.adyen.httpclient.JsonStreamingEntity;
+import com.adyen.metrics.MetricsContext;
+import com.adyen.metrics.MetricsListener;
+import com.adyen.metrics.Phase;
 import com.adyen.model.ApiError;
 import com.adyen.model.RequestOptions;
+import com.adyen.serializer.ModelSerializer;
 import com.adyen.service.exception.ApiException;
 import com.google.gson.Gson;
 import com.google.gson.JsonSyntaxException;
 import com.google.gson.reflect.TypeToken;
+import org.apache.hc.core5.http.HttpEntity;
+import org.apache.hc.core5.http.io.entity.StringEntity;
+import org.apache.hc.core5.net.URIBuilder;
 
 import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import static com.adyen.constants.ApiConstants.HttpMethod.POST;
 
@@ -44,11 +67,14 @@ public class Resource {
     protected String endpoint;
     protected List<String> requiredFields;
     private final Service service;
+    // immutable and carrying its endpoint, so a single volatile read sees a consistent pair
+    private volatile PathTemplate pathTemplate;
 
     public Resource(Service service, String endpoint, List<String> requiredFields) {
         this.service = service;
         this.endpoint = endpoint;
         this.requiredFields = requiredFields;
+        this.pathTemplate = PathTemplate.of(endpoint);
     }
 
     /**
@@ -88,6 +114,101 @@ public class Resource {
         return request(json, requestOptions, POST, null);
     }
 
+    /**
+     * POST request serializing the model with the given Gson instance.
+     * When {@link Config#isRequestStreamingEnabled()} is set, the model is written straight to the connection.
+     *
+     * @param model request model
+     * @param gson Gson instance with the type adapters of the model
+     * @param requestOptions request options
+     * @throws ApiException apiException
+     * @throws IOException  IOException
+     * @return request
+     */
+    public String request(Object model, Gson gson, RequestOptions requestOptions) throws ApiException, IOException {
+        Config config = service.getClient().getConfig();
+        if (config.isRequestStreamingEnabled()) {
+            return requestEntity(createStreamingEntity(config, gson, model), requestOptions, POST, null, null);
+        }
+        return request(toJson(gson, model), requestOptions);
+    }
+
+    /**
+     * POST request serializing the model and parsing the response with the given Gson instance.
+     * When {@link Config#isResponseStreamingEnabled()} is set, the response is parsed while it is read from the connection.
+     *
+     * @param model request model
+     * @param gson Gson instance with the type adapters of the request and response models
+     * @param requestOptions request options
+     * @param responseType response model class
+     * @param <T> response model type
+     * @throws ApiException apiException
+     * @throws IOException  IOException
+     * @return response model
+     */
+    public <T> T request(Object model, Gson gson, RequestOptions requestOptions, Class<T> responseType) throws ApiException, IOException {
+        Config config = service.getClient().getConfig();
+        if (!config.isResponseStreamingEnabled()) {
+            return fromJson(gson, request(model, gson, requestOptions), responseType);
+        }
+        HttpEntity requestEntity = config.isRequestStreamingEnabled()
+                ? createStreamingEntity(config, gson, model)
+                : new StringEntity(toJson(gson, model), StandardCharsets.UTF_8);
+        return requestEntity(requestEntity, requestOptions, POST, null, null, gson, responseType);
+    }
+
+    /**
+     * Request using json String, parsing the response with the given Gson instance.
+     * When {@link Config#isResponseStreamingEnabled()} is set, the response is parsed while it is read from the connection.
+     *
+     * @param json   json, may be null
+     * @param requestOptions request options
+     * @param httpMethod http method
+     * @param pathParams path parameters
+     * @param queryString query string parameters
+     * @param gson Gson instance with the type adapters of the response model
+     * @param responseType response model class
+     * @param <T> response model type
+     * @throws ApiException apiException
+     * @throws IOException  IOException
+     * @return response model
+     */
+    public <T> T request(String json, RequestOptions requestOptions, ApiConstants.HttpMethod httpMethod, Map<String, String> pathParams, Map<String, String> queryString, Gson gson, Class<T> responseType) throws ApiException, IOException {
+        if (!service.getClient().getConfig().isResponseStreamingEnabled()) {
+            return fromJson(gson, request(json, requestOptions, httpMethod, pathParams, queryString), responseType);
+        }
+        HttpEntity requestEntity = json == null || json.isEmpty() ? null : new StringEntity(json, StandardCharsets.UTF_8);
+        return requestEntity(requestEntity, requestOptions, httpMethod, pathParams, queryString, gson, responseType);
+    }
+
+    private <T> T requestEntity(HttpEntity requestEntity, RequestOptions requestOptions, ApiConstants.HttpMethod httpMethod, Map<String, String> pathParams, Map<String, String> queryString, Gson gson, Class<T> responseType) throws ApiException, IOException {
+        ClientInterface clientInterface = service.getClient().getHttpClient();
+        ClientRequest request = createClientRequest(requestOptions, httpMethod, pathParams, queryString);
+        request.setEntity(requestEntity);
+
+        return execute(request, r -> clientInterface.exchangeAndParse(appendQueryString(r.getEndpoint(), r.getQueryParams()), r.getEntity(), r.getConfig(), r.isApiKeyRequired(), r.toRequestOptions(), r.getHttpMethod(), reader -> fromJson(gson, reader, responseType)));
+    }
+
+    /**
+     * Request using an HttpEntity as body, e.g. a {@link JsonStreamingEntity}
+     *
+     * @param requestEntity request body
+     * @param requestOptions request options
+     * @param httpMethod http method
+     * @param pathParams path parameters
+     * @param queryString query string parameters
+     * @throws ApiException apiException
+     * @throws IOException  IOException
+     * @return request
+     */
+    public String requestEntity(HttpEntity requestEntity, RequestOptions requestOptions, ApiConstants.HttpMethod httpMethod, Map<String, String> pathParams, Map<String, String> queryString) throws ApiException, IOException {
+        ClientInterface clientInterface = service.getClient().getHttpClient();
+        ClientRequest request = createClientRequest(requestOptions, httpMethod, pathParams, queryString);
+        request.setEntity(requestEntity);
+
+        return execute(request, r -> clientInterface.exchangeEntity(r.getEndpoint(), r.getEntity(), r.getConfig(), r.isApiKeyRequired(), r.toRequestOptions(), r.getHttpMethod(), r.getQueryParams()));
+    }
+
     /**
      * Request without query string parameters
      */
@@ -109,55 +230,196 @@ public class Resource {
      */
     public String request(String json, RequestOptions requestOptions, ApiConstants.HttpMethod httpMethod, Map<String, String> pathParams, Map<String, String> queryString) throws ApiException, IOException {
         ClientInterface clientInterface = service.getClient().getHttpClient();
+        ClientRequest request = createClientRequest(requestOptions, httpMethod, pathParams, queryString);
+        request.setBody(json);
+
+        return execute(request, r -> clientInterface.exchange(r.getEndpoint(), r.getBody(), r.getConfig(), r.isApiKeyRequired(), r.toRequestOptions(), r.getHttpMethod(), r.getQueryParams()));
+    }
+
+    /**
+     * Asynchronous POST request using json String with additional request parameters like idempotency-key
+     *
+     * @param json   json
+     * @param requestOptions request options
+     * @return future of the response body
+     */
+    public CompletableFuture<String> requestAsync(String json, RequestOptions requestOptions) {
+        return requestAsync(json, requestOptions, POST, null, null);
+    }
+
+    /**
+     * Asynchronous request using json String with additional request parameters like idempotency-key.
+     * The returned future completes exceptionally with an {@link ApiException} for API errors
+     * and an {@link IOException} for transport failures.
+     * Unlike the blocking requests, it does not run the interceptors and policies of the client, nor report metrics.
+     *
+     * @param json   json
+     * @param requestOptions request options
+     * @param httpMethod http method
+     * @param pathParams path parameters
+     * @param queryString query string parameters
+     * @return future of the response body
+     */
+    public CompletableFuture<String> requestAsync(String json, RequestOptions requestOptions, ApiConstants.HttpMethod httpMethod, Map<String, String> pathParams, Map<String, String> queryString) {
+        AsyncClientInterface asyncClientInterface = service.getClient().getAsyncHttpClient();
         Config config = service.getClient().getConfig();
-        String responseBody;
-        ApiException apiException;
+        CompletableFuture<String> result = new CompletableFuture<>();
 
-        try {
-            return clientInterface.request(resolve(pathParams), json, config, service.isApiKeyRequired(), requestOptions, httpMethod, queryString);
-        } catch (HTTPClientException e) {
-            responseBody = e.getResponseBody();
-            apiException = new ApiException(e.getMessage(), e.getCode(), e.getResponseHeaders());
-        }
+        asyncClientInterface.request(resolve(pathParams), json, config, service.isApiKeyRequired(), requestOptions, httpMethod, queryString)
+                .whenComplete((responseBody, throwable) -> {
+                    if (throwable == null) {
+                        result.complete(responseBody);
+                        return;
+                    }
+                    Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+                    if (cause instanceof HTTPClientException) {
+                        result.completeExceptionally(toApiException((HTTPClientException) cause));
+                    } else {
+                        result.completeExceptionally(cause);
+                    }
+                });
+        return result;
+    }
+
+    private ApiException toApiException(HTTPClientException e) {
+        ApiException apiException = new ApiException(e.getMessage(), e.getCode(), e.getResponseHeaders());
 
         // Enhance ApiException with more info from JSON payload
         try {
-            ApiError apiError = GSON.fromJson(responseBody, new TypeToken<ApiError>() {
+            ApiError apiError = GSON.fromJson(e.getResponseBody(), new TypeToken<ApiError>() {
             }.getType());
             apiException.setError(apiError);
         } catch (JsonSyntaxException ignored) {
-            throw new ApiException("Invalid response or an invalid X-API-Key key was used", apiException.getStatusCode());
+            return new ApiException("Invalid response or an invalid X-API-Key key was used", apiException.getStatusCode());
         }
 
-        throw apiException;
+        return apiException;
     }
 
-    private String resolve(Map<String, String> params) {
-        if (endpoint == null || params == null || endpoint.isEmpty() || params.isEmpty()) {
-            return endpoint;
+    private <T> T execute(ClientRequest request, InterceptorChain.Transport<T> transport) throws ApiException, IOException {
+        Config config = service.getClient().getConfig();
+        List<ClientInterceptor> interceptors = withPolicies(service.getClient().getInterceptors(), config);
+        MetricsListener metricsListener = config.getMetricsListener();
+        if (metricsListener == null) {
+            try {
+                return InterceptorChain.proceed(interceptors, request, transport).getBody();
+            } catch (HTTPClientException e) {
+                throw toApiException(e);
+            }
         }
 
-        StringBuilder path = new StringBuilder();
-        int i = 0;
-        do {
-            int beginVar = endpoint.indexOf("{", i);
-            if (beginVar < 0) {
-                path.append(endpoint, i, endpoint.length());
-                break;
-            }
-            path.append(endpoint, i, beginVar);
-            int endVar = endpoint.indexOf("}", i);
-            if (endVar < 0) {
-                path.append(endpoint, beginVar, endpoint.length());
-                break;
+        try (MetricsContext metrics = MetricsContext.open(metricsListener, endpoint)) {
+            try {
+                return InterceptorChain.proceed(interceptors, request, transport).getBody();
+            } catch (HTTPClientException e) {
+                ApiException apiException = toApiException(e);
+                metrics.recordApiError(apiException.getError() == null ? null : apiException.getError().getErrorCode());
+                throw apiException;
+            } finally {
+                metrics.record(Phase.TOTAL, request.getElapsedNanos());
             }
+        }
+    }
 
-            String varName = endpoint.substring(beginVar + 1, endVar);
-            path.append(params.get(varName));
-            i = endVar + 1;
+    /**
+     * Appends the policies of the config after the interceptors of the client. The retry policy runs closest to the
+     * interceptors, which see one request, and every attempt takes its own permit and passes the circuit breaker.
+     */
+    private static List<ClientInterceptor> withPolicies(List<ClientInterceptor> interceptors, Config config) {
+        RetryPolicy retryPolicy = config.getRetryPolicy();
+        ConcurrencyLimiter concurrencyLimiter = config.getConcurrencyLimiter();
+        CircuitBreakerPolicy circuitBreakerPolicy = config.getCircuitBreakerPolicy();
+        if (retryPolicy == null && concurrencyLimiter == null && circuitBreakerPolicy == null) {
+            return interceptors;
+        }
+        List<ClientInterceptor> chain = new ArrayList<>(interceptors.size() + 3);
+        chain.addAll(interceptors);
+        if (retryPolicy != null) {
+            chain.add(retryPolicy);
+        }
+        if (concurrencyLimiter != null) {
+            chain.add(concurrencyLimiter);
+        }
+        if (circuitBreakerPolicy != null) {
+            chain.add(circuitBreakerPolicy);
+        }
+        return chain;
+    }
+
+    private static JsonStreamingEntity createStreamingEntity(Config config, Gson gson, Object model) {
+        ModelSerializer modelSerializer = config.getModelSerializer();
+        if (modelSerializer == null) {
+            return new JsonStreamingEntity(gson, model, config.isChunkedRequestStreaming());
+        }
+        return new JsonStreamingEntity(modelSerializer, model, config.isChunkedRequestStreaming());
+    }
+
+    private String toJson(Gson gson, Object model) {
+        Config config = service.getClient().getConfig();
+        MetricsListener metricsListener = config.getMetricsListener();
+        if (metricsListener == null) {
+            return toJson(config.getModelSerializer(), gson, model);
+        }
+        long start = System.nanoTime();
+        String json = toJson(config.getModelSerializer(), gson, model);
+        metricsListener.onPhase(endpoint, Phase.SERIALIZATION, System.nanoTime() - start);
+        return json;
+    }
+
+    private static String toJson(ModelSerializer modelSerializer, Gson gson, Object model) {
+        return modelSerializer == null ? gson.toJson(model) : modelSerializer.toJson(model);
+    }
+
+    private <T> T fromJson(Gson gson, String json, Class<T> responseType) throws IOException {
+        return fromJson(gson, new StringReader(json == null ? "" : json), responseType);
+    }
+
+    private <T> T fromJson(Gson gson, Reader reader, Class<T> responseType) throws IOException {
+        Config config = service.getClient().getConfig();
+        MetricsListener metricsListener = config.getMetricsListener();
+        if (metricsListener == null) {
+            return fromJson(config.getModelSerializer(), gson, reader, responseType);
+        }
+        long start = System.nanoTime();
+        T result = fromJson(config.getModelSerializer(), gson, reader, responseType);
+        metricsListener.onPhase(endpoint, Phase.DESERIALIZATION, System.nanoTime() - start);
+        return result;
+    }
+
+    private static <T> T fromJson(ModelSerializer modelSerializer, Gson gson, Reader reader, Class<T> responseType) throws IOException {
+        return modelSerializer == null ? gson.fromJson(reader, responseType) : modelSerializer.fromJson(reader, responseType);
+    }
 
-        } while (i < endpoint.length());
+    private ClientRequest createClientRequest(RequestOptions requestOptions, ApiConstants.HttpMethod httpMethod, Map<String, String> pathParams, Map<String, String> queryString) {
+        ClientRequest request = new ClientRequest(resolve(pathParams), httpMethod, service.getClient().getConfig(), service.isApiKeyRequired(), requestOptions);
+        request.setEndpointTemplate(endpoint);
+        request.setQueryParams(queryString);
+        return request;
+    }
+
+    private static String appendQueryString(String endpoint, Map<String, String> queryString) throws HTTPClientException {
+        if (queryString == null || queryString.isEmpty()) {
+            return endpoint;
+        }
+        try {
+            URIBuilder uriBuilder = new URIBuilder(endpoint);
+            for (Map.Entry<String, String> parameter : queryString.entrySet()) {
+                uriBuilder.addParameter(parameter.getKey(), parameter.getValue());
+            }
+            return uriBuilder.build().toString();
+        } catch (URISyntaxException e) {
+            throw new HTTPClientException("Invalid URI", e);
+        }
+    }
 
-        return path.toString();
+    private String resolve(Map<String, String> params) {
+        String current = endpoint;
+        PathTemplate template = pathTemplate;
+        if (!Objects.equals(template.getTemplate(), current)) {
+            // the endpoint was reassigned by a subclass
+            template = PathTemplate.of(current);
+            pathTemplate = template;
+        }
+        return template.render(params);
     }
 }
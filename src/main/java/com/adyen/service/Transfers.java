@@ -15,33 +15,41 @@ import com.adyen.service.resource.transfers.TransfersResource;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 public class Transfers extends Service {
 
-    private static final String ID = "Id";
+    private static final String ID = "id";
+
+    private final TransfersResource transfers;
+    private final TransfersResource transactions;
+    private final TransfersResource transactionsId;
 
     public Transfers(Client client) {
         super(client);
-        new JSON();
+        transfers = new TransfersResource(this, "/transfers");
+        transactions = new TransfersResource(this, "/transactions");
+        transactionsId = new TransfersResource(this, "/transactions/{" + ID + "}");
     }
 
     public Transfer transfers(TransferInfo transferInfo) throws IOException, ApiException {
-        String jsonRequest = transferInfo.toJson();
-        TransfersResource transfersResource = new TransfersResource(this, "/transfers");
-        String jsonResult = transfersResource.request(jsonRequest);
-        return Transfer.fromJson(jsonResult);
+        String jsonRequest = toJson(transferInfo, JSON.getGson());
+        String jsonResult = transfers.request(jsonRequest);
+        return fromJson(jsonResult, Transfer.class, JSON.getGson());
+    }
+
+    public CompletableFuture<Transfer> transfersAsync(TransferInfo transferInfo) {
+        String jsonRequest = toJson(transferInfo, JSON.getGson());
+        return fromJsonAsync(transfers.requestAsync(jsonRequest, null), json -> fromJson(json, Transfer.class, JSON.getGson()));
     }
 
     public TransactionSearchResponse listTransactions() throws IOException, ApiException {
-        TransfersResource transfersResource = new TransfersResource(this, "/transactions");
-        String jsonResult = transfersResource.request(null, null, ApiConstants.HttpMethod.GET, null);
-        return TransactionSearchResponse.fromJson(jsonResult);
+        return transactions.request(null, null, ApiConstants.HttpMethod.GET, null, null, JSON.getGson(), TransactionSearchResponse.class);
     }
 
     public Transaction getTransaction(String transactionId) throws IOException, ApiException {
         Map<String, String> params = Collections.singletonMap(ID, transactionId);
-        TransfersResource transfersResource = new TransfersResource(this, "/transactions");
-        String jsonResult = transfersResource.request(null, null, ApiConstants.HttpMethod.GET, params);
-        return Transaction.fromJson(jsonResult);
+        String jsonResult = transactionsId.request(null, null, ApiConstants.HttpMethod.GET, params);
+        return fromJson(jsonResult, Transaction.class, JSON.getGson());
     }
 }
\ No newline at end of file
@@ -28,9 +28,13 @@ import java.util.HashMap;
 import java.util.Map;
 
 public class AccountCompanyLevel extends ApiKeyAuthenticatedService {
+    // resources are created on first use, services are often created per request
+    private volatile ManagementResource getCompaniesResource;
+    private volatile ManagementResource getCompaniesCompanyIdResource;
+    private volatile ManagementResource getCompaniesCompanyIdMerchantsResource;
+
     public AccountCompanyLevel(Client client) {
         super(client);
-        new JSON();
     }
 
     /**
@@ -47,9 +51,16 @@ public class AccountCompanyLevel extends ApiKeyAuthenticatedService {
         Map<String, String> pathParams = new HashMap<>();
 
         String requestBody = null;
-        ManagementResource resource = new ManagementResource(this, "/companies");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams, queryParams);
-        return ListCompanyResponse.fromJson(jsonResult);
+        return getCompaniesResource().request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams, queryParams, JSON.getGson(), ListCompanyResponse.class);
+    }
+
+    private ManagementResource getCompaniesResource() {
+        ManagementResource resource = getCompaniesResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/companies");
+            getCompaniesResource = resource;
+        }
+        return resource;
     }
     
     /**
@@ -68,9 +79,16 @@ public class AccountCompanyLevel extends ApiKeyAuthenticatedService {
         pathParams.put("companyId", companyId);
 
         String requestBody = null;
-        ManagementResource resource = new ManagementResource(this, "/companies/{companyId}");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams);
-        return Company.fromJson(jsonResult);
+        return getCompaniesCompanyIdResource().request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams, null, JSON.getGson(), Company.class);
+    }
+
+    private ManagementResource getCompaniesCompanyIdResource() {
+        ManagementResource resource = getCompaniesCompanyIdResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/companies/{companyId}");
+            getCompaniesCompanyIdResource = resource;
+        }
+        return resource;
     }
     
     /**
@@ -92,9 +110,16 @@ public class AccountCompanyLevel extends ApiKeyAuthenticatedService {
         pathParams.put("companyId", companyId);
 
         String requestBody = null;
-        ManagementResource resource = new ManagementResource(this, "/companies/{companyId}/merchants");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams, queryParams);
-        return ListMerchantResponse.fromJson(jsonResult);
+        return getCompaniesCompanyIdMerchantsResource().request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams, queryParams, JSON.getGson(), ListMerchantResponse.class);
+    }
+
+    private ManagementResource getCompaniesCompanyIdMerchantsResource() {
+        ManagementResource resource = getCompaniesCompanyIdMerchantsResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/companies/{companyId}/merchants");
+            getCompaniesCompanyIdMerchantsResource = resource;
+        }
+        return resource;
     }
     
 }
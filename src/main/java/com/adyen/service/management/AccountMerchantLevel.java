@@ -30,9 +30,14 @@ import java.util.HashMap;
 import java.util.Map;
 
 public class AccountMerchantLevel extends ApiKeyAuthenticatedService {
+    // resources are created on first use, services are often created per request
+    private volatile ManagementResource getMerchantsResource;
+    private volatile ManagementResource getMerchantsMerchantIdResource;
+    private volatile ManagementResource postMerchantsResource;
+    private volatile ManagementResource postMerchantsMerchantIdActivateResource;
+
     public AccountMerchantLevel(Client client) {
         super(client);
-        new JSON();
     }
 
     /**
@@ -49,9 +54,16 @@ public class AccountMerchantLevel extends ApiKeyAuthenticatedService {
         Map<String, String> pathParams = new HashMap<>();
 
         String requestBody = null;
-        ManagementResource resource = new ManagementResource(this, "/merchants");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams, queryParams);
-        return ListMerchantResponse.fromJson(jsonResult);
+        return getMerchantsResource().request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams, queryParams, JSON.getGson(), ListMerchantResponse.class);
+    }
+
+    private ManagementResource getMerchantsResource() {
+        ManagementResource resource = getMerchantsResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/merchants");
+            getMerchantsResource = resource;
+        }
+        return resource;
     }
     
     /**
@@ -70,9 +82,16 @@ public class AccountMerchantLevel extends ApiKeyAuthenticatedService {
         pathParams.put("merchantId", merchantId);
 
         String requestBody = null;
-        ManagementResource resource = new ManagementResource(this, "/merchants/{merchantId}");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams);
-        return Merchant.fromJson(jsonResult);
+        return getMerchantsMerchantIdResource().request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams, null, JSON.getGson(), Merchant.class);
+    }
+
+    private ManagementResource getMerchantsMerchantIdResource() {
+        ManagementResource resource = getMerchantsMerchantIdResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/merchants/{merchantId}");
+            getMerchantsMerchantIdResource = resource;
+        }
+        return resource;
     }
     
     /**
@@ -86,10 +105,17 @@ public class AccountMerchantLevel extends ApiKeyAuthenticatedService {
 
         Map<String, String> pathParams = new HashMap<>();
 
-        String requestBody = createMerchantRequest.toJson();
-        ManagementResource resource = new ManagementResource(this, "/merchants");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.POST, pathParams);
-        return CreateMerchantResponse.fromJson(jsonResult);
+        String requestBody = toJson(createMerchantRequest, JSON.getGson());
+        return postMerchantsResource().request(requestBody, null, ApiConstants.HttpMethod.POST, pathParams, null, JSON.getGson(), CreateMerchantResponse.class);
+    }
+
+    private ManagementResource postMerchantsResource() {
+        ManagementResource resource = postMerchantsResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/merchants");
+            postMerchantsResource = resource;
+        }
+        return resource;
     }
     
     /**
@@ -108,9 +134,16 @@ public class AccountMerchantLevel extends ApiKeyAuthenticatedService {
         pathParams.put("merchantId", merchantId);
 
         String requestBody = null;
-        ManagementResource resource = new ManagementResource(this, "/merchants/{merchantId}/activate");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.POST, pathParams);
-        return RequestActivationResponse.fromJson(jsonResult);
+        return postMerchantsMerchantIdActivateResource().request(requestBody, null, ApiConstants.HttpMethod.POST, pathParams, null, JSON.getGson(), RequestActivationResponse.class);
+    }
+
+    private ManagementResource postMerchantsMerchantIdActivateResource() {
+        ManagementResource resource = postMerchantsMerchantIdActivateResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/merchants/{merchantId}/activate");
+            postMerchantsMerchantIdActivateResource = resource;
+        }
+        return resource;
     }
     
 }
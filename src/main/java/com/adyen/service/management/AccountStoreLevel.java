@@ -30,9 +30,18 @@ import java.util.HashMap;
 import java.util.Map;
 
 public class AccountStoreLevel extends ApiKeyAuthenticatedService {
+    // resources are created on first use, services are often created per request
+    private volatile ManagementResource getMerchantsMerchantIdStoresResource;
+    private volatile ManagementResource getMerchantsMerchantIdStoresStoreIdResource;
+    private volatile ManagementResource getStoresResource;
+    private volatile ManagementResource getStoresStoreIdResource;
+    private volatile ManagementResource patchMerchantsMerchantIdStoresStoreIdResource;
+    private volatile ManagementResource patchStoresStoreIdResource;
+    private volatile ManagementResource postMerchantsMerchantIdStoresResource;
+    private volatile ManagementResource postStoresResource;
+
     public AccountStoreLevel(Client client) {
         super(client);
-        new JSON();
     }
 
     /**
@@ -55,9 +64,16 @@ public class AccountStoreLevel extends ApiKeyAuthenticatedService {
         pathParams.put("merchantId", merchantId);
 
         String requestBody = null;
-        ManagementResource resource = new ManagementResource(this, "/merchants/{merchantId}/stores");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams, queryParams);
-        return ListStoresResponse.fromJson(jsonResult);
+        return getMerchantsMerchantIdStoresResource().request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams, queryParams, JSON.getGson(), ListStoresResponse.class);
+    }
+
+    private ManagementResource getMerchantsMerchantIdStoresResource() {
+        ManagementResource resource = getMerchantsMerchantIdStoresResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/merchants/{merchantId}/stores");
+            getMerchantsMerchantIdStoresResource = resource;
+        }
+        return resource;
     }
     
     /**
@@ -81,9 +97,16 @@ public class AccountStoreLevel extends ApiKeyAuthenticatedService {
         pathParams.put("storeId", storeId);
 
         String requestBody = null;
-        ManagementResource resource = new ManagementResource(this, "/merchants/{merchantId}/stores/{storeId}");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams);
-        return Store.fromJson(jsonResult);
+        return getMerchantsMerchantIdStoresStoreIdResource().request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams, null, JSON.getGson(), Store.class);
+    }
+
+    private ManagementResource getMerchantsMerchantIdStoresStoreIdResource() {
+        ManagementResource resource = getMerchantsMerchantIdStoresStoreIdResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/merchants/{merchantId}/stores/{storeId}");
+            getMerchantsMerchantIdStoresStoreIdResource = resource;
+        }
+        return resource;
     }
     
     /**
@@ -102,9 +125,16 @@ public class AccountStoreLevel extends ApiKeyAuthenticatedService {
         Map<String, String> pathParams = new HashMap<>();
 
         String requestBody = null;
-        ManagementResource resource = new ManagementResource(this, "/stores");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams, queryParams);
-        return ListStoresResponse.fromJson(jsonResult);
+        return getStoresResource().request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams, queryParams, JSON.getGson(), ListStoresResponse.class);
+    }
+
+    private ManagementResource getStoresResource() {
+        ManagementResource resource = getStoresResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/stores");
+            getStoresResource = resource;
+        }
+        return resource;
     }
     
     /**
@@ -123,9 +153,16 @@ public class AccountStoreLevel extends ApiKeyAuthenticatedService {
         pathParams.put("storeId", storeId);
 
         String requestBody = null;
-        ManagementResource resource = new ManagementResource(this, "/stores/{storeId}");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams);
-        return Store.fromJson(jsonResult);
+        return getStoresStoreIdResource().request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams, null, JSON.getGson(), Store.class);
+    }
+
+    private ManagementResource getStoresStoreIdResource() {
+        ManagementResource resource = getStoresStoreIdResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/stores/{storeId}");
+            getStoresStoreIdResource = resource;
+        }
+        return resource;
     }
     
     /**
@@ -149,10 +186,17 @@ public class AccountStoreLevel extends ApiKeyAuthenticatedService {
         pathParams.put("merchantId", merchantId);
         pathParams.put("storeId", storeId);
 
-        String requestBody = updateStoreRequest.toJson();
-        ManagementResource resource = new ManagementResource(this, "/merchants/{merchantId}/stores/{storeId}");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.PATCH, pathParams);
-        return Store.fromJson(jsonResult);
+        String requestBody = toJson(updateStoreRequest, JSON.getGson());
+        return patchMerchantsMerchantIdStoresStoreIdResource().request(requestBody, null, ApiConstants.HttpMethod.PATCH, pathParams, null, JSON.getGson(), Store.class);
+    }
+
+    private ManagementResource patchMerchantsMerchantIdStoresStoreIdResource() {
+        ManagementResource resource = patchMerchantsMerchantIdStoresStoreIdResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/merchants/{merchantId}/stores/{storeId}");
+            patchMerchantsMerchantIdStoresStoreIdResource = resource;
+        }
+        return resource;
     }
     
     /**
@@ -171,10 +215,17 @@ public class AccountStoreLevel extends ApiKeyAuthenticatedService {
         Map<String, String> pathParams = new HashMap<>();
         pathParams.put("storeId", storeId);
 
-        String requestBody = updateStoreRequest.toJson();
-        ManagementResource resource = new ManagementResource(this, "/stores/{storeId}");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.PATCH, pathParams);
-        return Store.fromJson(jsonResult);
+        String requestBody = toJson(updateStoreRequest, JSON.getGson());
+        return patchStoresStoreIdResource().request(requestBody, null, ApiConstants.HttpMethod.PATCH, pathParams, null, JSON.getGson(), Store.class);
+    }
+
+    private ManagementResource patchStoresStoreIdResource() {
+        ManagementResource resource = patchStoresStoreIdResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/stores/{storeId}");
+            patchStoresStoreIdResource = resource;
+        }
+        return resource;
     }
     
     /**
@@ -193,10 +244,17 @@ public class AccountStoreLevel extends ApiKeyAuthenticatedService {
         Map<String, String> pathParams = new HashMap<>();
         pathParams.put("merchantId", merchantId);
 
-        String requestBody = storeCreationRequest.toJson();
-        ManagementResource resource = new ManagementResource(this, "/merchants/{merchantId}/stores");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.POST, pathParams);
-        return Store.fromJson(jsonResult);
+        String requestBody = toJson(storeCreationRequest, JSON.getGson());
+        return postMerchantsMerchantIdStoresResource().request(requestBody, null, ApiConstants.HttpMethod.POST, pathParams, null, JSON.getGson(), Store.class);
+    }
+
+    private ManagementResource postMerchantsMerchantIdStoresResource() {
+        ManagementResource resource = postMerchantsMerchantIdStoresResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/merchants/{merchantId}/stores");
+            postMerchantsMerchantIdStoresResource = resource;
+        }
+        return resource;
     }
     
     /**
@@ -210,10 +268,17 @@ public class AccountStoreLevel extends ApiKeyAuthenticatedService {
 
         Map<String, String> pathParams = new HashMap<>();
 
-        String requestBody = storeCreationWithMerchantCodeRequest.toJson();
-        ManagementResource resource = new ManagementResource(this, "/stores");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.POST, pathParams);
-        return Store.fromJson(jsonResult);
+        String requestBody = toJson(storeCreationWithMerchantCodeRequest, JSON.getGson());
+        return postStoresResource().request(requestBody, null, ApiConstants.HttpMethod.POST, pathParams, null, JSON.getGson(), Store.class);
+    }
+
+    private ManagementResource postStoresResource() {
+        ManagementResource resource = postStoresResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/stores");
+            postStoresResource = resource;
+        }
+        return resource;
     }
     
 }
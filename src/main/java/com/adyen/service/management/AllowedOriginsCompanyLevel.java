@@ -27,9 +27,14 @@ import java.util.HashMap;
 import java.util.Map;
 
 public class AllowedOriginsCompanyLevel extends ApiKeyAuthenticatedService {
+    // resources are created on first use, services are often created per request
+    private volatile ManagementResource deleteCompaniesCompanyIdApiCredentialsApiCredentialIdAllowedOriginsOriginIdResource;
+    private volatile ManagementResource getCompaniesCompanyIdApiCredentialsApiCredentialIdAllowedOriginsResource;
+    private volatile ManagementResource getCompaniesCompanyIdApiCredentialsApiCredentialIdAllowedOriginsOriginIdResource;
+    private volatile ManagementResource postCompaniesCompanyIdApiCredentialsApiCredentialIdAllowedOriginsResource;
+
     public AllowedOriginsCompanyLevel(Client client) {
         super(client);
-        new JSON();
     }
 
     /**
@@ -57,8 +62,16 @@ public class AllowedOriginsCompanyLevel extends ApiKeyAuthenticatedService {
         pathParams.put("originId", originId);
 
         String requestBody = null;
-        ManagementResource resource = new ManagementResource(this, "/companies/{companyId}/apiCredentials/{apiCredentialId}/allowedOrigins/{originId}");
-        resource.request(requestBody, null, ApiConstants.HttpMethod.DELETE, pathParams);
+        deleteCompaniesCompanyIdApiCredentialsApiCredentialIdAllowedOriginsOriginIdResource().request(requestBody, null, ApiConstants.HttpMethod.DELETE, pathParams);
+    }
+
+    private ManagementResource deleteCompaniesCompanyIdApiCredentialsApiCredentialIdAllowedOriginsOriginIdResource() {
+        ManagementResource resource = deleteCompaniesCompanyIdApiCredentialsApiCredentialIdAllowedOriginsOriginIdResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/companies/{companyId}/apiCredentials/{apiCredentialId}/allowedOrigins/{originId}");
+            deleteCompaniesCompanyIdApiCredentialsApiCredentialIdAllowedOriginsOriginIdResource = resource;
+        }
+        return resource;
     }
     
     /**
@@ -82,9 +95,16 @@ public class AllowedOriginsCompanyLevel extends ApiKeyAuthenticatedService {
         pathParams.put("apiCredentialId", apiCredentialId);
 
         String requestBody = null;
-        ManagementResource resource = new ManagementResource(this, "/companies/{companyId}/apiCredentials/{apiCredentialId}/allowedOrigins");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams);
-        return AllowedOriginsResponse.fromJson(jsonResult);
+        return getCompaniesCompanyIdApiCredentialsApiCredentialIdAllowedOriginsResource().request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams, null, JSON.getGson(), AllowedOriginsResponse.class);
+    }
+
+    private ManagementResource getCompaniesCompanyIdApiCredentialsApiCredentialIdAllowedOriginsResource() {
+        ManagementResource resource = getCompaniesCompanyIdApiCredentialsApiCredentialIdAllowedOriginsResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/companies/{companyId}/apiCredentials/{apiCredentialId}/allowedOrigins");
+            getCompaniesCompanyIdApiCredentialsApiCredentialIdAllowedOriginsResource = resource;
+        }
+        return resource;
     }
     
     /**
@@ -113,9 +133,16 @@ public class AllowedOriginsCompanyLevel extends ApiKeyAuthenticatedService {
         pathParams.put("originId", originId);
 
         String requestBody = null;
-        ManagementResource resource = new ManagementResource(this, "/companies/{companyId}/apiCredentials/{apiCredentialId}/allowedOrigins/{originId}");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams);
-        return AllowedOrigin.fromJson(jsonResult);
+        return getCompaniesCompanyIdApiCredentialsApiCredentialIdAllowedOriginsOriginIdResource().request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams, null, JSON.getGson(), AllowedOrigin.class);
+    }
+
+    private ManagementResource getCompaniesCompanyIdApiCredentialsApiCredentialIdAllowedOriginsOriginIdResource() {
+        ManagementResource resource = getCompaniesCompanyIdApiCredentialsApiCredentialIdAllowedOriginsOriginIdResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/companies/{companyId}/apiCredentials/{apiCredentialId}/allowedOrigins/{originId}");
+            getCompaniesCompanyIdApiCredentialsApiCredentialIdAllowedOriginsOriginIdResource = resource;
+        }
+        return resource;
     }
     
     /**
@@ -139,10 +166,17 @@ public class AllowedOriginsCompanyLevel extends ApiKeyAuthenticatedService {
         pathParams.put("companyId", companyId);
         pathParams.put("apiCredentialId", apiCredentialId);
 
-        String requestBody = allowedOrigin.toJson();
-        ManagementResource resource = new ManagementResource(this, "/companies/{companyId}/apiCredentials/{apiCredentialId}/allowedOrigins");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.POST, pathParams);
-        return AllowedOriginsResponse.fromJson(jsonResult);
+        String requestBody = toJson(allowedOrigin, JSON.getGson());
+        return postCompaniesCompanyIdApiCredentialsApiCredentialIdAllowedOriginsResource().request(requestBody, null, ApiConstants.HttpMethod.POST, pathParams, null, JSON.getGson(), AllowedOriginsResponse.class);
+    }
+
+    private ManagementResource postCompaniesCompanyIdApiCredentialsApiCredentialIdAllowedOriginsResource() {
+        ManagementResource resource = postCompaniesCompanyIdApiCredentialsApiCredentialIdAllowedOriginsResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/companies/{companyId}/apiCredentials/{apiCredentialId}/allowedOrigins");
+            postCompaniesCompanyIdApiCredentialsApiCredentialIdAllowedOriginsResource = resource;
+        }
+        return resource;
     }
     
 }
@@ -27,9 +27,14 @@ import java.util.HashMap;
 import java.util.Map;
 
 public class AllowedOriginsMerchantLevel extends ApiKeyAuthenticatedService {
+    // resources are created on first use, services are often created per request
+    private volatile ManagementResource deleteMerchantsMerchantIdApiCredentialsApiCredentialIdAllowedOriginsOriginIdResource;
+    private volatile ManagementResource getMerchantsMerchantIdApiCredentialsApiCredentialIdAllowedOriginsResource;
+    private volatile ManagementResource getMerchantsMerchantIdApiCredentialsApiCredentialIdAllowedOriginsOriginIdResource;
+    private volatile ManagementResource postMerchantsMerchantIdApiCredentialsApiCredentialIdAllowedOriginsResource;
+
     public AllowedOriginsMerchantLevel(Client client) {
         super(client);
-        new JSON();
     }
 
     /**
@@ -57,8 +62,16 @@ public class AllowedOriginsMerchantLevel extends ApiKeyAuthenticatedService {
         pathParams.put("originId", originId);
 
         String requestBody = null;
-        ManagementResource resource = new ManagementResource(this, "/merchants/{merchantId}/apiCredentials/{apiCredentialId}/allowedOrigins/{originId}");
-        resource.request(requestBody, null, ApiConstants.HttpMethod.DELETE, pathParams);
+        deleteMerchantsMerchantIdApiCredentialsApiCredentialIdAllowedOriginsOriginIdResource().request(requestBody, null, ApiConstants.HttpMethod.DELETE, pathParams);
+    }
+
+    private ManagementResource deleteMerchantsMerchantIdApiCredentialsApiCredentialIdAllowedOriginsOriginIdResource() {
+        ManagementResource resource = deleteMerchantsMerchantIdApiCredentialsApiCredentialIdAllowedOriginsOriginIdResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/merchants/{merchantId}/apiCredentials/{apiCredentialId}/allowedOrigins/{originId}");
+            deleteMerchantsMerchantIdApiCredentialsApiCredentialIdAllowedOriginsOriginIdResource = resource;
+        }
+        return resource;
     }
     
     /**
@@ -82,9 +95,16 @@ public class AllowedOriginsMerchantLevel extends ApiKeyAuthenticatedService {
         pathParams.put("apiCredentialId", apiCredentialId);
 
         String requestBody = null;
-        ManagementResource resource = new ManagementResource(this, "/merchants/{merchantId}/apiCredentials/{apiCredentialId}/allowedOrigins");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams);
-        return AllowedOriginsResponse.fromJson(jsonResult);
+        return getMerchantsMerchantIdApiCredentialsApiCredentialIdAllowedOriginsResource().request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams, null, JSON.getGson(), AllowedOriginsResponse.class);
+    }
+
+    private ManagementResource getMerchantsMerchantIdApiCredentialsApiCredentialIdAllowedOriginsResource() {
+        ManagementResource resource = getMerchantsMerchantIdApiCredentialsApiCredentialIdAllowedOriginsResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/merchants/{merchantId}/apiCredentials/{apiCredentialId}/allowedOrigins");
+            getMerchantsMerchantIdApiCredentialsApiCredentialIdAllowedOriginsResource = resource;
+        }
+        return resource;
     }
     
     /**
@@ -113,9 +133,16 @@ public class AllowedOriginsMerchantLevel extends ApiKeyAuthenticatedService {
         pathParams.put("originId", originId);
 
         String requestBody = null;
-        ManagementResource resource = new ManagementResource(this, "/merchants/{merchantId}/apiCredentials/{apiCredentialId}/allowedOrigins/{originId}");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams);
-        return AllowedOrigin.fromJson(jsonResult);
+        return getMerchantsMerchantIdApiCredentialsApiCredentialIdAllowedOriginsOriginIdResource().request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams, null, JSON.getGson(), AllowedOrigin.class);
+    }
+
+    private ManagementResource getMerchantsMerchantIdApiCredentialsApiCredentialIdAllowedOriginsOriginIdResource() {
+        ManagementResource resource = getMerchantsMerchantIdApiCredentialsApiCredentialIdAllowedOriginsOriginIdResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/merchants/{merchantId}/apiCredentials/{apiCredentialId}/allowedOrigins/{originId}");
+            getMerchantsMerchantIdApiCredentialsApiCredentialIdAllowedOriginsOriginIdResource = resource;
+        }
+        return resource;
     }
     
     /**
@@ -139,10 +166,17 @@ public class AllowedOriginsMerchantLevel extends ApiKeyAuthenticatedService {
         pathParams.put("merchantId", merchantId);
         pathParams.put("apiCredentialId", apiCredentialId);
 
-        String requestBody = allowedOrigin.toJson();
-        ManagementResource resource = new ManagementResource(this, "/merchants/{merchantId}/apiCredentials/{apiCredentialId}/allowedOrigins");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.POST, pathParams);
-        return AllowedOriginsResponse.fromJson(jsonResult);
+        String requestBody = toJson(allowedOrigin, JSON.getGson());
+        return postMerchantsMerchantIdApiCredentialsApiCredentialIdAllowedOriginsResource().request(requestBody, null, ApiConstants.HttpMethod.POST, pathParams, null, JSON.getGson(), AllowedOriginsResponse.class);
+    }
+
+    private ManagementResource postMerchantsMerchantIdApiCredentialsApiCredentialIdAllowedOriginsResource() {
+        ManagementResource resource = postMerchantsMerchantIdApiCredentialsApiCredentialIdAllowedOriginsResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/merchants/{merchantId}/apiCredentials/{apiCredentialId}/allowedOrigins");
+            postMerchantsMerchantIdApiCredentialsApiCredentialIdAllowedOriginsResource = resource;
+        }
+        return resource;
     }
     
 }
@@ -30,9 +30,14 @@ import java.util.HashMap;
 import java.util.Map;
 
 public class ApiCredentialsCompanyLevel extends ApiKeyAuthenticatedService {
+    // resources are created on first use, services are often created per request
+    private volatile ManagementResource getCompaniesCompanyIdApiCredentialsResource;
+    private volatile ManagementResource getCompaniesCompanyIdApiCredentialsApiCredentialIdResource;
+    private volatile ManagementResource patchCompaniesCompanyIdApiCredentialsApiCredentialIdResource;
+    private volatile ManagementResource postCompaniesCompanyIdApiCredentialsResource;
+
     public ApiCredentialsCompanyLevel(Client client) {
         super(client);
-        new JSON();
     }
 
     /**
@@ -54,9 +59,16 @@ public class ApiCredentialsCompanyLevel extends ApiKeyAuthenticatedService {
         pathParams.put("companyId", companyId);
 
         String requestBody = null;
-        ManagementResource resource = new ManagementResource(this, "/companies/{companyId}/apiCredentials");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams, queryParams);
-        return ListCompanyApiCredentialsResponse.fromJson(jsonResult);
+        return getCompaniesCompanyIdApiCredentialsResource().request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams, queryParams, JSON.getGson(), ListCompanyApiCredentialsResponse.class);
+    }
+
+    private ManagementResource getCompaniesCompanyIdApiCredentialsResource() {
+        ManagementResource resource = getCompaniesCompanyIdApiCredentialsResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/companies/{companyId}/apiCredentials");
+            getCompaniesCompanyIdApiCredentialsResource = resource;
+        }
+        return resource;
     }
     
     /**
@@ -80,9 +92,16 @@ public class ApiCredentialsCompanyLevel extends ApiKeyAuthenticatedService {
         pathParams.put("apiCredentialId", apiCredentialId);
 
         String requestBody = null;
-        ManagementResource resource = new ManagementResource(this, "/companies/{companyId}/apiCredentials/{apiCredentialId}");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams);
-        return CompanyApiCredential.fromJson(jsonResult);
+        return getCompaniesCompanyIdApiCredentialsApiCredentialIdResource().request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams, null, JSON.getGson(), CompanyApiCredential.class);
+    }
+
+    private ManagementResource getCompaniesCompanyIdApiCredentialsApiCredentialIdResource() {
+        ManagementResource resource = getCompaniesCompanyIdApiCredentialsApiCredentialIdResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/companies/{companyId}/apiCredentials/{apiCredentialId}");
+            getCompaniesCompanyIdApiCredentialsApiCredentialIdResource = resource;
+        }
+        return resource;
     }
     
     /**
@@ -106,10 +125,17 @@ public class ApiCredentialsCompanyLevel extends ApiKeyAuthenticatedService {
         pathParams.put("companyId", companyId);
         pathParams.put("apiCredentialId", apiCredentialId);
 
-        String requestBody = updateCompanyApiCredentialRequest.toJson();
-        ManagementResource resource = new ManagementResource(this, "/companies/{companyId}/apiCredentials/{apiCredentialId}");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.PATCH, pathParams);
-        return CompanyApiCredential.fromJson(jsonResult);
+        String requestBody = toJson(updateCompanyApiCredentialRequest, JSON.getGson());
+        return patchCompaniesCompanyIdApiCredentialsApiCredentialIdResource().request(requestBody, null, ApiConstants.HttpMethod.PATCH, pathParams, null, JSON.getGson(), CompanyApiCredential.class);
+    }
+
+    private ManagementResource patchCompaniesCompanyIdApiCredentialsApiCredentialIdResource() {
+        ManagementResource resource = patchCompaniesCompanyIdApiCredentialsApiCredentialIdResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/companies/{companyId}/apiCredentials/{apiCredentialId}");
+            patchCompaniesCompanyIdApiCredentialsApiCredentialIdResource = resource;
+        }
+        return resource;
     }
     
     /**
@@ -128,10 +154,17 @@ public class ApiCredentialsCompanyLevel extends ApiKeyAuthenticatedService {
         Map<String, String> pathParams = new HashMap<>();
         pathParams.put("companyId", companyId);
 
-        String requestBody = createCompanyApiCredentialRequest.toJson();
-        ManagementResource resource = new ManagementResource(this, "/companies/{companyId}/apiCredentials");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.POST, pathParams);
-        return CreateCompanyApiCredentialResponse.fromJson(jsonResult);
+        String requestBody = toJson(createCompanyApiCredentialRequest, JSON.getGson());
+        return postCompaniesCompanyIdApiCredentialsResource().request(requestBody, null, ApiConstants.HttpMethod.POST, pathParams, null, JSON.getGson(), CreateCompanyApiCredentialResponse.class);
+    }
+
+    private ManagementResource postCompaniesCompanyIdApiCredentialsResource() {
+        ManagementResource resource = postCompaniesCompanyIdApiCredentialsResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/companies/{companyId}/apiCredentials");
+            postCompaniesCompanyIdApiCredentialsResource = resource;
+        }
+        return resource;
     }
     
 }
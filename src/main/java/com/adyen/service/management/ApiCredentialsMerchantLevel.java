@@ -30,9 +30,14 @@ import java.util.HashMap;
 import java.util.Map;
 
 public class ApiCredentialsMerchantLevel extends ApiKeyAuthenticatedService {
+    // resources are created on first use, services are often created per request
+    private volatile ManagementResource getMerchantsMerchantIdApiCredentialsResource;
+    private volatile ManagementResource getMerchantsMerchantIdApiCredentialsApiCredentialIdResource;
+    private volatile ManagementResource patchMerchantsMerchantIdApiCredentialsApiCredentialIdResource;
+    private volatile ManagementResource postMerchantsMerchantIdApiCredentialsResource;
+
     public ApiCredentialsMerchantLevel(Client client) {
         super(client);
-        new JSON();
     }
 
     /**
@@ -54,9 +59,16 @@ public class ApiCredentialsMerchantLevel extends ApiKeyAuthenticatedService {
         pathParams.put("merchantId", merchantId);
 
         String requestBody = null;
-        ManagementResource resource = new ManagementResource(this, "/merchants/{merchantId}/apiCredentials");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams, queryParams);
-        return ListMerchantApiCredentialsResponse.fromJson(jsonResult);
+        return getMerchantsMerchantIdApiCredentialsResource().request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams, queryParams, JSON.getGson(), ListMerchantApiCredentialsResponse.class);
+    }
+
+    private ManagementResource getMerchantsMerchantIdApiCredentialsResource() {
+        ManagementResource resource = getMerchantsMerchantIdApiCredentialsResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/merchants/{merchantId}/apiCredentials");
+            getMerchantsMerchantIdApiCredentialsResource = resource;
+        }
+        return resource;
     }
     
     /**
@@ -80,9 +92,16 @@ public class ApiCredentialsMerchantLevel extends ApiKeyAuthenticatedService {
         pathParams.put("apiCredentialId", apiCredentialId);
 
         String requestBody = null;
-        ManagementResource resource = new ManagementResource(this, "/merchants/{merchantId}/apiCredentials/{apiCredentialId}");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams);
-        return ApiCredential.fromJson(jsonResult);
+        return getMerchantsMerchantIdApiCredentialsApiCredentialIdResource().request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams, null, JSON.getGson(), ApiCredential.class);
+    }
+
+    private ManagementResource getMerchantsMerchantIdApiCredentialsApiCredentialIdResource() {
+        ManagementResource resource = getMerchantsMerchantIdApiCredentialsApiCredentialIdResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/merchants/{merchantId}/apiCredentials/{apiCredentialId}");
+            getMerchantsMerchantIdApiCredentialsApiCredentialIdResource = resource;
+        }
+        return resource;
     }
     
     /**
@@ -106,10 +125,17 @@ public class ApiCredentialsMerchantLevel extends ApiKeyAuthenticatedService {
         pathParams.put("merchantId", merchantId);
         pathParams.put("apiCredentialId", apiCredentialId);
 
-        String requestBody = updateMerchantApiCredentialRequest.toJson();
-        ManagementResource resource = new ManagementResource(this, "/merchants/{merchantId}/apiCredentials/{apiCredentialId}");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.PATCH, pathParams);
-        return ApiCredential.fromJson(jsonResult);
+        String requestBody = toJson(updateMerchantApiCredentialRequest, JSON.getGson());
+        return patchMerchantsMerchantIdApiCredentialsApiCredentialIdResource().request(requestBody, null, ApiConstants.HttpMethod.PATCH, pathParams, null, JSON.getGson(), ApiCredential.class);
+    }
+
+    private ManagementResource patchMerchantsMerchantIdApiCredentialsApiCredentialIdResource() {
+        ManagementResource resource = patchMerchantsMerchantIdApiCredentialsApiCredentialIdResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/merchants/{merchantId}/apiCredentials/{apiCredentialId}");
+            patchMerchantsMerchantIdApiCredentialsApiCredentialIdResource = resource;
+        }
+        return resource;
     }
     
     /**
@@ -128,10 +154,17 @@ public class ApiCredentialsMerchantLevel extends ApiKeyAuthenticatedService {
         Map<String, String> pathParams = new HashMap<>();
         pathParams.put("merchantId", merchantId);
 
-        String requestBody = createMerchantApiCredentialRequest.toJson();
-        ManagementResource resource = new ManagementResource(this, "/merchants/{merchantId}/apiCredentials");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.POST, pathParams);
-        return CreateApiCredentialResponse.fromJson(jsonResult);
+        String requestBody = toJson(createMerchantApiCredentialRequest, JSON.getGson());
+        return postMerchantsMerchantIdApiCredentialsResource().request(requestBody, null, ApiConstants.HttpMethod.POST, pathParams, null, JSON.getGson(), CreateApiCredentialResponse.class);
+    }
+
+    private ManagementResource postMerchantsMerchantIdApiCredentialsResource() {
+        ManagementResource resource = postMerchantsMerchantIdApiCredentialsResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/merchants/{merchantId}/apiCredentials");
+            postMerchantsMerchantIdApiCredentialsResource = resource;
+        }
+        return resource;
     }
     
 }
@@ -26,9 +26,11 @@ import java.util.HashMap;
 import java.util.Map;
 
 public class ApiKeyCompanyLevel extends ApiKeyAuthenticatedService {
+    // resources are created on first use, services are often created per request
+    private volatile ManagementResource postCompaniesCompanyIdApiCredentialsApiCredentialIdGenerateApiKeyResource;
+
     public ApiKeyCompanyLevel(Client client) {
         super(client);
-        new JSON();
     }
 
     /**
@@ -52,9 +54,16 @@ public class ApiKeyCompanyLevel extends ApiKeyAuthenticatedService {
         pathParams.put("apiCredentialId", apiCredentialId);
 
         String requestBody = null;
-        ManagementResource resource = new ManagementResource(this, "/companies/{companyId}/apiCredentials/{apiCredentialId}/generateApiKey");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.POST, pathParams);
-        return GenerateApiKeyResponse.fromJson(jsonResult);
+        return postCompaniesCompanyIdApiCredentialsApiCredentialIdGenerateApiKeyResource().request(requestBody, null, ApiConstants.HttpMethod.POST, pathParams, null, JSON.getGson(), GenerateApiKeyResponse.class);
+    }
+
+    private ManagementResource postCompaniesCompanyIdApiCredentialsApiCredentialIdGenerateApiKeyResource() {
+        ManagementResource resource = postCompaniesCompanyIdApiCredentialsApiCredentialIdGenerateApiKeyResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/companies/{companyId}/apiCredentials/{apiCredentialId}/generateApiKey");
+            postCompaniesCompanyIdApiCredentialsApiCredentialIdGenerateApiKeyResource = resource;
+        }
+        return resource;
     }
     
 }
@@ -26,9 +26,11 @@ import java.util.HashMap;
 import java.util.Map;
 
 public class ApiKeyMerchantLevel extends ApiKeyAuthenticatedService {
+    // resources are created on first use, services are often created per request
+    private volatile ManagementResource postMerchantsMerchantIdApiCredentialsApiCredentialIdGenerateApiKeyResource;
+
     public ApiKeyMerchantLevel(Client client) {
         super(client);
-        new JSON();
     }
 
     /**
@@ -52,9 +54,16 @@ public class ApiKeyMerchantLevel extends ApiKeyAuthenticatedService {
         pathParams.put("apiCredentialId", apiCredentialId);
 
         String requestBody = null;
-        ManagementResource resource = new ManagementResource(this, "/merchants/{merchantId}/apiCredentials/{apiCredentialId}/generateApiKey");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.POST, pathParams);
-        return GenerateApiKeyResponse.fromJson(jsonResult);
+        return postMerchantsMerchantIdApiCredentialsApiCredentialIdGenerateApiKeyResource().request(requestBody, null, ApiConstants.HttpMethod.POST, pathParams, null, JSON.getGson(), GenerateApiKeyResponse.class);
+    }
+
+    private ManagementResource postMerchantsMerchantIdApiCredentialsApiCredentialIdGenerateApiKeyResource() {
+        ManagementResource resource = postMerchantsMerchantIdApiCredentialsApiCredentialIdGenerateApiKeyResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/merchants/{merchantId}/apiCredentials/{apiCredentialId}/generateApiKey");
+            postMerchantsMerchantIdApiCredentialsApiCredentialIdGenerateApiKeyResource = resource;
+        }
+        return resource;
     }
     
 }
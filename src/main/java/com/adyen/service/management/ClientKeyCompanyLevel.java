@@ -26,9 +26,11 @@ import java.util.HashMap;
 import java.util.Map;
 
 public class ClientKeyCompanyLevel extends ApiKeyAuthenticatedService {
+    // resources are created on first use, services are often created per request
+    private volatile ManagementResource postCompaniesCompanyIdApiCredentialsApiCredentialIdGenerateClientKeyResource;
+
     public ClientKeyCompanyLevel(Client client) {
         super(client);
-        new JSON();
     }
 
     /**
@@ -52,9 +54,16 @@ public class ClientKeyCompanyLevel extends ApiKeyAuthenticatedService {
         pathParams.put("apiCredentialId", apiCredentialId);
 
         String requestBody = null;
-        ManagementResource resource = new ManagementResource(this, "/companies/{companyId}/apiCredentials/{apiCredentialId}/generateClientKey");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.POST, pathParams);
-        return GenerateClientKeyResponse.fromJson(jsonResult);
+        return postCompaniesCompanyIdApiCredentialsApiCredentialIdGenerateClientKeyResource().request(requestBody, null, ApiConstants.HttpMethod.POST, pathParams, null, JSON.getGson(), GenerateClientKeyResponse.class);
+    }
+
+    private ManagementResource postCompaniesCompanyIdApiCredentialsApiCredentialIdGenerateClientKeyResource() {
+        ManagementResource resource = postCompaniesCompanyIdApiCredentialsApiCredentialIdGenerateClientKeyResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/companies/{companyId}/apiCredentials/{apiCredentialId}/generateClientKey");
+            postCompaniesCompanyIdApiCredentialsApiCredentialIdGenerateClientKeyResource = resource;
+        }
+        return resource;
     }
     
 }
@@ -26,9 +26,11 @@ import java.util.HashMap;
 import java.util.Map;
 
 public class ClientKeyMerchantLevel extends ApiKeyAuthenticatedService {
+    // resources are created on first use, services are often created per request
+    private volatile ManagementResource postMerchantsMerchantIdApiCredentialsApiCredentialIdGenerateClientKeyResource;
+
     public ClientKeyMerchantLevel(Client client) {
         super(client);
-        new JSON();
     }
 
     /**
@@ -52,9 +54,16 @@ public class ClientKeyMerchantLevel extends ApiKeyAuthenticatedService {
         pathParams.put("apiCredentialId", apiCredentialId);
 
         String requestBody = null;
-        ManagementResource resource = new ManagementResource(this, "/merchants/{merchantId}/apiCredentials/{apiCredentialId}/generateClientKey");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.POST, pathParams);
-        return GenerateClientKeyResponse.fromJson(jsonResult);
+        return postMerchantsMerchantIdApiCredentialsApiCredentialIdGenerateClientKeyResource().request(requestBody, null, ApiConstants.HttpMethod.POST, pathParams, null, JSON.getGson(), GenerateClientKeyResponse.class);
+    }
+
+    private ManagementResource postMerchantsMerchantIdApiCredentialsApiCredentialIdGenerateClientKeyResource() {
+        ManagementResource resource = postMerchantsMerchantIdApiCredentialsApiCredentialIdGenerateClientKeyResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/merchants/{merchantId}/apiCredentials/{apiCredentialId}/generateClientKey");
+            postMerchantsMerchantIdApiCredentialsApiCredentialIdGenerateClientKeyResource = resource;
+        }
+        return resource;
     }
     
 }
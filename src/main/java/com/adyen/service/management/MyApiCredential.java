@@ -29,9 +29,15 @@ import java.util.HashMap;
 import java.util.Map;
 
 public class MyApiCredential extends ApiKeyAuthenticatedService {
+    // resources are created on first use, services are often created per request
+    private volatile ManagementResource deleteMeAllowedOriginsOriginIdResource;
+    private volatile ManagementResource getMeResource;
+    private volatile ManagementResource getMeAllowedOriginsResource;
+    private volatile ManagementResource getMeAllowedOriginsOriginIdResource;
+    private volatile ManagementResource postMeAllowedOriginsResource;
+
     public MyApiCredential(Client client) {
         super(client);
-        new JSON();
     }
 
     /**
@@ -49,8 +55,16 @@ public class MyApiCredential extends ApiKeyAuthenticatedService {
         pathParams.put("originId", originId);
 
         String requestBody = null;
-        ManagementResource resource = new ManagementResource(this, "/me/allowedOrigins/{originId}");
-        resource.request(requestBody, null, ApiConstants.HttpMethod.DELETE, pathParams);
+        deleteMeAllowedOriginsOriginIdResource().request(requestBody, null, ApiConstants.HttpMethod.DELETE, pathParams);
+    }
+
+    private ManagementResource deleteMeAllowedOriginsOriginIdResource() {
+        ManagementResource resource = deleteMeAllowedOriginsOriginIdResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/me/allowedOrigins/{originId}");
+            deleteMeAllowedOriginsOriginIdResource = resource;
+        }
+        return resource;
     }
     
     /**
@@ -64,9 +78,16 @@ public class MyApiCredential extends ApiKeyAuthenticatedService {
         Map<String, String> pathParams = new HashMap<>();
 
         String requestBody = null;
-        ManagementResource resource = new ManagementResource(this, "/me");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams);
-        return MeApiCredential.fromJson(jsonResult);
+        return getMeResource().request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams, null, JSON.getGson(), MeApiCredential.class);
+    }
+
+    private ManagementResource getMeResource() {
+        ManagementResource resource = getMeResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/me");
+            getMeResource = resource;
+        }
+        return resource;
     }
     
     /**
@@ -80,9 +101,16 @@ public class MyApiCredential extends ApiKeyAuthenticatedService {
         Map<String, String> pathParams = new HashMap<>();
 
         String requestBody = null;
-        ManagementResource resource = new ManagementResource(this, "/me/allowedOrigins");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams);
-        return AllowedOriginsResponse.fromJson(jsonResult);
+        return getMeAllowedOriginsResource().request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams, null, JSON.getGson(), AllowedOriginsResponse.class);
+    }
+
+    private ManagementResource getMeAllowedOriginsResource() {
+        ManagementResource resource = getMeAllowedOriginsResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/me/allowedOrigins");
+            getMeAllowedOriginsResource = resource;
+        }
+        return resource;
     }
     
     /**
@@ -101,9 +129,16 @@ public class MyApiCredential extends ApiKeyAuthenticatedService {
         pathParams.put("originId", originId);
 
         String requestBody = null;
-        ManagementResource resource = new ManagementResource(this, "/me/allowedOrigins/{originId}");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams);
-        return AllowedOrigin.fromJson(jsonResult);
+        return getMeAllowedOriginsOriginIdResource().request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams, null, JSON.getGson(), AllowedOrigin.class);
+    }
+
+    private ManagementResource getMeAllowedOriginsOriginIdResource() {
+        ManagementResource resource = getMeAllowedOriginsOriginIdResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/me/allowedOrigins/{originId}");
+            getMeAllowedOriginsOriginIdResource = resource;
+        }
+        return resource;
     }
     
     /**
@@ -117,10 +152,17 @@ public class MyApiCredential extends ApiKeyAuthenticatedService {
 
         Map<String, String> pathParams = new HashMap<>();
 
-        String requestBody = createAllowedOriginRequest.toJson();
-        ManagementResource resource = new ManagementResource(this, "/me/allowedOrigins");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.POST, pathParams);
-        return AllowedOriginsResponse.fromJson(jsonResult);
+        String requestBody = toJson(createAllowedOriginRequest, JSON.getGson());
+        return postMeAllowedOriginsResource().request(requestBody, null, ApiConstants.HttpMethod.POST, pathParams, null, JSON.getGson(), AllowedOriginsResponse.class);
+    }
+
+    private ManagementResource postMeAllowedOriginsResource() {
+        ManagementResource resource = postMeAllowedOriginsResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/me/allowedOrigins");
+            postMeAllowedOriginsResource = resource;
+        }
+        return resource;
     }
     
 }
@@ -30,9 +30,16 @@ import java.util.HashMap;
 import java.util.Map;
 
 public class PaymentMethodsMerchantLevel extends ApiKeyAuthenticatedService {
+    // resources are created on first use, services are often created per request
+    private volatile ManagementResource getMerchantsMerchantIdPaymentMethodSettingsResource;
+    private volatile ManagementResource getMerchantsMerchantIdPaymentMethodSettingsPaymentMethodIdResource;
+    private volatile ManagementResource getMerchantsMerchantIdPaymentMethodSettingsPaymentMethodIdGetApplePayDomainsResource;
+    private volatile ManagementResource patchMerchantsMerchantIdPaymentMethodSettingsPaymentMethodIdResource;
+    private volatile ManagementResource postMerchantsMerchantIdPaymentMethodSettingsResource;
+    private volatile ManagementResource postMerchantsMerchantIdPaymentMethodSettingsPaymentMethodIdAddApplePayDomainsResource;
+
     public PaymentMethodsMerchantLevel(Client client) {
         super(client);
-        new JSON();
     }
 
     /**
@@ -56,9 +63,16 @@ public class PaymentMethodsMerchantLevel extends ApiKeyAuthenticatedService {
         pathParams.put("merchantId", merchantId);
 
         String requestBody = null;
-        ManagementResource resource = new ManagementResource(this, "/merchants/{merchantId}/paymentMethodSettings");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams, queryParams);
-        return PaymentMethodResponse.fromJson(jsonResult);
+        return getMerchantsMerchantIdPaymentMethodSettingsResource().request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams, queryParams, JSON.getGson(), PaymentMethodResponse.class);
+    }
+
+    private ManagementResource getMerchantsMerchantIdPaymentMethodSettingsResource() {
+        ManagementResource resource = getMerchantsMerchantIdPaymentMethodSettingsResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/merchants/{merchantId}/paymentMethodSettings");
+            getMerchantsMerchantIdPaymentMethodSettingsResource = resource;
+        }
+        return resource;
     }
     
     /**
@@ -82,9 +96,16 @@ public class PaymentMethodsMerchantLevel extends ApiKeyAuthenticatedService {
         pathParams.put("paymentMethodId", paymentMethodId);
 
         String requestBody = null;
-        ManagementResource resource = new ManagementResource(this, "/merchants/{merchantId}/paymentMethodSettings/{paymentMethodId}");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams);
-        return PaymentMethod.fromJson(jsonResult);
+        return getMerchantsMerchantIdPaymentMethodSettingsPaymentMethodIdResource().request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams, null, JSON.getGson(), PaymentMethod.class);
+    }
+
+    private ManagementResource getMerchantsMerchantIdPaymentMethodSettingsPaymentMethodIdResource() {
+        ManagementResource resource = getMerchantsMerchantIdPaymentMethodSettingsPaymentMethodIdResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/merchants/{merchantId}/paymentMethodSettings/{paymentMethodId}");
+            getMerchantsMerchantIdPaymentMethodSettingsPaymentMethodIdResource = resource;
+        }
+        return resource;
     }
     
     /**
@@ -108,9 +129,16 @@ public class PaymentMethodsMerchantLevel extends ApiKeyAuthenticatedService {
         pathParams.put("paymentMethodId", paymentMethodId);
 
         String requestBody = null;
-        ManagementResource resource = new ManagementResource(this, "/merchants/{merchantId}/paymentMethodSettings/{paymentMethodId}/getApplePayDomains");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams);
-        return ApplePayInfo.fromJson(jsonResult);
+        return getMerchantsMerchantIdPaymentMethodSettingsPaymentMethodIdGetApplePayDomainsResource().request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams, null, JSON.getGson(), ApplePayInfo.class);
+    }
+
+    private ManagementResource getMerchantsMerchantIdPaymentMethodSettingsPaymentMethodIdGetApplePayDomainsResource() {
+        ManagementResource resource = getMerchantsMerchantIdPaymentMethodSettingsPaymentMethodIdGetApplePayDomainsResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/merchants/{merchantId}/paymentMethodSettings/{paymentMethodId}/getApplePayDomains");
+            getMerchantsMerchantIdPaymentMethodSettingsPaymentMethodIdGetApplePayDomainsResource = resource;
+        }
+        return resource;
     }
     
     /**
@@ -134,10 +162,17 @@ public class PaymentMethodsMerchantLevel extends ApiKeyAuthenticatedService {
         pathParams.put("merchantId", merchantId);
         pathParams.put("paymentMethodId", paymentMethodId);
 
-        String requestBody = updatePaymentMethodInfo.toJson();
-        ManagementResource resource = new ManagementResource(this, "/merchants/{merchantId}/paymentMethodSettings/{paymentMethodId}");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.PATCH, pathParams);
-        return PaymentMethod.fromJson(jsonResult);
+        String requestBody = toJson(updatePaymentMethodInfo, JSON.getGson());
+        return patchMerchantsMerchantIdPaymentMethodSettingsPaymentMethodIdResource().request(requestBody, null, ApiConstants.HttpMethod.PATCH, pathParams, null, JSON.getGson(), PaymentMethod.class);
+    }
+
+    private ManagementResource patchMerchantsMerchantIdPaymentMethodSettingsPaymentMethodIdResource() {
+        ManagementResource resource = patchMerchantsMerchantIdPaymentMethodSettingsPaymentMethodIdResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/merchants/{merchantId}/paymentMethodSettings/{paymentMethodId}");
+            patchMerchantsMerchantIdPaymentMethodSettingsPaymentMethodIdResource = resource;
+        }
+        return resource;
     }
     
     /**
@@ -156,10 +191,17 @@ public class PaymentMethodsMerchantLevel extends ApiKeyAuthenticatedService {
         Map<String, String> pathParams = new HashMap<>();
         pathParams.put("merchantId", merchantId);
 
-        String requestBody = paymentMethodSetupInfo.toJson();
-        ManagementResource resource = new ManagementResource(this, "/merchants/{merchantId}/paymentMethodSettings");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.POST, pathParams);
-        return PaymentMethod.fromJson(jsonResult);
+        String requestBody = toJson(paymentMethodSetupInfo, JSON.getGson());
+        return postMerchantsMerchantIdPaymentMethodSettingsResource().request(requestBody, null, ApiConstants.HttpMethod.POST, pathParams, null, JSON.getGson(), PaymentMethod.class);
+    }
+
+    private ManagementResource postMerchantsMerchantIdPaymentMethodSettingsResource() {
+        ManagementResource resource = postMerchantsMerchantIdPaymentMethodSettingsResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/merchants/{merchantId}/paymentMethodSettings");
+            postMerchantsMerchantIdPaymentMethodSettingsResource = resource;
+        }
+        return resource;
     }
     
     /**
@@ -182,9 +224,17 @@ public class PaymentMethodsMerchantLevel extends ApiKeyAuthenticatedService {
         pathParams.put("merchantId", merchantId);
         pathParams.put("paymentMethodId", paymentMethodId);
 
-        String requestBody = applePayInfo.toJson();
-        ManagementResource resource = new ManagementResource(this, "/merchants/{merchantId}/paymentMethodSettings/{paymentMethodId}/addApplePayDomains");
-        resource.request(requestBody, null, ApiConstants.HttpMethod.POST, pathParams);
+        String requestBody = toJson(applePayInfo, JSON.getGson());
+        postMerchantsMerchantIdPaymentMethodSettingsPaymentMethodIdAddApplePayDomainsResource().request(requestBody, null, ApiConstants.HttpMethod.POST, pathParams);
+    }
+
+    private ManagementResource postMerchantsMerchantIdPaymentMethodSettingsPaymentMethodIdAddApplePayDomainsResource() {
+        ManagementResource resource = postMerchantsMerchantIdPaymentMethodSettingsPaymentMethodIdAddApplePayDomainsResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/merchants/{merchantId}/paymentMethodSettings/{paymentMethodId}/addApplePayDomains");
+            postMerchantsMerchantIdPaymentMethodSettingsPaymentMethodIdAddApplePayDomainsResource = resource;
+        }
+        return resource;
     }
     
 }
@@ -29,9 +29,15 @@ import java.util.HashMap;
 import java.util.Map;
 
 public class PayoutSettingsMerchantLevel extends ApiKeyAuthenticatedService {
+    // resources are created on first use, services are often created per request
+    private volatile ManagementResource deleteMerchantsMerchantIdPayoutSettingsPayoutSettingsIdResource;
+    private volatile ManagementResource getMerchantsMerchantIdPayoutSettingsResource;
+    private volatile ManagementResource getMerchantsMerchantIdPayoutSettingsPayoutSettingsIdResource;
+    private volatile ManagementResource patchMerchantsMerchantIdPayoutSettingsPayoutSettingsIdResource;
+    private volatile ManagementResource postMerchantsMerchantIdPayoutSettingsResource;
+
     public PayoutSettingsMerchantLevel(Client client) {
         super(client);
-        new JSON();
     }
 
     /**
@@ -54,8 +60,16 @@ public class PayoutSettingsMerchantLevel extends ApiKeyAuthenticatedService {
         pathParams.put("payoutSettingsId", payoutSettingsId);
 
         String requestBody = null;
-        ManagementResource resource = new ManagementResource(this, "/merchants/{merchantId}/payoutSettings/{payoutSettingsId}");
-        resource.request(requestBody, null, ApiConstants.HttpMethod.DELETE, pathParams);
+        deleteMerchantsMerchantIdPayoutSettingsPayoutSettingsIdResource().request(requestBody, null, ApiConstants.HttpMethod.DELETE, pathParams);
+    }
+
+    private ManagementResource deleteMerchantsMerchantIdPayoutSettingsPayoutSettingsIdResource() {
+        ManagementResource resource = deleteMerchantsMerchantIdPayoutSettingsPayoutSettingsIdResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/merchants/{merchantId}/payoutSettings/{payoutSettingsId}");
+            deleteMerchantsMerchantIdPayoutSettingsPayoutSettingsIdResource = resource;
+        }
+        return resource;
     }
     
     /**
@@ -74,9 +88,16 @@ public class PayoutSettingsMerchantLevel extends ApiKeyAuthenticatedService {
         pathParams.put("merchantId", merchantId);
 
         String requestBody = null;
-        ManagementResource resource = new ManagementResource(this, "/merchants/{merchantId}/payoutSettings");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams);
-        return PayoutSettingsResponse.fromJson(jsonResult);
+        return getMerchantsMerchantIdPayoutSettingsResource().request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams, null, JSON.getGson(), PayoutSettingsResponse.class);
+    }
+
+    private ManagementResource getMerchantsMerchantIdPayoutSettingsResource() {
+        ManagementResource resource = getMerchantsMerchantIdPayoutSettingsResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/merchants/{merchantId}/payoutSettings");
+            getMerchantsMerchantIdPayoutSettingsResource = resource;
+        }
+        return resource;
     }
     
     /**
@@ -100,9 +121,16 @@ public class PayoutSettingsMerchantLevel extends ApiKeyAuthenticatedService {
         pathParams.put("payoutSettingsId", payoutSettingsId);
 
         String requestBody = null;
-        ManagementResource resource = new ManagementResource(this, "/merchants/{merchantId}/payoutSettings/{payoutSettingsId}");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams);
-        return PayoutSettings.fromJson(jsonResult);
+        return getMerchantsMerchantIdPayoutSettingsPayoutSettingsIdResource().request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams, null, JSON.getGson(), PayoutSettings.class);
+    }
+
+    private ManagementResource getMerchantsMerchantIdPayoutSettingsPayoutSettingsIdResource() {
+        ManagementResource resource = getMerchantsMerchantIdPayoutSettingsPayoutSettingsIdResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/merchants/{merchantId}/payoutSettings/{payoutSettingsId}");
+            getMerchantsMerchantIdPayoutSettingsPayoutSettingsIdResource = resource;
+        }
+        return resource;
     }
     
     /**
@@ -126,10 +154,17 @@ public class PayoutSettingsMerchantLevel extends ApiKeyAuthenticatedService {
         pathParams.put("merchantId", merchantId);
         pathParams.put("payoutSettingsId", payoutSettingsId);
 
-        String requestBody = updatePayoutSettingsRequest.toJson();
-        ManagementResource resource = new ManagementResource(this, "/merchants/{merchantId}/payoutSettings/{payoutSettingsId}");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.PATCH, pathParams);
-        return PayoutSettings.fromJson(jsonResult);
+        String requestBody = toJson(updatePayoutSettingsRequest, JSON.getGson());
+        return patchMerchantsMerchantIdPayoutSettingsPayoutSettingsIdResource().request(requestBody, null, ApiConstants.HttpMethod.PATCH, pathParams, null, JSON.getGson(), PayoutSettings.class);
+    }
+
+    private ManagementResource patchMerchantsMerchantIdPayoutSettingsPayoutSettingsIdResource() {
+        ManagementResource resource = patchMerchantsMerchantIdPayoutSettingsPayoutSettingsIdResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/merchants/{merchantId}/payoutSettings/{payoutSettingsId}");
+            patchMerchantsMerchantIdPayoutSettingsPayoutSettingsIdResource = resource;
+        }
+        return resource;
     }
     
     /**
@@ -148,10 +183,17 @@ public class PayoutSettingsMerchantLevel extends ApiKeyAuthenticatedService {
         Map<String, String> pathParams = new HashMap<>();
         pathParams.put("merchantId", merchantId);
 
-        String requestBody = payoutSettingsRequest.toJson();
-        ManagementResource resource = new ManagementResource(this, "/merchants/{merchantId}/payoutSettings");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.POST, pathParams);
-        return PayoutSettings.fromJson(jsonResult);
+        String requestBody = toJson(payoutSettingsRequest, JSON.getGson());
+        return postMerchantsMerchantIdPayoutSettingsResource().request(requestBody, null, ApiConstants.HttpMethod.POST, pathParams, null, JSON.getGson(), PayoutSettings.class);
+    }
+
+    private ManagementResource postMerchantsMerchantIdPayoutSettingsResource() {
+        ManagementResource resource = postMerchantsMerchantIdPayoutSettingsResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/merchants/{merchantId}/payoutSettings");
+            postMerchantsMerchantIdPayoutSettingsResource = resource;
+        }
+        return resource;
     }
     
 }
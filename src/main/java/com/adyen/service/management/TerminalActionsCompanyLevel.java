@@ -29,9 +29,14 @@ import java.util.HashMap;
 import java.util.Map;
 
 public class TerminalActionsCompanyLevel extends ApiKeyAuthenticatedService {
+    // resources are created on first use, services are often created per request
+    private volatile ManagementResource getCompaniesCompanyIdAndroidAppsResource;
+    private volatile ManagementResource getCompaniesCompanyIdAndroidCertificatesResource;
+    private volatile ManagementResource getCompaniesCompanyIdTerminalActionsResource;
+    private volatile ManagementResource getCompaniesCompanyIdTerminalActionsActionIdResource;
+
     public TerminalActionsCompanyLevel(Client client) {
         super(client);
-        new JSON();
     }
 
     /**
@@ -53,9 +58,16 @@ public class TerminalActionsCompanyLevel extends ApiKeyAuthenticatedService {
         pathParams.put("companyId", companyId);
 
         String requestBody = null;
-        ManagementResource resource = new ManagementResource(this, "/companies/{companyId}/androidApps");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams, queryParams);
-        return AndroidAppsResponse.fromJson(jsonResult);
+        return getCompaniesCompanyIdAndroidAppsResource().request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams, queryParams, JSON.getGson(), AndroidAppsResponse.class);
+    }
+
+    private ManagementResource getCompaniesCompanyIdAndroidAppsResource() {
+        ManagementResource resource = getCompaniesCompanyIdAndroidAppsResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/companies/{companyId}/androidApps");
+            getCompaniesCompanyIdAndroidAppsResource = resource;
+        }
+        return resource;
     }
     
     /**
@@ -77,9 +89,16 @@ public class TerminalActionsCompanyLevel extends ApiKeyAuthenticatedService {
         pathParams.put("companyId", companyId);
 
         String requestBody = null;
-        ManagementResource resource = new ManagementResource(this, "/companies/{companyId}/androidCertificates");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams, queryParams);
-        return AndroidCertificatesResponse.fromJson(jsonResult);
+        return getCompaniesCompanyIdAndroidCertificatesResource().request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams, queryParams, JSON.getGson(), AndroidCertificatesResponse.class);
+    }
+
+    private ManagementResource getCompaniesCompanyIdAndroidCertificatesResource() {
+        ManagementResource resource = getCompaniesCompanyIdAndroidCertificatesResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/companies/{companyId}/androidCertificates");
+            getCompaniesCompanyIdAndroidCertificatesResource = resource;
+        }
+        return resource;
     }
     
     /**
@@ -103,9 +122,16 @@ public class TerminalActionsCompanyLevel extends ApiKeyAuthenticatedService {
         pathParams.put("companyId", companyId);
 
         String requestBody = null;
-        ManagementResource resource = new ManagementResource(this, "/companies/{companyId}/terminalActions");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams, queryParams);
-        return ListExternalTerminalActionsResponse.fromJson(jsonResult);
+        return getCompaniesCompanyIdTerminalActionsResource().request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams, queryParams, JSON.getGson(), ListExternalTerminalActionsResponse.class);
+    }
+
+    private ManagementResource getCompaniesCompanyIdTerminalActionsResource() {
+        ManagementResource resource = getCompaniesCompanyIdTerminalActionsResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/companies/{companyId}/terminalActions");
+            getCompaniesCompanyIdTerminalActionsResource = resource;
+        }
+        return resource;
     }
     
     /**
@@ -129,9 +155,16 @@ public class TerminalActionsCompanyLevel extends ApiKeyAuthenticatedService {
         pathParams.put("actionId", actionId);
 
         String requestBody = null;
-        ManagementResource resource = new ManagementResource(this, "/companies/{companyId}/terminalActions/{actionId}");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams);
-        return ExternalTerminalAction.fromJson(jsonResult);
+        return getCompaniesCompanyIdTerminalActionsActionIdResource().request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams, null, JSON.getGson(), ExternalTerminalAction.class);
+    }
+
+    private ManagementResource getCompaniesCompanyIdTerminalActionsActionIdResource() {
+        ManagementResource resource = getCompaniesCompanyIdTerminalActionsActionIdResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/companies/{companyId}/terminalActions/{actionId}");
+            getCompaniesCompanyIdTerminalActionsActionIdResource = resource;
+        }
+        return resource;
     }
     
 }
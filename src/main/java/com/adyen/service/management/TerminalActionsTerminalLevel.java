@@ -27,9 +27,11 @@ import java.util.HashMap;
 import java.util.Map;
 
 public class TerminalActionsTerminalLevel extends ApiKeyAuthenticatedService {
+    // resources are created on first use, services are often created per request
+    private volatile ManagementResource postTerminalsScheduleActionsResource;
+
     public TerminalActionsTerminalLevel(Client client) {
         super(client);
-        new JSON();
     }
 
     /**
@@ -43,10 +45,17 @@ public class TerminalActionsTerminalLevel extends ApiKeyAuthenticatedService {
 
         Map<String, String> pathParams = new HashMap<>();
 
-        String requestBody = scheduleTerminalActionsRequest.toJson();
-        ManagementResource resource = new ManagementResource(this, "/terminals/scheduleActions");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.POST, pathParams);
-        return ScheduleTerminalActionsResponse.fromJson(jsonResult);
+        String requestBody = toJson(scheduleTerminalActionsRequest, JSON.getGson());
+        return postTerminalsScheduleActionsResource().request(requestBody, null, ApiConstants.HttpMethod.POST, pathParams, null, JSON.getGson(), ScheduleTerminalActionsResponse.class);
+    }
+
+    private ManagementResource postTerminalsScheduleActionsResource() {
+        ManagementResource resource = postTerminalsScheduleActionsResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/terminals/scheduleActions");
+            postTerminalsScheduleActionsResource = resource;
+        }
+        return resource;
     }
     
 }
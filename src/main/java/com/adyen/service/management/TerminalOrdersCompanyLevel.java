@@ -33,9 +33,20 @@ import java.util.HashMap;
 import java.util.Map;
 
 public class TerminalOrdersCompanyLevel extends ApiKeyAuthenticatedService {
+    // resources are created on first use, services are often created per request
+    private volatile ManagementResource getCompaniesCompanyIdBillingEntitiesResource;
+    private volatile ManagementResource getCompaniesCompanyIdShippingLocationsResource;
+    private volatile ManagementResource getCompaniesCompanyIdTerminalModelsResource;
+    private volatile ManagementResource getCompaniesCompanyIdTerminalOrdersResource;
+    private volatile ManagementResource getCompaniesCompanyIdTerminalOrdersOrderIdResource;
+    private volatile ManagementResource getCompaniesCompanyIdTerminalProductsResource;
+    private volatile ManagementResource patchCompaniesCompanyIdTerminalOrdersOrderIdResource;
+    private volatile ManagementResource postCompaniesCompanyIdShippingLocationsResource;
+    private volatile ManagementResource postCompaniesCompanyIdTerminalOrdersResource;
+    private volatile ManagementResource postCompaniesCompanyIdTerminalOrdersOrderIdCancelResource;
+
     public TerminalOrdersCompanyLevel(Client client) {
         super(client);
-        new JSON();
     }
 
     /**
@@ -56,9 +67,16 @@ public class TerminalOrdersCompanyLevel extends ApiKeyAuthenticatedService {
         pathParams.put("companyId", companyId);
 
         String requestBody = null;
-        ManagementResource resource = new ManagementResource(this, "/companies/{companyId}/billingEntities");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams, queryParams);
-        return BillingEntitiesResponse.fromJson(jsonResult);
+        return getCompaniesCompanyIdBillingEntitiesResource().request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams, queryParams, JSON.getGson(), BillingEntitiesResponse.class);
+    }
+
+    private ManagementResource getCompaniesCompanyIdBillingEntitiesResource() {
+        ManagementResource resource = getCompaniesCompanyIdBillingEntitiesResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/companies/{companyId}/billingEntities");
+            getCompaniesCompanyIdBillingEntitiesResource = resource;
+        }
+        return resource;
     }
     
     /**
@@ -81,9 +99,16 @@ public class TerminalOrdersCompanyLevel extends ApiKeyAuthenticatedService {
         pathParams.put("companyId", companyId);
 
         String requestBody = null;
-        ManagementResource resource = new ManagementResource(this, "/companies/{companyId}/shippingLocations");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams, queryParams);
-        return ShippingLocationsResponse.fromJson(jsonResult);
+        return getCompaniesCompanyIdShippingLocationsResource().request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams, queryParams, JSON.getGson(), ShippingLocationsResponse.class);
+    }
+
+    private ManagementResource getCompaniesCompanyIdShippingLocationsResource() {
+        ManagementResource resource = getCompaniesCompanyIdShippingLocationsResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/companies/{companyId}/shippingLocations");
+            getCompaniesCompanyIdShippingLocationsResource = resource;
+        }
+        return resource;
     }
     
     /**
@@ -102,9 +127,16 @@ public class TerminalOrdersCompanyLevel extends ApiKeyAuthenticatedService {
         pathParams.put("companyId", companyId);
 
         String requestBody = null;
-        ManagementResource resource = new ManagementResource(this, "/companies/{companyId}/terminalModels");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams);
-        return TerminalModelsResponse.fromJson(jsonResult);
+        return getCompaniesCompanyIdTerminalModelsResource().request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams, null, JSON.getGson(), TerminalModelsResponse.class);
+    }
+
+    private ManagementResource getCompaniesCompanyIdTerminalModelsResource() {
+        ManagementResource resource = getCompaniesCompanyIdTerminalModelsResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/companies/{companyId}/terminalModels");
+            getCompaniesCompanyIdTerminalModelsResource = resource;
+        }
+        return resource;
     }
     
     /**
@@ -128,9 +160,16 @@ public class TerminalOrdersCompanyLevel extends ApiKeyAuthenticatedService {
         pathParams.put("companyId", companyId);
 
         String requestBody = null;
-        ManagementResource resource = new ManagementResource(this, "/companies/{companyId}/terminalOrders");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams, queryParams);
-        return TerminalOrdersResponse.fromJson(jsonResult);
+        return getCompaniesCompanyIdTerminalOrdersResource().request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams, queryParams, JSON.getGson(), TerminalOrdersResponse.class);
+    }
+
+    private ManagementResource getCompaniesCompanyIdTerminalOrdersResource() {
+        ManagementResource resource = getCompaniesCompanyIdTerminalOrdersResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/companies/{companyId}/terminalOrders");
+            getCompaniesCompanyIdTerminalOrdersResource = resource;
+        }
+        return resource;
     }
     
     /**
@@ -154,9 +193,16 @@ public class TerminalOrdersCompanyLevel extends ApiKeyAuthenticatedService {
         pathParams.put("orderId", orderId);
 
         String requestBody = null;
-        ManagementResource resource = new ManagementResource(this, "/companies/{companyId}/terminalOrders/{orderId}");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams);
-        return TerminalOrder.fromJson(jsonResult);
+        return getCompaniesCompanyIdTerminalOrdersOrderIdResource().request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams, null, JSON.getGson(), TerminalOrder.class);
+    }
+
+    private ManagementResource getCompaniesCompanyIdTerminalOrdersOrderIdResource() {
+        ManagementResource resource = getCompaniesCompanyIdTerminalOrdersOrderIdResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/companies/{companyId}/terminalOrders/{orderId}");
+            getCompaniesCompanyIdTerminalOrdersOrderIdResource = resource;
+        }
+        return resource;
     }
     
     /**
@@ -180,9 +226,16 @@ public class TerminalOrdersCompanyLevel extends ApiKeyAuthenticatedService {
         pathParams.put("companyId", companyId);
 
         String requestBody = null;
-        ManagementResource resource = new ManagementResource(this, "/companies/{companyId}/terminalProducts");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams, queryParams);
-        return TerminalProductsResponse.fromJson(jsonResult);
+        return getCompaniesCompanyIdTerminalProductsResource().request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams, queryParams, JSON.getGson(), TerminalProductsResponse.class);
+    }
+
+    private ManagementResource getCompaniesCompanyIdTerminalProductsResource() {
+        ManagementResource resource = getCompaniesCompanyIdTerminalProductsResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/companies/{companyId}/terminalProducts");
+            getCompaniesCompanyIdTerminalProductsResource = resource;
+        }
+        return resource;
     }
     
     /**
@@ -206,10 +259,17 @@ public class TerminalOrdersCompanyLevel extends ApiKeyAuthenticatedService {
         pathParams.put("companyId", companyId);
         pathParams.put("orderId", orderId);
 
-        String requestBody = terminalOrderRequest.toJson();
-        ManagementResource resource = new ManagementResource(this, "/companies/{companyId}/terminalOrders/{orderId}");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.PATCH, pathParams);
-        return TerminalOrder.fromJson(jsonResult);
+        String requestBody = toJson(terminalOrderRequest, JSON.getGson());
+        return patchCompaniesCompanyIdTerminalOrdersOrderIdResource().request(requestBody, null, ApiConstants.HttpMethod.PATCH, pathParams, null, JSON.getGson(), TerminalOrder.class);
+    }
+
+    private ManagementResource patchCompaniesCompanyIdTerminalOrdersOrderIdResource() {
+        ManagementResource resource = patchCompaniesCompanyIdTerminalOrdersOrderIdResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/companies/{companyId}/terminalOrders/{orderId}");
+            patchCompaniesCompanyIdTerminalOrdersOrderIdResource = resource;
+        }
+        return resource;
     }
     
     /**
@@ -228,10 +288,17 @@ public class TerminalOrdersCompanyLevel extends ApiKeyAuthenticatedService {
         Map<String, String> pathParams = new HashMap<>();
         pathParams.put("companyId", companyId);
 
-        String requestBody = shippingLocation.toJson();
-        ManagementResource resource = new ManagementResource(this, "/companies/{companyId}/shippingLocations");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.POST, pathParams);
-        return ShippingLocation.fromJson(jsonResult);
+        String requestBody = toJson(shippingLocation, JSON.getGson());
+        return postCompaniesCompanyIdShippingLocationsResource().request(requestBody, null, ApiConstants.HttpMethod.POST, pathParams, null, JSON.getGson(), ShippingLocation.class);
+    }
+
+    private ManagementResource postCompaniesCompanyIdShippingLocationsResource() {
+        ManagementResource resource = postCompaniesCompanyIdShippingLocationsResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/companies/{companyId}/shippingLocations");
+            postCompaniesCompanyIdShippingLocationsResource = resource;
+        }
+        return resource;
     }
     
     /**
@@ -250,10 +317,17 @@ public class TerminalOrdersCompanyLevel extends ApiKeyAuthenticatedService {
         Map<String, String> pathParams = new HashMap<>();
         pathParams.put("companyId", companyId);
 
-        String requestBody = terminalOrderRequest.toJson();
-        ManagementResource resource = new ManagementResource(this, "/companies/{companyId}/terminalOrders");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.POST, pathParams);
-        return TerminalOrder.fromJson(jsonResult);
+        String requestBody = toJson(terminalOrderRequest, JSON.getGson());
+        return postCompaniesCompanyIdTerminalOrdersResource().request(requestBody, null, ApiConstants.HttpMethod.POST, pathParams, null, JSON.getGson(), TerminalOrder.class);
+    }
+
+    private ManagementResource postCompaniesCompanyIdTerminalOrdersResource() {
+        ManagementResource resource = postCompaniesCompanyIdTerminalOrdersResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/companies/{companyId}/terminalOrders");
+            postCompaniesCompanyIdTerminalOrdersResource = resource;
+        }
+        return resource;
     }
     
     /**
@@ -277,9 +351,16 @@ public class TerminalOrdersCompanyLevel extends ApiKeyAuthenticatedService {
         pathParams.put("orderId", orderId);
 
         String requestBody = null;
-        ManagementResource resource = new ManagementResource(this, "/companies/{companyId}/terminalOrders/{orderId}/cancel");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.POST, pathParams);
-        return TerminalOrder.fromJson(jsonResult);
+        return postCompaniesCompanyIdTerminalOrdersOrderIdCancelResource().request(requestBody, null, ApiConstants.HttpMethod.POST, pathParams, null, JSON.getGson(), TerminalOrder.class);
+    }
+
+    private ManagementResource postCompaniesCompanyIdTerminalOrdersOrderIdCancelResource() {
+        ManagementResource resource = postCompaniesCompanyIdTerminalOrdersOrderIdCancelResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/companies/{companyId}/terminalOrders/{orderId}/cancel");
+            postCompaniesCompanyIdTerminalOrdersOrderIdCancelResource = resource;
+        }
+        return resource;
     }
     
 }
@@ -33,9 +33,20 @@ import java.util.HashMap;
 import java.util.Map;
 
 public class TerminalOrdersMerchantLevel extends ApiKeyAuthenticatedService {
+    // resources are created on first use, services are often created per request
+    private volatile ManagementResource getMerchantsMerchantIdBillingEntitiesResource;
+    private volatile ManagementResource getMerchantsMerchantIdShippingLocationsResource;
+    private volatile ManagementResource getMerchantsMerchantIdTerminalModelsResource;
+    private volatile ManagementResource getMerchantsMerchantIdTerminalOrdersResource;
+    private volatile ManagementResource getMerchantsMerchantIdTerminalOrdersOrderIdResource;
+    private volatile ManagementResource getMerchantsMerchantIdTerminalProductsResource;
+    private volatile ManagementResource patchMerchantsMerchantIdTerminalOrdersOrderIdResource;
+    private volatile ManagementResource postMerchantsMerchantIdShippingLocationsResource;
+    private volatile ManagementResource postMerchantsMerchantIdTerminalOrdersResource;
+    private volatile ManagementResource postMerchantsMerchantIdTerminalOrdersOrderIdCancelResource;
+
     public TerminalOrdersMerchantLevel(Client client) {
         super(client);
-        new JSON();
     }
 
     /**
@@ -56,9 +67,16 @@ public class TerminalOrdersMerchantLevel extends ApiKeyAuthenticatedService {
         pathParams.put("merchantId", merchantId);
 
         String requestBody = null;
-        ManagementResource resource = new ManagementResource(this, "/merchants/{merchantId}/billingEntities");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams, queryParams);
-        return BillingEntitiesResponse.fromJson(jsonResult);
+        return getMerchantsMerchantIdBillingEntitiesResource().request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams, queryParams, JSON.getGson(), BillingEntitiesResponse.class);
+    }
+
+    private ManagementResource getMerchantsMerchantIdBillingEntitiesResource() {
+        ManagementResource resource = getMerchantsMerchantIdBillingEntitiesResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/merchants/{merchantId}/billingEntities");
+            getMerchantsMerchantIdBillingEntitiesResource = resource;
+        }
+        return resource;
     }
     
     /**
@@ -81,9 +99,16 @@ public class TerminalOrdersMerchantLevel extends ApiKeyAuthenticatedService {
         pathParams.put("merchantId", merchantId);
 
         String requestBody = null;
-        ManagementResource resource = new ManagementResource(this, "/merchants/{merchantId}/shippingLocations");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams, queryParams);
-        return ShippingLocationsResponse.fromJson(jsonResult);
+        return getMerchantsMerchantIdShippingLocationsResource().request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams, queryParams, JSON.getGson(), ShippingLocationsResponse.class);
+    }
+
+    private ManagementResource getMerchantsMerchantIdShippingLocationsResource() {
+        ManagementResource resource = getMerchantsMerchantIdShippingLocationsResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/merchants/{merchantId}/shippingLocations");
+            getMerchantsMerchantIdShippingLocationsResource = resource;
+        }
+        return resource;
     }
     
     /**
@@ -102,9 +127,16 @@ public class TerminalOrdersMerchantLevel extends ApiKeyAuthenticatedService {
         pathParams.put("merchantId", merchantId);
 
         String requestBody = null;
-        ManagementResource resource = new ManagementResource(this, "/merchants/{merchantId}/terminalModels");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams);
-        return TerminalModelsResponse.fromJson(jsonResult);
+        return getMerchantsMerchantIdTerminalModelsResource().request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams, null, JSON.getGson(), TerminalModelsResponse.class);
+    }
+
+    private ManagementResource getMerchantsMerchantIdTerminalModelsResource() {
+        ManagementResource resource = getMerchantsMerchantIdTerminalModelsResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/merchants/{merchantId}/terminalModels");
+            getMerchantsMerchantIdTerminalModelsResource = resource;
+        }
+        return resource;
     }
     
     /**
@@ -128,9 +160,16 @@ public class TerminalOrdersMerchantLevel extends ApiKeyAuthenticatedService {
         pathParams.put("merchantId", merchantId);
 
         String requestBody = null;
-        ManagementResource resource = new ManagementResource(this, "/merchants/{merchantId}/terminalOrders");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams, queryParams);
-        return TerminalOrdersResponse.fromJson(jsonResult);
+        return getMerchantsMerchantIdTerminalOrdersResource().request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams, queryParams, JSON.getGson(), TerminalOrdersResponse.class);
+    }
+
+    private ManagementResource getMerchantsMerchantIdTerminalOrdersResource() {
+        ManagementResource resource = getMerchantsMerchantIdTerminalOrdersResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/merchants/{merchantId}/terminalOrders");
+            getMerchantsMerchantIdTerminalOrdersResource = resource;
+        }
+        return resource;
     }
     
     /**
@@ -154,9 +193,16 @@ public class TerminalOrdersMerchantLevel extends ApiKeyAuthenticatedService {
         pathParams.put("orderId", orderId);
 
         String requestBody = null;
-        ManagementResource resource = new ManagementResource(this, "/merchants/{merchantId}/terminalOrders/{orderId}");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams);
-        return TerminalOrder.fromJson(jsonResult);
+        return getMerchantsMerchantIdTerminalOrdersOrderIdResource().request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams, null, JSON.getGson(), TerminalOrder.class);
+    }
+
+    private ManagementResource getMerchantsMerchantIdTerminalOrdersOrderIdResource() {
+        ManagementResource resource = getMerchantsMerchantIdTerminalOrdersOrderIdResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/merchants/{merchantId}/terminalOrders/{orderId}");
+            getMerchantsMerchantIdTerminalOrdersOrderIdResource = resource;
+        }
+        return resource;
     }
     
     /**
@@ -180,9 +226,16 @@ public class TerminalOrdersMerchantLevel extends ApiKeyAuthenticatedService {
         pathParams.put("merchantId", merchantId);
 
         String requestBody = null;
-        ManagementResource resource = new ManagementResource(this, "/merchants/{merchantId}/terminalProducts");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams, queryParams);
-        return TerminalProductsResponse.fromJson(jsonResult);
+        return getMerchantsMerchantIdTerminalProductsResource().request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams, queryParams, JSON.getGson(), TerminalProductsResponse.class);
+    }
+
+    private ManagementResource getMerchantsMerchantIdTerminalProductsResource() {
+        ManagementResource resource = getMerchantsMerchantIdTerminalProductsResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/merchants/{merchantId}/terminalProducts");
+            getMerchantsMerchantIdTerminalProductsResource = resource;
+        }
+        return resource;
     }
     
     /**
@@ -206,10 +259,17 @@ public class TerminalOrdersMerchantLevel extends ApiKeyAuthenticatedService {
         pathParams.put("merchantId", merchantId);
         pathParams.put("orderId", orderId);
 
-        String requestBody = terminalOrderRequest.toJson();
-        ManagementResource resource = new ManagementResource(this, "/merchants/{merchantId}/terminalOrders/{orderId}");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.PATCH, pathParams);
-        return TerminalOrder.fromJson(jsonResult);
+        String requestBody = toJson(terminalOrderRequest, JSON.getGson());
+        return patchMerchantsMerchantIdTerminalOrdersOrderIdResource().request(requestBody, null, ApiConstants.HttpMethod.PATCH, pathParams, null, JSON.getGson(), TerminalOrder.class);
+    }
+
+    private ManagementResource patchMerchantsMerchantIdTerminalOrdersOrderIdResource() {
+        ManagementResource resource = patchMerchantsMerchantIdTerminalOrdersOrderIdResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/merchants/{merchantId}/terminalOrders/{orderId}");
+            patchMerchantsMerchantIdTerminalOrdersOrderIdResource = resource;
+        }
+        return resource;
     }
     
     /**
@@ -228,10 +288,17 @@ public class TerminalOrdersMerchantLevel extends ApiKeyAuthenticatedService {
         Map<String, String> pathParams = new HashMap<>();
         pathParams.put("merchantId", merchantId);
 
-        String requestBody = shippingLocation.toJson();
-        ManagementResource resource = new ManagementResource(this, "/merchants/{merchantId}/shippingLocations");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.POST, pathParams);
-        return ShippingLocation.fromJson(jsonResult);
+        String requestBody = toJson(shippingLocation, JSON.getGson());
+        return postMerchantsMerchantIdShippingLocationsResource().request(requestBody, null, ApiConstants.HttpMethod.POST, pathParams, null, JSON.getGson(), ShippingLocation.class);
+    }
+
+    private ManagementResource postMerchantsMerchantIdShippingLocationsResource() {
+        ManagementResource resource = postMerchantsMerchantIdShippingLocationsResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/merchants/{merchantId}/shippingLocations");
+            postMerchantsMerchantIdShippingLocationsResource = resource;
+        }
+        return resource;
     }
     
     /**
@@ -250,10 +317,17 @@ public class TerminalOrdersMerchantLevel extends ApiKeyAuthenticatedService {
         Map<String, String> pathParams = new HashMap<>();
         pathParams.put("merchantId", merchantId);
 
-        String requestBody = terminalOrderRequest.toJson();
-        ManagementResource resource = new ManagementResource(this, "/merchants/{merchantId}/terminalOrders");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.POST, pathParams);
-        return TerminalOrder.fromJson(jsonResult);
+        String requestBody = toJson(terminalOrderRequest, JSON.getGson());
+        return postMerchantsMerchantIdTerminalOrdersResource().request(requestBody, null, ApiConstants.HttpMethod.POST, pathParams, null, JSON.getGson(), TerminalOrder.class);
+    }
+
+    private ManagementResource postMerchantsMerchantIdTerminalOrdersResource() {
+        ManagementResource resource = postMerchantsMerchantIdTerminalOrdersResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/merchants/{merchantId}/terminalOrders");
+            postMerchantsMerchantIdTerminalOrdersResource = resource;
+        }
+        return resource;
     }
     
     /**
@@ -277,9 +351,16 @@ public class TerminalOrdersMerchantLevel extends ApiKeyAuthenticatedService {
         pathParams.put("orderId", orderId);
 
         String requestBody = null;
-        ManagementResource resource = new ManagementResource(this, "/merchants/{merchantId}/terminalOrders/{orderId}/cancel");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.POST, pathParams);
-        return TerminalOrder.fromJson(jsonResult);
+        return postMerchantsMerchantIdTerminalOrdersOrderIdCancelResource().request(requestBody, null, ApiConstants.HttpMethod.POST, pathParams, null, JSON.getGson(), TerminalOrder.class);
+    }
+
+    private ManagementResource postMerchantsMerchantIdTerminalOrdersOrderIdCancelResource() {
+        ManagementResource resource = postMerchantsMerchantIdTerminalOrdersOrderIdCancelResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/merchants/{merchantId}/terminalOrders/{orderId}/cancel");
+            postMerchantsMerchantIdTerminalOrdersOrderIdCancelResource = resource;
+        }
+        return resource;
     }
     
 }
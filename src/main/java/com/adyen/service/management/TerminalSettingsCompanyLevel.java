@@ -27,9 +27,14 @@ import java.util.HashMap;
 import java.util.Map;
 
 public class TerminalSettingsCompanyLevel extends ApiKeyAuthenticatedService {
+    // resources are created on first use, services are often created per request
+    private volatile ManagementResource getCompaniesCompanyIdTerminalLogosResource;
+    private volatile ManagementResource getCompaniesCompanyIdTerminalSettingsResource;
+    private volatile ManagementResource patchCompaniesCompanyIdTerminalLogosResource;
+    private volatile ManagementResource patchCompaniesCompanyIdTerminalSettingsResource;
+
     public TerminalSettingsCompanyLevel(Client client) {
         super(client);
-        new JSON();
     }
 
     /**
@@ -50,9 +55,16 @@ public class TerminalSettingsCompanyLevel extends ApiKeyAuthenticatedService {
         pathParams.put("companyId", companyId);
 
         String requestBody = null;
-        ManagementResource resource = new ManagementResource(this, "/companies/{companyId}/terminalLogos");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams, queryParams);
-        return Logo.fromJson(jsonResult);
+        return getCompaniesCompanyIdTerminalLogosResource().request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams, queryParams, JSON.getGson(), Logo.class);
+    }
+
+    private ManagementResource getCompaniesCompanyIdTerminalLogosResource() {
+        ManagementResource resource = getCompaniesCompanyIdTerminalLogosResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/companies/{companyId}/terminalLogos");
+            getCompaniesCompanyIdTerminalLogosResource = resource;
+        }
+        return resource;
     }
     
     /**
@@ -71,9 +83,16 @@ public class TerminalSettingsCompanyLevel extends ApiKeyAuthenticatedService {
         pathParams.put("companyId", companyId);
 
         String requestBody = null;
-        ManagementResource resource = new ManagementResource(this, "/companies/{companyId}/terminalSettings");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams);
-        return TerminalSettings.fromJson(jsonResult);
+        return getCompaniesCompanyIdTerminalSettingsResource().request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams, null, JSON.getGson(), TerminalSettings.class);
+    }
+
+    private ManagementResource getCompaniesCompanyIdTerminalSettingsResource() {
+        ManagementResource resource = getCompaniesCompanyIdTerminalSettingsResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/companies/{companyId}/terminalSettings");
+            getCompaniesCompanyIdTerminalSettingsResource = resource;
+        }
+        return resource;
     }
     
     /**
@@ -94,10 +113,17 @@ public class TerminalSettingsCompanyLevel extends ApiKeyAuthenticatedService {
         Map<String, String> pathParams = new HashMap<>();
         pathParams.put("companyId", companyId);
 
-        String requestBody = logo.toJson();
-        ManagementResource resource = new ManagementResource(this, "/companies/{companyId}/terminalLogos");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.PATCH, pathParams, queryParams);
-        return Logo.fromJson(jsonResult);
+        String requestBody = toJson(logo, JSON.getGson());
+        return patchCompaniesCompanyIdTerminalLogosResource().request(requestBody, null, ApiConstants.HttpMethod.PATCH, pathParams, queryParams, JSON.getGson(), Logo.class);
+    }
+
+    private ManagementResource patchCompaniesCompanyIdTerminalLogosResource() {
+        ManagementResource resource = patchCompaniesCompanyIdTerminalLogosResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/companies/{companyId}/terminalLogos");
+            patchCompaniesCompanyIdTerminalLogosResource = resource;
+        }
+        return resource;
     }
     
     /**
@@ -116,10 +142,17 @@ public class TerminalSettingsCompanyLevel extends ApiKeyAuthenticatedService {
         Map<String, String> pathParams = new HashMap<>();
         pathParams.put("companyId", companyId);
 
-        String requestBody = terminalSettings.toJson();
-        ManagementResource resource = new ManagementResource(this, "/companies/{companyId}/terminalSettings");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.PATCH, pathParams);
-        return TerminalSettings.fromJson(jsonResult);
+        String requestBody = toJson(terminalSettings, JSON.getGson());
+        return patchCompaniesCompanyIdTerminalSettingsResource().request(requestBody, null, ApiConstants.HttpMethod.PATCH, pathParams, null, JSON.getGson(), TerminalSettings.class);
+    }
+
+    private ManagementResource patchCompaniesCompanyIdTerminalSettingsResource() {
+        ManagementResource resource = patchCompaniesCompanyIdTerminalSettingsResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/companies/{companyId}/terminalSettings");
+            patchCompaniesCompanyIdTerminalSettingsResource = resource;
+        }
+        return resource;
     }
     
 }
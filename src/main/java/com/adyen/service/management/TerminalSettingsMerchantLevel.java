@@ -27,9 +27,14 @@ import java.util.HashMap;
 import java.util.Map;
 
 public class TerminalSettingsMerchantLevel extends ApiKeyAuthenticatedService {
+    // resources are created on first use, services are often created per request
+    private volatile ManagementResource getMerchantsMerchantIdTerminalLogosResource;
+    private volatile ManagementResource getMerchantsMerchantIdTerminalSettingsResource;
+    private volatile ManagementResource patchMerchantsMerchantIdTerminalLogosResource;
+    private volatile ManagementResource patchMerchantsMerchantIdTerminalSettingsResource;
+
     public TerminalSettingsMerchantLevel(Client client) {
         super(client);
-        new JSON();
     }
 
     /**
@@ -50,9 +55,16 @@ public class TerminalSettingsMerchantLevel extends ApiKeyAuthenticatedService {
         pathParams.put("merchantId", merchantId);
 
         String requestBody = null;
-        ManagementResource resource = new ManagementResource(this, "/merchants/{merchantId}/terminalLogos");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams, queryParams);
-        return Logo.fromJson(jsonResult);
+        return getMerchantsMerchantIdTerminalLogosResource().request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams, queryParams, JSON.getGson(), Logo.class);
+    }
+
+    private ManagementResource getMerchantsMerchantIdTerminalLogosResource() {
+        ManagementResource resource = getMerchantsMerchantIdTerminalLogosResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/merchants/{merchantId}/terminalLogos");
+            getMerchantsMerchantIdTerminalLogosResource = resource;
+        }
+        return resource;
     }
     
     /**
@@ -71,9 +83,16 @@ public class TerminalSettingsMerchantLevel extends ApiKeyAuthenticatedService {
         pathParams.put("merchantId", merchantId);
 
         String requestBody = null;
-        ManagementResource resource = new ManagementResource(this, "/merchants/{merchantId}/terminalSettings");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams);
-        return TerminalSettings.fromJson(jsonResult);
+        return getMerchantsMerchantIdTerminalSettingsResource().request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams, null, JSON.getGson(), TerminalSettings.class);
+    }
+
+    private ManagementResource getMerchantsMerchantIdTerminalSettingsResource() {
+        ManagementResource resource = getMerchantsMerchantIdTerminalSettingsResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/merchants/{merchantId}/terminalSettings");
+            getMerchantsMerchantIdTerminalSettingsResource = resource;
+        }
+        return resource;
     }
     
     /**
@@ -94,10 +113,17 @@ public class TerminalSettingsMerchantLevel extends ApiKeyAuthenticatedService {
         Map<String, String> pathParams = new HashMap<>();
         pathParams.put("merchantId", merchantId);
 
-        String requestBody = logo.toJson();
-        ManagementResource resource = new ManagementResource(this, "/merchants/{merchantId}/terminalLogos");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.PATCH, pathParams, queryParams);
-        return Logo.fromJson(jsonResult);
+        String requestBody = toJson(logo, JSON.getGson());
+        return patchMerchantsMerchantIdTerminalLogosResource().request(requestBody, null, ApiConstants.HttpMethod.PATCH, pathParams, queryParams, JSON.getGson(), Logo.class);
+    }
+
+    private ManagementResource patchMerchantsMerchantIdTerminalLogosResource() {
+        ManagementResource resource = patchMerchantsMerchantIdTerminalLogosResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/merchants/{merchantId}/terminalLogos");
+            patchMerchantsMerchantIdTerminalLogosResource = resource;
+        }
+        return resource;
     }
     
     /**
@@ -116,10 +142,17 @@ public class TerminalSettingsMerchantLevel extends ApiKeyAuthenticatedService {
         Map<String, String> pathParams = new HashMap<>();
         pathParams.put("merchantId", merchantId);
 
-        String requestBody = terminalSettings.toJson();
-        ManagementResource resource = new ManagementResource(this, "/merchants/{merchantId}/terminalSettings");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.PATCH, pathParams);
-        return TerminalSettings.fromJson(jsonResult);
+        String requestBody = toJson(terminalSettings, JSON.getGson());
+        return patchMerchantsMerchantIdTerminalSettingsResource().request(requestBody, null, ApiConstants.HttpMethod.PATCH, pathParams, null, JSON.getGson(), TerminalSettings.class);
+    }
+
+    private ManagementResource patchMerchantsMerchantIdTerminalSettingsResource() {
+        ManagementResource resource = patchMerchantsMerchantIdTerminalSettingsResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/merchants/{merchantId}/terminalSettings");
+            patchMerchantsMerchantIdTerminalSettingsResource = resource;
+        }
+        return resource;
     }
     
 }
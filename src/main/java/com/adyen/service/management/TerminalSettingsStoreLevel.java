@@ -27,9 +27,18 @@ import java.util.HashMap;
 import java.util.Map;
 
 public class TerminalSettingsStoreLevel extends ApiKeyAuthenticatedService {
+    // resources are created on first use, services are often created per request
+    private volatile ManagementResource getMerchantsMerchantIdStoresReferenceTerminalLogosResource;
+    private volatile ManagementResource getMerchantsMerchantIdStoresReferenceTerminalSettingsResource;
+    private volatile ManagementResource getStoresStoreIdTerminalLogosResource;
+    private volatile ManagementResource getStoresStoreIdTerminalSettingsResource;
+    private volatile ManagementResource patchMerchantsMerchantIdStoresReferenceTerminalLogosResource;
+    private volatile ManagementResource patchMerchantsMerchantIdStoresReferenceTerminalSettingsResource;
+    private volatile ManagementResource patchStoresStoreIdTerminalLogosResource;
+    private volatile ManagementResource patchStoresStoreIdTerminalSettingsResource;
+
     public TerminalSettingsStoreLevel(Client client) {
         super(client);
-        new JSON();
     }
 
     /**
@@ -55,9 +64,16 @@ public class TerminalSettingsStoreLevel extends ApiKeyAuthenticatedService {
         pathParams.put("reference", reference);
 
         String requestBody = null;
-        ManagementResource resource = new ManagementResource(this, "/merchants/{merchantId}/stores/{reference}/terminalLogos");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams, queryParams);
-        return Logo.fromJson(jsonResult);
+        return getMerchantsMerchantIdStoresReferenceTerminalLogosResource().request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams, queryParams, JSON.getGson(), Logo.class);
+    }
+
+    private ManagementResource getMerchantsMerchantIdStoresReferenceTerminalLogosResource() {
+        ManagementResource resource = getMerchantsMerchantIdStoresReferenceTerminalLogosResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/merchants/{merchantId}/stores/{reference}/terminalLogos");
+            getMerchantsMerchantIdStoresReferenceTerminalLogosResource = resource;
+        }
+        return resource;
     }
     
     /**
@@ -81,9 +97,16 @@ public class TerminalSettingsStoreLevel extends ApiKeyAuthenticatedService {
         pathParams.put("reference", reference);
 
         String requestBody = null;
-        ManagementResource resource = new ManagementResource(this, "/merchants/{merchantId}/stores/{reference}/terminalSettings");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams);
-        return TerminalSettings.fromJson(jsonResult);
+        return getMerchantsMerchantIdStoresReferenceTerminalSettingsResource().request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams, null, JSON.getGson(), TerminalSettings.class);
+    }
+
+    private ManagementResource getMerchantsMerchantIdStoresReferenceTerminalSettingsResource() {
+        ManagementResource resource = getMerchantsMerchantIdStoresReferenceTerminalSettingsResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/merchants/{merchantId}/stores/{reference}/terminalSettings");
+            getMerchantsMerchantIdStoresReferenceTerminalSettingsResource = resource;
+        }
+        return resource;
     }
     
     /**
@@ -104,9 +127,16 @@ public class TerminalSettingsStoreLevel extends ApiKeyAuthenticatedService {
         pathParams.put("storeId", storeId);
 
         String requestBody = null;
-        ManagementResource resource = new ManagementResource(this, "/stores/{storeId}/terminalLogos");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams, queryParams);
-        return Logo.fromJson(jsonResult);
+        return getStoresStoreIdTerminalLogosResource().request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams, queryParams, JSON.getGson(), Logo.class);
+    }
+
+    private ManagementResource getStoresStoreIdTerminalLogosResource() {
+        ManagementResource resource = getStoresStoreIdTerminalLogosResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/stores/{storeId}/terminalLogos");
+            getStoresStoreIdTerminalLogosResource = resource;
+        }
+        return resource;
     }
     
     /**
@@ -125,9 +155,16 @@ public class TerminalSettingsStoreLevel extends ApiKeyAuthenticatedService {
         pathParams.put("storeId", storeId);
 
         String requestBody = null;
-        ManagementResource resource = new ManagementResource(this, "/stores/{storeId}/terminalSettings");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams);
-        return TerminalSettings.fromJson(jsonResult);
+        return getStoresStoreIdTerminalSettingsResource().request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams, null, JSON.getGson(), TerminalSettings.class);
+    }
+
+    private ManagementResource getStoresStoreIdTerminalSettingsResource() {
+        ManagementResource resource = getStoresStoreIdTerminalSettingsResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/stores/{storeId}/terminalSettings");
+            getStoresStoreIdTerminalSettingsResource = resource;
+        }
+        return resource;
     }
     
     /**
@@ -153,10 +190,17 @@ public class TerminalSettingsStoreLevel extends ApiKeyAuthenticatedService {
         pathParams.put("merchantId", merchantId);
         pathParams.put("reference", reference);
 
-        String requestBody = logo.toJson();
-        ManagementResource resource = new ManagementResource(this, "/merchants/{merchantId}/stores/{reference}/terminalLogos");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.PATCH, pathParams, queryParams);
-        return Logo.fromJson(jsonResult);
+        String requestBody = toJson(logo, JSON.getGson());
+        return patchMerchantsMerchantIdStoresReferenceTerminalLogosResource().request(requestBody, null, ApiConstants.HttpMethod.PATCH, pathParams, queryParams, JSON.getGson(), Logo.class);
+    }
+
+    private ManagementResource patchMerchantsMerchantIdStoresReferenceTerminalLogosResource() {
+        ManagementResource resource = patchMerchantsMerchantIdStoresReferenceTerminalLogosResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/merchants/{merchantId}/stores/{reference}/terminalLogos");
+            patchMerchantsMerchantIdStoresReferenceTerminalLogosResource = resource;
+        }
+        return resource;
     }
     
     /**
@@ -180,10 +224,17 @@ public class TerminalSettingsStoreLevel extends ApiKeyAuthenticatedService {
         pathParams.put("merchantId", merchantId);
         pathParams.put("reference", reference);
 
-        String requestBody = terminalSettings.toJson();
-        ManagementResource resource = new ManagementResource(this, "/merchants/{merchantId}/stores/{reference}/terminalSettings");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.PATCH, pathParams);
-        return TerminalSettings.fromJson(jsonResult);
+        String requestBody = toJson(terminalSettings, JSON.getGson());
+        return patchMerchantsMerchantIdStoresReferenceTerminalSettingsResource().request(requestBody, null, ApiConstants.HttpMethod.PATCH, pathParams, null, JSON.getGson(), TerminalSettings.class);
+    }
+
+    private ManagementResource patchMerchantsMerchantIdStoresReferenceTerminalSettingsResource() {
+        ManagementResource resource = patchMerchantsMerchantIdStoresReferenceTerminalSettingsResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/merchants/{merchantId}/stores/{reference}/terminalSettings");
+            patchMerchantsMerchantIdStoresReferenceTerminalSettingsResource = resource;
+        }
+        return resource;
     }
     
     /**
@@ -204,10 +255,17 @@ public class TerminalSettingsStoreLevel extends ApiKeyAuthenticatedService {
         Map<String, String> pathParams = new HashMap<>();
         pathParams.put("storeId", storeId);
 
-        String requestBody = logo.toJson();
-        ManagementResource resource = new ManagementResource(this, "/stores/{storeId}/terminalLogos");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.PATCH, pathParams, queryParams);
-        return Logo.fromJson(jsonResult);
+        String requestBody = toJson(logo, JSON.getGson());
+        return patchStoresStoreIdTerminalLogosResource().request(requestBody, null, ApiConstants.HttpMethod.PATCH, pathParams, queryParams, JSON.getGson(), Logo.class);
+    }
+
+    private ManagementResource patchStoresStoreIdTerminalLogosResource() {
+        ManagementResource resource = patchStoresStoreIdTerminalLogosResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/stores/{storeId}/terminalLogos");
+            patchStoresStoreIdTerminalLogosResource = resource;
+        }
+        return resource;
     }
     
     /**
@@ -226,10 +284,17 @@ public class TerminalSettingsStoreLevel extends ApiKeyAuthenticatedService {
         Map<String, String> pathParams = new HashMap<>();
         pathParams.put("storeId", storeId);
 
-        String requestBody = terminalSettings.toJson();
-        ManagementResource resource = new ManagementResource(this, "/stores/{storeId}/terminalSettings");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.PATCH, pathParams);
-        return TerminalSettings.fromJson(jsonResult);
+        String requestBody = toJson(terminalSettings, JSON.getGson());
+        return patchStoresStoreIdTerminalSettingsResource().request(requestBody, null, ApiConstants.HttpMethod.PATCH, pathParams, null, JSON.getGson(), TerminalSettings.class);
+    }
+
+    private ManagementResource patchStoresStoreIdTerminalSettingsResource() {
+        ManagementResource resource = patchStoresStoreIdTerminalSettingsResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/stores/{storeId}/terminalSettings");
+            patchStoresStoreIdTerminalSettingsResource = resource;
+        }
+        return resource;
     }
     
 }
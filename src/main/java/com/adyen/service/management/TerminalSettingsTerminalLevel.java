@@ -27,9 +27,14 @@ import java.util.HashMap;
 import java.util.Map;
 
 public class TerminalSettingsTerminalLevel extends ApiKeyAuthenticatedService {
+    // resources are created on first use, services are often created per request
+    private volatile ManagementResource getTerminalsTerminalIdTerminalLogosResource;
+    private volatile ManagementResource getTerminalsTerminalIdTerminalSettingsResource;
+    private volatile ManagementResource patchTerminalsTerminalIdTerminalLogosResource;
+    private volatile ManagementResource patchTerminalsTerminalIdTerminalSettingsResource;
+
     public TerminalSettingsTerminalLevel(Client client) {
         super(client);
-        new JSON();
     }
 
     /**
@@ -48,9 +53,16 @@ public class TerminalSettingsTerminalLevel extends ApiKeyAuthenticatedService {
         pathParams.put("terminalId", terminalId);
 
         String requestBody = null;
-        ManagementResource resource = new ManagementResource(this, "/terminals/{terminalId}/terminalLogos");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams);
-        return Logo.fromJson(jsonResult);
+        return getTerminalsTerminalIdTerminalLogosResource().request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams, null, JSON.getGson(), Logo.class);
+    }
+
+    private ManagementResource getTerminalsTerminalIdTerminalLogosResource() {
+        ManagementResource resource = getTerminalsTerminalIdTerminalLogosResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/terminals/{terminalId}/terminalLogos");
+            getTerminalsTerminalIdTerminalLogosResource = resource;
+        }
+        return resource;
     }
     
     /**
@@ -69,9 +81,16 @@ public class TerminalSettingsTerminalLevel extends ApiKeyAuthenticatedService {
         pathParams.put("terminalId", terminalId);
 
         String requestBody = null;
-        ManagementResource resource = new ManagementResource(this, "/terminals/{terminalId}/terminalSettings");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams);
-        return TerminalSettings.fromJson(jsonResult);
+        return getTerminalsTerminalIdTerminalSettingsResource().request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams, null, JSON.getGson(), TerminalSettings.class);
+    }
+
+    private ManagementResource getTerminalsTerminalIdTerminalSettingsResource() {
+        ManagementResource resource = getTerminalsTerminalIdTerminalSettingsResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/terminals/{terminalId}/terminalSettings");
+            getTerminalsTerminalIdTerminalSettingsResource = resource;
+        }
+        return resource;
     }
     
     /**
@@ -90,10 +109,17 @@ public class TerminalSettingsTerminalLevel extends ApiKeyAuthenticatedService {
         Map<String, String> pathParams = new HashMap<>();
         pathParams.put("terminalId", terminalId);
 
-        String requestBody = logo.toJson();
-        ManagementResource resource = new ManagementResource(this, "/terminals/{terminalId}/terminalLogos");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.PATCH, pathParams);
-        return Logo.fromJson(jsonResult);
+        String requestBody = toJson(logo, JSON.getGson());
+        return patchTerminalsTerminalIdTerminalLogosResource().request(requestBody, null, ApiConstants.HttpMethod.PATCH, pathParams, null, JSON.getGson(), Logo.class);
+    }
+
+    private ManagementResource patchTerminalsTerminalIdTerminalLogosResource() {
+        ManagementResource resource = patchTerminalsTerminalIdTerminalLogosResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/terminals/{terminalId}/terminalLogos");
+            patchTerminalsTerminalIdTerminalLogosResource = resource;
+        }
+        return resource;
     }
     
     /**
@@ -112,10 +138,17 @@ public class TerminalSettingsTerminalLevel extends ApiKeyAuthenticatedService {
         Map<String, String> pathParams = new HashMap<>();
         pathParams.put("terminalId", terminalId);
 
-        String requestBody = terminalSettings.toJson();
-        ManagementResource resource = new ManagementResource(this, "/terminals/{terminalId}/terminalSettings");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.PATCH, pathParams);
-        return TerminalSettings.fromJson(jsonResult);
+        String requestBody = toJson(terminalSettings, JSON.getGson());
+        return patchTerminalsTerminalIdTerminalSettingsResource().request(requestBody, null, ApiConstants.HttpMethod.PATCH, pathParams, null, JSON.getGson(), TerminalSettings.class);
+    }
+
+    private ManagementResource patchTerminalsTerminalIdTerminalSettingsResource() {
+        ManagementResource resource = patchTerminalsTerminalIdTerminalSettingsResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/terminals/{terminalId}/terminalSettings");
+            patchTerminalsTerminalIdTerminalSettingsResource = resource;
+        }
+        return resource;
     }
     
 }
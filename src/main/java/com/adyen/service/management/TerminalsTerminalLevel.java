@@ -26,9 +26,11 @@ import java.util.HashMap;
 import java.util.Map;
 
 public class TerminalsTerminalLevel extends ApiKeyAuthenticatedService {
+    // resources are created on first use, services are often created per request
+    private volatile ManagementResource getTerminalsResource;
+
     public TerminalsTerminalLevel(Client client) {
         super(client);
-        new JSON();
     }
 
     /**
@@ -50,9 +52,16 @@ public class TerminalsTerminalLevel extends ApiKeyAuthenticatedService {
         Map<String, String> pathParams = new HashMap<>();
 
         String requestBody = null;
-        ManagementResource resource = new ManagementResource(this, "/terminals");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams, queryParams);
-        return ListTerminalsResponse.fromJson(jsonResult);
+        return getTerminalsResource().request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams, queryParams, JSON.getGson(), ListTerminalsResponse.class);
+    }
+
+    private ManagementResource getTerminalsResource() {
+        ManagementResource resource = getTerminalsResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/terminals");
+            getTerminalsResource = resource;
+        }
+        return resource;
     }
     
 }
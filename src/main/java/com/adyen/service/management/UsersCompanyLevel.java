@@ -30,9 +30,14 @@ import java.util.HashMap;
 import java.util.Map;
 
 public class UsersCompanyLevel extends ApiKeyAuthenticatedService {
+    // resources are created on first use, services are often created per request
+    private volatile ManagementResource getCompaniesCompanyIdUsersResource;
+    private volatile ManagementResource getCompaniesCompanyIdUsersUserIdResource;
+    private volatile ManagementResource patchCompaniesCompanyIdUsersUserIdResource;
+    private volatile ManagementResource postCompaniesCompanyIdUsersResource;
+
     public UsersCompanyLevel(Client client) {
         super(client);
-        new JSON();
     }
 
     /**
@@ -54,9 +59,16 @@ public class UsersCompanyLevel extends ApiKeyAuthenticatedService {
         pathParams.put("companyId", companyId);
 
         String requestBody = null;
-        ManagementResource resource = new ManagementResource(this, "/companies/{companyId}/users");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams, queryParams);
-        return ListCompanyUsersResponse.fromJson(jsonResult);
+        return getCompaniesCompanyIdUsersResource().request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams, queryParams, JSON.getGson(), ListCompanyUsersResponse.class);
+    }
+
+    private ManagementResource getCompaniesCompanyIdUsersResource() {
+        ManagementResource resource = getCompaniesCompanyIdUsersResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/companies/{companyId}/users");
+            getCompaniesCompanyIdUsersResource = resource;
+        }
+        return resource;
     }
     
     /**
@@ -80,9 +92,16 @@ public class UsersCompanyLevel extends ApiKeyAuthenticatedService {
         pathParams.put("userId", userId);
 
         String requestBody = null;
-        ManagementResource resource = new ManagementResource(this, "/companies/{companyId}/users/{userId}");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams);
-        return CompanyUser.fromJson(jsonResult);
+        return getCompaniesCompanyIdUsersUserIdResource().request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams, null, JSON.getGson(), CompanyUser.class);
+    }
+
+    private ManagementResource getCompaniesCompanyIdUsersUserIdResource() {
+        ManagementResource resource = getCompaniesCompanyIdUsersUserIdResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/companies/{companyId}/users/{userId}");
+            getCompaniesCompanyIdUsersUserIdResource = resource;
+        }
+        return resource;
     }
     
     /**
@@ -106,10 +125,17 @@ public class UsersCompanyLevel extends ApiKeyAuthenticatedService {
         pathParams.put("companyId", companyId);
         pathParams.put("userId", userId);
 
-        String requestBody = updateCompanyUserRequest.toJson();
-        ManagementResource resource = new ManagementResource(this, "/companies/{companyId}/users/{userId}");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.PATCH, pathParams);
-        return CompanyUser.fromJson(jsonResult);
+        String requestBody = toJson(updateCompanyUserRequest, JSON.getGson());
+        return patchCompaniesCompanyIdUsersUserIdResource().request(requestBody, null, ApiConstants.HttpMethod.PATCH, pathParams, null, JSON.getGson(), CompanyUser.class);
+    }
+
+    private ManagementResource patchCompaniesCompanyIdUsersUserIdResource() {
+        ManagementResource resource = patchCompaniesCompanyIdUsersUserIdResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/companies/{companyId}/users/{userId}");
+            patchCompaniesCompanyIdUsersUserIdResource = resource;
+        }
+        return resource;
     }
     
     /**
@@ -128,10 +154,17 @@ public class UsersCompanyLevel extends ApiKeyAuthenticatedService {
         Map<String, String> pathParams = new HashMap<>();
         pathParams.put("companyId", companyId);
 
-        String requestBody = createCompanyUserRequest.toJson();
-        ManagementResource resource = new ManagementResource(this, "/companies/{companyId}/users");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.POST, pathParams);
-        return CreateCompanyUserResponse.fromJson(jsonResult);
+        String requestBody = toJson(createCompanyUserRequest, JSON.getGson());
+        return postCompaniesCompanyIdUsersResource().request(requestBody, null, ApiConstants.HttpMethod.POST, pathParams, null, JSON.getGson(), CreateCompanyUserResponse.class);
+    }
+
+    private ManagementResource postCompaniesCompanyIdUsersResource() {
+        ManagementResource resource = postCompaniesCompanyIdUsersResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/companies/{companyId}/users");
+            postCompaniesCompanyIdUsersResource = resource;
+        }
+        return resource;
     }
     
 }
@@ -30,9 +30,14 @@ import java.util.HashMap;
 import java.util.Map;
 
 public class UsersMerchantLevel extends ApiKeyAuthenticatedService {
+    // resources are created on first use, services are often created per request
+    private volatile ManagementResource getMerchantsMerchantIdUsersResource;
+    private volatile ManagementResource getMerchantsMerchantIdUsersUserIdResource;
+    private volatile ManagementResource patchMerchantsMerchantIdUsersUserIdResource;
+    private volatile ManagementResource postMerchantsMerchantIdUsersResource;
+
     public UsersMerchantLevel(Client client) {
         super(client);
-        new JSON();
     }
 
     /**
@@ -54,9 +59,16 @@ public class UsersMerchantLevel extends ApiKeyAuthenticatedService {
         pathParams.put("merchantId", merchantId);
 
         String requestBody = null;
-        ManagementResource resource = new ManagementResource(this, "/merchants/{merchantId}/users");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams, queryParams);
-        return ListMerchantUsersResponse.fromJson(jsonResult);
+        return getMerchantsMerchantIdUsersResource().request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams, queryParams, JSON.getGson(), ListMerchantUsersResponse.class);
+    }
+
+    private ManagementResource getMerchantsMerchantIdUsersResource() {
+        ManagementResource resource = getMerchantsMerchantIdUsersResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/merchants/{merchantId}/users");
+            getMerchantsMerchantIdUsersResource = resource;
+        }
+        return resource;
     }
     
     /**
@@ -80,9 +92,16 @@ public class UsersMerchantLevel extends ApiKeyAuthenticatedService {
         pathParams.put("userId", userId);
 
         String requestBody = null;
-        ManagementResource resource = new ManagementResource(this, "/merchants/{merchantId}/users/{userId}");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams);
-        return User.fromJson(jsonResult);
+        return getMerchantsMerchantIdUsersUserIdResource().request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams, null, JSON.getGson(), User.class);
+    }
+
+    private ManagementResource getMerchantsMerchantIdUsersUserIdResource() {
+        ManagementResource resource = getMerchantsMerchantIdUsersUserIdResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/merchants/{merchantId}/users/{userId}");
+            getMerchantsMerchantIdUsersUserIdResource = resource;
+        }
+        return resource;
     }
     
     /**
@@ -106,10 +125,17 @@ public class UsersMerchantLevel extends ApiKeyAuthenticatedService {
         pathParams.put("merchantId", merchantId);
         pathParams.put("userId", userId);
 
-        String requestBody = updateMerchantUserRequest.toJson();
-        ManagementResource resource = new ManagementResource(this, "/merchants/{merchantId}/users/{userId}");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.PATCH, pathParams);
-        return User.fromJson(jsonResult);
+        String requestBody = toJson(updateMerchantUserRequest, JSON.getGson());
+        return patchMerchantsMerchantIdUsersUserIdResource().request(requestBody, null, ApiConstants.HttpMethod.PATCH, pathParams, null, JSON.getGson(), User.class);
+    }
+
+    private ManagementResource patchMerchantsMerchantIdUsersUserIdResource() {
+        ManagementResource resource = patchMerchantsMerchantIdUsersUserIdResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/merchants/{merchantId}/users/{userId}");
+            patchMerchantsMerchantIdUsersUserIdResource = resource;
+        }
+        return resource;
     }
     
     /**
@@ -128,10 +154,17 @@ public class UsersMerchantLevel extends ApiKeyAuthenticatedService {
         Map<String, String> pathParams = new HashMap<>();
         pathParams.put("merchantId", merchantId);
 
-        String requestBody = createMerchantUserRequest.toJson();
-        ManagementResource resource = new ManagementResource(this, "/merchants/{merchantId}/users");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.POST, pathParams);
-        return CreateUserResponse.fromJson(jsonResult);
+        String requestBody = toJson(createMerchantUserRequest, JSON.getGson());
+        return postMerchantsMerchantIdUsersResource().request(requestBody, null, ApiConstants.HttpMethod.POST, pathParams, null, JSON.getGson(), CreateUserResponse.class);
+    }
+
+    private ManagementResource postMerchantsMerchantIdUsersResource() {
+        ManagementResource resource = postMerchantsMerchantIdUsersResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/merchants/{merchantId}/users");
+            postMerchantsMerchantIdUsersResource = resource;
+        }
+        return resource;
     }
     
 }
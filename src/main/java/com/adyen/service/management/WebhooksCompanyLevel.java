@@ -32,9 +32,17 @@ import java.util.HashMap;
 import java.util.Map;
 
 public class WebhooksCompanyLevel extends ApiKeyAuthenticatedService {
+    // resources are created on first use, services are often created per request
+    private volatile ManagementResource deleteCompaniesCompanyIdWebhooksWebhookIdResource;
+    private volatile ManagementResource getCompaniesCompanyIdWebhooksResource;
+    private volatile ManagementResource getCompaniesCompanyIdWebhooksWebhookIdResource;
+    private volatile ManagementResource patchCompaniesCompanyIdWebhooksWebhookIdResource;
+    private volatile ManagementResource postCompaniesCompanyIdWebhooksResource;
+    private volatile ManagementResource postCompaniesCompanyIdWebhooksWebhookIdGenerateHmacResource;
+    private volatile ManagementResource postCompaniesCompanyIdWebhooksWebhookIdTestResource;
+
     public WebhooksCompanyLevel(Client client) {
         super(client);
-        new JSON();
     }
 
     /**
@@ -57,8 +65,16 @@ public class WebhooksCompanyLevel extends ApiKeyAuthenticatedService {
         pathParams.put("webhookId", webhookId);
 
         String requestBody = null;
-        ManagementResource resource = new ManagementResource(this, "/companies/{companyId}/webhooks/{webhookId}");
-        resource.request(requestBody, null, ApiConstants.HttpMethod.DELETE, pathParams);
+        deleteCompaniesCompanyIdWebhooksWebhookIdResource().request(requestBody, null, ApiConstants.HttpMethod.DELETE, pathParams);
+    }
+
+    private ManagementResource deleteCompaniesCompanyIdWebhooksWebhookIdResource() {
+        ManagementResource resource = deleteCompaniesCompanyIdWebhooksWebhookIdResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/companies/{companyId}/webhooks/{webhookId}");
+            deleteCompaniesCompanyIdWebhooksWebhookIdResource = resource;
+        }
+        return resource;
     }
     
     /**
@@ -80,9 +96,16 @@ public class WebhooksCompanyLevel extends ApiKeyAuthenticatedService {
         pathParams.put("companyId", companyId);
 
         String requestBody = null;
-        ManagementResource resource = new ManagementResource(this, "/companies/{companyId}/webhooks");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams, queryParams);
-        return ListWebhooksResponse.fromJson(jsonResult);
+        return getCompaniesCompanyIdWebhooksResource().request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams, queryParams, JSON.getGson(), ListWebhooksResponse.class);
+    }
+
+    private ManagementResource getCompaniesCompanyIdWebhooksResource() {
+        ManagementResource resource = getCompaniesCompanyIdWebhooksResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/companies/{companyId}/webhooks");
+            getCompaniesCompanyIdWebhooksResource = resource;
+        }
+        return resource;
     }
     
     /**
@@ -106,9 +129,16 @@ public class WebhooksCompanyLevel extends ApiKeyAuthenticatedService {
         pathParams.put("webhookId", webhookId);
 
         String requestBody = null;
-        ManagementResource resource = new ManagementResource(this, "/companies/{companyId}/webhooks/{webhookId}");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams);
-        return Webhook.fromJson(jsonResult);
+        return getCompaniesCompanyIdWebhooksWebhookIdResource().request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams, null, JSON.getGson(), Webhook.class);
+    }
+
+    private ManagementResource getCompaniesCompanyIdWebhooksWebhookIdResource() {
+        ManagementResource resource = getCompaniesCompanyIdWebhooksWebhookIdResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/companies/{companyId}/webhooks/{webhookId}");
+            getCompaniesCompanyIdWebhooksWebhookIdResource = resource;
+        }
+        return resource;
     }
     
     /**
@@ -132,10 +162,17 @@ public class WebhooksCompanyLevel extends ApiKeyAuthenticatedService {
         pathParams.put("companyId", companyId);
         pathParams.put("webhookId", webhookId);
 
-        String requestBody = updateCompanyWebhookRequest.toJson();
-        ManagementResource resource = new ManagementResource(this, "/companies/{companyId}/webhooks/{webhookId}");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.PATCH, pathParams);
-        return Webhook.fromJson(jsonResult);
+        String requestBody = toJson(updateCompanyWebhookRequest, JSON.getGson());
+        return patchCompaniesCompanyIdWebhooksWebhookIdResource().request(requestBody, null, ApiConstants.HttpMethod.PATCH, pathParams, null, JSON.getGson(), Webhook.class);
+    }
+
+    private ManagementResource patchCompaniesCompanyIdWebhooksWebhookIdResource() {
+        ManagementResource resource = patchCompaniesCompanyIdWebhooksWebhookIdResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/companies/{companyId}/webhooks/{webhookId}");
+            patchCompaniesCompanyIdWebhooksWebhookIdResource = resource;
+        }
+        return resource;
     }
     
     /**
@@ -154,10 +191,17 @@ public class WebhooksCompanyLevel extends ApiKeyAuthenticatedService {
         Map<String, String> pathParams = new HashMap<>();
         pathParams.put("companyId", companyId);
 
-        String requestBody = createCompanyWebhookRequest.toJson();
-        ManagementResource resource = new ManagementResource(this, "/companies/{companyId}/webhooks");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.POST, pathParams);
-        return Webhook.fromJson(jsonResult);
+        String requestBody = toJson(createCompanyWebhookRequest, JSON.getGson());
+        return postCompaniesCompanyIdWebhooksResource().request(requestBody, null, ApiConstants.HttpMethod.POST, pathParams, null, JSON.getGson(), Webhook.class);
+    }
+
+    private ManagementResource postCompaniesCompanyIdWebhooksResource() {
+        ManagementResource resource = postCompaniesCompanyIdWebhooksResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/companies/{companyId}/webhooks");
+            postCompaniesCompanyIdWebhooksResource = resource;
+        }
+        return resource;
     }
     
     /**
@@ -181,9 +225,16 @@ public class WebhooksCompanyLevel extends ApiKeyAuthenticatedService {
         pathParams.put("webhookId", webhookId);
 
         String requestBody = null;
-        ManagementResource resource = new ManagementResource(this, "/companies/{companyId}/webhooks/{webhookId}/generateHmac");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.POST, pathParams);
-        return GenerateHmacKeyResponse.fromJson(jsonResult);
+        return postCompaniesCompanyIdWebhooksWebhookIdGenerateHmacResource().request(requestBody, null, ApiConstants.HttpMethod.POST, pathParams, null, JSON.getGson(), GenerateHmacKeyResponse.class);
+    }
+
+    private ManagementResource postCompaniesCompanyIdWebhooksWebhookIdGenerateHmacResource() {
+        ManagementResource resource = postCompaniesCompanyIdWebhooksWebhookIdGenerateHmacResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/companies/{companyId}/webhooks/{webhookId}/generateHmac");
+            postCompaniesCompanyIdWebhooksWebhookIdGenerateHmacResource = resource;
+        }
+        return resource;
     }
     
     /**
@@ -207,10 +258,17 @@ public class WebhooksCompanyLevel extends ApiKeyAuthenticatedService {
         pathParams.put("companyId", companyId);
         pathParams.put("webhookId", webhookId);
 
-        String requestBody = testCompanyWebhookRequest.toJson();
-        ManagementResource resource = new ManagementResource(this, "/companies/{companyId}/webhooks/{webhookId}/test");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.POST, pathParams);
-        return TestWebhookResponse.fromJson(jsonResult);
+        String requestBody = toJson(testCompanyWebhookRequest, JSON.getGson());
+        return postCompaniesCompanyIdWebhooksWebhookIdTestResource().request(requestBody, null, ApiConstants.HttpMethod.POST, pathParams, null, JSON.getGson(), TestWebhookResponse.class);
+    }
+
+    private ManagementResource postCompaniesCompanyIdWebhooksWebhookIdTestResource() {
+        ManagementResource resource = postCompaniesCompanyIdWebhooksWebhookIdTestResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/companies/{companyId}/webhooks/{webhookId}/test");
+            postCompaniesCompanyIdWebhooksWebhookIdTestResource = resource;
+        }
+        return resource;
     }
     
 }
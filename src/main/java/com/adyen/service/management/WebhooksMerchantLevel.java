@@ -32,9 +32,17 @@ import java.util.HashMap;
 import java.util.Map;
 
 public class WebhooksMerchantLevel extends ApiKeyAuthenticatedService {
+    // resources are created on first use, services are often created per request
+    private volatile ManagementResource deleteMerchantsMerchantIdWebhooksWebhookIdResource;
+    private volatile ManagementResource getMerchantsMerchantIdWebhooksResource;
+    private volatile ManagementResource getMerchantsMerchantIdWebhooksWebhookIdResource;
+    private volatile ManagementResource patchMerchantsMerchantIdWebhooksWebhookIdResource;
+    private volatile ManagementResource postMerchantsMerchantIdWebhooksResource;
+    private volatile ManagementResource postMerchantsMerchantIdWebhooksWebhookIdGenerateHmacResource;
+    private volatile ManagementResource postMerchantsMerchantIdWebhooksWebhookIdTestResource;
+
     public WebhooksMerchantLevel(Client client) {
         super(client);
-        new JSON();
     }
 
     /**
@@ -57,8 +65,16 @@ public class WebhooksMerchantLevel extends ApiKeyAuthenticatedService {
         pathParams.put("webhookId", webhookId);
 
         String requestBody = null;
-        ManagementResource resource = new ManagementResource(this, "/merchants/{merchantId}/webhooks/{webhookId}");
-        resource.request(requestBody, null, ApiConstants.HttpMethod.DELETE, pathParams);
+        deleteMerchantsMerchantIdWebhooksWebhookIdResource().request(requestBody, null, ApiConstants.HttpMethod.DELETE, pathParams);
+    }
+
+    private ManagementResource deleteMerchantsMerchantIdWebhooksWebhookIdResource() {
+        ManagementResource resource = deleteMerchantsMerchantIdWebhooksWebhookIdResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/merchants/{merchantId}/webhooks/{webhookId}");
+            deleteMerchantsMerchantIdWebhooksWebhookIdResource = resource;
+        }
+        return resource;
     }
     
     /**
@@ -80,9 +96,16 @@ public class WebhooksMerchantLevel extends ApiKeyAuthenticatedService {
         pathParams.put("merchantId", merchantId);
 
         String requestBody = null;
-        ManagementResource resource = new ManagementResource(this, "/merchants/{merchantId}/webhooks");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams, queryParams);
-        return ListWebhooksResponse.fromJson(jsonResult);
+        return getMerchantsMerchantIdWebhooksResource().request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams, queryParams, JSON.getGson(), ListWebhooksResponse.class);
+    }
+
+    private ManagementResource getMerchantsMerchantIdWebhooksResource() {
+        ManagementResource resource = getMerchantsMerchantIdWebhooksResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/merchants/{merchantId}/webhooks");
+            getMerchantsMerchantIdWebhooksResource = resource;
+        }
+        return resource;
     }
     
     /**
@@ -106,9 +129,16 @@ public class WebhooksMerchantLevel extends ApiKeyAuthenticatedService {
         pathParams.put("webhookId", webhookId);
 
         String requestBody = null;
-        ManagementResource resource = new ManagementResource(this, "/merchants/{merchantId}/webhooks/{webhookId}");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams);
-        return Webhook.fromJson(jsonResult);
+        return getMerchantsMerchantIdWebhooksWebhookIdResource().request(requestBody, null, ApiConstants.HttpMethod.GET, pathParams, null, JSON.getGson(), Webhook.class);
+    }
+
+    private ManagementResource getMerchantsMerchantIdWebhooksWebhookIdResource() {
+        ManagementResource resource = getMerchantsMerchantIdWebhooksWebhookIdResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/merchants/{merchantId}/webhooks/{webhookId}");
+            getMerchantsMerchantIdWebhooksWebhookIdResource = resource;
+        }
+        return resource;
     }
     
     /**
@@ -132,10 +162,17 @@ public class WebhooksMerchantLevel extends ApiKeyAuthenticatedService {
         pathParams.put("merchantId", merchantId);
         pathParams.put("webhookId", webhookId);
 
-        String requestBody = updateMerchantWebhookRequest.toJson();
-        ManagementResource resource = new ManagementResource(this, "/merchants/{merchantId}/webhooks/{webhookId}");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.PATCH, pathParams);
-        return Webhook.fromJson(jsonResult);
+        String requestBody = toJson(updateMerchantWebhookRequest, JSON.getGson());
+        return patchMerchantsMerchantIdWebhooksWebhookIdResource().request(requestBody, null, ApiConstants.HttpMethod.PATCH, pathParams, null, JSON.getGson(), Webhook.class);
+    }
+
+    private ManagementResource patchMerchantsMerchantIdWebhooksWebhookIdResource() {
+        ManagementResource resource = patchMerchantsMerchantIdWebhooksWebhookIdResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/merchants/{merchantId}/webhooks/{webhookId}");
+            patchMerchantsMerchantIdWebhooksWebhookIdResource = resource;
+        }
+        return resource;
     }
     
     /**
@@ -154,10 +191,17 @@ public class WebhooksMerchantLevel extends ApiKeyAuthenticatedService {
         Map<String, String> pathParams = new HashMap<>();
         pathParams.put("merchantId", merchantId);
 
-        String requestBody = createMerchantWebhookRequest.toJson();
-        ManagementResource resource = new ManagementResource(this, "/merchants/{merchantId}/webhooks");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.POST, pathParams);
-        return Webhook.fromJson(jsonResult);
+        String requestBody = toJson(createMerchantWebhookRequest, JSON.getGson());
+        return postMerchantsMerchantIdWebhooksResource().request(requestBody, null, ApiConstants.HttpMethod.POST, pathParams, null, JSON.getGson(), Webhook.class);
+    }
+
+    private ManagementResource postMerchantsMerchantIdWebhooksResource() {
+        ManagementResource resource = postMerchantsMerchantIdWebhooksResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/merchants/{merchantId}/webhooks");
+            postMerchantsMerchantIdWebhooksResource = resource;
+        }
+        return resource;
     }
     
     /**
@@ -181,9 +225,16 @@ public class WebhooksMerchantLevel extends ApiKeyAuthenticatedService {
         pathParams.put("webhookId", webhookId);
 
         String requestBody = null;
-        ManagementResource resource = new ManagementResource(this, "/merchants/{merchantId}/webhooks/{webhookId}/generateHmac");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.POST, pathParams);
-        return GenerateHmacKeyResponse.fromJson(jsonResult);
+        return postMerchantsMerchantIdWebhooksWebhookIdGenerateHmacResource().request(requestBody, null, ApiConstants.HttpMethod.POST, pathParams, null, JSON.getGson(), GenerateHmacKeyResponse.class);
+    }
+
+    private ManagementResource postMerchantsMerchantIdWebhooksWebhookIdGenerateHmacResource() {
+        ManagementResource resource = postMerchantsMerchantIdWebhooksWebhookIdGenerateHmacResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/merchants/{merchantId}/webhooks/{webhookId}/generateHmac");
+            postMerchantsMerchantIdWebhooksWebhookIdGenerateHmacResource = resource;
+        }
+        return resource;
     }
     
     /**
@@ -207,10 +258,17 @@ public class WebhooksMerchantLevel extends ApiKeyAuthenticatedService {
         pathParams.put("merchantId", merchantId);
         pathParams.put("webhookId", webhookId);
 
-        String requestBody = testWebhookRequest.toJson();
-        ManagementResource resource = new ManagementResource(this, "/merchants/{merchantId}/webhooks/{webhookId}/test");
-        String jsonResult = resource.request(requestBody, null, ApiConstants.HttpMethod.POST, pathParams);
-        return TestWebhookResponse.fromJson(jsonResult);
+        String requestBody = toJson(testWebhookRequest, JSON.getGson());
+        return postMerchantsMerchantIdWebhooksWebhookIdTestResource().request(requestBody, null, ApiConstants.HttpMethod.POST, pathParams, null, JSON.getGson(), TestWebhookResponse.class);
+    }
+
+    private ManagementResource postMerchantsMerchantIdWebhooksWebhookIdTestResource() {
+        ManagementResource resource = postMerchantsMerchantIdWebhooksWebhookIdTestResource;
+        if (resource == null) {
+            resource = new ManagementResource(this, "/merchants/{merchantId}/webhooks/{webhookId}/test");
+            postMerchantsMerchantIdWebhooksWebhookIdTestResource = resource;
+        }
+        return resource;
     }
     
 }
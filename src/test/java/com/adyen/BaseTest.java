@@ -24,6 +24,9 @@ package com.adyen;
 import com.adyen.constants.ApiConstants;
 import com.adyen.enums.VatCategory;
 import com.adyen.httpclient.AdyenHttpClient;
+import com.adyen.httpclient.AsyncClientInterface;
+import com.adyen.httpclient.ClientInterface;
+import com.adyen.httpclient.ClientResponse;
 import com.adyen.httpclient.HTTPClientException;
 import com.adyen.model.checkout.Address;
 import com.adyen.model.nexo.*;
@@ -49,6 +52,7 @@ import java.io.InputStream;
 import java.math.BigDecimal;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 
 import static com.adyen.Client.LIB_NAME;
 import static com.adyen.Client.LIB_VERSION;
@@ -73,6 +77,7 @@ public class BaseTest {
     protected Client createMockClientFromResponse(String response) {
         AdyenHttpClient adyenHttpClient = mock(AdyenHttpClient.class);
         try {
+            stubExchanges(adyenHttpClient);
             when(adyenHttpClient.request(anyString(), anyString(), any(Config.class), anyBoolean(), isNull())).thenReturn(response);
             when(adyenHttpClient.request(anyString(), any(), any(Config.class), anyBoolean(), isNull(), any())).thenReturn(response);
             when(adyenHttpClient.request(anyString(), any(), any(Config.class), anyBoolean(), isNull(), any(), any())).thenReturn(response);
@@ -80,8 +85,12 @@ public class BaseTest {
         } catch (IOException | HTTPClientException e) {
             e.printStackTrace();
         }
+        AsyncClientInterface asyncHttpClient = mock(AsyncClientInterface.class);
+        when(asyncHttpClient.request(anyString(), any(), any(Config.class), anyBoolean(), any(), any(), any())).thenReturn(CompletableFuture.completedFuture(response));
+
         Client client = new Client();
         client.setHttpClient(adyenHttpClient);
+        client.setAsyncHttpClient(asyncHttpClient);
 
         Config config = new Config();
         config.setHmacKey("DFB1EB5485895CFA84146406857104ABB4CBCABDC8AAF103A624C8F6A3EAAB00");
@@ -295,6 +304,18 @@ public class BaseTest {
         return paymentRequest3ds2;
     }
 
+    /**
+     * Makes the exchange methods of a mocked client, which the services call, answer with the stubs of its request methods
+     */
+    protected static void stubExchanges(ClientInterface httpClient) throws IOException, HTTPClientException {
+        when(httpClient.exchange(any(), any(), any(), anyBoolean(), any(), any(), any())).thenAnswer(invocation -> new ClientResponse<>(200, null,
+                httpClient.request(invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2), invocation.getArgument(3), invocation.getArgument(4), invocation.getArgument(5), invocation.getArgument(6))));
+        when(httpClient.exchangeEntity(any(), any(), any(), anyBoolean(), any(), any(), any())).thenAnswer(invocation -> new ClientResponse<>(200, null,
+                httpClient.requestEntity(invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2), invocation.getArgument(3), invocation.getArgument(4), invocation.getArgument(5), invocation.getArgument(6))));
+        when(httpClient.exchangeAndParse(any(), any(), any(), anyBoolean(), any(), any(), any())).thenAnswer(invocation -> new ClientResponse<>(200, null,
+                httpClient.requestAndParse(invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2), invocation.getArgument(3), invocation.getArgument(4), invocation.getArgument(5), invocation.getArgument(6))));
+    }
+
     /**
      * Returns a Client that has a mocked error response from fileName
      */
@@ -304,6 +325,7 @@ public class BaseTest {
         AdyenHttpClient adyenHttpClient = mock(AdyenHttpClient.class);
         HTTPClientException httpClientException = new HTTPClientException(status, "An error occured", new HashMap<>(), response);
         try {
+            stubExchanges(adyenHttpClient);
             when(adyenHttpClient.request(anyString(), anyString(), any(Config.class), anyBoolean(), isNull(), any(), any())).thenThrow(httpClientException);
         } catch (IOException | HTTPClientException e) {
             fail("Unexpected exception: " + e.getMessage());
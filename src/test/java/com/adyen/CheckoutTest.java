@@ -22,27 +22,40 @@ package com.adyen;
 
 import com.adyen.enums.Environment;
 import com.adyen.httpclient.AdyenHttpClient;
+import com.adyen.httpclient.AsyncClientInterface;
+import com.adyen.httpclient.ClientInterceptor;
+import com.adyen.httpclient.ClientInterface;
+import com.adyen.httpclient.ClientResponse;
 import com.adyen.httpclient.HTTPClientException;
 
+import com.adyen.model.RequestOptions;
 import com.adyen.model.checkout.*;
 import com.adyen.service.Checkout;
+import com.adyen.service.exception.ApiException;
 
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 
 import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class CheckoutTest extends BaseTest {
     protected Client createMockErrorClient(String response) {
         AdyenHttpClient adyenHttpClient = mock(AdyenHttpClient.class);
         try {
+            stubExchanges(adyenHttpClient);
             when(adyenHttpClient.request(anyString(), any(), any(Config.class), anyBoolean(), isNull(), any())).thenThrow(new HTTPClientException("HTTP Exception"));
         } catch (IOException | HTTPClientException e) {
             e.printStackTrace();
@@ -77,6 +90,81 @@ public class CheckoutTest extends BaseTest {
         assertEquals("https://checkoutshopper-test.adyen.com/checkoutshopper/threeDS/redirect?MD=M2R...", paymentResponse.getAction().getCheckoutRedirectAction().getUrl());
     }
 
+    /**
+     * Should make an asynchronous payment
+     */
+    @Test
+    public void TestPaymentAsyncSuccess() throws Exception {
+        Client client = createMockClientFromFile("mocks/checkout/paymentResponse.json");
+        PaymentRequest paymentRequest = new PaymentRequest();
+        paymentRequest.setAmount(new Amount().currency("EUR").value(1000L));
+        Checkout checkout = new Checkout(client);
+        PaymentResponse paymentResponse = checkout.paymentsAsync(paymentRequest).get();
+        assertEquals("993617895204576J", paymentResponse.getPspReference());
+    }
+
+    /**
+     * Should run the interceptors in registration order and send the headers they add
+     */
+    @Test
+    public void TestPaymentMethodsWithInterceptors() throws Exception {
+        ClientInterface httpClient = mock(ClientInterface.class);
+        stubExchanges(httpClient);
+        when(httpClient.request(anyString(), any(), any(Config.class), anyBoolean(), any(), any(), any())).thenReturn(getFileContents("mocks/checkout/paymentMethodsResponse.json"));
+        Client client = new Client();
+        client.setHttpClient(httpClient);
+        client.setEnvironment(Environment.TEST, null);
+
+        List<String> calls = new ArrayList<>();
+        client.addInterceptor(new ClientInterceptor() {
+            @Override
+            public <T> ClientResponse<T> intercept(Chain<T> chain) throws IOException, HTTPClientException {
+                calls.add("outer");
+                return chain.proceed(chain.request());
+            }
+        });
+        client.addInterceptor(new ClientInterceptor() {
+            @Override
+            public <T> ClientResponse<T> intercept(Chain<T> chain) throws IOException, HTTPClientException {
+                calls.add("inner " + chain.request().getEndpoint());
+                chain.request().getHeaders().put("X-Request-Source", "test");
+                return chain.proceed(chain.request());
+            }
+        });
+
+        Checkout checkout = new Checkout(client);
+        PaymentMethodsResponse paymentMethodsResponse = checkout.paymentMethods(new PaymentMethodsRequest().merchantAccount("myMerchantAccount"));
+
+        assertEquals(Arrays.asList("outer", "inner " + client.getConfig().getCheckoutEndpoint() + "/" + Client.CHECKOUT_API_VERSION + "/paymentMethods"), calls);
+        assertTrue(paymentMethodsResponse.getPaymentMethods().size() > 0);
+        ArgumentCaptor<RequestOptions> requestOptions = ArgumentCaptor.forClass(RequestOptions.class);
+        verify(httpClient).request(anyString(), anyString(), any(Config.class), anyBoolean(), requestOptions.capture(), any(), any());
+        assertEquals("test", requestOptions.getValue().getAdditionalServiceHeaders().get("X-Request-Source"));
+    }
+
+    /**
+     * Should complete the asynchronous payment with an ApiException on HTTP errors
+     */
+    @Test
+    public void TestPaymentAsyncError() throws Exception {
+        AsyncClientInterface asyncHttpClient = mock(AsyncClientInterface.class);
+        CompletableFuture<String> response = new CompletableFuture<>();
+        response.completeExceptionally(new HTTPClientException(422, "HTTP Exception", null, getFileContents("mocks/payout/payout-error-422.json")));
+        when(asyncHttpClient.request(anyString(), any(), any(Config.class), anyBoolean(), any(), any(), any())).thenReturn(response);
+        Client client = new Client();
+        client.setAsyncHttpClient(asyncHttpClient);
+        client.setEnvironment(Environment.TEST, null);
+
+        Checkout checkout = new Checkout(client);
+        try {
+            checkout.paymentsAsync(new PaymentRequest()).get();
+            fail("Expected ApiException");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof ApiException);
+            assertEquals(422, ((ApiException) e.getCause()).getStatusCode());
+        }
+    }
+
     /**
      * Should be able to stringify and parse paymentMethod in PaymentRequest (test oneOf serialization and deserialization)
      */
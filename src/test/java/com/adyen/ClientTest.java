@@ -2,11 +2,39 @@ package com.adyen;
 
 import com.adyen.enums.Environment;
 import com.adyen.enums.Region;
+import com.adyen.constants.ApiConstants;
+import com.adyen.httpclient.AdyenAsyncHttpClient;
+import com.adyen.httpclient.AdyenHttpClient;
+import com.adyen.httpclient.ClientInterface;
+import com.adyen.httpclient.HTTPClientException;
+import com.sun.net.httpserver.HttpServer;
+import com.sun.net.httpserver.HttpsConfigurator;
+import com.sun.net.httpserver.HttpsParameters;
+import com.sun.net.httpserver.HttpsServer;
 import org.junit.Assert;
 import org.junit.Test;
 import org.mockito.Mock;
 
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.TrustManagerFactory;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.security.KeyStore;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 public class ClientTest {
 
@@ -49,6 +77,136 @@ public class ClientTest {
         assertCommonEndpoints(client.getConfig());
     }
 
+    @Test
+    public void testHttpClientIsReused() {
+        Client client = new Client("apiKey", Environment.TEST);
+
+        Assert.assertSame(client.getHttpClient(), client.getHttpClient());
+    }
+
+    @Test
+    public void testCloseReleasesHttpClient() throws IOException {
+        ClientInterface httpClient = mock(ClientInterface.class);
+        Client client = new Client("apiKey", Environment.TEST);
+        client.setHttpClient(httpClient);
+
+        client.close();
+
+        verify(httpClient).close();
+    }
+
+    @Test
+    public void testSetConfigReleasesPreviousConfig() {
+        ClientInterface httpClient = mock(ClientInterface.class);
+        Client client = new Client("apiKey", Environment.TEST);
+        client.setHttpClient(httpClient);
+        Config previous = client.getConfig();
+
+        client.setConfig(new Config());
+
+        verify(httpClient).release(previous);
+    }
+
+    @Test
+    public void testWarmUpConfiguredEndpoints() throws IOException, HTTPClientException {
+        ClientInterface httpClient = mock(ClientInterface.class);
+        when(httpClient.warmUp(anyString(), anyInt(), any(Config.class))).thenReturn(2);
+        Client client = new Client("apiKey", Environment.TEST);
+        client.setHttpClient(httpClient);
+
+        Assert.assertEquals(6, client.warmUp(2));
+
+        verify(httpClient).warmUp(Client.CHECKOUT_ENDPOINT_TEST, 2, client.getConfig());
+        verify(httpClient).warmUp(Client.ENDPOINT_TEST, 2, client.getConfig());
+        verify(httpClient).warmUp(Client.MANAGEMENT_ENDPOINT_TEST, 2, client.getConfig());
+    }
+
+    @Test
+    public void testWarmUpKeepsConnectionsPooled() throws IOException, HTTPClientException {
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.start();
+        try (AdyenHttpClient httpClient = new AdyenHttpClient()) {
+            String endpoint = "http://localhost:" + server.getAddress().getPort() + "/checkout";
+            Config config = new Config();
+
+            Assert.assertEquals(3, httpClient.warmUp(endpoint, 3, config));
+            Assert.assertEquals(0, httpClient.warmUp(endpoint, 3, config));
+            Assert.assertEquals(1, httpClient.warmUp(endpoint, 4, config));
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    public void testClientCertificateConnectionsAreReused() throws Exception {
+        KeyStore keyStore = loadLocalhostKeyStore();
+        Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+        HttpsServer server = startMutualTlsServer(keyStore, clientPorts);
+        Config config = new Config();
+        config.setTrustKeyStore(keyStore);
+        config.setClientKeyStore(keyStore);
+        config.setClientKeyStorePassword(LOCALHOST_KEY_STORE_PASSWORD);
+        String endpoint = "https://127.0.0.1:" + server.getAddress().getPort() + "/checkout";
+        try (AdyenHttpClient httpClient = new AdyenHttpClient();
+             AdyenAsyncHttpClient asyncHttpClient = new AdyenAsyncHttpClient()) {
+            for (int i = 0; i < 3; i++) {
+                Assert.assertEquals("{}", httpClient.request(endpoint, "{}", config, false, null, ApiConstants.HttpMethod.POST));
+            }
+            Assert.assertEquals(1, clientPorts.size());
+
+            // connections bound to the TLS principal would not be leased again by the next request
+            clientPorts.clear();
+            for (int i = 0; i < 3; i++) {
+                Assert.assertEquals("{}", asyncHttpClient.request(endpoint, "{}", config, false, null, ApiConstants.HttpMethod.POST, null).get());
+                // the future completes before the connection is released to the pool
+                Thread.sleep(50);
+            }
+            Assert.assertEquals(1, clientPorts.size());
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    private static final String LOCALHOST_KEY_STORE_PASSWORD = "changeit";
+
+    private KeyStore loadLocalhostKeyStore() throws GeneralSecurityException, IOException {
+        KeyStore keyStore = KeyStore.getInstance("PKCS12");
+        try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream("localhost.p12")) {
+            keyStore.load(inputStream, LOCALHOST_KEY_STORE_PASSWORD.toCharArray());
+        }
+        return keyStore;
+    }
+
+    /**
+     * HTTPS server requiring the client certificate, recording the client port of every request
+     */
+    private HttpsServer startMutualTlsServer(KeyStore keyStore, Set<Integer> clientPorts) throws GeneralSecurityException, IOException {
+        KeyManagerFactory keyManagerFactory = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+        keyManagerFactory.init(keyStore, LOCALHOST_KEY_STORE_PASSWORD.toCharArray());
+        TrustManagerFactory trustManagerFactory = TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+        trustManagerFactory.init(keyStore);
+        SSLContext sslContext = SSLContext.getInstance("TLSv1.2");
+        sslContext.init(keyManagerFactory.getKeyManagers(), trustManagerFactory.getTrustManagers(), null);
+
+        HttpsServer server = HttpsServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.setHttpsConfigurator(new HttpsConfigurator(sslContext) {
+            @Override
+            public void configure(HttpsParameters params) {
+                params.setNeedClientAuth(true);
+            }
+        });
+        server.createContext("/", exchange -> {
+            clientPorts.add(exchange.getRemoteAddress().getPort());
+            byte[] response = "{}".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, response.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(response);
+            }
+        });
+        server.start();
+        return server;
+    }
+
     private void assertCommonEndpoints(Config config) {
         Assert.assertEquals(Client.ENDPOINT_CERT_LIVE, config.getEndpoint());
         Assert.assertEquals(Client.MARKETPAY_ENDPOINT_LIVE, config.getMarketPayEndpoint());
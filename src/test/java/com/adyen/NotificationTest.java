@@ -25,6 +25,8 @@ import com.adyen.model.notification.NotificationRequest;
 import com.adyen.model.notification.NotificationRequestItem;
 import com.adyen.model.notification.NotificationRequestItemContainer;
 import com.adyen.notification.NotificationHandler;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
 import com.google.gson.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import org.junit.Before;
@@ -209,6 +211,39 @@ public class NotificationTest extends BaseTest {
         assertEquals(parser.parse(firstInput), parser.parse(secondInput));
     }
 
+    @Test
+    public void testAdaptersMatchReflectiveGson() {
+        Gson reflectiveGson = new Gson();
+        Gson gson = new GsonBuilder()
+                .registerTypeAdapterFactory(new NotificationRequest.CustomTypeAdapterFactory())
+                .registerTypeAdapterFactory(new NotificationRequestItemContainer.CustomTypeAdapterFactory())
+                .registerTypeAdapterFactory(new NotificationRequestItem.CustomTypeAdapterFactory())
+                .registerTypeAdapterFactory(new Amount.CustomTypeAdapterFactory())
+                .create();
+        String[] files = {"authorisation-true", "cancellation-true", "capture-false", "capture-true", "chargeback", "offer-closed", "refund-false", "refund-true"};
+        for (String file : files) {
+            String json = getFileContents("mocks/notification/" + file + ".json");
+
+            NotificationRequest expected = reflectiveGson.fromJson(json, NotificationRequest.class);
+            NotificationRequest actual = notificationHandler.handleNotificationJson(json);
+
+            assertEquals(file, expected.toString(), actual.toString());
+            assertEquals(file, reflectiveGson.toJson(expected), gson.toJson(actual));
+        }
+    }
+
+    @Test
+    public void testUnknownFieldsAreSkipped() {
+        NotificationRequest notificationRequest = notificationHandler.handleNotificationJson("{\"live\":\"false\",\"newField\":{\"a\":[1]},\"notificationItems\":"
+                + "[{\"NotificationRequestItem\":{\"eventCode\":\"AUTHORISATION\",\"success\":\"true\",\"amount\":{\"value\":100,\"currency\":\"EUR\",\"x\":1}}}]}");
+
+        assertEquals("false", notificationRequest.getLive());
+        NotificationRequestItem item = notificationRequest.getNotificationItems().get(0);
+        assertEquals("AUTHORISATION", item.getEventCode());
+        assertTrue(item.isSuccess());
+        assertEquals(Long.valueOf(100), item.getAmount().getValue());
+    }
+
     private NotificationRequest readNotificationRequestFromFile(String resourcePath) {
         String json = getFileContents(resourcePath);
         return notificationHandler.handleNotificationJson(json);
@@ -247,6 +247,7 @@ public class PaymentTest extends BaseTest {
         AdyenHttpClient adyenHttpClient = mock(AdyenHttpClient.class);
         HTTPClientException httpClientException = new HTTPClientException(401, "An error occured", new HashMap<>(), null);
 
+        stubExchanges(adyenHttpClient);
         when(adyenHttpClient.request(anyString(), anyString(), any(Config.class), anyBoolean(), any(RequestOptions.class), isNull())).thenThrow(httpClientException);
         when(adyenHttpClient.request(anyString(), anyString(), any(Config.class), anyBoolean(), isNull(), any(), isNull())).thenThrow(httpClientException);
 
@@ -0,0 +1,171 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.httpclient;
+
+import com.adyen.Config;
+import com.adyen.constants.ApiConstants;
+import com.adyen.metrics.MetricsListener;
+import com.adyen.metrics.Phase;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.ConnectException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class AdyenHttpClientTest {
+
+    private HttpServer server;
+    private AdyenHttpClient httpClient;
+    private Config config;
+
+    @Before
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/payments", exchange -> respond(exchange, 200, "{\"pspReference\":\"993617895204576J\"}"));
+        server.createContext("/invalid", exchange -> respond(exchange, 422, "{\"errorCode\":\"14_030\"}"));
+        server.start();
+        httpClient = new AdyenHttpClient();
+        config = new Config();
+        config.setHttp2Enabled(true);
+    }
+
+    @After
+    public void tearDown() {
+        httpClient.close();
+        server.stop(0);
+    }
+
+    @Test
+    public void testHttp2EnabledRequest() throws Exception {
+        List<Phase> phases = new CopyOnWriteArrayList<>();
+        List<Integer> statuses = new CopyOnWriteArrayList<>();
+        config.setMetricsListener(new MetricsListener() {
+            @Override
+            public void onPhase(String endpoint, Phase phase, long durationNanos) {
+                phases.add(phase);
+            }
+
+            @Override
+            public void onHttpStatus(String endpoint, int statusCode) {
+                statuses.add(statusCode);
+            }
+        });
+
+        String response = httpClient.request(getEndpoint("/payments"), "{}", config, false, null, ApiConstants.HttpMethod.POST);
+
+        Assert.assertEquals("{\"pspReference\":\"993617895204576J\"}", response);
+        Assert.assertEquals(1, statuses.size());
+        Assert.assertEquals(200, (int) statuses.get(0));
+        Assert.assertTrue(phases.contains(Phase.TIME_TO_FIRST_BYTE));
+        Assert.assertTrue(phases.contains(Phase.BODY_READ));
+    }
+
+    @Test
+    public void testHttp2ErrorResponseIsUnwrapped() throws IOException {
+        try {
+            httpClient.request(getEndpoint("/invalid"), "{}", config, false, null, ApiConstants.HttpMethod.POST);
+            Assert.fail("Expected an HTTPClientException");
+        } catch (HTTPClientException e) {
+            Assert.assertEquals(422, e.getCode());
+            Assert.assertEquals("{\"errorCode\":\"14_030\"}", e.getResponseBody());
+        }
+    }
+
+    @Test
+    public void testHttp2ConnectionFailureIsUnwrapped() throws IOException, HTTPClientException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            port = socket.getLocalPort();
+        }
+        try {
+            httpClient.request("http://127.0.0.1:" + port + "/payments", "{}", config, false, null, ApiConstants.HttpMethod.POST);
+            Assert.fail("Expected a ConnectException");
+        } catch (ConnectException e) {
+            Assert.assertNotNull(e.getMessage());
+        }
+    }
+
+    @Test
+    public void testHttp2MaxBodySizeIsEnforcedWhileReceiving() throws Exception {
+        CountDownLatch released = new CountDownLatch(1);
+        server.createContext("/large", exchange -> {
+            exchange.sendResponseHeaders(200, 0);
+            OutputStream outputStream = exchange.getResponseBody();
+            outputStream.write(new byte[2048]);
+            outputStream.flush();
+            try {
+                // the rest of the body never arrives before the client gives up
+                released.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            outputStream.close();
+        });
+        config.setMaxResponseBodySize(1024);
+        try {
+            httpClient.request(getEndpoint("/large"), "{}", config, false, null, ApiConstants.HttpMethod.POST);
+            Assert.fail("Expected an IOException");
+        } catch (IOException e) {
+            Assert.assertEquals(1, released.getCount());
+            Assert.assertEquals("Response body exceeds the maximum size of 1024 bytes", e.getMessage());
+        } finally {
+            released.countDown();
+        }
+    }
+
+    @Test
+    public void testBlockingClientStartsNoThreads() throws IOException, HTTPClientException {
+        config.setHttp2Enabled(false);
+        config.setConnectionIdleTimeoutMillis(1000);
+        int threads = Thread.activeCount();
+
+        httpClient.request(getEndpoint("/payments"), "{}", config, false, null, ApiConstants.HttpMethod.POST);
+
+        // an unclosed client must not be kept reachable by an eviction thread
+        Assert.assertEquals(threads, Thread.activeCount());
+    }
+
+    private String getEndpoint(String path) {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + path;
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] response = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, response.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(response);
+        }
+    }
+}
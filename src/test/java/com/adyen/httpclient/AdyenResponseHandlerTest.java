@@ -0,0 +1,118 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.httpclient;
+
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.io.entity.InputStreamEntity;
+import org.apache.hc.core5.http.io.entity.StringEntity;
+import org.apache.hc.core5.http.message.BasicClassicHttpResponse;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+public class AdyenResponseHandlerTest {
+    private static final String BODY = "{\"pspReference\":\"8535296650153317\"}";
+
+    @Test
+    public void testBodyWithinMaximumSize() throws Exception {
+        BasicClassicHttpResponse httpResponse = new BasicClassicHttpResponse(200);
+        httpResponse.setEntity(new StringEntity(BODY, ContentType.APPLICATION_JSON));
+
+        AdyenResponse response = new AdyenResponseHandler(BODY.length()).handleResponse(httpResponse);
+
+        Assert.assertEquals(200, response.getStatus());
+        Assert.assertEquals(BODY, response.getBody());
+    }
+
+    @Test
+    public void testMultiValuedHeaders() throws Exception {
+        BasicClassicHttpResponse httpResponse = new BasicClassicHttpResponse(429);
+        httpResponse.addHeader("Set-Cookie", "a=1");
+        httpResponse.addHeader("Retry-After", "2");
+        httpResponse.addHeader("set-cookie", "b=2");
+
+        Map<String, List<String>> headers = new AdyenResponseHandler().handleResponse(httpResponse).getHeaders();
+
+        Assert.assertEquals(Collections.singletonList("2"), headers.get("retry-after"));
+        Assert.assertEquals(Arrays.asList("a=1", "b=2"), headers.get("Set-Cookie"));
+        Assert.assertNull(headers.get("Idempotency-Key"));
+        Assert.assertEquals(2, headers.size());
+        Assert.assertEquals(Arrays.asList("a=1", "b=2"), headers.get("SET-COOKIE"));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testHeadersAreReadOnly() throws Exception {
+        BasicClassicHttpResponse httpResponse = new BasicClassicHttpResponse(200);
+        httpResponse.addHeader("Retry-After", "2");
+
+        new AdyenResponseHandler().handleResponse(httpResponse).getHeaders().put("Retry-After", Collections.singletonList("3"));
+    }
+
+    @Test(expected = IOException.class)
+    public void testContentLengthAboveMaximumSize() throws Exception {
+        BasicClassicHttpResponse httpResponse = new BasicClassicHttpResponse(200);
+        httpResponse.setEntity(new StringEntity(BODY, ContentType.APPLICATION_JSON));
+
+        new AdyenResponseHandler(BODY.length() - 1).handleResponse(httpResponse);
+    }
+
+    @Test
+    public void testChunkedBodyAboveMaximumSize() throws Exception {
+        InputStreamEntity entity = new InputStreamEntity(new ByteArrayInputStream(BODY.getBytes(StandardCharsets.UTF_8)), -1, ContentType.APPLICATION_JSON);
+
+        byte[] buffer = new byte[8];
+        try (InputStream content = AdyenResponseHandler.getContent(entity, 10)) {
+            Assert.assertEquals(8, content.read(buffer));
+            content.read(buffer);
+            Assert.fail("Expected IOException");
+        } catch (IOException e) {
+            Assert.assertEquals("Response body exceeds the maximum size of 10 bytes", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testGunzip() throws Exception {
+        Assert.assertEquals(BODY, new String(AdyenResponseHandler.gunzip(gzip(BODY), 0), StandardCharsets.UTF_8));
+    }
+
+    @Test(expected = IOException.class)
+    public void testGunzipAboveMaximumSize() throws Exception {
+        AdyenResponseHandler.gunzip(gzip(BODY), BODY.length() - 1);
+    }
+
+    private static byte[] gzip(String body) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(buffer)) {
+            gzipOutputStream.write(body.getBytes(StandardCharsets.UTF_8));
+        }
+        return buffer.toByteArray();
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.httpclient;
+
+import com.adyen.Config;
+import com.adyen.constants.ApiConstants;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.util.ArrayList;
+import java.util.List;
+
+public class CircuitBreakerPolicyTest {
+    private static final String ENDPOINT = "https://checkout-test.adyen.com/v69/payments";
+
+    @Test
+    public void testOpensAfterFailuresAndFailsFast() throws Exception {
+        CircuitBreakerPolicy policy = createPolicy(60000);
+        failTimes(policy, 4);
+
+        CircuitBreaker circuitBreaker = policy.getCircuitBreaker("checkout-test.adyen.com/v69");
+        Assert.assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+        int[] attempts = {0};
+        try {
+            policy.execute(createRequest(), r -> {
+                attempts[0]++;
+                return ClientResponse.of("{}");
+            });
+            Assert.fail("Expected CircuitBreakerOpenException");
+        } catch (CircuitBreakerOpenException e) {
+            Assert.assertEquals("checkout-test.adyen.com/v69", e.getFamily());
+            Assert.assertEquals(0, attempts[0]);
+        }
+    }
+
+    @Test
+    public void testClientErrorsDoNotOpen() throws Exception {
+        CircuitBreakerPolicy policy = createPolicy(60000);
+        for (int i = 0; i < 10; i++) {
+            try {
+                policy.execute(createRequest(), r -> {
+                    throw new HTTPClientException(422, "HTTP Exception");
+                });
+            } catch (HTTPClientException e) {
+                Assert.assertEquals(422, e.getCode());
+            }
+        }
+
+        CircuitBreaker circuitBreaker = policy.getCircuitBreaker("checkout-test.adyen.com/v69");
+        Assert.assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        Assert.assertEquals(0, circuitBreaker.getFailureRate(), 0);
+        Assert.assertEquals(10, circuitBreaker.getCallCount());
+    }
+
+    @Test
+    public void testClientSideErrorsDoNotOpen() throws Exception {
+        CircuitBreakerPolicy policy = createPolicy(60000);
+        for (int i = 0; i < 10; i++) {
+            try {
+                policy.execute(createRequest(), r -> {
+                    throw new IllegalArgumentException("The field `unknown` in the JSON string is not defined");
+                });
+                Assert.fail("Expected IllegalArgumentException");
+            } catch (IllegalArgumentException e) {
+                // expected
+            }
+        }
+
+        CircuitBreaker circuitBreaker = policy.getCircuitBreaker("checkout-test.adyen.com/v69");
+        Assert.assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        Assert.assertEquals(0, circuitBreaker.getFailureRate(), 0);
+    }
+
+    @Test
+    public void testTooManyRequestsOpens() throws Exception {
+        CircuitBreakerPolicy policy = createPolicy(60000);
+        for (int i = 0; i < 4; i++) {
+            try {
+                policy.execute(createRequest(), r -> {
+                    throw new HTTPClientException(429, "HTTP Exception");
+                });
+            } catch (HTTPClientException e) {
+                Assert.assertEquals(429, e.getCode());
+            }
+        }
+
+        Assert.assertEquals(CircuitBreaker.State.OPEN, policy.getCircuitBreaker("checkout-test.adyen.com/v69").getState());
+    }
+
+    @Test
+    public void testClosesAfterSuccessfulProbes() throws Exception {
+        CircuitBreakerPolicy policy = createPolicy(0);
+        List<String> transitions = new ArrayList<>();
+        policy.setListener((circuitBreaker, from, to) -> transitions.add(from + "->" + to));
+        failTimes(policy, 4);
+
+        for (int i = 0; i < policy.getHalfOpenProbes(); i++) {
+            Assert.assertEquals("{}", policy.execute(createRequest(), r -> ClientResponse.of("{}")).getBody());
+        }
+
+        Assert.assertEquals(CircuitBreaker.State.CLOSED, policy.getCircuitBreaker("checkout-test.adyen.com/v69").getState());
+        Assert.assertEquals(0, policy.getCircuitBreaker("checkout-test.adyen.com/v69").getCallCount());
+        Assert.assertEquals(3, transitions.size());
+        Assert.assertEquals("CLOSED->OPEN", transitions.get(0));
+        Assert.assertEquals("OPEN->HALF_OPEN", transitions.get(1));
+        Assert.assertEquals("HALF_OPEN->CLOSED", transitions.get(2));
+    }
+
+    @Test
+    public void testReopensOnProbeFailure() throws Exception {
+        CircuitBreakerPolicy policy = createPolicy(0);
+        failTimes(policy, 4);
+
+        try {
+            policy.execute(createRequest(), r -> {
+                throw new SocketTimeoutException("Read timed out");
+            });
+            Assert.fail("Expected SocketTimeoutException");
+        } catch (SocketTimeoutException e) {
+            Assert.assertEquals(CircuitBreaker.State.OPEN, policy.getCircuitBreaker("checkout-test.adyen.com/v69").getState());
+        }
+    }
+
+    @Test
+    public void testFamilies() {
+        CircuitBreakerPolicy policy = new CircuitBreakerPolicy();
+        Assert.assertEquals("checkout-test.adyen.com/v69", policy.getFamily(ENDPOINT));
+        Assert.assertEquals("management-test.adyen.com/v1", policy.getFamily("https://management-test.adyen.com/v1/companies/ABC/merchants"));
+        Assert.assertEquals("pal-test.adyen.com/pal", policy.getFamily("https://pal-test.adyen.com/pal/servlet/Payment/v68/authorise"));
+        Assert.assertEquals("management-test.adyen.com/v1", policy.getFamily("https://management-test.adyen.com/v1/merchants/{merchantId}"));
+        Assert.assertEquals("localhost/v1", policy.getFamily("http://localhost:8080/v1?query"));
+        Assert.assertEquals("localhost", policy.getFamily("http://localhost:8080/"));
+        Assert.assertEquals("not-a-url", policy.getFamily("not-a-url"));
+    }
+
+    private static void failTimes(CircuitBreakerPolicy policy, int times) throws HTTPClientException {
+        for (int i = 0; i < times; i++) {
+            try {
+                policy.execute(createRequest(), r -> {
+                    throw new HTTPClientException(503, "HTTP Exception");
+                });
+            } catch (IOException | HTTPClientException e) {
+                // expected
+            }
+        }
+    }
+
+    private static CircuitBreakerPolicy createPolicy(long openDurationMillis) {
+        CircuitBreakerPolicy policy = new CircuitBreakerPolicy();
+        policy.setMinimumCalls(4);
+        policy.setOpenDurationMillis(openDurationMillis);
+        policy.setHalfOpenProbes(2);
+        return policy;
+    }
+
+    private static ClientRequest createRequest() {
+        return new ClientRequest(ENDPOINT, ApiConstants.HttpMethod.POST, new Config(), true, null);
+    }
+}
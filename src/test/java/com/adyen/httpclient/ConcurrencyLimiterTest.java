@@ -0,0 +1,194 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.httpclient;
+
+import com.adyen.Config;
+import com.adyen.constants.ApiConstants;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+public class ConcurrencyLimiterTest {
+    private static final String ENDPOINT = "/payments";
+
+    @Test
+    public void testIncreasesWhenSaturated() throws Exception {
+        ConcurrencyLimiter limiter = createLimiter(1);
+        Config config = createConfig("key");
+
+        for (int i = 0; i < 5; i++) {
+            Assert.assertEquals("{}", limiter.execute(createRequest(config), r -> ClientResponse.of("{}")).getBody());
+        }
+
+        AdaptiveLimit limit = limiter.getLimit(config, ENDPOINT);
+        Assert.assertEquals(3, limit.getLimit());
+        Assert.assertEquals(0, limit.getInFlight());
+    }
+
+    @Test
+    public void testDecreasesOnThrottlingAndTimeouts() throws Exception {
+        ConcurrencyLimiter limiter = createLimiter(20);
+        Config config = createConfig("key");
+
+        try {
+            limiter.execute(createRequest(config), r -> {
+                throw new HTTPClientException(429, "HTTP Exception");
+            });
+            Assert.fail("Expected HTTPClientException");
+        } catch (HTTPClientException e) {
+            Assert.assertEquals(18, limiter.getLimit(config, ENDPOINT).getLimit());
+        }
+        // the next limit-many requests belong to the window of the first decrease
+        for (int i = 0; i < 19; i++) {
+            limiter.execute(createRequest(config), r -> ClientResponse.of("{}"));
+        }
+        try {
+            limiter.execute(createRequest(config), r -> {
+                throw new SocketTimeoutException("Read timed out");
+            });
+            Assert.fail("Expected SocketTimeoutException");
+        } catch (SocketTimeoutException e) {
+            Assert.assertEquals(16, limiter.getLimit(config, ENDPOINT).getLimit());
+        }
+    }
+
+    @Test
+    public void testDecreasesOncePerWindow() throws Exception {
+        ConcurrencyLimiter limiter = createLimiter(20);
+        Config config = createConfig("key");
+
+        for (int i = 0; i < 10; i++) {
+            try {
+                limiter.execute(createRequest(config), r -> {
+                    throw new HTTPClientException(429, "HTTP Exception");
+                });
+                Assert.fail("Expected HTTPClientException");
+            } catch (HTTPClientException e) {
+                Assert.assertEquals(429, e.getCode());
+            }
+        }
+
+        Assert.assertEquals(18, limiter.getLimit(config, ENDPOINT).getLimit());
+    }
+
+    @Test
+    public void testLimitsPerConfigAndEndpoint() throws Exception {
+        ConcurrencyLimiter limiter = createLimiter(20);
+        Config config = createConfig("key");
+        try {
+            limiter.execute(createRequest(config), r -> {
+                throw new HTTPClientException(429, "HTTP Exception");
+            });
+        } catch (HTTPClientException e) {
+            Assert.assertEquals(429, e.getCode());
+        }
+
+        Assert.assertEquals(18, limiter.getLimit(config, ENDPOINT).getLimit());
+        Assert.assertEquals(20, limiter.getLimit(config, "/paymentMethods").getLimit());
+        Assert.assertEquals(20, limiter.getLimit(createConfig("other"), ENDPOINT).getLimit());
+    }
+
+    @Test
+    public void testQueuesWithBoundedWait() throws Exception {
+        ConcurrencyLimiter limiter = createLimiter(1);
+        limiter.setMaxWaitMillis(50);
+        Config config = createConfig("key");
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> first = executor.submit(() -> limiter.execute(createRequest(config), r -> {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    throw new InterruptedIOException();
+                }
+                return ClientResponse.of("first");
+            }).getBody());
+            Assert.assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            try {
+                limiter.execute(createRequest(config), r -> ClientResponse.of("second"));
+                Assert.fail("Expected ConcurrencyLimitExceededException");
+            } catch (ConcurrencyLimitExceededException e) {
+                Assert.assertEquals(1, e.getLimit());
+                Assert.assertEquals(0, limiter.getLimit(config, ENDPOINT).getQueued());
+            }
+
+            limiter.setMaxWaitMillis(5000);
+            executor.submit(() -> {
+                Thread.sleep(50);
+                release.countDown();
+                return null;
+            });
+            Assert.assertEquals("second", limiter.execute(createRequest(config), r -> ClientResponse.of("second")).getBody());
+            Assert.assertEquals("first", first.get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testLimitsAsInterceptor() throws Exception {
+        ConcurrencyLimiter limiter = createLimiter(20);
+        Config config = createConfig("key");
+        ClientRequest request = new ClientRequest("https://management-test.adyen.com/v1/merchants/M1", ApiConstants.HttpMethod.GET, config, true, null);
+
+        Assert.assertEquals("{}", InterceptorChain.proceed(Collections.singletonList(limiter), request, r -> {
+            Assert.assertEquals(1, limiter.getLimit(config, "https://management-test.adyen.com/v1/merchants/M1").getInFlight());
+            return ClientResponse.of("{}");
+        }).getBody());
+
+        request.setEndpointTemplate("https://management-test.adyen.com/v1/merchants/{merchantId}");
+        InterceptorChain.proceed(Collections.singletonList(limiter), request, r -> {
+            Assert.assertEquals(1, limiter.getLimit(config, "https://management-test.adyen.com/v1/merchants/{merchantId}").getInFlight());
+            return ClientResponse.of("{}");
+        });
+    }
+
+    private static ConcurrencyLimiter createLimiter(int initialLimit) {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter();
+        limiter.setInitialLimit(initialLimit);
+        limiter.setLatencyTolerance(0);
+        return limiter;
+    }
+
+    private static Config createConfig(String apiKey) {
+        Config config = new Config();
+        config.setApiKey(apiKey);
+        return config;
+    }
+
+    private static ClientRequest createRequest(Config config) {
+        ClientRequest request = new ClientRequest("https://checkout-test.adyen.com/v69" + ENDPOINT, ApiConstants.HttpMethod.POST, config, true, null);
+        request.setEndpointTemplate(ENDPOINT);
+        return request;
+    }
+}
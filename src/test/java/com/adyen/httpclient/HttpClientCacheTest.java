@@ -0,0 +1,138 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.httpclient;
+
+import com.adyen.Config;
+import com.adyen.enums.Environment;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.io.ModalCloseable;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.security.cert.CertificateException;
+
+public class HttpClientCacheTest {
+
+    @Test
+    public void testClientIsReused() throws CertificateException, HTTPClientException {
+        HttpClientCache<FakeClient> cache = new HttpClientCache<>(config -> new FakeClient());
+        Config config = createTerminalConfig();
+
+        try (HttpClientCache.Entry<FakeClient> first = cache.acquire(config); HttpClientCache.Entry<FakeClient> second = cache.acquire(config)) {
+            Assert.assertSame(first.client(), second.client());
+        }
+    }
+
+    @Test
+    public void testReplacedClientIsClosedOnceReleased() throws CertificateException, HTTPClientException {
+        HttpClientCache<FakeClient> cache = new HttpClientCache<>(config -> new FakeClient());
+        Config config = createTerminalConfig();
+        HttpClientCache.Entry<FakeClient> first = cache.acquire(config);
+
+        config.setEnvironment(Environment.LIVE);
+        HttpClientCache.Entry<FakeClient> second = cache.acquire(config);
+
+        Assert.assertNotSame(first.client(), second.client());
+        // the in-flight request still uses the replaced client
+        Assert.assertNull(first.client().closed);
+        first.close();
+        Assert.assertEquals(CloseMode.GRACEFUL, first.client().closed);
+
+        second.close();
+        Assert.assertNull(second.client().closed);
+        cache.close();
+        Assert.assertEquals(CloseMode.GRACEFUL, second.client().closed);
+    }
+
+    @Test
+    public void testIdleReplacedClientIsClosedImmediately() throws CertificateException, HTTPClientException {
+        HttpClientCache<FakeClient> cache = new HttpClientCache<>(config -> new FakeClient());
+        Config config = createTerminalConfig();
+        FakeClient first;
+        try (HttpClientCache.Entry<FakeClient> lease = cache.acquire(config)) {
+            first = lease.client();
+        }
+
+        config.setEnvironment(Environment.LIVE);
+        cache.acquire(config).close();
+
+        Assert.assertEquals(CloseMode.GRACEFUL, first.closed);
+    }
+
+    @Test
+    public void testClientIsRebuiltWhenPoolSettingsChange() throws CertificateException, HTTPClientException {
+        HttpClientCache<FakeClient> cache = new HttpClientCache<>(config -> new FakeClient());
+        Config config = createTerminalConfig();
+        FakeClient first;
+        try (HttpClientCache.Entry<FakeClient> lease = cache.acquire(config)) {
+            first = lease.client();
+        }
+
+        config.setMaxConnectionsPerRoute(config.getMaxConnectionsPerRoute() + 1);
+        try (HttpClientCache.Entry<FakeClient> lease = cache.acquire(config)) {
+            Assert.assertNotSame(first, lease.client());
+        }
+        Assert.assertEquals(CloseMode.GRACEFUL, first.closed);
+    }
+
+    @Test
+    public void testReleaseClosesClient() throws CertificateException, HTTPClientException {
+        HttpClientCache<FakeClient> cache = new HttpClientCache<>(config -> new FakeClient());
+        Config config = createTerminalConfig();
+        FakeClient first;
+        try (HttpClientCache.Entry<FakeClient> lease = cache.acquire(config)) {
+            first = lease.client();
+        }
+
+        cache.release(config);
+
+        Assert.assertEquals(CloseMode.GRACEFUL, first.closed);
+        try (HttpClientCache.Entry<FakeClient> lease = cache.acquire(config)) {
+            Assert.assertNotSame(first, lease.client());
+        }
+    }
+
+    @Test
+    public void testTerminalCertificateSSLContext() throws CertificateException, HTTPClientException {
+        Assert.assertNotNull(SSLContextFactory.createTerminalCertificateSSLContext(createTerminalConfig()));
+    }
+
+    private Config createTerminalConfig() throws CertificateException {
+        Config config = new Config();
+        config.setEnvironment(Environment.TEST);
+        config.setTerminalCertificate(getClass().getClassLoader().getResourceAsStream("adyen-terminalfleet-test.pem"));
+        return config;
+    }
+
+    private static final class FakeClient implements ModalCloseable {
+        private CloseMode closed;
+
+        @Override
+        public void close(CloseMode closeMode) {
+            closed = closeMode;
+        }
+
+        @Override
+        public void close() {
+            closed = CloseMode.GRACEFUL;
+        }
+    }
+}
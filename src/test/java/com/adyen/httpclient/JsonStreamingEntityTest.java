@@ -0,0 +1,70 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.httpclient;
+
+import com.adyen.model.checkout.Amount;
+import com.adyen.model.checkout.JSON;
+import com.adyen.model.checkout.PaymentRequest;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+public class JsonStreamingEntityTest {
+
+    @Test
+    public void testKnownLengthEntity() throws Exception {
+        PaymentRequest paymentRequest = createPaymentRequest();
+        JsonStreamingEntity entity = new JsonStreamingEntity(JSON.getGson(), paymentRequest, false);
+        byte[] expected = paymentRequest.toJson().getBytes(StandardCharsets.UTF_8);
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        entity.writeTo(outputStream);
+
+        Assert.assertFalse(entity.isChunked());
+        Assert.assertEquals(expected.length, entity.getContentLength());
+        Assert.assertArrayEquals(expected, outputStream.toByteArray());
+    }
+
+    @Test
+    public void testChunkedEntity() throws Exception {
+        PaymentRequest paymentRequest = createPaymentRequest();
+        JsonStreamingEntity entity = new JsonStreamingEntity(JSON.getGson(), paymentRequest, true);
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        entity.writeTo(outputStream);
+
+        Assert.assertTrue(entity.isChunked());
+        Assert.assertEquals(-1, entity.getContentLength());
+        Assert.assertEquals(paymentRequest.toJson(), outputStream.toString(StandardCharsets.UTF_8.name()));
+        Assert.assertEquals(paymentRequest.toJson(), EntityUtils.toString(entity, StandardCharsets.UTF_8));
+    }
+
+    private PaymentRequest createPaymentRequest() {
+        return new PaymentRequest()
+                .amount(new Amount().currency("EUR").value(1000L))
+                .merchantAccount("myMerchantAccount")
+                .reference("référence <1>")
+                .returnUrl("https://your-company.com/checkout?shopperOrder=12xy..");
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.httpclient;
+
+import com.adyen.Client;
+import com.adyen.Config;
+import org.apache.hc.client5.http.classic.methods.HttpPost;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class RequestHeadersTest {
+
+    @Test
+    public void testApiKeyHeaders() throws Exception {
+        Config config = new Config();
+        config.setApiKey("apiKey");
+        config.setApplicationName("app");
+        HttpPost httpPost = new HttpPost("https://checkout-test.adyen.com/v69/payments");
+
+        new RequestHeaders.Cache().get(config).apply(httpPost, true);
+
+        Assert.assertEquals("apiKey", httpPost.getFirstHeader("x-api-key").getValue());
+        Assert.assertNull(httpPost.getFirstHeader("Authorization"));
+        Assert.assertEquals("application/json", httpPost.getFirstHeader("Content-Type").getValue());
+        Assert.assertEquals("UTF-8", httpPost.getFirstHeader("Accept-Charset").getValue());
+        Assert.assertEquals("app " + Client.LIB_NAME + "/" + Client.LIB_VERSION, httpPost.getFirstHeader("User-Agent").getValue());
+    }
+
+    @Test
+    public void testBasicAuthenticationHeader() throws Exception {
+        Config config = new Config();
+        config.setUsername("ws@Company.Test");
+        config.setPassword("pässword");
+        HttpPost httpPost = new HttpPost("https://pal-test.adyen.com/pal/servlet/Payment/v68/authorise");
+
+        new RequestHeaders.Cache().get(config).apply(httpPost, false);
+
+        Assert.assertEquals("Basic d3NAQ29tcGFueS5UZXN0OnDDpHNzd29yZA==", httpPost.getFirstHeader("Authorization").getValue());
+        Assert.assertNull(httpPost.getFirstHeader("x-api-key"));
+    }
+
+    @Test
+    public void testCachedUntilSettingsChange() {
+        Config config = new Config();
+        config.setApiKey("apiKey");
+        RequestHeaders.Cache cache = new RequestHeaders.Cache();
+
+        RequestHeaders headers = cache.get(config);
+        Assert.assertSame(headers, cache.get(config));
+
+        config.setApiKey("otherApiKey");
+        RequestHeaders changed = cache.get(config);
+        Assert.assertNotSame(headers, changed);
+        Assert.assertTrue(changed.matches(config));
+
+        config.setApplicationName("app");
+        Assert.assertFalse(changed.matches(config));
+    }
+}
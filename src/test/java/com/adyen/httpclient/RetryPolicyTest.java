@@ -0,0 +1,161 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.httpclient;
+
+import com.adyen.Config;
+import com.adyen.constants.ApiConstants;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class RetryPolicyTest {
+
+    @Test
+    public void testRetriesWithGeneratedIdempotencyKey() throws Exception {
+        RetryPolicy retryPolicy = createRetryPolicy();
+        ClientRequest request = new ClientRequest("https://checkout-test.adyen.com/v69/payments", ApiConstants.HttpMethod.POST, new Config(), true, null);
+        List<String> idempotencyKeys = new ArrayList<>();
+
+        String response = retryPolicy.execute(request, r -> {
+            idempotencyKeys.add(r.toRequestOptions().getIdempotencyKey());
+            if (idempotencyKeys.size() < 3) {
+                throw new HTTPClientException(503, "HTTP Exception");
+            }
+            return ClientResponse.of("{}");
+        }).getBody();
+
+        Assert.assertEquals("{}", response);
+        Assert.assertEquals(3, idempotencyKeys.size());
+        Assert.assertNotNull(idempotencyKeys.get(0));
+        Assert.assertEquals(1, idempotencyKeys.stream().distinct().count());
+    }
+
+    @Test
+    public void testDoesNotRetryClientErrors() {
+        RetryPolicy retryPolicy = createRetryPolicy();
+        ClientRequest request = new ClientRequest("https://checkout-test.adyen.com/v69/payments", ApiConstants.HttpMethod.POST, new Config(), true, null);
+        int[] attempts = {0};
+
+        try {
+            retryPolicy.execute(request, r -> {
+                attempts[0]++;
+                throw new HTTPClientException(422, "HTTP Exception");
+            });
+            Assert.fail("Expected HTTPClientException");
+        } catch (HTTPClientException | IOException e) {
+            Assert.assertEquals(1, attempts[0]);
+        }
+    }
+
+    @Test
+    public void testDoesNotRetryUnsafeRequestsWithoutIdempotencyKey() {
+        RetryPolicy retryPolicy = createRetryPolicy();
+        retryPolicy.setGenerateIdempotencyKey(false);
+        ClientRequest request = new ClientRequest("https://checkout-test.adyen.com/v69/payments", ApiConstants.HttpMethod.POST, new Config(), true, null);
+        int[] attempts = {0};
+
+        try {
+            retryPolicy.execute(request, r -> {
+                attempts[0]++;
+                throw new SocketTimeoutException("Read timed out");
+            });
+            Assert.fail("Expected SocketTimeoutException");
+        } catch (HTTPClientException | IOException e) {
+            Assert.assertEquals(1, attempts[0]);
+        }
+    }
+
+    @Test
+    public void testRetriesConnectFailuresUntilMaxAttempts() {
+        RetryPolicy retryPolicy = createRetryPolicy();
+        retryPolicy.setGenerateIdempotencyKey(false);
+        ClientRequest request = new ClientRequest("https://checkout-test.adyen.com/v69/payments", ApiConstants.HttpMethod.POST, new Config(), true, null);
+        int[] attempts = {0};
+
+        try {
+            retryPolicy.execute(request, r -> {
+                attempts[0]++;
+                throw new ConnectException("Connection refused");
+            });
+            Assert.fail("Expected ConnectException");
+        } catch (HTTPClientException | IOException e) {
+            Assert.assertTrue(e instanceof ConnectException);
+            Assert.assertEquals(3, attempts[0]);
+        }
+    }
+
+    @Test
+    public void testRetryAfterBeyondDeadline() {
+        RetryPolicy retryPolicy = createRetryPolicy();
+        retryPolicy.setDeadlineMillis(1000);
+        retryPolicy.setMaxBackoffMillis(10000);
+        ClientRequest request = new ClientRequest("https://management-test.adyen.com/v1/merchants", ApiConstants.HttpMethod.GET, new Config(), true, null);
+        int[] attempts = {0};
+
+        try {
+            retryPolicy.execute(request, r -> {
+                attempts[0]++;
+                throw new HTTPClientException(429, "HTTP Exception", Collections.singletonMap("retry-after", Collections.singletonList("5")), null);
+            });
+            Assert.fail("Expected HTTPClientException");
+        } catch (HTTPClientException | IOException e) {
+            Assert.assertEquals(1, attempts[0]);
+        }
+    }
+
+    @Test
+    public void testRetryAfterBeyondMaxBackoffWithoutDeadline() {
+        RetryPolicy retryPolicy = createRetryPolicy();
+        retryPolicy.setDeadlineMillis(0);
+        ClientRequest request = new ClientRequest("https://management-test.adyen.com/v1/merchants", ApiConstants.HttpMethod.GET, new Config(), true, null);
+        int[] attempts = {0};
+
+        try {
+            retryPolicy.execute(request, r -> {
+                attempts[0]++;
+                throw new HTTPClientException(429, "HTTP Exception", Collections.singletonMap("Retry-After", Collections.singletonList("86400")), null);
+            });
+            Assert.fail("Expected HTTPClientException");
+        } catch (HTTPClientException | IOException e) {
+            Assert.assertEquals(1, attempts[0]);
+        }
+    }
+
+    @Test
+    public void testParseRetryAfter() {
+        Assert.assertEquals(120000, RetryPolicy.parseRetryAfterMillis("120"));
+        Assert.assertEquals(0, RetryPolicy.parseRetryAfterMillis("Wed, 21 Oct 2015 07:28:00 GMT"));
+        Assert.assertEquals(0, RetryPolicy.parseRetryAfterMillis("invalid"));
+    }
+
+    private RetryPolicy createRetryPolicy() {
+        RetryPolicy retryPolicy = new RetryPolicy();
+        retryPolicy.setInitialBackoffMillis(1);
+        retryPolicy.setMaxBackoffMillis(2);
+        return retryPolicy;
+    }
+}
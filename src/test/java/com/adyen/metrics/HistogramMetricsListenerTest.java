@@ -0,0 +1,102 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.metrics;
+
+import com.adyen.BaseTest;
+import com.adyen.Client;
+import com.adyen.Config;
+import com.adyen.constants.ApiConstants;
+import com.adyen.httpclient.AdyenHttpClient;
+import com.adyen.model.checkout.PaymentMethodsRequest;
+import com.adyen.service.Checkout;
+import com.adyen.service.exception.ApiException;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+
+public class HistogramMetricsListenerTest extends BaseTest {
+    private static final String PAYMENT_METHODS_ENDPOINT = Client.CHECKOUT_ENDPOINT_TEST + "/" + Client.CHECKOUT_API_VERSION + "/paymentMethods";
+
+    @Test
+    public void testServiceMetrics() throws Exception {
+        Client client = createMockClientFromFile("mocks/checkout/paymentMethodsResponse.json");
+        HistogramMetricsListener metricsListener = new HistogramMetricsListener();
+        client.getConfig().setMetricsListener(metricsListener);
+
+        new Checkout(client).paymentMethods(new PaymentMethodsRequest().merchantAccount("myMerchantAccount"));
+
+        Assert.assertEquals(1, metricsListener.getHistogram(PAYMENT_METHODS_ENDPOINT, Phase.SERIALIZATION).getCount());
+        Assert.assertEquals(1, metricsListener.getHistogram(PAYMENT_METHODS_ENDPOINT, Phase.DESERIALIZATION).getCount());
+        Assert.assertEquals(1, metricsListener.getHistogram(PAYMENT_METHODS_ENDPOINT, Phase.TOTAL).getCount());
+    }
+
+    @Test
+    public void testApiErrorMetrics() throws Exception {
+        Client client = createMockClientForErrors(422, "mocks/payout/payout-error-422.json");
+        HistogramMetricsListener metricsListener = new HistogramMetricsListener();
+        client.getConfig().setMetricsListener(metricsListener);
+
+        try {
+            new Checkout(client).paymentMethods(new PaymentMethodsRequest());
+            Assert.fail("Expected ApiException");
+        } catch (ApiException e) {
+            Assert.assertEquals(1, metricsListener.getApiErrorCount(PAYMENT_METHODS_ENDPOINT, "130"));
+            Assert.assertEquals(1, metricsListener.getHistogram(PAYMENT_METHODS_ENDPOINT, Phase.TOTAL).getCount());
+        }
+    }
+
+    @Test
+    public void testTransportMetrics() throws Exception {
+        byte[] body = "{\"status\":\"ok\"}".getBytes(StandardCharsets.UTF_8);
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", exchange -> {
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        try (AdyenHttpClient httpClient = new AdyenHttpClient()) {
+            String endpoint = "http://localhost:" + server.getAddress().getPort() + "/test";
+            HistogramMetricsListener metricsListener = new HistogramMetricsListener();
+            Config config = new Config();
+            config.setApiKey("apiKey");
+            config.setMetricsListener(metricsListener);
+
+            httpClient.request(endpoint, "{}", config, true, null, ApiConstants.HttpMethod.POST, null);
+            httpClient.request(endpoint, "{}", config, true, null, ApiConstants.HttpMethod.POST, null);
+
+            Assert.assertEquals(2, metricsListener.getHttpStatusCount(endpoint, 200));
+            Assert.assertEquals(2, metricsListener.getHistogram(endpoint, Phase.CONNECTION_LEASE).getCount());
+            Assert.assertEquals(1, metricsListener.getHistogram(endpoint, Phase.CONNECT).getCount());
+            Assert.assertEquals(0, metricsListener.getHistogram(endpoint, Phase.TLS_HANDSHAKE).getCount());
+            Assert.assertEquals(2, metricsListener.getHistogram(endpoint, Phase.TIME_TO_FIRST_BYTE).getCount());
+            Assert.assertEquals(2, metricsListener.getHistogram(endpoint, Phase.BODY_READ).getCount());
+        } finally {
+            server.stop(0);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.metrics;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class HistogramTest {
+
+    @Test
+    public void testSmallValuesAreExact() {
+        Histogram histogram = new Histogram();
+        for (long value = 1; value <= 100; value++) {
+            histogram.record(value);
+        }
+
+        Assert.assertEquals(100, histogram.getCount());
+        Assert.assertEquals(50, histogram.getValueAtPercentile(50));
+        Assert.assertEquals(99, histogram.getValueAtPercentile(99));
+        Assert.assertEquals(100, histogram.getValueAtPercentile(100));
+        Assert.assertEquals(50.5, histogram.getMean(), 0.0001);
+    }
+
+    @Test
+    public void testRelativeError() {
+        for (long value = 128; value < Histogram.MAX_VALUE; value = value * 3 + 7) {
+            long highest = Histogram.highestEquivalentValue(Histogram.indexOf(value));
+            Assert.assertTrue(highest >= value);
+            Assert.assertTrue("value " + value, (highest - value) / (double) value < 1.0 / 64);
+        }
+    }
+
+    @Test
+    public void testPercentiles() {
+        Histogram histogram = new Histogram();
+        for (long i = 1; i <= 1000; i++) {
+            histogram.record(i * 1_000_000L);
+        }
+
+        Assert.assertEquals(500_000_000L, histogram.getValueAtPercentile(50), 500_000_000L / 64);
+        Assert.assertEquals(990_000_000L, histogram.getValueAtPercentile(99), 990_000_000L / 64);
+        Assert.assertEquals(1_000_000_000L, histogram.getMax());
+        Assert.assertEquals(1_000_000_000L, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    public void testOutOfRangeValues() {
+        Histogram histogram = new Histogram();
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE);
+
+        Assert.assertEquals(0, histogram.getValueAtPercentile(50));
+        Assert.assertEquals(Histogram.MAX_VALUE, histogram.getMax());
+
+        histogram.reset();
+        Assert.assertEquals(0, histogram.getCount());
+    }
+}
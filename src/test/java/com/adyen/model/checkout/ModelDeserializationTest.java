@@ -0,0 +1,147 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.model.checkout;
+
+import com.google.gson.Gson;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class ModelDeserializationTest {
+
+    @Test
+    public void testNestedModelsAndContainers() throws Exception {
+        String json = "{\"amount\":{\"currency\":\"EUR\",\"value\":1000},\"merchantAccount\":\"myMerchantAccount\",\"reference\":\"ref\","
+                + "\"returnUrl\":\"https://your-company.com\",\"paymentMethod\":{\"type\":\"ideal\",\"issuer\":\"1121\"},"
+                + "\"metadata\":{\"key\":\"value\"},\"lineItems\":[{\"id\":\"1\",\"quantity\":2},{\"id\":\"2\"}],"
+                + "\"shopperInteraction\":\"Ecommerce\",\"shopperEmail\":null}";
+
+        PaymentRequest paymentRequest = PaymentRequest.fromJson(json);
+
+        assertEquals(Long.valueOf(1000), paymentRequest.getAmount().getValue());
+        assertEquals("value", paymentRequest.getMetadata().get("key"));
+        assertEquals(Long.valueOf(2), paymentRequest.getLineItems().get(0).getQuantity());
+        assertEquals(PaymentRequest.ShopperInteractionEnum.ECOMMERCE, paymentRequest.getShopperInteraction());
+        assertNull(paymentRequest.getShopperEmail());
+        assertEquals(paymentRequest.toJson(), PaymentRequest.fromJson(paymentRequest.toJson()).toJson());
+    }
+
+    @Test
+    public void testUnknownFieldIsRejected() throws Exception {
+        try {
+            PaymentMethodsResponse.fromJson("{\"paymentMethods\":[{\"name\":\"Credit Card\",\"type\":\"scheme\",\"unknown\":true}]}");
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("`unknown`"));
+            assertTrue(e.getMessage(), e.getMessage().endsWith("$.paymentMethods[0].unknown"));
+        }
+    }
+
+    @Test
+    public void testMissingRequiredFieldIsRejected() throws Exception {
+        try {
+            Amount.fromJson("{\"currency\":\"EUR\"}");
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("`value`"));
+        }
+    }
+
+    @Test
+    public void testInvalidEnumValueIsRejected() throws Exception {
+        for (String value : Arrays.asList("\"Unknown\"", "{}")) {
+            try {
+                PaymentResponse.fromJson("{\"resultCode\":" + value + "}");
+                fail("Expected exception for " + value);
+            } catch (RuntimeException e) {
+                // expected
+            }
+        }
+    }
+
+    @Test
+    public void testSerializationSkipsNullFields() throws Exception {
+        Amount amount = new Amount().currency("EUR").value(1000L);
+        assertEquals("{\"currency\":\"EUR\",\"value\":1000}", amount.toJson());
+        assertEquals("{\"value\":1000}", new Amount().value(1000L).toJson());
+
+        PaymentResponse paymentResponse = new PaymentResponse().resultCode(PaymentResponse.ResultCodeEnum.AUTHORISED).amount(amount);
+        assertEquals("{\"amount\":{\"currency\":\"EUR\",\"value\":1000},\"resultCode\":\"Authorised\"}", paymentResponse.toJson());
+    }
+
+    @Test
+    public void testEnumFromValue() {
+        for (PaymentResponse.ResultCodeEnum resultCode : PaymentResponse.ResultCodeEnum.values()) {
+            assertSame(resultCode, PaymentResponse.ResultCodeEnum.fromValue(resultCode.getValue()));
+        }
+        for (String value : Arrays.asList("authorised", "Unknown", null)) {
+            try {
+                PaymentResponse.ResultCodeEnum.fromValue(value);
+                fail("Expected IllegalArgumentException for " + value);
+            } catch (IllegalArgumentException e) {
+                assertEquals("Unexpected value '" + value + "'", e.getMessage());
+            }
+        }
+    }
+
+    @Test
+    public void testPaymentMethodIsSelectedByType() throws Exception {
+        PaymentDonationRequestPaymentMethod ideal = PaymentDonationRequestPaymentMethod.fromJson("{\"type\":\"ideal\",\"issuer\":\"1121\"}");
+        assertEquals("1121", ideal.getIdealDetails().getIssuer());
+
+        PaymentDonationRequestPaymentMethod card = PaymentDonationRequestPaymentMethod.fromJson("{\"type\":\"scheme\",\"encryptedCardNumber\":\"number\","
+                + "\"encryptedExpiryMonth\":\"month\",\"encryptedExpiryYear\":\"year\",\"encryptedSecurityCode\":\"cvc\"}");
+        assertEquals(CardDetails.TypeEnum.SCHEME, card.getCardDetails().getType());
+        assertEquals("number", card.getCardDetails().getEncryptedCardNumber());
+
+        try {
+            PaymentDonationRequestPaymentMethod.fromJson("{\"type\":\"unknown\",\"issuer\":\"1121\"}");
+            fail("Expected exception for an unknown type");
+        } catch (Exception e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("0 classes match result"));
+        }
+    }
+
+    @Test
+    public void testDefaultGsonIsSharedAndRestorable() {
+        Gson gson = JSON.getGson();
+        assertNotNull(gson);
+        assertSame(gson, JSON.getGson());
+
+        Gson custom = new Gson();
+        JSON.setGson(custom);
+        try {
+            assertSame(custom, JSON.getGson());
+            new JSON();
+            assertSame(custom, JSON.getGson());
+        } finally {
+            JSON.setGson(null);
+        }
+        assertSame(gson, JSON.getGson());
+    }
+}
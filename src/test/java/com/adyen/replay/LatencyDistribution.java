@@ -0,0 +1,56 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.replay;
+
+import java.util.Random;
+
+/**
+ * Distribution of the latency injected by a {@link ReplayClient} or {@link StubServer}
+ */
+@FunctionalInterface
+public interface LatencyDistribution {
+    LatencyDistribution NONE = random -> 0;
+
+    /**
+     * @param random source of randomness, seeded for reproducible runs
+     * @return next latency in milliseconds
+     */
+    long nextMillis(Random random);
+
+    static LatencyDistribution fixed(long millis) {
+        return random -> millis;
+    }
+
+    static LatencyDistribution uniform(long minMillis, long maxMillis) {
+        return random -> minMillis + (long) (random.nextDouble() * (maxMillis - minMillis));
+    }
+
+    /**
+     * Long tailed latency, as usually observed on network calls
+     *
+     * @param medianMillis median latency
+     * @param sigma standard deviation of the logarithm of the latency, e.g. 0.5
+     * @return log-normal distribution
+     */
+    static LatencyDistribution logNormal(double medianMillis, double sigma) {
+        return random -> Math.round(medianMillis * Math.exp(sigma * random.nextGaussian()));
+    }
+}
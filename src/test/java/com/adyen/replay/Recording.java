@@ -0,0 +1,164 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.replay;
+
+import com.adyen.constants.ApiConstants;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonSyntaxException;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Request and response pair recorded by a {@link RecordingClient} and replayed by a {@link ReplayClient}
+ */
+public class Recording {
+    private String endpoint;
+    private ApiConstants.HttpMethod method;
+    private Map<String, String> queryParams;
+    private String requestBody;
+    private int status = 200;
+    private Map<String, List<String>> responseHeaders;
+    private String responseBody;
+
+    private transient JsonElement requestJson;
+
+    public Recording() {
+        // do nothing
+    }
+
+    public Recording(String endpoint, ApiConstants.HttpMethod method, String requestBody, int status, String responseBody) {
+        this.endpoint = endpoint;
+        this.method = method;
+        this.requestBody = requestBody;
+        this.status = status;
+        this.responseBody = responseBody;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public void setEndpoint(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    public ApiConstants.HttpMethod getMethod() {
+        return method;
+    }
+
+    public void setMethod(ApiConstants.HttpMethod method) {
+        this.method = method;
+    }
+
+    public Map<String, String> getQueryParams() {
+        return queryParams;
+    }
+
+    public void setQueryParams(Map<String, String> queryParams) {
+        this.queryParams = queryParams;
+    }
+
+    public String getRequestBody() {
+        return requestBody;
+    }
+
+    /**
+     * @param requestBody JSON body the request must be equal to, null to match any body
+     */
+    public void setRequestBody(String requestBody) {
+        this.requestBody = requestBody;
+        this.requestJson = null;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public void setStatus(int status) {
+        this.status = status;
+    }
+
+    public Map<String, List<String>> getResponseHeaders() {
+        return responseHeaders;
+    }
+
+    public void setResponseHeaders(Map<String, List<String>> responseHeaders) {
+        this.responseHeaders = responseHeaders;
+    }
+
+    public String getResponseBody() {
+        return responseBody;
+    }
+
+    public void setResponseBody(String responseBody) {
+        this.responseBody = responseBody;
+    }
+
+    /**
+     * Matches on endpoint, method, query parameters and body. Bodies are compared as JSON, ignoring formatting and
+     * member order; bodies that are not JSON are compared as is.
+     *
+     * @param endpoint endpoint of the request
+     * @param method method of the request, null for POST
+     * @param queryParams query parameters of the request
+     * @param body body of the request
+     * @return whether this recording answers the request
+     */
+    public boolean matches(String endpoint, ApiConstants.HttpMethod method, Map<String, String> queryParams, String body) {
+        if (!Objects.equals(this.endpoint, endpoint) || orPost(this.method) != orPost(method)
+                || !orEmpty(this.queryParams).equals(orEmpty(queryParams))) {
+            return false;
+        }
+        if (requestBody == null || requestBody.equals(body)) {
+            return true;
+        }
+        if (body == null) {
+            return false;
+        }
+        try {
+            JsonElement expected = requestJson;
+            if (expected == null) {
+                expected = JsonParser.parseString(requestBody);
+                requestJson = expected;
+            }
+            return expected.equals(JsonParser.parseString(body));
+        } catch (JsonSyntaxException e) {
+            return false;
+        }
+    }
+
+    private static ApiConstants.HttpMethod orPost(ApiConstants.HttpMethod method) {
+        return method == null ? ApiConstants.HttpMethod.POST : method;
+    }
+
+    private static Map<String, String> orEmpty(Map<String, String> params) {
+        return params == null ? Collections.emptyMap() : params;
+    }
+
+    @Override
+    public String toString() {
+        return "Recording [" + orPost(method) + " " + endpoint + ", status=" + status + "]";
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.replay;
+
+import com.adyen.Config;
+import com.adyen.constants.ApiConstants;
+import com.adyen.httpclient.ClientInterface;
+import com.adyen.httpclient.HTTPClientException;
+import com.adyen.model.RequestOptions;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Records the requests sent through another {@link ClientInterface} with their responses, including HTTP errors,
+ * so that they can be replayed offline with a {@link ReplayClient}.
+ */
+public class RecordingClient implements ClientInterface {
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().disableHtmlEscaping().create();
+
+    private final ClientInterface delegate;
+    private final List<Recording> recordings = new ArrayList<>();
+
+    public RecordingClient(ClientInterface delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public String request(String endpoint, String requestBody, Config config) throws IOException, HTTPClientException {
+        return request(endpoint, requestBody, config, false);
+    }
+
+    @Override
+    public String request(String endpoint, String requestBody, Config config, boolean isApiKeyRequired) throws IOException, HTTPClientException {
+        return request(endpoint, requestBody, config, isApiKeyRequired, null);
+    }
+
+    @Override
+    public String request(String endpoint, String requestBody, Config config, boolean isApiKeyRequired, RequestOptions requestOptions) throws IOException, HTTPClientException {
+        return request(endpoint, requestBody, config, isApiKeyRequired, requestOptions, ApiConstants.HttpMethod.POST);
+    }
+
+    @Override
+    public String request(String endpoint, String requestBody, Config config, boolean isApiKeyRequired, RequestOptions requestOptions, ApiConstants.HttpMethod httpMethod) throws IOException, HTTPClientException {
+        return request(endpoint, requestBody, config, isApiKeyRequired, requestOptions, httpMethod, null);
+    }
+
+    @Override
+    public String request(String endpoint, String requestBody, Config config, boolean isApiKeyRequired, RequestOptions requestOptions, ApiConstants.HttpMethod httpMethod, Map<String, String> params) throws IOException, HTTPClientException {
+        Recording recording = new Recording(endpoint, httpMethod, requestBody, 200, null);
+        if (params != null && !params.isEmpty()) {
+            recording.setQueryParams(new HashMap<>(params));
+        }
+        try {
+            String response = delegate.request(endpoint, requestBody, config, isApiKeyRequired, requestOptions, httpMethod, params);
+            recording.setResponseBody(response);
+            add(recording);
+            return response;
+        } catch (HTTPClientException e) {
+            if (e.getCode() > 0) {
+                recording.setStatus(e.getCode());
+                recording.setResponseBody(e.getResponseBody());
+                if (e.getResponseHeaders() != null) {
+                    recording.setResponseHeaders(new HashMap<>(e.getResponseHeaders()));
+                }
+                add(recording);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * @return snapshot of the recordings, in the order the responses were received
+     */
+    public List<Recording> getRecordings() {
+        synchronized (recordings) {
+            return new ArrayList<>(recordings);
+        }
+    }
+
+    /**
+     * Writes the recordings as a JSON array that {@link ReplayClient#load(java.io.Reader)} reads back
+     *
+     * @param writer writer
+     */
+    public void save(Writer writer) {
+        GSON.toJson(getRecordings(), writer);
+    }
+
+    @Override
+    public void close() throws IOException {
+        delegate.close();
+    }
+
+    private void add(Recording recording) {
+        synchronized (recordings) {
+            recordings.add(recording);
+        }
+    }
+}
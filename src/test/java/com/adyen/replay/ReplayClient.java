@@ -0,0 +1,138 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.replay;
+
+import com.adyen.Config;
+import com.adyen.constants.ApiConstants;
+import com.adyen.httpclient.ClientInterface;
+import com.adyen.httpclient.HTTPClientException;
+import com.adyen.model.RequestOptions;
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Answers requests from recorded request and response pairs instead of sending them, e.g. to load test payment
+ * flows offline. Set it with {@link com.adyen.Client#setHttpClient(ClientInterface)}; the services, interceptors,
+ * serialization and resilience policies run as they would against Adyen.
+ * <p>
+ * The first recording matching the endpoint, method, query parameters and body answers the request, after
+ * the latency drawn from the configured distribution. Responses with a non 2xx status are thrown as
+ * {@link HTTPClientException}, requests without a recording fail with status 404.
+ */
+public class ReplayClient implements ClientInterface {
+    private static final Gson GSON = new Gson();
+
+    private final List<Recording> recordings;
+    private volatile LatencyDistribution latency = LatencyDistribution.NONE;
+    private volatile Random random = new Random();
+
+    public ReplayClient(Collection<Recording> recordings) {
+        this.recordings = new ArrayList<>(recordings);
+    }
+
+    /**
+     * @param reader JSON array of recordings, as written by {@link RecordingClient#save(java.io.Writer)}
+     * @return client replaying the recordings
+     */
+    public static ReplayClient load(Reader reader) {
+        List<Recording> recordings = GSON.fromJson(reader, new TypeToken<List<Recording>>() {
+        }.getType());
+        return new ReplayClient(recordings == null ? new ArrayList<>() : recordings);
+    }
+
+    public LatencyDistribution getLatency() {
+        return latency;
+    }
+
+    public void setLatency(LatencyDistribution latency) {
+        this.latency = latency == null ? LatencyDistribution.NONE : latency;
+    }
+
+    /**
+     * @param seed seed of the injected latencies, for reproducible runs
+     */
+    public void setSeed(long seed) {
+        this.random = new Random(seed);
+    }
+
+    @Override
+    public String request(String endpoint, String requestBody, Config config) throws IOException, HTTPClientException {
+        return request(endpoint, requestBody, config, false);
+    }
+
+    @Override
+    public String request(String endpoint, String requestBody, Config config, boolean isApiKeyRequired) throws IOException, HTTPClientException {
+        return request(endpoint, requestBody, config, isApiKeyRequired, null);
+    }
+
+    @Override
+    public String request(String endpoint, String requestBody, Config config, boolean isApiKeyRequired, RequestOptions requestOptions) throws IOException, HTTPClientException {
+        return request(endpoint, requestBody, config, isApiKeyRequired, requestOptions, ApiConstants.HttpMethod.POST);
+    }
+
+    @Override
+    public String request(String endpoint, String requestBody, Config config, boolean isApiKeyRequired, RequestOptions requestOptions, ApiConstants.HttpMethod httpMethod) throws IOException, HTTPClientException {
+        return request(endpoint, requestBody, config, isApiKeyRequired, requestOptions, httpMethod, null);
+    }
+
+    @Override
+    public String request(String endpoint, String requestBody, Config config, boolean isApiKeyRequired, RequestOptions requestOptions, ApiConstants.HttpMethod httpMethod, Map<String, String> params) throws IOException, HTTPClientException {
+        Recording recording = find(endpoint, httpMethod, params, requestBody);
+        sleep(latency.nextMillis(random));
+        if (recording == null) {
+            throw new HTTPClientException(404, "No recording for " + (httpMethod == null ? ApiConstants.HttpMethod.POST : httpMethod) + " " + endpoint);
+        }
+        if (recording.getStatus() < 200 || recording.getStatus() >= 300) {
+            throw new HTTPClientException(recording.getStatus(), "HTTP Exception", recording.getResponseHeaders(), recording.getResponseBody());
+        }
+        return recording.getResponseBody();
+    }
+
+    private Recording find(String endpoint, ApiConstants.HttpMethod httpMethod, Map<String, String> params, String requestBody) {
+        for (Recording recording : recordings) {
+            if (recording.matches(endpoint, httpMethod, params, requestBody)) {
+                return recording;
+            }
+        }
+        return null;
+    }
+
+    static void sleep(long millis) throws InterruptedIOException {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while injecting latency");
+        }
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.replay;
+
+import com.adyen.Client;
+import com.adyen.constants.ApiConstants;
+import com.adyen.enums.Environment;
+import com.adyen.httpclient.ClientInterface;
+import com.adyen.httpclient.HTTPClientException;
+import com.adyen.model.checkout.PaymentMethodsRequest;
+import com.adyen.model.checkout.PaymentMethodsResponse;
+import com.adyen.service.Checkout;
+import com.adyen.service.exception.ApiException;
+import org.junit.Test;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Collections;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ReplayClientTest {
+    private static final String PAYMENT_METHODS_RESPONSE = "{\"paymentMethods\":[{\"name\":\"Credit Card\",\"type\":\"scheme\"}]}";
+
+    @Test
+    public void testRecordAndReplay() throws Exception {
+        ClientInterface httpClient = mock(ClientInterface.class);
+        when(httpClient.request(anyString(), anyString(), any(), anyBoolean(), any(), any(), any())).thenReturn(PAYMENT_METHODS_RESPONSE);
+        RecordingClient recordingClient = new RecordingClient(httpClient);
+        Client client = new Client("apiKey", Environment.TEST);
+        client.setHttpClient(recordingClient);
+        new Checkout(client).paymentMethods(new PaymentMethodsRequest().merchantAccount("myMerchantAccount"));
+
+        StringWriter writer = new StringWriter();
+        recordingClient.save(writer);
+        ReplayClient replayClient = ReplayClient.load(new StringReader(writer.toString()));
+        client.setHttpClient(replayClient);
+        PaymentMethodsResponse response = new Checkout(client).paymentMethods(new PaymentMethodsRequest().merchantAccount("myMerchantAccount"));
+
+        assertEquals(1, recordingClient.getRecordings().size());
+        assertEquals("scheme", response.getPaymentMethods().get(0).getType());
+    }
+
+    @Test
+    public void testBodyMatchedAsJson() throws Exception {
+        Recording recording = new Recording("https://test/payments", ApiConstants.HttpMethod.POST, "{\"a\":1,\"b\":\"x\"}", 200, "{}");
+        ReplayClient replayClient = new ReplayClient(Collections.singletonList(recording));
+
+        assertEquals("{}", replayClient.request("https://test/payments", "{ \"b\": \"x\", \"a\": 1 }", null));
+        try {
+            replayClient.request("https://test/payments", "{\"a\":2,\"b\":\"x\"}", null);
+            fail("Expected no recording");
+        } catch (HTTPClientException e) {
+            assertEquals(404, e.getCode());
+        }
+        try {
+            replayClient.request("https://test/payments", null, null, false, null, ApiConstants.HttpMethod.GET, null);
+            fail("Expected no recording");
+        } catch (HTTPClientException e) {
+            assertEquals(404, e.getCode());
+        }
+    }
+
+    @Test
+    public void testErrorStatusReplayed() throws Exception {
+        Recording recording = new Recording("https://test/payments", null, null, 422,
+                "{\"status\":422,\"errorCode\":\"14_030\",\"message\":\"Return URL is missing.\",\"errorType\":\"validation\"}");
+        Client client = new Client("apiKey", Environment.TEST);
+        client.getConfig().setCheckoutEndpoint("https://test");
+        client.setHttpClient(new ReplayClient(Collections.singletonList(recording)));
+        recording.setEndpoint(client.getConfig().getCheckoutEndpoint() + "/" + Client.CHECKOUT_API_VERSION + "/paymentMethods");
+
+        try {
+            new Checkout(client).paymentMethods(new PaymentMethodsRequest());
+            fail("Expected ApiException");
+        } catch (ApiException e) {
+            assertEquals(422, e.getStatusCode());
+            assertEquals("14_030", e.getError().getErrorCode());
+        }
+    }
+
+    @Test
+    public void testLatencyInjected() throws Exception {
+        ReplayClient replayClient = new ReplayClient(Collections.singletonList(new Recording("https://test", null, null, 200, "{}")));
+        replayClient.setLatency(LatencyDistribution.fixed(50));
+        long start = System.nanoTime();
+        replayClient.request("https://test", "{}", null);
+        assertTrue(System.nanoTime() - start >= 50_000_000L);
+
+        Random random = new Random(42);
+        LatencyDistribution uniform = LatencyDistribution.uniform(10, 20);
+        LatencyDistribution logNormal = LatencyDistribution.logNormal(100, 0.5);
+        for (int i = 0; i < 1000; i++) {
+            long millis = uniform.nextMillis(random);
+            assertTrue(millis >= 10 && millis < 20);
+            assertTrue(logNormal.nextMillis(random) >= 0);
+        }
+    }
+}
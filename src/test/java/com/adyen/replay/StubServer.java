@@ -0,0 +1,337 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.replay;
+
+import com.adyen.Config;
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.sun.net.httpserver.HttpsConfigurator;
+import com.sun.net.httpserver.HttpsParameters;
+import com.sun.net.httpserver.HttpsServer;
+
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLParameters;
+import javax.net.ssl.TrustManagerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Embeddable HTTP server answering Adyen API calls with canned JSON responses on the loopback interface, to load
+ * test the full HTTP stack, connection pool included, without reaching Adyen.
+ * <p>
+ * Routes are matched on method and path, the first matching route wins; a {@code *} path segment matches any
+ * single segment, e.g. {@code /checkout/v69/paymentLinks/*}. Unmatched requests get a 404.
+ * {@link #configure(Config)} points all the service endpoints of a configuration to the server.
+ * <p>
+ * Run the JVM with {@code -Dsun.net.httpserver.nodelay=true}: without TCP_NODELAY the JDK server holds the response
+ * body until the headers are acknowledged, which delayed acknowledgements turn into ~40ms per call.
+ */
+public class StubServer implements Closeable {
+    private static final Gson GSON = new Gson();
+    private static final String JSON_CONTENT_TYPE = "application/json; charset=UTF-8";
+    private static final int BACKLOG = 1024;
+
+    private final List<Route> routes = new CopyOnWriteArrayList<>();
+    private volatile LatencyDistribution latency = LatencyDistribution.NONE;
+    private HttpServer server;
+    private ExecutorService executor;
+
+    /**
+     * Answers requests matching method and path with a status and body
+     *
+     * @param method HTTP method, e.g. POST
+     * @param path path, may contain {@code *} segments
+     * @param status response status
+     * @param body response body
+     * @return this server
+     */
+    public StubServer stub(String method, String path, int status, String body) {
+        routes.add(new Route(method, path, status, body));
+        return this;
+    }
+
+    /**
+     * Answers requests matching method and path with a status and the content of a classpath resource
+     *
+     * @param method HTTP method, e.g. POST
+     * @param path path, may contain {@code *} segments
+     * @param status response status
+     * @param resource classpath resource, e.g. mocks/checkout/paymentResponse.json
+     * @return this server
+     * @throws IOException when the resource cannot be read
+     */
+    public StubServer stubResource(String method, String path, int status, String resource) throws IOException {
+        return stub(method, path, status, readResource(resource));
+    }
+
+    /**
+     * Adds the routes of a manifest, a JSON array of objects with {@code method}, {@code path}, {@code status}
+     * and {@code resource} members
+     *
+     * @param manifest classpath resource of the manifest, e.g. mocks/stub-server.json
+     * @return this server
+     * @throws IOException when the manifest or one of its resources cannot be read
+     */
+    public StubServer seed(String manifest) throws IOException {
+        List<ManifestEntry> entries;
+        try (Reader reader = new InputStreamReader(openResource(manifest), StandardCharsets.UTF_8)) {
+            entries = GSON.fromJson(reader, new TypeToken<List<ManifestEntry>>() {
+            }.getType());
+        }
+        for (ManifestEntry entry : entries) {
+            stubResource(entry.method, entry.path, entry.status == 0 ? 200 : entry.status, entry.resource);
+        }
+        return this;
+    }
+
+    public LatencyDistribution getLatency() {
+        return latency;
+    }
+
+    /**
+     * @param latency latency added before each response
+     */
+    public void setLatency(LatencyDistribution latency) {
+        this.latency = latency == null ? LatencyDistribution.NONE : latency;
+    }
+
+    /**
+     * Starts the server on an ephemeral loopback port
+     *
+     * @return this server
+     * @throws IOException when the server cannot bind
+     */
+    public StubServer start() throws IOException {
+        return start(null, false);
+    }
+
+    /**
+     * Starts the server on an ephemeral loopback port, over TLS when an SSL context is given
+     *
+     * @param sslContext SSL context of the server, null for plain HTTP
+     * @param needClientAuth whether clients must authenticate with a certificate trusted by the SSL context
+     * @return this server
+     * @throws IOException when the server cannot bind
+     */
+    public synchronized StubServer start(SSLContext sslContext, boolean needClientAuth) throws IOException {
+        if (server != null) {
+            return this;
+        }
+        InetSocketAddress address = new InetSocketAddress(InetAddress.getLoopbackAddress(), 0);
+        if (sslContext == null) {
+            server = HttpServer.create(address, BACKLOG);
+        } else {
+            HttpsServer httpsServer = HttpsServer.create(address, BACKLOG);
+            httpsServer.setHttpsConfigurator(new HttpsConfigurator(sslContext) {
+                @Override
+                public void configure(HttpsParameters params) {
+                    SSLParameters parameters = getSSLContext().getDefaultSSLParameters();
+                    parameters.setNeedClientAuth(needClientAuth);
+                    params.setSSLParameters(parameters);
+                }
+            });
+            server = httpsServer;
+        }
+        executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "adyen-stub-server");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+        server.start();
+        return this;
+    }
+
+    /**
+     * Creates an SSL context presenting the key of the key store and trusting its certificates, so that the same
+     * self-signed key store can be used by the server and, as client and trust key store, by the client
+     *
+     * @param keyStore key store
+     * @param password password of the key store and its key
+     * @return SSL context
+     * @throws GeneralSecurityException when the key store cannot be used
+     */
+    public static SSLContext createSSLContext(KeyStore keyStore, String password) throws GeneralSecurityException {
+        KeyManagerFactory keyManagerFactory = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+        keyManagerFactory.init(keyStore, password.toCharArray());
+        TrustManagerFactory trustManagerFactory = TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+        trustManagerFactory.init(keyStore);
+        SSLContext sslContext = SSLContext.getInstance("TLS");
+        sslContext.init(keyManagerFactory.getKeyManagers(), trustManagerFactory.getTrustManagers(), null);
+        return sslContext;
+    }
+
+    /**
+     * @return base URL of the started server, e.g. http://127.0.0.1:51234 or https://127.0.0.1:51234
+     */
+    public synchronized String getBaseUrl() {
+        if (server == null) {
+            throw new IllegalStateException("Stub server is not started");
+        }
+        InetSocketAddress address = server.getAddress();
+        return (server instanceof HttpsServer ? "https://" : "http://") + address.getAddress().getHostAddress() + ":" + address.getPort();
+    }
+
+    /**
+     * Points the endpoints of the configuration to the server. Paths keep the layout of the Adyen endpoints,
+     * e.g. {@code /checkout/v69/payments}, {@code /pal/servlet/Payment/v68/authorise} or {@code /v1/companies}.
+     *
+     * @param config configuration
+     * @return the configuration
+     */
+    public Config configure(Config config) {
+        String baseUrl = getBaseUrl();
+        config.setEndpoint(baseUrl);
+        config.setCheckoutEndpoint(baseUrl + "/checkout");
+        config.setMarketPayEndpoint(baseUrl + "/cal/services");
+        config.setHppEndpoint(baseUrl + "/hpp");
+        config.setTerminalApiCloudEndpoint(baseUrl);
+        config.setPosTerminalManagementApiEndpoint(baseUrl + "/postfmapi/terminal");
+        config.setDataProtectionEndpoint(baseUrl + "/ca/services/DataProtectionService");
+        config.setBalancePlatformEndpoint(baseUrl);
+        config.setLegalEntityManagementEndpoint(baseUrl + "/lem/");
+        config.setManagementEndpoint(baseUrl + "/");
+        return config;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (server != null) {
+            server.stop(0);
+            executor.shutdownNow();
+            server = null;
+            executor = null;
+        }
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (InputStream requestBody = exchange.getRequestBody()) {
+            // drain the request so that the connection can be reused
+            byte[] buffer = new byte[4096];
+            int read;
+            do {
+                read = requestBody.read(buffer);
+            } while (read != -1);
+        }
+        String method = exchange.getRequestMethod();
+        String path = exchange.getRequestURI().getPath();
+        Route route = null;
+        for (Route candidate : routes) {
+            if (candidate.matches(method, path)) {
+                route = candidate;
+                break;
+            }
+        }
+        try {
+            ReplayClient.sleep(latency.nextMillis(ThreadLocalRandom.current()));
+        } catch (IOException e) {
+            exchange.close();
+            return;
+        }
+        int status = route == null ? 404 : route.status;
+        String body = route == null
+                ? "{\"status\":404,\"errorCode\":\"000\",\"message\":\"No stub for " + method + " " + path + "\",\"errorType\":\"stub\"}"
+                : route.body;
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", JSON_CONTENT_TYPE);
+        exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+        try (OutputStream responseBody = exchange.getResponseBody()) {
+            responseBody.write(bytes);
+        }
+    }
+
+    private static InputStream openResource(String resource) throws IOException {
+        InputStream stream = StubServer.class.getClassLoader().getResourceAsStream(resource);
+        if (stream == null) {
+            throw new IOException("Resource not found: " + resource);
+        }
+        return stream;
+    }
+
+    private static String readResource(String resource) throws IOException {
+        try (InputStream stream = openResource(resource)) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+            int read;
+            while ((read = stream.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return new String(out.toByteArray(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static final class Route {
+        private final String method;
+        private final String[] segments;
+        private final int status;
+        private final String body;
+
+        private Route(String method, String path, int status, String body) {
+            this.method = method;
+            this.segments = path.split("/", -1);
+            this.status = status;
+            this.body = body;
+        }
+
+        private boolean matches(String requestMethod, String path) {
+            if (!method.equalsIgnoreCase(requestMethod)) {
+                return false;
+            }
+            String[] requestSegments = path.split("/", -1);
+            if (requestSegments.length != segments.length) {
+                return false;
+            }
+            for (int i = 0; i < segments.length; i++) {
+                if (!"*".equals(segments[i]) && !segments[i].equals(requestSegments[i])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static final class ManifestEntry {
+        private String method;
+        private String path;
+        private int status;
+        private String resource;
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.replay;
+
+import com.adyen.Client;
+import com.adyen.enums.Environment;
+import com.adyen.httpclient.ClientInterceptor;
+import com.adyen.httpclient.ClientResponse;
+import com.adyen.httpclient.HTTPClientException;
+import com.adyen.metrics.MetricsListener;
+import com.adyen.metrics.Phase;
+import com.adyen.model.checkout.PaymentMethodsRequest;
+import com.adyen.model.checkout.PaymentMethodsResponse;
+import com.adyen.model.checkout.PaymentRequest;
+import com.adyen.model.checkout.PaymentResponse;
+import com.adyen.service.Checkout;
+import com.adyen.service.exception.ApiException;
+import org.junit.Test;
+
+import javax.net.ssl.SSLContext;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.KeyStore;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class StubServerTest {
+
+    @Test
+    public void testSeededFromMocks() throws Exception {
+        try (StubServer server = new StubServer().seed("mocks/stub-server.json").start()) {
+            Client client = new Client("apiKey", Environment.TEST);
+            server.configure(client.getConfig());
+            Checkout checkout = new Checkout(client);
+
+            PaymentMethodsResponse paymentMethods = checkout.paymentMethods(new PaymentMethodsRequest().merchantAccount("myMerchantAccount"));
+            PaymentResponse payment = checkout.payments(new PaymentRequest().merchantAccount("myMerchantAccount"));
+
+            assertTrue(paymentMethods.getPaymentMethods().size() > 0);
+            assertEquals("993617895204576J", payment.getPspReference());
+        }
+    }
+
+    @Test
+    public void testStreamedPaymentsResponse() throws Exception {
+        try (StubServer server = new StubServer().seed("mocks/stub-server.json").start()) {
+            Client client = new Client("apiKey", Environment.TEST);
+            server.configure(client.getConfig());
+            client.getConfig().setResponseStreamingEnabled(true);
+            Checkout checkout = new Checkout(client);
+
+            PaymentResponse payment = checkout.payments(new PaymentRequest().merchantAccount("myMerchantAccount"));
+
+            assertEquals("993617895204576J", payment.getPspReference());
+        }
+    }
+
+    @Test
+    public void testInterceptorsSeeResponse() throws Exception {
+        try (StubServer server = new StubServer().seed("mocks/stub-server.json").start()) {
+            Client client = new Client("apiKey", Environment.TEST);
+            server.configure(client.getConfig());
+            List<ClientResponse<?>> responses = new ArrayList<>();
+            client.addInterceptor(new ClientInterceptor() {
+                @Override
+                public <T> ClientResponse<T> intercept(Chain<T> chain) throws IOException, HTTPClientException {
+                    ClientResponse<T> response = chain.proceed(chain.request());
+                    responses.add(response);
+                    return response;
+                }
+            });
+            Checkout checkout = new Checkout(client);
+
+            checkout.payments(new PaymentRequest().merchantAccount("myMerchantAccount"));
+            client.getConfig().setResponseStreamingEnabled(true);
+            PaymentResponse payment = checkout.payments(new PaymentRequest().merchantAccount("myMerchantAccount"));
+
+            assertEquals(2, responses.size());
+            // the body is handed back before parsing, unless the response is parsed while it is streamed
+            assertTrue(responses.get(0).getBody() instanceof String);
+            assertSame(payment, responses.get(1).getBody());
+            for (ClientResponse<?> response : responses) {
+                assertEquals(200, response.getStatus());
+                assertTrue(response.getHeaders().get("Content-Type").get(0).startsWith("application/json"));
+            }
+        }
+    }
+
+    @Test
+    public void testClientCertificateTls() throws Exception {
+        KeyStore keyStore = KeyStore.getInstance("PKCS12");
+        try (InputStream stream = getClass().getClassLoader().getResourceAsStream("mocks/stub-server.p12")) {
+            keyStore.load(stream, "changeit".toCharArray());
+        }
+        SSLContext sslContext = StubServer.createSSLContext(keyStore, "changeit");
+        try (StubServer server = new StubServer().seed("mocks/stub-server.json").start(sslContext, true)) {
+            Client client = new Client("apiKey", Environment.TEST);
+            server.configure(client.getConfig());
+            client.getConfig().setClientKeyStore(keyStore);
+            client.getConfig().setClientKeyStorePassword("changeit");
+            client.getConfig().setTrustKeyStore(keyStore);
+            AtomicInteger connects = new AtomicInteger();
+            AtomicInteger handshakes = new AtomicInteger();
+            client.getConfig().setMetricsListener(new MetricsListener() {
+                @Override
+                public void onPhase(String endpoint, Phase phase, long durationNanos) {
+                    if (phase == Phase.CONNECT) {
+                        connects.incrementAndGet();
+                    } else if (phase == Phase.TLS_HANDSHAKE) {
+                        handshakes.incrementAndGet();
+                    }
+                }
+            });
+
+            Checkout checkout = new Checkout(client);
+            PaymentResponse payment = null;
+            for (int i = 0; i < 5; i++) {
+                payment = checkout.payments(new PaymentRequest().merchantAccount("myMerchantAccount"));
+            }
+
+            assertTrue(server.getBaseUrl().startsWith("https://"));
+            assertEquals("993617895204576J", payment.getPspReference());
+            // the authenticated connection is reused
+            assertEquals(1, connects.get());
+            assertEquals(1, handshakes.get());
+        }
+    }
+
+    @Test
+    public void testUnmatchedRequest() throws Exception {
+        try (StubServer server = new StubServer().stub("POST", "/checkout/v69/payments", 200, "{}").start()) {
+            Client client = new Client("apiKey", Environment.TEST);
+            server.configure(client.getConfig());
+            try {
+                new Checkout(client).paymentMethods(new PaymentMethodsRequest());
+                fail("Expected ApiException");
+            } catch (ApiException e) {
+                assertEquals(404, e.getStatusCode());
+            }
+        }
+    }
+}
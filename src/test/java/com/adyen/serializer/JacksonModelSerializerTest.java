@@ -0,0 +1,153 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.serializer;
+
+import com.adyen.BaseTest;
+import com.adyen.Client;
+import com.adyen.model.checkout.Amount;
+import com.adyen.model.checkout.CardDetails;
+import com.adyen.model.checkout.CheckoutRedirectAction;
+import com.adyen.model.checkout.JSON;
+import com.adyen.model.checkout.PaymentDonationRequestPaymentMethod;
+import com.adyen.model.checkout.PaymentRequest;
+import com.adyen.model.checkout.PaymentResponse;
+import com.adyen.model.notification.NotificationRequest;
+import com.adyen.notification.NotificationHandler;
+import com.adyen.service.Checkout;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Date;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+public class JacksonModelSerializerTest extends BaseTest {
+
+    private final JacksonModelSerializer serializer = new JacksonModelSerializer();
+
+    @Test
+    public void testPaymentResponseMatchesGson() throws Exception {
+        String json = getFileContents("mocks/checkout/paymentResponse.json");
+
+        PaymentResponse paymentResponse = serializer.fromJson(json, PaymentResponse.class);
+
+        assertEquals(PaymentResponse.fromJson(json), paymentResponse);
+        assertEquals(CheckoutRedirectAction.TypeEnum.REDIRECT, paymentResponse.getAction().getCheckoutRedirectAction().getType());
+        assertJsonEquals(paymentResponse.toJson(), serializer.toJson(paymentResponse));
+    }
+
+    @Test
+    public void testPaymentRequestMatchesGson() throws Exception {
+        PaymentRequest paymentRequest = PaymentRequest.fromJson(getFileContents("mocks/checkout/paymentRequest.json"));
+        paymentRequest.setDateOfBirth(new Date(0));
+
+        String json = serializer.toJson(paymentRequest);
+
+        assertJsonEquals(paymentRequest.toJson(), json);
+        assertEquals(paymentRequest, serializer.fromJson(json, PaymentRequest.class));
+    }
+
+    @Test
+    public void testWriterAndReader() throws Exception {
+        PaymentRequest paymentRequest = createPaymentRequest();
+        StringWriter writer = new StringWriter();
+
+        serializer.toJson(paymentRequest, writer);
+
+        assertJsonEquals(paymentRequest.toJson(), writer.toString());
+        assertEquals(paymentRequest, serializer.fromJson(new StringReader(writer.toString()), PaymentRequest.class));
+        assertNull(serializer.fromJson(new StringReader(""), PaymentRequest.class));
+    }
+
+    @Test(expected = IOException.class)
+    public void testUnknownEnumValue() throws Exception {
+        serializer.fromJson("{\"resultCode\":\"Unknown\"}", PaymentResponse.class);
+    }
+
+    @Test
+    public void testCheckoutUsesConfiguredSerializer() throws Exception {
+        Client client = createMockClientFromFile("mocks/checkout/paymentResponse.json");
+        ModelSerializer modelSerializer = spy(serializer);
+        client.getConfig().setModelSerializer(modelSerializer);
+
+        PaymentResponse paymentResponse = new Checkout(client).payments(createPaymentRequest());
+
+        assertEquals("993617895204576J", paymentResponse.getPspReference());
+        verify(modelSerializer).fromJson(any(Reader.class), eq(PaymentResponse.class));
+    }
+
+    @Test
+    public void testNotificationHandler() {
+        String json = getFileContents("mocks/notification/authorisation-true.json");
+
+        NotificationRequest notificationRequest = new NotificationHandler(serializer).handleNotificationJson(json);
+
+        assertEquals(new NotificationHandler().handleNotificationJson(json).toString(), notificationRequest.toString());
+        assertEquals(1, notificationRequest.getNotificationItems().size());
+    }
+
+    @Test
+    public void testNotificationWithUnknownFields() {
+        JsonObject json = JsonParser.parseString(getFileContents("mocks/notification/authorisation-true.json")).getAsJsonObject();
+        JsonObject container = json.getAsJsonArray("notificationItems").get(0).getAsJsonObject();
+        JsonObject item = container.getAsJsonObject("NotificationRequestItem");
+        json.addProperty("newField", "value");
+        container.addProperty("newField", "value");
+        item.add("newObject", JsonParser.parseString("{\"nested\":[1,2]}"));
+        item.getAsJsonObject("amount").addProperty("newField", true);
+
+        NotificationRequest gsonRequest = new NotificationHandler().handleNotificationJson(json.toString());
+        NotificationRequest jacksonRequest = new NotificationHandler(serializer).handleNotificationJson(json.toString());
+
+        assertEquals(gsonRequest.toString(), jacksonRequest.toString());
+        assertEquals(Long.valueOf(10100), jacksonRequest.getNotificationItems().get(0).getAmount().getValue());
+    }
+
+    private static PaymentRequest createPaymentRequest() {
+        CardDetails cardDetails = new CardDetails()
+                .encryptedCardNumber("5136333333333335")
+                .holderName("John Doe")
+                .cvc("737")
+                .encryptedExpiryMonth("08")
+                .encryptedExpiryYear("2018")
+                .type(CardDetails.TypeEnum.SCHEME);
+        return new PaymentRequest()
+                .merchantAccount("MerchantAccount")
+                .reference("Reference")
+                .returnUrl("https://your-company.com/...")
+                .amount(new Amount().currency("EUR").value(1000L))
+                .paymentMethod(new PaymentDonationRequestPaymentMethod(cardDetails));
+    }
+
+    private static void assertJsonEquals(String expected, String actual) {
+        assertEquals(JsonParser.parseString(expected), JsonParser.parseString(actual));
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.service;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+public class PathTemplateTest {
+
+    @Test
+    public void testRender() {
+        PathTemplate template = PathTemplate.compile("https://management-test.adyen.com/v1/companies/{companyId}/webhooks/{webhookId}");
+        Map<String, String> params = new HashMap<>();
+        params.put("companyId", "ABC");
+        params.put("webhookId", "WH-1");
+
+        Assert.assertEquals("https://management-test.adyen.com/v1/companies/ABC/webhooks/WH-1", template.render(params));
+    }
+
+    @Test
+    public void testRenderEncodesPathSegments() {
+        PathTemplate template = PathTemplate.compile("/paymentLinks/{linkId}/details");
+
+        Assert.assertEquals("/paymentLinks/a%2Fb%20c%C3%A9:d@e/details", template.render(Collections.singletonMap("linkId", "a/b cé:d@e")));
+    }
+
+    @Test
+    public void testWithoutPlaceholdersOrParams() {
+        Assert.assertEquals("/payments", PathTemplate.compile("/payments").render(Collections.singletonMap("id", "1")));
+        Assert.assertEquals("/payments/{id", PathTemplate.compile("/payments/{id").render(Collections.singletonMap("id", "1")));
+        Assert.assertNull(PathTemplate.compile(null).render(Collections.singletonMap("id", "1")));
+    }
+
+    @Test
+    public void testMissingParameter() {
+        PathTemplate template = PathTemplate.compile("/merchants/{merchantId}/stores/{storeId}");
+        try {
+            template.render(Collections.singletonMap("storeId", "ST-1"));
+            Assert.fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            Assert.assertEquals("Missing path parameter merchantId of /merchants/{merchantId}/stores/{storeId}", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testMissingParameters() {
+        PathTemplate template = PathTemplate.compile("/payments/{id}");
+        for (Map<String, String> params : Arrays.asList(null, Collections.<String, String>emptyMap())) {
+            try {
+                template.render(params);
+                Assert.fail("Expected IllegalArgumentException");
+            } catch (IllegalArgumentException e) {
+                Assert.assertEquals("Missing path parameter id of /payments/{id}", e.getMessage());
+            }
+        }
+    }
+
+    @Test
+    public void testTemplatesAreShared() {
+        Assert.assertSame(PathTemplate.of("/payments/{id}/refunds"), PathTemplate.of(new String("/payments/{id}/refunds")));
+    }
+}